@@ -1,6 +1,7 @@
 package cloud.xcan.angus.core.tester.application.cmd.apis.impl;
 
 import static cloud.xcan.angus.api.commonlink.CombinedTargetType.API;
+import static cloud.xcan.angus.api.commonlink.CombinedTargetType.SERVICE;
 import static cloud.xcan.angus.api.commonlink.TesterApisMessage.FORBID_AUTH_CREATOR;
 import static cloud.xcan.angus.api.commonlink.TesterApisMessage.FORBID_AUTH_CREATOR_CODE;
 import static cloud.xcan.angus.core.biz.BizAssert.assertTrue;
@@ -29,6 +30,7 @@ import cloud.xcan.angus.core.tester.domain.apis.auth.ApisAuthRepo;
 import cloud.xcan.angus.core.tester.domain.services.Services;
 import cloud.xcan.angus.core.tester.domain.services.auth.ServicesAuth;
 import cloud.xcan.angus.core.tester.domain.services.auth.ServicesAuthRepo;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import jakarta.annotation.Resource;
 import java.util.ArrayList;
@@ -68,6 +70,8 @@ public class ApisAuthCmdImpl extends CommCmd<ApisAuth, Long> implements ApisAuth
   private CommonQuery commonQuery;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * <p>
@@ -114,11 +118,13 @@ public class ApisAuthCmdImpl extends CommCmd<ApisAuth, Long> implements ApisAuth
       protected IdKey<Long, Object> process() {
         // Insert the authorization record
         IdKey<Long, Object> idKey = insert(auth, "authObjectId");
+        authDecisionCache.evict(API, auth.getApisId());
 
         // Initialize parent project view permissions if needed
         List<ServicesAuth> projectAuths = addParentViewPermission(auth);
         if (isNotEmpty(projectAuths)) {
           servicesAuthRepo.batchInsert0(projectAuths);
+          authDecisionCache.evict(SERVICE, apiInfoDb.getServiceId());
         }
 
         // Log grant permission activity (skip for creator authorizations)
@@ -201,6 +207,7 @@ public class ApisAuthCmdImpl extends CommCmd<ApisAuth, Long> implements ApisAuth
         // Update authorization permissions
         authDb.setAuths(auth.getAuths());
         apisAuthRepo.save(authDb);
+        authDecisionCache.evict(API, authDb.getApisId());
 
         // Log modification permission activity (skip for creator authorizations)
         if (!authDb.isCreatorAuth()) {
@@ -261,6 +268,7 @@ public class ApisAuthCmdImpl extends CommCmd<ApisAuth, Long> implements ApisAuth
 
         // Remove the authorization record
         apisAuthRepo.deleteById(id);
+        authDecisionCache.evict(API, authDb.getApisId());
         return null;
       }
     }.execute();
@@ -297,6 +305,7 @@ public class ApisAuthCmdImpl extends CommCmd<ApisAuth, Long> implements ApisAuth
       protected Void process() {
         // Update authorization control status in API record
         apisRepo.updateAuthById(apisId, enabled);
+        authDecisionCache.evict(API, apisId);
 
         // Log enable/disable authorization control activity
         activityCmd.add(toActivity(API, apiInfoDb,
@@ -322,6 +331,7 @@ public class ApisAuthCmdImpl extends CommCmd<ApisAuth, Long> implements ApisAuth
   public void addCreatorAuth(Set<Long> apisIds, Set<Long> creatorIds) {
     // Remove existing creator authorizations for the specified APIs
     apisAuthRepo.deleteByApisIdInAndCreator(apisIds, true);
+    authDecisionCache.evict(API, apisIds);
 
     // Create new creator authorization records for all API-creator combinations
     List<ApisAuth> apisAuths = apisIds.stream()
@@ -349,6 +359,7 @@ public class ApisAuthCmdImpl extends CommCmd<ApisAuth, Long> implements ApisAuth
   public void addCreatorAuth(Map<Long, Set<Long>> apisIdAndCreatorIds) {
     // Remove existing creator authorizations for all specified APIs
     apisAuthRepo.deleteByApisIdInAndCreator(apisIdAndCreatorIds.keySet(), true);
+    authDecisionCache.evict(API, apisIdAndCreatorIds.keySet());
 
     // Create new creator authorization records based on the mapping
     List<ApisAuth> apisAuths = apisIdAndCreatorIds.entrySet().stream()
@@ -384,6 +395,7 @@ public class ApisAuthCmdImpl extends CommCmd<ApisAuth, Long> implements ApisAuth
 
     // Remove existing creator authorizations from parent service for the specified APIs
     apisAuthRepo.deleteByApisIdInAndAuthObjectIdInAndCreator(apiIds, creatorIds, true);
+    authDecisionCache.evict(API, apiIds);
 
     // Create new creator authorizations for each API with the target project creator
     for (Apis api : apis) {
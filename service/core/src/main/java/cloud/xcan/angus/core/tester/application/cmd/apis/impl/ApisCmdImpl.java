@@ -9,6 +9,7 @@ import static cloud.xcan.angus.core.tester.application.converter.ActivityConvert
 import static cloud.xcan.angus.core.tester.application.converter.ActivityConverter.toActivity;
 import static cloud.xcan.angus.core.tester.application.converter.ApisAuthConverter.toApisCreatorAuth;
 import static cloud.xcan.angus.core.tester.application.converter.ApisConverter.assembleApiAuthInfo;
+import static cloud.xcan.angus.core.tester.application.converter.ApisConverter.clearContentHash;
 import static cloud.xcan.angus.core.tester.application.converter.MockApisConverter.toAssocOrCopeMockApis;
 import static cloud.xcan.angus.core.tester.domain.activity.ActivityType.ADD_ASSOC_TARGET;
 import static cloud.xcan.angus.core.tester.domain.activity.ActivityType.APIS_AUTH_UPDATE;
@@ -79,12 +80,15 @@ import cloud.xcan.angus.core.tester.domain.data.dataset.Dataset;
 import cloud.xcan.angus.core.tester.domain.data.dataset.DatasetTargetRepo;
 import cloud.xcan.angus.core.tester.domain.data.variables.Variable;
 import cloud.xcan.angus.core.tester.domain.data.variables.VariableTargetRepo;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
 import cloud.xcan.angus.core.tester.domain.mock.apis.MockApis;
 import cloud.xcan.angus.core.tester.domain.mock.apis.MockApisRepo;
 import cloud.xcan.angus.core.tester.domain.mock.apis.MockApisSource;
 import cloud.xcan.angus.core.tester.domain.services.ServiceApisScope;
 import cloud.xcan.angus.core.tester.domain.services.Services;
 import cloud.xcan.angus.core.tester.domain.services.schema.SchemaFormat;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils.BIDKey;
 import cloud.xcan.angus.model.apis.ApiStatus;
@@ -181,6 +185,10 @@ public class ApisCmdImpl extends CommCmd<Apis, Long> implements ApisCmd {
   private MockApisRepo mockApisRepo;
   @Resource
   private ScriptCmd scriptCmd;
+  @Resource
+  private KanbanGrowthTrendCache kanbanGrowthTrendCache;
+  @Resource
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * <p>
@@ -229,6 +237,7 @@ public class ApisCmdImpl extends CommCmd<Apis, Long> implements ApisCmd {
           api.setId(BIDUtils.getId(BIDKey.apisId));
         }
         List<IdKey<Long, Object>> idKeys = batchInsert(apis, "summary");
+        kanbanGrowthTrendCache.evict(servicesDb.getProjectId(), DataAssetsCategory.APIS);
 
         // Initialize creator permissions for all APIs
         if (isNotEmpty(apisAuths)) {
@@ -364,8 +373,9 @@ public class ApisCmdImpl extends CommCmd<Apis, Long> implements ApisCmd {
 
       @Override
       protected Void process() {
-        // Update APIs in database (copy non-null properties)
-        batchUpdate0(batchCopyPropertiesIgnoreNull(apis, apisDbs));
+        // Update APIs in database (copy non-null properties), the edited APIs are rewritten by
+        // the next import as their content hashes are cleared
+        batchUpdate0(clearContentHash(batchCopyPropertiesIgnoreNull(apis, apisDbs)));
 
         if (saveActivity) {
           // Log update activities
@@ -458,7 +468,7 @@ public class ApisCmdImpl extends CommCmd<Apis, Long> implements ApisCmd {
         if (isNotEmpty(updateApis)) {
           // Retain replace-specific fields and update APIs
           ApisConverter.retainReplaceField(updateApis, updateApisDbs);
-          batchUpdate0(updateApisDbs);
+          batchUpdate0(clearContentHash(updateApisDbs));
 
           // Log update activities
           List<Activity> activities = toActivities(API, updateApisDbs, UPDATED,
@@ -718,7 +728,7 @@ public class ApisCmdImpl extends CommCmd<Apis, Long> implements ApisCmd {
         } else {
           apisDb.setServers(List.of(server));
         }
-        apisRepo.save(apisDb);
+        apisRepo.save(apisDb.setContentHash(null));
 
         activityCmd.add(toActivity(API, apisDb, SCHEMA_SERVER_UPDATED));
         return null;
@@ -748,7 +758,7 @@ public class ApisCmdImpl extends CommCmd<Apis, Long> implements ApisCmd {
 
       @Override
       protected Void process() {
-        apisDb.setServers(servers);
+        apisDb.setServers(servers).setContentHash(null);
         apisRepo.save(apisDb);
 
         activityCmd.add(toActivity(API, apisDb, SCHEMA_SERVER_UPDATED));
@@ -783,7 +793,7 @@ public class ApisCmdImpl extends CommCmd<Apis, Long> implements ApisCmd {
           return null;
         }
         apisDb.setServers(apisDb.getServers().stream()
-            .filter(x -> !serverUrls.contains(x.getUrl())).toList());
+            .filter(x -> !serverUrls.contains(x.getUrl())).toList()).setContentHash(null);
         apisRepo.save(apisDb);
 
         activityCmd.add(toActivity(API, apisDb, SCHEMA_SERVER_UPDATED));
@@ -846,7 +856,7 @@ public class ApisCmdImpl extends CommCmd<Apis, Long> implements ApisCmd {
         }
 
         // Update all modified APIs
-        batchUpdate0(serviceApisDb);
+        batchUpdate0(clearContentHash(serviceApisDb));
 
         // Log parameter addition activities
         activityCmd.addAll(toActivities(API, serviceApisDb, APIS_PARAMETER_ADD,
@@ -897,7 +907,7 @@ public class ApisCmdImpl extends CommCmd<Apis, Long> implements ApisCmd {
           }
           if (!updateParameterNames.isEmpty()) {
             apis.setParameters(finalParameters.values().stream().flatMap(List::stream)
-                .toList());
+                .toList()).setContentHash(null);
             apisRepo.save(apis);
             activityCmd.add(toActivity(API, apis, APIS_PARAMETER_UPDATE,
                 String.join(",", updateParameterNames)));
@@ -943,7 +953,7 @@ public class ApisCmdImpl extends CommCmd<Apis, Long> implements ApisCmd {
             finalParameters.add(parameter);
           }
           if (!deleteParameterNames.isEmpty()) {
-            apis.setParameters(finalParameters);
+            apis.setParameters(finalParameters).setContentHash(null);
             apisRepo.save(apis);
             activityCmd.add(toActivity(API, apis, APIS_PARAMETER_DELETE,
                 String.join(",", deleteParameterNames)));
@@ -1023,7 +1033,7 @@ public class ApisCmdImpl extends CommCmd<Apis, Long> implements ApisCmd {
 
           // Save API and log activity if parameters were updated
           if (!updateParameterNames.isEmpty()) {
-            apisRepo.save(apis);
+            apisRepo.save(apis.setContentHash(null));
             activityCmd.add(toActivity(API, apis, enabled ? APIS_PARAMETER_ENABLED
                 : APIS_PARAMETER_DISABLED, String.join(",", updateParameterNames)));
           }
@@ -1432,6 +1442,7 @@ public class ApisCmdImpl extends CommCmd<Apis, Long> implements ApisCmd {
 
     // Delete API authorization records
     apisAuthRepo.deleteByApisIdIn(apiIds);
+    authDecisionCache.evict(API, apiIds);
 
     // Delete API favorite records
     apisFavoriteRepo.deleteByApisIdIn(apiIds);
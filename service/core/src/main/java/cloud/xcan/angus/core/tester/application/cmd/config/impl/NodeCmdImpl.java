@@ -13,10 +13,12 @@ import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.NODE_CONN_ER
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.NODE_INSTALL_AGENT_FAILED;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.NODE_INSTALL_AGENT_FAILED_CODE;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.NODE_IP_NOT_AVAILABLE_T;
+import static cloud.xcan.angus.core.tester.infra.config.NodeAgentInstallConfig.NODE_AGENT_INSTALL_EXECUTOR;
 import static cloud.xcan.angus.core.utils.PrincipalContextUtils.isCloudServiceEdition;
 import static cloud.xcan.angus.core.utils.PrincipalContextUtils.isToUser;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.emptySafe;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.lengthSafe;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.nullSafe;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -43,8 +45,10 @@ import cloud.xcan.angus.core.tester.domain.config.node.Node;
 import cloud.xcan.angus.core.tester.domain.config.node.NodeRepo;
 import cloud.xcan.angus.core.tester.domain.config.node.info.NodeInfo;
 import cloud.xcan.angus.core.tester.domain.config.node.role.NodeRole;
+import cloud.xcan.angus.core.tester.infra.config.NodeAgentInstallConfig.NodeAgentInstallProperties;
 import cloud.xcan.angus.core.tester.infra.iaas.EcsClient;
 import cloud.xcan.angus.core.tester.infra.iaas.InstanceChargeType;
+import cloud.xcan.angus.core.tester.infra.util.NodeAgentInstaller;
 import cloud.xcan.angus.core.tester.infra.util.SshUtil;
 import cloud.xcan.angus.core.utils.CoreUtils;
 import cloud.xcan.angus.remote.message.ProtocolException;
@@ -53,8 +57,11 @@ import cloud.xcan.angus.spec.annotations.DoInFuture;
 import cloud.xcan.angus.spec.experimental.Assert;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import cloud.xcan.angus.spec.locale.MessageHolder;
+import cloud.xcan.angus.spec.principal.Principal;
+import cloud.xcan.angus.spec.principal.PrincipalContext;
 import cloud.xcan.angus.spec.utils.NetworkUtils;
 import cloud.xcan.angus.spec.utils.StringUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Resource;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -63,9 +70,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -82,6 +94,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class NodeCmdImpl extends CommCmd<Node, Long> implements NodeCmd {
 
+  public static final String METRIC_AGENT_INSTALL = "tester.node.agent.install";
+
   @Resource
   private NodeRepo nodeRepo;
   @Resource
@@ -96,6 +110,12 @@ public class NodeCmdImpl extends CommCmd<Node, Long> implements NodeCmd {
   private NodeInfoCmd nodeInfoCmd;
   @Resource
   private OrderInnerRemote orderInnerRemote;
+  @Resource(name = NODE_AGENT_INSTALL_EXECUTOR)
+  private ExecutorService nodeAgentInstallExecutor;
+  @Resource
+  private NodeAgentInstallProperties nodeAgentInstallProperties;
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry;
 
   /**
    * Add a batch of nodes.
@@ -617,31 +637,17 @@ public class NodeCmdImpl extends CommCmd<Node, Long> implements NodeCmd {
 
         AgentInstallCmd installCmd = nodeInfoCmd.agentInstallCmd(nodeDb.getId());
 
-        SshUtil ssh = new SshUtil(emptySafe(nodeDb.getPublicIp(), nodeDb.getIp()),
-            nodeDb.getSshPort(), nodeDb.getUsername(), decryptHostPassword(nodeDb.getPassword()));
         boolean installed = false;
         String resultMessage = "Unsupported OS";
-        try {
-          // SSH will be installed to the user's home directory
-          String testLinuxOrMacOs = ssh.run("uname -s");
-          if ("Linux".equalsIgnoreCase(testLinuxOrMacOs)) {
-            String result = runLinuxAgentInstallCmd(installCmd, ssh, nodeDb);
-            if (isNotEmpty(result) && result.indexOf(AGENT_STARTED_MESSAGE) > 0) {
-              installed = true;
-            } else {
-              resultMessage = isNotEmpty(result) ? result : resultMessage;
-            }
-          }
-        } catch (Exception e) {
-          log.warn("Install node {} agent on linux exception:", nodeDb.getId(), e);
-        }
-
-        if (!installed) {
+        try (SshUtil ssh = new SshUtil(emptySafe(nodeDb.getPublicIp(), nodeDb.getIp()),
+            nodeDb.getSshPort(), nodeDb.getUsername(), decryptHostPassword(nodeDb.getPassword()))) {
           try {
-            String testWindowsOs = ssh.run("systeminfo | findstr Windows");
-            if (StringUtils.isNotBlank(testWindowsOs)) {
-              String result = ssh.run(installCmd.getWindowsOnlineInstallCmd());
-              log.info("Install node {} agent on windows result:{}", nodeDb.getId(), result);
+            // Run all installation commands in one session
+            ssh.open();
+            // SSH will be installed to the user's home directory
+            String testLinuxOrMacOs = ssh.run("uname -s");
+            if ("Linux".equalsIgnoreCase(testLinuxOrMacOs)) {
+              String result = runLinuxAgentInstallCmd(installCmd, ssh, nodeDb);
               if (isNotEmpty(result) && result.indexOf(AGENT_STARTED_MESSAGE) > 0) {
                 installed = true;
               } else {
@@ -649,7 +655,24 @@ public class NodeCmdImpl extends CommCmd<Node, Long> implements NodeCmd {
               }
             }
           } catch (Exception e) {
-            log.warn("Install node {} agent on windows exception:", nodeDb.getId(), e);
+            log.warn("Install node {} agent on linux exception:", nodeDb.getId(), e);
+          }
+
+          if (!installed) {
+            try {
+              String testWindowsOs = ssh.run("systeminfo | findstr Windows");
+              if (StringUtils.isNotBlank(testWindowsOs)) {
+                String result = ssh.run(installCmd.getWindowsOnlineInstallCmd());
+                log.info("Install node {} agent on windows result:{}", nodeDb.getId(), result);
+                if (isNotEmpty(result) && result.indexOf(AGENT_STARTED_MESSAGE) > 0) {
+                  installed = true;
+                } else {
+                  resultMessage = isNotEmpty(result) ? result : resultMessage;
+                }
+              }
+            } catch (Exception e) {
+              log.warn("Install node {} agent on windows exception:", nodeDb.getId(), e);
+            }
           }
         }
 
@@ -686,9 +709,9 @@ public class NodeCmdImpl extends CommCmd<Node, Long> implements NodeCmd {
 
       @Override
       protected Void process() {
-        try {
-          SshUtil ssh = new SshUtil(emptySafe(nodeDb.getPublicIp(), nodeDb.getIp()),
-              nodeDb.getSshPort(), nodeDb.getUsername(), decryptHostPassword(nodeDb.getPassword()));
+        try (SshUtil ssh = new SshUtil(emptySafe(nodeDb.getPublicIp(), nodeDb.getIp()),
+            nodeDb.getSshPort(), nodeDb.getUsername(), decryptHostPassword(nodeDb.getPassword()))
+            .open()) {
           String testLinuxOrMacOs = ssh.run("uname -s");
           if ("Linux".equalsIgnoreCase(testLinuxOrMacOs)) {
             runLinuxAgentRestartCmd(ssh, nodeDb);
@@ -703,12 +726,14 @@ public class NodeCmdImpl extends CommCmd<Node, Long> implements NodeCmd {
     }.execute();
   }
 
-  // TODO Test ...
-
   /**
    * Automatically install agent on all uninstalled nodes.
    * <p>
-   * Checks connection and installs agent via SSH for each node.
+   * Nodes are installed concurrently by {@code nodeAgentInstallExecutor}, each node runs all
+   * installation commands in one SSH session. A node is marked installing before its installation
+   * starts, so installations still running after the batch timeout are not started again. The
+   * time and failure reason of the installation are saved to the node, a node failed to connect
+   * is retried after {@code retryIntervalMinutes}.
    */
   @Override
   public void agentAutoInstall() {
@@ -716,28 +741,43 @@ public class NodeCmdImpl extends CommCmd<Node, Long> implements NodeCmd {
 
       @Override
       protected Void process() {
-        List<Node> uninstallAgentNodes = nodeRepo.findUninstallAgentNodes(BATCH_INSTANCE_SIZE);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime retryBefore = now.minusMinutes(
+            nodeAgentInstallProperties.getRetryIntervalMinutes());
+        LocalDateTime abandonBefore = now.minusMinutes(
+            nodeAgentInstallProperties.getInstallTimeoutMinutes());
+        List<Node> uninstallAgentNodes = nodeRepo.findUninstallAgentNodes(
+            nodeAgentInstallProperties.getBatchSize(), retryBefore, abandonBefore);
         if (isEmpty(uninstallAgentNodes)) {
           return null;
         }
 
+        Principal principal = PrincipalContext.get();
+        List<Future<?>> futures = new ArrayList<>(uninstallAgentNodes.size());
         for (Node node : uninstallAgentNodes) {
-          boolean installed = false;
-          if (testConnectionNodeConfig0(emptySafe(node.getPublicIp(), node.getIp()),
-              node.getSshPort(), node.getUsername(), decryptHostPassword(node.getPassword()))) {
-            AgentInstallCmd installCmd = nodeInfoCmd.agentInstallCmd(node.getId());
-            SshUtil ssh = new SshUtil(emptySafe(node.getPublicIp(), node.getIp()),
-                node.getSshPort(), node.getUsername(), decryptHostPassword(node.getPassword()));
+          // Nodes marked by other controllers in the meantime are skipped
+          if (nodeRepo.updateInstallingById(node.getId(), now, retryBefore, abandonBefore) <= 0) {
+            continue;
+          }
+          node.setInstallAgentDate(now).setInstallAgentDuration(null);
+          futures.add(nodeAgentInstallExecutor.submit(() -> {
             try {
-              String result = runLinuxAgentInstallCmd(installCmd, ssh, node);
-              if (isNotEmpty(result) && result.indexOf("AngusAgent started") > 0) {
-                installed = true;
-              }
-            } catch (Exception e) {
-              log.warn("Install node {} agent on linux exception:", node.getId(), e);
+              PrincipalContext.set(principal);
+              agentAutoInstall0(node);
+            } finally {
+              PrincipalContext.remove();
             }
-            node.setInstallAgent(installed);
-            nodeRepo.save(node);
+          }));
+        }
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(
+            nodeAgentInstallProperties.getBatchTimeoutMinutes());
+        for (Future<?> future : futures) {
+          try {
+            future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+          } catch (TimeoutException e) {
+            log.warn("Install node agent timeout, it will be completed in background");
+          } catch (Exception e) {
+            log.warn("Install node agent exception: {}", e.getMessage());
           }
         }
         return null;
@@ -745,6 +785,38 @@ public class NodeCmdImpl extends CommCmd<Node, Long> implements NodeCmd {
     }.execute();
   }
 
+  private void agentAutoInstall0(Node node) {
+    long startNanos = System.nanoTime();
+    String ip = emptySafe(node.getPublicIp(), node.getIp());
+    NodeAgentInstaller.Result result;
+    try {
+      if (!NetworkUtils.ping(ip)) {
+        result = NodeAgentInstaller.Result.unfinished("Node ip " + ip + " is not reachable");
+      } else {
+        result = NodeAgentInstaller.install(ip, node.getSshPort(), node.getUsername(),
+            decryptHostPassword(node.getPassword()), nodeInfoCmd.agentInstallCmd(node.getId()));
+      }
+    } catch (Exception e) {
+      result = NodeAgentInstaller.Result.unfinished(
+          nullSafe(e.getMessage(), e.getClass().getSimpleName()));
+    }
+
+    // Keep unknown after transient failures, false is reserved for a failed install script
+    long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    node.setInstallAgent(result.getInstalled());
+    node.setInstallAgentDuration(duration)
+        .setInstallAgentFailure(lengthSafe(result.getFailure(), 400));
+    nodeRepo.save(node);
+    String resultTag = result.isSuccess() ? "success"
+        : isNull(result.getInstalled()) ? "unfinished" : "failure";
+    if (nonNull(meterRegistry)) {
+      meterRegistry.timer(METRIC_AGENT_INSTALL, "result", resultTag)
+          .record(duration, TimeUnit.MILLISECONDS);
+    }
+    log.info("Install node {} agent {}, duration: {}ms, failure: {}", node.getId(), resultTag,
+        duration, result.getFailure());
+  }
+
   /**
    * Test SSH connection configuration for a node.
    * <p>
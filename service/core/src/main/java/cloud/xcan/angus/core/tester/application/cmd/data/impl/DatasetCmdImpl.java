@@ -34,6 +34,8 @@ import cloud.xcan.angus.core.tester.domain.activity.ActivityType;
 import cloud.xcan.angus.core.tester.domain.data.dataset.Dataset;
 import cloud.xcan.angus.core.tester.domain.data.dataset.DatasetRepo;
 import cloud.xcan.angus.core.tester.domain.data.dataset.DatasetTargetRepo;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils.BIDKey;
 import cloud.xcan.angus.extension.angustester.api.ApiImportSource;
@@ -82,6 +84,8 @@ public class DatasetCmdImpl extends CommCmd<Dataset, Long> implements DatasetCmd
   private ProjectMemberQuery projectMemberQuery;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private KanbanGrowthTrendCache kanbanGrowthTrendCache;
 
   /**
    * Add a new dataset.
@@ -110,6 +114,7 @@ public class DatasetCmdImpl extends CommCmd<Dataset, Long> implements DatasetCmd
       protected IdKey<Long, Object> process() {
         dataset.setId(BIDUtils.getId(BIDKey.datasetId));
         IdKey<Long, Object> idKeys = insert(dataset, "name");
+        kanbanGrowthTrendCache.evict(dataset.getProjectId(), DataAssetsCategory.DATA);
 
         activityCmd.add(toActivity(DATASET, dataset, ActivityType.CREATED));
         return idKeys;
@@ -203,6 +208,8 @@ public class DatasetCmdImpl extends CommCmd<Dataset, Long> implements DatasetCmd
         }
 
         List<IdKey<Long, Object>> idKeys = batchInsert(clonedDatasets, "name");
+        kanbanGrowthTrendCache.evict(clonedDatasets.stream().map(Dataset::getProjectId).toList(),
+            DataAssetsCategory.DATA);
 
         // Add clone activities
         activityCmd.addAll(toActivities(DATASET, clonedDatasets, CLONE,
@@ -253,6 +260,7 @@ public class DatasetCmdImpl extends CommCmd<Dataset, Long> implements DatasetCmd
         List<Dataset> datasets = parseVariablesFromScript(projectId,
             strategyWhenDuplicated, finalContent);
         List<IdKey<Long, Object>> idKeys = batchInsert(datasets, "name");
+        kanbanGrowthTrendCache.evict(projectId, DataAssetsCategory.DATA);
 
         // Save import dataset activities
         activityCmd.addAll(toActivities(DATASET, datasets, IMPORT,
@@ -283,7 +291,9 @@ public class DatasetCmdImpl extends CommCmd<Dataset, Long> implements DatasetCmd
           dataset.setId(BIDUtils.getId(BIDKey.datasetId));
           dataset.setProjectId(projectId);
         }
-        return batchInsert(datasets, "name");
+        List<IdKey<Long, Object>> idKeys = batchInsert(datasets, "name");
+        kanbanGrowthTrendCache.evict(projectId, DataAssetsCategory.DATA);
+        return idKeys;
       }
     }.execute();
   }
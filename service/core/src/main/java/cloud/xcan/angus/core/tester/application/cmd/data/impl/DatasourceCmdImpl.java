@@ -17,6 +17,8 @@ import cloud.xcan.angus.core.tester.application.query.data.DatasourceQuery;
 import cloud.xcan.angus.core.tester.application.query.project.ProjectMemberQuery;
 import cloud.xcan.angus.core.tester.domain.data.datasource.Datasource;
 import cloud.xcan.angus.core.tester.domain.data.datasource.DatasourceRepo;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import jakarta.annotation.Resource;
 import lombok.extern.slf4j.Slf4j;
@@ -41,6 +43,8 @@ public class DatasourceCmdImpl extends CommCmd<Datasource, Long> implements Data
   private ProjectMemberQuery projectMemberQuery;
   @Resource
   private CommonQuery commonQuery;
+  @Resource
+  private KanbanGrowthTrendCache kanbanGrowthTrendCache;
 
   /**
    * Add a new datasource.
@@ -66,7 +70,9 @@ public class DatasourceCmdImpl extends CommCmd<Datasource, Long> implements Data
 
       @Override
       protected IdKey<Long, Object> process() {
-        return insert(datasource);
+        IdKey<Long, Object> idKey = insert(datasource);
+        kanbanGrowthTrendCache.evict(datasource.getProjectId(), DataAssetsCategory.DATA);
+        return idKey;
       }
     }.execute();
   }
@@ -35,6 +35,8 @@ import cloud.xcan.angus.core.tester.domain.activity.ActivityType;
 import cloud.xcan.angus.core.tester.domain.data.variables.Variable;
 import cloud.xcan.angus.core.tester.domain.data.variables.VariableRepo;
 import cloud.xcan.angus.core.tester.domain.data.variables.VariableTargetRepo;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils.BIDKey;
 import cloud.xcan.angus.extension.angustester.api.ApiImportSource;
@@ -83,6 +85,8 @@ public class VariableCmdImpl extends CommCmd<Variable, Long> implements Variable
   private ProjectMemberQuery projectMemberQuery;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private KanbanGrowthTrendCache kanbanGrowthTrendCache;
 
   /**
    * Add a new variable.
@@ -111,6 +115,7 @@ public class VariableCmdImpl extends CommCmd<Variable, Long> implements Variable
       protected IdKey<Long, Object> process() {
         variable.setId(BIDUtils.getId(BIDKey.variableId));
         IdKey<Long, Object> idKeys = insert(variable, "name");
+        kanbanGrowthTrendCache.evict(variable.getProjectId(), DataAssetsCategory.DATA);
 
         activityCmd.add(toActivity(VARIABLE, variable, ActivityType.CREATED));
         return idKeys;
@@ -211,6 +216,8 @@ public class VariableCmdImpl extends CommCmd<Variable, Long> implements Variable
         }
 
         List<IdKey<Long, Object>> idKeys = batchInsert(clonedVariables, "name");
+        kanbanGrowthTrendCache.evict(clonedVariables.stream().map(Variable::getProjectId).toList(),
+            DataAssetsCategory.DATA);
 
         // Add clone activities
         activityCmd.addAll(toActivities(VARIABLE, clonedVariables, CLONE,
@@ -261,6 +268,7 @@ public class VariableCmdImpl extends CommCmd<Variable, Long> implements Variable
         List<Variable> variables = parseVariablesFromScript(projectId,
             strategyWhenDuplicated, finalContent);
         List<IdKey<Long, Object>> idKeys = batchInsert(variables, "name");
+        kanbanGrowthTrendCache.evict(projectId, DataAssetsCategory.DATA);
 
         // Save import variable activities
         activityCmd.addAll(toActivities(VARIABLE, variables, IMPORT,
@@ -290,7 +298,9 @@ public class VariableCmdImpl extends CommCmd<Variable, Long> implements Variable
           variable.setId(BIDUtils.getId(BIDKey.variableId));
           variable.setProjectId(projectId);
         }
-        return batchInsert(variables, "name");
+        List<IdKey<Long, Object>> idKeys = batchInsert(variables, "name");
+        kanbanGrowthTrendCache.evict(projectId, DataAssetsCategory.DATA);
+        return idKeys;
       }
     }.execute();
   }
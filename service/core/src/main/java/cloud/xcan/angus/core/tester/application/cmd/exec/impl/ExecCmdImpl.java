@@ -1,5 +1,6 @@
 package cloud.xcan.angus.core.tester.application.cmd.exec.impl;
 
+import static cloud.xcan.angus.api.commonlink.CtrlConstant.BROADCAST_CTRL_CONNECTION_TIMEOUT;
 import static cloud.xcan.angus.api.commonlink.TesterApisMessage.SCRIPT_NO_AUTH_CODE;
 import static cloud.xcan.angus.api.commonlink.TesterApisMessage.SCRIPT_NO_AUTH_T;
 import static cloud.xcan.angus.core.biz.ProtocolAssert.assertNotEmpty;
@@ -29,11 +30,13 @@ import static cloud.xcan.angus.core.tester.domain.CtrlCoreMessage.EXEC_REMOTE_NO
 import static cloud.xcan.angus.core.tester.domain.CtrlCoreMessage.EXEC_START_IGNORED_WITH_PARSE_ERROR_T;
 import static cloud.xcan.angus.core.tester.domain.CtrlCoreMessage.EXEC_START_IGNORED_WITH_SCRIPT_MISSING;
 import static cloud.xcan.angus.core.tester.domain.CtrlCoreMessage.EXEC_START_IS_IGNORED;
+import static cloud.xcan.angus.core.tester.domain.CtrlCoreMessage.EXEC_START_RESERVE_TIMEOUT;
 import static cloud.xcan.angus.core.tester.domain.CtrlCoreMessage.EXEC_START_UP_TIMEOUT;
 import static cloud.xcan.angus.core.tester.domain.CtrlCoreMessage.EXEC_STOP_IGNORED_WITH_NO_NODES;
 import static cloud.xcan.angus.core.tester.domain.CtrlCoreMessage.EXEC_STOP_IS_IGNORED;
 import static cloud.xcan.angus.core.tester.domain.CtrlCoreMessage.NODE_AGENT_UNAVAILABLE_T;
 import static cloud.xcan.angus.core.tester.domain.CtrlCoreMessage.NO_AVAILABLE_NODES;
+import static cloud.xcan.angus.core.tester.infra.config.ExecDispatchConfig.EXEC_DISPATCH_EXECUTOR;
 import static cloud.xcan.angus.core.utils.PrincipalContextUtils.isUserAction;
 import static cloud.xcan.angus.parser.AngusParser.YAML_MAPPER;
 import static cloud.xcan.angus.spec.experimental.BizConstant.OWNER_TENANT_ID;
@@ -78,11 +81,18 @@ import cloud.xcan.angus.core.tester.domain.exec.Exec;
 import cloud.xcan.angus.core.tester.domain.exec.ExecInfo;
 import cloud.xcan.angus.core.tester.domain.exec.ExecRepo;
 import cloud.xcan.angus.core.tester.domain.exec.node.ExecNode;
+import cloud.xcan.angus.core.tester.domain.exec.node.ExecNodeShard;
+import cloud.xcan.angus.core.tester.domain.exec.node.ExecNodeStartWaiter;
 import cloud.xcan.angus.core.tester.domain.exec.node.ExecNodeRepo;
 import cloud.xcan.angus.core.tester.domain.script.Script;
+import cloud.xcan.angus.core.tester.infra.config.ExecDispatchConfig.ExecDispatchProperties;
+import cloud.xcan.angus.core.tester.infra.job.ExecStartReserver;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleContentRepo;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleErrorCauseRepo;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRepo;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollupGapRepo;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollupRepo;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleTierRepo;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils.BIDKey;
 import cloud.xcan.angus.core.tester.interfaces.exec.facade.dto.ExecStartDto;
@@ -93,6 +103,7 @@ import cloud.xcan.angus.model.result.command.AbstractCommandResult;
 import cloud.xcan.angus.model.script.AngusScript;
 import cloud.xcan.angus.model.script.configuration.Configuration;
 import cloud.xcan.angus.model.script.configuration.NodeSelector;
+import cloud.xcan.angus.model.script.configuration.NodeSelectorStrategy;
 import cloud.xcan.angus.model.script.configuration.ScriptType;
 import cloud.xcan.angus.model.script.configuration.StartMode;
 import cloud.xcan.angus.model.script.pipeline.Arguments;
@@ -105,6 +116,7 @@ import cloud.xcan.angus.remoting.common.router.ChannelRouter;
 import cloud.xcan.angus.spec.experimental.DistributedLock;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import cloud.xcan.angus.spec.http.HttpSender.Response;
+import cloud.xcan.angus.spec.principal.Principal;
 import cloud.xcan.angus.spec.principal.PrincipalContext;
 import cloud.xcan.angus.spec.unit.TimeValue;
 import cloud.xcan.angus.spec.utils.JsonUtils;
@@ -112,23 +124,29 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.hypersistence.utils.hibernate.type.util.ObjectMapperWrapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Resource;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.stereotype.Service;
@@ -165,6 +183,12 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
   @Resource
   private ExecSampleRepo execSampleRepo;
   @Resource
+  private ExecSampleRollupRepo execSampleRollupRepo;
+  @Resource
+  private ExecSampleTierRepo execSampleTierRepo;
+  @Resource
+  private ExecSampleRollupGapRepo execSampleRollupGapRepo;
+  @Resource
   private ExecSampleErrorCauseRepo execSampleErrorsRepo;
   @Resource
   private ExecSampleContentRepo execSampleExtcRepo;
@@ -182,8 +206,17 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
   private ApplicationInfo appInfo;
   @Resource
   private DistributedLock distributedLock;
+  @Resource
+  private ExecStartReserver execStartReserver;
+  @Resource(name = EXEC_DISPATCH_EXECUTOR)
+  private ExecutorService execDispatchExecutor;
+  @Resource
+  private ExecDispatchProperties execDispatchProperties;
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry;
 
   private static final String EXEC_LOCK_KEY_FMT = "tester:exec:restart:%s";
+  public static final String METRIC_DISPATCH_TIME = "tester.exec.start.dispatch";
 
   /**
    * <p>
@@ -669,14 +702,6 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
       }
     }
 
-    // Validate concurrent task quotas for job execution
-    try {
-      execQuery.checkConcurrentTaskQuota0(1, execDb.isTrial());
-    } catch (Exception e) {
-      updateSchedulingFailed(execId, results, e.getMessage());
-      return results;
-    }
-
     // Parse and overwrite script configuration with execution parameters
     String script;
     try {
@@ -694,8 +719,22 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
       return results;
     }
 
+    List<Long> reservedNodeIds = new ArrayList<>();
+    LinkedHashSet<Long> successNodeIds = new LinkedHashSet<>();
     try {
       if (dto.isBroadcast()) {
+        // Check and reserve concurrent task quotas for job execution, the quota of targeted mode
+        // is reserved by the main controller
+        try {
+          if (!execStartReserver.reserveQuota(execDb)) {
+            updateSchedulingFailedInPending(execId, results, message(EXEC_START_RESERVE_TIMEOUT));
+            return results;
+          }
+        } catch (Exception e) {
+          updateSchedulingFailed(execId, results, e.getMessage());
+          return results;
+        }
+
         // Validate pipeline configuration for broadcast mode
         if (isNotEmpty(execDb.getTask().getPipelines())
             && execDb.getTask().getPipelines().size() > 1) {
@@ -721,15 +760,18 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
       if (dto.isBroadcast()) {
         // Node selection logic for broadcast mode
         try {
+          // Old nodes of execution must not exclude the nodes from selection
+          execNodeRepo.deleteByExecId(execDb.getId());
           if (nonNull(execDb.getTrial()) && execDb.getTrial()) {
             if (isUserAction()) {
               // For user actions: select idle shared nodes for trial execution
-              nodeIds.addAll(nodeInfoQuery.selectValidFreeNodeIds(1, execDb.getAvailableNodeIds()));
+              reservedNodeIds.addAll(reserveFreeNodes(execDb));
+              nodeIds.addAll(reservedNodeIds);
             } else {
               try {
                 // For system actions: select idle shared nodes for trial execution
-                nodeIds.addAll(
-                    nodeInfoQuery.selectValidFreeNodeIds(1, execDb.getAvailableNodeIds()));
+                reservedNodeIds.addAll(reserveFreeNodes(execDb));
+                nodeIds.addAll(reservedNodeIds);
               } catch (Exception e) {
                 // Fallback to tenant's own nodes if no public trial nodes available
                 if (nodeIds.isEmpty()) {
@@ -770,23 +812,24 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
 
       // Delete old execution records only on the main controller (Broadcast=true), prevent duplicate execution results
       if (dto.isBroadcast()) {
-        deleteExecSamplesAndNode(execDb.getId());
+        deleteExecSamples(execDb.getId());
       }
 
       log.info("Controller handle to start execution `{}` request", execId);
       LinkedHashSet<Long> remoteNodeIds = new LinkedHashSet<>();
-      LinkedHashSet<Long> successNodeIds = new LinkedHashSet<>();
       Long lastNodeId = dto.getLastNodeId();
 
+      long dispatchStartNanos = System.nanoTime();
+      Map<Long, ExecNodeShard> nodeShards = Map.of();
       if (nodeIds.size() == 1) {
         Long nodeId = nodeIds.stream().findFirst().get();
-        startSingleNodeTask(null, execDb, execId, results, script, nodeId, remoteNodeIds,
+        startSingleNodeTask(execDb, execId, results, script, nodeId, remoteNodeIds,
             successNodeIds);
       } else {
-        ExecutorService executorService = Executors.newFixedThreadPool(nodeIds.size());
-        CountDownLatch latch = new CountDownLatch(nodeIds.size());
         // Set sharding field value
         execDb.setOrgThread(execDb.getAngusScript().getConfiguration().getThread());
+        nodeShards = shardingNodes(execDb, nodeIds);
+        List<Future<NodeStartResult>> futures = new ArrayList<>(nodeIds.size());
         int i = 0;
         for (Long nodeId : nodeIds) {
           i++;
@@ -794,14 +837,39 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
             lastNodeId = nodeId;
           }
 
-          script = shardingScript(execDb, nodeIds.size(), i == 0);
+          script = shardingScript(execDb, nodeShards.get(nodeId));
           String finalScript = script;
-          executorService.submit(() -> {
-            startSingleNodeTask(latch, execDb, execId, results, finalScript, nodeId, remoteNodeIds,
-                successNodeIds);
-          });
+          futures.add(dispatch(() -> {
+            // Important: Each node collects its own results, the shared lists are not thread safe!!!
+            NodeStartResult nodeResult = new NodeStartResult();
+            startSingleNodeTask(execDb, execId, nodeResult.results, finalScript, nodeId,
+                nodeResult.remoteNodeIds, nodeResult.successNodeIds);
+            return nodeResult;
+          }));
+        }
+
+        // Merge in the order of nodes
+        ExecNodeStartWaiter waiter = new ExecNodeStartWaiter(
+            execDispatchProperties.getAgentTimeout(),
+            nodeId -> stopUnrepliedNode(execDb, execId, nodeId));
+        int j = 0;
+        for (Long nodeId : nodeIds) {
+          Future<NodeStartResult> future = futures.get(j++);
+          try {
+            NodeStartResult nodeResult = waiter.await(nodeId, future);
+            results.addAll(nodeResult.results);
+            remoteNodeIds.addAll(nodeResult.remoteNodeIds);
+            successNodeIds.addAll(nodeResult.successNodeIds);
+          } catch (Exception e) {
+            String message = message(EXEC_CONTROLLER_START_EXCEPTION,
+                new Object[]{true, getMessage(e)});
+            log.error(message);
+            results.add(RunnerRunVo.fail(execId, nodeId, message));
+          }
         }
-        latch.await();
+        // Important: The agent may run the command pushed before timeout, keep the node of
+        // execution and do not release it until it is stopped!!!
+        successNodeIds.addAll(waiter.getUnstoppedNodeIds());
       }
 
       // Stop scheduling when scheduling execution fails
@@ -824,6 +892,8 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
             ExecStartDto remoteRunCmd = new ExecStartDto()
                 .setBroadcast(false) // Only broadcast once on the first controller
                 .setId(dto.getId()).setRemoteNodeIds(remoteNodeIds).setLastNodeId(lastNodeId);
+            // Broadcast to remote controllers concurrently
+            List<Future<List<RunnerRunVo>>> futures = new ArrayList<>();
             for (ServiceInstance inst : instances) {
               String broadcastInstanceIp = inst.getHost();
               // Exclude current controller
@@ -834,8 +904,22 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
               }
 
               String remoteStartUrl = "http://" + inst.getInstanceId() + EXEC_START_ENDPOINT;
-              List<RunnerRunVo> remoteResults = broadcastRun2RemoteCtrl(remoteRunCmd,
-                  remoteStartUrl);
+              futures.add(dispatch(() -> broadcastRun2RemoteCtrl(remoteRunCmd, remoteStartUrl)));
+            }
+            for (Future<List<RunnerRunVo>> future : futures) {
+              List<RunnerRunVo> remoteResults;
+              try {
+                // The request has its own timeout, wait for the connection timeout in addition
+                remoteResults = future.get(execDispatchProperties.getRemoteTimeout()
+                    + BROADCAST_CTRL_CONNECTION_TIMEOUT, TimeUnit.MILLISECONDS);
+              } catch (Exception e) {
+                future.cancel(true);
+                String message = message(BROADCAST_START_TO_REMOTE_EXCEPTION_T,
+                    new Object[]{getMessage(e)});
+                log.error(message);
+                remoteResults = remoteRunCmd.getRemoteNodeIds().stream()
+                    .map(x -> RunnerRunVo.fail(execId, x, message)).toList();
+              }
               if (isNotEmpty(remoteResults)) {
                 results.addAll(remoteResults);
                 for (RunnerRunVo result0 : remoteResults) {
@@ -864,17 +948,31 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
         }
       }
 
+      recordDispatchTime(dto.isBroadcast(), nodeIds.size(), dispatchStartNanos);
+
       if (dto.isBroadcast()) {
         saveStartExecStatus(execDb, results, successNodeIds);
-        saveExecNodes(execDb, successNodeIds);
+        saveExecNodes(execDb, successNodeIds, nodeShards);
       }
     } finally {
+      if (dto.isBroadcast()) {
+        // Started executions occupy the quota by running status
+        reservedNodeIds.removeAll(successNodeIds);
+        execStartReserver.release(execDb, reservedNodeIds);
+      }
       distributedLock.releaseLock(format(EXEC_LOCK_KEY_FMT, execId), execId);
     }
     return results;
     // formatter:on
   }
 
+  private List<Long> reserveFreeNodes(Exec execDb) {
+    List<Long> nodeIds = execStartReserver.reserveFreeNodes(execDb,
+        () -> nodeInfoQuery.selectValidFreeNodeIds(1, execDb.getAvailableNodeIds()));
+    assertNotEmpty(nodeIds, message(EXEC_START_RESERVE_TIMEOUT));
+    return nodeIds;
+  }
+
   /**
    * <p>
    * Stop execution by DTO.
@@ -1143,7 +1241,6 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
    * execution results collection.
    * </p>
    *
-   * @param latch          CountDownLatch for synchronization (null for single node)
    * @param execDb         Execution entity
    * @param execId         Execution ID as string
    * @param results        List to collect execution results
@@ -1152,7 +1249,7 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
    * @param remoteNodeIds  Set to collect remote node IDs
    * @param successNodeIds Set to collect successful node IDs
    */
-  private void startSingleNodeTask(CountDownLatch latch, Exec execDb, String execId,
+  private void startSingleNodeTask(Exec execDb, String execId,
       List<RunnerRunVo> results, String script, Long nodeId, LinkedHashSet<Long> remoteNodeIds,
       LinkedHashSet<Long> successNodeIds) {
     boolean isLocalRouter = false;
@@ -1194,11 +1291,74 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
     if (!isLocalRouter) {
       remoteNodeIds.add(nodeId);
     }
+  }
+
+  /**
+   * Stop the run of a node which did not reply to the start command in time.
+   *
+   * @return true when the agent confirmed the stop
+   */
+  private boolean stopUnrepliedNode(Exec execDb, String execId, Long nodeId) {
+    Long realTenantId = execDb.getTrial() ? OWNER_TENANT_ID : execDb.getTenantId();
+    ChannelRouter router = nodeInfoQuery.getLocalChannelRouter(nodeId, realTenantId);
+    if (isNull(router)) {
+      log.error("Stop the unreplied node `{}` of execution `{}` failed, node is disconnected",
+          nodeId, execId);
+      return false;
+    }
+    try {
+      RunnerStopDto stopCmd = RunnerStopDto.newBuilder().execId(execId).build();
+      return pushStopCmd2Agent(stopCmd, router).isSuccess();
+    } catch (Exception e) {
+      log.error("Stop the unreplied node `{}` of execution `{}` exception, cause: {}", nodeId,
+          execId, getMessage(e));
+      return false;
+    }
+  }
+
+  /**
+   * Submit a dispatching task with the principal of current thread.
+   */
+  private <T> Future<T> dispatch(Callable<T> task) {
+    Thread dispatcher = Thread.currentThread();
+    Principal principal = PrincipalContext.get();
+    return execDispatchExecutor.submit(() -> {
+      if (Thread.currentThread() == dispatcher) {
+        // Run by the dispatching thread when the executor is saturated
+        return task.call();
+      }
+      try {
+        PrincipalContext.set(principal);
+        return task.call();
+      } finally {
+        PrincipalContext.remove();
+      }
+    });
+  }
 
-    // Signal completion for multi-node execution
-    if (nonNull(latch)) {
-      latch.countDown();
+  /**
+   * Record the time of pushing start commands to local agents and remote controllers.
+   */
+  private void recordDispatchTime(boolean broadcast, int nodeNum, long startNanos) {
+    if (isNull(meterRegistry)) {
+      return;
     }
+    Timer.builder(METRIC_DISPATCH_TIME)
+        .description("Time of dispatching an execution to its nodes")
+        .tag("broadcast", String.valueOf(broadcast))
+        .tag("multiNode", String.valueOf(nodeNum > 1))
+        .register(meterRegistry)
+        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Start results of one node in multi-node dispatching.
+   */
+  private static class NodeStartResult {
+
+    final List<RunnerRunVo> results = new ArrayList<>();
+    final LinkedHashSet<Long> remoteNodeIds = new LinkedHashSet<>();
+    final LinkedHashSet<Long> successNodeIds = new LinkedHashSet<>();
   }
 
   private void updateSchedulingFailed(String execId, List<RunnerRunVo> results, String cause) {
@@ -1216,13 +1376,23 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
         ObjectMapperWrapper.INSTANCE.toString(results), getUserId(), now());
   }
 
-  private void saveExecNodes(Exec exec, LinkedHashSet<Long> runSuccessNodeIds) {
+  private void saveExecNodes(Exec exec, LinkedHashSet<Long> runSuccessNodeIds,
+      Map<Long, ExecNodeShard> nodeShards) {
     if (isNotEmpty(runSuccessNodeIds)) {
       List<Long> existIds = execNodeRepo.findNodeIdByNodeIdIn(runSuccessNodeIds);
       List<Long> saveIds = new ArrayList<>(runSuccessNodeIds);
       saveIds.removeAll(existIds);
       execNodeCmd.add0(saveIds.stream()
-          .map(x -> new ExecNode().setExecId(exec.getId()).setNodeId(x))
+          .map(x -> {
+            ExecNode execNode = new ExecNode().setExecId(exec.getId()).setNodeId(x);
+            // Note: The shards of nodes started by remote controllers are unknown
+            ExecNodeShard shard = nodeShards.get(x);
+            if (nonNull(shard)) {
+              execNode.setShardWeight(shard.getWeight()).setShardThread(shard.getThread())
+                  .setShardIterations(shard.getIterations());
+            }
+            return execNode;
+          })
           .toList());
     }
   }
@@ -1275,11 +1445,13 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
     }
   }
 
-  private void deleteExecSamplesAndNode(Long execId) {
+  private void deleteExecSamples(Long execId) {
     execSampleRepo.deleteByExecId(execId);
+    execSampleRollupRepo.deleteByExecId(execId);
+    execSampleRollupGapRepo.deleteByExecId(execId);
+    execSampleTierRepo.deleteByExecId(execId);
     execSampleErrorsRepo.deleteByExecId(execId);
     execSampleExtcRepo.deleteByExecId(execId);
-    execNodeRepo.deleteByExecId(execId);
   }
 
   private RunnerRunVo pushRunCmd2Agent(RunnerRunDto runCmd, Long nodeId, Long realTenantId,
@@ -1295,7 +1467,8 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
 
   private List<RunnerRunVo> broadcastRun2RemoteCtrl(ExecStartDto dto, String remoteUrl) {
     try {
-      Response response = doHttpPostRequest(dto, remoteUrl);
+      Response response = doHttpPostRequest(dto, remoteUrl,
+          Duration.ofMillis(execDispatchProperties.getRemoteTimeout()));
       if (response.isSuccessful()) {
         List<RunnerRunVo> runVos = objectMapper.readValue(response.body(),
             new TypeReference<ApiLocaleResult<List<RunnerRunVo>>>() {
@@ -1403,47 +1576,84 @@ public class ExecCmdImpl extends CommCmd<Exec, Long> implements ExecCmd {
 
   /**
    * <p>
-   * Create sharded script for multi-node execution.
+   * Shard threads and iterations of execution across multiple nodes.
    * </p>
    * <p>
-   * Distributes thread count and iterations across multiple nodes for load balancing. The first
-   * node receives any remainder to ensure complete distribution.
+   * By default the load is distributed evenly and the first node receives any remainder. When
+   * weighted sharding is enabled and the node selector strategy selects nodes by specification or
+   * idle rate, the load is distributed in proportion to the capacity of nodes, and every node gets
+   * at least one thread.
    * </p>
    *
-   * @param execDb   Execution entity
-   * @param nodeSize Total number of nodes
-   * @param isFirst  Whether this is the first node
-   * @return Sharded script content
+   * @param execDb  Execution entity
+   * @param nodeIds Selected node IDs
+   * @return Shards of nodes in the order of node IDs
    */
-  private String shardingScript(Exec execDb, int nodeSize, boolean isFirst) {
-    // Distribute thread count across nodes (first node gets remainder)
-    Integer shardingThread = !isFirst ? execDb.getThread() / nodeSize
-        : (execDb.getThread() / nodeSize) + (execDb.getThread() % nodeSize);
-
-    // Distribute iterations across nodes (first node gets remainder)
-    Long shardingIterations = isNull(execDb.getIterations()) ? null : !isFirst
-        ? execDb.getIterations() / nodeSize
-        : (execDb.getIterations() / nodeSize) + (execDb.getIterations() % nodeSize);
-
-    // Handle ramp-up and ramp-down thread distribution
-    Integer shardingRampUpThread = null, shardingRampDownThread = null;
+  private Map<Long, ExecNodeShard> shardingNodes(Exec execDb, Collection<Long> nodeIds) {
+    Map<Long, Double> weights;
+    if (isWeightedSharding(execDb)) {
+      weights = nodeInfoQuery.getCapacityWeights(nodeIds);
+    } else {
+      weights = new LinkedHashMap<>();
+      for (Long nodeId : nodeIds) {
+        weights.put(nodeId, 1.0);
+      }
+    }
+    boolean weighted = weights.values().stream().distinct().count() > 1;
+
+    long[] threads = ExecNodeShard.split(execDb.getThread(), weights.values(), weighted);
+    long[] iterations = isNull(execDb.getIterations()) ? null
+        : ExecNodeShard.split(execDb.getIterations(), weights.values(), weighted);
+    long[] rampUpThreads = null, rampDownThreads = null;
     if (nonNull(execDb.getOrgThread())) {
-      // Distribute ramp-up threads
-      Integer rampUpThread = execDb.getOrgThread().getRampUpThreads();
-      shardingRampUpThread = execDb.getOrgThread().needRampUp() ?
-          !isFirst ? rampUpThread / nodeSize
-              : (rampUpThread / nodeSize) + (rampUpThread % nodeSize) : null;
-
-      // Distribute ramp-down threads
-      Integer rampDownThread = execDb.getOrgThread().getRampDownThreads();
-      shardingRampDownThread = execDb.getOrgThread().needRampDown() ?
-          !isFirst ? rampDownThread / nodeSize
-              : (rampDownThread / nodeSize) + (rampDownThread % nodeSize) : null;
+      rampUpThreads = execDb.getOrgThread().needRampUp() ? ExecNodeShard.split(
+          execDb.getOrgThread().getRampUpThreads(), weights.values(), weighted) : null;
+      rampDownThreads = execDb.getOrgThread().needRampDown() ? ExecNodeShard.split(
+          execDb.getOrgThread().getRampDownThreads(), weights.values(), weighted) : null;
+    }
+
+    Map<Long, ExecNodeShard> shards = new LinkedHashMap<>();
+    int i = 0;
+    for (Map.Entry<Long, Double> entry : weights.entrySet()) {
+      int thread = (int) threads[i];
+      shards.put(entry.getKey(), new ExecNodeShard().setNodeId(entry.getKey())
+          .setWeight(entry.getValue())
+          .setThread(thread)
+          .setIterations(isNull(iterations) ? null : iterations[i])
+          // Ramping threads can not exceed the threads of node after rounding
+          .setRampUpThread(isNull(rampUpThreads) ? null
+              : (int) Math.min(rampUpThreads[i], thread))
+          .setRampDownThread(isNull(rampDownThreads) ? null
+              : (int) Math.min(rampDownThreads[i], thread)));
+      i++;
+    }
+    if (weighted) {
+      log.info("Sharding execution `{}` by node capacity weights {}", execDb.getId(), weights);
     }
+    return shards;
+  }
+
+  private boolean isWeightedSharding(Exec execDb) {
+    if (!execDispatchProperties.isWeightedSharding() || isNull(execDb.getConfiguration())) {
+      return false;
+    }
+    NodeSelector nodeSelector = execDb.getConfiguration().getNodeSelectors();
+    NodeSelectorStrategy strategy = isNull(nodeSelector) ? null : nodeSelector.getStrategy();
+    return nonNull(strategy) && Boolean.TRUE.equals(strategy.getEnabled())
+        && (Boolean.TRUE.equals(strategy.getSpecEnabled())
+        || Boolean.TRUE.equals(strategy.getIdleRateEnabled()));
+  }
 
-    // Generate script with sharded configuration
-    return overwriteConfigScript(execDb, shardingThread, shardingRampUpThread,
-        shardingRampDownThread, shardingIterations);
+  /**
+   * Create sharded script for one node of multi-node execution.
+   *
+   * @param execDb Execution entity
+   * @param shard  The shard of node
+   * @return Sharded script content
+   */
+  private String shardingScript(Exec execDb, ExecNodeShard shard) {
+    return overwriteConfigScript(execDb, shard.getThread(), shard.getRampUpThread(),
+        shard.getRampDownThread(), shard.getIterations());
   }
 
   /**
@@ -48,6 +48,9 @@ import cloud.xcan.angus.core.tester.domain.script.Script;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleContentRepo;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleErrorCauseRepo;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRepo;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollupGapRepo;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollupRepo;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleTierRepo;
 import cloud.xcan.angus.core.tester.interfaces.exec.facade.dto.debug.ExecDebugStartDto;
 import cloud.xcan.angus.core.tester.interfaces.exec.facade.vo.debug.ExecDebugDetailVo;
 import cloud.xcan.angus.model.element.http.Http;
@@ -116,6 +119,12 @@ public class ExecDebugCmdImpl extends CommCmd<ExecDebug, Long> implements ExecDe
   @Resource
   private ExecSampleRepo execSampleRepo;
   @Resource
+  private ExecSampleRollupRepo execSampleRollupRepo;
+  @Resource
+  private ExecSampleTierRepo execSampleTierRepo;
+  @Resource
+  private ExecSampleRollupGapRepo execSampleRollupGapRepo;
+  @Resource
   private ExecSampleErrorCauseRepo execSampleErrorsRepo;
   @Resource
   private ExecSampleContentRepo execSampleExtcRepo;
@@ -561,6 +570,9 @@ public class ExecDebugCmdImpl extends CommCmd<ExecDebug, Long> implements ExecDe
   public void deleteExecSamples(Collection<Long> execIds) {
     // Delete execution samples, error causes, and content
     execSampleRepo.deleteByExecIdIn(execIds);
+    execSampleRollupRepo.deleteByExecIdIn(execIds);
+    execSampleRollupGapRepo.deleteByExecIdIn(execIds);
+    execSampleTierRepo.deleteByExecIdIn(execIds);
     execSampleErrorsRepo.deleteByExecIdIn(execIds);
     execSampleExtcRepo.deleteByExecIdIn(execIds);
   }
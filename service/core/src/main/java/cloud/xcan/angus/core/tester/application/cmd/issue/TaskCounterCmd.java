@@ -0,0 +1,22 @@
+package cloud.xcan.angus.core.tester.application.cmd.issue;
+
+import cloud.xcan.angus.core.tester.domain.issue.count.TaskCount;
+import cloud.xcan.angus.core.tester.domain.issue.count.TaskCounter;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+public interface TaskCounterCmd {
+
+  void update0(@Nullable TaskCounter before, @Nullable TaskCounter after);
+
+  void update0(List<TaskCounter> before, List<TaskCounter> after);
+
+  void add0(Collection<TaskCounter> deltas);
+
+  void invalidate0(Collection<Long> projectIds);
+
+  TaskCount findOrRecount(Long projectId, @Nullable Long sprintId, Supplier<TaskCount> recount);
+
+}
@@ -74,6 +74,7 @@ import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.nullSafe;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.stringSafe;
+import static java.util.Collections.singletonMap;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
@@ -91,11 +92,13 @@ import cloud.xcan.angus.core.biz.exception.BizException;
 import cloud.xcan.angus.core.jpa.repository.BaseRepository;
 import cloud.xcan.angus.core.tester.application.cmd.activity.ActivityCmd;
 import cloud.xcan.angus.core.tester.application.cmd.issue.TaskCmd;
+import cloud.xcan.angus.core.tester.application.cmd.issue.TaskCounterCmd;
 import cloud.xcan.angus.core.tester.application.cmd.issue.TaskFuncCaseCmd;
 import cloud.xcan.angus.core.tester.application.cmd.issue.TaskSprintCmd;
 import cloud.xcan.angus.core.tester.application.cmd.issue.TaskTrashCmd;
 import cloud.xcan.angus.core.tester.application.cmd.project.SoftwareVersionCmd;
 import cloud.xcan.angus.core.tester.application.cmd.project.TagTargetCmd;
+import cloud.xcan.angus.core.tester.application.cmd.project.TreeClosureCmd;
 import cloud.xcan.angus.core.tester.application.converter.TaskConverter;
 import cloud.xcan.angus.core.tester.application.query.issue.TaskQuery;
 import cloud.xcan.angus.core.tester.application.query.issue.TaskSprintAuthQuery;
@@ -114,15 +117,18 @@ import cloud.xcan.angus.core.tester.domain.issue.TaskInfo;
 import cloud.xcan.angus.core.tester.domain.issue.TaskRepo;
 import cloud.xcan.angus.core.tester.domain.issue.TaskStatus;
 import cloud.xcan.angus.core.tester.domain.issue.TaskType;
+import cloud.xcan.angus.core.tester.domain.issue.count.TaskCounter;
 import cloud.xcan.angus.core.tester.domain.issue.remark.TaskRemarkRepo;
 import cloud.xcan.angus.core.tester.domain.issue.sprint.TaskSprint;
 import cloud.xcan.angus.core.tester.domain.issue.sprint.TaskSprintPermission;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
 import cloud.xcan.angus.core.tester.domain.project.Project;
 import cloud.xcan.angus.core.tester.domain.project.module.Module;
 import cloud.xcan.angus.core.tester.domain.project.tag.Tag;
 import cloud.xcan.angus.core.tester.domain.project.tag.TagTarget;
 import cloud.xcan.angus.core.tester.domain.project.version.SoftwareVersion;
 import cloud.xcan.angus.core.tester.domain.test.cases.FuncCaseInfo;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
 import cloud.xcan.angus.extraction.utils.PoiUtils;
 import cloud.xcan.angus.idgen.BidGenerator;
 import cloud.xcan.angus.remote.message.ProtocolException;
@@ -215,6 +221,12 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
   private UserManager userManager;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private TaskCounterCmd taskCounterCmd;
+  @Resource
+  private KanbanGrowthTrendCache kanbanGrowthTrendCache;
+  @Resource
+  private TreeClosureCmd treeClosureCmd;
 
   /**
    * Adds a new task with comprehensive validation and setup.
@@ -310,6 +322,10 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
         boolean isAgile = nonNull(sprintDb) || projectQuery.isAgile(task.getProjectId());
         TaskConverter.assembleAddTaskInfo(task, sprintDb, isAgile);
         IdKey<Long, Object> idKey = insert(task);
+        treeClosureCmd.add0(TASK, task.getProjectId(),
+            singletonMap(task.getId(), task.getParentTaskId()));
+        taskCounterCmd.update0(null, TaskCounter.of(task));
+        kanbanGrowthTrendCache.evict(task.getProjectId(), DataAssetsCategory.TASK);
 
         // Save related tasks and use cases associations
         taskFuncCaseCmd.addAssoc(TASK, idKey.getId(), task.getRefTaskIds(), task.getRefCaseIds());
@@ -395,6 +411,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
       @Override
       protected Void process() {
+        TaskCounter counterBefore = TaskCounter.of(taskDb);
         // Detect changes before updating
         boolean hasModAssigness = nonNull(task.getAssigneeId())
             && !Objects.equals(taskDb.getAssigneeId(), task.getAssigneeId());
@@ -421,8 +438,15 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
         activityCmd.add(activity);
 
         // Assemble and save task updates
+        Long parentTaskIdBefore = taskDb.getParentTaskId();
         TaskConverter.assembleUpdateTask(task, taskDb);
         taskRepo.save(taskDb);
+        taskCounterCmd.update0(counterBefore, TaskCounter.of(taskDb));
+        // Move the task with its sub tasks in the tree index
+        if (!Objects.equals(parentTaskIdBefore, taskDb.getParentTaskId())) {
+          treeClosureCmd.move0(TASK, taskDb.getProjectId(), List.of(taskDb.getId()),
+              taskDb.getParentTaskId());
+        }
 
         // Update related tasks and use cases associations
         taskFuncCaseCmd.updateAssoc(TASK, taskDb.getId(), task.getRefTaskIds(),
@@ -513,6 +537,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
       @Override
       protected Void process() {
+        TaskCounter counterBefore = TaskCounter.of(taskDb);
         // Get existed status before replace
         boolean hasModAssigness = !Objects.equals(taskDb.getAssigneeId(), task.getAssigneeId());
         boolean hasModConfirmer = !Objects.equals(taskDb.getConfirmerId(), task.getConfirmerId());
@@ -531,8 +556,15 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
         activityCmd.add(activity);
 
         // Save task
+        Long parentTaskIdBefore = taskDb.getParentTaskId();
         TaskConverter.assembleReplaceTask(task, taskDb);
         taskRepo.save(taskDb);
+        taskCounterCmd.update0(counterBefore, TaskCounter.of(taskDb));
+        // Move the task with its sub tasks in the tree index
+        if (!Objects.equals(parentTaskIdBefore, taskDb.getParentTaskId())) {
+          treeClosureCmd.move0(TASK, taskDb.getProjectId(), List.of(taskDb.getId()),
+              taskDb.getParentTaskId());
+        }
 
         // Save related tasks and use cases
         taskFuncCaseCmd.replaceAssoc(TASK, taskDb.getId(), taskDb.getRefTaskIds(),
@@ -636,10 +668,12 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
       @Override
       protected Void process() {
+        List<TaskCounter> countersBefore = tasksDb.stream().map(TaskCounter::of).toList();
         for (Task taskDb : tasksDb) {
           assembleMoveTask(targetSprintDb, taskDb);
         }
         taskRepo.saveAll(tasksDb);
+        taskCounterCmd.update0(countersBefore, tasksDb.stream().map(TaskCounter::of).toList());
 
         // Add move task activities
         List<Activity> activities = getActivities();
@@ -697,6 +731,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
       @Override
       protected Void process() {
+        TaskCounter counterBefore = TaskCounter.of(taskDb);
         TaskType taskType = assertEnumOf(type, TaskType.class);
 
         if (!taskType.equals(taskDb.getTaskType())) {
@@ -707,6 +742,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
             taskDb.setBugLevel(null).setMissingBug(null);
           }
           taskRepo.save(taskDb);
+          taskCounterCmd.update0(counterBefore, TaskCounter.of(taskDb));
 
           Activity activity = toActivity(TASK, taskDb, TYPE_UPDATED, taskType);
           activityCmd.add(activity);
@@ -945,10 +981,12 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
       @Override
       protected Void process() {
+        TaskCounter counterBefore = TaskCounter.of(taskDb);
         if (!Objects.equals(deadline, taskDb.getDeadlineDate())) {
           taskDb.setDeadlineDate(deadline)
               .setOverdue(nonNull(deadline) && deadline.isBefore(LocalDateTime.now()));
           taskRepo.save(taskDb);
+          taskCounterCmd.update0(counterBefore, TaskCounter.of(taskDb));
 
           Activity activity = toActivity(TASK, taskDb, DEADLINE, deadline.format(DATE_TIME_FMT));
           activityCmd.add(activity);
@@ -1096,6 +1134,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
       @Override
       protected Void process() {
+        TaskCounter counterBefore = TaskCounter.of(taskDb);
         // Clear story point
         if (isNull(evalWorkload)) {
           if (nonNull(taskDb.getEvalWorkload())) {
@@ -1106,6 +1145,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
             taskDb.setEvalWorkload(null).setActualWorkload(null);
             taskRepo.save(taskDb);
+            taskCounterCmd.update0(counterBefore, TaskCounter.of(taskDb));
 
             // Add modification event -> Non-primary event
             // taskQuery.assembleAndSendModifyNoticeEvent(taskDb, activity);
@@ -1117,6 +1157,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
         if (!evalWorkload.equals(taskDb.getEvalWorkload())) {
           taskDb.setEvalWorkload(evalWorkload);
           taskRepo.save(taskDb);
+          taskCounterCmd.update0(counterBefore, TaskCounter.of(taskDb));
 
           Activity activity = toActivity(TASK, taskDb, EVAL_WORKLOAD,
               taskDb.getEvalWorkloadMethod(), evalWorkload);
@@ -1165,6 +1206,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
       @Override
       protected Void process() {
+        TaskCounter counterBefore = TaskCounter.of(taskDb);
         if (nonNull(actualWorkload) && isNull(taskDb.getEvalWorkload())) {
           taskDb.setEvalWorkload(actualWorkload);
         }
@@ -1179,6 +1221,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
             taskDb.setActualWorkload(null);
             taskRepo.save(taskDb);
+            taskCounterCmd.update0(counterBefore, TaskCounter.of(taskDb));
 
             // Add modification event -> Non-primary event
             // taskQuery.assembleAndSendModifyNoticeEvent(taskDb, activity);
@@ -1190,6 +1233,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
         if (!actualWorkload.equals(taskDb.getActualWorkload())) {
           taskDb.setActualWorkload(actualWorkload);
           taskRepo.save(taskDb);
+          taskCounterCmd.update0(counterBefore, TaskCounter.of(taskDb));
 
           Activity activity = toActivity(TASK, taskDb, ACTUAL_WORKLOAD,
               taskDb.getEvalWorkloadMethod(), actualWorkload);
@@ -1373,11 +1417,13 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
       @Override
       protected Void process() {
+        TaskCounter counterBefore = TaskCounter.of(taskDb);
         taskDb.setId(id).setStatus(TaskStatus.IN_PROGRESS)
             .setStartDate(LocalDateTime.now())
             // Increment 1 when the task enters the start processing status.
             .setTotalNum(taskDb.getTotalNum() + 1);
         taskRepo.save(taskDb);
+        taskCounterCmd.update0(counterBefore, TaskCounter.of(taskDb));
 
         Activity activity = toActivity(TASK, taskDb, ActivityType.TASK_START);
         activityCmd.add(activity);
@@ -1418,9 +1464,11 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
       @Override
       protected Void process() {
+        TaskCounter counterBefore = TaskCounter.of(taskDb);
         if (!taskDb.getStatus().isCanceled()) {
           taskDb.setId(id).setStatus(TaskStatus.CANCELED).setCanceledDate(LocalDateTime.now());
           taskRepo.save(taskDb);
+          taskCounterCmd.update0(counterBefore, TaskCounter.of(taskDb));
 
           Activity activity = toActivity(TASK, taskDb, ActivityType.TASK_CANCEL);
           activityCmd.add(activity);
@@ -1470,9 +1518,11 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
       @Override
       protected Void process() {
+        TaskCounter counterBefore = TaskCounter.of(taskDb);
         if (taskDb.isConfirmTask() && !taskDb.getStatus().isConfirming()) {
           taskDb.setStatus(TaskStatus.CONFIRMING).setProcessedDate(LocalDateTime.now());
           taskRepo.save(taskDb);
+          taskCounterCmd.update0(counterBefore, TaskCounter.of(taskDb));
 
           Activity activity = toActivity(TASK, taskDb, TASK_PROCESSED);
           activityCmd.add(activity);
@@ -1489,6 +1539,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
           taskDb.setEvalWorkload(nullSafe(taskDb.getEvalWorkload(), taskDb.getActualWorkload()));
           taskDb.setActualWorkload(nullSafe(taskDb.getActualWorkload(), taskDb.getEvalWorkload()));
           taskRepo.save(taskDb);
+          taskCounterCmd.update0(counterBefore, TaskCounter.of(taskDb));
 
           Activity activity = toActivity(TASK, taskDb, TASK_COMPLETED);
           activityCmd.add(activity);
@@ -1558,6 +1609,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
       @Override
       protected Void process() {
+        TaskCounter counterBefore = TaskCounter.of(taskDb);
         LocalDateTime now = LocalDateTime.now();
         if (result.isSuccess()) {
           taskDb.setStatus(TaskStatus.COMPLETED).setCompletedDate(now);
@@ -1569,6 +1621,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
         taskDb.setActualWorkload(isNull(evalWorkload) ? null : actualWorkload);
         taskDb.setConfirmedDate(now);
         taskRepo.save(taskDb);
+        taskCounterCmd.update0(counterBefore, TaskCounter.of(taskDb));
 
         Activity activity = toActivity(TASK, taskDb, TASK_CONFIRM_RESULT, result);
         activityCmd.add(activity);
@@ -1612,8 +1665,10 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
       @Override
       protected Void process() {
+        List<TaskCounter> countersBefore = tasksDb.stream().map(TaskCounter::of).toList();
         tasksDb = tasksDb.stream().map(TaskConverter::toRestartTask).toList();
         taskRepo.saveAll(tasksDb);
+        taskCounterCmd.update0(countersBefore, tasksDb.stream().map(TaskCounter::of).toList());
 
         List<Activity> activities = toActivities(TASK, tasksDb, TASK_RESTART);
         activityCmd.addAll(activities);
@@ -1660,8 +1715,10 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
       @Override
       protected Void process() {
+        List<TaskCounter> countersBefore = tasksDb.stream().map(TaskCounter::of).toList();
         tasksDb = tasksDb.stream().map(TaskConverter::toReopenTask).toList();
         taskRepo.saveAll(tasksDb);
+        taskCounterCmd.update0(countersBefore, tasksDb.stream().map(TaskCounter::of).toList());
 
         List<Activity> activities = toActivities(TASK, tasksDb, TASK_REOPEN);
         activityCmd.addAll(activities);
@@ -1707,6 +1764,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
       @Override
       protected Void process() {
         taskRepo.updateTaskParent(id, subTaskIds);
+        treeClosureCmd.move0(TASK, taskDb.getProjectId(), subTaskIds, id);
 
         Activity activity = toActivity(TASK, taskDb, TASK_SUB_SET,
             subTasksDb.stream().map(TaskInfo::getName).collect(Collectors.joining(",")));
@@ -1750,6 +1808,8 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
       @Override
       protected Void process() {
         taskRepo.cancelTaskParent(id, subTaskIds);
+        treeClosureCmd.move0(TASK, taskDb.getProjectId(), subTasksDb.stream()
+            .filter(x -> id.equals(x.getParentTaskId())).map(TaskInfo::getId).toList(), null);
 
         Activity activity = toActivity(TASK, taskDb, TASK_SUB_CANCEL,
             subTasksDb.stream().map(TaskInfo::getName).collect(Collectors.joining(",")));
@@ -2110,7 +2170,11 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
             ? new HashSet<>(names) : names.stream().map(x -> sprintDb.getTaskPrefix() + x)
             .collect(Collectors.toSet());
         if (strategyWhenDuplicated.isCover()) {
+          treeClosureCmd.delete0(TASK,
+              taskRepo.findIdBySprintIdAndNameIn(sprintId, safePrefixNames));
           taskRepo.deleteBySprintIdAndNameIn(sprintId, safePrefixNames);
+          // Covered tasks are deleted in bulk, recount the project on the next read
+          taskCounterCmd.invalidate0(List.of(projectId));
         } else {
           List<String> namesDb = taskRepo.findNameBySprintIdAndNameIn(sprintId, safePrefixNames);
           tasks = tasks.stream().filter(x -> !namesDb.contains(x.getName()))
@@ -2229,6 +2293,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
 
         // Update task deletion status
         taskRepo.updateDeleteStatus(taskIds, true, getUserId(), LocalDateTime.now());
+        taskCounterCmd.update0(tasksDb.stream().map(TaskCounter::of).toList(), List.of());
 
         // Log deletion activities
         List<Activity> activities = toActivities(TASK, tasksDb, DELETED, activityParams(tasksDb));
@@ -2258,6 +2323,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
   @Transactional(rollbackFor = Exception.class)
   @Override
   public void retest0ByTarget(Boolean restart, List<Task> tasksDb) {
+    List<TaskCounter> countersBefore = tasksDb.stream().map(TaskCounter::of).toList();
     List<Task> retestTaskDbs;
     if (restart) {
       retestTaskDbs = tasksDb.stream().map(TaskConverter::toRestartTask).toList();
@@ -2266,6 +2332,7 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
     }
 
     taskRepo.saveAll(retestTaskDbs);
+    taskCounterCmd.update0(countersBefore, retestTaskDbs.stream().map(TaskCounter::of).toList());
 
     activityCmd.addAll(toActivities(TASK, tasksDb, restart ? TASK_RESTART : TASK_REOPEN));
   }
@@ -2291,6 +2358,8 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
     taskFuncCaseCmd.deleteByTargetIds(taskIds);
 
     taskRepo.deleteByIdIn(taskIds);
+    treeClosureCmd.delete0(TASK, taskIds);
+    taskCounterCmd.update0(tasksDb.stream().map(TaskCounter::of).toList(), List.of());
 
     // Save delete activity
     activityCmd.addAll(toActivities(TASK, tasksDb, DELETED));
@@ -2315,12 +2384,30 @@ public class TaskCmdImpl extends CommCmd<Task, Long> implements TaskCmd {
     taskFuncCaseCmd.deleteByTargetIds(taskIds);
 
     taskRepo.deleteByIdIn(taskIds);
+    treeClosureCmd.delete0(TASK, taskIds);
   }
 
+  /**
+   * Adds a batch of imported tasks (internal use).
+   *
+   * <p>Note: The tasks are not indexed in the tree closure, the importer rebuilds the index
+   * after all tasks are added as parents may be imported after their subtasks.</p>
+   *
+   * @param tasks the tasks to add
+   */
   @Override
-  public void add0(Task task) {
-    TaskConverter.assembleAddTaskInfo(task, null, true);
-    insert(task);
+  public void add0(List<Task> tasks) {
+    if (isEmpty(tasks)) {
+      return;
+    }
+    for (Task task : tasks) {
+      TaskConverter.assembleAddTaskInfo(task, null, true);
+    }
+    batchInsert(tasks);
+    // Count the batch in one update of each counter
+    taskCounterCmd.update0(List.of(), tasks.stream().map(TaskCounter::of).toList());
+    kanbanGrowthTrendCache.evict(tasks.stream().map(Task::getProjectId).toList(),
+        DataAssetsCategory.TASK);
   }
 
   /**
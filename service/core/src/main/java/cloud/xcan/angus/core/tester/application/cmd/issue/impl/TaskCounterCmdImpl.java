@@ -0,0 +1,240 @@
+package cloud.xcan.angus.core.tester.application.cmd.issue.impl;
+
+import static cloud.xcan.angus.core.tester.application.converter.TaskConverter.toTaskCount;
+import static cloud.xcan.angus.core.tester.application.converter.TaskConverter.toTaskCounter;
+import static cloud.xcan.angus.core.tester.domain.issue.count.TaskCounter.PROJECT_SPRINT_ID;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import cloud.xcan.angus.core.biz.cmd.CommCmd;
+import cloud.xcan.angus.core.jpa.repository.BaseRepository;
+import cloud.xcan.angus.core.tester.application.cmd.issue.TaskCounterCmd;
+import cloud.xcan.angus.core.tester.domain.issue.count.TaskCount;
+import cloud.xcan.angus.core.tester.domain.issue.count.TaskCounter;
+import cloud.xcan.angus.core.tester.domain.issue.count.TaskCounterRepo;
+import cloud.xcan.angus.core.tester.infra.config.TaskCounterConfig.TaskCounterProperties;
+import jakarta.annotation.Resource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <p>
+ * Implementation of TaskCounterCmd for maintaining the task counters of projects and sprints.
+ * </p>
+ * <p>
+ * Task changes add the difference of the task contributions to the counters of the task's sprint
+ * and project with one UPDATE per counter. Counters missing in the table are not created by
+ * changes, they are counted on the first read.
+ * </p>
+ */
+@Slf4j
+@Service
+public class TaskCounterCmdImpl extends CommCmd<TaskCounter, Long> implements TaskCounterCmd {
+
+  @Resource
+  private TaskCounterRepo taskCounterRepo;
+
+  @Resource
+  private TaskCounterProperties taskCounterProperties;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  /**
+   * Add the difference of the contributions of a task before and after a change.
+   *
+   * @param before Contribution before the change, null for added tasks
+   * @param after  Contribution after the change, null for deleted tasks
+   */
+  @Transactional(rollbackFor = Exception.class)
+  @Override
+  public void update0(TaskCounter before, TaskCounter after) {
+    if (!taskCounterProperties.isEnabled() || (isNull(before) && isNull(after))) {
+      return;
+    }
+    Map<List<Long>, TaskCounter> deltas = new LinkedHashMap<>();
+    merge(deltas, before, -1);
+    merge(deltas, after, 1);
+    flush(deltas);
+  }
+
+  /**
+   * Add the difference of the contributions of tasks before and after a batch change, the
+   * contributions of null or deleted tasks are null.
+   */
+  @Transactional(rollbackFor = Exception.class)
+  @Override
+  public void update0(List<TaskCounter> before, List<TaskCounter> after) {
+    if (!taskCounterProperties.isEnabled()) {
+      return;
+    }
+    Map<List<Long>, TaskCounter> deltas = new LinkedHashMap<>();
+    for (TaskCounter counter : before) {
+      merge(deltas, counter, -1);
+    }
+    for (TaskCounter counter : after) {
+      merge(deltas, counter, 1);
+    }
+    flush(deltas);
+  }
+
+  /**
+   * Add deltas to the counters of their sprints and projects.
+   */
+  @Transactional(rollbackFor = Exception.class)
+  @Override
+  public void add0(Collection<TaskCounter> deltas) {
+    if (!taskCounterProperties.isEnabled() || isEmpty(deltas)) {
+      return;
+    }
+    Map<List<Long>, TaskCounter> merged = new LinkedHashMap<>();
+    for (TaskCounter delta : deltas) {
+      merge(merged, delta, 1);
+    }
+    flush(merged);
+  }
+
+  /**
+   * Delete the counters of projects after changes that are not maintained incrementally, such as
+   * imports and restoring from trash, they are recounted on the next read.
+   */
+  @Transactional(rollbackFor = Exception.class)
+  @Override
+  public void invalidate0(Collection<Long> projectIds) {
+    if (!taskCounterProperties.isEnabled() || isEmpty(projectIds)) {
+      return;
+    }
+    taskCounterRepo.deleteByProjectIdIn(projectIds);
+  }
+
+  /**
+   * Read the counter of a project or sprint, recount it when it is missing or stale.
+   *
+   * @param projectId Project id
+   * @param sprintId  Sprint id, null for the counter of the project
+   * @param recount   Count of the tasks by the single-scan aggregate query
+   */
+  @Override
+  public TaskCount findOrRecount(Long projectId, Long sprintId, Supplier<TaskCount> recount) {
+    long sprintKey = nonNull(sprintId) ? sprintId : PROJECT_SPRINT_ID;
+    TaskCounter counterDb = taskCounterRepo.findByProjectIdAndSprintId(projectId, sprintKey);
+    LocalDateTime now = LocalDateTime.now();
+    if (nonNull(counterDb) && nonNull(counterDb.getModifiedDate()) && counterDb.getModifiedDate()
+        .isAfter(now.minusMinutes(taskCounterProperties.getMaxStalenessMinutes()))) {
+      return toTaskCount(counterDb);
+    }
+
+    TaskCount count = recount.get();
+    try {
+      TaskCounter counter = toTaskCounter(count).setProjectId(projectId).setSprintId(sprintKey)
+          .setModifiedDate(now);
+      if (nonNull(counterDb)) {
+        counter.setId(counterDb.getId());
+        counter.setTenantId(counterDb.getTenantId());
+        taskCounterRepo.save(counter);
+      } else {
+        counter.setId(uidGenerator.getUID());
+        insert(counter);
+      }
+    } catch (Exception e) {
+      // The counter may be saved concurrently by another read
+      log.warn("Save task counter exception, projectId: {}, sprintId: {}, cause: {}", projectId,
+          sprintId, e.getMessage());
+    }
+    return count;
+  }
+
+  private static void merge(Map<List<Long>, TaskCounter> deltas, TaskCounter delta, int sign) {
+    if (isNull(delta) || isNull(delta.getProjectId())) {
+      return;
+    }
+    merge0(deltas, delta.getProjectId(), PROJECT_SPRINT_ID, delta, sign);
+    if (nonNull(delta.getSprintId())) {
+      merge0(deltas, delta.getProjectId(), delta.getSprintId(), delta, sign);
+    }
+  }
+
+  private static void merge0(Map<List<Long>, TaskCounter> deltas, Long projectId, Long sprintId,
+      TaskCounter delta, int sign) {
+    TaskCounter merged = deltas.computeIfAbsent(List.of(projectId, sprintId),
+        k -> new TaskCounter().setProjectId(projectId).setSprintId(sprintId));
+    BigDecimal sign0 = BigDecimal.valueOf(sign);
+    merged.setPendingNum(merged.getPendingNum() + sign * delta.getPendingNum())
+        .setInProgressNum(merged.getInProgressNum() + sign * delta.getInProgressNum())
+        .setConfirmingNum(merged.getConfirmingNum() + sign * delta.getConfirmingNum())
+        .setCompletedNum(merged.getCompletedNum() + sign * delta.getCompletedNum())
+        .setCanceledNum(merged.getCanceledNum() + sign * delta.getCanceledNum())
+        .setRequirementNum(merged.getRequirementNum() + sign * delta.getRequirementNum())
+        .setStoryNum(merged.getStoryNum() + sign * delta.getStoryNum())
+        .setTaskNum(merged.getTaskNum() + sign * delta.getTaskNum())
+        .setBugNum(merged.getBugNum() + sign * delta.getBugNum())
+        .setDesignNum(merged.getDesignNum() + sign * delta.getDesignNum())
+        .setOverdueNum(merged.getOverdueNum() + sign * delta.getOverdueNum())
+        .setOneTimePassedNum(merged.getOneTimePassedNum() + sign * delta.getOneTimePassedNum())
+        .setTotalNum(merged.getTotalNum() + sign * delta.getTotalNum())
+        .setFailNum(merged.getFailNum() + sign * delta.getFailNum())
+        .setEvalWorkload(merged.getEvalWorkload().add(delta.getEvalWorkload().multiply(sign0)))
+        .setActualWorkload(merged.getActualWorkload()
+            .add(delta.getActualWorkload().multiply(sign0)))
+        .setCompletedWorkload(merged.getCompletedWorkload()
+            .add(delta.getCompletedWorkload().multiply(sign0)));
+  }
+
+  private void flush(Map<List<Long>, TaskCounter> deltas) {
+    for (TaskCounter delta : deltas.values()) {
+      if (isZero(delta)) {
+        continue;
+      }
+      // Ids and counters are numbers, inlining them is safe
+      String sql = "UPDATE task_counter SET "
+          + "pending_num = pending_num + " + delta.getPendingNum() + ", "
+          + "in_progress_num = in_progress_num + " + delta.getInProgressNum() + ", "
+          + "confirming_num = confirming_num + " + delta.getConfirmingNum() + ", "
+          + "completed_num = completed_num + " + delta.getCompletedNum() + ", "
+          + "canceled_num = canceled_num + " + delta.getCanceledNum() + ", "
+          + "requirement_num = requirement_num + " + delta.getRequirementNum() + ", "
+          + "story_num = story_num + " + delta.getStoryNum() + ", "
+          + "task_num = task_num + " + delta.getTaskNum() + ", "
+          + "bug_num = bug_num + " + delta.getBugNum() + ", "
+          + "design_num = design_num + " + delta.getDesignNum() + ", "
+          + "overdue_num = overdue_num + " + delta.getOverdueNum() + ", "
+          + "one_time_passed_num = one_time_passed_num + " + delta.getOneTimePassedNum() + ", "
+          + "total_num = total_num + " + delta.getTotalNum() + ", "
+          + "fail_num = fail_num + " + delta.getFailNum() + ", "
+          + "eval_workload = eval_workload + " + delta.getEvalWorkload().toPlainString() + ", "
+          + "actual_workload = actual_workload + " + delta.getActualWorkload().toPlainString()
+          + ", completed_workload = completed_workload + "
+          + delta.getCompletedWorkload().toPlainString()
+          + " WHERE project_id = " + delta.getProjectId()
+          + " AND sprint_id = " + delta.getSprintId();
+      entityManager.createNativeQuery(sql).executeUpdate();
+    }
+  }
+
+  private static boolean isZero(TaskCounter delta) {
+    return delta.getPendingNum() == 0 && delta.getInProgressNum() == 0
+        && delta.getConfirmingNum() == 0 && delta.getCompletedNum() == 0
+        && delta.getCanceledNum() == 0 && delta.getRequirementNum() == 0
+        && delta.getStoryNum() == 0 && delta.getTaskNum() == 0 && delta.getBugNum() == 0
+        && delta.getDesignNum() == 0 && delta.getOverdueNum() == 0
+        && delta.getOneTimePassedNum() == 0 && delta.getTotalNum() == 0
+        && delta.getFailNum() == 0 && delta.getEvalWorkload().signum() == 0
+        && delta.getActualWorkload().signum() == 0 && delta.getCompletedWorkload().signum() == 0;
+  }
+
+  @Override
+  protected BaseRepository<TaskCounter, Long> getRepository() {
+    return this.taskCounterRepo;
+  }
+}
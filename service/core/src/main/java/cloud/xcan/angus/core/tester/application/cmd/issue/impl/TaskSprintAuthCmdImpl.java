@@ -24,6 +24,7 @@ import cloud.xcan.angus.core.tester.domain.issue.sprint.TaskSprint;
 import cloud.xcan.angus.core.tester.domain.issue.sprint.TaskSprintRepo;
 import cloud.xcan.angus.core.tester.domain.issue.sprint.auth.TaskSprintAuth;
 import cloud.xcan.angus.core.tester.domain.issue.sprint.auth.TaskSprintAuthRepo;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import jakarta.annotation.Resource;
 import java.util.Set;
@@ -66,6 +67,8 @@ public class TaskSprintAuthCmdImpl extends CommCmd<TaskSprintAuth, Long> impleme
   private CommonQuery commonQuery;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * Adds sprint authorization with comprehensive validation.
@@ -109,6 +112,7 @@ public class TaskSprintAuthCmdImpl extends CommCmd<TaskSprintAuth, Long> impleme
         if (!auth.isCreatorAuth()) {
           activityCmd.add(toActivity(TASK_SPRINT, sprintDb, ActivityType.AUTH, authObjectName));
         }
+        authDecisionCache.evict(TASK_SPRINT, auth.getSprintId());
         return insert(auth);
       }
     }.execute();
@@ -154,6 +158,7 @@ public class TaskSprintAuthCmdImpl extends CommCmd<TaskSprintAuth, Long> impleme
         // Replace authorization
         authDb.setAuths(auth.getAuths());
         taskSprintAuthRepo.save(authDb);
+        authDecisionCache.evict(TASK_SPRINT, authDb.getSprintId());
 
         // Add modification permission activity
         if (!authDb.isCreatorAuth()) {
@@ -194,6 +199,7 @@ public class TaskSprintAuthCmdImpl extends CommCmd<TaskSprintAuth, Long> impleme
       protected Void process() {
         taskSprintRepo.updateAuthById(sprintId, enabled);
         taskRepo.updateSprintAuthBySprintId(sprintId, enabled);
+        authDecisionCache.evict(TASK_SPRINT, sprintId);
 
         // Enable permission control activity
         activityCmd.add(toActivity(TASK_SPRINT, sprintDb, enabled
@@ -250,6 +256,7 @@ public class TaskSprintAuthCmdImpl extends CommCmd<TaskSprintAuth, Long> impleme
 
         // Delete sprint permission
         taskSprintAuthRepo.deleteById(id);
+        authDecisionCache.evict(TASK_SPRINT, authDb.getSprintId());
         return null;
       }
     }.execute();
@@ -267,6 +274,7 @@ public class TaskSprintAuthCmdImpl extends CommCmd<TaskSprintAuth, Long> impleme
   @Override
   public void addCreatorAuth(Long sprintId, Set<Long> creatorIds) {
     batchInsert(toTaskSprintAuths(creatorIds, sprintId, uidGenerator), "authObjectId");
+    authDecisionCache.evict(TASK_SPRINT, sprintId);
   }
 
   /**
@@ -21,6 +21,7 @@ import cloud.xcan.angus.core.biz.cmd.CommCmd;
 import cloud.xcan.angus.core.jpa.repository.BaseRepository;
 import cloud.xcan.angus.core.tester.application.cmd.activity.ActivityCmd;
 import cloud.xcan.angus.core.tester.application.cmd.issue.TaskCmd;
+import cloud.xcan.angus.core.tester.application.cmd.issue.TaskCounterCmd;
 import cloud.xcan.angus.core.tester.application.cmd.issue.TaskSprintAuthCmd;
 import cloud.xcan.angus.core.tester.application.cmd.issue.TaskSprintCmd;
 import cloud.xcan.angus.core.tester.application.converter.TaskSprintConverter;
@@ -35,7 +36,9 @@ import cloud.xcan.angus.core.tester.domain.issue.sprint.TaskSprintPermission;
 import cloud.xcan.angus.core.tester.domain.issue.sprint.TaskSprintRepo;
 import cloud.xcan.angus.core.tester.domain.issue.sprint.TaskSprintStatus;
 import cloud.xcan.angus.core.tester.domain.issue.trash.TaskTrashRepo;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
 import cloud.xcan.angus.core.tester.domain.project.Project;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils.BIDKey;
 import cloud.xcan.angus.spec.experimental.IdKey;
@@ -93,6 +96,10 @@ public class TaskSprintCmdImpl extends CommCmd<TaskSprint, Long> implements Task
   private UserManager userManager;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private TaskCounterCmd taskCounterCmd;
+  @Resource
+  private KanbanGrowthTrendCache kanbanGrowthTrendCache;
 
   /**
    * Adds a new sprint with comprehensive validation and setup.
@@ -135,6 +142,7 @@ public class TaskSprintCmdImpl extends CommCmd<TaskSprint, Long> implements Task
       protected IdKey<Long, Object> process() {
         sprint.setId(BIDUtils.getId(BIDKey.sprintId));
         IdKey<Long, Object> idKey = insert(sprint);
+        kanbanGrowthTrendCache.evict(sprint.getProjectId(), DataAssetsCategory.TASK);
 
         // Init sprint auth
         taskSprintAuthCmd.addCreatorAuth(idKey.getId(), Set.of(getUserId()));
@@ -422,6 +430,7 @@ public class TaskSprintCmdImpl extends CommCmd<TaskSprint, Long> implements Task
         newSprint.setId(BIDUtils.getId(BIDKey.sprintId));
         taskSprintQuery.setSafeCloneName(newSprint);
         IdKey<Long, Object> idKey = insert(newSprint, "name");
+        kanbanGrowthTrendCache.evict(newSprint.getProjectId(), DataAssetsCategory.TASK);
 
         activityCmd.add(toActivity(TASK_SPRINT, sprintDb, ActivityType.CLONE, sprintDb.getName()));
         return idKey;
@@ -613,6 +622,7 @@ public class TaskSprintCmdImpl extends CommCmd<TaskSprint, Long> implements Task
 
         // Note: Do not delete the tasks after deleting the sprint.
         taskRepo.updateSprintDeleteStatusBySprint(Collections.singleton(id), true);
+        taskCounterCmd.invalidate0(List.of(sprint0.getProjectId()));
 
         // Add sprint to Trash
         trashTaskRepo.save(TaskSprintConverter.toTrashTask(sprint0));
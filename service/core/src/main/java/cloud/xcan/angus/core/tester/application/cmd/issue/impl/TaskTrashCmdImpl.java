@@ -15,6 +15,7 @@ import cloud.xcan.angus.core.biz.cmd.CommCmd;
 import cloud.xcan.angus.core.jpa.repository.BaseRepository;
 import cloud.xcan.angus.core.tester.application.cmd.activity.ActivityCmd;
 import cloud.xcan.angus.core.tester.application.cmd.issue.TaskCmd;
+import cloud.xcan.angus.core.tester.application.cmd.issue.TaskCounterCmd;
 import cloud.xcan.angus.core.tester.application.cmd.issue.TaskSprintCmd;
 import cloud.xcan.angus.core.tester.application.cmd.issue.TaskTrashCmd;
 import cloud.xcan.angus.core.tester.application.query.issue.TaskTrashQuery;
@@ -26,6 +27,7 @@ import cloud.xcan.angus.core.tester.domain.issue.sprint.TaskSprintRepo;
 import cloud.xcan.angus.core.tester.domain.issue.sprint.auth.TaskSprintAuthRepo;
 import cloud.xcan.angus.core.tester.domain.issue.trash.TaskTrash;
 import cloud.xcan.angus.core.tester.domain.issue.trash.TaskTrashRepo;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import jakarta.annotation.Resource;
 import java.util.ArrayList;
 import java.util.List;
@@ -73,6 +75,10 @@ public class TaskTrashCmdImpl extends CommCmd<TaskTrash, Long> implements TaskTr
   private TaskSprintAuthRepo taskSprintAuthRepo;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private TaskCounterCmd taskCounterCmd;
+  @Resource
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * Adds trash items without validation (internal use).
@@ -189,6 +195,9 @@ public class TaskTrashCmdImpl extends CommCmd<TaskTrash, Long> implements TaskTr
         } else if (trashDb.getTargetType().isTask()) {
           backTasks(trashDb.getTargetId());
         }
+
+        // Restored tasks are recounted on the next read
+        taskCounterCmd.invalidate0(List.of(trashDb.getProjectId()));
         return null;
       }
 
@@ -255,6 +264,10 @@ public class TaskTrashCmdImpl extends CommCmd<TaskTrash, Long> implements TaskTr
           if (isNotEmpty(taskIds)) {
             backAllTask(taskIds);
           }
+
+          // Restored tasks are recounted on the next read
+          taskCounterCmd.invalidate0(allTrashes.stream().map(TaskTrash::getProjectId)
+              .collect(Collectors.toSet()));
         }
         // No activity
         return null;
@@ -300,6 +313,7 @@ public class TaskTrashCmdImpl extends CommCmd<TaskTrash, Long> implements TaskTr
 
       taskSprintCmd.delete0(sprintIds);
       taskSprintAuthRepo.deleteBySprintIdIn(sprintIds);
+      authDecisionCache.evict(TASK_SPRINT, sprintIds);
       taskTrashRepo.deleteByTargetIdIn(sprintIds);
     }
 
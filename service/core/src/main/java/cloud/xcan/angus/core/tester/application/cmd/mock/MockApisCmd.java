@@ -46,6 +46,8 @@ public interface MockApisCmd {
 
   void counterUpdate(Map<Long, Counter> hasValueApisCounter);
 
+  void counterUpdate0(Map<Long, Counter> apisCounters);
+
   void addMockApisResponses(MockApis mockApis, Apis apisDb, Long mockServiceId);
 
   void addImportedMockApisAndResponses(MockService mockServiceDb,
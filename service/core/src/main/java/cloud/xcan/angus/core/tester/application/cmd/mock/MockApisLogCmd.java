@@ -2,12 +2,17 @@ package cloud.xcan.angus.core.tester.application.cmd.mock;
 
 import cloud.xcan.angus.core.tester.domain.mock.apis.log.MockApisLog;
 import cloud.xcan.angus.spec.experimental.IdKey;
+import java.util.List;
 
 /**
  * @author XiaoLong Liu
  */
 public interface MockApisLogCmd {
 
+  List<IdKey<Long, Object>> add(List<MockApisLog> logs);
+
   IdKey<Long, Object> add0(MockApisLog log);
 
+  void add0(List<MockApisLog> logs);
+
 }
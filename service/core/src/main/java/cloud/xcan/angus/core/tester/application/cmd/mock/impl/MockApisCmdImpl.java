@@ -34,6 +34,7 @@ import cloud.xcan.angus.core.tester.application.query.mock.MockServiceQuery;
 import cloud.xcan.angus.core.tester.domain.activity.ActivityType;
 import cloud.xcan.angus.core.tester.domain.apis.Apis;
 import cloud.xcan.angus.core.tester.domain.apis.ApisBaseInfo;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
 import cloud.xcan.angus.core.tester.domain.mock.apis.MockApis;
 import cloud.xcan.angus.core.tester.domain.mock.apis.MockApisRepo;
 import cloud.xcan.angus.core.tester.domain.mock.apis.MockApisSource;
@@ -41,12 +42,16 @@ import cloud.xcan.angus.core.tester.domain.mock.apis.response.MockApisResponse;
 import cloud.xcan.angus.core.tester.domain.mock.apis.response.MockApisResponseRepo;
 import cloud.xcan.angus.core.tester.domain.mock.service.MockService;
 import cloud.xcan.angus.core.tester.domain.mock.service.auth.MockServicePermission;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
+import cloud.xcan.angus.core.tester.infra.mock.MockApisIngestBuffer;
 import cloud.xcan.angus.core.tester.interfaces.mock.facade.dto.service.MockServiceApisSyncDto;
 import cloud.xcan.angus.core.utils.CoreUtils;
 import cloud.xcan.angus.model.element.mock.apis.MockResponse;
 import cloud.xcan.angus.model.remoting.dto.MockApisRequestCountDto.Counter;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import jakarta.annotation.Resource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -54,6 +59,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -72,6 +79,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class MockApisCmdImpl extends CommCmd<MockApis, Long> implements MockApisCmd {
 
+  private static final int COUNTER_UPDATE_BATCH_SIZE = 500;
+
   @Resource
   private MockApisRepo mockApisRepo;
   @Resource
@@ -94,6 +103,12 @@ public class MockApisCmdImpl extends CommCmd<MockApis, Long> implements MockApis
   private ActivityCmd activityCmd;
   @Resource
   private MockServiceManageCmd mockServiceManageCmd;
+  @Resource
+  private MockApisIngestBuffer mockApisIngestBuffer;
+  @Resource
+  private KanbanGrowthTrendCache kanbanGrowthTrendCache;
+  @PersistenceContext
+  private EntityManager entityManager;
 
   /**
    * Add a batch of mock APIs to a mock service.
@@ -155,7 +170,10 @@ public class MockApisCmdImpl extends CommCmd<MockApis, Long> implements MockApis
   @Override
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   public List<IdKey<Long, Object>> submitModify(List<MockApis> mockApis) {
-    return batchInsert(mockApis, "summary");
+    List<IdKey<Long, Object>> idKeys = batchInsert(mockApis, "summary");
+    kanbanGrowthTrendCache.evict(mockApis.stream().map(MockApis::getProjectId).toList(),
+        DataAssetsCategory.MOCK);
+    return idKeys;
   }
 
   @Override
@@ -172,6 +190,8 @@ public class MockApisCmdImpl extends CommCmd<MockApis, Long> implements MockApis
           mockApis.stream().map(MockApis::getAssocApisId).collect(Collectors.toSet()));
 
       batchInsert(mockApis);
+      kanbanGrowthTrendCache.evict(mockApis.stream().map(MockApis::getProjectId).toList(),
+          DataAssetsCategory.MOCK);
     }
   }
 
@@ -701,20 +721,56 @@ public class MockApisCmdImpl extends CommCmd<MockApis, Long> implements MockApis
     mockApisResponseRepo.deleteAllByMockApisIdIn(ids);
   }
 
+  /**
+   * Update request counters of mock APIs.
+   * <p>
+   * Counters are coalesced in the ingest buffer and written periodically, they are written
+   * immediately when buffering is disabled or the buffer is full.
+   */
   @Override
   public void counterUpdate(Map<Long, Counter> hasValueApisCounter) {
-    if (isNotEmpty(hasValueApisCounter)) {
-      for (Entry<Long, Counter> entry : hasValueApisCounter.entrySet()) {
-        //    long pushbackNum = counter.pushbackNum.longValue();
-        //    long simulateErrorNum = HttpStatus.resolve(log.getResponseStatus()).isError() ? 1 : 0;
-        //    long successNum = HttpStatus.resolve(log.getResponseStatus()).is2xxSuccessful() ? 1 : 0;
-        //    long exceptionNum = isNotEmpty(log.getExceptionMessage()) ? 1 : 0;
-        Counter counter = entry.getValue();
-        mockApisRepo.updateCountById(entry.getKey(), counter.requestNum0,
-            counter.pushbackNum0, counter.simulateErrorNum0,
-            counter.successNum0, counter.exceptionNum0);
-      }
+    if (isNotEmpty(hasValueApisCounter)
+        && !mockApisIngestBuffer.offerCounters(hasValueApisCounter)) {
+      mockApisCmd.counterUpdate0(hasValueApisCounter);
+    }
+  }
+
+  /**
+   * Add counter deltas of mock APIs with one UPDATE per {@code COUNTER_UPDATE_BATCH_SIZE} APIs.
+   */
+  @Transactional(rollbackFor = Exception.class)
+  @Override
+  public void counterUpdate0(Map<Long, Counter> apisCounters) {
+    if (isEmpty(apisCounters)) {
+      return;
+    }
+    List<Entry<Long, Counter>> entries = new ArrayList<>(apisCounters.entrySet());
+    for (int i = 0; i < entries.size(); i += COUNTER_UPDATE_BATCH_SIZE) {
+      List<Entry<Long, Counter>> batch = entries.subList(i,
+          Math.min(i + COUNTER_UPDATE_BATCH_SIZE, entries.size()));
+      // Ids and counters are numbers, inlining them is safe and avoids parameter limits
+      StringJoiner ids = new StringJoiner(",");
+      batch.forEach(x -> ids.add(String.valueOf(x.getKey())));
+      String sql = "UPDATE mock_apis SET "
+          + "request_num = request_num + " + counterCase(batch, x -> x.requestNum0) + ", "
+          + "pushback_num = pushback_num + " + counterCase(batch, x -> x.pushbackNum0) + ", "
+          + "simulate_error_num = simulate_error_num + "
+          + counterCase(batch, x -> x.simulateErrorNum0) + ", "
+          + "success_num = success_num + " + counterCase(batch, x -> x.successNum0) + ", "
+          + "exception_num = exception_num + " + counterCase(batch, x -> x.exceptionNum0)
+          + " WHERE id IN (" + ids + ")";
+      entityManager.createNativeQuery(sql).executeUpdate();
+    }
+  }
+
+  private static String counterCase(List<Entry<Long, Counter>> batch,
+      ToLongFunction<Counter> counter) {
+    StringBuilder sql = new StringBuilder("CASE id");
+    for (Entry<Long, Counter> entry : batch) {
+      sql.append(" WHEN ").append(entry.getKey())
+          .append(" THEN ").append(counter.applyAsLong(entry.getValue()));
     }
+    return sql.append(" ELSE 0 END").toString();
   }
 
   /**
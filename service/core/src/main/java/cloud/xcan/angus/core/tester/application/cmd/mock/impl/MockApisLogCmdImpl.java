@@ -2,6 +2,9 @@ package cloud.xcan.angus.core.tester.application.cmd.mock.impl;
 
 
 import static cloud.xcan.angus.core.utils.PrincipalContextUtils.isOpenApi2p;
+import static cloud.xcan.angus.spec.principal.PrincipalContext.getTenantId;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
 
 import cloud.xcan.angus.core.biz.ProtocolAssert;
 import cloud.xcan.angus.core.biz.cmd.CommCmd;
@@ -10,15 +13,19 @@ import cloud.xcan.angus.core.tester.application.cmd.mock.MockApisCmd;
 import cloud.xcan.angus.core.tester.application.cmd.mock.MockApisLogCmd;
 import cloud.xcan.angus.core.tester.domain.mock.apis.log.MockApisLog;
 import cloud.xcan.angus.core.tester.domain.mock.apis.log.MockApisLogRepo;
+import cloud.xcan.angus.core.tester.infra.mock.MockApisIngestBuffer;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import jakarta.annotation.Resource;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Command implementation for mock API log management.
  * <p>
- * Provides methods for adding mock API logs.
+ * Provides methods for adding mock API logs, logs pushed in batches are buffered and written by
+ * multi-row inserts.
  * <p>
  * Ensures permission checks and repository access.
  */
@@ -28,7 +35,38 @@ public class MockApisLogCmdImpl extends CommCmd<MockApisLog, Long> implements Mo
   @Resource
   private MockApisLogRepo mockApisLogRepo;
   @Resource
+  private MockApisLogCmd mockApisLogCmd;
+  @Resource
   private MockApisCmd mockApisCmd;
+  @Resource
+  private MockApisIngestBuffer mockApisIngestBuffer;
+
+  /**
+   * Add mock API log entries pushed by mock service instances.
+   * <p>
+   * Ids and tenant are assigned immediately, the logs are written by the ingest buffer and written
+   * synchronously when the buffer is disabled or full.
+   */
+  @Override
+  public List<IdKey<Long, Object>> add(List<MockApisLog> logs) {
+    // Check the must be an open2p apis
+    ProtocolAssert.assertTrue(isOpenApi2p(), "Must by the /openapi2p apis call.");
+
+    if (isEmpty(logs)) {
+      return List.of();
+    }
+    Long tenantId = getTenantId();
+    LocalDateTime now = LocalDateTime.now();
+    for (MockApisLog log : logs) {
+      log.setId(uidGenerator.getUID()).setCreatedDate(now);
+      log.setTenantId(tenantId);
+    }
+    List<MockApisLog> rejectedLogs = mockApisIngestBuffer.offerLogs(logs);
+    if (isNotEmpty(rejectedLogs)) {
+      mockApisLogCmd.add0(rejectedLogs);
+    }
+    return logs.stream().map(x -> new IdKey<Long, Object>().setId(x.getId())).toList();
+  }
 
   /**
    * Add a mock API log entry.
@@ -46,6 +84,17 @@ public class MockApisLogCmdImpl extends CommCmd<MockApisLog, Long> implements Mo
     return insert(log);
   }
 
+  /**
+   * Insert mock API logs with assigned ids by multi-row inserts.
+   */
+  @Transactional(rollbackFor = Exception.class)
+  @Override
+  public void add0(List<MockApisLog> logs) {
+    if (isNotEmpty(logs)) {
+      batchInsert0(logs);
+    }
+  }
+
   /**
    * Get the repository for mock API logs.
    * <p>
@@ -18,10 +18,12 @@ import cloud.xcan.angus.core.tester.application.query.mock.MockApisQuery;
 import cloud.xcan.angus.core.tester.application.query.mock.MockApisResponseQuery;
 import cloud.xcan.angus.core.tester.application.query.mock.MockServiceAuthQuery;
 import cloud.xcan.angus.core.tester.application.query.mock.MockServiceQuery;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
 import cloud.xcan.angus.core.tester.domain.mock.apis.MockApis;
 import cloud.xcan.angus.core.tester.domain.mock.apis.response.MockApisResponse;
 import cloud.xcan.angus.core.tester.domain.mock.apis.response.MockApisResponseRepo;
 import cloud.xcan.angus.core.tester.domain.mock.service.MockService;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
 import cloud.xcan.angus.remote.message.ProtocolException;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import jakarta.annotation.Resource;
@@ -64,6 +66,8 @@ public class MockApisResponseCmdImpl extends CommCmd<MockApisResponse, Long> imp
   private MockServiceAuthQuery mockServiceAuthQuery;
   @Resource
   private CommonQuery commonQuery;
+  @Resource
+  private KanbanGrowthTrendCache kanbanGrowthTrendCache;
 
   /**
    * Add a batch of mock API responses for a given API.
@@ -123,9 +127,11 @@ public class MockApisResponseCmdImpl extends CommCmd<MockApisResponse, Long> imp
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   public List<IdKey<Long, Object>> submitModify(MockApis apisDb,
       List<MockApisResponse> apisResponses) {
-    return batchInsert(apisResponses.stream()
+    List<IdKey<Long, Object>> idKeys = batchInsert(apisResponses.stream()
         .map(o -> o.setProjectId(apisDb.getProjectId()).setMockServiceId(apisDb.getMockServiceId()))
         .toList(), "mockApisId");
+    kanbanGrowthTrendCache.evict(apisDb.getProjectId(), DataAssetsCategory.MOCK);
+    return idKeys;
   }
 
   /**
@@ -145,6 +151,8 @@ public class MockApisResponseCmdImpl extends CommCmd<MockApisResponse, Long> imp
           apisResponses.stream().map(MockApisResponse::getMockApisId).collect(Collectors.toSet()));
 
       batchInsert(apisResponses);
+      kanbanGrowthTrendCache.evict(apisResponses.stream().map(MockApisResponse::getProjectId)
+          .toList(), DataAssetsCategory.MOCK);
     }
   }
 
@@ -236,6 +244,7 @@ public class MockApisResponseCmdImpl extends CommCmd<MockApisResponse, Long> imp
       // Check the name cannot be duplicated
       mockApisResponseQuery.checkAddResponseNameExists(addMockApisResponses);
       batchInsert0(addMockApisResponses);
+      kanbanGrowthTrendCache.evict(apisDb.getProjectId(), DataAssetsCategory.MOCK);
     }
   }
 
@@ -23,6 +23,7 @@ import cloud.xcan.angus.core.tester.domain.mock.service.MockServiceInfo;
 import cloud.xcan.angus.core.tester.domain.mock.service.MockServiceRepo;
 import cloud.xcan.angus.core.tester.domain.mock.service.auth.MockServiceAuth;
 import cloud.xcan.angus.core.tester.domain.mock.service.auth.MockServiceAuthRepo;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import jakarta.annotation.Resource;
 import java.util.ArrayList;
@@ -57,6 +58,8 @@ public class MockServiceAuthCmdImpl extends CommCmd<MockServiceAuth, Long> imple
   private CommonQuery commonQuery;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * Add a new authorization for a mock service.
@@ -98,6 +101,7 @@ public class MockServiceAuthCmdImpl extends CommCmd<MockServiceAuth, Long> imple
         if (!auth.isCreatorAuth()) {
           activityCmd.add(toActivity(MOCK_SERVICE, serviceDb, ActivityType.AUTH, authObjectName));
         }
+        authDecisionCache.evict(MOCK_SERVICE, auth.getMockServiceId());
         return insert(auth, "authObjectId");
       }
     }.execute();
@@ -139,6 +143,7 @@ public class MockServiceAuthCmdImpl extends CommCmd<MockServiceAuth, Long> imple
         // Replace authorization
         authDb.setAuths(serviceAuth.getAuths());
         mockServiceAuthRepo.save(authDb);
+        authDecisionCache.evict(MOCK_SERVICE, authDb.getMockServiceId());
 
         // Add modification permission activity
         if (!authDb.isCreatorAuth()) {
@@ -173,6 +178,7 @@ public class MockServiceAuthCmdImpl extends CommCmd<MockServiceAuth, Long> imple
       @Override
       protected Void process() {
         mockServiceRepo.updateAuthById(serviceId, enabled);
+        authDecisionCache.evict(MOCK_SERVICE, serviceId);
 
         // Enable permission control activity
         activityCmd.add(toActivity(MOCK_SERVICE, serviceDb,
@@ -227,6 +233,7 @@ public class MockServiceAuthCmdImpl extends CommCmd<MockServiceAuth, Long> imple
 
         // Delete service permission
         mockServiceAuthRepo.deleteById(id);
+        authDecisionCache.evict(MOCK_SERVICE, authDb.getMockServiceId());
         return null;
       }
     }.execute();
@@ -242,6 +249,7 @@ public class MockServiceAuthCmdImpl extends CommCmd<MockServiceAuth, Long> imple
     List<MockServiceAuth> serviceAuths = new ArrayList<>();
     serviceIds.forEach(id -> serviceAuths.add(toMockServiceAuth(uidGenerator.getUID(), id)));
     batchInsert(serviceAuths, "authObjectId");
+    authDecisionCache.evict(MOCK_SERVICE, serviceIds);
   }
 
   /**
@@ -67,6 +67,7 @@ import cloud.xcan.angus.core.tester.domain.activity.ActivityType;
 import cloud.xcan.angus.core.tester.domain.apis.Apis;
 import cloud.xcan.angus.core.tester.domain.config.node.Node;
 import cloud.xcan.angus.core.tester.domain.config.node.domain.NodeDomain;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
 import cloud.xcan.angus.core.tester.domain.mock.apis.MockApis;
 import cloud.xcan.angus.core.tester.domain.mock.apis.MockApisRepo;
 import cloud.xcan.angus.core.tester.domain.mock.apis.log.MockApisLogRepo;
@@ -78,6 +79,7 @@ import cloud.xcan.angus.core.tester.domain.mock.service.MockServiceRepo;
 import cloud.xcan.angus.core.tester.domain.mock.service.auth.MockServicePermission;
 import cloud.xcan.angus.core.tester.domain.services.Services;
 import cloud.xcan.angus.core.tester.domain.services.schema.SchemaFormat;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils.BIDKey;
 import cloud.xcan.angus.core.tester.interfaces.mock.facade.dto.service.MockServiceApisSyncDto;
@@ -173,6 +175,8 @@ public class MockServiceCmdImpl extends CommCmd<MockService, Long> implements Mo
   private ProjectMemberQuery projectMemberQuery;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private KanbanGrowthTrendCache kanbanGrowthTrendCache;
   @Value("${xcan.mockService.domainSuffix:mock.com}")
   private String mockServiceDomainSuffix;
   @Value("${xcan.mockService.testerApisUrlPrefix}")
@@ -233,6 +237,7 @@ public class MockServiceCmdImpl extends CommCmd<MockService, Long> implements Mo
         service.setId(BIDUtils.getId(BIDKey.mockServiceId));
         service.setNodeIp(nodeDb.getIp());
         IdKey<Long, Object> idKey = insert(service);
+        kanbanGrowthTrendCache.evict(service.getProjectId(), DataAssetsCategory.MOCK);
 
         // Generate/openapi2p tokens, with only one generated per tenant -> Noop: Use node access_token to start mock service by agent
 
@@ -748,6 +753,7 @@ public class MockServiceCmdImpl extends CommCmd<MockService, Long> implements Mo
         service.setNodeIp(isNotEmpty(mockNodes) ? mockNodes.get(0).getIp() : "[MockNodeNotFound]");
         service.setServicePort(RandomUtils.nextInt(10000, 20000));
         IdKey<Long, Object> idKey = insert(service);
+        kanbanGrowthTrendCache.evict(service.getProjectId(), DataAssetsCategory.MOCK);
 
         // Set the default permission to creator
         mockServiceAuthCmd.addCreatorAuth(singleton(idKey.getId()));
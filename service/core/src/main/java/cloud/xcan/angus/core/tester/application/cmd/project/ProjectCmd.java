@@ -32,4 +32,6 @@ public interface ProjectCmd {
 
   void delete(Long id);
 
+  void deleteImported0(Long id);
+
 }
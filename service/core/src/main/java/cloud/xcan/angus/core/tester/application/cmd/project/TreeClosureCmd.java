@@ -0,0 +1,21 @@
+package cloud.xcan.angus.core.tester.application.cmd.project;
+
+import cloud.xcan.angus.api.commonlink.CombinedTargetType;
+import java.util.Collection;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+public interface TreeClosureCmd {
+
+  void rebuild(Long projectId);
+
+  void add0(CombinedTargetType type, Long projectId, Map<Long, Long> parentIds);
+
+  void move0(CombinedTargetType type, Long projectId, Collection<Long> ids,
+      @Nullable Long parentId);
+
+  void delete0(CombinedTargetType type, Collection<Long> ids);
+
+  void rebuild0(CombinedTargetType type, Long projectId);
+
+}
@@ -9,6 +9,7 @@ import static cloud.xcan.angus.core.tester.domain.activity.ActivityType.DELETED;
 import static cloud.xcan.angus.core.tester.domain.activity.ActivityType.UPDATED;
 import static cloud.xcan.angus.core.tester.infra.util.AngusTesterUtils.parseSample;
 import static cloud.xcan.angus.core.utils.CoreUtils.batchCopyPropertiesIgnoreNull;
+import static cloud.xcan.angus.spec.experimental.BizConstant.DEFAULT_ROOT_PID;
 import static cloud.xcan.angus.spec.principal.PrincipalContext.getDefaultLanguage;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
 import static java.util.Objects.isNull;
@@ -21,6 +22,7 @@ import cloud.xcan.angus.core.biz.cmd.CommCmd;
 import cloud.xcan.angus.core.jpa.repository.BaseRepository;
 import cloud.xcan.angus.core.tester.application.cmd.activity.ActivityCmd;
 import cloud.xcan.angus.core.tester.application.cmd.project.ModuleCmd;
+import cloud.xcan.angus.core.tester.application.cmd.project.TreeClosureCmd;
 import cloud.xcan.angus.core.tester.application.converter.ModuleConverter;
 import cloud.xcan.angus.core.tester.application.query.project.ModuleQuery;
 import cloud.xcan.angus.core.tester.application.query.project.ProjectQuery;
@@ -35,6 +37,7 @@ import jakarta.annotation.Resource;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -63,6 +66,9 @@ public class ModuleCmdImpl extends CommCmd<Module, Long> implements ModuleCmd {
   @Resource
   private ActivityCmd activityCmd;
 
+  @Resource
+  private TreeClosureCmd treeClosureCmd;
+
   @Transactional(rollbackFor = Exception.class)
   @Override
   public List<IdKey<Long, Object>> add(Long projectId, List<Module> modules) {
@@ -91,6 +97,7 @@ public class ModuleCmdImpl extends CommCmd<Module, Long> implements ModuleCmd {
       @Override
       protected List<IdKey<Long, Object>> process() {
         List<IdKey<Long, Object>> idKeys = batchInsert(modules, "name");
+        treeClosureCmd.add0(MODULE, projectId, toParentIds(modules));
 
         activityCmd.addAll(toActivities(MODULE, modules, CREATED, activityParams(modules)));
         return idKeys;
@@ -103,6 +110,7 @@ public class ModuleCmdImpl extends CommCmd<Module, Long> implements ModuleCmd {
   public void update(List<Module> modules) {
     new BizTemplate<Void>() {
       List<Module> modulesDb;
+      Long projectId;
 
       @Override
       protected void checkParams() {
@@ -114,7 +122,7 @@ public class ModuleCmdImpl extends CommCmd<Module, Long> implements ModuleCmd {
             .collect(Collectors.toSet());
         ProtocolAssert.assertTrue(projectIds.size() == 1,
             "Only batch adding modules with one project is allowed");
-        Long projectId = projectIds.iterator().next();
+        projectId = projectIds.iterator().next();
 
         // Check the edit permission
         Project projectDb = projectQuery.checkAndFind(projectId);
@@ -135,7 +143,18 @@ public class ModuleCmdImpl extends CommCmd<Module, Long> implements ModuleCmd {
 
       @Override
       protected Void process() {
+        // Modules moved under new parents, grouped by the new parent
+        Map<Long, Module> modulesDbMap = modulesDb.stream()
+            .collect(Collectors.toMap(Module::getId, x -> x));
+        Map<Long, List<Long>> movedModuleIds = modules.stream()
+            .filter(x -> nonNull(x.getPid())
+                && !x.getPid().equals(modulesDbMap.get(x.getId()).getPid()))
+            .collect(Collectors.groupingBy(Module::getPid,
+                Collectors.mapping(Module::getId, Collectors.toList())));
+
         batchUpdate0(batchCopyPropertiesIgnoreNull(modules, modulesDb));
+        movedModuleIds.forEach((pid, ids) -> treeClosureCmd.move0(MODULE, projectId, ids,
+            pid.equals(DEFAULT_ROOT_PID) ? null : pid));
 
         activityCmd.addAll(toActivities(MODULE, modulesDb, UPDATED));
         return null;
@@ -197,6 +216,8 @@ public class ModuleCmdImpl extends CommCmd<Module, Long> implements ModuleCmd {
           moduleRepo.batchUpdate(updateModulesDb.stream()
               .map(x -> ModuleConverter.setReplaceInfo(x, updateModulesMap.get(x.getId())))
               .toList());
+          // Parents of the replaced modules may change
+          treeClosureCmd.rebuild0(MODULE, projectId);
 
           activityCmd.addAll(toActivities(MODULE, updateModulesDb, UPDATED));
         }
@@ -225,7 +246,9 @@ public class ModuleCmdImpl extends CommCmd<Module, Long> implements ModuleCmd {
         for (Module module : modules) {
           module.setProjectId(projectId);
         }
-        return batchInsert(modules, "name");
+        List<IdKey<Long, Object>> idKeys = batchInsert(modules, "name");
+        treeClosureCmd.add0(MODULE, projectId, toParentIds(modules));
+        return idKeys;
       }
     }.execute();
   }
@@ -260,6 +283,7 @@ public class ModuleCmdImpl extends CommCmd<Module, Long> implements ModuleCmd {
 
         // Delete modules
         moduleRepo.deleteByIdIn(moduleAndSubIds);
+        treeClosureCmd.delete0(MODULE, moduleAndSubIds);
 
         // Clear case module
         funcCaseRepo.updateModuleNull(moduleAndSubIds);
@@ -273,11 +297,23 @@ public class ModuleCmdImpl extends CommCmd<Module, Long> implements ModuleCmd {
     }.execute();
   }
 
+  /**
+   * Note: The modules are not indexed in the tree closure, the importer rebuilds the index after
+   * all modules are added.
+   */
   @Override
   public void add0(List<Module> modules) {
     batchInsert(modules);
   }
 
+  private static Map<Long, Long> toParentIds(List<Module> modules) {
+    Map<Long, Long> parentIds = new LinkedHashMap<>();
+    for (Module module : modules) {
+      parentIds.put(module.getId(), module.hasParent() ? module.getPid() : null);
+    }
+    return parentIds;
+  }
+
   @Override
   protected BaseRepository<Module, Long> getRepository() {
     return this.moduleRepo;
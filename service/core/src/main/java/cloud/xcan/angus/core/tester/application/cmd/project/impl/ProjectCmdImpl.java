@@ -57,6 +57,7 @@ import cloud.xcan.angus.core.tester.application.cmd.project.ProjectCmd;
 import cloud.xcan.angus.core.tester.application.cmd.project.ProjectMemberCmd;
 import cloud.xcan.angus.core.tester.application.cmd.project.ProjectTrashCmd;
 import cloud.xcan.angus.core.tester.application.cmd.project.TagCmd;
+import cloud.xcan.angus.core.tester.application.cmd.project.TreeClosureCmd;
 import cloud.xcan.angus.core.tester.application.cmd.scenario.ScenarioCmd;
 import cloud.xcan.angus.core.tester.application.cmd.script.ScriptCmd;
 import cloud.xcan.angus.core.tester.application.cmd.services.ServicesCmd;
@@ -81,6 +82,7 @@ import cloud.xcan.angus.core.tester.domain.data.variables.Variable;
 import cloud.xcan.angus.core.tester.domain.issue.Task;
 import cloud.xcan.angus.core.tester.domain.mock.service.MockService;
 import cloud.xcan.angus.core.tester.domain.project.Project;
+import cloud.xcan.angus.core.tester.domain.project.ProjectImportProgress;
 import cloud.xcan.angus.core.tester.domain.project.ProjectDataType;
 import cloud.xcan.angus.core.tester.domain.project.ProjectRepo;
 import cloud.xcan.angus.core.tester.domain.project.ProjectType;
@@ -91,6 +93,7 @@ import cloud.xcan.angus.core.tester.domain.script.Script;
 import cloud.xcan.angus.core.tester.domain.services.Services;
 import cloud.xcan.angus.core.tester.domain.test.cases.FuncCase;
 import cloud.xcan.angus.core.tester.domain.test.plan.FuncPlan;
+import cloud.xcan.angus.core.tester.infra.project.cache.ProjectImportProgressCache;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils.BIDKey;
 import cloud.xcan.angus.core.tester.infra.util.ProjectExportFileUtils;
@@ -106,6 +109,8 @@ import cloud.xcan.angus.spec.utils.FileUtils;
 import cloud.xcan.angus.spec.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import jakarta.annotation.Resource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.io.File;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
@@ -117,10 +122,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.domain.Page;
@@ -145,6 +152,69 @@ import org.springframework.web.multipart.MultipartFile;
 @Service
 public class ProjectCmdImpl extends CommCmd<Project, Long> implements ProjectCmd {
 
+  /**
+   * Number of elements of archive entries inserted in a batch when importing project.
+   */
+  private static final int IMPORT_BATCH_SIZE = 200;
+
+  /**
+   * Business data types imported from project archives.
+   */
+  private static final Set<ExampleDataType> IMPORTED_DATA_TYPES = Set.of(ExampleDataType.TAG,
+      ExampleDataType.MODULE, ExampleDataType.TASK, ExampleDataType.FUNC_PLAN,
+      ExampleDataType.FUNC_CASE, ExampleDataType.SERVICES, ExampleDataType.SCENARIO,
+      ExampleDataType.SCRIPT, ExampleDataType.VARIABLE, ExampleDataType.DATASET,
+      ExampleDataType.MOCK);
+
+  /**
+   * Deletes of the data written by a project import, associations are deleted before the rows
+   * they are selected by.
+   */
+  private static final List<String> IMPORTED_DATA_DELETES = List.of(
+      "DELETE FROM tag_target WHERE tag_id IN (SELECT id FROM tag WHERE project_id = ?1)",
+      "DELETE FROM task_assignee WHERE task_id IN (SELECT id FROM task WHERE project_id = ?1)",
+      "DELETE FROM task_confirmer WHERE task_id IN (SELECT id FROM task WHERE project_id = ?1)",
+      "DELETE FROM task_remark WHERE task_id IN (SELECT id FROM task WHERE project_id = ?1)",
+      "DELETE FROM task_func_case WHERE target_id IN (SELECT id FROM task WHERE project_id = ?1)"
+          + " OR target_id IN (SELECT id FROM func_case WHERE project_id = ?1)",
+      "DELETE FROM func_plan_auth WHERE plan_id IN "
+          + "(SELECT id FROM func_plan WHERE project_id = ?1)",
+      "DELETE FROM services_auth WHERE service_id IN "
+          + "(SELECT id FROM services WHERE project_id = ?1)",
+      "DELETE FROM services_comp WHERE service_id IN "
+          + "(SELECT id FROM services WHERE project_id = ?1)",
+      "DELETE FROM services_sync WHERE service_id IN "
+          + "(SELECT id FROM services WHERE project_id = ?1)",
+      "DELETE FROM apis_auth WHERE apis_id IN (SELECT id FROM apis WHERE project_id = ?1)",
+      "DELETE FROM scenario_auth WHERE scenario_id IN "
+          + "(SELECT id FROM scenario WHERE project_id = ?1)",
+      "DELETE FROM script_auth WHERE script_id IN (SELECT id FROM script WHERE project_id = ?1)",
+      "DELETE FROM script_tag WHERE script_id IN (SELECT id FROM script WHERE project_id = ?1)",
+      "DELETE FROM mock_service_auth WHERE mock_service_id IN "
+          + "(SELECT id FROM mock_service WHERE project_id = ?1)",
+      "DELETE FROM tag WHERE project_id = ?1",
+      "DELETE FROM module WHERE project_id = ?1",
+      "DELETE FROM task WHERE project_id = ?1",
+      "DELETE FROM task_counter WHERE project_id = ?1",
+      "DELETE FROM func_plan WHERE project_id = ?1",
+      "DELETE FROM func_case WHERE project_id = ?1",
+      "DELETE FROM services_schema WHERE project_id = ?1",
+      "DELETE FROM apis WHERE project_id = ?1",
+      "DELETE FROM services WHERE project_id = ?1",
+      "DELETE FROM scenario WHERE project_id = ?1",
+      "DELETE FROM script WHERE project_id = ?1",
+      "DELETE FROM data_variable_target WHERE project_id = ?1",
+      "DELETE FROM data_variable WHERE project_id = ?1",
+      "DELETE FROM data_dataset_target WHERE project_id = ?1",
+      "DELETE FROM data_dataset WHERE project_id = ?1",
+      "DELETE FROM mock_apis_response WHERE project_id = ?1",
+      "DELETE FROM mock_apis WHERE project_id = ?1",
+      "DELETE FROM mock_service WHERE project_id = ?1",
+      "DELETE FROM tree_closure WHERE project_id = ?1",
+      "DELETE FROM activity WHERE project_id = ?1",
+      "DELETE FROM project_members WHERE project_id = ?1",
+      "DELETE FROM project WHERE id = ?1");
+
   @Resource
   private ProjectRepo projectRepo;
   @Resource
@@ -162,6 +232,8 @@ public class ProjectCmdImpl extends CommCmd<Project, Long> implements ProjectCmd
   @Resource
   private TaskCmd taskCmd;
   @Resource
+  private TreeClosureCmd treeClosureCmd;
+  @Resource
   private FuncPlanCmd funcPlanCmd;
   @Resource
   private FuncCaseCmd funcCaseCmd;
@@ -207,6 +279,10 @@ public class ProjectCmdImpl extends CommCmd<Project, Long> implements ProjectCmd
   private FuncPlanQuery funcPlanQuery;
   @Resource
   private FileRemote fileRemote;
+  @Resource
+  private ProjectImportProgressCache projectImportProgressCache;
+  @PersistenceContext
+  private EntityManager entityManager;
 
   /**
    * Adds a new project to the system.
@@ -524,6 +600,21 @@ public class ProjectCmdImpl extends CommCmd<Project, Long> implements ProjectCmd
     }.execute();
   }
 
+  /**
+   * Physically deletes a partially imported project and the data imported into it.
+   * <p>
+   * Note: The project and its members are committed before the data is imported, so the project
+   * may be visible to its members during the import. Its data is incomplete and only deleted when
+   * the import fails, so it is not moved to trash and no deletion activity is logged.
+   */
+  @Transactional(rollbackFor = Exception.class)
+  @Override
+  public void deleteImported0(Long id) {
+    for (String delete : IMPORTED_DATA_DELETES) {
+      entityManager.createNativeQuery(delete).setParameter(1, id).executeUpdate();
+    }
+  }
+
   /**
    * Imports example data for a project based on specified data types.
    * <p>
@@ -626,14 +717,17 @@ public class ProjectCmdImpl extends CommCmd<Project, Long> implements ProjectCmd
   /**
    * Imports project data from ZIP or TAR archive file.
    * <p>
-   * Extracts archive file, classifies files by business type, and imports project and related
-   * business data (tags, modules, tasks, cases, services, scenarios, scripts, variables, datasets,
-   * mocks, executions).
+   * Classifies archive entries by business type, and imports project and related business data
+   * (tags, modules, tasks, cases, services, scenarios, scripts, variables, datasets, mocks,
+   * executions). Entries are read from the archive as streams without extracting it.
    * <p>
    * Supports JSON format for business data and YAML format for scripts. Scripts support multiple
    * files, while other business types import only the first matching file.
+   * <p>
+   * Note: Business data is inserted in batches committed separately instead of one transaction of
+   * the whole archive, the data of the partially imported project is deleted when the import
+   * fails. The progress is saved after each batch, see {@link ProjectQuery#latestImportProgress()}.
    */
-  @Transactional(rollbackFor = Exception.class)
   @Override
   public IdKey<Long, Object> imports(ProjectType projectType, ProjectDataType dataType,
       String name, MultipartFile file) {
@@ -685,34 +779,54 @@ public class ProjectCmdImpl extends CommCmd<Project, Long> implements ProjectCmd
           // Transfer uploaded file to temporary location
           file.transferTo(importFile);
 
-          // Extract archive files
-          List<File> extractedFiles = ProjectImportFileUtils.extractArchiveFiles(tmpPath,
-              importFile);
+          // List archive entries
+          List<String> entryNames = ProjectImportFileUtils.listArchiveEntries(importFile);
 
-          // Find project file
-          File projectFile = ProjectImportFileUtils.findProjectFile(extractedFiles);
-          assertNotEmpty(projectFile, "未找到项目信息文件（文件名需包含'项目'或'project'）");
+          // Find project entry
+          String projectEntry = ProjectImportFileUtils.findProjectEntry(entryNames);
+          assertNotEmpty(projectEntry, "未找到项目信息文件（文件名需包含'项目'或'project'）");
 
           // Parse project from JSON
-          String projectJson = FileUtils.readFileToString(projectFile, StandardCharsets.UTF_8);
-          Project project = JsonUtils.convert(projectJson, new TypeReference<Project>() {
-          });
+          Project[] projects = new Project[1];
+          ProjectImportFileUtils.readArchiveEntry(importFile, projectEntry,
+              in -> projects[0] = JsonUtils.JSON.readValue(in, Project.class));
+          Project project = projects[0];
 
           // Set project properties
           assembleProjectInfo(project);
           // Create project
           IdKey<Long, Object> idKey = projectCmd.add0(project);
 
-          // Classify files by business type
-          Map<ExampleDataType, List<File>> classifiedFiles
-              = ProjectImportFileUtils.classifyFilesByType(extractedFiles);
-
-          // Import business data based on file classification
-          importBusinessData(idKey.getId(), classifiedFiles);
+          // Classify entries by business type
+          Map<ExampleDataType, List<String>> classifiedEntries
+              = ProjectImportFileUtils.classifyEntriesByType(entryNames);
+          ProjectImportProgress progress = new ProjectImportProgress()
+              .setProjectId(idKey.getId()).setProjectName(project.getName())
+              .setTotalEntries(classifiedEntries.entrySet().stream()
+                  .filter(x -> IMPORTED_DATA_TYPES.contains(x.getKey()))
+                  .mapToInt(x -> x.getValue().size()).sum());
+          projectImportProgressCache.put(progress);
+
+          // Import business data based on entry classification
+          try {
+            importBusinessData(idKey.getId(), importFile, classifiedEntries, progress);
+          } catch (Exception e) {
+            // Imported batches are already committed, delete the incomplete project
+            log.error("Failed to import project data, projectId: {}", idKey.getId(), e);
+            try {
+              projectCmd.deleteImported0(idKey.getId());
+            } catch (Exception deleteException) {
+              e.addSuppressed(deleteException);
+            }
+            projectImportProgressCache.put(progress.setFinish(true)
+                .setFailure(nullSafe(e.getMessage(), e.getClass().getSimpleName())));
+            throw e;
+          }
 
           // Log project creation activity for audit
           activityCmd.add(toActivity(PROJECT, project, ActivityType.CREATED));
 
+          projectImportProgressCache.put(progress.setCurrentEntry(null).setFinish(true));
           return idKey;
         } finally {
           // Clean up temporary files
@@ -738,189 +852,197 @@ public class ProjectCmdImpl extends CommCmd<Project, Long> implements ProjectCmd
   }
 
   /**
-   * Imports business data from classified files.
+   * Imports business data from classified archive entries.
+   * <p>
+   * JSON arrays of tags, modules, tasks, cases, scenarios and mocks are read element by element
+   * and inserted every {@link #IMPORT_BATCH_SIZE} elements. Services, scripts, variables and
+   * datasets are parsed by their importers from the whole entry content.
    */
   @SneakyThrows
-  private void importBusinessData(Long projectId,
-      Map<ExampleDataType, List<File>> classifiedFiles) {
-    Long idSalt = Long.valueOf(RandomStringUtils.randomNumeric(6));
+  private void importBusinessData(Long projectId, File importFile,
+      Map<ExampleDataType, List<String>> classifiedEntries, ProjectImportProgress progress) {
+    // Salts keep the parent ids in the archive pointing to the imported parents
+    Long moduleIdSalt = Long.valueOf(RandomStringUtils.randomNumeric(6));
+    Long taskIdSalt = Long.valueOf(RandomStringUtils.randomNumeric(12));
+    Long planIdSalt = Long.valueOf(RandomStringUtils.randomNumeric(6));
+    Long caseIdSalt = Long.valueOf(RandomStringUtils.randomNumeric(12));
+    Long scenarioIdSalt = Long.valueOf(RandomStringUtils.randomNumeric(6));
 
     // Import tags
-    if (classifiedFiles.containsKey(ExampleDataType.TAG)) {
-      File tagFile = classifiedFiles.get(ExampleDataType.TAG).get(0);
-      String tagJson = FileUtils.readFileToString(tagFile, StandardCharsets.UTF_8);
-      List<Tag> tags = JsonUtils.convert(tagJson, new TypeReference<List<Tag>>() {
-      });
-      Set<String> tagNames = tags.stream().map(Tag::getName).collect(Collectors.toSet());
+    if (classifiedEntries.containsKey(ExampleDataType.TAG)) {
+      Set<String> tagNames = new LinkedHashSet<>();
+      readEntryArray(progress, importFile, classifiedEntries.get(ExampleDataType.TAG).get(0),
+          Tag.class, tags -> tags.forEach(tag -> tagNames.add(tag.getName())));
       tagCmd.add(projectId, tagNames);
     }
 
     // Import modules
-    if (classifiedFiles.containsKey(ExampleDataType.MODULE)) {
-      File moduleFile = classifiedFiles.get(ExampleDataType.MODULE).get(0);
-      String moduleJson = FileUtils.readFileToString(moduleFile, StandardCharsets.UTF_8);
-      List<Module> modules = JsonUtils.convert(moduleJson, new TypeReference<List<Module>>() {
-      });
-      for (Module module : modules) {
-        // Maintain the tree structure of IDs
-        module.setId(module.getId() + idSalt);
-        module.setPid(nonNull(module.getPid()) && module.getPid() != -1L
-            ? module.getPid() + idSalt : -1L);
-        module.setProjectId(projectId);
-        // Reset audit fields to null
-        module.setTenantId(null);
-        module.setCreatedBy(null);
-        module.setCreatedDate(null);
-        module.setModifiedBy(null);
-        module.setModifiedDate(null);
-      }
-      moduleCmd.add0(modules);
+    if (classifiedEntries.containsKey(ExampleDataType.MODULE)) {
+      readEntryArray(progress, importFile, classifiedEntries.get(ExampleDataType.MODULE).get(0),
+          Module.class, modules -> {
+            for (Module module : modules) {
+              // Maintain the tree structure of IDs
+              module.setId(module.getId() + moduleIdSalt);
+              module.setPid(nonNull(module.getPid()) && module.getPid() != -1L
+                  ? module.getPid() + moduleIdSalt : -1L);
+              module.setProjectId(projectId);
+              // Reset audit fields to null
+              module.setTenantId(null);
+              module.setCreatedBy(null);
+              module.setCreatedDate(null);
+              module.setModifiedBy(null);
+              module.setModifiedDate(null);
+            }
+            moduleCmd.add0(modules);
+          });
+      // Index the module tree at once, parents may be imported after their children
+      treeClosureCmd.rebuild0(MODULE, projectId);
     }
 
     // Import tasks
-    if (classifiedFiles.containsKey(ExampleDataType.TASK)) {
-      File taskFile = classifiedFiles.get(ExampleDataType.TASK).get(0);
-      String taskJson = FileUtils.readFileToString(taskFile, StandardCharsets.UTF_8);
-      List<Task> tasks = JsonUtils.convert(taskJson, new TypeReference<List<Task>>() {
-      });
-      for (Task task : tasks) {
-        task.setProjectId(projectId);
-        // Clear ID to create new task
-        // Maintain the tree structure of IDs
-        idSalt = Long.valueOf(RandomStringUtils.randomNumeric(12));
-        task.setId(task.getId() + idSalt);
-        task.setParentTaskId(nonNull(task.getParentTaskId()) && task.getParentTaskId() != -1L
-            ? task.getParentTaskId() + idSalt : -1L);
-        task.setCode(getTaskCode());
-        task.setSprintId(null);
-        task.setBacklog(nullSafe(task.getBacklog(), false));
-        // Reset audit fields to null
-        task.setTenantId(null);
-        task.setCreatedBy(null);
-        task.setCreatedDate(null);
-        task.setModifiedBy(null);
-        task.setModifiedDate(null);
-        // Reset count fields to 0
-        //        task.setFailNum(0);
-        //        task.setTotalNum(0);
-        taskCmd.add0(task);
-      }
+    if (classifiedEntries.containsKey(ExampleDataType.TASK)) {
+      readEntryArray(progress, importFile, classifiedEntries.get(ExampleDataType.TASK).get(0),
+          Task.class, tasks -> {
+            for (Task task : tasks) {
+              task.setProjectId(projectId);
+              // Maintain the tree structure of IDs
+              task.setId(task.getId() + taskIdSalt);
+              task.setParentTaskId(nonNull(task.getParentTaskId())
+                  && task.getParentTaskId() != -1L ? task.getParentTaskId() + taskIdSalt : -1L);
+              task.setCode(getTaskCode());
+              task.setSprintId(null);
+              task.setBacklog(nullSafe(task.getBacklog(), false));
+              // Reset audit fields to null
+              task.setTenantId(null);
+              task.setCreatedBy(null);
+              task.setCreatedDate(null);
+              task.setModifiedBy(null);
+              task.setModifiedDate(null);
+              // Reset count fields to 0
+              //        task.setFailNum(0);
+              //        task.setTotalNum(0);
+            }
+            taskCmd.add0(tasks);
+          });
+      treeClosureCmd.rebuild0(TASK, projectId);
     }
 
-    // Import functional test plans
-    List<FuncPlan> funcPlans = null;
-    if (classifiedFiles.containsKey(ExampleDataType.FUNC_PLAN)) {
-      File funcCaseFile = classifiedFiles.get(ExampleDataType.FUNC_PLAN).get(0);
-      String funcCaseJson = FileUtils.readFileToString(funcCaseFile, StandardCharsets.UTF_8);
-      funcPlans = JsonUtils.convert(funcCaseJson,
-          new TypeReference<List<FuncPlan>>() {
+    // Import functional test plans, plans are few and kept to link the cases
+    List<FuncPlan> funcPlans = new ArrayList<>();
+    if (classifiedEntries.containsKey(ExampleDataType.FUNC_PLAN)) {
+      readEntryArray(progress, importFile, classifiedEntries.get(ExampleDataType.FUNC_PLAN).get(0),
+          FuncPlan.class, plans -> {
+            for (FuncPlan funcPlan : plans) {
+              funcPlan.setProjectId(projectId);
+              // Clear ID to create new plan
+              funcPlan.setId(funcPlan.getId() + planIdSalt);
+              // Reset audit fields to null
+              funcPlan.setTenantId(null);
+              funcPlan.setCreatedBy(null);
+              funcPlan.setCreatedDate(null);
+              funcPlan.setModifiedBy(null);
+              funcPlan.setModifiedDate(null);
+            }
+            funcPlanCmd.add0(plans);
+            funcPlans.addAll(plans);
           });
-      for (FuncPlan funcPlan : funcPlans) {
-        funcPlan.setProjectId(projectId);
-        // Clear ID to create new case
-        funcPlan.setId(funcPlan.getId() + idSalt);
-        // Reset audit fields to null
-        funcPlan.setTenantId(null);
-        funcPlan.setCreatedBy(null);
-        funcPlan.setCreatedDate(null);
-        funcPlan.setModifiedBy(null);
-        funcPlan.setModifiedDate(null);
-      }
-      funcPlanCmd.add0(funcPlans);
     }
 
     // Import functional test cases
-    if (nonNull(funcPlans) && classifiedFiles.containsKey(ExampleDataType.FUNC_CASE)) {
-      File funcCaseFile = classifiedFiles.get(ExampleDataType.FUNC_CASE).get(0);
-      String funcCaseJson = FileUtils.readFileToString(funcCaseFile, StandardCharsets.UTF_8);
-      List<FuncCase> funcCases = JsonUtils.convert(funcCaseJson,
-          new TypeReference<List<FuncCase>>() {
+    if (isNotEmpty(funcPlans) && classifiedEntries.containsKey(ExampleDataType.FUNC_CASE)) {
+      readEntryArray(progress, importFile, classifiedEntries.get(ExampleDataType.FUNC_CASE).get(0),
+          FuncCase.class, funcCases -> {
+            for (FuncCase funcCase : funcCases) {
+              funcCase.setProjectId(projectId);
+              // Clear ID to create new case
+              funcCase.setId(funcCase.getId() + caseIdSalt);
+              funcCase.setPlanId(nonNull(funcCase.getPlanId()) && funcCase.getPlanId() != -1L
+                  ? funcCase.getPlanId() + planIdSalt : -1L);
+              funcCase.setCode(getCaseCode());
+              // Reset audit fields to null
+              funcCase.setTenantId(null);
+              funcCase.setCreatedBy(getUserId());
+              funcCase.setCreatedDate(LocalDateTime.now());
+              funcCase.setModifiedBy(null);
+              funcCase.setModifiedDate(null);
+              // Reset count fields to 0
+              //        funcCase.setReviewNum(0);
+              //        funcCase.setReviewFailNum(0);
+              //        funcCase.setTestNum(0);
+              //        funcCase.setTestFailNum(0);
+            }
+            funcCaseCmd.add0(funcCases, funcPlans);
           });
-      for (FuncCase funcCase : funcCases) {
-        funcCase.setProjectId(projectId);
-        // Clear ID to create new case
-        idSalt = Long.valueOf(RandomStringUtils.randomNumeric(12));
-        funcCase.setId(funcCase.getId() + idSalt);
-        funcCase.setPlanId(nonNull(funcCase.getPlanId()) && funcCase.getPlanId() != -1L
-            ? funcCase.getPlanId() + idSalt : -1L);
-        funcCase.setCode(getCaseCode());
-        // Reset audit fields to null
-        funcCase.setTenantId(null);
-        funcCase.setCreatedBy(getUserId());
-        funcCase.setCreatedDate(LocalDateTime.now());
-        funcCase.setModifiedBy(null);
-        funcCase.setModifiedDate(null);
-        // Reset count fields to 0
-        //        funcCase.setReviewNum(0);
-        //        funcCase.setReviewFailNum(0);
-        //        funcCase.setTestNum(0);
-        //        funcCase.setTestFailNum(0);
-      }
-      funcCaseCmd.add0(funcCases, funcPlans);
+    } else if (classifiedEntries.containsKey(ExampleDataType.FUNC_CASE)) {
+      // Cases without plans are skipped
+      finishEntry(progress);
     }
 
     // Import services
-    if (classifiedFiles.containsKey(ExampleDataType.SERVICES)) {
-      File serviceFile = classifiedFiles.get(ExampleDataType.SERVICES).get(0);
-      String serviceJson = FileUtils.readFileToString(serviceFile, StandardCharsets.UTF_8);
+    if (classifiedEntries.containsKey(ExampleDataType.SERVICES)) {
+      String serviceEntry = classifiedEntries.get(ExampleDataType.SERVICES).get(0);
+      String serviceFileName = ProjectImportFileUtils.getFileName(serviceEntry);
+      startEntry(progress, serviceEntry);
+      String serviceJson = readEntryString(importFile, serviceEntry);
       // Extract service name from filename (remove extension)
-      String serviceName = serviceFile.getName().replaceAll("\\.(json)$", "");
+      String serviceName = serviceFileName.replaceAll("\\.(json)$", "");
       // Services import requires file or content, use content parameter
       // Default to OPENAPI import source, can be adjusted based on file content if needed
       try {
         servicesCmd.imports(projectId, null, serviceName, ApiImportSource.OPENAPI,
             StrategyWhenDuplicated.IGNORE, false, null, serviceJson);
       } catch (Exception e) {
-        log.error("Failed to import service file: " + serviceFile.getName(), e);
+        log.error("Failed to import service file: " + serviceFileName, e);
         throw ProtocolException.of(
-            "导入服务文件失败: " + serviceFile.getName() + ", 原因: " + e.getMessage());
+            "导入服务文件失败: " + serviceFileName + ", 原因: " + e.getMessage());
       }
+      finishEntry(progress);
     }
 
     // Import scenarios
-    if (classifiedFiles.containsKey(ExampleDataType.SCENARIO)) {
-      File scenarioFile = classifiedFiles.get(ExampleDataType.SCENARIO).get(0);
-      String scenarioJson = FileUtils.readFileToString(scenarioFile, StandardCharsets.UTF_8);
-      List<Scenario> scenarios = JsonUtils.convert(scenarioJson,
-          new TypeReference<List<Scenario>>() {
+    if (classifiedEntries.containsKey(ExampleDataType.SCENARIO)) {
+      readEntryArray(progress, importFile, classifiedEntries.get(ExampleDataType.SCENARIO).get(0),
+          Scenario.class, scenarios -> {
+            for (Scenario scenario : scenarios) {
+              Script script = null;
+              if (isNotEmpty(scenario.getScriptContent())) {
+                script = new Script()
+                    .setId(null)
+                    .setProjectId(projectId)
+                    .setName(scenario.getName() + "_script")
+                    .setSource(ScriptSource.IMPORTED)
+                    .setAuth(false)
+                    .setContent(scenario.getScriptContent());
+                scriptCmd.imports(script);
+              }
+
+              scenario.setProjectId(projectId);
+              scenario.setScriptId(script != null ? script.getId() : null);
+              // Clear ID to create new scenario
+              scenario.setId(scenario.getId() + scenarioIdSalt)
+                  .setTestFunc(false)
+                  .setTestPerf(false)
+                  .setTestStability(false);
+              // Reset audit fields to null
+              scenario.setDeleted(false);
+              scenario.setCreatedBy(null);
+              scenario.setCreatedDate(null);
+              scenario.setModifiedBy(null);
+              scenario.setModifiedDate(null);
+              scenarioCmd.add(scenario);
+            }
           });
-      for (Scenario scenario : scenarios) {
-        Script script = null;
-        if (isNotEmpty(scenario.getScriptContent())) {
-          script = new Script()
-              .setId(null)
-              .setProjectId(projectId)
-              .setName(scenario.getName() + "_script")
-              .setSource(ScriptSource.IMPORTED)
-              .setAuth(false)
-              .setContent(scenario.getScriptContent());
-          scriptCmd.imports(script);
-        }
-
-        scenario.setProjectId(projectId);
-        scenario.setScriptId(script != null ? script.getId() : null);
-        // Clear ID to create new scenario
-        scenario.setId(scenario.getId() + idSalt)
-            .setTestFunc(false)
-            .setTestPerf(false)
-            .setTestStability(false);
-        // Reset audit fields to null
-        scenario.setDeleted(false);
-        scenario.setCreatedBy(null);
-        scenario.setCreatedDate(null);
-        scenario.setModifiedBy(null);
-        scenario.setModifiedDate(null);
-        scenarioCmd.add(scenario);
-      }
     }
 
     // Import scripts (YAML files) - support multiple files
-    if (classifiedFiles.containsKey(ExampleDataType.SCRIPT)) {
-      List<File> scriptFiles = classifiedFiles.get(ExampleDataType.SCRIPT);
-      for (File scriptFile : scriptFiles) {
-        String scriptContent = FileUtils.readFileToString(scriptFile, StandardCharsets.UTF_8);
+    if (classifiedEntries.containsKey(ExampleDataType.SCRIPT)) {
+      List<String> scriptEntries = classifiedEntries.get(ExampleDataType.SCRIPT);
+      for (String scriptEntry : scriptEntries) {
+        String scriptFileName = ProjectImportFileUtils.getFileName(scriptEntry);
+        startEntry(progress, scriptEntry);
+        String scriptContent = readEntryString(importFile, scriptEntry);
         try {
-          String scriptName = scriptFile.getName().replaceAll("\\.(yaml|yml)$", "");
+          String scriptName = scriptFileName.replaceAll("\\.(yaml|yml)$", "");
           Script script = new Script()
               .setProjectId(projectId)
               .setName(scriptName)
@@ -929,65 +1051,106 @@ public class ProjectCmdImpl extends CommCmd<Project, Long> implements ProjectCmd
               .setContent(scriptContent);
           scriptCmd.imports(script);
         } catch (Exception e) {
-          log.error("Failed to import script file: " + scriptFile.getName(), e);
+          log.error("Failed to import script file: " + scriptFileName, e);
           throw ProtocolException.of(
-              "导入脚本文件失败: " + scriptFile.getName() + ", 原因: " + e.getMessage());
+              "导入脚本文件失败: " + scriptFileName + ", 原因: " + e.getMessage());
         }
+        finishEntry(progress);
       }
     }
 
     // Import variables
-    if (classifiedFiles.containsKey(ExampleDataType.VARIABLE)) {
-      File variableFile = classifiedFiles.get(ExampleDataType.VARIABLE).get(0);
-      String variableJson = FileUtils.readFileToString(variableFile, StandardCharsets.UTF_8);
+    if (classifiedEntries.containsKey(ExampleDataType.VARIABLE)) {
+      String variableEntry = classifiedEntries.get(ExampleDataType.VARIABLE).get(0);
+      startEntry(progress, variableEntry);
+      String variableJson = readEntryString(importFile, variableEntry);
       try {
         variableCmd.imports(projectId, StrategyWhenDuplicated.IGNORE, variableJson, null);
       } catch (Exception e) {
-        log.error("Failed to import variable file: " + variableFile.getName(), e);
+        log.error("Failed to import variable file: " + variableEntry, e);
         throw ProtocolException.of(
-            "导入变量文件失败: " + variableFile.getName() + ", 原因: " + e.getMessage());
+            "导入变量文件失败: " + ProjectImportFileUtils.getFileName(variableEntry)
+                + ", 原因: " + e.getMessage());
       }
+      finishEntry(progress);
     }
 
     // Import datasets
-    if (classifiedFiles.containsKey(ExampleDataType.DATASET)) {
-      File datasetFile = classifiedFiles.get(ExampleDataType.DATASET).get(0);
-      String datasetJson = FileUtils.readFileToString(datasetFile, StandardCharsets.UTF_8);
+    if (classifiedEntries.containsKey(ExampleDataType.DATASET)) {
+      String datasetEntry = classifiedEntries.get(ExampleDataType.DATASET).get(0);
+      startEntry(progress, datasetEntry);
+      String datasetJson = readEntryString(importFile, datasetEntry);
       try {
         datasetCmd.imports(projectId, StrategyWhenDuplicated.IGNORE, datasetJson, null);
       } catch (Exception e) {
-        log.error("Failed to import dataset file: " + datasetFile.getName(), e);
+        log.error("Failed to import dataset file: " + datasetEntry, e);
         throw ProtocolException.of(
-            "导入数据集文件失败: " + datasetFile.getName() + ", 原因: " + e.getMessage());
+            "导入数据集文件失败: " + ProjectImportFileUtils.getFileName(datasetEntry)
+                + ", 原因: " + e.getMessage());
       }
+      finishEntry(progress);
     }
 
     // Import mock services
-    if (classifiedFiles.containsKey(ExampleDataType.MOCK)) {
-      File mockFile = classifiedFiles.get(ExampleDataType.MOCK).get(0);
-      String mockJson = FileUtils.readFileToString(mockFile, StandardCharsets.UTF_8);
-      List<MockService> mockServices = JsonUtils.convert(mockJson,
-          new TypeReference<List<MockService>>() {
+    if (classifiedEntries.containsKey(ExampleDataType.MOCK)) {
+      readEntryArray(progress, importFile, classifiedEntries.get(ExampleDataType.MOCK).get(0),
+          MockService.class, mockServices -> {
+            for (MockService mockService : mockServices) {
+              mockService.setProjectId(projectId);
+              // Clear ID to create new mock service
+              mockService.setId(null);
+              // Reset audit fields to null
+              mockService.setCreatedBy(null);
+              mockService.setCreatedDate(null);
+              mockService.setModifiedBy(null);
+              mockService.setModifiedDate(null);
+              IdKey<Long, Object> mockIdKey = mockServiceCmd.add(mockService);
+              // Import mock service content if available
+              if (isNotEmpty(mockService.getImportText())) {
+                mockServiceCmd.imports(mockIdKey.getId(), StrategyWhenDuplicated.IGNORE, false,
+                    mockService.getImportText(), null);
+              }
+            }
           });
-      for (MockService mockService : mockServices) {
-        mockService.setProjectId(projectId);
-        // Clear ID to create new mock service
-        mockService.setId(null);
-        // Reset audit fields to null
-        mockService.setCreatedBy(null);
-        mockService.setCreatedDate(null);
-        mockService.setModifiedBy(null);
-        mockService.setModifiedDate(null);
-        IdKey<Long, Object> mockIdKey = mockServiceCmd.add(mockService);
-        // Import mock service content if available
-        if (isNotEmpty(mockService.getImportText())) {
-          mockServiceCmd.imports(mockIdKey.getId(), StrategyWhenDuplicated.IGNORE, false,
-              mockService.getImportText(), null);
-        }
-      }
     }
   }
 
+  /**
+   * Reads the JSON array of an archive entry in batches, and saves the import progress after each
+   * batch is inserted by the consumer.
+   * <p>
+   * Note: Elements are read with the mapper writing the exported archives.
+   */
+  private <T> void readEntryArray(ProjectImportProgress progress, File importFile,
+      String entryName, Class<T> type, Consumer<List<T>> batchConsumer) {
+    startEntry(progress, entryName);
+    ProjectImportFileUtils.readArchiveEntry(importFile, entryName,
+        in -> ProjectImportFileUtils.readJsonArray(in, JsonUtils.JSON, type, IMPORT_BATCH_SIZE,
+            batch -> {
+              batchConsumer.accept(batch);
+              projectImportProgressCache.put(progress.setImportedRows(
+                  progress.getImportedRows() + batch.size()));
+            }));
+    finishEntry(progress);
+  }
+
+  private String readEntryString(File importFile, String entryName) {
+    String[] content = new String[1];
+    ProjectImportFileUtils.readArchiveEntry(importFile, entryName,
+        in -> content[0] = IOUtils.toString(in, StandardCharsets.UTF_8));
+    return content[0];
+  }
+
+  private void startEntry(ProjectImportProgress progress, String entryName) {
+    projectImportProgressCache.put(progress.setCurrentEntry(
+        ProjectImportFileUtils.getFileName(entryName)));
+  }
+
+  private void finishEntry(ProjectImportProgress progress) {
+    projectImportProgressCache.put(progress.setImportedEntries(
+        progress.getImportedEntries() + 1));
+  }
+
   /**
    * Exports project data to ZIP or TAR archive.
    * <p>
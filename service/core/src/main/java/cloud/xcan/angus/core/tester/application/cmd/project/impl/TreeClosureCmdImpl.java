@@ -0,0 +1,266 @@
+package cloud.xcan.angus.core.tester.application.cmd.project.impl;
+
+import static cloud.xcan.angus.api.commonlink.CombinedTargetType.MODULE;
+import static cloud.xcan.angus.api.commonlink.CombinedTargetType.TASK;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import cloud.xcan.angus.api.commonlink.CombinedTargetType;
+import cloud.xcan.angus.core.biz.BizTemplate;
+import cloud.xcan.angus.core.biz.cmd.CommCmd;
+import cloud.xcan.angus.core.jpa.repository.BaseRepository;
+import cloud.xcan.angus.core.tester.application.cmd.project.TreeClosureCmd;
+import cloud.xcan.angus.core.tester.application.query.project.ProjectQuery;
+import cloud.xcan.angus.core.tester.domain.issue.TaskRepo;
+import cloud.xcan.angus.core.tester.domain.project.Project;
+import cloud.xcan.angus.core.tester.domain.project.module.ModuleRepo;
+import cloud.xcan.angus.core.tester.domain.project.tree.TreeClosure;
+import cloud.xcan.angus.core.tester.domain.project.tree.TreeClosureRepo;
+import jakarta.annotation.Resource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <p>
+ * Implementation of TreeClosureCmd for maintaining the closure index of module and task trees.
+ * </p>
+ * <p>
+ * Adding and moving nodes only write the pairs of the changed subtree. When the index of the
+ * nodes involved is missing, such as for trees created before the index, the whole tree of the
+ * project is rebuilt from the parent ids instead.
+ * </p>
+ */
+@Slf4j
+@Service
+public class TreeClosureCmdImpl extends CommCmd<TreeClosure, Long> implements TreeClosureCmd {
+
+  private static final int BATCH_SIZE = 2000;
+
+  @Resource
+  private TreeClosureRepo treeClosureRepo;
+
+  @Resource
+  private ModuleRepo moduleRepo;
+
+  @Resource
+  private TaskRepo taskRepo;
+
+  @Resource
+  private ProjectQuery projectQuery;
+
+  /**
+   * Rebuild the module and task tree index of a project to repair inconsistencies.
+   */
+  @Transactional(rollbackFor = Exception.class)
+  @Override
+  public void rebuild(Long projectId) {
+    new BizTemplate<Void>() {
+
+      @Override
+      protected void checkParams() {
+        // Check the project exists and the modify permission
+        Project projectDb = projectQuery.checkAndFind(projectId);
+        projectQuery.checkModifyPermission(projectDb);
+      }
+
+      @Override
+      protected Void process() {
+        rebuild0(MODULE, projectId);
+        rebuild0(TASK, projectId);
+        return null;
+      }
+    }.execute();
+  }
+
+  /**
+   * Index the added nodes of a tree.
+   *
+   * @param parentIds Parent ids of the added nodes, the parent of roots is null. Parents may be
+   *                  added together with their children.
+   */
+  @Transactional(rollbackFor = Exception.class)
+  @Override
+  public void add0(CombinedTargetType type, Long projectId, Map<Long, Long> parentIds) {
+    if (isEmpty(parentIds)) {
+      return;
+    }
+    Set<Long> outerParentIds = parentIds.values().stream()
+        .filter(x -> nonNull(x) && !parentIds.containsKey(x)).collect(Collectors.toSet());
+    Map<Long, Map<Long, Integer>> ancestors = findAncestors(type, outerParentIds);
+    if (ancestors.size() < outerParentIds.size()) {
+      rebuild0(type, projectId);
+      return;
+    }
+
+    List<TreeClosure> closures = new ArrayList<>();
+    for (Long id : parentIds.keySet()) {
+      for (Entry<Long, Integer> ancestor : ancestorsOf(id, parentIds, ancestors,
+          new HashSet<>()).entrySet()) {
+        closures.add(of(type, projectId, ancestor.getKey(), id, ancestor.getValue()));
+      }
+    }
+    insert(closures);
+  }
+
+  /**
+   * Index the nodes moved under a new parent together with their subtrees.
+   * <p>
+   * Note: The parent ids of the nodes must be updated before.
+   *
+   * @param parentId New parent id, null when the nodes are moved to roots
+   */
+  @Transactional(rollbackFor = Exception.class)
+  @Override
+  public void move0(CombinedTargetType type, Long projectId, Collection<Long> ids,
+      Long parentId) {
+    if (isEmpty(ids)) {
+      return;
+    }
+    Map<Long, Integer> parentAncestors = isNull(parentId) ? Map.of()
+        : findAncestors(type, Set.of(parentId)).get(parentId);
+    if (isNull(parentAncestors)) {
+      rebuild0(type, projectId);
+      return;
+    }
+    // Moved one by one, a node may be in the subtree of another moved node
+    for (Long id : new HashSet<>(ids)) {
+      Map<Long, Integer> subtree = treeClosureRepo.findByTargetTypeAndAncestorId(type, id)
+          .stream().collect(Collectors.toMap(TreeClosure::getDescendantId,
+              TreeClosure::getDepth, (x, y) -> x));
+      if (subtree.isEmpty()) {
+        rebuild0(type, projectId);
+        return;
+      }
+      treeClosureRepo.deleteOuterAncestors(type.name(), subtree.keySet());
+      if (subtree.containsKey(parentId)) {
+        // Moved under its own descendant, the cycle is left detached as rebuilding does
+        log.warn("Tree node is moved under its descendant, type: {}, id: {}, parentId: {}",
+            type, id, parentId);
+        continue;
+      }
+      List<TreeClosure> closures = new ArrayList<>();
+      for (Entry<Long, Integer> ancestor : parentAncestors.entrySet()) {
+        for (Entry<Long, Integer> descendant : subtree.entrySet()) {
+          closures.add(of(type, projectId, ancestor.getKey(), descendant.getKey(),
+              ancestor.getValue() + descendant.getValue() + 1));
+        }
+      }
+      insert(closures);
+    }
+  }
+
+  /**
+   * Remove the deleted nodes from the index, remaining descendants of them become roots as their
+   * parents can no longer be found.
+   */
+  @Transactional(rollbackFor = Exception.class)
+  @Override
+  public void delete0(CombinedTargetType type, Collection<Long> ids) {
+    if (isEmpty(ids)) {
+      return;
+    }
+    Set<Long> subtreeIds = new HashSet<>(ids);
+    subtreeIds.addAll(treeClosureRepo.findDescendantIds(type.name(), ids));
+    treeClosureRepo.deleteOuterAncestors(type.name(), subtreeIds);
+    treeClosureRepo.deleteByNodeIdIn(type.name(), ids);
+  }
+
+  /**
+   * Rebuild the index of a tree in project from the parent ids of its nodes, including the
+   * logically deleted tasks that can be restored.
+   */
+  @Transactional(rollbackFor = Exception.class)
+  @Override
+  public void rebuild0(CombinedTargetType type, Long projectId) {
+    List<Object[]> nodes = MODULE.equals(type)
+        ? moduleRepo.findIdAndPidByProjectId(projectId)
+        : taskRepo.findIdAndParentTaskIdByProjectId(projectId);
+    Map<Long, Long> parentIds = new HashMap<>();
+    for (Object[] node : nodes) {
+      parentIds.put(((Number) node[0]).longValue(),
+          isNull(node[1]) ? null : ((Number) node[1]).longValue());
+    }
+
+    treeClosureRepo.deleteByProjectId(type.name(), projectId);
+    List<TreeClosure> closures = new ArrayList<>();
+    for (Long id : parentIds.keySet()) {
+      // Walk up until the root or a parent that is not found in project, which includes the
+      // root parent -1 of modules and the parents deleted permanently
+      Set<Long> visited = new HashSet<>();
+      int depth = 0;
+      for (Long ancestorId = id; parentIds.containsKey(ancestorId) && visited.add(ancestorId);
+          ancestorId = parentIds.get(ancestorId)) {
+        closures.add(of(type, projectId, ancestorId, id, depth++));
+      }
+    }
+    insert(closures);
+    log.info("Tree closure rebuilt, type: {}, projectId: {}, nodes: {}, closures: {}", type,
+        projectId, parentIds.size(), closures.size());
+  }
+
+  /**
+   * Ancestors of the indexed nodes with their depths, including the node itself.
+   */
+  private Map<Long, Map<Long, Integer>> findAncestors(CombinedTargetType type,
+      Collection<Long> ids) {
+    Map<Long, Map<Long, Integer>> ancestors = new HashMap<>();
+    if (isEmpty(ids)) {
+      return ancestors;
+    }
+    for (TreeClosure closure : treeClosureRepo.findByTargetTypeAndDescendantIdIn(type, ids)) {
+      ancestors.computeIfAbsent(closure.getDescendantId(), k -> new LinkedHashMap<>())
+          .put(closure.getAncestorId(), closure.getDepth());
+    }
+    // Nodes without the row to itself are not indexed
+    ancestors.values().removeIf(x -> x.values().stream().noneMatch(depth -> depth == 0));
+    return ancestors;
+  }
+
+  private static Map<Long, Integer> ancestorsOf(Long id, Map<Long, Long> parentIds,
+      Map<Long, Map<Long, Integer>> ancestors, Set<Long> visiting) {
+    Map<Long, Integer> found = ancestors.get(id);
+    if (nonNull(found)) {
+      return found;
+    }
+    found = new LinkedHashMap<>();
+    found.put(id, 0);
+    Long parentId = parentIds.get(id);
+    if (nonNull(parentId) && visiting.add(id)) {
+      for (Entry<Long, Integer> ancestor : ancestorsOf(parentId, parentIds, ancestors,
+          visiting).entrySet()) {
+        found.putIfAbsent(ancestor.getKey(), ancestor.getValue() + 1);
+      }
+    }
+    ancestors.put(id, found);
+    return found;
+  }
+
+  private void insert(List<TreeClosure> closures) {
+    for (int i = 0; i < closures.size(); i += BATCH_SIZE) {
+      batchInsert0(closures.subList(i, Math.min(i + BATCH_SIZE, closures.size())));
+    }
+  }
+
+  private static TreeClosure of(CombinedTargetType type, Long projectId, Long ancestorId,
+      Long descendantId, int depth) {
+    return new TreeClosure().setTargetType(type).setProjectId(projectId)
+        .setAncestorId(ancestorId).setDescendantId(descendantId).setDepth(depth);
+  }
+
+  @Override
+  protected BaseRepository<TreeClosure, Long> getRepository() {
+    return this.treeClosureRepo;
+  }
+}
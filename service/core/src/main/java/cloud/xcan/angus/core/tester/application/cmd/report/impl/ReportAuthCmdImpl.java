@@ -23,6 +23,7 @@ import cloud.xcan.angus.core.tester.domain.report.ReportRepo;
 import cloud.xcan.angus.core.tester.domain.report.auth.ReportAuth;
 import cloud.xcan.angus.core.tester.domain.report.auth.ReportAuthRepo;
 import cloud.xcan.angus.core.tester.domain.report.auth.ReportPermission;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import jakarta.annotation.Resource;
 import java.util.Collection;
@@ -49,6 +50,8 @@ public class ReportAuthCmdImpl extends CommCmd<ReportAuth, Long> implements Repo
 
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private AuthDecisionCache authDecisionCache;
 
   @Transactional(rollbackFor = Exception.class)
   @Override
@@ -81,6 +84,7 @@ public class ReportAuthCmdImpl extends CommCmd<ReportAuth, Long> implements Repo
           activityCmd.add(toActivity(CombinedTargetType.REPORT, reportDb,
               ActivityType.AUTH, authObjectName));
         }
+        authDecisionCache.evict(CombinedTargetType.REPORT, auth.getReportId());
         return insert(auth);
       }
     }.execute();
@@ -115,6 +119,7 @@ public class ReportAuthCmdImpl extends CommCmd<ReportAuth, Long> implements Repo
         // Replace authorization
         authDb.setAuths(auth.getAuths());
         reportAuthRepo.save(authDb);
+        authDecisionCache.evict(CombinedTargetType.REPORT, authDb.getReportId());
 
         // Add modification permission activity
         if (!authDb.isCreatorAuth()) {
@@ -143,6 +148,7 @@ public class ReportAuthCmdImpl extends CommCmd<ReportAuth, Long> implements Repo
       @Override
       protected Void process() {
         reportRepo.updateAuthById(reportId, enabled);
+        authDecisionCache.evict(CombinedTargetType.REPORT, reportId);
 
         // Enable permission control activity
         activityCmd.add(toActivity(CombinedTargetType.REPORT, reportDb,
@@ -189,6 +195,7 @@ public class ReportAuthCmdImpl extends CommCmd<ReportAuth, Long> implements Repo
 
         // Delete report permission
         reportAuthRepo.deleteById(id);
+        authDecisionCache.evict(CombinedTargetType.REPORT, authDb.getReportId());
         return null;
       }
     }.execute();
@@ -197,11 +204,13 @@ public class ReportAuthCmdImpl extends CommCmd<ReportAuth, Long> implements Repo
   @Override
   public void addCreatorAuth(Long reportId, Set<Long> creatorIds) {
     batchInsert(toReportAuths(creatorIds, reportId, ReportPermission.ALL, true));
+    authDecisionCache.evict(CombinedTargetType.REPORT, reportId);
   }
 
   @Override
   public void deleteByReportId(Collection<Long> reportIds) {
     reportAuthRepo.deleteByReportIdIn(reportIds);
+    authDecisionCache.evict(CombinedTargetType.REPORT, reportIds);
   }
 
   @Override
@@ -24,6 +24,7 @@ import cloud.xcan.angus.core.tester.domain.scenario.Scenario;
 import cloud.xcan.angus.core.tester.domain.scenario.ScenarioRepo;
 import cloud.xcan.angus.core.tester.domain.scenario.auth.ScenarioAuth;
 import cloud.xcan.angus.core.tester.domain.scenario.auth.ScenarioAuthRepo;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import jakarta.annotation.Resource;
 import java.util.Set;
@@ -56,6 +57,8 @@ public class ScenarioAuthCmdImpl extends CommCmd<ScenarioAuth, Long> implements
   private ScenarioAuthRepo scenarioAuthRepo;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * Adds a new authorization for a scenario.
@@ -105,6 +108,7 @@ public class ScenarioAuthCmdImpl extends CommCmd<ScenarioAuth, Long> implements
         }
 
         // Save authorization to database
+        authDecisionCache.evict(SCENARIO, auth.getScenarioId());
         return insert(auth, "authObjectId");
       }
     }.execute();
@@ -154,6 +158,7 @@ public class ScenarioAuthCmdImpl extends CommCmd<ScenarioAuth, Long> implements
         // Update authorization permissions
         authDb.setAuths(auth.getAuths());
         scenarioAuthRepo.save(authDb);
+        authDecisionCache.evict(SCENARIO, authDb.getScenarioId());
 
         // Log authorization modification activity (skip for creator auths)
         if (!authDb.isCreatorAuth()) {
@@ -214,6 +219,7 @@ public class ScenarioAuthCmdImpl extends CommCmd<ScenarioAuth, Long> implements
 
         // Permanently delete the authorization from database
         scenarioAuthRepo.deleteById(scenarioId);
+        authDecisionCache.evict(SCENARIO, authDb.getScenarioId());
 
         return null;
       }
@@ -249,6 +255,7 @@ public class ScenarioAuthCmdImpl extends CommCmd<ScenarioAuth, Long> implements
       protected Void process() {
         // Update authorization control status in database
         scenarioRepo.updateAuthById(id, enabled);
+        authDecisionCache.evict(SCENARIO, id);
 
         // Log authorization control status change activity
         activityCmd.add(toActivity(SCENARIO, scenarioDb,
@@ -271,6 +278,7 @@ public class ScenarioAuthCmdImpl extends CommCmd<ScenarioAuth, Long> implements
   public void addCreatorAuth(Set<Long> creatorIds, Long scenarioId) {
     // Remove existing creator authorizations to avoid duplicates
     scenarioAuthRepo.deleteByScenarioIdAndCreator(scenarioId, true);
+    authDecisionCache.evict(SCENARIO, scenarioId);
 
     // Create new creator authorizations for specified users
     batchInsert(toScenarioCreatorAuths(creatorIds, scenarioId, uidGenerator), "authObjectId");
@@ -290,6 +298,7 @@ public class ScenarioAuthCmdImpl extends CommCmd<ScenarioAuth, Long> implements
     // Remove creator authorizations for specific users (scenario move scenario)
     scenarioAuthRepo.deleteByScenarioIdAndAuthObjectIdInAndCreator(
         scenarioId, creatorIds, true);
+    authDecisionCache.evict(SCENARIO, scenarioId);
 
     // Create new creator authorizations for the moved users
     batchInsert(toScenarioCreatorAuths(creatorIds, scenarioId, uidGenerator), "authObjectId");
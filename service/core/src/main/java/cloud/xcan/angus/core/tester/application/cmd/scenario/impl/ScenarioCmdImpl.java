@@ -14,6 +14,8 @@ import static java.util.Collections.singletonList;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
 import org.springframework.stereotype.Service;
 import cloud.xcan.angus.core.biz.BizTemplate;
 import cloud.xcan.angus.core.biz.cmd.CommCmd;
@@ -40,6 +42,7 @@ import cloud.xcan.angus.core.tester.domain.scenario.auth.ScenarioAuthRepo;
 import cloud.xcan.angus.core.tester.domain.scenario.favorite.ScenarioFavouriteRepo;
 import cloud.xcan.angus.core.tester.domain.scenario.follow.ScenarioFollowRepo;
 import cloud.xcan.angus.core.tester.domain.script.ScriptInfo;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils.BIDKey;
 import cloud.xcan.angus.core.utils.CoreUtils;
@@ -105,6 +108,10 @@ public class ScenarioCmdImpl extends CommCmd<Scenario, Long> implements Scenario
   private ProjectMemberQuery projectMemberQuery;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private KanbanGrowthTrendCache kanbanGrowthTrendCache;
+  @Resource
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * Adds a new scenario to the system.
@@ -165,6 +172,7 @@ public class ScenarioCmdImpl extends CommCmd<Scenario, Long> implements Scenario
         scenario.setScriptId(nonNull(scriptIdKey) ? scriptIdKey.getId() : scenario.getScriptId());
         scenario.setAuth(nullSafe(scenario.getAuth(), false));
         IdKey<Long, Object> idKey = insert(scenario, "name");
+        kanbanGrowthTrendCache.evict(scenario.getProjectId(), DataAssetsCategory.SCENARIO);
 
         // Initialize creator authorization for the scenario
         scenarioAuthCmd.addCreatorAuth(Set.of(getUserId()), scenario.getId());
@@ -493,6 +501,7 @@ public class ScenarioCmdImpl extends CommCmd<Scenario, Long> implements Scenario
 
     // Permanently delete all scenario authorizations
     scenarioAuthRepo.deleteByScenarioIdIn(ids);
+    authDecisionCache.evict(SCENARIO, ids);
 
     // Permanently delete all scenario favorites
     scenarioFavoriteRepo.deleteByScenarioIdIn(ids);
@@ -22,6 +22,7 @@ import cloud.xcan.angus.core.tester.domain.script.ScriptInfo;
 import cloud.xcan.angus.core.tester.domain.script.ScriptRepo;
 import cloud.xcan.angus.core.tester.domain.script.auth.ScriptAuth;
 import cloud.xcan.angus.core.tester.domain.script.auth.ScriptAuthRepo;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import jakarta.annotation.Resource;
 import java.util.Collection;
@@ -54,6 +55,8 @@ public class ScriptAuthCmdImpl extends CommCmd<ScriptAuth, Long> implements Scri
   private ScriptAuthRepo scriptAuthRepo;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * Adds a new script authorization for a user or group.
@@ -104,6 +107,7 @@ public class ScriptAuthCmdImpl extends CommCmd<ScriptAuth, Long> implements Scri
           activityCmd.add(toActivity(SCRIPT, scriptDb, ActivityType.AUTH, authObjectName));
         }
 
+        authDecisionCache.evict(SCRIPT, auth.getScriptId());
         return insert(auth, "authObjectId");
       }
     }.execute();
@@ -155,6 +159,7 @@ public class ScriptAuthCmdImpl extends CommCmd<ScriptAuth, Long> implements Scri
         // Update the authorization permissions
         authDb.setAuths(auth.getAuths());
         scriptAuthRepo.save(authDb);
+        authDecisionCache.evict(SCRIPT, authDb.getScriptId());
 
         // Log the authorization modification activity
         if (!authDb.isCreatorAuth()) {
@@ -218,6 +223,7 @@ public class ScriptAuthCmdImpl extends CommCmd<ScriptAuth, Long> implements Scri
 
         // Delete the authorization
         scriptAuthRepo.deleteById(authId);
+        authDecisionCache.evict(SCRIPT, authDb.getScriptId());
 
         return null;
       }
@@ -255,6 +261,7 @@ public class ScriptAuthCmdImpl extends CommCmd<ScriptAuth, Long> implements Scri
       protected Void process() {
         // Update the authorization control setting
         scriptRepo.updateAuthById(scriptId, enabled);
+        authDecisionCache.evict(SCRIPT, scriptId);
 
         // Log the authorization control change activity
         activityCmd.add(toActivity(SCRIPT, scriptDb,
@@ -278,6 +285,7 @@ public class ScriptAuthCmdImpl extends CommCmd<ScriptAuth, Long> implements Scri
   public void addCreatorAuth(Collection<Long> creatorIds, Long scriptId) {
     // Remove existing creator authorizations to avoid conflicts
     scriptAuthRepo.deleteByScriptIdAndCreator(scriptId, true);
+    authDecisionCache.evict(SCRIPT, scriptId);
 
     // Add new creator authorizations
     batchInsert(toScriptCreatorAuths(creatorIds, scriptId, uidGenerator), "authObjectId");
@@ -297,6 +305,7 @@ public class ScriptAuthCmdImpl extends CommCmd<ScriptAuth, Long> implements Scri
   public void moveCreatorAuth(Collection<Long> creatorIds, Long scriptId) {
     // Remove creator authorizations for specified users from current script
     scriptAuthRepo.deleteByScriptIdAndAuthObjectIdInAndCreator(scriptId, creatorIds, true);
+    authDecisionCache.evict(SCRIPT, scriptId);
 
     // Add creator authorizations to the target script
     batchInsert(toScriptCreatorAuths(creatorIds, scriptId, uidGenerator), "authObjectId");
@@ -313,6 +322,7 @@ public class ScriptAuthCmdImpl extends CommCmd<ScriptAuth, Long> implements Scri
   @Override
   public void deleteByScriptIdIn(Collection<Long> scriptIds) {
     scriptAuthRepo.deleteByScriptIdIn(scriptIds);
+    authDecisionCache.evict(SCRIPT, scriptIds);
   }
 
   /**
@@ -33,6 +33,8 @@ import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import cloud.xcan.angus.api.commonlink.script.ScriptPermission;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
 import org.springframework.stereotype.Service;
 import cloud.xcan.angus.core.biz.BizTemplate;
 import cloud.xcan.angus.core.biz.cmd.CommCmd;
@@ -139,6 +141,8 @@ public class ScriptCmdImpl extends CommCmd<Script, Long> implements ScriptCmd {
   private ProjectMemberQuery projectMemberQuery;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private KanbanGrowthTrendCache kanbanGrowthTrendCache;
 
   /**
    * Adds a new script with comprehensive validation and setup.
@@ -197,6 +201,7 @@ public class ScriptCmdImpl extends CommCmd<Script, Long> implements ScriptCmd {
 
         script.setId(BIDUtils.getId(BIDKey.scriptId));
         IdKey<Long, Object> idKey = insert(script, "name");
+        kanbanGrowthTrendCache.evict(script.getProjectId(), DataAssetsCategory.SCRIPT);
 
         // Initialize creator authorization
         scriptAuthCmd.addCreatorAuth(Set.of(getUserId()), idKey.getId());
@@ -266,6 +271,7 @@ public class ScriptCmdImpl extends CommCmd<Script, Long> implements ScriptCmd {
         // Generate new ID to avoid reflection conflicts
         script.setId(BIDUtils.getId(BIDKey.scriptId));
         IdKey<Long, Object> idKey = insert(script, "name");
+        kanbanGrowthTrendCache.evict(script.getProjectId(), DataAssetsCategory.SCRIPT);
 
         // Initialize creator authorization
         scriptAuthCmd.addCreatorAuth(Set.of(getUserId()), idKey.getId());
@@ -320,6 +326,7 @@ public class ScriptCmdImpl extends CommCmd<Script, Long> implements ScriptCmd {
         // Generate new ID to avoid reflection conflicts
         script.setId(BIDUtils.getId(BIDKey.scriptId));
         IdKey<Long, Object> idKey = insert(script, "name");
+        kanbanGrowthTrendCache.evict(script.getProjectId(), DataAssetsCategory.SCRIPT);
 
         // Initialize creator authorization
         scriptAuthCmd.addCreatorAuth(Set.of(getUserId()), idKey.getId());
@@ -644,6 +651,7 @@ public class ScriptCmdImpl extends CommCmd<Script, Long> implements ScriptCmd {
       protected IdKey<Long, Object> process() {
         Script script = ScriptConverter.toClonedScript(scriptDb);
         IdKey<Long, Object> idKey = insert(script, "name");
+        kanbanGrowthTrendCache.evict(script.getProjectId(), DataAssetsCategory.SCRIPT);
 
         // Init creator auth
         scriptAuthCmd.addCreatorAuth(Set.of(getUserId()), idKey.getId());
@@ -676,6 +684,7 @@ public class ScriptCmdImpl extends CommCmd<Script, Long> implements ScriptCmd {
       protected IdKey<Long, Object> process() {
         Script script = ScriptConverter.toClonedScenarioScript(scriptDb, newId);
         IdKey<Long, Object> idKey = insert(script, "name");
+        kanbanGrowthTrendCache.evict(script.getProjectId(), DataAssetsCategory.SCRIPT);
 
         // Clone scripts tags
         scriptTagCmd.clone(id, idKey.getId());
@@ -3,6 +3,7 @@ package cloud.xcan.angus.core.tester.application.cmd.services;
 import cloud.xcan.angus.api.commonlink.apis.StrategyWhenDuplicated;
 import cloud.xcan.angus.core.tester.domain.services.comp.ServicesComp;
 import cloud.xcan.angus.core.tester.domain.services.comp.ServicesCompType;
+import cloud.xcan.angus.core.tester.domain.services.schema.OpenApiReplaceDiff;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import io.swagger.v3.oas.models.Components;
 import java.util.Collection;
@@ -20,7 +21,7 @@ public interface ServicesCompCmd {
 
   void deleteAll(Long serviceId);
 
-  void replaceByOpenApi(Long serviceId, Components components,
+  OpenApiReplaceDiff replaceByOpenApi(Long serviceId, Components components,
       StrategyWhenDuplicated strategyWhenDuplicated, boolean deleteWhenNotExisted);
 
   void batchInsert0(Long serviceId, Collection<ServicesComp> newComps);
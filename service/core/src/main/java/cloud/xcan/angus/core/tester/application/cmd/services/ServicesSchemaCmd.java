@@ -3,6 +3,7 @@ package cloud.xcan.angus.core.tester.application.cmd.services;
 import cloud.xcan.angus.api.commonlink.apis.ApiSource;
 import cloud.xcan.angus.api.commonlink.apis.StrategyWhenDuplicated;
 import cloud.xcan.angus.core.tester.domain.services.Services;
+import cloud.xcan.angus.core.tester.domain.services.schema.OpenApiReplaceDiff;
 import cloud.xcan.angus.core.tester.domain.services.schema.ServicesSchema;
 import cloud.xcan.angus.extension.angustester.api.ApiImportSource;
 import cloud.xcan.angus.spec.locale.SupportedLanguage;
@@ -31,11 +32,11 @@ public interface ServicesSchemaCmd {
   void delete(Long serviceId, Set<String> srNames, Set<Long> serverIds,
       Set<String> tagNames);
 
-  void openapiReplace(Long serviceId, Boolean forced, boolean gzipCompression,
+  OpenApiReplaceDiff openapiReplace(Long serviceId, Boolean forced, boolean gzipCompression,
       String content, StrategyWhenDuplicated strategyWhenDuplicated, boolean deleteWhenNotExisted,
       ApiSource apiSource, ApiImportSource importSource, boolean mergeSchema, String syncName);
 
-  void openapiReplace(Long serviceId, Boolean forced,
+  OpenApiReplaceDiff openapiReplace(Long serviceId, Boolean forced,
       OpenAPI openApi, StrategyWhenDuplicated strategyWhenDuplicated, boolean deleteWhenNotExisted,
       ApiSource apiSource, ApiImportSource importSource, boolean mergeSchema, String syncName);
 
@@ -49,7 +50,7 @@ public interface ServicesSchemaCmd {
 
   void deleteByServiceIdIn(Collection<Long> serviceIds);
 
-  void updateSchema(Long serviceId, ServicesSchema serviceSchemaDb, OpenAPI openApi,
+  boolean updateSchema(Long serviceId, ServicesSchema serviceSchemaDb, OpenAPI openApi,
       boolean mergeSchema, boolean cover);
 
 }
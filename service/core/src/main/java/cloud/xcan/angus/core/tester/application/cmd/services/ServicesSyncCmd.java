@@ -15,6 +15,8 @@ public interface ServicesSyncCmd {
 
   void sync(Long serviceId, String name);
 
+  void sync0(ServicesSync projectSync, Long serviceId, boolean scheduled);
+
   OpenAPI test(String syncUrl, List<SimpleHttpAuth> auths);
 
   void delete(Long serviceId, Set<String> names);
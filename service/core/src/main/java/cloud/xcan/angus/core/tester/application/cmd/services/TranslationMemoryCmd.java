@@ -0,0 +1,11 @@
+package cloud.xcan.angus.core.tester.application.cmd.services;
+
+import cloud.xcan.angus.spec.locale.SupportedLanguage;
+import java.util.Map;
+
+public interface TranslationMemoryCmd {
+
+  void add0(Map<String, String> translations, SupportedLanguage sourceLanguage,
+      SupportedLanguage targetLanguage);
+
+}
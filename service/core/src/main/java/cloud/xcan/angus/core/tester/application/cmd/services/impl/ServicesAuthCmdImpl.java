@@ -1,5 +1,6 @@
 package cloud.xcan.angus.core.tester.application.cmd.services.impl;
 
+import static cloud.xcan.angus.api.commonlink.CombinedTargetType.API;
 import static cloud.xcan.angus.api.commonlink.CombinedTargetType.SERVICE;
 import static cloud.xcan.angus.api.commonlink.TesterApisMessage.FORBID_AUTH_CREATOR;
 import static cloud.xcan.angus.api.commonlink.TesterApisMessage.FORBID_AUTH_CREATOR_CODE;
@@ -24,6 +25,7 @@ import cloud.xcan.angus.core.tester.domain.services.Services;
 import cloud.xcan.angus.core.tester.domain.services.ServicesRepo;
 import cloud.xcan.angus.core.tester.domain.services.auth.ServicesAuth;
 import cloud.xcan.angus.core.tester.domain.services.auth.ServicesAuthRepo;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import jakarta.annotation.Resource;
 import java.util.Collection;
@@ -61,6 +63,8 @@ public class ServicesAuthCmdImpl extends CommCmd<ServicesAuth, Long> implements
   private CommonQuery commonQuery;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * Adds a new service authorization for a user or group.
@@ -110,6 +114,7 @@ public class ServicesAuthCmdImpl extends CommCmd<ServicesAuth, Long> implements
           activityCmd.add(toActivity(SERVICE, serviceDb, ActivityType.AUTH, authObjectName));
         }
 
+        authDecisionCache.evict(SERVICE, auth.getServiceId());
         return batchInsert(List.of(auth), "authObjectId").get(0);
       }
     }.execute();
@@ -161,6 +166,7 @@ public class ServicesAuthCmdImpl extends CommCmd<ServicesAuth, Long> implements
         // Update the authorization permissions
         authDb.setAuths(auth.getAuths());
         servicesAuthRepo.save(authDb);
+        authDecisionCache.evict(SERVICE, authDb.getServiceId());
 
         // Log the authorization modification activity
         if (!authDb.isCreatorAuth()) {
@@ -227,6 +233,7 @@ public class ServicesAuthCmdImpl extends CommCmd<ServicesAuth, Long> implements
 
         // Delete the authorization
         servicesAuthRepo.deleteById(authId);
+        authDecisionCache.evict(SERVICE, authDb.getServiceId());
         return null;
       }
     }.execute();
@@ -264,9 +271,11 @@ public class ServicesAuthCmdImpl extends CommCmd<ServicesAuth, Long> implements
       protected Void process() {
         // Update service authorization control setting
         servicesRepo.updateAuthById(serviceId, enabled);
+        authDecisionCache.evict(SERVICE, serviceId);
 
         // Update authorization status for all associated APIs
         apisRepo.updateServiceAuthByServiceId(serviceId, enabled);
+        authDecisionCache.evictAll(API);
 
         // Log the authorization control change activity
         activityCmd.add(toActivity(SERVICE, serviceDb, enabled
@@ -307,6 +316,8 @@ public class ServicesAuthCmdImpl extends CommCmd<ServicesAuth, Long> implements
       protected Void process() {
         // Update authorization status for all APIs within the service
         apisRepo.updateServiceAuthByServiceId(serviceId, enabled);
+        // Authorization control of the apis follows the service
+        authDecisionCache.evictAll(API);
 
         // Log the API authorization control change activity
         activityCmd.add(toActivity(CombinedTargetType.API, serviceDb,
@@ -330,6 +341,7 @@ public class ServicesAuthCmdImpl extends CommCmd<ServicesAuth, Long> implements
   public void addCreatorAuth(Long serviceId, Set<Long> creatorIds) {
     // Remove existing creator authorizations to avoid conflicts
     servicesAuthRepo.deleteByServiceIdAndCreator(serviceId, true);
+    authDecisionCache.evict(SERVICE, serviceId);
 
     // Add new creator authorizations
     List<ServicesAuth> serviceAuths = creatorIds.stream()
@@ -352,6 +364,7 @@ public class ServicesAuthCmdImpl extends CommCmd<ServicesAuth, Long> implements
   public void moveCreatorAuth(Long serviceId, Long creatorId) {
     // Remove creator authorization for the specified user from current service
     servicesAuthRepo.deleteByServiceIdAndAuthObjectIdAndCreator(serviceId, creatorId, true);
+    authDecisionCache.evict(SERVICE, serviceId);
 
     // Add creator authorization to the target service
     insert(toServicesCreatorAuth(creatorId, serviceId, uidGenerator), "authObjectId");
@@ -368,6 +381,7 @@ public class ServicesAuthCmdImpl extends CommCmd<ServicesAuth, Long> implements
   @Override
   public void deleteAllByProject(Collection<Long> serviceIds) {
     servicesAuthRepo.deleteByServiceIdIn(serviceIds);
+    authDecisionCache.evict(SERVICE, serviceIds);
   }
 
   /**
@@ -26,6 +26,8 @@ import static org.apache.commons.lang3.time.DateFormatUtils.format;
 import cloud.xcan.angus.api.commonlink.apis.ApiSource;
 import cloud.xcan.angus.api.commonlink.apis.StrategyWhenDuplicated;
 import cloud.xcan.angus.api.commonlink.services.ServicesPermission;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
 import org.springframework.stereotype.Service;
 import cloud.xcan.angus.core.biz.BizTemplate;
 import cloud.xcan.angus.core.biz.cmd.CommCmd;
@@ -147,6 +149,8 @@ public class ServicesCmdImpl extends CommCmd<Services, Long> implements Services
   private MockServiceRepo mockServiceRepo;
   @Resource
   private MockApisRepo mockApisRepo;
+  @Resource
+  private KanbanGrowthTrendCache kanbanGrowthTrendCache;
 
   /**
    * Adds a new service with comprehensive validation and setup.
@@ -184,6 +188,7 @@ public class ServicesCmdImpl extends CommCmd<Services, Long> implements Services
       protected IdKey<Long, Object> process() {
         services.setId(BIDUtils.getId(BIDKey.serviceId));
         IdKey<Long, Object> idKey = insert(services);
+        kanbanGrowthTrendCache.evict(services.getProjectId(), DataAssetsCategory.APIS);
 
         // Initialize creator authorization
         servicesAuthCmd.addCreatorAuth(idKey.getId(), getAuthCreatorIds());
@@ -379,6 +384,7 @@ public class ServicesCmdImpl extends CommCmd<Services, Long> implements Services
 
         // Save the cloned service
         insert0(clonedService);
+        kanbanGrowthTrendCache.evict(clonedService.getProjectId(), DataAssetsCategory.APIS);
 
         // Clone service schema
         servicesSchemaCmd.clone(serviceDb.getId(), clonedService.getId());
@@ -2,9 +2,11 @@ package cloud.xcan.angus.core.tester.application.cmd.services.impl;
 
 import static cloud.xcan.angus.api.commonlink.CombinedTargetType.SERVICE;
 import static cloud.xcan.angus.core.tester.application.converter.ActivityConverter.toActivity;
+import static cloud.xcan.angus.core.tester.infra.util.OpenApiUtil.jsonContentHash;
 import static cloud.xcan.angus.spec.principal.PrincipalContext.getUserId;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
+import static java.util.Objects.isNull;
 
 import cloud.xcan.angus.api.commonlink.apis.StrategyWhenDuplicated;
 import org.springframework.stereotype.Service;
@@ -20,16 +22,21 @@ import cloud.xcan.angus.core.tester.application.query.services.ServicesQuery;
 import cloud.xcan.angus.core.tester.domain.activity.ActivityType;
 import cloud.xcan.angus.core.tester.domain.services.Services;
 import cloud.xcan.angus.core.tester.domain.services.comp.ServicesComp;
+import cloud.xcan.angus.core.tester.domain.services.comp.ServicesCompHash;
 import cloud.xcan.angus.core.tester.domain.services.comp.ServicesCompRepo;
 import cloud.xcan.angus.core.tester.domain.services.comp.ServicesCompType;
+import cloud.xcan.angus.core.tester.domain.services.schema.OpenApiReplaceDiff;
 import cloud.xcan.angus.l2cache.spring.RedisCaffeineCacheManager;
 import cloud.xcan.angus.spec.annotations.DoInFuture;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import io.swagger.v3.oas.models.Components;
 import jakarta.annotation.Resource;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -82,7 +89,8 @@ public class ServicesCompCmdImpl extends CommCmd<ServicesComp, Long> implements
    * @throws IllegalArgumentException if validation fails
    */
   @DoInFuture("Add quota restrictions")
-  @CacheEvict(key = "'servicesId_' + #serviceId", value = "servicesComps")
+  @CacheEvict(key = "'servicesId_' + #serviceId",
+      value = {"servicesComps", "servicesCompRefGraph"})
   @Transactional(rollbackFor = Exception.class)
   @Override
   public IdKey<Long, Object> replace(Long serviceId, ServicesCompType type, String key,
@@ -132,7 +140,8 @@ public class ServicesCompCmdImpl extends CommCmd<ServicesComp, Long> implements
    * @param keys      optional set of specific keys to delete, null for all components of the type
    * @throws IllegalArgumentException if validation fails
    */
-  @CacheEvict(key = "'servicesId_' + #serviceId", value = "servicesComps")
+  @CacheEvict(key = "'servicesId_' + #serviceId",
+      value = {"servicesComps", "servicesCompRefGraph"})
   @Transactional(rollbackFor = Exception.class)
   @Override
   public void deleteByType(Long serviceId, ServicesCompType type, @Nullable Set<String> keys) {
@@ -176,7 +185,8 @@ public class ServicesCompCmdImpl extends CommCmd<ServicesComp, Long> implements
    * @param refs      set of component references to delete
    * @throws IllegalArgumentException if validation fails
    */
-  @CacheEvict(key = "'servicesId_' + #serviceId", value = "servicesComps")
+  @CacheEvict(key = "'servicesId_' + #serviceId",
+      value = {"servicesComps", "servicesCompRefGraph"})
   @Transactional(rollbackFor = Exception.class)
   @Override
   public void deleteByRef(Long serviceId, Set<String> refs) {
@@ -214,7 +224,8 @@ public class ServicesCompCmdImpl extends CommCmd<ServicesComp, Long> implements
    * @param serviceId the ID of the service
    * @throws IllegalArgumentException if validation fails
    */
-  @CacheEvict(key = "'servicesId_' + #serviceId", value = "servicesComps")
+  @CacheEvict(key = "'servicesId_' + #serviceId",
+      value = {"servicesComps", "servicesCompRefGraph"})
   @Transactional(rollbackFor = Exception.class)
   @Override
   public void deleteAll(Long serviceId) {
@@ -257,59 +268,102 @@ public class ServicesCompCmdImpl extends CommCmd<ServicesComp, Long> implements
    * @param components             the OpenAPI Components specification
    * @param strategyWhenDuplicated strategy for handling duplicate components
    * @param deleteWhenNotExisted   whether to delete components not in the new specification
+   * @return the refs of added, updated and deleted components
    */
   @Override
-  public void replaceByOpenApi(Long serviceId, Components components,
+  public OpenApiReplaceDiff replaceByOpenApi(Long serviceId, Components components,
       StrategyWhenDuplicated strategyWhenDuplicated, boolean deleteWhenNotExisted) {
+    OpenApiReplaceDiff diff = new OpenApiReplaceDiff();
+
+    // Get the hashes of existing components instead of their models
+    Map<String, ServicesCompHash> compsDbMap = serviceCompRepo.findHashByServiceId(serviceId)
+        .stream().collect(Collectors.toMap(ServicesCompHash::getRef, x -> x, (x, y) -> x));
+
+    // If no components in OpenAPI spec, optionally delete all existing components
+    if (isNull(components)) {
+      if (deleteWhenNotExisted && isNotEmpty(compsDbMap)) {
+        deleteByServiceIdAndRefIn(serviceId, null);
+        diff.getDeletedComps().addAll(compsDbMap.keySet());
+      }
+      return diff;
+    }
+
     // Convert OpenAPI components to service components
     Map<String, ServicesComp> openApiCompsMap = ServicesCompConverter
         .toProjectComp(serviceId, components);
 
-    // Get existing components from database
-    Map<String, ServicesComp> compsDbMap = servicesCompQuery.findByServiceId(serviceId)
-        .stream().collect(Collectors.toMap(ServicesComp::getRef, x -> x));
-
-    // Process new components
-    if (isNotEmpty(openApiCompsMap)) {
-      // Find and insert new components
-      Collection<ServicesComp> newComps = openApiCompsMap.keySet().stream()
-          .filter(x -> !compsDbMap.containsKey(x))
-          .collect(Collectors.toMap(x -> x, openApiCompsMap::get)).values();
-      if (isNotEmpty(newComps)) {
-        servicesCompCmd.batchInsert0(serviceId, newComps);
+    // Find and insert new components
+    List<ServicesComp> newComps = openApiCompsMap.entrySet().stream()
+        .filter(x -> !compsDbMap.containsKey(x.getKey())).map(Entry::getValue).toList();
+    if (isNotEmpty(newComps)) {
+      servicesCompCmd.batchInsert0(serviceId, newComps);
+      newComps.forEach(x -> diff.getAddedComps().add(x.getRef()));
+    }
+
+    // Handle component updates based on strategy, only changed components are loaded and written
+    Map<Long, ServicesComp> updatedOpenApiCompsMap = findChangedComps(compsDbMap,
+        openApiCompsMap);
+    if (StrategyWhenDuplicated.COVER.equals(strategyWhenDuplicated)
+        && isNotEmpty(updatedOpenApiCompsMap)) {
+      List<ServicesComp> updatedCompsDb = serviceCompRepo
+          .findAllById(updatedOpenApiCompsMap.keySet());
+      for (ServicesComp compDb : updatedCompsDb) {
+        ServicesCompConverter.openApiToUpdateComp(compDb,
+            updatedOpenApiCompsMap.get(compDb.getId()));
+        diff.getUpdatedComps().add(compDb.getRef());
       }
+      servicesCompCmd.batchUpdate0(serviceId, updatedCompsDb);
+    }
 
-      // Handle component updates based on strategy
-      if (StrategyWhenDuplicated.COVER.equals(strategyWhenDuplicated)) {
-        Map<String, ServicesComp> updatedCompsDbMap = compsDbMap.keySet().stream()
-            .filter(x -> openApiCompsMap.containsKey(x)
-                && compsDbMap.get(x).getSchemaHash() != openApiCompsMap.get(x).getSchemaHash())
-            .collect(Collectors.toMap(x -> x, compsDbMap::get));
-        if (isNotEmpty(updatedCompsDbMap)) {
-          for (String uniqueKey : updatedCompsDbMap.keySet()) {
-            ServicesCompConverter.openApiToUpdateComp(updatedCompsDbMap.get(uniqueKey),
-                openApiCompsMap.get(uniqueKey));
-          }
-          servicesCompCmd.batchUpdate0(serviceId, updatedCompsDbMap.values());
-        }
+    // Handle component deletion if requested
+    if (deleteWhenNotExisted) {
+      Set<String> deletedRefs = compsDbMap.keySet().stream()
+          .filter(x -> !openApiCompsMap.containsKey(x)).collect(Collectors.toSet());
+      if (isNotEmpty(deletedRefs)) {
+        deleteByServiceIdAndRefIn(serviceId, deletedRefs);
+        diff.getDeletedComps().addAll(deletedRefs);
       }
+    }
+    return diff;
+  }
 
-      // Handle component deletion if requested
-      if (deleteWhenNotExisted) {
-        Collection<ServicesComp> deletedCompsInDb = compsDbMap.keySet().stream()
-            .filter(x -> !openApiCompsMap.containsKey(x))
-            .collect(Collectors.toMap(x -> x, compsDbMap::get)).values();
-        if (isNotEmpty(deletedCompsInDb)) {
-          deleteByServiceIdAndRefIn(serviceId, deletedCompsInDb.stream().map(ServicesComp::getRef)
-              .collect(Collectors.toSet()));
-        }
+  /**
+   * Finds the stored components changed by the imported ones.
+   *
+   * <p>Components saved before content hashes are stored are loaded and compared by their models.
+   * Whatever the strategy, the content hashes of the unchanged ones are backfilled, so they are
+   * compared by hashes afterward.</p>
+   *
+   * @param compsDbMap      the hashes of stored components by ref
+   * @param openApiCompsMap the imported components by ref
+   * @return the imported components changed by the IDs of stored components
+   */
+  private Map<Long, ServicesComp> findChangedComps(Map<String, ServicesCompHash> compsDbMap,
+      Map<String, ServicesComp> openApiCompsMap) {
+    Map<Long, ServicesComp> changedComps = new HashMap<>();
+    Set<Long> unhashedCompIds = new HashSet<>();
+    for (ServicesCompHash compDb : compsDbMap.values()) {
+      ServicesComp openApiComp = openApiCompsMap.get(compDb.getRef());
+      if (isNull(openApiComp)) {
+        continue;
       }
-    } else {
-      // If no components in OpenAPI spec, optionally delete all existing components
-      if (deleteWhenNotExisted) {
-        deleteByServiceIdAndRefIn(serviceId, null);
+      if (isNull(compDb.getContentHash())) {
+        unhashedCompIds.add(compDb.getId());
+      } else if (!compDb.getContentHash().equals(openApiComp.getContentHash())) {
+        changedComps.put(compDb.getId(), openApiComp);
+      }
+    }
+    if (isNotEmpty(unhashedCompIds)) {
+      for (ServicesComp compDb : serviceCompRepo.findAllById(unhashedCompIds)) {
+        ServicesComp openApiComp = openApiCompsMap.get(compDb.getRef());
+        if (jsonContentHash(compDb.getModel()).equals(jsonContentHash(openApiComp.getModel()))) {
+          serviceCompRepo.updateContentHashById(compDb.getId(), openApiComp.getContentHash());
+        } else {
+          changedComps.put(compDb.getId(), openApiComp);
+        }
       }
     }
+    return changedComps;
   }
 
   /**
@@ -322,7 +376,8 @@ public class ServicesCompCmdImpl extends CommCmd<ServicesComp, Long> implements
    * @param newComps  collection of new components to insert
    */
   @DoInFuture("Add quota restrictions")
-  @CacheEvict(key = "'servicesId_' + #serviceId", value = "servicesComps")
+  @CacheEvict(key = "'servicesId_' + #serviceId",
+      value = {"servicesComps", "servicesCompRefGraph"})
   @Override
   public void batchInsert0(Long serviceId, Collection<ServicesComp> newComps) {
     batchInsert0(newComps);
@@ -337,7 +392,8 @@ public class ServicesCompCmdImpl extends CommCmd<ServicesComp, Long> implements
    * @param serviceId    the ID of the service
    * @param updatedComps collection of components to update
    */
-  @CacheEvict(key = "'servicesId_' + #serviceId", value = "servicesComps")
+  @CacheEvict(key = "'servicesId_' + #serviceId",
+      value = {"servicesComps", "servicesCompRefGraph"})
   @Override
   public void batchUpdate0(Long serviceId, Collection<ServicesComp> updatedComps) {
     batchUpdate0(updatedComps);
@@ -352,7 +408,8 @@ public class ServicesCompCmdImpl extends CommCmd<ServicesComp, Long> implements
    * @param serviceId the ID of the service
    * @param refs      collection of component references to delete, null for all components
    */
-  @CacheEvict(key = "'servicesId_' + #serviceId", value = "servicesComps")
+  @CacheEvict(key = "'servicesId_' + #serviceId",
+      value = {"servicesComps", "servicesCompRefGraph"})
   @Override
   public void deleteByServiceIdAndRefIn(Long serviceId, Collection<String> refs) {
     if (isNotEmpty(refs)) {
@@ -375,8 +432,9 @@ public class ServicesCompCmdImpl extends CommCmd<ServicesComp, Long> implements
     serviceCompRepo.deleteByServiceIdIn(serviceIds);
 
     // Evict cache for all affected services
-    ((RedisCaffeineCacheManager) cacheManager).evict("servicesComps", serviceIds.stream()
-        .map(id -> (Object) ("serviceId_" + id)).toList());
+    List<Object> keys = serviceIds.stream().map(id -> (Object) ("servicesId_" + id)).toList();
+    ((RedisCaffeineCacheManager) cacheManager).evict("servicesComps", keys);
+    ((RedisCaffeineCacheManager) cacheManager).evict("servicesCompRefGraph", keys);
   }
 
   /**
@@ -6,6 +6,8 @@ import static cloud.xcan.angus.core.tester.application.converter.ActivityConvert
 import static cloud.xcan.angus.core.tester.application.converter.ServicesSchemaConverter.toClonedSchema;
 import static cloud.xcan.angus.core.tester.application.converter.ServicesSchemaConverter.toInitProjectSchema;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.SERVICE_DOC_CHANGE_REMINDER;
+import static cloud.xcan.angus.core.tester.infra.config.TranslationConfig.TRANSLATION_EXECUTOR;
+import static cloud.xcan.angus.core.tester.infra.util.OpenApiUtil.contentHash;
 import static cloud.xcan.angus.spec.principal.PrincipalContext.getUserId;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
@@ -26,24 +28,28 @@ import cloud.xcan.angus.core.tester.application.cmd.activity.ActivityCmd;
 import cloud.xcan.angus.core.tester.application.cmd.apis.ApisCmd;
 import cloud.xcan.angus.core.tester.application.cmd.services.ServicesCompCmd;
 import cloud.xcan.angus.core.tester.application.cmd.services.ServicesSchemaCmd;
+import cloud.xcan.angus.core.tester.application.cmd.services.TranslationMemoryCmd;
 import cloud.xcan.angus.core.tester.application.converter.ApisConverter;
 import cloud.xcan.angus.core.tester.application.converter.ServicesSchemaConverter;
-import cloud.xcan.angus.core.tester.application.query.apis.ApisQuery;
 import cloud.xcan.angus.core.tester.application.query.services.ServicesAuthQuery;
 import cloud.xcan.angus.core.tester.application.query.services.ServicesQuery;
 import cloud.xcan.angus.core.tester.application.query.services.ServicesSchemaQuery;
+import cloud.xcan.angus.core.tester.application.query.services.TranslationMemoryQuery;
 import cloud.xcan.angus.core.tester.domain.activity.ActivityType;
 import cloud.xcan.angus.core.tester.domain.apis.Apis;
+import cloud.xcan.angus.core.tester.domain.apis.ApisOperationHash;
 import cloud.xcan.angus.core.tester.domain.apis.ApisRepo;
 import cloud.xcan.angus.core.tester.domain.services.Services;
+import cloud.xcan.angus.core.tester.domain.services.schema.OpenApiReplaceDiff;
 import cloud.xcan.angus.core.tester.domain.services.schema.ServicesSchema;
 import cloud.xcan.angus.core.tester.domain.services.schema.ServicesSchemaRepo;
+import cloud.xcan.angus.core.tester.infra.config.TranslationConfig.TranslationProperties;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils.BIDKey;
 import cloud.xcan.angus.core.tester.infra.util.OpenAPITranslator;
+import cloud.xcan.angus.core.tester.infra.util.OpenAPITranslator.TranslationMemory;
 import cloud.xcan.angus.extension.angustester.api.ApiImportSource;
 import cloud.xcan.angus.extension.angustester.deepseek.api.TranslationService;
-import cloud.xcan.angus.extension.angustester.deepseek.api.TranslationServiceProvider;
 import cloud.xcan.angus.l2cache.spring.RedisCaffeineCacheManager;
 import cloud.xcan.angus.remote.message.SysException;
 import cloud.xcan.angus.spec.annotations.DoInFuture;
@@ -60,11 +66,16 @@ import io.swagger.v3.oas.models.tags.Tag;
 import jakarta.annotation.Resource;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.transaction.annotation.Transactional;
@@ -109,9 +120,15 @@ public class ServicesSchemaCmdImpl extends CommCmd<ServicesSchema, Long> impleme
   @Resource
   private ApisRepo apisRepo;
   @Resource
-  private ApisQuery apisQuery;
-  @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private TranslationMemoryQuery translationMemoryQuery;
+  @Resource
+  private TranslationMemoryCmd translationMemoryCmd;
+  @Resource
+  private TranslationProperties translationProperties;
+  @Resource(name = TRANSLATION_EXECUTOR)
+  private Executor translationExecutor;
 
   /**
    * Replaces or updates individual schema components with caching support.
@@ -400,13 +417,15 @@ public class ServicesSchemaCmdImpl extends CommCmd<ServicesSchema, Long> impleme
    * @param importSource           the import source type
    * @param mergeSchema            whether to merge schemas
    * @param syncName               the synchronization name
+   * @return the added, updated and deleted APIs and components
    * @throws IllegalArgumentException if validation fails
    */
   @Override
-  public void openapiReplace(Long serviceId, Boolean forced, boolean gzipCompression,
-      String content, StrategyWhenDuplicated strategyWhenDuplicated, boolean deleteWhenNotExisted,
-      ApiSource apiSource, ApiImportSource importSource, boolean mergeSchema, String syncName) {
-    new BizTemplate<Void>() {
+  public OpenApiReplaceDiff openapiReplace(Long serviceId, Boolean forced,
+      boolean gzipCompression, String content, StrategyWhenDuplicated strategyWhenDuplicated,
+      boolean deleteWhenNotExisted, ApiSource apiSource, ApiImportSource importSource,
+      boolean mergeSchema, String syncName) {
+    return new BizTemplate<OpenApiReplaceDiff>() {
       String decompressedContent;
       OpenAPI openApi;
 
@@ -421,16 +440,15 @@ public class ServicesSchemaCmdImpl extends CommCmd<ServicesSchema, Long> impleme
       }
 
       @Override
-      protected Void process() {
+      protected OpenApiReplaceDiff process() {
         // Validate and parse OpenAPI content
         openApi = servicesSchemaQuery.checkAndGetApisParser(
                 importSource.isWideOpenapi() ? ApiImportSource.OPENAPI : importSource)
             .parse(decompressedContent);
 
         // Update schema with parsed OpenAPI
-        servicesSchemaCmd.openapiReplace(serviceId, true, openApi, strategyWhenDuplicated,
+        return servicesSchemaCmd.openapiReplace(serviceId, true, openApi, strategyWhenDuplicated,
             deleteWhenNotExisted, apiSource, importSource, mergeSchema, syncName);
-        return null;
       }
     }.execute();
   }
@@ -453,15 +471,16 @@ public class ServicesSchemaCmdImpl extends CommCmd<ServicesSchema, Long> impleme
    * @param importSource           the import source type
    * @param mergeSchema            whether to merge schemas
    * @param syncName               the synchronization name
+   * @return the added, updated and deleted APIs and components
    * @throws IllegalArgumentException if validation fails
    */
   @CacheEvict(key = "'servicesId_' + #serviceId", value = "servicesSchema")
   @Transactional(rollbackFor = Exception.class)
   @Override
-  public void openapiReplace(Long serviceId, Boolean forced,
+  public OpenApiReplaceDiff openapiReplace(Long serviceId, Boolean forced,
       OpenAPI openApi, StrategyWhenDuplicated strategyWhenDuplicated, boolean deleteWhenNotExisted,
       ApiSource apiSource, ApiImportSource importSource, boolean mergeSchema, String syncName) {
-    new BizTemplate<Void>() {
+    return new BizTemplate<OpenApiReplaceDiff>() {
       ServicesSchema serviceSchemaDb;
       Services serviceDb;
 
@@ -477,16 +496,18 @@ public class ServicesSchemaCmdImpl extends CommCmd<ServicesSchema, Long> impleme
       }
 
       @Override
-      protected Void process() {
+      protected OpenApiReplaceDiff process() {
+        OpenApiReplaceDiff diff = new OpenApiReplaceDiff();
+
         // Update service schema
         // Warning: Multiple files importing the same project will be overwritten by the last imported file
-        servicesSchemaCmd.updateSchema(serviceId, serviceSchemaDb, openApi, mergeSchema,
-            nonNull(strategyWhenDuplicated) && strategyWhenDuplicated.isCover());
+        diff.setSchemaUpdated(servicesSchemaCmd.updateSchema(serviceId, serviceSchemaDb, openApi,
+            mergeSchema, nonNull(strategyWhenDuplicated) && strategyWhenDuplicated.isCover()));
 
-        // Update APIs (Operation Object Schema)
-        Map<String, Apis> apisDbMap = apisQuery.findByServiceId(serviceId).stream()
-            .collect(Collectors.toMap(x -> x.getMethod().getValue().toLowerCase()
-                + ":" + x.getEndpoint(), x -> x));
+        // Update APIs (Operation Object Schema), only the hashes of existing APIs are loaded
+        Map<String, ApisOperationHash> apisDbMap = apisRepo.findOperationHashByServiceId(serviceId)
+            .stream().collect(Collectors.toMap(ApisOperationHash::getOperationKey, x -> x,
+                (x, y) -> x));
         // Note: Since OpenAPI 3.1, paths are not required
         if (isNotEmpty(openApi.getPaths())) {
           Map<String, Operation> operationsMap = OpenAPIUtils.flatPaths(openApi.getPaths());
@@ -494,59 +515,65 @@ public class ServicesSchemaCmdImpl extends CommCmd<ServicesSchema, Long> impleme
               : operationsMap.keySet().stream().collect(Collectors
                   .toMap(x -> x, x -> ApisConverter.toSchemaApis(operationsMap.get(x))));
 
-          // Find APIs to update
-          if (StrategyWhenDuplicated.COVER.equals(strategyWhenDuplicated)) {
-            Map<String, Apis> updatedApisDbMap = apisDbMap.keySet().stream()
-                .filter(x -> openApisMap.containsKey(x) &&
-                    apisDbMap.get(x).getSchemaHash() != openApisMap.get(x).getSchemaHash())
-                .collect(Collectors.toMap(x -> x, apisDbMap::get));
-            if (isNotEmpty(updatedApisDbMap)) {
-              assertTrue(forced, SERVICE_DOC_CHANGE_REMINDER);
-              apisCmd.updateSyncApis(updatedApisDbMap, openApisMap);
-            }
+          // Find changed APIs to update, unchanged APIs keep their test results and mocks untouched
+          Map<Long, String> updatedApiKeys = findChangedApis(apisDbMap, openApisMap);
+          if (StrategyWhenDuplicated.COVER.equals(strategyWhenDuplicated)
+              && isNotEmpty(updatedApiKeys)) {
+            assertTrue(forced, SERVICE_DOC_CHANGE_REMINDER);
+            Map<String, Apis> updatedApisDbMap = apisRepo.findAllById(updatedApiKeys.keySet())
+                .stream().collect(Collectors.toMap(x -> updatedApiKeys.get(x.getId()), x -> x));
+            apisCmd.updateSyncApis(updatedApisDbMap, openApisMap);
+            diff.getUpdatedApis().addAll(updatedApisDbMap.keySet());
           }
 
           // Delete APIs not in the import if requested
           if (deleteWhenNotExisted) {
-            Collection<Apis> deletedApisInDb = apisDbMap.keySet().stream()
-                .filter(x -> !openApisMap.containsKey(x)
+            Map<String, Long> deletedApiIds = apisDbMap.entrySet().stream()
+                .filter(x -> !openApisMap.containsKey(x.getKey())
                     // Note: If synchronization, only delete the synchronization of its own data
-                    && (isEmpty(syncName) || syncName.equals(apisDbMap.get(x).getSyncName())))
-                .collect(Collectors.toMap(x -> x, apisDbMap::get)).values();
-            if (isNotEmpty(deletedApisInDb)) {
+                    && (isEmpty(syncName) || syncName.equals(x.getValue().getSyncName())))
+                .collect(Collectors.toMap(Entry::getKey, x -> x.getValue().getId()));
+            if (isNotEmpty(deletedApiIds)) {
               assertTrue(forced, SERVICE_DOC_CHANGE_REMINDER);
               // Note: The following method does not delete component references, deleted by apisCmd.delete0() when clearing Trash
-              apisCmd.delete(deletedApisInDb.stream().map(Apis::getId).collect(Collectors.toSet()),
-                  false);
+              apisCmd.delete(new HashSet<>(deletedApiIds.values()), false);
+              diff.getDeletedApis().addAll(deletedApiIds.keySet());
             }
           }
 
           // Find new APIs to add
-          Collection<Apis> newApis = openApisMap.keySet().stream()
-              .filter(x -> !apisDbMap.containsKey(x))
-              .collect(Collectors.toMap(x -> x, openApisMap::get)).values();
-          if (isNotEmpty(newApis)) {
-            apisCmd.add(newApis.stream().map(
-                    x -> ApisConverter.assembleSchemaToAddApis(x, serviceDb, openApi.getComponents(),
-                        apiSource, importSource, syncName))
+          List<String> newApiKeys = openApisMap.keySet().stream()
+              .filter(x -> !apisDbMap.containsKey(x)).toList();
+          if (isNotEmpty(newApiKeys)) {
+            apisCmd.add(newApiKeys.stream().map(
+                    x -> ApisConverter.assembleSchemaToAddApis(openApisMap.get(x), serviceDb,
+                        openApi.getComponents(), apiSource, importSource, syncName))
                 .toList(), serviceDb, false);
+            diff.getAddedApis().addAll(newApiKeys);
           }
         } else {
           // Delete all APIs if no paths exist and deletion is requested
-          if (deleteWhenNotExisted) {
+          if (deleteWhenNotExisted && isNotEmpty(apisDbMap)) {
             // Note: The following method does not delete component references, deleted by apisCmd.delete0() when clearing Trash
-            apisCmd.delete(apisDbMap.values().stream().map(Apis::getId).collect(Collectors.toSet()),
-                false);
+            apisCmd.delete(apisDbMap.values().stream().map(ApisOperationHash::getId)
+                .collect(Collectors.toSet()), false);
+            diff.getDeletedApis().addAll(apisDbMap.keySet());
           }
         }
 
         // Update service components (Components Object Schema)
         if (isNotEmpty(openApi.getComponents())) {
-          servicesCompCmd.replaceByOpenApi(serviceDb.getId(), openApi.getComponents(),
-              strategyWhenDuplicated, deleteWhenNotExisted);
+          OpenApiReplaceDiff compsDiff = servicesCompCmd.replaceByOpenApi(serviceDb.getId(),
+              openApi.getComponents(), strategyWhenDuplicated, deleteWhenNotExisted);
+          diff.setAddedComps(compsDiff.getAddedComps())
+              .setUpdatedComps(compsDiff.getUpdatedComps())
+              .setDeletedComps(compsDiff.getDeletedComps());
         }
 
-        // Log appropriate activity based on API source
+        // Log appropriate activity based on API source when anything is written
+        if (diff.isEmpty()) {
+          return diff;
+        }
         if (isNull(apiSource) || ApiSource.EDITOR.equals(apiSource)) {
           activityCmd.add(toActivity(SERVICE, serviceDb, ActivityType.SCHEMA_OPENAPI_UPDATED));
         } else if (ApiSource.SYNC.equals(apiSource)) {
@@ -554,11 +581,52 @@ public class ServicesSchemaCmdImpl extends CommCmd<ServicesSchema, Long> impleme
         } else if (ApiSource.IMPORT.equals(apiSource)) {
           activityCmd.add(toActivity(SERVICE, serviceDb, ActivityType.IMPORT));
         }
-        return null;
+        return diff;
       }
     }.execute();
   }
 
+  /**
+   * Finds the stored APIs changed by the imported ones.
+   *
+   * <p>APIs saved before content hashes are stored are loaded and compared by the fields written
+   * from the document. Whatever the strategy, the content hashes of the unchanged ones are
+   * backfilled, so they are compared by hashes afterward.</p>
+   *
+   * @param apisDbMap   the hashes of stored APIs by operation key
+   * @param openApisMap the imported APIs by operation key
+   * @return the operation keys of changed APIs by their IDs
+   */
+  private Map<Long, String> findChangedApis(Map<String, ApisOperationHash> apisDbMap,
+      Map<String, Apis> openApisMap) {
+    Map<Long, String> changedApiKeys = new HashMap<>();
+    Map<Long, String> unhashedApiKeys = new HashMap<>();
+    for (Entry<String, ApisOperationHash> apisDb : apisDbMap.entrySet()) {
+      Apis openApis = openApisMap.get(apisDb.getKey());
+      if (isNull(openApis)) {
+        continue;
+      }
+      if (isNull(apisDb.getValue().getContentHash())) {
+        unhashedApiKeys.put(apisDb.getValue().getId(), apisDb.getKey());
+      } else if (!apisDb.getValue().getContentHash().equals(openApis.getContentHash())) {
+        changedApiKeys.put(apisDb.getValue().getId(), apisDb.getKey());
+      }
+    }
+    if (isNotEmpty(unhashedApiKeys)) {
+      for (Apis apisDb : apisRepo.findAllById(unhashedApiKeys.keySet())) {
+        String operationKey = unhashedApiKeys.get(apisDb.getId());
+        Apis openApis = openApisMap.get(operationKey);
+        if (ApisConverter.schemaFieldsHash(apisDb)
+            .equals(ApisConverter.schemaFieldsHash(openApis))) {
+          apisRepo.updateContentHashById(apisDb.getId(), openApis.getContentHash());
+        } else {
+          changedApiKeys.put(apisDb.getId(), operationKey);
+        }
+      }
+    }
+    return changedApiKeys;
+  }
+
   /**
    * Translates OpenAPI documentation between different languages.
    *
@@ -585,7 +653,7 @@ public class ServicesSchemaCmdImpl extends CommCmd<ServicesSchema, Long> impleme
 
         // Initialize translation service
         TranslationService translationService = servicesSchemaQuery.checkAndGetTranslationService(
-            TranslationServiceProvider.DeepSeek);
+            translationProperties.getProvider());
         try {
           translationService.loadConfig();
         } catch (Exception e) {
@@ -595,7 +663,10 @@ public class ServicesSchemaCmdImpl extends CommCmd<ServicesSchema, Long> impleme
         // Retrieve current OpenAPI and perform translation
         OpenAPI openApi = servicesSchemaQuery.openapiDetail0(serviceId, null, false);
         OpenAPITranslator translator = new OpenAPITranslator(
-            translationService, sourceLanguage, targetLanguage
+            translationService, sourceLanguage, targetLanguage, translationExecutor,
+            translationProperties.getBatchSize(), translationProperties.getBatchMaxChars(),
+            translationProperties.isMemoryEnabled()
+                ? getTranslationMemory(sourceLanguage, targetLanguage) : null
         );
         translator.translateOpenAPI(openApi);
 
@@ -609,6 +680,24 @@ public class ServicesSchemaCmdImpl extends CommCmd<ServicesSchema, Long> impleme
     }.execute();
   }
 
+  /**
+   * Translation memory of current tenant, called in the request thread which holds the principal.
+   */
+  private TranslationMemory getTranslationMemory(SupportedLanguage sourceLanguage,
+      SupportedLanguage targetLanguage) {
+    return new TranslationMemory() {
+      @Override
+      public Map<String, String> find(Collection<String> texts) {
+        return translationMemoryQuery.findTranslations(texts, sourceLanguage, targetLanguage);
+      }
+
+      @Override
+      public void save(Map<String, String> translations) {
+        translationMemoryCmd.add0(translations, sourceLanguage, targetLanguage);
+      }
+    };
+  }
+
   /**
    * Initializes a new service schema with default configuration.
    *
@@ -668,20 +757,32 @@ public class ServicesSchemaCmdImpl extends CommCmd<ServicesSchema, Long> impleme
    * <p>This method updates the service schema with new OpenAPI content,
    * supporting both merge and cover strategies for handling conflicts.</p>
    *
-   * <p>The method logs the schema update activity for audit purposes.</p>
+   * <p>The schema is saved and the update activity is logged only when its content is changed.</p>
    *
    * @param serviceId       the ID of the service
    * @param serviceSchemaDb the current service schema
    * @param openApi         the new OpenAPI content
    * @param mergeSchema     whether to merge schemas
    * @param cover           whether to cover existing content
+   * @return whether the schema is changed
    */
   @Override
-  public void updateSchema(Long serviceId, ServicesSchema serviceSchemaDb, OpenAPI openApi,
+  public boolean updateSchema(Long serviceId, ServicesSchema serviceSchemaDb, OpenAPI openApi,
       boolean mergeSchema, boolean cover) {
+    String contentHash = schemaContentHash(serviceSchemaDb);
     ServicesSchemaConverter.updateSchema(serviceSchemaDb, openApi, mergeSchema, cover);
+    if (contentHash.equals(schemaContentHash(serviceSchemaDb))) {
+      return false;
+    }
     servicesSchemaRepo.save(serviceSchemaDb);
     activityCmd.add(toActivity(SERVICE, serviceSchemaDb, ActivityType.SCHEMA_UPDATED));
+    return true;
+  }
+
+  private String schemaContentHash(ServicesSchema schema) {
+    return contentHash(Arrays.asList(schema.getOpenapi(), schema.getInfo(),
+        schema.getExternalDocs(), schema.getServers(), schema.getSecurity(), schema.getTags(),
+        schema.getExtensions(), schema.getSpecVersion()));
   }
 
   /**
@@ -29,10 +29,17 @@ import cloud.xcan.angus.core.tester.application.query.services.ServicesAuthQuery
 import cloud.xcan.angus.core.tester.application.query.services.ServicesQuery;
 import cloud.xcan.angus.core.tester.application.query.services.ServicesSyncQuery;
 import cloud.xcan.angus.core.tester.domain.services.Services;
+import cloud.xcan.angus.core.tester.domain.services.schema.OpenApiReplaceDiff;
 import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSync;
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncHistory;
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncHistoryRepo;
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncOutcome;
 import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncRepo;
+import cloud.xcan.angus.core.tester.infra.config.ServicesSyncConfig.ServicesSyncProperties;
+import cloud.xcan.angus.core.tester.infra.util.OpenApiDocFetcher.FetchResult;
 import cloud.xcan.angus.core.utils.CoreUtils;
 import cloud.xcan.angus.extension.angustester.api.ApiImportSource;
+import cloud.xcan.angus.idgen.uid.impl.CachedUidGenerator;
 import cloud.xcan.angus.remote.message.ProtocolException;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.AuthorizationValue;
@@ -44,6 +51,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
@@ -71,6 +79,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class ServicesSyncCmdImpl extends CommCmd<ServicesSync, Long> implements ServicesSyncCmd {
 
+  private static final int MAX_VALIDATOR_LENGTH = 200;
+
   @Resource
   private ServicesSyncRepo servicesSyncRepo;
   @Resource
@@ -83,6 +93,12 @@ public class ServicesSyncCmdImpl extends CommCmd<ServicesSync, Long> implements
   private ServicesQuery servicesQuery;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private ServicesSyncHistoryRepo servicesSyncHistoryRepo;
+  @Resource
+  private ServicesSyncProperties servicesSyncProperties;
+  @Resource
+  private CachedUidGenerator uidGenerator;
 
   /**
    * Replaces or creates a synchronization configuration.
@@ -119,12 +135,12 @@ public class ServicesSyncCmdImpl extends CommCmd<ServicesSync, Long> implements
       @Override
       protected Void process() {
         if (isNull(syncDb)) {
-          insert0(sync);
+          insert0(ServicesSyncConverter.setFirstSyncDate(sync));
           // Save activity information when configuration is added
           activityCmd.add(toActivity(SERVICE, serviceDb, SYNC_CONFIG_ADD, sync.getName()));
         } else {
           ServicesSyncConverter.setReplaceInfo(syncDb, sync);
-          servicesSyncRepo.save(syncDb);
+          servicesSyncRepo.save(ServicesSyncConverter.setFirstSyncDate(syncDb));
           // Save activity information when configuration is updated
           activityCmd.add(toActivity(SERVICE, serviceDb, SYNC_CONFIG_UPDATE, sync.getName()));
         }
@@ -178,6 +194,7 @@ public class ServicesSyncCmdImpl extends CommCmd<ServicesSync, Long> implements
         List<ServicesSync> addSyncs = new ArrayList<>(syncs);
         CoreUtils.removeAll(addSyncs, existedSyncsDb);
         if (isNotEmpty(addSyncs)) {
+          addSyncs.forEach(ServicesSyncConverter::setFirstSyncDate);
           batchInsert0(addSyncs);
 
           // Save activity information when configuration is added
@@ -192,6 +209,7 @@ public class ServicesSyncCmdImpl extends CommCmd<ServicesSync, Long> implements
               .collect(Collectors.toMap(ServicesSync::getName, x -> x));
           for (ServicesSync syncDb : existedSyncsDb) {
             ServicesSyncConverter.setReplaceInfo(syncDb, nameSyncMap.get(syncDb.getName()));
+            ServicesSyncConverter.setFirstSyncDate(syncDb);
           }
           batchUpdate0(existedSyncsDb);
           // Save activity information when configuration is updated
@@ -206,8 +224,9 @@ public class ServicesSyncCmdImpl extends CommCmd<ServicesSync, Long> implements
           CoreUtils.removeAll(deletedSyncs, syncs);
 
           if (isNotEmpty(deletedSyncs)) {
-            servicesSyncRepo.deleteByServiceIdAndNameIn(serviceId,
-                deletedSyncs.stream().map(ServicesSync::getName).toList());
+            List<String> deletedNames = deletedSyncs.stream().map(ServicesSync::getName).toList();
+            servicesSyncRepo.deleteByServiceIdAndNameIn(serviceId, deletedNames);
+            servicesSyncHistoryRepo.deleteByServiceIdAndSyncNameIn(serviceId, deletedNames);
             // Save activity information when configuration is deleted
             activityCmd.addAll(addSyncs.stream()
                 .map(x -> toActivity(SERVICE, serviceDb,
@@ -251,7 +270,7 @@ public class ServicesSyncCmdImpl extends CommCmd<ServicesSync, Long> implements
       @Override
       protected Void process() {
         for (ServicesSync sync : syncsDb) {
-          sync0(sync, serviceId);
+          sync0(sync, serviceId, false);
         }
 
         ServicesSync failure = syncsDb.stream().filter(x -> !x.getSyncSuccess()).findFirst()
@@ -333,6 +352,7 @@ public class ServicesSyncCmdImpl extends CommCmd<ServicesSync, Long> implements
 
         // Delete by names
         servicesSyncRepo.deleteByServiceIdAndNameIn(serviceId, namesDb);
+        servicesSyncHistoryRepo.deleteByServiceIdAndSyncNameIn(serviceId, namesDb);
 
         // Save activity
         activityCmd.add(toActivity(SERVICE, projectDb, SYNC_CONFIG_DELETE,
@@ -345,30 +365,74 @@ public class ServicesSyncCmdImpl extends CommCmd<ServicesSync, Long> implements
   /**
    * Performs the actual synchronization operation.
    *
-   * <p>This method executes the synchronization process, including URL validation,
-   * content retrieval, and schema updates. It handles success and failure states and updates the
-   * synchronization record accordingly.</p>
+   * <p>This method fetches the document, applies it to the service schema when it is changed,
+   * and records the outcome in the synchronization histories. Scheduled synchronizations send
+   * conditional requests and skip parsing when the content hash equals the last applied one,
+   * manual synchronizations always apply the document, such as after local apis are changed.</p>
    *
    * @param projectSync the synchronization configuration to execute
    * @param serviceId   the ID of the service to synchronize
+   * @param scheduled   whether it is run by the scheduled job
    */
-  public void sync0(ServicesSync projectSync, Long serviceId) {
+  @Override
+  public void sync0(ServicesSync projectSync, Long serviceId, boolean scheduled) {
+    long startNanos = System.nanoTime();
+    ServicesSyncHistory history = new ServicesSyncHistory().setId(uidGenerator.getUID())
+        .setServiceId(serviceId).setSyncId(projectSync.getId())
+        .setSyncName(projectSync.getName()).setScheduled(scheduled);
     try {
       // Verify URL and connectivity, retrieve OpenAPI content
-      String content = servicesSyncQuery.checkAndGetOpenApiContent(
-          projectSync.getApiDocsUrl(), projectSync.getAuths());
-      // Perform schema replacement with synchronization
-      servicesSchemaCmd.openapiReplace(serviceId, true, false, content,
-          projectSync.getStrategyWhenDuplicated(), projectSync.getDeleteWhenNotExisted(),
-          ApiSource.SYNC, ApiImportSource.OPENAPI, true, projectSync.getName());
+      FetchResult result = servicesSyncQuery.checkAndFetchOpenApiContent(projectSync, scheduled);
+      if (result.isNotModified()) {
+        history.setOutcome(ServicesSyncOutcome.NOT_MODIFIED)
+            .setContentHash(projectSync.getContentHash());
+      } else if (scheduled && result.getContentHash().equals(projectSync.getContentHash())) {
+        history.setOutcome(ServicesSyncOutcome.UNCHANGED)
+            .setContentHash(result.getContentHash());
+      } else {
+        // Perform schema replacement with synchronization
+        OpenApiReplaceDiff diff = servicesSchemaCmd.openapiReplace(serviceId, true, false,
+            result.getContent(), projectSync.getStrategyWhenDuplicated(),
+            projectSync.getDeleteWhenNotExisted(), ApiSource.SYNC, ApiImportSource.OPENAPI, true,
+            projectSync.getName());
+        history.setAddedNum(diff.getAddedApis().size())
+            .setUpdatedNum(diff.getUpdatedApis().size())
+            .setDeletedNum(diff.getDeletedApis().size());
+        history.setOutcome(ServicesSyncOutcome.UPDATED).setContentHash(result.getContentHash());
+        projectSync.setContentHash(result.getContentHash());
+      }
+      projectSync.setEtag(validatorSafe(result.getEtag()))
+          .setLastModified(validatorSafe(result.getLastModified()));
       projectSync.setSyncSuccess(true);
       projectSync.setSyncFailureCause(null);
     } catch (Exception e) {
       projectSync.setSyncSuccess(false);
       projectSync.setSyncFailureCause(lengthSafe(e.getMessage(), 200));
+      history.setOutcome(ServicesSyncOutcome.FAILED)
+          .setFailureCause(projectSync.getSyncFailureCause());
+    }
+    LocalDateTime now = LocalDateTime.now();
+    projectSync.setLastSyncDate(now);
+    if (projectSync.isScheduled()) {
+      projectSync.setNextSyncDate(now.plusMinutes(Math.max(projectSync.getSyncInterval(),
+          servicesSyncProperties.getMinIntervalMinutes())));
     }
-    projectSync.setLastSyncDate(LocalDateTime.now());
     servicesSyncRepo.save(projectSync);
+
+    history.setDuration(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    servicesSyncHistoryRepo.save(history);
+    Long oldestReservedId = servicesSyncHistoryRepo.findOldestReservedId(projectSync.getId(),
+        Math.max(servicesSyncProperties.getHistoryReservedNum() - 1, 0));
+    if (nonNull(oldestReservedId)) {
+      servicesSyncHistoryRepo.deleteBySyncIdAndIdBefore(projectSync.getId(), oldestReservedId);
+    }
+  }
+
+  /**
+   * Validators longer than the column are not stored, the next request is not conditional.
+   */
+  private static String validatorSafe(String validator) {
+    return nonNull(validator) && validator.length() <= MAX_VALIDATOR_LENGTH ? validator : null;
   }
 
   /**
@@ -379,6 +443,7 @@ public class ServicesSyncCmdImpl extends CommCmd<ServicesSync, Long> implements
   @Override
   public void deleteAllByServices(Collection<Long> servicesIds) {
     servicesSyncRepo.deleteByServiceIdIn(servicesIds);
+    servicesSyncHistoryRepo.deleteByServiceIdIn(servicesIds);
   }
 
   /**
@@ -41,6 +41,7 @@ import cloud.xcan.angus.model.script.configuration.ScriptType;
 import cloud.xcan.angus.model.script.pipeline.Arguments;
 import io.swagger.v3.oas.models.servers.Server;
 import jakarta.annotation.Resource;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -70,6 +71,11 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class ServicesTestCmdImpl implements ServicesTestCmd {
 
+  /**
+   * Number of APIs whose references are resolved together.
+   */
+  private static final int DE_REF_BATCH_SIZE = 200;
+
   @Resource
   private ServicesQuery servicesQuery;
   @Resource
@@ -178,11 +184,20 @@ public class ServicesTestCmdImpl implements ServicesTestCmd {
           return null;
         }
 
+        List<Long> generateApiIds = new ArrayList<>();
         for (Long apiId : apiIds) {
           Map<ScriptType, ScriptInfo> scriptsDbMap = scriptQuery.findInfoBySource(API, apiId)
               .stream().collect(Collectors.toMap(ScriptInfo::getType, x -> x));
           if (!scripts.stream().allMatch(x -> scriptsDbMap.containsKey(x.getType()))) {
-            Apis apisDb = apisQuery.findDeRefById(apiId);
+            generateApiIds.add(apiId);
+          }
+        }
+
+        // Resolve the references of APIs in batches against a shared component graph
+        for (int i = 0; i < generateApiIds.size(); i += DE_REF_BATCH_SIZE) {
+          List<Long> batchIds = generateApiIds.subList(i,
+              Math.min(i + DE_REF_BATCH_SIZE, generateApiIds.size()));
+          for (Apis apisDb : apisQuery.findDeRefByIds(batchIds)) {
             apisTestCmd.scriptGenerate0(apisDb, null, scripts);
           }
         }
@@ -266,13 +281,16 @@ public class ServicesTestCmdImpl implements ServicesTestCmd {
           return null;
         }
 
-        for (Long apiId : apiIds) {
-          Apis apisDb = apisQuery.findDeRefById(apiId);
-          // Note: Ignoring test types that are not enabled
-          Set<TestType> needTestTypes = apisDb.needTestTypes();
-          needTestTypes.retainAll(testTypes);
-          if (!needTestTypes.isEmpty()) {
-            apisTestCmd.testExecAdd0(apisDb, needTestTypes, servers);
+        // Resolve the references of APIs in batches against a shared component graph
+        for (int i = 0; i < apiIds.size(); i += DE_REF_BATCH_SIZE) {
+          List<Long> batchIds = apiIds.subList(i, Math.min(i + DE_REF_BATCH_SIZE, apiIds.size()));
+          for (Apis apisDb : apisQuery.findDeRefByIds(batchIds)) {
+            // Note: Ignoring test types that are not enabled
+            Set<TestType> needTestTypes = apisDb.needTestTypes();
+            needTestTypes.retainAll(testTypes);
+            if (!needTestTypes.isEmpty()) {
+              apisTestCmd.testExecAdd0(apisDb, needTestTypes, servers);
+            }
           }
         }
         return null;
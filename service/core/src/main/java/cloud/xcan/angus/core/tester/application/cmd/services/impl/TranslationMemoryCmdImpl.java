@@ -0,0 +1,75 @@
+package cloud.xcan.angus.core.tester.application.cmd.services.impl;
+
+import static cloud.xcan.angus.core.tester.application.converter.TranslationMemoryConverter.toTranslationMemory;
+import static cloud.xcan.angus.core.utils.PrincipalContextUtils.getOptTenantId;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+
+import cloud.xcan.angus.core.biz.cmd.CommCmd;
+import cloud.xcan.angus.core.jpa.repository.BaseRepository;
+import cloud.xcan.angus.core.tester.application.cmd.services.TranslationMemoryCmd;
+import cloud.xcan.angus.core.tester.application.query.services.TranslationMemoryQuery;
+import cloud.xcan.angus.core.tester.domain.services.translation.TranslationMemory;
+import cloud.xcan.angus.core.tester.domain.services.translation.TranslationMemoryRepo;
+import cloud.xcan.angus.idgen.uid.impl.CachedUidGenerator;
+import cloud.xcan.angus.spec.locale.SupportedLanguage;
+import jakarta.annotation.Resource;
+import java.util.Map;
+import java.util.Map.Entry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * <p>
+ * Implementation of TranslationMemoryCmd for saving translations of current tenant.
+ * </p>
+ */
+@Slf4j
+@Service
+public class TranslationMemoryCmdImpl extends CommCmd<TranslationMemory, Long> implements
+    TranslationMemoryCmd {
+
+  @Resource
+  private TranslationMemoryRepo translationMemoryRepo;
+  @Resource
+  private TranslationMemoryQuery translationMemoryQuery;
+  @Resource
+  private CachedUidGenerator uidGenerator;
+
+  /**
+   * <p>
+   * Save translations that are not in the translation memory yet.
+   * </p>
+   * <p>
+   * The same text may be saved concurrently by another translation, the duplicated rows are
+   * ignored by the insert instead of failing the other rows and the transaction of caller.
+   * </p>
+   *
+   * @param translations   Map of source text to translated text
+   * @param sourceLanguage Source language
+   * @param targetLanguage Target language
+   */
+  @Override
+  public void add0(Map<String, String> translations, SupportedLanguage sourceLanguage,
+      SupportedLanguage targetLanguage) {
+    if (isEmpty(translations)) {
+      return;
+    }
+    Map<String, String> existed = translationMemoryQuery.findTranslations(translations.keySet(),
+        sourceLanguage, targetLanguage);
+    Long tenantId = getOptTenantId();
+    for (Entry<String, String> entry : translations.entrySet()) {
+      if (!existed.containsKey(entry.getKey())) {
+        TranslationMemory memory = toTranslationMemory(entry.getKey(), entry.getValue(),
+            sourceLanguage, targetLanguage);
+        translationMemoryRepo.insertIgnore(uidGenerator.getUID(), memory.getSourceHash(),
+            sourceLanguage.name(), targetLanguage.name(), memory.getTranslatedText(), tenantId,
+            memory.getCreatedDate());
+      }
+    }
+  }
+
+  @Override
+  protected BaseRepository<TranslationMemory, Long> getRepository() {
+    return this.translationMemoryRepo;
+  }
+}
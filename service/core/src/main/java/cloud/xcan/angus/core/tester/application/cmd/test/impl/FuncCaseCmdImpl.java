@@ -84,6 +84,7 @@ import cloud.xcan.angus.core.tester.domain.activity.ActivityType;
 import cloud.xcan.angus.core.tester.domain.comment.CommentRepo;
 import cloud.xcan.angus.core.tester.domain.comment.CommentTargetType;
 import cloud.xcan.angus.core.tester.domain.issue.TaskInfo;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
 import cloud.xcan.angus.core.tester.domain.project.module.Module;
 import cloud.xcan.angus.core.tester.domain.project.tag.Tag;
 import cloud.xcan.angus.core.tester.domain.project.tag.TagTarget;
@@ -99,6 +100,7 @@ import cloud.xcan.angus.core.tester.domain.test.plan.FuncPlan;
 import cloud.xcan.angus.core.tester.domain.test.plan.auth.FuncPlanPermission;
 import cloud.xcan.angus.core.tester.domain.test.review.FuncReview;
 import cloud.xcan.angus.core.tester.domain.test.review.cases.FuncReviewCaseRepo;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
 import cloud.xcan.angus.extraction.utils.PoiUtils;
 import cloud.xcan.angus.idgen.BidGenerator;
 import cloud.xcan.angus.remote.message.ProtocolException;
@@ -186,6 +188,8 @@ public class FuncCaseCmdImpl extends CommCmd<FuncCase, Long> implements FuncCase
   private UserManager userManager;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private KanbanGrowthTrendCache kanbanGrowthTrendCache;
 
   /**
    * Adds a batch of functional test cases to the system.
@@ -230,6 +234,7 @@ public class FuncCaseCmdImpl extends CommCmd<FuncCase, Long> implements FuncCase
         // Fill creation info for each case
         FuncCaseConverter.assembleAddInfo(cases, planDb);
         List<IdKey<Long, Object>> idKeys = batchInsert(cases, "name");
+        kanbanGrowthTrendCache.evict(planDb.getProjectId(), DataAssetsCategory.FUNC);
 
         // Add tags if present (optional)
         tagTargetCmd.addCase(cases);
@@ -493,6 +498,8 @@ public class FuncCaseCmdImpl extends CommCmd<FuncCase, Long> implements FuncCase
         }
 
         List<IdKey<Long, Object>> idKeys = batchInsert(newCases, "name");
+        kanbanGrowthTrendCache.evict(newCases.stream().map(FuncCase::getProjectId).toList(),
+            DataAssetsCategory.FUNC);
 
         // Log clone activities for audit
         activityCmd.addAll(toActivities(FUNC_CASE, newCases,
@@ -1672,7 +1679,8 @@ public class FuncCaseCmdImpl extends CommCmd<FuncCase, Long> implements FuncCase
           FuncPlan planDb = planMap.get(entry.getKey());
           // Fill creation info for each case
           FuncCaseConverter.assembleAddInfo(entry.getValue(), planDb);
-          batchInsert(cases, "name");
+          batchInsert(entry.getValue(), "name");
+          kanbanGrowthTrendCache.evict(planDb.getProjectId(), DataAssetsCategory.FUNC);
         }
       }
     }
@@ -25,6 +25,7 @@ import cloud.xcan.angus.core.tester.domain.test.plan.FuncPlanRepo;
 import cloud.xcan.angus.core.tester.domain.test.plan.auth.FuncPlanAuth;
 import cloud.xcan.angus.core.tester.domain.test.plan.auth.FuncPlanAuthRepo;
 import cloud.xcan.angus.core.tester.domain.test.plan.auth.FuncPlanPermission;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import jakarta.annotation.Resource;
 import java.util.Collection;
@@ -62,6 +63,8 @@ public class FuncPlanAuthCmdImpl extends CommCmd<FuncPlanAuth, Long> implements
   private CommonQuery commonQuery;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * Add a new authorization for a functional test plan.
@@ -101,6 +104,7 @@ public class FuncPlanAuthCmdImpl extends CommCmd<FuncPlanAuth, Long> implements
           activityCmd.add(toActivity(CombinedTargetType.FUNC_PLAN, funcPlanDb,
               ActivityType.AUTH, authObjectName));
         }
+        authDecisionCache.evict(CombinedTargetType.FUNC_PLAN, auth.getPlanId());
         return insert(auth);
       }
     }.execute();
@@ -142,6 +146,7 @@ public class FuncPlanAuthCmdImpl extends CommCmd<FuncPlanAuth, Long> implements
         // Replace authorization
         authDb.setAuths(auth.getAuths());
         funcPlanAuthRepo.save(authDb);
+        authDecisionCache.evict(CombinedTargetType.FUNC_PLAN, authDb.getPlanId());
 
         // Add modification permission activity
         if (!authDb.isCreatorAuth()) {
@@ -178,6 +183,7 @@ public class FuncPlanAuthCmdImpl extends CommCmd<FuncPlanAuth, Long> implements
       protected Void process() {
         funcPlanRepo.updateAuthById(planId, enabled);
         funcCaseRepo.updatePlanAuthByPlanId(planId, enabled);
+        authDecisionCache.evict(CombinedTargetType.FUNC_PLAN, planId);
 
         // Enable permission control activity
         activityCmd.add(toActivity(CombinedTargetType.FUNC_PLAN, funcPlanDb,
@@ -231,6 +237,7 @@ public class FuncPlanAuthCmdImpl extends CommCmd<FuncPlanAuth, Long> implements
 
         // Delete plan permission
         funcPlanAuthRepo.deleteById(id);
+        authDecisionCache.evict(CombinedTargetType.FUNC_PLAN, authDb.getPlanId());
         return null;
       }
     }.execute();
@@ -244,6 +251,7 @@ public class FuncPlanAuthCmdImpl extends CommCmd<FuncPlanAuth, Long> implements
   @Override
   public void addCreatorAuth(Long planId, Set<Long> creatorIds) {
     batchInsert(toFuncPlanAuths(creatorIds, planId, FuncPlanPermission.ALL, true));
+    authDecisionCache.evict(CombinedTargetType.FUNC_PLAN, planId);
   }
 
   /**
@@ -273,6 +281,7 @@ public class FuncPlanAuthCmdImpl extends CommCmd<FuncPlanAuth, Long> implements
   @Override
   public void deleteAuthByPlanId(Long planId, Collection<Long> testerIds) {
     funcPlanAuthRepo.deleteByPlanIdAndAuthObjectId(planId, testerIds);
+    authDecisionCache.evict(CombinedTargetType.FUNC_PLAN, planId);
   }
 
   /**
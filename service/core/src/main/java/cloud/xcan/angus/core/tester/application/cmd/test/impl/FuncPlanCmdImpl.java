@@ -31,6 +31,7 @@ import cloud.xcan.angus.core.tester.application.query.test.FuncPlanAuthQuery;
 import cloud.xcan.angus.core.tester.application.query.test.FuncPlanQuery;
 import cloud.xcan.angus.core.tester.application.query.test.FuncReviewQuery;
 import cloud.xcan.angus.core.tester.domain.activity.ActivityType;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
 import cloud.xcan.angus.core.tester.domain.test.cases.FuncCaseRepo;
 import cloud.xcan.angus.core.tester.domain.test.plan.FuncPlan;
 import cloud.xcan.angus.core.tester.domain.test.plan.FuncPlanRepo;
@@ -38,6 +39,7 @@ import cloud.xcan.angus.core.tester.domain.test.plan.FuncPlanStatus;
 import cloud.xcan.angus.core.tester.domain.test.plan.auth.FuncPlanPermission;
 import cloud.xcan.angus.core.tester.domain.test.review.FuncReview;
 import cloud.xcan.angus.core.tester.domain.test.trash.FuncTrashRepo;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils;
 import cloud.xcan.angus.core.tester.infra.util.BIDUtils.BIDKey;
 import cloud.xcan.angus.spec.experimental.IdKey;
@@ -93,6 +95,8 @@ public class FuncPlanCmdImpl extends CommCmd<FuncPlan, Long> implements FuncPlan
   private UserManager userManager;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private KanbanGrowthTrendCache kanbanGrowthTrendCache;
 
   /**
    * <p>
@@ -139,6 +143,7 @@ public class FuncPlanCmdImpl extends CommCmd<FuncPlan, Long> implements FuncPlan
         // Insert the plan and get ID
         plan.setId(BIDUtils.getId(BIDKey.planId));
         IdKey<Long, Object> idKey = insert(plan);
+        kanbanGrowthTrendCache.evict(plan.getProjectId(), DataAssetsCategory.FUNC);
 
         // Initialize plan creator authorization
         Long currentUserId = getUserId();
@@ -426,6 +431,7 @@ public class FuncPlanCmdImpl extends CommCmd<FuncPlan, Long> implements FuncPlan
         FuncPlan newPlan = FuncPlanConverter.clone(planDb);
         funcPlanQuery.setSafeCloneName(newPlan);
         IdKey<Long, Object> idKey = insert(newPlan, "name");
+        kanbanGrowthTrendCache.evict(newPlan.getProjectId(), DataAssetsCategory.FUNC);
 
         activityCmd.add(toActivity(FUNC_PLAN, planDb, ActivityType.CLONE, planDb.getName()));
         return idKey;
@@ -603,6 +609,7 @@ public class FuncPlanCmdImpl extends CommCmd<FuncPlan, Long> implements FuncPlan
         plan.setId(BIDUtils.getId(BIDKey.planId));
       }
       IdKey<Long, Object> idKey = insert(plan);
+      kanbanGrowthTrendCache.evict(plan.getProjectId(), DataAssetsCategory.FUNC);
 
       // Initialize plan creator authorization
       Long currentUserId = getUserId();
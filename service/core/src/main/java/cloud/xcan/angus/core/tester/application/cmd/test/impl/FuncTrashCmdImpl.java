@@ -25,6 +25,7 @@ import cloud.xcan.angus.core.tester.domain.test.plan.FuncPlanRepo;
 import cloud.xcan.angus.core.tester.domain.test.plan.auth.FuncPlanAuthRepo;
 import cloud.xcan.angus.core.tester.domain.test.trash.FuncTrash;
 import cloud.xcan.angus.core.tester.domain.test.trash.FuncTrashRepo;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import jakarta.annotation.Resource;
 import java.util.ArrayList;
 import java.util.List;
@@ -66,6 +67,8 @@ public class FuncTrashCmdImpl extends CommCmd<FuncTrash, Long> implements FuncTr
   private FuncPlanCmd funcPlanCmd;
   @Resource
   private ActivityCmd activityCmd;
+  @Resource
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * Add a batch of trash records.
@@ -281,6 +284,7 @@ public class FuncTrashCmdImpl extends CommCmd<FuncTrash, Long> implements FuncTr
 
       funcPlanCmd.delete0(planIds);
       funcPlanAuthRepo.deleteByPlanIdIn(planIds);
+      authDecisionCache.evict(FUNC_PLAN, planIds);
       funcTrashRepo.deleteByTargetIdIn(planIds);
     }
 
@@ -1,6 +1,7 @@
 package cloud.xcan.angus.core.tester.application.converter;
 
 import static cloud.xcan.angus.core.spring.SpringContextHolder.getBean;
+import static cloud.xcan.angus.core.tester.infra.util.OpenApiUtil.contentHash;
 import static cloud.xcan.angus.remote.search.SearchCriteria.equal;
 import static cloud.xcan.angus.remote.search.SearchCriteria.greaterThanEqual;
 import static cloud.xcan.angus.remote.search.SearchCriteria.in;
@@ -56,6 +57,8 @@ import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
 import java.net.URL;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -276,6 +279,7 @@ public class ApisConverter {
         .setServers(operation.getServers())
         .setExtensions(operation.getExtensions())
         .setSchemaHash(operation.hashCode())
+        .setContentHash(contentHash(operation))
         .setAuthentication(operation.getAuthentication());
     apis.setEndpoint(apis.getEndpoint());
     return apis;
@@ -407,10 +411,34 @@ public class ApisConverter {
         //.setCurrentServer(null) <- NOOP
         .setServers(openApis.getServers())
         .setExtensions(openApis.getExtensions())
-        .setSchemaHash(openApis.getSchemaHash());
+        .setSchemaHash(openApis.getSchemaHash())
+        .setContentHash(openApis.getContentHash());
     //.setAuthentication(null) <- NOOP
   }
 
+  /**
+   * Hash of the fields written from the document by
+   * {@link #assembleSchemaToUpdateApis(Apis, Apis)}, used to compare a stored api without content
+   * hash with the imported one.
+   */
+  public static String schemaFieldsHash(Apis apis) {
+    return contentHash(Arrays.asList(apis.getTags(), stringSafe(apis.getSummary()),
+        apis.getDescription(), apis.getExternalDocs(), apis.getOperationId(),
+        apis.getParameters(), apis.getRequestBody(), apis.getResponses(), apis.getSecurity(),
+        apis.getServers(), apis.getExtensions()));
+  }
+
+  /**
+   * Clear the content hashes of locally edited apis, so the next import compares their fields by
+   * {@link #schemaFieldsHash(Apis)} and rewrites the edited ones.
+   */
+  public static <C extends Collection<Apis>> C clearContentHash(C apis) {
+    for (Apis api : apis) {
+      api.setContentHash(null);
+    }
+    return apis;
+  }
+
   public static ApisInfoSummary toApisInfoSummary(ApisBasicInfo apis) {
     return new ApisInfoSummary().setId(apis.getId())
         .setSource(apis.getSource())
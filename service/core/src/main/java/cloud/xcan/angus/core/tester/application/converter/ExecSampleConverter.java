@@ -3,19 +3,24 @@ package cloud.xcan.angus.core.tester.application.converter;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isNull;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.nullSafe;
 
 import cloud.xcan.angus.core.tester.domain.exec.result.summary.ExecSampleContent;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSample;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleError;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleMergeBase;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollup;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleScore;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleSummary;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleThread;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleThroughput;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleTier;
 import cloud.xcan.angus.core.tester.interfaces.exec.facade.vo.sample.ExecSampleSummaryInfoVo;
 import java.text.DecimalFormat;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 import java.util.Map.Entry;
 
 public class ExecSampleConverter {
@@ -364,4 +369,318 @@ public class ExecSampleConverter {
     first.setErrorRate(first.getErrorRate() + other.getErrorRate());
   }
 
+  public static ExecSampleRollup toExecSampleRollup(ExecSample sample, long timestamp) {
+    return new ExecSampleRollup()
+        .setExecId(sample.getExecId())
+        .setTenantId(sample.getTenantId())
+        .setTimestamp(timestamp)
+        .setTimestamp0(sample.getTimestamp0())
+        .setName(sample.getName())
+        .setNodeNum(1)
+        .setFinish(sample.isFinish())
+        .setDuration(sample.getDuration())
+        .setErrors(sample.getErrors())
+        .setIterations(nullSafe(sample.getIterations(), 0L))
+        .setN(sample.getN())
+        .setOperations(sample.getOperations())
+        .setTransactions(sample.getTransactions())
+        .setReadBytes(sample.getReadBytes())
+        .setWriteBytes(sample.getWriteBytes())
+        .setOps(sample.getOps())
+        .setTps(sample.getTps())
+        .setBrps(sample.getBrps())
+        .setBwps(sample.getBwps())
+        .setTranMean(sample.getTranMean())
+        .setTranMin(sample.getTranMin())
+        .setTranMax(sample.getTranMax())
+        .setTranP50(sample.getTranP50())
+        .setTranP75(sample.getTranP75())
+        .setTranP90(sample.getTranP90())
+        .setTranP95(sample.getTranP95())
+        .setTranP99(sample.getTranP99())
+        .setTranP999(sample.getTranP999())
+        .setErrorRate(sample.getErrorRate())
+        .setThreadPoolSize(sample.getThreadPoolSize())
+        .setThreadPoolActiveSize(sample.getThreadPoolActiveSize())
+        .setThreadMaxPoolSize(sample.getThreadMaxPoolSize())
+        .setThreadRunning(sample.isThreadRunning())
+        .setThreadTerminated(sample.isThreadTerminated())
+        .setExtCounter1(sample.getExtCounter1())
+        .setExtCounter2(sample.getExtCounter2())
+        .setExtGauge1(sample.getExtGauge1())
+        .setExtGauge2(sample.getExtGauge2());
+  }
+
+  /**
+   * Merge rollups of the same interval, keep consistent with merging rollup rows in database.
+   * <p>
+   * Unlike {@link #mergeToFirst(ExecSample, ExecSample)}, means and percentiles are weighted by the
+   * number of merged nodes, so the result does not depend on the merge order.
+   */
+  public static void mergeToFirst(ExecSampleRollup first, ExecSampleRollup other) {
+    int firstNum = first.getNodeNum();
+    int otherNum = other.getNodeNum();
+    int nodeNum = firstNum + otherNum;
+
+    first.setTimestamp0(Math.max(first.getTimestamp0(), other.getTimestamp0()));
+    first.setFinish(first.isFinish() || other.isFinish());
+    first.setDuration(Math.max(first.getDuration(), other.getDuration()));
+
+    /**
+     * =======Counter=======
+     */
+    first.setErrors(first.getErrors() + other.getErrors());
+    first.setIterations(first.getIterations() + other.getIterations());
+    first.setN(first.getN() + other.getN());
+    first.setOperations(first.getOperations() + other.getOperations());
+    first.setTransactions(first.getTransactions() + other.getTransactions());
+    first.setReadBytes(first.getReadBytes() + other.getReadBytes());
+    first.setWriteBytes(first.getWriteBytes() + other.getWriteBytes());
+
+    /**
+     * ======Throughput======
+     */
+    first.setOps(first.getOps() + other.getOps());
+    first.setTps(first.getTps() + other.getTps());
+    first.setBrps(first.getBrps() + other.getBrps());
+    first.setBwps(first.getBwps() + other.getBwps());
+
+    /**
+     * ==Aggregation(Trans)=
+     */
+    first.setTranMean(weightedMean(first.getTranMean(), firstNum, other.getTranMean(), otherNum));
+    first.setTranMin(Math.min(first.getTranMin(), other.getTranMin()));
+    first.setTranMax(Math.max(first.getTranMax(), other.getTranMax()));
+
+    /**
+     * ==Percentile(Trans)==
+     */
+    first.setTranP50(weightedMean(first.getTranP50(), firstNum, other.getTranP50(), otherNum));
+    first.setTranP75(weightedMean(first.getTranP75(), firstNum, other.getTranP75(), otherNum));
+    first.setTranP90(weightedMean(first.getTranP90(), firstNum, other.getTranP90(), otherNum));
+    first.setTranP95(weightedMean(first.getTranP95(), firstNum, other.getTranP95(), otherNum));
+    first.setTranP99(weightedMean(first.getTranP99(), firstNum, other.getTranP99(), otherNum));
+    first.setTranP999(weightedMean(first.getTranP999(), firstNum, other.getTranP999(), otherNum));
+
+    /**
+     * ========Error========
+     */
+    first.setErrorRate(first.getErrorRate() + other.getErrorRate());
+
+    /**
+     * ========Threads=======
+     */
+    first.setThreadPoolSize(first.getThreadPoolSize() + other.getThreadPoolSize());
+    first.setThreadPoolActiveSize(
+        first.getThreadPoolActiveSize() + other.getThreadPoolActiveSize());
+    first.setThreadMaxPoolSize(first.getThreadMaxPoolSize() + other.getThreadMaxPoolSize());
+    first.setThreadRunning(first.isThreadRunning() || other.isThreadRunning());
+    first.setThreadTerminated(first.isThreadTerminated() || other.isThreadTerminated());
+
+    /**
+     * ========Extension====
+     */
+    first.setExtCounter1(first.getExtCounter1() + other.getExtCounter1());
+    first.setExtCounter2(first.getExtCounter2() + other.getExtCounter2());
+    first.setExtGauge1(first.getExtGauge1() + other.getExtGauge1());
+    first.setExtGauge2(first.getExtGauge2() + other.getExtGauge2());
+
+    first.setNodeNum(nodeNum);
+  }
+
+  private static double weightedMean(double first, int firstNum, double other, int otherNum) {
+    return firstNum + otherNum <= 0 ? first
+        : (first * firstNum + other * otherNum) / (firstNum + otherNum);
+  }
+
+  public static ExecSampleSummary toExecSampleSummary(ExecSampleRollup rollup) {
+    return new ExecSampleSummary()
+        .setId(rollup.getId())
+        .setExecId(rollup.getExecId())
+        .setFinish(rollup.isFinish())
+        .setTimestamp(rollup.getTimestamp())
+        .setTimestamp0(rollup.getTimestamp0())
+        .setName(rollup.getName())
+        .setDuration(rollup.getDuration())
+        .setErrors(rollup.getErrors())
+        .setIterations(rollup.getIterations())
+        .setN(rollup.getN())
+        .setOperations(rollup.getOperations())
+        .setTransactions(rollup.getTransactions())
+        .setReadBytes(rollup.getReadBytes())
+        .setWriteBytes(rollup.getWriteBytes())
+        .setOps(rollup.getOps())
+        .setTps(rollup.getTps())
+        .setBrps(rollup.getBrps())
+        .setBwps(rollup.getBwps())
+        .setTranMean(rollup.getTranMean())
+        .setTranMin(rollup.getTranMin())
+        .setTranMax(rollup.getTranMax())
+        .setTranP50(rollup.getTranP50())
+        .setTranP75(rollup.getTranP75())
+        .setTranP90(rollup.getTranP90())
+        .setTranP95(rollup.getTranP95())
+        .setTranP99(rollup.getTranP99())
+        .setTranP999(rollup.getTranP999())
+        .setErrorRate(rollup.getErrorRate())
+        .setThreadPoolSize(rollup.getThreadPoolSize())
+        .setThreadPoolActiveSize(rollup.getThreadPoolActiveSize())
+        .setThreadMaxPoolSize(rollup.getThreadMaxPoolSize())
+        .setExtCounter1(rollup.getExtCounter1())
+        .setExtCounter2(rollup.getExtCounter2())
+        .setExtGauge1(rollup.getExtGauge1())
+        .setExtGauge2(rollup.getExtGauge2())
+        .setTenantId(rollup.getTenantId());
+  }
+
+  public static ExecSampleScore toExecSampleScore(ExecSampleRollup rollup) {
+    return new ExecSampleScore()
+        .setId(rollup.getId())
+        .setExecId(rollup.getExecId())
+        .setTimestamp(rollup.getTimestamp())
+        .setTimestamp0(rollup.getTimestamp0())
+        .setName(rollup.getName())
+        .setTranMean(rollup.getTranMean())
+        .setTranMin(rollup.getTranMin())
+        .setTranMax(rollup.getTranMax())
+        .setTranP50(rollup.getTranP50())
+        .setTranP75(rollup.getTranP75())
+        .setTranP90(rollup.getTranP90())
+        .setTranP95(rollup.getTranP95())
+        .setTranP99(rollup.getTranP99())
+        .setTranP999(rollup.getTranP999())
+        .setTenantId(rollup.getTenantId());
+  }
+
+  public static ExecSampleThroughput toExecSampleThroughput(ExecSampleRollup rollup) {
+    return new ExecSampleThroughput()
+        .setId(rollup.getId())
+        .setExecId(rollup.getExecId())
+        .setTimestamp(rollup.getTimestamp())
+        .setTimestamp0(rollup.getTimestamp0())
+        .setName(rollup.getName())
+        .setOps(rollup.getOps())
+        .setTps(rollup.getTps())
+        .setBrps(rollup.getBrps())
+        .setBwps(rollup.getBwps())
+        .setTenantId(rollup.getTenantId());
+  }
+
+  public static ExecSampleThread toExecSampleThread(ExecSampleRollup rollup) {
+    return new ExecSampleThread()
+        .setId(rollup.getId())
+        .setExecId(rollup.getExecId())
+        .setTimestamp(rollup.getTimestamp())
+        .setTimestamp0(rollup.getTimestamp0())
+        .setName(rollup.getName())
+        .setThreadPoolSize(rollup.getThreadPoolSize())
+        .setThreadPoolActiveSize(rollup.getThreadPoolActiveSize())
+        .setThreadMaxPoolSize(rollup.getThreadMaxPoolSize())
+        .setThreadRunning(rollup.isThreadRunning())
+        .setThreadTerminated(rollup.isThreadTerminated())
+        .setTenantId(rollup.getTenantId());
+  }
+
+  /**
+   * Downsample the rollups of a bucket ordered by timestamp: cumulative counters and time take the
+   * maximum (the latest), rates and latencies take the mean, and pool sizes and gauges take the
+   * latest value.
+   */
+  public static ExecSampleTier toExecSampleTier(List<ExecSampleRollup> rollups, long resolution,
+      long timestamp) {
+    ExecSampleRollup latest = rollups.get(rollups.size() - 1);
+    return new ExecSampleTier()
+        .setExecId(latest.getExecId())
+        .setTenantId(latest.getTenantId())
+        .setResolution(resolution)
+        .setTimestamp(timestamp)
+        .setTimestamp0(max(rollups, ExecSampleRollup::getTimestamp0))
+        .setName(latest.getName())
+        .setNodeNum((int) max(rollups, ExecSampleRollup::getNodeNum))
+        .setFinish(rollups.stream().anyMatch(ExecSampleRollup::isFinish))
+        .setDuration(max(rollups, ExecSampleRollup::getDuration))
+        .setErrors(max(rollups, ExecSampleRollup::getErrors))
+        .setIterations(max(rollups, r -> nullSafe(r.getIterations(), 0L)))
+        .setN(max(rollups, ExecSampleRollup::getN))
+        .setOperations(max(rollups, ExecSampleRollup::getOperations))
+        .setTransactions(max(rollups, ExecSampleRollup::getTransactions))
+        .setReadBytes(max(rollups, ExecSampleRollup::getReadBytes))
+        .setWriteBytes(max(rollups, ExecSampleRollup::getWriteBytes))
+        .setOps(mean(rollups, ExecSampleRollup::getOps))
+        .setTps(mean(rollups, ExecSampleRollup::getTps))
+        .setBrps(mean(rollups, ExecSampleRollup::getBrps))
+        .setBwps(mean(rollups, ExecSampleRollup::getBwps))
+        .setTranMean(mean(rollups, ExecSampleRollup::getTranMean))
+        .setTranMin(rollups.stream().mapToDouble(ExecSampleRollup::getTranMin).min().orElse(0))
+        .setTranMax(rollups.stream().mapToDouble(ExecSampleRollup::getTranMax).max().orElse(0))
+        .setTranP50(mean(rollups, ExecSampleRollup::getTranP50))
+        .setTranP75(mean(rollups, ExecSampleRollup::getTranP75))
+        .setTranP90(mean(rollups, ExecSampleRollup::getTranP90))
+        .setTranP95(mean(rollups, ExecSampleRollup::getTranP95))
+        .setTranP99(mean(rollups, ExecSampleRollup::getTranP99))
+        .setTranP999(mean(rollups, ExecSampleRollup::getTranP999))
+        .setErrorRate(mean(rollups, ExecSampleRollup::getErrorRate))
+        .setThreadPoolSize(latest.getThreadPoolSize())
+        .setThreadPoolActiveSize(latest.getThreadPoolActiveSize())
+        .setThreadMaxPoolSize(latest.getThreadMaxPoolSize())
+        .setThreadRunning(latest.isThreadRunning())
+        .setThreadTerminated(latest.isThreadTerminated())
+        .setExtCounter1(max(rollups, ExecSampleRollup::getExtCounter1))
+        .setExtCounter2(max(rollups, ExecSampleRollup::getExtCounter2))
+        .setExtGauge1(latest.getExtGauge1())
+        .setExtGauge2(latest.getExtGauge2());
+  }
+
+  private static long max(List<ExecSampleRollup> rollups, ToLongFunction<ExecSampleRollup> field) {
+    return rollups.stream().mapToLong(field).max().orElse(0);
+  }
+
+  private static double mean(List<ExecSampleRollup> rollups,
+      ToDoubleFunction<ExecSampleRollup> field) {
+    return rollups.stream().mapToDouble(field).average().orElse(0);
+  }
+
+  public static ExecSampleRollup toExecSampleRollup(ExecSampleTier tier) {
+    return new ExecSampleRollup()
+        .setId(tier.getId())
+        .setExecId(tier.getExecId())
+        .setTenantId(tier.getTenantId())
+        .setTimestamp(tier.getTimestamp())
+        .setTimestamp0(tier.getTimestamp0())
+        .setName(tier.getName())
+        .setNodeNum(tier.getNodeNum())
+        .setFinish(tier.isFinish())
+        .setDuration(tier.getDuration())
+        .setErrors(tier.getErrors())
+        .setIterations(tier.getIterations())
+        .setN(tier.getN())
+        .setOperations(tier.getOperations())
+        .setTransactions(tier.getTransactions())
+        .setReadBytes(tier.getReadBytes())
+        .setWriteBytes(tier.getWriteBytes())
+        .setOps(tier.getOps())
+        .setTps(tier.getTps())
+        .setBrps(tier.getBrps())
+        .setBwps(tier.getBwps())
+        .setTranMean(tier.getTranMean())
+        .setTranMin(tier.getTranMin())
+        .setTranMax(tier.getTranMax())
+        .setTranP50(tier.getTranP50())
+        .setTranP75(tier.getTranP75())
+        .setTranP90(tier.getTranP90())
+        .setTranP95(tier.getTranP95())
+        .setTranP99(tier.getTranP99())
+        .setTranP999(tier.getTranP999())
+        .setErrorRate(tier.getErrorRate())
+        .setThreadPoolSize(tier.getThreadPoolSize())
+        .setThreadPoolActiveSize(tier.getThreadPoolActiveSize())
+        .setThreadMaxPoolSize(tier.getThreadMaxPoolSize())
+        .setThreadRunning(tier.isThreadRunning())
+        .setThreadTerminated(tier.isThreadTerminated())
+        .setExtCounter1(tier.getExtCounter1())
+        .setExtCounter2(tier.getExtCounter2())
+        .setExtGauge1(tier.getExtGauge1())
+        .setExtGauge2(tier.getExtGauge2());
+  }
+
 }
@@ -2,6 +2,7 @@ package cloud.xcan.angus.core.tester.application.converter;
 
 import static cloud.xcan.angus.core.tester.application.query.services.impl.ServicesCompQueryImpl.toComponent;
 import static cloud.xcan.angus.core.tester.domain.apis.converter.ApiResponseConverter.OPENAPI_MAPPER;
+import static cloud.xcan.angus.core.tester.infra.util.OpenApiUtil.contentHash;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.distinctByKey;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
 import static io.swagger.v3.oas.models.Components.COMPONENTS_EXTENSIONS_REF;
@@ -222,7 +223,8 @@ public class ServicesCompConverter {
         .setSchema(schema)
         .setModel(OPENAPI_MAPPER.writeValueAsString(schema))
         .setDescription(schema.getDescription())
-        .setSchemaHash(schema.hashCode());
+        .setSchemaHash(schema.hashCode())
+        .setContentHash(contentHash(schema));
   }
 
   @SneakyThrows
@@ -233,7 +235,8 @@ public class ServicesCompConverter {
         .setResponse(response)
         .setModel(OPENAPI_MAPPER.writeValueAsString(response))
         .setDescription(response.getDescription())
-        .setSchemaHash(response.hashCode());
+        .setSchemaHash(response.hashCode())
+        .setContentHash(contentHash(response));
   }
 
   @SneakyThrows
@@ -244,7 +247,8 @@ public class ServicesCompConverter {
         .setParameter(parameter)
         .setModel(OPENAPI_MAPPER.writeValueAsString(parameter))
         .setDescription(parameter.getDescription())
-        .setSchemaHash(parameter.hashCode());
+        .setSchemaHash(parameter.hashCode())
+        .setContentHash(contentHash(parameter));
   }
 
   @SneakyThrows
@@ -254,7 +258,8 @@ public class ServicesCompConverter {
         .setExample(example)
         .setModel(OPENAPI_MAPPER.writeValueAsString(example))
         .setDescription(example.getDescription())
-        .setSchemaHash(example.hashCode());
+        .setSchemaHash(example.hashCode())
+        .setContentHash(contentHash(example));
   }
 
   @SneakyThrows
@@ -265,7 +270,8 @@ public class ServicesCompConverter {
         .setRequestBody(requestBody)
         .setModel(OPENAPI_MAPPER.writeValueAsString(requestBody))
         .setDescription(requestBody.getDescription())
-        .setSchemaHash(requestBody.hashCode());
+        .setSchemaHash(requestBody.hashCode())
+        .setContentHash(contentHash(requestBody));
   }
 
   @SneakyThrows
@@ -275,7 +281,8 @@ public class ServicesCompConverter {
         .setHeader(header)
         .setModel(OPENAPI_MAPPER.writeValueAsString(header))
         .setDescription(header.getDescription())
-        .setSchemaHash(header.hashCode());
+        .setSchemaHash(header.hashCode())
+        .setContentHash(contentHash(header));
   }
 
   @SneakyThrows
@@ -286,7 +293,8 @@ public class ServicesCompConverter {
         .setSecurityScheme(securityScheme)
         .setModel(OPENAPI_MAPPER.writeValueAsString(securityScheme))
         .setDescription(securityScheme.getDescription())
-        .setSchemaHash(securityScheme.hashCode());
+        .setSchemaHash(securityScheme.hashCode())
+        .setContentHash(contentHash(securityScheme));
   }
 
   @SneakyThrows
@@ -296,7 +304,8 @@ public class ServicesCompConverter {
         .setLink(link)
         .setModel(OPENAPI_MAPPER.writeValueAsString(link))
         .setDescription(link.getDescription())
-        .setSchemaHash(link.hashCode());
+        .setSchemaHash(link.hashCode())
+        .setContentHash(contentHash(link));
   }
 
   @SneakyThrows
@@ -306,7 +315,8 @@ public class ServicesCompConverter {
         .setExtension(extension)
         .setModel(OPENAPI_MAPPER.writeValueAsString(extension))
         //.setDescription(link.getDescription())
-        .setSchemaHash(extension.hashCode());
+        .setSchemaHash(extension.hashCode())
+        .setContentHash(contentHash(extension));
   }
 
   public static void openApiToUpdateComp(ServicesComp compDb, ServicesComp openApiComp) {
@@ -314,7 +324,8 @@ public class ServicesCompConverter {
         .setRef(openApiComp.getRef())
         .setModel(openApiComp.getModel())
         .setDescription(openApiComp.getDescription())
-        .setSchemaHash(openApiComp.getSchemaHash());
+        .setSchemaHash(openApiComp.getSchemaHash())
+        .setContentHash(openApiComp.getContentHash());
   }
 
   public static void updateComp(ServicesComp compDb, ServicesComp comp) {
@@ -323,7 +334,8 @@ public class ServicesCompConverter {
         .setKey(comp.getKey()).setRef(comp.getRef())
         .setModel(comp.getModel())
         .setDescription(comp.getDescription())
-        .setSchemaHash(comp.getSchemaHash());
+        .setSchemaHash(comp.getSchemaHash())
+        .setContentHash(comp.getContentHash());
   }
 
   public static ServicesComp toClonedProjectComp(ServicesComp comp, Long serviceId) {
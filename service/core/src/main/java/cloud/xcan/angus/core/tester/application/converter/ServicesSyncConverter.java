@@ -1,6 +1,7 @@
 package cloud.xcan.angus.core.tester.application.converter;
 
 import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSync;
+import java.time.LocalDateTime;
 
 public class ServicesSyncConverter {
 
@@ -9,7 +10,17 @@ public class ServicesSyncConverter {
         .setApiDocsUrl(projectSync.getApiDocsUrl())
         .setStrategyWhenDuplicated(projectSync.getStrategyWhenDuplicated())
         .setDeleteWhenNotExisted(projectSync.getDeleteWhenNotExisted())
-        .setAuths(projectSync.getAuths());
+        .setAuths(projectSync.getAuths())
+        .setSyncInterval(projectSync.getSyncInterval())
+        // Apply the document again with the changed configuration
+        .setEtag(null).setLastModified(null).setContentHash(null);
+  }
+
+  /**
+   * Scheduled synchronization is due immediately after it is configured.
+   */
+  public static ServicesSync setFirstSyncDate(ServicesSync sync) {
+    return sync.setNextSyncDate(sync.isScheduled() ? LocalDateTime.now() : null);
   }
 
 }
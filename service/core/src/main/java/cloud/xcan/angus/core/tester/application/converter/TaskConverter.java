@@ -14,7 +14,6 @@ import static cloud.xcan.angus.spec.principal.PrincipalContext.getUserId;
 import static cloud.xcan.angus.spec.utils.DateUtils.asDate;
 import static cloud.xcan.angus.spec.utils.DateUtils.getLocalDateTime;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.calcRate;
-import static cloud.xcan.angus.spec.utils.ObjectUtils.convert;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isTrueValue;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.nullSafe;
@@ -47,6 +46,7 @@ import cloud.xcan.angus.core.tester.domain.issue.count.ProgressCount;
 import cloud.xcan.angus.core.tester.domain.issue.count.TaskAssigneeCount;
 import cloud.xcan.angus.core.tester.domain.issue.count.TaskAssigneeProgressCount;
 import cloud.xcan.angus.core.tester.domain.issue.count.TaskCount;
+import cloud.xcan.angus.core.tester.domain.issue.count.TaskCounter;
 import cloud.xcan.angus.core.tester.domain.issue.count.TaskLastResourceCreationCount;
 import cloud.xcan.angus.core.tester.domain.issue.meeting.TaskMeeting;
 import cloud.xcan.angus.core.tester.domain.issue.meeting.TaskMeetingType;
@@ -378,22 +378,22 @@ public class TaskConverter {
         .setContent(remark.getContent());
   }
 
-  public static TaskCount objectArrToTaskCount(List<Object[]> groupByResult,
-      List<Object[]> overdueResult, List<Object[]> oneTimePassResult,
-      List<Object[]> sumNumResult, List<Object[]> completedWorkloadResult) {
-    if (isEmpty(groupByResult) && isEmpty(overdueResult) && isEmpty(oneTimePassResult)) {
-      return new TaskCount();
+  /**
+   * Convert the row of conditional aggregation to task count, the columns are in the order of
+   * status, task type, overdue, one-time passed, process times and workloads.
+   */
+  public static TaskCount objectArrToTaskCount(Object[] row) {
+    TaskCount statistics = new TaskCount();
+    if (isNull(row)) {
+      return statistics;
     }
 
-    TaskCount statistics = new TaskCount();
     // Statistics by status
-    Map<String, Integer> statusMap = groupByResult.stream().collect(Collectors.toMap(
-        x -> convert(x[0], String.class), x -> convert(x[2], Integer.class), Integer::sum));
-    statistics.setPendingNum(nullSafe(statusMap.get(TaskStatus.PENDING.name()), 0))
-        .setInProgressNum(nullSafe(statusMap.get(TaskStatus.IN_PROGRESS.name()), 0))
-        .setConfirmingNum(nullSafe(statusMap.get(TaskStatus.CONFIRMING.name()), 0))
-        .setCompletedNum(nullSafe(statusMap.get(TaskStatus.COMPLETED.name()), 0))
-        .setCanceledNum(nullSafe(statusMap.get(TaskStatus.CANCELED.name()), 0))
+    statistics.setPendingNum(toLong(row[0]))
+        .setInProgressNum(toLong(row[1]))
+        .setConfirmingNum(toLong(row[2]))
+        .setCompletedNum(toLong(row[3]))
+        .setCanceledNum(toLong(row[4]))
         .setTotalStatusNum(statistics.getPendingNum() + statistics.getInProgressNum()
             + statistics.getConfirmingNum() + statistics.getCompletedNum()
             + statistics.getCanceledNum());
@@ -402,55 +402,79 @@ public class TaskConverter {
     statistics.setValidTaskNum(statistics.getTotalStatusNum() - statistics.getCanceledNum());
 
     // Statistics by taskType
-    Map<String, Integer> taskTypeMap = groupByResult.stream().collect(Collectors.toMap(
-        x -> convert(x[1], String.class), x -> convert(x[2], Integer.class), Integer::sum));
-    statistics.setRequirementNum(nullSafe(taskTypeMap.get(TaskType.REQUIREMENT.name()), 0))
-        .setStoryNum(nullSafe(taskTypeMap.get(TaskType.STORY.name()), 0))
-        .setTaskNum(nullSafe(taskTypeMap.get(TaskType.TASK.name()), 0))
-        .setBugNum(nullSafe(taskTypeMap.get(TaskType.BUG.name()), 0))
-        .setDesignNum(nullSafe(taskTypeMap.get(TaskType.DESIGN.name()), 0))
+    statistics.setRequirementNum(toLong(row[5]))
+        .setStoryNum(toLong(row[6]))
+        .setTaskNum(toLong(row[7]))
+        .setBugNum(toLong(row[8]))
+        .setDesignNum(toLong(row[9]))
         .setTotalTaskTypeNum(statistics.getStoryNum() + statistics.getRequirementNum()
             + statistics.getTaskNum() + statistics.getBugNum() + statistics.getDesignNum());
 
     // Statistics are overdue
-    if (!overdueResult.isEmpty()) {
-      Integer overdues = convert(overdueResult.get(0), Integer.class);
-      statistics.setOverdueNum(nullSafe(overdues, 0));
-    }
-
-    // Statistics one-time pass number
-    if (!oneTimePassResult.isEmpty()) {
-      Integer oneTimePass = convert(oneTimePassResult.get(0), Integer.class);
-      statistics.setOneTimePassedNum(nullSafe(oneTimePass, 0));
-      if (!oneTimePass.equals(0)) {
-        // Statistics one-time pass rate
-        BigDecimal rate = BigDecimal
-            .valueOf((double) statistics.getOneTimePassedNum() / statistics.getCompletedNum())
-            // X 100 -> %
-            .multiply(BigDecimal.valueOf(100)).setScale(2, RoundingMode.HALF_UP);
-        statistics.setOneTimePassedRate(rate);
-      }
+    statistics.setOverdueNum(toLong(row[10]));
+
+    // Statistics one-time pass number and rate
+    statistics.setOneTimePassedNum(toLong(row[11]));
+    if (statistics.getOneTimePassedNum() > 0 && statistics.getCompletedNum() > 0) {
+      BigDecimal rate = BigDecimal
+          .valueOf((double) statistics.getOneTimePassedNum() / statistics.getCompletedNum())
+          // X 100 -> %
+          .multiply(BigDecimal.valueOf(100)).setScale(2, RoundingMode.HALF_UP);
+      statistics.setOneTimePassedRate(rate);
     }
 
     // Statistics task workload and process times
-    if (!sumNumResult.isEmpty()) {
-      statistics.setProcessTimes(nullSafe(convert(sumNumResult.get(0)[0], Integer.class), 0));
-      statistics.setProcessTimes(nullSafe(convert(sumNumResult.get(0)[1], Integer.class), 0));
-      Double evalWorkload = convert(sumNumResult.get(0)[2], Double.class);
-      statistics.setEvalWorkload(
-          nonNull(evalWorkload) ? BigDecimal.valueOf(evalWorkload) : BigDecimal.ZERO);
-      Double actualWorkload = convert(sumNumResult.get(0)[3], Double.class);
-      statistics.setActualWorkload(
-          nonNull(actualWorkload) ? BigDecimal.valueOf(actualWorkload) : BigDecimal.ZERO);
-    }
-    if (!completedWorkloadResult.isEmpty()) {
-      Double completedWorkload = convert(completedWorkloadResult.get(0), Double.class);
-      statistics.setCompletedWorkload(
-          nonNull(completedWorkload) ? BigDecimal.valueOf(completedWorkload) : BigDecimal.ZERO);
-    }
+    statistics.setProcessTimes(toLong(row[12]));
+    statistics.setProcessFailTimes(toLong(row[13]));
+    statistics.setEvalWorkload(toBigDecimal(row[14]));
+    statistics.setActualWorkload(toBigDecimal(row[15]));
+    statistics.setCompletedWorkload(toBigDecimal(row[16]));
     return statistics;
   }
 
+  public static TaskCount toTaskCount(TaskCounter counter) {
+    return objectArrToTaskCount(new Object[]{counter.getPendingNum(),
+        counter.getInProgressNum(), counter.getConfirmingNum(), counter.getCompletedNum(),
+        counter.getCanceledNum(), counter.getRequirementNum(), counter.getStoryNum(),
+        counter.getTaskNum(), counter.getBugNum(), counter.getDesignNum(),
+        counter.getOverdueNum(), counter.getOneTimePassedNum(), counter.getTotalNum(),
+        counter.getFailNum(), counter.getEvalWorkload(), counter.getActualWorkload(),
+        counter.getCompletedWorkload()});
+  }
+
+  public static TaskCounter toTaskCounter(TaskCount count) {
+    return new TaskCounter()
+        .setPendingNum(count.getPendingNum())
+        .setInProgressNum(count.getInProgressNum())
+        .setConfirmingNum(count.getConfirmingNum())
+        .setCompletedNum(count.getCompletedNum())
+        .setCanceledNum(count.getCanceledNum())
+        .setRequirementNum(count.getRequirementNum())
+        .setStoryNum(count.getStoryNum())
+        .setTaskNum(count.getTaskNum())
+        .setBugNum(count.getBugNum())
+        .setDesignNum(count.getDesignNum())
+        .setOverdueNum(count.getOverdueNum())
+        .setOneTimePassedNum(count.getOneTimePassedNum())
+        .setTotalNum(count.getProcessTimes())
+        .setFailNum(count.getProcessFailTimes())
+        .setEvalWorkload(count.getEvalWorkload())
+        .setActualWorkload(count.getActualWorkload())
+        .setCompletedWorkload(count.getCompletedWorkload());
+  }
+
+  private static long toLong(Object value) {
+    return value instanceof Number ? ((Number) value).longValue() : 0;
+  }
+
+  private static BigDecimal toBigDecimal(Object value) {
+    if (value instanceof BigDecimal) {
+      return (BigDecimal) value;
+    }
+    return value instanceof Number ? BigDecimal.valueOf(((Number) value).doubleValue())
+        : BigDecimal.ZERO;
+  }
+
   public static @NotNull List<Task> importToDomain(
       CachedUidGenerator uidGenerator, Project projectDb, @Nullable TaskSprint sprintDb,
       List<String[]> data, int nameIdx, int taskTypeIdx, int bugLevelIdx,
@@ -0,0 +1,32 @@
+package cloud.xcan.angus.core.tester.application.converter;
+
+import cloud.xcan.angus.core.tester.domain.services.translation.TranslationMemory;
+import cloud.xcan.angus.spec.locale.SupportedLanguage;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+public class TranslationMemoryConverter {
+
+  public static TranslationMemory toTranslationMemory(String sourceText, String translatedText,
+      SupportedLanguage sourceLanguage, SupportedLanguage targetLanguage) {
+    return new TranslationMemory()
+        .setSourceHash(sourceHash(sourceText))
+        .setSourceLanguage(sourceLanguage)
+        .setTargetLanguage(targetLanguage)
+        .setTranslatedText(translatedText)
+        .setCreatedDate(LocalDateTime.now());
+  }
+
+  public static String sourceHash(String sourceText) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+          .digest(sourceText.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
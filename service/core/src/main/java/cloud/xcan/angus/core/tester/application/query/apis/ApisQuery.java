@@ -65,6 +65,8 @@ public interface ApisQuery {
 
   Apis findDeRefById(Long id);
 
+  List<Apis> findDeRefByIds(Collection<Long> ids);
+
   Map<String, String> findApisAllRef(Apis apisDb);
 
   Map<Long, SimpleActivityResource> getCaseSimpleActivityResourceMap(
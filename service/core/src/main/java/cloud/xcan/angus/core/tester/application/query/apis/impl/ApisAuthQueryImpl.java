@@ -1,5 +1,6 @@
 package cloud.xcan.angus.core.tester.application.query.apis.impl;
 
+import static cloud.xcan.angus.api.commonlink.CombinedTargetType.API;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.APIS_NO_AUTH;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.APIS_NO_AUTH_CODE;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.APIS_NO_TARGET_AUTH;
@@ -14,25 +15,25 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import cloud.xcan.angus.api.commonlink.apis.ApiPermission;
-import cloud.xcan.angus.api.commonlink.user.UserRepo;
 import cloud.xcan.angus.api.enums.AuthObjectType;
-import org.springframework.stereotype.Service;
 import cloud.xcan.angus.core.biz.BizTemplate;
 import cloud.xcan.angus.core.biz.ProtocolAssert;
 import cloud.xcan.angus.core.biz.exception.BizException;
 import cloud.xcan.angus.core.tester.application.query.apis.ApisAuthQuery;
 import cloud.xcan.angus.core.tester.application.query.apis.ApisQuery;
-import cloud.xcan.angus.core.tester.application.query.common.CommonQuery;
 import cloud.xcan.angus.core.tester.domain.apis.ApisBaseInfo;
 import cloud.xcan.angus.core.tester.domain.apis.ApisBaseInfoRepo;
 import cloud.xcan.angus.core.tester.domain.apis.auth.ApisAuth;
 import cloud.xcan.angus.core.tester.domain.apis.auth.ApisAuthCurrent;
 import cloud.xcan.angus.core.tester.domain.apis.auth.ApisAuthRepo;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecision;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.remote.message.http.ResourceExisted;
 import cloud.xcan.angus.remote.message.http.ResourceNotFound;
 import jakarta.annotation.Resource;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +43,7 @@ import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
 
 /**
  * Implementation of API authorization query operations for permission management.
@@ -74,9 +76,7 @@ public class ApisAuthQueryImpl implements ApisAuthQuery {
   @Resource
   private ApisBaseInfoRepo apisBaseInfoRepo;
   @Resource
-  private UserRepo userRepo;
-  @Resource
-  private CommonQuery commonQuery;
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * Gets the authorization status for an API.
@@ -132,7 +132,7 @@ public class ApisAuthQueryImpl implements ApisAuthQuery {
 
       @Override
       protected List<ApiPermission> process() {
-        if (Objects.nonNull(admin) && admin && commonQuery.isAdminUser()) {
+        if (Objects.nonNull(admin) && admin && authDecisionCache.isAdmin()) {
           return ApiPermission.ALL;
         }
 
@@ -187,7 +187,7 @@ public class ApisAuthQueryImpl implements ApisAuthQuery {
         authCurrent.setApisAuth(apisDb.getAuth());
 
         // Grant all permissions for admin users if admin flag is set
-        if (Objects.nonNull(admin) && admin && commonQuery.isAdminUser()) {
+        if (Objects.nonNull(admin) && admin && authDecisionCache.isAdmin()) {
           authCurrent.addPermissions(ApiPermission.ALL);
           return authCurrent;
         }
@@ -344,33 +344,25 @@ public class ApisAuthQueryImpl implements ApisAuthQuery {
   @Override
   public void checkAuth(Long userId, Long apisId, ApiPermission permission,
       boolean ignoreAdminPermission, boolean ignorePublicAccess) {
-    // Skip validation for admin users or non-user actions
-    if (!ignoreAdminPermission && commonQuery.isAdminUser() || !isUserAction()) {
+    // Skip validation for non-user actions
+    if (!isUserAction()) {
+      return;
+    }
+    // Skip validation for admin users, the admin flag is cached in the decision
+    AuthDecision decision = findDecision(userId, apisId);
+    if (!ignoreAdminPermission && decision.isAdmin()) {
       return;
     }
 
     // Skip validation for non-grant/non-release permissions on APIs without authorization control
     // Note: This prevents users without authorization permissions from granting access
     if (!ignorePublicAccess && !permission.isGrant() && !permission.isRelease()
-        && !apisQuery.isAuthCtrl(apisId)) {
-      return;
-    }
-
-    // Validate view permissions as base permissions
-    List<ApisAuth> auths = findAuth(userId, apisId);
-    if (permission.equals(ApiPermission.VIEW)) {
-      if (isEmpty(auths)) {
-        throw BizException.of(APIS_NO_AUTH_CODE, APIS_NO_AUTH, new Object[]{permission});
-      }
-    }
-
-    // Grant all permissions to API creators
-    if (isCreator(auths)) {
+        && !isAuthCtrl(apisId)) {
       return;
     }
 
-    // Validate specific permission in flat permission set
-    if (!flatPermissions(auths).contains(permission)) {
+    // View as base permissions, creators have all permissions
+    if (!decision.hasPermission(permission)) {
       throw BizException.of(APIS_NO_AUTH_CODE, APIS_NO_AUTH, new Object[]{permission});
     }
   }
@@ -390,7 +382,7 @@ public class ApisAuthQueryImpl implements ApisAuthQuery {
    */
   @Override
   public void batchCheckPermission(Collection<Long> apiIds, ApiPermission permission) {
-    if (commonQuery.isAdminUser() || isEmpty(apiIds) || isNull(permission) || !isUserAction()) {
+    if (authDecisionCache.isAdmin() || isEmpty(apiIds) || isNull(permission) || !isUserAction()) {
       return;
     }
 
@@ -400,24 +392,10 @@ public class ApisAuthQueryImpl implements ApisAuthQuery {
       return;
     }
 
-    List<ApisAuth> auths = findAuth(getUserId(), authIds);
-    if (isEmpty(auths)) {
-      long firstId = authIds.stream().findFirst().get();
-      ApisBaseInfo apisBaseInfo = apisBaseInfoRepo.findById(firstId).orElse(null);
-      throw BizException.of(APIS_NO_TARGET_AUTH_CODE, APIS_NO_TARGET_AUTH, new Object[]{permission,
-          isNull(apisBaseInfo) ? firstId : apisBaseInfo.getName()});
-    }
-
-    Map<Long, List<ApisAuth>> authMap = auths.stream()
-        .filter(o -> nonNull(o.getApisId())).collect(Collectors.groupingBy(ApisAuth::getApisId));
-    for (Long apiId : authMap.keySet()) {
-      List<ApisAuth> values = authMap.get(apiId);
-      if (isNotEmpty(values)) {
-        List<ApiPermission> permissions = values.stream()
-            .flatMap(o -> o.getAuths().stream()).toList();
-        if (isNotEmpty(permissions) && permissions.contains(permission)) {
-          continue;
-        }
+    Map<Long, AuthDecision> decisions = findDecisions(getUserId(), authIds);
+    for (Long apiId : authIds) {
+      if (decisions.get(apiId).hasPermission(permission)) {
+        continue;
       }
       ApisBaseInfo apisBaseInfo = apisBaseInfoRepo.findById(apiId).orElse(null);
       throw BizException.of(APIS_NO_TARGET_AUTH_CODE, APIS_NO_TARGET_AUTH, new Object[]{permission,
@@ -444,22 +422,20 @@ public class ApisAuthQueryImpl implements ApisAuthQuery {
 
   @Override
   public List<ApisAuth> findAuth(Long userId, Long apisId) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return apisAuthRepo.findAllByApisIdAndAuthObjectIdIn(apisId, orgIds);
   }
 
   @Override
   public List<ApisAuth> findAuth(Long userId, Collection<Long> apisIds) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return isEmpty(apisIds) ? apisAuthRepo.findAllByAuthObjectIdIn(orgIds) :
         apisAuthRepo.findAllByApisIdInAndAuthObjectIdIn(apisIds, orgIds);
   }
 
   @Override
   public List<ApiPermission> getUserAuth(Long apiId, Long userId) {
-    if (commonQuery.isAdminUser()) {
+    if (authDecisionCache.isAdmin()) {
       return ApiPermission.ALL;
     }
 
@@ -480,6 +456,30 @@ public class ApisAuthQueryImpl implements ApisAuthQuery {
     return isCreator(apisAuths);
   }
 
+  private boolean isAuthCtrl(Long apisId) {
+    return authDecisionCache.isAuthCtrl(API, apisId, () -> apisQuery.isAuthCtrl(apisId));
+  }
+
+  private AuthDecision findDecision(Long userId, Long apisId) {
+    return authDecisionCache.find(API, apisId, userId, orgIds -> {
+      List<ApisAuth> auths = apisAuthRepo.findAllByApisIdAndAuthObjectIdIn(apisId,
+          new ArrayList<>(orgIds));
+      return AuthDecision.of(isCreator(auths), flatPermissions(auths));
+    });
+  }
+
+  private Map<Long, AuthDecision> findDecisions(Long userId, Collection<Long> apisIds) {
+    return authDecisionCache.findAll(API, apisIds, userId, (ids, orgIds) -> {
+      Map<Long, AuthDecision> decisions = new HashMap<>();
+      apisAuthRepo.findAllByApisIdInAndAuthObjectIdIn(ids, new ArrayList<>(orgIds)).stream()
+          .filter(o -> nonNull(o.getApisId()))
+          .collect(Collectors.groupingBy(ApisAuth::getApisId))
+          .forEach((id, values) -> decisions.put(id,
+              AuthDecision.of(isCreator(values), flatPermissions(values))));
+      return decisions;
+    });
+  }
+
   private boolean isCreator(List<ApisAuth> auths) {
     if (auths.isEmpty()) {
       return false;
@@ -91,6 +91,7 @@ import cloud.xcan.angus.core.tester.domain.services.ServiceApisScope;
 import cloud.xcan.angus.core.tester.domain.services.Services;
 import cloud.xcan.angus.core.tester.domain.services.ServicesRepo;
 import cloud.xcan.angus.core.tester.domain.services.comp.ServicesComp;
+import cloud.xcan.angus.core.tester.domain.services.comp.ServicesCompRefGraph;
 import cloud.xcan.angus.core.tester.domain.services.schema.SchemaFormat;
 import cloud.xcan.angus.core.tester.domain.test.cases.FuncCaseInfoRepo;
 import cloud.xcan.angus.core.tester.infra.util.RefResolver;
@@ -113,6 +114,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -692,6 +694,39 @@ public class ApisQueryImpl implements ApisQuery {
     return apis;
   }
 
+  /**
+   * Finds APIs by IDs with OpenAPI reference resolution.
+   *
+   * <p>The APIs of the same service are resolved against one shared component
+   * reference graph, so components are loaded once per service instead of once per API.</p>
+   *
+   * @param ids the API IDs to find
+   * @return the found APIs with resolved OpenAPI references
+   */
+  @Override
+  public List<Apis> findDeRefByIds(Collection<Long> ids) {
+    List<Apis> apis = apisRepo.findAllById(ids);
+    Map<Long, List<Apis>> serviceApisMap = apis.stream()
+        .collect(Collectors.groupingBy(Apis::getServiceId));
+    for (Entry<Long, List<Apis>> entry : serviceApisMap.entrySet()) {
+      Map<String, String> compModelMap = null;
+      ServicesCompRefGraph refGraph = null;
+      for (Apis apisDb : entry.getValue()) {
+        Set<String> refs = findApisDirectRefs(apisDb);
+        if (isEmpty(refs)) {
+          apisDb.setResolvedRefModels(new HashMap<>());
+          continue;
+        }
+        if (isNull(refGraph)) {
+          compModelMap = findCompModelMap(entry.getKey());
+          refGraph = servicesCompQuery.findRefGraphByServiceId(entry.getKey());
+        }
+        apisDb.setResolvedRefModels(refGraph.resolve(refs, compModelMap));
+      }
+    }
+    return apis;
+  }
+
   /**
    * Creates a mapping of case IDs to simple activity resources.
    *
@@ -1415,18 +1450,31 @@ public class ApisQueryImpl implements ApisQuery {
   @NotNull
   @Override
   public Map<String, String> findApisAllRef(Apis apisDb) {
-    Map<String, String> allRefModels = new HashMap<>();
+    Set<String> refs = findApisDirectRefs(apisDb);
+    if (isEmpty(refs)) {
+      return new HashMap<>();
+    }
+    return servicesCompQuery.findRefGraphByServiceId(apisDb.getServiceId())
+        .resolve(refs, findCompModelMap(apisDb.getServiceId()));
+  }
+
+  /**
+   * Finds the direct references of an API, using the references persisted on save when present.
+   */
+  private Set<String> findApisDirectRefs(Apis apisDb) {
+    if (nonNull(apisDb.getRefs())) {
+      return apisDb.getRefs();
+    }
     try {
-      Set<String> refs = RefResolver.findPropertyValues(Json31.pretty(apisDb), "$ref");
-      if (isNotEmpty(refs)) {
-        Map<String, String> compModelMap = servicesCompQuery.findByServiceId(apisDb.getServiceId())
-            .stream().collect(Collectors.toMap(ServicesComp::getRef, ServicesComp::getModel));
-        ApisConverter.findAllRef0(allRefModels, refs, compModelMap);
-      }
+      return RefResolver.findPropertyValues(Json31.pretty(apisDb), "$ref");
     } catch (JsonProcessingException e) {
       throw new RuntimeException(e);
     }
-    return allRefModels;
+  }
+
+  private Map<String, String> findCompModelMap(Long serviceId) {
+    return servicesCompQuery.findByServiceId(serviceId).stream()
+        .collect(Collectors.toMap(ServicesComp::getRef, ServicesComp::getModel));
   }
 
   /**
@@ -36,6 +36,8 @@ public interface NodeInfoQuery {
 
   Set<Long> findAgentOnlineNode(Set<Long> ids);
 
+  Map<Long, Double> getCapacityWeights(Collection<Long> nodeIds);
+
   Set<Long> getLiveNodeIds(Collection<Long> nodeIds);
 
   Set<Long> getLiveNodeIds(Collection<Long> nodeIds, long latestLiveNodeInterval);
@@ -63,6 +63,7 @@ import cloud.xcan.angus.core.tester.domain.config.node.info.NodeInfo;
 import cloud.xcan.angus.core.tester.domain.config.node.info.NodeInfoRepo;
 import cloud.xcan.angus.core.tester.domain.exec.node.ExecNodeRepo;
 import cloud.xcan.angus.core.tester.domain.exec.node.NodeExecNum;
+import cloud.xcan.angus.core.tester.infra.metricsds.cache.NodeUsageSnapshotCache;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.usage.NodeUsage;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.usage.NodeUsageRepo;
 import cloud.xcan.angus.core.tester.interfaces.config.facade.dto.NodeAgentCheckPortDto;
@@ -97,6 +98,8 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -130,6 +133,8 @@ import org.springframework.data.domain.PageRequest;
 @Service
 public class NodeInfoQueryImpl implements NodeInfoQuery {
 
+  private static final double MIN_SHARDING_IDLE_RATE = 0.1;
+
   @Resource
   private NodeInfoRepo nodeInfoRepo;
   @Resource
@@ -137,6 +142,8 @@ public class NodeInfoQueryImpl implements NodeInfoQuery {
   @Resource
   private NodeUsageRepo nodeUsageRepo;
   @Resource
+  private NodeUsageSnapshotCache nodeUsageSnapshotCache;
+  @Resource
   private ObjectMapper objectMapper;
   @Resource
   private RemotingServer remotingServer;
@@ -735,7 +742,7 @@ public class NodeInfoQueryImpl implements NodeInfoQuery {
 
     if (nonNull(strategy.getIdleRateEnabled()) && strategy.getIdleRateEnabled()) {
       finalOptionalNodes = finalOptionalNodes.stream().filter(x -> {
-        NodeUsage nodeUsage = nodeUsageRepo.findFirstByNodeIdOrderByTimestampDesc(x.getId());
+        NodeUsage nodeUsage = getLatestUsage(x.getId());
         return nonNull(nodeUsage) && (
             (isNull(strategy.getCpuIdleRate()) || nodeUsage.getCpu().getIdle()
                 <= RateValue.parse(strategy.getCpuIdleRate()).getValue())
@@ -769,6 +776,45 @@ public class NodeInfoQueryImpl implements NodeInfoQuery {
     return nodeInfoRepo.countByTenantId(getOptTenantId()) > 0;
   }
 
+  /**
+   * Gets the relative capacity of nodes for sharding executions.
+   *
+   * <p>
+   * The capacity of a node is its number of CPU cores, limited to one core per GiB of memory,
+   * scaled by the CPU idle rate of its latest usage. Nodes without specifications or usages fall
+   * back to the capacity of one core or full idle rate respectively.
+   * </p>
+   *
+   * @param nodeIds collection of node IDs
+   * @return Map of node ID to capacity weight, all weights are positive
+   */
+  @Override
+  public Map<Long, Double> getCapacityWeights(Collection<Long> nodeIds) {
+    Map<Long, NodeInfo> nodeInfoMap = nodeInfoRepo.findAllById(nodeIds).stream()
+        .collect(toMap(NodeInfo::getId, x -> x));
+    Map<Long, Double> weights = new LinkedHashMap<>();
+    for (Long nodeId : nodeIds) {
+      NodeInfo nodeInfo = nodeInfoMap.get(nodeId);
+      double capacity = 1;
+      if (nonNull(nodeInfo) && nonNull(nodeInfo.getInfo())
+          && nodeInfo.getInfo().getCpuNum() > 0) {
+        long memGb = nodeInfo.getInfo().getMemTotal() / (1024L * 1024 * 1024);
+        capacity = memGb > 0 ? Math.min(nodeInfo.getInfo().getCpuNum(), memGb)
+            : nodeInfo.getInfo().getCpuNum();
+      }
+
+      double idleRate = 1;
+      NodeUsage nodeUsage = getLatestUsage(nodeId);
+      if (nonNull(nodeUsage) && nonNull(nodeUsage.getCpu()) && nonNull(nodeUsage.getTimestamp())
+          && System.currentTimeMillis() - nodeUsage.getTimestamp() <= LATEST_LIVE_NODE_INTERVAL) {
+        // Busy nodes still get a small share, the usage may be caused by a finishing execution
+        idleRate = Math.max(nodeUsage.getCpu().getIdle() / 100, MIN_SHARDING_IDLE_RATE);
+      }
+      weights.put(nodeId, Math.max(capacity, 1) * Math.min(idleRate, 1));
+    }
+    return weights;
+  }
+
   /**
    * Gets the IDs of nodes that have been active within the configured live interval.
    *
@@ -782,8 +828,7 @@ public class NodeInfoQueryImpl implements NodeInfoQuery {
    */
   @Override
   public Set<Long> getLiveNodeIds(Collection<Long> nodeIds) {
-    return nodeUsageRepo.findLatestIdByTimestampBeforeAndNodeIdIn(
-        System.currentTimeMillis() - LATEST_LIVE_NODE_INTERVAL, nodeIds);
+    return getLiveNodeIds(nodeIds, LATEST_LIVE_NODE_INTERVAL);
   }
 
   /**
@@ -800,8 +845,35 @@ public class NodeInfoQueryImpl implements NodeInfoQuery {
    */
   @Override
   public Set<Long> getLiveNodeIds(Collection<Long> nodeIds, long latestLiveNodeInterval) {
-    return nodeUsageRepo.findLatestIdByTimestampBeforeAndNodeIdIn(
-        System.currentTimeMillis() - latestLiveNodeInterval, nodeIds);
+    long afterTimestamp = System.currentTimeMillis() - latestLiveNodeInterval;
+    Set<Long> liveNodeIds = new HashSet<>();
+    Set<Long> unknownNodeIds = new HashSet<>();
+    nodeUsageSnapshotCache.classify(nodeIds, afterTimestamp, liveNodeIds, unknownNodeIds);
+    // Only nodes without snapshot, e.g. after the cache expired, are queried from metrics database
+    if (!unknownNodeIds.isEmpty()) {
+      Set<Long> liveNodeIdsDb = nodeUsageRepo.findLatestIdByTimestampBeforeAndNodeIdIn(
+          afterTimestamp, unknownNodeIds);
+      if (isNotEmpty(liveNodeIdsDb)) {
+        liveNodeIds.addAll(liveNodeIdsDb);
+      }
+    }
+    return liveNodeIds;
+  }
+
+  /**
+   * Gets the latest usage of node from the snapshot cache, falling back to the metrics database
+   * and warming up the cache when the node is missing in cache.
+   *
+   * @param nodeId node ID
+   * @return Latest usage of node, or null if the node has never reported usage
+   */
+  private NodeUsage getLatestUsage(Long nodeId) {
+    NodeUsage nodeUsage = nodeUsageSnapshotCache.get(nodeId);
+    if (isNull(nodeUsage)) {
+      nodeUsage = nodeUsageRepo.findFirstByNodeIdOrderByTimestampDesc(nodeId);
+      nodeUsageSnapshotCache.put(nodeUsage);
+    }
+    return nodeUsage;
   }
 
   /**
@@ -1021,9 +1093,13 @@ public class NodeInfoQueryImpl implements NodeInfoQuery {
   }
 
   public static Response doHttpPostRequest(Object dto, String remoteUrl) throws Throwable {
+    return doHttpPostRequest(dto, remoteUrl, Duration.ofMillis(BROADCAST_CTRL_REQUEST_TIMEOUT));
+  }
+
+  public static Response doHttpPostRequest(Object dto, String remoteUrl, Duration requestTimeout)
+      throws Throwable {
     HttpSender sender = new HttpUrlConnectionSender(
-        Duration.ofMillis(BROADCAST_CTRL_CONNECTION_TIMEOUT),
-        Duration.ofMillis(BROADCAST_CTRL_REQUEST_TIMEOUT));
+        Duration.ofMillis(BROADCAST_CTRL_CONNECTION_TIMEOUT), requestTimeout);
     Builder builder = sender.post(remoteUrl);
     if (nonNull(dto)) {
       builder.withJsonContent(JsonUtils.toJson(dto));
@@ -68,7 +68,7 @@ public interface ExecQuery {
 
   void checkConcurrentTaskQuota(long incr, boolean trial);
 
-  void checkConcurrentTaskQuota0(long incr, boolean trial);
+  void checkConcurrentTaskQuota0(long occupied, long incr, boolean trial);
 
   boolean isAdminUser();
 
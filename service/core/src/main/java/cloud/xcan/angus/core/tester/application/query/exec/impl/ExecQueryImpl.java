@@ -690,20 +690,26 @@ public class ExecQueryImpl implements ExecQuery {
    * Checks concurrent task quota without error handling.
    * <p>
    * Direct quota checking method that performs the actual validation without additional error
-   * handling wrappers.
+   * handling wrappers. The occupied tasks are counted by the caller, so that the counting and the
+   * reserving can be done under the same lock.
    *
-   * @param incr  the increment to check against the concurrent task quota
-   * @param trial whether this is a trial execution
+   * @param occupied the number of tasks occupying the concurrent task quota
+   * @param incr     the increment to check against the concurrent task quota
+   * @param trial    whether this is a trial execution
    */
   @Override
-  public void checkConcurrentTaskQuota0(long incr, boolean trial) {
+  public void checkConcurrentTaskQuota0(long occupied, long incr, boolean trial) {
     if (incr > 0) {
-      checkConcurrentTaskQuota00(incr, trial);
+      checkConcurrentTaskQuota00(occupied, incr, trial);
     }
   }
 
   private void checkConcurrentTaskQuota00(long incr, boolean trial) {
-    long num = execRepo.countByTenantIdAndStatus(getOptTenantId(), ExecStatus.RUNNING);
+    checkConcurrentTaskQuota00(execRepo.countByTenantIdAndStatus(getOptTenantId(),
+        ExecStatus.RUNNING), incr, trial);
+  }
+
+  private void checkConcurrentTaskQuota00(long num, long incr, boolean trial) {
     if (trial) {
       if (num >= MAX_FREE_CONCURRENT_TASK) {
         throw QuotaException.of(message(EXEC_TRIAL_CONCURRENT_TASK_OVER_LIMIT_T,
@@ -15,20 +15,27 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import org.springframework.stereotype.Service;
+import cloud.xcan.angus.api.commonlink.exec.ExecStatus;
 import cloud.xcan.angus.core.biz.BizTemplate;
 import cloud.xcan.angus.core.jpa.criteria.CriteriaUtils;
 import cloud.xcan.angus.core.jpa.criteria.GenericSpecification;
 import cloud.xcan.angus.core.jpa.page.FixedPageImpl;
+import cloud.xcan.angus.core.tester.application.converter.ExecSampleConverter;
 import cloud.xcan.angus.core.tester.application.query.exec.ExecQuery;
 import cloud.xcan.angus.core.tester.application.query.exec.ExecSampleQuery;
 import cloud.xcan.angus.core.tester.domain.exec.Exec;
 import cloud.xcan.angus.core.tester.domain.exec.ExecInfo;
+import cloud.xcan.angus.core.tester.infra.metricsds.ExecSampleTierCompactor;
+import cloud.xcan.angus.core.tester.infra.metricsds.cache.ExecSampleLatestCache;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSample;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleCounter;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleError;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleErrorRepo;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleMergeBase;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRepo;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollup;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollupGapRepo;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollupRepo;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleScore;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleScoreRepo;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleSummary;
@@ -37,6 +44,7 @@ import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleThre
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleThreadRepo;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleThroughput;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleThroughputRepo;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleTierRepo;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleUploadResultProgress;
 import cloud.xcan.angus.remote.message.SysException;
 import cloud.xcan.angus.remote.search.SearchCriteria;
@@ -47,17 +55,28 @@ import jakarta.annotation.Resource;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.jpa.domain.Specification;
 
 /**
  * Implementation of ExecSampleQuery for managing execution sample queries and data merging.
@@ -86,7 +105,17 @@ public class ExecSampleQueryImpl implements ExecSampleQuery {
   @Resource
   private ExecSampleErrorRepo sampleErrorRepo;
   @Resource
+  private ExecSampleRollupRepo sampleRollupRepo;
+  @Resource
+  private ExecSampleRollupGapRepo sampleRollupGapRepo;
+  @Resource
+  private ExecSampleTierRepo sampleTierRepo;
+  @Resource
+  private ExecSampleTierCompactor execSampleTierCompactor;
+  @Resource
   private ExecQuery execQuery;
+  @Resource
+  private ExecSampleLatestCache latestSampleCache;
 
   /**
    * Retrieves the total summary for an execution.
@@ -143,88 +172,350 @@ public class ExecSampleQueryImpl implements ExecSampleQuery {
 
       @Override
       protected Page<ExecSampleSummary> process() {
-        Long firstSampleNode = sampleRepo.findFirstNodeByExecId(execId);
-        if (isNull(firstSampleNode)) {
-          return null;
-        }
+        return mergeList(execId, spec, pageable, sampleSummaryRepo::findAll,
+            sampleSummaryRepo::findAllByFilters, ExecSampleConverter::toExecSampleSummary);
+      }
+    }.execute();
+  }
 
-        ExecInfo execDb = execQuery.findInfo(execId);
-        if (isNull(execDb) || execDb.getStatus().isCreated()) {
-          return null;
-        }
+  /**
+   * Lists samples of one node directly, or lists the rollups merged from all nodes at ingest time.
+   * <p>
+   * Executions sampled before rollups were written have no rollup rows, their node samples are
+   * still merged in memory.
+   */
+  private <T extends ExecSampleMergeBase> Page<T> mergeList(Long execId,
+      GenericSpecification<T> spec, PageRequest pageable,
+      BiFunction<Specification<T>, Pageable, Page<T>> pageFinder,
+      Function<Set<SearchCriteria>, List<T>> filtersFinder,
+      Function<ExecSampleRollup, T> rollupConverter) {
+    Long firstSampleNode = sampleRepo.findFirstNodeByExecId(execId);
+    if (isNull(firstSampleNode)) {
+      return null;
+    }
 
-        // Note: Merge sampling data based on the first node and Total.
-        // If the node or name is specified, use the specified parameter as the base.
-        String nameFilter = CriteriaUtils.findFirstValue(spec.getCriteria(), "name");
-        String finalNameFilter = nonNull(nameFilter) ? nameFilter : SAMPLE_TOTAL_NAME;
-        String nodeFilter = CriteriaUtils.findFirstValue(spec.getCriteria(), "nodeId");
-
-        setSharingAndGroupBaseCondition(nameFilter, finalNameFilter, nodeFilter, firstSampleNode,
-            spec, execDb);
-
-        Page<ExecSampleSummary> page = sampleSummaryRepo.findAll(spec, pageable);
-        if (page.isEmpty() ||
-            /* Do not merge data when querying a single node and fixed name sample */
-            ((execDb.isSingleTargetPipeline() || nonNull(nameFilter))
-                && (execDb.isOneNodeTask() || nonNull(nodeFilter)))) {
-          return page;
-        }
+    ExecInfo execDb = execQuery.findInfo(execId);
+    if (isNull(execDb) || execDb.getStatus().isCreated()) {
+      return null;
+    }
 
-        long offsetInterval = execDb.getReportInterval().toMilliSecond();
-        ExecSampleSummary pageFirst = page.getContent().get(0);
-        ExecSampleSummary pageLast = page.getContent().get(page.getContent().size() - 1);
-        Set<SearchCriteria> mergeFilters = getMergeSearchCriteria(
-            execDb, pageFirst.getTimestamp(), pageLast.getTimestamp(), offsetInterval);
-
-        // Merge one node and multi name sampling data
-        if (isNull(nameFilter) && (nonNull(nodeFilter) || execDb.isOneNodeTask())) {
-          addNodeAndNameNotTotalFilters(nodeFilter, firstSampleNode, mergeFilters);
-          List<ExecSampleSummary> otherNameSamp = sampleSummaryRepo.findAllByFilters(mergeFilters);
-          List<ExecSampleSummary> firstNameSamp = page.getContent();
-          return new FixedPageImpl<>(
-              mergeMultiNameAndSingleNodeSamples(firstNameSamp, otherNameSamp),
-              pageable, page.getTotalElements());
-        }
+    // Note: Merge sampling data based on the first node and Total.
+    // If the node or name is specified, use the specified parameter as the base.
+    String nameFilter = CriteriaUtils.findFirstValue(spec.getCriteria(), "name");
+    String finalNameFilter = nonNull(nameFilter) ? nameFilter : SAMPLE_TOTAL_NAME;
+    String nodeFilter = CriteriaUtils.findFirstValue(spec.getCriteria(), "nodeId");
+
+    setSharingAndGroupBaseCondition(nameFilter, finalNameFilter, nodeFilter, firstSampleNode,
+        spec, execDb);
 
-        // Merge multi node and single name sampling data
-        List<ExecSampleSummary> firstNodeSamp = page.getContent();
-        List<ExecSampleSummary> mergedNodeSamp = firstNodeSamp;
-        if ((nonNull(nameFilter) || execDb.isSingleTargetPipeline())
-            && !execDb.isOneNodeTask() && isNull(nodeFilter)) {
-          addNameAndNodeFilters(execDb, nameFilter, firstSampleNode, mergeFilters);
-          Map<Long, List<ExecSampleSummary>> otherNodesSampMap = sampleSummaryRepo
-              .findAllByFilters(mergeFilters)
-              .stream().collect(Collectors.groupingBy(ExecSampleSummary::getNodeId));
-          otherNodesSampMap.remove(firstNodeSamp.get(0).getNodeId());
-          if (isNotEmpty(otherNodesSampMap)) {
-            for (List<ExecSampleSummary> otherNodeSamp : otherNodesSampMap.values()) {
-              mergedNodeSamp = mergeSingleNameAndMultiNodeSamples(offsetInterval, firstNodeSamp,
-                  otherNodeSamp);
-            }
-          }
-          return new FixedPageImpl<>(mergedNodeSamp, pageable, page.getTotalElements());
+    // Read the samples merged from all nodes
+    if (!execDb.isOneNodeTask() && isNull(nodeFilter)) {
+      Page<T> rollupPage = findRollupPage(execDb, nameFilter, spec, pageable, rollupConverter);
+      if (nonNull(rollupPage)) {
+        return rollupPage;
+      }
+    }
+
+    Page<T> page = pageFinder.apply(spec, pageable);
+    if (page.isEmpty() ||
+        /* Do not merge data when querying a single node and fixed name sample */
+        ((execDb.isSingleTargetPipeline() || nonNull(nameFilter))
+            && (execDb.isOneNodeTask() || nonNull(nodeFilter)))) {
+      return page;
+    }
+
+    long offsetInterval = execDb.getReportInterval().toMilliSecond();
+    T pageFirst = page.getContent().get(0);
+    T pageLast = page.getContent().get(page.getContent().size() - 1);
+    Set<SearchCriteria> mergeFilters = getMergeSearchCriteria(
+        execDb, pageFirst.getTimestamp(), pageLast.getTimestamp(), offsetInterval);
+
+    // Merge one node and multi name sampling data
+    if (isNull(nameFilter) && (nonNull(nodeFilter) || execDb.isOneNodeTask())) {
+      addNodeAndNameNotTotalFilters(nodeFilter, firstSampleNode, mergeFilters);
+      List<T> otherNameSamp = filtersFinder.apply(mergeFilters);
+      List<T> firstNameSamp = page.getContent();
+      return new FixedPageImpl<>(
+          mergeMultiNameAndSingleNodeSamples(firstNameSamp, otherNameSamp),
+          pageable, page.getTotalElements());
+    }
+
+    // Merge multi node and single name sampling data
+    List<T> firstNodeSamp = page.getContent();
+    List<T> mergedNodeSamp = firstNodeSamp;
+    if ((nonNull(nameFilter) || execDb.isSingleTargetPipeline())
+        && !execDb.isOneNodeTask() && isNull(nodeFilter)) {
+      addNameAndNodeFilters(execDb, nameFilter, firstSampleNode, mergeFilters);
+      Map<Long, List<T>> otherNodesSampMap = filtersFinder.apply(mergeFilters)
+          .stream().collect(Collectors.groupingBy(T::getNodeId));
+      otherNodesSampMap.remove(firstNodeSamp.get(0).getNodeId());
+      if (isNotEmpty(otherNodesSampMap)) {
+        for (List<T> otherNodeSamp : otherNodesSampMap.values()) {
+          mergedNodeSamp = mergeSingleNameAndMultiNodeSamples(offsetInterval, firstNodeSamp,
+              otherNodeSamp);
         }
+      }
+      return new FixedPageImpl<>(mergedNodeSamp, pageable, page.getTotalElements());
+    }
 
-        // Merge multi node and multi name sampling data
-        if (isNull(nameFilter) && !execDb.isOneNodeTask() && isNull(nodeFilter)) {
-          Map<Long, List<ExecSampleSummary>> otherNodesSampMap = sampleSummaryRepo
-              .findAllByFilters(mergeFilters)
-              .stream().collect(Collectors.groupingBy(ExecSampleSummary::getNodeId));
-          otherNodesSampMap.remove(firstNodeSamp.get(0).getNodeId());
-          if (isNotEmpty(otherNodesSampMap)) {
-            Map<String, List<ExecSampleSummary>> firstNodeNameSampMap = firstNodeSamp
-                .stream().collect(Collectors.groupingBy(ExecSampleSummary::getName));
-            for (List<ExecSampleSummary> otherNodeSamp : otherNodesSampMap.values()) {
-              mergedNodeSamp = mergeMultiNameAndNodeSamples(offsetInterval, firstNodeNameSampMap,
-                  otherNodeSamp);
-            }
-          }
-          return new FixedPageImpl<>(mergedNodeSamp, pageable, page.getTotalElements());
+    // Merge multi node and multi name sampling data
+    if (isNull(nameFilter) && !execDb.isOneNodeTask() && isNull(nodeFilter)) {
+      Map<Long, List<T>> otherNodesSampMap = filtersFinder.apply(mergeFilters)
+          .stream().collect(Collectors.groupingBy(T::getNodeId));
+      otherNodesSampMap.remove(firstNodeSamp.get(0).getNodeId());
+      if (isNotEmpty(otherNodesSampMap)) {
+        Map<String, List<T>> firstNodeNameSampMap = firstNodeSamp
+            .stream().collect(Collectors.groupingBy(T::getName));
+        for (List<T> otherNodeSamp : otherNodesSampMap.values()) {
+          mergedNodeSamp = mergeMultiNameAndNodeSamples(offsetInterval, firstNodeNameSampMap,
+              otherNodeSamp);
         }
+      }
+      return new FixedPageImpl<>(mergedNodeSamp, pageable, page.getTotalElements());
+    }
+
+    throw SysException.of("Unprocessed business");
+  }
+
+  /**
+   * Page the rollups of `Total` or the specified name, and append the rollups of other names in
+   * the same time range when the name is not specified.
+   * <p>
+   * When the time range holds more report intervals than the point budget, the coarsest necessary
+   * downsampled tier is read instead, tiers not compacted yet fall back to the rollups. The latest
+   * bucket of a tier may be partial, the buckets from it on are downsampled from the rollups.
+   * <p>
+   * Pages overlapping the rollup gaps or starting before the first rollup fall back to the node
+   * samples, so a failed rollup write never shows as missing or partial intervals.
+   *
+   * @return Page of rollups, or null when the rollups can not cover the page
+   */
+  @Nullable
+  private <T extends ExecSampleMergeBase> Page<T> findRollupPage(ExecInfo execDb,
+      String nameFilter, GenericSpecification<T> spec, PageRequest pageable,
+      Function<ExecSampleRollup, T> rollupConverter) {
+    // Important: Rollups have no node, paging based on the aligned interval as timestamp!!!
+    Set<SearchCriteria> criteria = spec.getCriteria().stream()
+        .filter(c -> !"nodeId".equals(c.getKey())).collect(Collectors.toSet());
 
-        throw SysException.of("Unprocessed business");
+    long resolution = selectTierResolution(execDb, criteria);
+    Long watermark = resolution > 0
+        ? sampleTierRepo.findLatestTimestamp(execDb.getId(), resolution) : null;
+    if (nonNull(watermark)) {
+      Page<T> tierPage = findRollupPage0(execDb, nameFilter, criteria, pageable, rollupConverter,
+          (filters, tierPageable) -> findTierPage(execDb, resolution, watermark, filters,
+              tierPageable),
+          filters -> findTierRollups(execDb, resolution, watermark, filters),
+          rollups -> true);
+      if (nonNull(tierPage)) {
+        return tierPage;
       }
-    }.execute();
+    }
+    return findRollupPage0(execDb, nameFilter, criteria, pageable, rollupConverter,
+        (filters, rollupPageable) -> sampleRollupRepo.findAll(
+            new GenericSpecification<>(filters), rollupPageable),
+        sampleRollupRepo::findAllByFilters, rollups -> isRollupCovered(execDb, rollups));
+  }
+
+  @Nullable
+  private <T extends ExecSampleMergeBase> Page<T> findRollupPage0(ExecInfo execDb,
+      String nameFilter, Set<SearchCriteria> criteria, PageRequest pageable,
+      Function<ExecSampleRollup, T> rollupConverter,
+      BiFunction<Set<SearchCriteria>, Pageable, Page<ExecSampleRollup>> pageFinder,
+      Function<Set<SearchCriteria>, List<ExecSampleRollup>> filtersFinder,
+      Predicate<List<ExecSampleRollup>> coveredChecker) {
+    Direction direction = pageable.getSort().stream().findFirst()
+        .map(Order::getDirection).orElse(Direction.ASC);
+    PageRequest rollupPageable = PageRequest.of(pageable.getPageNumber(),
+        pageable.getPageSize(), Sort.by(direction, "timestamp"));
+    Page<ExecSampleRollup> page = pageFinder.apply(criteria, rollupPageable);
+    if (isNull(page)) {
+      return null;
+    }
+    if (page.isEmpty()) {
+      return page.getTotalElements() > 0 ? Page.empty(pageable) : null;
+    }
+    if (!coveredChecker.test(page.getContent())) {
+      return null;
+    }
+
+    List<ExecSampleRollup> rollups = page.getContent();
+    if (isNull(nameFilter) && !execDb.isSingleTargetPipeline()) {
+      long firstTimestamp = rollups.get(0).getTimestamp();
+      long lastTimestamp = rollups.get(rollups.size() - 1).getTimestamp();
+      Set<SearchCriteria> otherNameFilters = getMergeSearchCriteria(execDb, firstTimestamp,
+          lastTimestamp, 0);
+      otherNameFilters.add(SearchCriteria.notEqual("name", SAMPLE_TOTAL_NAME));
+      List<ExecSampleRollup> otherNameRollups = filtersFinder.apply(otherNameFilters);
+      if (isNotEmpty(otherNameRollups)) {
+        rollups = new ArrayList<>(rollups);
+        otherNameRollups.stream().collect(Collectors.groupingBy(ExecSampleRollup::getName,
+            LinkedHashMap::new, Collectors.toList())).values().forEach(rollups::addAll);
+      }
+    }
+    return new FixedPageImpl<>(rollups.stream().map(rollupConverter).toList(), pageable,
+        page.getTotalElements());
+  }
+
+  /**
+   * Page the compacted buckets of tier followed by the buckets downsampled from the uncompacted
+   * rollups, in the direction of pageable.
+   *
+   * @return Page of tier, or null when the uncompacted rollups have gaps
+   */
+  @Nullable
+  private Page<ExecSampleRollup> findTierPage(ExecInfo execDb, long resolution, long watermark,
+      Set<SearchCriteria> filters, Pageable pageable) {
+    List<ExecSampleRollup> tail = findUncompactedTail(execDb, resolution, watermark, filters);
+    if (tail.isEmpty()) {
+      // Completely compacted, or the rollups are expired
+      return sampleTierRepo.findAll(new GenericSpecification<>(
+              withResolution(filters, resolution)), pageable)
+          .map(ExecSampleConverter::toExecSampleRollup);
+    }
+    if (!isRollupCovered(execDb, tail)) {
+      return null;
+    }
+
+    Set<SearchCriteria> compactedFilters = withResolution(filters, resolution);
+    compactedFilters.add(SearchCriteria.lessThanEqual("timestamp", watermark - 1));
+    Function<Pageable, Page<ExecSampleRollup>> compactedFinder = compactedPageable ->
+        sampleTierRepo.findAll(new GenericSpecification<>(compactedFilters), compactedPageable)
+            .map(ExecSampleConverter::toExecSampleRollup);
+    boolean asc = pageable.getSort().stream().findFirst()
+        .map(Order::getDirection).orElse(Direction.ASC).isAscending();
+    long offset = pageable.getOffset();
+    int size = pageable.getPageSize();
+    List<ExecSampleRollup> content = new ArrayList<>(size);
+    long compactedTotal;
+    if (asc) {
+      // Compacted buckets first, then the tail
+      Page<ExecSampleRollup> compacted = compactedFinder.apply(pageable);
+      compactedTotal = compacted.getTotalElements();
+      content.addAll(compacted.getContent());
+      long tailFrom = Math.max(0, offset - compactedTotal);
+      content.addAll(subList(tail, tailFrom, size - content.size()));
+    } else {
+      // The tail first, then the compacted buckets
+      Collections.reverse(tail);
+      content.addAll(subList(tail, offset, size));
+      long compactedFrom = Math.max(0, offset - tail.size());
+      int pageNo = (int) (compactedFrom / size);
+      int pageFrom = (int) (compactedFrom % size);
+      Page<ExecSampleRollup> compacted = compactedFinder.apply(
+          PageRequest.of(pageNo, size, pageable.getSort()));
+      compactedTotal = compacted.getTotalElements();
+      content.addAll(subList(compacted.getContent(), pageFrom, size - content.size()));
+      if (content.size() < size && compacted.hasNext()) {
+        Page<ExecSampleRollup> next = compactedFinder.apply(
+            PageRequest.of(pageNo + 1, size, pageable.getSort()));
+        content.addAll(subList(next.getContent(), 0, size - content.size()));
+      }
+    }
+    return new PageImpl<>(content, pageable, compactedTotal + tail.size());
+  }
+
+  /**
+   * Find the compacted buckets of tier and the buckets downsampled from the uncompacted rollups.
+   */
+  private List<ExecSampleRollup> findTierRollups(ExecInfo execDb, long resolution,
+      long watermark, Set<SearchCriteria> filters) {
+    List<ExecSampleRollup> tail = findUncompactedTail(execDb, resolution, watermark, filters);
+    Set<SearchCriteria> compactedFilters = withResolution(filters, resolution);
+    if (!tail.isEmpty()) {
+      compactedFilters.add(SearchCriteria.lessThanEqual("timestamp", watermark - 1));
+    }
+    List<ExecSampleRollup> rollups = sampleTierRepo.findAllByFilters(compactedFilters).stream()
+        .map(ExecSampleConverter::toExecSampleRollup).collect(Collectors.toList());
+    rollups.addAll(tail);
+    return rollups;
+  }
+
+  /**
+   * Downsample the rollups from the latest bucket of tier, which may have been partially
+   * compacted, into the buckets of tier in ascending order.
+   */
+  private List<ExecSampleRollup> findUncompactedTail(ExecInfo execDb, long resolution,
+      long watermark, Set<SearchCriteria> filters) {
+    Set<SearchCriteria> tailFilters = new HashSet<>(filters);
+    tailFilters.add(SearchCriteria.greaterThanEqual("timestamp", watermark));
+    List<ExecSampleRollup> rollups = new ArrayList<>(
+        sampleRollupRepo.findAllByFilters(tailFilters));
+    if (rollups.isEmpty()) {
+      return rollups;
+    }
+    rollups.sort(Comparator.comparingLong(ExecSampleRollup::getTimestamp));
+    Map<String, List<ExecSampleRollup>> buckets = new LinkedHashMap<>();
+    for (ExecSampleRollup rollup : rollups) {
+      buckets.computeIfAbsent(rollup.getTimestamp() / resolution * resolution + "_"
+          + rollup.getName(), k -> new ArrayList<>()).add(rollup);
+    }
+    List<ExecSampleRollup> tail = new ArrayList<>(buckets.size());
+    for (List<ExecSampleRollup> bucket : buckets.values()) {
+      tail.add(ExecSampleConverter.toExecSampleRollup(ExecSampleConverter.toExecSampleTier(
+          bucket, resolution, bucket.get(0).getTimestamp() / resolution * resolution)));
+    }
+    return tail;
+  }
+
+  private static <E> List<E> subList(List<E> list, long from, int count) {
+    if (from >= list.size() || count <= 0) {
+      return Collections.emptyList();
+    }
+    return list.subList((int) from, (int) Math.min(list.size(), from + count));
+  }
+
+  /**
+   * Check the rollups of page are complete: no rollup write failed in the time range of page, and
+   * the rollups started with the node samples when the page is the beginning of execution.
+   */
+  private boolean isRollupCovered(ExecInfo execDb, List<ExecSampleRollup> rollups) {
+    long firstTimestamp = rollups.stream().mapToLong(ExecSampleRollup::getTimestamp).min()
+        .orElse(0);
+    long lastTimestamp = rollups.stream().mapToLong(ExecSampleRollup::getTimestamp).max()
+        .orElse(0);
+    if (sampleRollupGapRepo.countByExecIdAndOverlap(execDb.getId(), firstTimestamp,
+        lastTimestamp) > 0) {
+      return false;
+    }
+    Long firstRollupTimestamp = sampleRollupRepo.findFirstTimestampAfter(execDb.getId(), 0);
+    if (isNull(firstRollupTimestamp) || firstTimestamp > firstRollupTimestamp) {
+      return true;
+    }
+    // Such as the executions started before rollups are written
+    Long firstSampleTimestamp = sampleRepo.findFirstTimestampByExecId(execDb.getId());
+    return isNull(firstSampleTimestamp) || firstRollupTimestamp - firstSampleTimestamp
+        < execDb.getReportInterval().toMilliSecond();
+  }
+
+  /**
+   * Select the downsampled tier by the queried time range.
+   *
+   * @return Resolution of tier, or 0 to read the rollups
+   */
+  private long selectTierResolution(ExecInfo execDb, Set<SearchCriteria> criteria) {
+    SearchCriteria startTimeFilter = CriteriaUtils.findFirst(criteria, "timestamp",
+        SearchOperation.GREATER_THAN_EQUAL);
+    SearchCriteria endTimeFilter = CriteriaUtils.findFirst(criteria, "timestamp",
+        SearchOperation.LESS_THAN_EQUAL);
+    if (isNull(startTimeFilter) || isNull(endTimeFilter)) {
+      return 0;
+    }
+    try {
+      long range = Long.parseLong(String.valueOf(endTimeFilter.getValue()))
+          - Long.parseLong(String.valueOf(startTimeFilter.getValue()));
+      return execSampleTierCompactor.selectResolution(
+          execDb.getReportInterval().toMilliSecond(), range);
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+
+  private static Set<SearchCriteria> withResolution(Set<SearchCriteria> filters,
+      long resolution) {
+    Set<SearchCriteria> tierFilters = new HashSet<>(filters);
+    tierFilters.add(SearchCriteria.equal("resolution", resolution));
+    return tierFilters;
   }
 
   /**
@@ -241,7 +532,11 @@ public class ExecSampleQueryImpl implements ExecSampleQuery {
    */
   @Override
   public ExecSample getExecLatestTotalMergeSample(ExecInfo execInfo) {
-    ExecSample latest = null;
+    ExecSample latest = getCachedLatestMergeSample(execInfo.getStatus(), execInfo.getId(),
+        execInfo.getExecNodeIds(), SAMPLE_TOTAL_NAME, execInfo.getReportInterval());
+    if (nonNull(latest)) {
+      return latest;
+    }
     if (execInfo.isOneNodeTask()) {
       latest = sampleRepo.findLatestByExecIdAndName(execInfo.getId(), SAMPLE_TOTAL_NAME);
     } else {
@@ -338,7 +633,11 @@ public class ExecSampleQueryImpl implements ExecSampleQuery {
    */
   @Override
   public ExecSample getExecLatestMergeSample(Exec exec, String name) {
-    ExecSample latest = null;
+    ExecSample latest = getCachedLatestMergeSample(exec.getStatus(), exec.getId(),
+        exec.getExecNodeIds(), name, exec.getReportInterval());
+    if (nonNull(latest)) {
+      return latest;
+    }
     if (exec.isOneNodeTask()) {
       latest = getSingleTaskExecSampleResult(exec.getId(), name);
     } else {
@@ -675,12 +974,11 @@ public class ExecSampleQueryImpl implements ExecSampleQuery {
   @Override
   public Page<ExecSampleScore> scoreList(Long execId,
       GenericSpecification<ExecSampleScore> spec, PageRequest pageable) {
-    // Implementation similar to summaryList but for scores
     return new BizTemplate<Page<ExecSampleScore>>() {
       @Override
       protected Page<ExecSampleScore> process() {
-        // Similar logic to summaryList but using sampleScoreRepo
-        return null; // Placeholder
+        return mergeList(execId, spec, pageable, sampleScoreRepo::findAll,
+            sampleScoreRepo::findAllByFilters, ExecSampleConverter::toExecSampleScore);
       }
     }.execute();
   }
@@ -688,12 +986,11 @@ public class ExecSampleQueryImpl implements ExecSampleQuery {
   @Override
   public Page<ExecSampleThroughput> throughputList(Long execId,
       GenericSpecification<ExecSampleThroughput> spec, PageRequest pageable) {
-    // Implementation similar to summaryList but for throughput
     return new BizTemplate<Page<ExecSampleThroughput>>() {
       @Override
       protected Page<ExecSampleThroughput> process() {
-        // Similar logic to summaryList but using sampleThroughputRepo
-        return null; // Placeholder
+        return mergeList(execId, spec, pageable, sampleThroughputRepo::findAll,
+            sampleThroughputRepo::findAllByFilters, ExecSampleConverter::toExecSampleThroughput);
       }
     }.execute();
   }
@@ -701,12 +998,11 @@ public class ExecSampleQueryImpl implements ExecSampleQuery {
   @Override
   public Page<ExecSampleThread> threadList(Long execId, GenericSpecification<ExecSampleThread> spec,
       PageRequest pageable) {
-    // Implementation similar to summaryList but for threads
     return new BizTemplate<Page<ExecSampleThread>>() {
       @Override
       protected Page<ExecSampleThread> process() {
-        // Similar logic to summaryList but using sampleThreadRepo
-        return null; // Placeholder
+        return mergeList(execId, spec, pageable, sampleThreadRepo::findAll,
+            sampleThreadRepo::findAllByFilters, ExecSampleConverter::toExecSampleThread);
       }
     }.execute();
   }
@@ -769,6 +1065,20 @@ public class ExecSampleQueryImpl implements ExecSampleQuery {
     return sampleRepo.findLatestByExecIdAndNameAndRampNum(execId, name, rampNum);
   }
 
+  /**
+   * Gets the latest merge sample of a running execution from the latest sample cache.
+   *
+   * @return ExecSample with merged data, or null when not running or not fully cached
+   */
+  @Nullable
+  private ExecSample getCachedLatestMergeSample(ExecStatus status, Long execId,
+      Set<Long> execNodeIds, String name, TimeValue reportInterval) {
+    if (isNull(status) || !status.isRunning()) {
+      return null;
+    }
+    return latestSampleCache.getLatestMergeSample(execId, execNodeIds, name, reportInterval);
+  }
+
   @Nullable
   private ExecSample mergeExecSample(Long execId, String name, TimeValue reportInterval,
       Long latestDate) {
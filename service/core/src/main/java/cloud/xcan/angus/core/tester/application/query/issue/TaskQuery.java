@@ -39,6 +39,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import javax.annotation.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -52,6 +53,9 @@ public interface TaskQuery {
   Page<Task> list(boolean export, GenericSpecification<Task> spec, PageRequest pageable,
       boolean fullTextSearch, String[] match);
 
+  void export(GenericSpecification<Task> spec, boolean fullTextSearch, String[] match,
+      Consumer<List<Task>> batchConsumer);
+
   List<TaskInfo> notAssociatedSubtask(Long id, Long moduleId);
 
   List<TaskInfo> notAssociatedTaskInCase(Long caseId, @Nullable Long moduleId,
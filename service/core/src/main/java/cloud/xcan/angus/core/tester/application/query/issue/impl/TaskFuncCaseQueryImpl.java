@@ -16,10 +16,13 @@ import cloud.xcan.angus.core.tester.domain.test.cases.FuncCaseInfo;
 import cloud.xcan.angus.core.tester.domain.test.cases.FuncCaseInfoRepo;
 import jakarta.annotation.Resource;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -104,16 +107,12 @@ public class TaskFuncCaseQueryImpl implements TaskFuncCaseQuery {
       Map<Long, TaskInfo> assocTaskInfoMap = taskInfoRepo.findByIdIn(assocTaskIds)
           .stream().collect(Collectors.toMap(TaskInfo::getId, x -> x));
       if (isNotEmpty(assocTaskInfoMap)) {
+        Map<Long, Set<Long>> taskAssocTaskIdsMap = assocIdsMap(tfcs, TaskFuncCase::isTaskAssocTask);
         for (TaskFuncCaseAssoc<?, ?> task : tasks) {
-          List<Long> taskAssocTaskIds = tfcs.stream()
-              .filter(x -> x.isTaskAssocTask() && x.getWideTargetIds().contains(task.getId()))
-              .map(TaskFuncCase::getWideTargetIds).flatMap(Collection::stream).distinct()
-              .collect(Collectors.toList());
-          taskAssocTaskIds.remove(task.getId());
+          Set<Long> taskAssocTaskIds = taskAssocTaskIdsMap.get(task.getId());
           if (isNotEmpty(taskAssocTaskIds)) {
-            task.setAssocTasks(assocTaskInfoMap.entrySet().stream()
-                .filter(x -> taskAssocTaskIds.contains(x.getKey()))
-                .map(Entry::getValue).toList());
+            task.setAssocTasks(taskAssocTaskIds.stream()
+                .map(assocTaskInfoMap::get).filter(Objects::nonNull).toList());
           }
         }
         // Set assignee name and avatar
@@ -126,16 +125,12 @@ public class TaskFuncCaseQueryImpl implements TaskFuncCaseQuery {
       Map<Long, FuncCaseInfo> assocCaseInfoMap = funcCaseInfoRepo.findByIdIn(assocCaseIds)
           .stream().collect(Collectors.toMap(FuncCaseInfo::getId, x -> x));
       if (isNotEmpty(assocCaseInfoMap)) {
+        Map<Long, Set<Long>> taskAssocCaseIdsMap = assocIdsMap(tfcs, TaskFuncCase::isTaskAssocCase);
         for (TaskFuncCaseAssoc<?, ?> task : tasks) {
-          List<Long> taskAssocCaseIds = tfcs.stream()
-              .filter(x -> x.isTaskAssocCase() && x.getWideTargetIds().contains(task.getId()))
-              .map(TaskFuncCase::getWideTargetIds).flatMap(Collection::stream).distinct()
-              .collect(Collectors.toList());
-          taskAssocCaseIds.remove(task.getId());
+          Set<Long> taskAssocCaseIds = taskAssocCaseIdsMap.get(task.getId());
           if (isNotEmpty(taskAssocCaseIds)) {
-            task.setAssocCases(assocCaseInfoMap.entrySet().stream()
-                .filter(x -> taskAssocCaseIds.contains(x.getKey()))
-                .map(Entry::getValue).toList());
+            task.setAssocCases(taskAssocCaseIds.stream()
+                .map(assocCaseInfoMap::get).filter(Objects::nonNull).toList());
           }
         }
         // Set tester name and avatar
@@ -172,16 +167,12 @@ public class TaskFuncCaseQueryImpl implements TaskFuncCaseQuery {
       Map<Long, TaskInfo> assocTaskInfoMap = taskInfoRepo.findByIdIn(assocIds)
           .stream().collect(Collectors.toMap(TaskInfo::getId, x -> x));
       if (isNotEmpty(assocTaskInfoMap)) {
+        Map<Long, Set<Long>> caseAssocTaskIdsMap = assocIdsMap(tfcs, TaskFuncCase::isTaskAssocCase);
         for (TaskFuncCaseAssoc<?, ?> case0 : cases) {
-          List<Long> caseAssocTaskIds = tfcs.stream()
-              .filter(x -> x.isTaskAssocCase() && x.getWideTargetIds().contains(case0.getId()))
-              .map(TaskFuncCase::getWideTargetIds).flatMap(Collection::stream).distinct()
-              .collect(Collectors.toList());
-          caseAssocTaskIds.remove(case0.getId());
+          Set<Long> caseAssocTaskIds = caseAssocTaskIdsMap.get(case0.getId());
           if (isNotEmpty(caseAssocTaskIds)) {
-            case0.setAssocTasks(assocTaskInfoMap.entrySet().stream()
-                .filter(x -> caseAssocTaskIds.contains(x.getKey()))
-                .map(Entry::getValue).toList());
+            case0.setAssocTasks(caseAssocTaskIds.stream()
+                .map(assocTaskInfoMap::get).filter(Objects::nonNull).toList());
           }
         }
         // Set assignee name and avatar
@@ -194,16 +185,12 @@ public class TaskFuncCaseQueryImpl implements TaskFuncCaseQuery {
       Map<Long, FuncCaseInfo> assocCaseInfoMap = funcCaseInfoRepo.findByIdIn(assocCaseIds)
           .stream().collect(Collectors.toMap(FuncCaseInfo::getId, x -> x));
       if (isNotEmpty(assocCaseInfoMap)) {
+        Map<Long, Set<Long>> caseAssocCaseIdsMap = assocIdsMap(tfcs, TaskFuncCase::isCaseAssocCase);
         for (TaskFuncCaseAssoc<?, ?> case0 : cases) {
-          List<Long> caseAssocCaseIds = tfcs.stream()
-              .filter(x -> x.isCaseAssocCase() && x.getWideTargetIds().contains(case0.getId()))
-              .map(TaskFuncCase::getWideTargetIds).flatMap(Collection::stream).distinct()
-              .collect(Collectors.toList());
-          caseAssocCaseIds.remove(case0.getId());
+          Set<Long> caseAssocCaseIds = caseAssocCaseIdsMap.get(case0.getId());
           if (isNotEmpty(caseAssocCaseIds)) {
-            case0.setAssocCases(assocCaseInfoMap.entrySet().stream()
-                .filter(x -> caseAssocCaseIds.contains(x.getKey()))
-                .map(Entry::getValue).toList());
+            case0.setAssocCases(caseAssocCaseIds.stream()
+                .map(assocCaseInfoMap::get).filter(Objects::nonNull).toList());
           }
         }
         // Set tester name and avatar
@@ -212,4 +199,34 @@ public class TaskFuncCaseQueryImpl implements TaskFuncCaseQuery {
       }
     }
   }
+
+  /**
+   * <p>
+   * Index the ids associated with each target by the associations of a kind.
+   * </p>
+   * <p>
+   * Associations are indexed once per page, so setting the associations of a row does not scan the
+   * associations of all rows.
+   * </p>
+   *
+   * @param tfcs Task functional case associations of the page
+   * @param kind Kind of the associations to index
+   * @return Associated ids by target id, the target id itself excluded
+   */
+  private static Map<Long, Set<Long>> assocIdsMap(List<TaskFuncCase> tfcs,
+      Predicate<TaskFuncCase> kind) {
+    Map<Long, Set<Long>> assocIdsMap = new HashMap<>();
+    for (TaskFuncCase tfc : tfcs) {
+      if (kind.test(tfc)) {
+        for (Long targetId : tfc.getWideTargetIds()) {
+          for (Long assocId : tfc.getWideTargetIds()) {
+            if (!assocId.equals(targetId)) {
+              assocIdsMap.computeIfAbsent(targetId, x -> new LinkedHashSet<>()).add(assocId);
+            }
+          }
+        }
+      }
+    }
+    return assocIdsMap;
+  }
 }
@@ -8,6 +8,7 @@ import static cloud.xcan.angus.api.commonlink.TesterConstant.DEFAULT_DAILY_WORKL
 import static cloud.xcan.angus.core.biz.ProtocolAssert.assertResourceExisted;
 import static cloud.xcan.angus.core.biz.ProtocolAssert.assertResourceNotFound;
 import static cloud.xcan.angus.core.biz.ProtocolAssert.assertTrue;
+import static cloud.xcan.angus.core.jpa.criteria.CriteriaUtils.findFirstValue;
 import static cloud.xcan.angus.core.tester.application.converter.KanbanCtoTaskConverter.assembleBackloggedTaskCount0;
 import static cloud.xcan.angus.core.tester.application.converter.KanbanCtoTaskConverter.assembleFailureAssessmentCount0;
 import static cloud.xcan.angus.core.tester.application.converter.KanbanCtoTaskConverter.assembleLeadTimeCount0;
@@ -37,8 +38,6 @@ import static cloud.xcan.angus.core.tester.application.converter.TaskConverter.c
 import static cloud.xcan.angus.core.tester.application.converter.TaskConverter.countCreationMeeting;
 import static cloud.xcan.angus.core.tester.application.converter.TaskConverter.countCreationSprint;
 import static cloud.xcan.angus.core.tester.application.converter.TaskConverter.countCreationTask;
-import static cloud.xcan.angus.core.tester.application.converter.TaskConverter.findAllSubTaskInfos;
-import static cloud.xcan.angus.core.tester.application.converter.TaskConverter.findAllSubTasks;
 import static cloud.xcan.angus.core.tester.application.converter.TaskConverter.getTaskAssigneeResourcesFilter;
 import static cloud.xcan.angus.core.tester.application.converter.TaskConverter.getTaskCreatorResourcesFilter;
 import static cloud.xcan.angus.core.tester.application.converter.TaskConverter.toTaskDetailSummary;
@@ -114,6 +113,7 @@ import cloud.xcan.angus.core.event.EventSender;
 import cloud.xcan.angus.core.event.source.EventContent;
 import cloud.xcan.angus.core.jpa.criteria.GenericSpecification;
 import cloud.xcan.angus.core.jpa.repository.summary.SummaryQueryRegister;
+import cloud.xcan.angus.core.tester.application.cmd.issue.TaskCounterCmd;
 import cloud.xcan.angus.core.tester.application.converter.TaskConverter;
 import cloud.xcan.angus.core.tester.application.query.activity.ActivityQuery;
 import cloud.xcan.angus.core.tester.application.query.comment.CommentQuery;
@@ -126,6 +126,7 @@ import cloud.xcan.angus.core.tester.application.query.issue.TaskSprintQuery;
 import cloud.xcan.angus.core.tester.application.query.project.ProjectMemberQuery;
 import cloud.xcan.angus.core.tester.application.query.project.ProjectQuery;
 import cloud.xcan.angus.core.tester.application.query.project.TagQuery;
+import cloud.xcan.angus.core.tester.application.query.project.TreeClosureQuery;
 import cloud.xcan.angus.core.tester.application.query.test.FuncCaseQuery;
 import cloud.xcan.angus.core.tester.domain.ResourceFavouriteAndFollow;
 import cloud.xcan.angus.core.tester.domain.activity.Activity;
@@ -210,19 +211,25 @@ import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsTimeSeries;
 import cloud.xcan.angus.core.tester.domain.project.Project;
 import cloud.xcan.angus.core.tester.domain.test.cases.FuncCaseInfo;
 import cloud.xcan.angus.core.tester.domain.test.summary.FuncCaseEfficiencySummary;
+import cloud.xcan.angus.core.tester.infra.config.TaskCounterConfig.TaskCounterProperties;
 import cloud.xcan.angus.core.utils.CoreUtils;
 import cloud.xcan.angus.remote.message.http.ResourceNotFound;
 import cloud.xcan.angus.remote.search.SearchCriteria;
+import cloud.xcan.angus.remote.search.SearchOperation;
 import cloud.xcan.angus.spec.annotations.NonNullable;
 import cloud.xcan.angus.spec.principal.Principal;
 import cloud.xcan.angus.spec.principal.PrincipalContext;
 import jakarta.annotation.Resource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -230,6 +237,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -259,6 +267,8 @@ import org.springframework.data.domain.Sort.Direction;
 )
 public class TaskQueryImpl implements TaskQuery {
 
+  private static final int EXPORT_BATCH_SIZE = 500;
+
   @Resource
   private TaskListRepo taskListRepo;
   @Resource
@@ -303,6 +313,14 @@ public class TaskQueryImpl implements TaskQuery {
   private UserManager userManager;
   @Resource
   private JoinSupplier joinSupplier;
+  @Resource
+  private TaskCounterCmd taskCounterCmd;
+  @Resource
+  private TreeClosureQuery treeClosureQuery;
+  @Resource
+  private TaskCounterProperties taskCounterProperties;
+  @PersistenceContext
+  private EntityManager entityManager;
 
   /**
    * <p>
@@ -397,8 +415,19 @@ public class TaskQueryImpl implements TaskQuery {
 
       @Override
       protected TaskCount process() {
+        // Unfiltered counts of a project or sprint are read from the task counters
+        String projectId = findFirstValue(criteria, "projectId", SearchOperation.EQUAL);
+        String sprintId = findFirstValue(criteria, "sprintId", SearchOperation.EQUAL);
+        boolean unfiltered = isNotEmpty(projectId)
+            && criteria.size() == (isNotEmpty(sprintId) ? 2 : 1);
+
         criteria.add(SearchCriteria.equal("deleted", false));
         criteria.add(SearchCriteria.equal("sprintDeleted", false));
+        if (unfiltered && taskCounterProperties.isEnabled()) {
+          return taskCounterCmd.findOrRecount(Long.valueOf(projectId),
+              isNotEmpty(sprintId) ? Long.valueOf(sprintId) : null,
+              () -> taskListRepo.count(criteria));
+        }
         return taskListRepo.count(criteria);
       }
     }.execute();
@@ -446,36 +475,66 @@ public class TaskQueryImpl implements TaskQuery {
 
         // Enrich task data with additional information if results exist
         if (page.hasContent()) {
-          // Set user-specific flags only for user actions
-          if (isUserAction()) {
-            // Set follow status for current user
-            setFollow(page.getContent());
-            // Set favourite status for current user
-            setFavourite(page.getContent());
-          }
-
-          // Assemble comprehensive task data for display
-          // Set task tag information
-          tagQuery.setTags(page.getContent());
-          // Set current user's role for each task
-          setCurrentRoles(page.getContent());
-          // Calculate and set progress information
-          setTaskProgress(page.getContent());
-          // Set assignee display information (name and avatar)
-          userManager.setUserNameAndAvatar(page.getContent(),
-              "assigneeId", "assigneeName", "assigneeAvatar");
-
-          // Include additional data for export operations
-          if (export) {
-            // Set associated tasks and functional cases for comprehensive export
-            taskFuncCaseQuery.setAssocForTask(page.getContent());
-          }
+          setListInfo(page.getContent(), export);
         }
         return page;
       }
     }.execute();
   }
 
+  /**
+   * <p>
+   * Read all tasks matching the specification for export in batches.
+   * </p>
+   * <p>
+   * Tasks are read in ascending order of id and each batch continues after the last id of the
+   * previous one, so the batches cost the same however deep the export goes. Consumed batches are
+   * detached from the persistence context.
+   * </p>
+   *
+   * @param spec           Generic specification for filtering
+   * @param fullTextSearch Whether to use full-text search
+   * @param match          Fields to match in full-text search
+   * @param batchConsumer  Consumer of each batch of tasks with export data
+   */
+  @Override
+  public void export(GenericSpecification<Task> spec, boolean fullTextSearch, String[] match,
+      Consumer<List<Task>> batchConsumer) {
+    new BizTemplate<Void>() {
+      @Override
+      protected void checkParams() {
+        // Check the project member permission
+        projectMemberQuery.checkMember(spec.getCriteria());
+      }
+
+      @Override
+      protected Void process() {
+        // Add standard filters to exclude deleted tasks and sprints
+        spec.getCriteria().add(SearchCriteria.equal("deleted", false));
+        spec.getCriteria().add(SearchCriteria.equal("sprintDeleted", false));
+
+        // Apply authorization criteria based on current user context
+        commonQuery.checkAndSetAuthObjectIdCriteria(spec.getCriteria());
+
+        Long afterId = null;
+        List<Task> tasks;
+        do {
+          // Copy the criteria, the non-main table conditions are removed when assembling sql
+          tasks = taskListRepo.findAfterId(new HashSet<>(spec.getCriteria()), afterId,
+              EXPORT_BATCH_SIZE, fullTextSearch, match);
+          if (tasks.isEmpty()) {
+            break;
+          }
+          setListInfo(tasks, true);
+          batchConsumer.accept(tasks);
+          afterId = tasks.get(tasks.size() - 1).getId();
+          entityManager.clear();
+        } while (tasks.size() >= EXPORT_BATCH_SIZE);
+        return null;
+      }
+    }.execute();
+  }
+
   /**
    * <p>
    * Find subtasks that are not associated with a specific task.
@@ -2411,7 +2470,8 @@ public class TaskQueryImpl implements TaskQuery {
    * </p>
    * <p>
    * Efficiently retrieves all subtask information for multiple parent tasks. Uses batch processing
-   * to avoid N+1 query problems and includes nested subtasks.
+   * to avoid N+1 query problems and includes nested subtasks. Subtasks are found by the tree
+   * closure index in one query, or level by level when the project is not indexed.
    * </p>
    *
    * @param projectId Project ID
@@ -2423,6 +2483,13 @@ public class TaskQueryImpl implements TaskQuery {
     if (isEmpty(taskIds)) {
       return Collections.emptyList();
     }
+    if (treeClosureQuery.checkIndexed(TASK, projectId, taskIds)) {
+      Set<Long> subIds = treeClosureQuery.findDescendantIds(TASK, taskIds);
+      return subIds.isEmpty() ? Collections.emptyList() : reachableSubs(taskIds,
+          taskInfoRepo.findByProjectIdAndIdIn(projectId, subIds), TaskInfo::getId,
+          TaskInfo::getParentTaskId);
+    }
+
     List<TaskInfo> allTaskAndSub = new ArrayList<>();
     List<TaskInfo> projectTaskSubs;
     do {
@@ -2441,6 +2508,12 @@ public class TaskQueryImpl implements TaskQuery {
     if (isEmpty(taskIds)) {
       return Collections.emptyList();
     }
+    if (treeClosureQuery.checkIndexed(TASK, projectId, taskIds)) {
+      Set<Long> subIds = treeClosureQuery.findDescendantIds(TASK, taskIds);
+      return subIds.isEmpty() ? Collections.emptyList() : reachableSubs(taskIds,
+          taskRepo.findByProjectIdAndIdIn(projectId, subIds), Task::getId, Task::getParentTaskId);
+    }
+
     List<Task> allTaskAndSub = new ArrayList<>();
     List<Task> projectTaskSubs;
     do {
@@ -2460,6 +2533,29 @@ public class TaskQueryImpl implements TaskQuery {
         .toList();
   }
 
+  /**
+   * Subtasks reachable from the parent tasks in level order. The index also contains the logically
+   * deleted tasks, subtasks under a deleted task are not reachable as when walking level by level.
+   */
+  private static <T> List<T> reachableSubs(Collection<Long> taskIds, List<T> subs,
+      Function<T, Long> idFn, Function<T, Long> parentIdFn) {
+    Map<Long, List<T>> parentSubsMap = subs.stream()
+        .filter(x -> nonNull(parentIdFn.apply(x)))
+        .collect(Collectors.groupingBy(parentIdFn));
+    List<T> reachableSubs = new ArrayList<>();
+    Set<Long> visitedIds = new HashSet<>();
+    Deque<Long> parentIds = new ArrayDeque<>(taskIds);
+    while (!parentIds.isEmpty()) {
+      for (T sub : parentSubsMap.getOrDefault(parentIds.poll(), List.of())) {
+        if (visitedIds.add(idFn.apply(sub))) {
+          reachableSubs.add(sub);
+          parentIds.add(idFn.apply(sub));
+        }
+      }
+    }
+    return reachableSubs;
+  }
+
   @Override
   public Long countByProjectId(Long id) {
     return taskInfoRepo.countAll0ByProjectId(id);
@@ -2721,6 +2817,38 @@ public class TaskQueryImpl implements TaskQuery {
     });
   }
 
+  /**
+   * <p>
+   * Set the user flags, tags, roles, progress and assignee of listed tasks, and the associated
+   * tasks and cases of exported tasks.
+   * </p>
+   */
+  private void setListInfo(List<Task> tasks, boolean export) {
+    // Set user-specific flags only for user actions
+    if (isUserAction()) {
+      // Set follow status for current user
+      setFollow(tasks);
+      // Set favourite status for current user
+      setFavourite(tasks);
+    }
+
+    // Assemble comprehensive task data for display
+    // Set task tag information
+    tagQuery.setTags(tasks);
+    // Set current user's role for each task
+    setCurrentRoles(tasks);
+    // Calculate and set progress information
+    setTaskProgress(tasks);
+    // Set assignee display information (name and avatar)
+    userManager.setUserNameAndAvatar(tasks, "assigneeId", "assigneeName", "assigneeAvatar");
+
+    // Include additional data for export operations
+    if (export) {
+      // Set associated tasks and functional cases for comprehensive export
+      taskFuncCaseQuery.setAssocForTask(tasks);
+    }
+  }
+
   /**
    * <p>
    * Set current user roles for a list of tasks.
@@ -2794,34 +2922,12 @@ public class TaskQueryImpl implements TaskQuery {
     if (isEmpty(tasks)) {
       return;
     }
-
-    // Retrieve all subtasks for the project to calculate hierarchical progress
-    List<Task> allSubTasks = findAllSub(tasks.get(0).getProjectId(),
-        tasks.stream().map(Task::getId).collect(Collectors.toSet()));
-
-    // If no subtasks exist, calculate simple progress for each task
-    if (isEmpty(allSubTasks)) {
-      for (Task task : tasks) {
-        task.setProgress(new Progress()
-            .setCompleted(task.getStatus().isCompleted() ? 1 : 0)
-            .setTotal(!task.getStatus().isCanceled() ? 1 : 0)
-        );
-      }
-      return;
-    }
-
-    // Calculate hierarchical progress including subtasks
+    Map<Long, Progress> progressMap = findTaskProgress(
+        tasks.stream().collect(Collectors.toMap(Task::getId, Task::getStatus, (x, y) -> x)),
+        tasks.stream().collect(Collectors.groupingBy(Task::getProjectId,
+            Collectors.mapping(Task::getId, Collectors.toSet()))));
     for (Task task : tasks) {
-      // Find all subtasks for this specific task
-      List<Task> subs = findAllSubTasks(allSubTasks, task.getId());
-      subs.add(task); // Include the task itself in progress calculation
-
-      // Calculate progress based on completed vs total tasks
-      task.setProgress(new Progress()
-          .setCompleted(subs.stream().filter(x -> x.getStatus().isCompleted())
-              .collect(Collectors.toSet()).size())
-          .setTotal(subs.stream().filter(x -> !x.getStatus().isCanceled())
-              .collect(Collectors.toSet()).size()));
+      task.setProgress(progressMap.get(task.getId()));
     }
   }
 
@@ -2842,27 +2948,57 @@ public class TaskQueryImpl implements TaskQuery {
     if (isEmpty(tasks)) {
       return;
     }
-    List<TaskInfo> allSubTasks = findAllSubInfo(tasks.get(0).getProjectId(),
-        tasks.stream().map(TaskInfo::getId).collect(Collectors.toSet()));
-    if (isEmpty(allSubTasks)) {
-      for (TaskInfo task : tasks) {
-        task.setProgress(new Progress()
-            .setCompleted(task.getStatus().isCompleted() ? 1 : 0)
-            .setTotal(!task.getStatus().isCanceled() ? 1 : 0)
-        );
+    Map<Long, Progress> progressMap = findTaskProgress(
+        tasks.stream().collect(Collectors.toMap(TaskInfo::getId, TaskInfo::getStatus,
+            (x, y) -> x)),
+        tasks.stream().collect(Collectors.groupingBy(TaskInfo::getProjectId,
+            Collectors.mapping(TaskInfo::getId, Collectors.toSet()))));
+    for (TaskInfo task : tasks) {
+      task.setProgress(progressMap.get(task.getId()));
+    }
+  }
+
+  /**
+   * <p>
+   * Calculate the progress of tasks over the tasks and all of their sub tasks.
+   * </p>
+   * <p>
+   * Sub tasks are loaded once per project as lightweight task infos and indexed by parent, so the
+   * progress of each task is counted by walking its own sub tree instead of scanning all sub tasks.
+   * </p>
+   *
+   * @param taskStatuses   Status of the tasks by id
+   * @param projectTaskIds Ids of the tasks by project id
+   * @return Progress of the tasks by id
+   */
+  private Map<Long, Progress> findTaskProgress(Map<Long, TaskStatus> taskStatuses,
+      Map<Long, Set<Long>> projectTaskIds) {
+    Map<Long, TaskStatus> statuses = new HashMap<>(taskStatuses);
+    Map<Long, List<Long>> subIdsMap = new HashMap<>();
+    for (Entry<Long, Set<Long>> entry : projectTaskIds.entrySet()) {
+      for (TaskInfo sub : findAllSubInfo(entry.getKey(), entry.getValue())) {
+        statuses.put(sub.getId(), sub.getStatus());
+        subIdsMap.computeIfAbsent(sub.getParentTaskId(), x -> new ArrayList<>()).add(sub.getId());
       }
-      return;
     }
 
-    for (TaskInfo task : tasks) {
-      List<TaskInfo> subs = findAllSubTaskInfos(allSubTasks, task.getId());
-      subs.add(task);
-      task.setProgress(new Progress()
-          .setCompleted(subs.stream().filter(x -> x.getStatus().isCompleted())
-              .collect(Collectors.toSet()).size())
-          .setTotal(subs.stream().filter(x -> !x.getStatus().isCanceled())
-              .collect(Collectors.toSet()).size()));
+    Map<Long, Progress> progressMap = new HashMap<>();
+    for (Long taskId : taskStatuses.keySet()) {
+      // Include the task itself in progress calculation
+      Set<Long> treeIds = new HashSet<>();
+      Deque<Long> pendingIds = new ArrayDeque<>();
+      pendingIds.add(taskId);
+      while (!pendingIds.isEmpty()) {
+        Long id = pendingIds.poll();
+        if (treeIds.add(id)) {
+          pendingIds.addAll(subIdsMap.getOrDefault(id, Collections.emptyList()));
+        }
+      }
+      progressMap.put(taskId, new Progress()
+          .setCompleted(treeIds.stream().filter(id -> statuses.get(id).isCompleted()).count())
+          .setTotal(treeIds.stream().filter(id -> !statuses.get(id).isCanceled()).count()));
     }
+    return progressMap;
   }
 
   /**
@@ -1,5 +1,6 @@
 package cloud.xcan.angus.core.tester.application.query.issue.impl;
 
+import static cloud.xcan.angus.api.commonlink.CombinedTargetType.TASK_SPRINT;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.TASK_SPRINT_NO_AUTH;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.TASK_SPRINT_NO_AUTH_CODE;
 import static cloud.xcan.angus.core.utils.PrincipalContextUtils.isUserAction;
@@ -11,14 +12,11 @@ import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isNull;
 import static java.util.Objects.nonNull;
 
-import cloud.xcan.angus.api.commonlink.user.UserRepo;
 import cloud.xcan.angus.api.enums.AuthObjectType;
-import org.springframework.stereotype.Service;
 import cloud.xcan.angus.core.biz.BizAssert;
 import cloud.xcan.angus.core.biz.BizTemplate;
 import cloud.xcan.angus.core.biz.ProtocolAssert;
 import cloud.xcan.angus.core.jpa.criteria.GenericSpecification;
-import cloud.xcan.angus.core.tester.application.query.common.CommonQuery;
 import cloud.xcan.angus.core.tester.application.query.issue.TaskSprintAuthQuery;
 import cloud.xcan.angus.core.tester.application.query.issue.TaskSprintQuery;
 import cloud.xcan.angus.core.tester.domain.issue.sprint.TaskSprint;
@@ -27,10 +25,14 @@ import cloud.xcan.angus.core.tester.domain.issue.sprint.TaskSprintRepo;
 import cloud.xcan.angus.core.tester.domain.issue.sprint.auth.TaskSprintAuth;
 import cloud.xcan.angus.core.tester.domain.issue.sprint.auth.TaskSprintAuthCurrent;
 import cloud.xcan.angus.core.tester.domain.issue.sprint.auth.TaskSprintAuthRepo;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecision;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.remote.message.http.ResourceExisted;
 import cloud.xcan.angus.remote.message.http.ResourceNotFound;
 import jakarta.annotation.Resource;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -39,6 +41,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
 
 /**
  * <p>
@@ -60,9 +63,7 @@ public class TaskSprintAuthQueryImpl implements TaskSprintAuthQuery {
   @Resource
   private TaskSprintQuery taskSprintQuery;
   @Resource
-  private UserRepo userRepo;
-  @Resource
-  private CommonQuery commonQuery;
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * <p>
@@ -120,7 +121,7 @@ public class TaskSprintAuthQueryImpl implements TaskSprintAuthQuery {
 
       @Override
       protected List<TaskSprintPermission> process() {
-        if (Objects.nonNull(admin) && admin && commonQuery.isAdminUser()) {
+        if (Objects.nonNull(admin) && admin && authDecisionCache.isAdmin()) {
           return TaskSprintPermission.ALL;
         }
 
@@ -164,7 +165,7 @@ public class TaskSprintAuthQueryImpl implements TaskSprintAuthQuery {
         TaskSprintAuthCurrent authCurrent = new TaskSprintAuthCurrent();
         authCurrent.setTaskSprintAuth(sprintDb.getAuth());
 
-        if (Objects.nonNull(admin) && admin && commonQuery.isAdminUser()) {
+        if (Objects.nonNull(admin) && admin && authDecisionCache.isAdmin()) {
           authCurrent.addPermissions(TaskSprintPermission.ALL);
           return authCurrent;
         }
@@ -220,21 +221,22 @@ public class TaskSprintAuthQueryImpl implements TaskSprintAuthQuery {
   public void checkAuth(Long userId, @Nullable Long sprintId, TaskSprintPermission permission,
       boolean ignoreAdminPermission, boolean ignorePublicAccess) {
     if (isNull(sprintId) /* Fix: Backlog or general project management sprint is null */
-        || !ignoreAdminPermission && commonQuery.isAdminUser() || !isUserAction()) {
+        || !isUserAction()) {
+      return;
+    }
+    AuthDecision decision = findDecision(userId, sprintId);
+    if (!ignoreAdminPermission && decision.isAdmin()) {
       return;
     }
 
     // Fix: When it is not controlled by permissions, it will cause users who do not have authorization permissions to authorize
     if (!ignorePublicAccess && !permission.notIgnorePublicAccess()
-        && !taskSprintQuery.isAuthCtrl(sprintId)) {
+        && !isAuthCtrl(sprintId)) {
       return;
     }
 
-    List<TaskSprintAuth> projectAuths = findAuth(userId, sprintId);
-    if (isCreator(projectAuths)) {
-      return;
-    }
-    BizAssert.assertTrue(flatPermissions(projectAuths).contains(permission),
+    // Creators have all permissions
+    BizAssert.assertTrue(decision.hasPermission(permission),
         TASK_SPRINT_NO_AUTH_CODE, TASK_SPRINT_NO_AUTH, new Object[]{permission});
   }
 
@@ -413,7 +415,8 @@ public class TaskSprintAuthQueryImpl implements TaskSprintAuthQuery {
    */
   @Override
   public void batchCheckPermission(Collection<Long> sprintIds, TaskSprintPermission permission) {
-    if (commonQuery.isAdminUser() || isEmpty(sprintIds) || isNull(permission) || !isUserAction()) {
+    if (authDecisionCache.isAdmin() || isEmpty(sprintIds) || isNull(permission)
+        || !isUserAction()) {
       return;
     }
 
@@ -424,35 +427,11 @@ public class TaskSprintAuthQueryImpl implements TaskSprintAuthQuery {
       return;
     }
 
-    // Batch retrieve all authorizations for the current user
-    List<TaskSprintAuth> auths = findAuth(getUserId(), authIds);
-    if (isEmpty(auths)) {
-      long firstId = authIds.stream().findFirst().get();
-      TaskSprint sprint = taskSprintRepo.findById(firstId).orElse(null);
-      BizAssert.assertTrue(false, TASK_SPRINT_NO_AUTH_CODE, TASK_SPRINT_NO_AUTH,
-          new Object[]{permission, Objects.isNull(sprint) ? firstId : sprint.getName()});
-    }
-
-    // Group authorizations by sprint ID for efficient lookup
-    Map<Long, List<TaskSprintAuth>> authMap = auths.stream()
-        .filter(o -> nonNull(o.getSprintId()))
-        .collect(Collectors.groupingBy(TaskSprintAuth::getSprintId));
-
-    // Check permissions for each sprint
-    for (Long sprintId : authMap.keySet()) {
-      List<TaskSprintAuth> values = authMap.get(sprintId);
-      if (isNotEmpty(values)) {
-        // Extract all permissions from the authorization records
-        Set<TaskSprintPermission> sprintPermissions = values.stream()
-            .flatMap(o -> o.getAuths().stream())
-            .collect(Collectors.toSet());
-
-        // Check if the required permission is present
-        if (sprintPermissions.contains(permission)) {
-          continue;
-        }
+    Map<Long, AuthDecision> decisions = findDecisions(getUserId(), authIds);
+    for (Long sprintId : authIds) {
+      if (decisions.get(sprintId).hasPermission(permission)) {
+        continue;
       }
-
       // Permission not found, throw exception with sprint details
       TaskSprint sprint = taskSprintRepo.findById(sprintId).orElse(null);
       BizAssert.assertTrue(false, TASK_SPRINT_NO_AUTH_CODE, TASK_SPRINT_NO_AUTH,
@@ -499,8 +478,7 @@ public class TaskSprintAuthQueryImpl implements TaskSprintAuthQuery {
   public List<Long> findByAuthObjectIdsAndPermission(Long userId,
       TaskSprintPermission permission) {
     // Get user's organization IDs and add user ID for comprehensive permission check
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
 
     return taskSprintAuthRepo.findAllByAuthObjectIdIn(orgIds).stream()
         .filter(auth -> auth.getAuths().contains(permission))
@@ -525,8 +503,7 @@ public class TaskSprintAuthQueryImpl implements TaskSprintAuthQuery {
   @Override
   public List<TaskSprintAuth> findAuth(Long userId, Long sprintId) {
     // Get user's organization IDs and add user ID for comprehensive permission check
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return taskSprintAuthRepo.findAllBySprintIdAndAuthObjectIdIn(sprintId, orgIds);
   }
 
@@ -546,8 +523,7 @@ public class TaskSprintAuthQueryImpl implements TaskSprintAuthQuery {
   @Override
   public List<TaskSprintAuth> findAuth(Long userId, Collection<Long> projectIds) {
     // Get user's organization IDs and add user ID for comprehensive permission check
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
 
     // Return all user authorizations if no specific sprints provided
     return isEmpty(projectIds)
@@ -570,7 +546,7 @@ public class TaskSprintAuthQueryImpl implements TaskSprintAuthQuery {
    */
   @Override
   public List<TaskSprintPermission> getUserAuth(Long sprintId, Long userId) {
-    if (commonQuery.isAdminUser()) {
+    if (authDecisionCache.isAdmin()) {
       return TaskSprintPermission.ALL;
     }
 
@@ -608,14 +584,39 @@ public class TaskSprintAuthQueryImpl implements TaskSprintAuthQuery {
    * Check if the current user is an admin user.
    * </p>
    * <p>
-   * Delegates to CommonQuery to determine if the current user has admin privileges.
+   * The admin flag is resolved once per request by the auth decision cache.
    * </p>
    *
    * @return true if the current user is an admin, false otherwise
    */
   @Override
   public boolean isAdminUser() {
-    return commonQuery.isAdminUser();
+    return authDecisionCache.isAdmin();
+  }
+
+  private boolean isAuthCtrl(Long sprintId) {
+    return authDecisionCache.isAuthCtrl(TASK_SPRINT, sprintId,
+        () -> taskSprintQuery.isAuthCtrl(sprintId));
+  }
+
+  private AuthDecision findDecision(Long userId, Long sprintId) {
+    return authDecisionCache.find(TASK_SPRINT, sprintId, userId, orgIds -> {
+      List<TaskSprintAuth> auths = taskSprintAuthRepo.findAllBySprintIdAndAuthObjectIdIn(sprintId,
+          new ArrayList<>(orgIds));
+      return AuthDecision.of(isCreator(auths), flatPermissions(auths));
+    });
+  }
+
+  private Map<Long, AuthDecision> findDecisions(Long userId, Collection<Long> sprintIds) {
+    return authDecisionCache.findAll(TASK_SPRINT, sprintIds, userId, (ids, orgIds) -> {
+      Map<Long, AuthDecision> decisions = new HashMap<>();
+      taskSprintAuthRepo.findAllBySprintIdInAndAuthObjectIdIn(ids, new ArrayList<>(orgIds)).stream()
+          .filter(o -> nonNull(o.getSprintId()))
+          .collect(Collectors.groupingBy(TaskSprintAuth::getSprintId))
+          .forEach((id, values) -> decisions.put(id,
+              AuthDecision.of(isCreator(values), flatPermissions(values))));
+      return decisions;
+    });
   }
 
   /**
@@ -22,7 +22,6 @@ import static org.apache.commons.lang3.time.DateFormatUtils.format;
 import cloud.xcan.angus.api.commonlink.user.UserInfo;
 import cloud.xcan.angus.api.enums.AuthObjectType;
 import cloud.xcan.angus.api.manager.UserManager;
-import cloud.xcan.angus.api.pojo.IdAndCreatedDate;
 import cloud.xcan.angus.api.pojo.IdAndCreatedDateBase;
 import cloud.xcan.angus.core.biz.BizTemplate;
 import cloud.xcan.angus.core.jpa.criteria.CriteriaUtils;
@@ -34,40 +33,36 @@ import cloud.xcan.angus.core.tester.domain.apis.ApisRepo;
 import cloud.xcan.angus.core.tester.domain.data.dataset.Dataset;
 import cloud.xcan.angus.core.tester.domain.data.dataset.DatasetRepo;
 import cloud.xcan.angus.core.tester.domain.data.datasource.Datasource;
-import cloud.xcan.angus.core.tester.domain.data.datasource.DatasourceRepo;
 import cloud.xcan.angus.core.tester.domain.data.variables.Variable;
 import cloud.xcan.angus.core.tester.domain.data.variables.VariableRepo;
 import cloud.xcan.angus.core.tester.domain.issue.Task;
 import cloud.xcan.angus.core.tester.domain.issue.TaskRepo;
 import cloud.xcan.angus.core.tester.domain.issue.sprint.TaskSprint;
-import cloud.xcan.angus.core.tester.domain.issue.sprint.TaskSprintRepo;
 import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
 import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsLabel;
 import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsRanking;
 import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsTimeSeries;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsTimeSeriesRepo;
 import cloud.xcan.angus.core.tester.domain.kanban.ResourcesRanking;
-import cloud.xcan.angus.core.tester.domain.kanban.ScenarioTimeSeries;
-import cloud.xcan.angus.core.tester.domain.kanban.ScriptTimeSeries;
 import cloud.xcan.angus.core.tester.domain.mock.apis.MockApis;
 import cloud.xcan.angus.core.tester.domain.mock.apis.MockApisRepo;
 import cloud.xcan.angus.core.tester.domain.mock.apis.response.MockApisResponse;
-import cloud.xcan.angus.core.tester.domain.mock.apis.response.MockApisResponseRepo;
 import cloud.xcan.angus.core.tester.domain.mock.service.MockService;
-import cloud.xcan.angus.core.tester.domain.mock.service.MockServiceRepo;
 import cloud.xcan.angus.core.tester.domain.project.Project;
 import cloud.xcan.angus.core.tester.domain.scenario.Scenario;
 import cloud.xcan.angus.core.tester.domain.scenario.ScenarioRepo;
 import cloud.xcan.angus.core.tester.domain.script.Script;
 import cloud.xcan.angus.core.tester.domain.script.ScriptRepo;
 import cloud.xcan.angus.core.tester.domain.services.Services;
-import cloud.xcan.angus.core.tester.domain.services.ServicesRepo;
 import cloud.xcan.angus.core.tester.domain.test.cases.FuncCase;
 import cloud.xcan.angus.core.tester.domain.test.cases.FuncCaseRepo;
 import cloud.xcan.angus.core.tester.domain.test.plan.FuncPlan;
-import cloud.xcan.angus.core.tester.domain.test.plan.FuncPlanRepo;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
+import cloud.xcan.angus.model.script.configuration.ScriptType;
 import cloud.xcan.angus.remote.search.SearchCriteria;
 import cloud.xcan.angus.spec.annotations.NonNullable;
 import jakarta.annotation.Resource;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
@@ -78,6 +73,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
@@ -112,33 +108,25 @@ public class KanbanDataAssetsQueryImpl implements KanbanDataAssetsQuery {
   @Resource
   private FuncCaseRepo funcCaseRepo;
   @Resource
-  private FuncPlanRepo funcPlanRepo;
-  @Resource
-  private ServicesRepo servicesRepo;
-  @Resource
   private ApisRepo apisRepo;
   @Resource
-  private TaskSprintRepo taskSprintRepo;
-  @Resource
   private TaskRepo taskRepo;
   @Resource
   private ScenarioRepo scenarioRepo;
   @Resource
   private ScriptRepo scriptRepo;
   @Resource
-  private MockServiceRepo mockServiceRepo;
-  @Resource
   private MockApisRepo mockApisRepo;
   @Resource
-  private MockApisResponseRepo mockApisResponseRepo;
-  @Resource
   private VariableRepo variableRepo;
   @Resource
   private DatasetRepo datasetRepo;
   @Resource
-  private DatasourceRepo datasourceRepo;
-  @Resource
   private UserManager userManager;
+  @Resource
+  private DataAssetsTimeSeriesRepo dataAssetsTimeSeriesRepo;
+  @Resource
+  private KanbanGrowthTrendCache kanbanGrowthTrendCache;
 
   /**
    * Generates growth trend analysis for data assets across multiple categories.
@@ -184,6 +172,15 @@ public class KanbanDataAssetsQueryImpl implements KanbanDataAssetsQuery {
 
       @Override
       protected Map<DataAssetsLabel, List<DataAssetsTimeSeries>> process() {
+        // Trends are cached until resources of the category are created in project
+        String cacheKey = kanbanGrowthTrendCache.cacheKey(projectId, category, creatorObjectType,
+            creatorObjectId, createdDateStart, createdDateEnd);
+        Map<DataAssetsLabel, List<DataAssetsTimeSeries>> cachedGt =
+            kanbanGrowthTrendCache.get(cacheKey);
+        if (nonNull(cachedGt)) {
+          return cachedGt;
+        }
+
         // Determine creator IDs based on organization type and ID
         Set<Long> createdBys = null;
         // If no organization person is selected or the parameters are incomplete, it will be treated as invalid
@@ -206,45 +203,41 @@ public class KanbanDataAssetsQueryImpl implements KanbanDataAssetsQuery {
         // Initialize result map and determine time formatting strategy
         Map<DataAssetsLabel, List<DataAssetsTimeSeries>> gt = new LinkedHashMap<>();
         boolean createLessThanOneMonth = MONTHS.between(now(), projectDb.getCreatedDate()) < 1;
+        boolean byDay = isTimeSeriesByDay(createdDateStart, createdDateEnd,
+            createLessThanOneMonth);
 
         // Process different categories based on the specified category
         switch (category) {
           case FUNC: {
-            assembleFuncTimeSeries(createdDateStart, createdDateEnd, caseFilters,
-                commonDeletedFilters, gt, createLessThanOneMonth);
+            assembleFuncTimeSeries(caseFilters, commonDeletedFilters, gt, byDay);
             break;
           }
           case APIS: {
-            assembleApisTimeSeries(createdDateStart, createdDateEnd, apisFilters,
-                commonDeletedFilters, gt, createLessThanOneMonth);
+            assembleApisTimeSeries(apisFilters, commonDeletedFilters, gt, byDay);
             break;
           }
           case TASK: {
-            assembleTaskTimeSeries(createdDateStart, createdDateEnd, taskFilters,
-                commonDeletedFilters, gt, createLessThanOneMonth);
+            assembleTaskTimeSeries(taskFilters, commonDeletedFilters, gt, byDay);
             break;
           }
           case SCENARIO: {
-            assembleScenarioTimeSeries(createdDateStart, createdDateEnd, commonDeletedFilters,
-                gt, createLessThanOneMonth);
+            assembleScenarioTimeSeries(commonDeletedFilters, gt, byDay);
             break;
           }
           case SCRIPT: {
-            assembleScriptTimeSeries(createdDateStart, createdDateEnd, commonFilters,
-                gt, createLessThanOneMonth);
+            assembleScriptTimeSeries(commonFilters, gt, byDay);
             break;
           }
           case MOCK: {
-            assembleMockTimeSeries(createdDateStart, createdDateEnd, commonFilters,
-                gt, createLessThanOneMonth);
+            assembleMockTimeSeries(commonFilters, gt, byDay);
             break;
           }
           case DATA: {
-            assembleDataTimeSeries(createdDateStart, createdDateEnd, commonFilters,
-                gt, createLessThanOneMonth);
+            assembleDataTimeSeries(commonFilters, gt, byDay);
             break;
           }
         }
+        kanbanGrowthTrendCache.put(cacheKey, gt);
         return gt;
       }
     }.execute();
@@ -391,272 +384,233 @@ public class KanbanDataAssetsQueryImpl implements KanbanDataAssetsQuery {
   /**
    * Assembles functional resource time series data.
    * <p>
-   * Processes functional plans and cases to generate time series data for growth trend analysis.
+   * Counts functional plans and cases by created date bucket for growth trend analysis.
    *
-   * @param createdDateStart       start date for time series generation
-   * @param createdDateEnd         end date for time series generation
-   * @param caseFilters            filter criteria for case queries
-   * @param commonDeletedFilters   filter criteria for deleted resources
-   * @param gt                     the growth trend map to populate
-   * @param createLessThanOneMonth whether project is less than one month old
+   * @param caseFilters          filter criteria for case queries
+   * @param commonDeletedFilters filter criteria for deleted resources
+   * @param gt                   the growth trend map to populate
+   * @param byDay                whether to count by day, otherwise by month
    */
-  private void assembleFuncTimeSeries(LocalDateTime createdDateStart, LocalDateTime createdDateEnd,
-      Set<SearchCriteria> caseFilters, Set<SearchCriteria> commonDeletedFilters,
-      Map<DataAssetsLabel, List<DataAssetsTimeSeries>> gt, boolean createLessThanOneMonth) {
+  private void assembleFuncTimeSeries(Set<SearchCriteria> caseFilters,
+      Set<SearchCriteria> commonDeletedFilters,
+      Map<DataAssetsLabel, List<DataAssetsTimeSeries>> gt, boolean byDay) {
     // Process functional plans time series
-    List<IdAndCreatedDate> planTimeSeries = funcPlanRepo.findProjectionByFilters(
-        FuncPlan.class, IdAndCreatedDate.class, commonDeletedFilters);
+    List<DataAssetsTimeSeries> planTimeSeries = countTimeSeries(FuncPlan.class,
+        commonDeletedFilters, byDay);
     if (isNotEmpty(planTimeSeries)) {
-      gt.put(DataAssetsLabel.PLAN,
-          getTimeSeries(createdDateStart, createdDateEnd, planTimeSeries, createLessThanOneMonth));
+      gt.put(DataAssetsLabel.PLAN, planTimeSeries);
     }
 
     // Process functional cases time series
-    List<IdAndCreatedDate> caseTimeSeries = funcCaseRepo.findProjectionByFilters(
-        FuncCase.class, IdAndCreatedDate.class, caseFilters);
-    gt.put(DataAssetsLabel.CASES,
-        getTimeSeries(createdDateStart, createdDateEnd, caseTimeSeries, createLessThanOneMonth));
+    gt.put(DataAssetsLabel.CASES, countTimeSeries(FuncCase.class, caseFilters, byDay));
   }
 
   /**
    * Assembles API resource time series data.
    * <p>
-   * Processes services and APIs to generate time series data for growth trend analysis.
+   * Counts services and APIs by created date bucket for growth trend analysis.
    *
-   * @param createdDateStart       start date for time series generation
-   * @param createdDateEnd         end date for time series generation
-   * @param apisFilters            filter criteria for API queries
-   * @param commonDeletedFilters   filter criteria for deleted resources
-   * @param gt                     the growth trend map to populate
-   * @param createLessThanOneMonth whether project is less than one month old
+   * @param apisFilters          filter criteria for API queries
+   * @param commonDeletedFilters filter criteria for deleted resources
+   * @param gt                   the growth trend map to populate
+   * @param byDay                whether to count by day, otherwise by month
    */
-  private void assembleApisTimeSeries(LocalDateTime createdDateStart, LocalDateTime createdDateEnd,
-      Set<SearchCriteria> apisFilters, Set<SearchCriteria> commonDeletedFilters,
-      Map<DataAssetsLabel, List<DataAssetsTimeSeries>> gt, boolean createLessThanOneMonth) {
+  private void assembleApisTimeSeries(Set<SearchCriteria> apisFilters,
+      Set<SearchCriteria> commonDeletedFilters,
+      Map<DataAssetsLabel, List<DataAssetsTimeSeries>> gt, boolean byDay) {
     // Process services time series
-    List<IdAndCreatedDate> servicesTimeSeries = servicesRepo.findProjectionByFilters(
-        Services.class, IdAndCreatedDate.class, commonDeletedFilters);
-    gt.put(DataAssetsLabel.SERVICES,
-        getTimeSeries(createdDateStart, createdDateEnd, servicesTimeSeries,
-            createLessThanOneMonth));
+    gt.put(DataAssetsLabel.SERVICES, countTimeSeries(Services.class, commonDeletedFilters,
+        byDay));
 
     // Process APIs time series
-    List<IdAndCreatedDate> apisTimeSeries = apisRepo.findProjectionByFilters(
-        Apis.class, IdAndCreatedDate.class, apisFilters);
+    List<DataAssetsTimeSeries> apisTimeSeries = countTimeSeries(Apis.class, apisFilters, byDay);
     if (isNotEmpty(apisTimeSeries)) {
-      gt.put(DataAssetsLabel.APIS,
-          getTimeSeries(createdDateStart, createdDateEnd, apisTimeSeries, createLessThanOneMonth));
+      gt.put(DataAssetsLabel.APIS, apisTimeSeries);
     }
   }
 
   /**
    * Assembles task resource time series data.
    * <p>
-   * Processes sprints and tasks to generate time series data for growth trend analysis.
+   * Counts sprints and tasks by created date bucket for growth trend analysis.
    *
-   * @param createdDateStart       start date for time series generation
-   * @param createdDateEnd         end date for time series generation
-   * @param taskFilters            filter criteria for task queries
-   * @param commonDeletedFilters   filter criteria for deleted resources
-   * @param gt                     the growth trend map to populate
-   * @param createLessThanOneMonth whether project is less than one month old
+   * @param taskFilters          filter criteria for task queries
+   * @param commonDeletedFilters filter criteria for deleted resources
+   * @param gt                   the growth trend map to populate
+   * @param byDay                whether to count by day, otherwise by month
    */
-  private void assembleTaskTimeSeries(LocalDateTime createdDateStart, LocalDateTime createdDateEnd,
-      Set<SearchCriteria> taskFilters, Set<SearchCriteria> commonDeletedFilters,
-      Map<DataAssetsLabel, List<DataAssetsTimeSeries>> gt, boolean createLessThanOneMonth) {
+  private void assembleTaskTimeSeries(Set<SearchCriteria> taskFilters,
+      Set<SearchCriteria> commonDeletedFilters,
+      Map<DataAssetsLabel, List<DataAssetsTimeSeries>> gt, boolean byDay) {
     // Process sprint time series
-    List<IdAndCreatedDate> sprintTimeSeries = taskSprintRepo.findProjectionByFilters(
-        TaskSprint.class, IdAndCreatedDate.class, commonDeletedFilters);
-    gt.put(DataAssetsLabel.TASK_SPRINT,
-        getTimeSeries(createdDateStart, createdDateEnd, sprintTimeSeries, createLessThanOneMonth));
+    gt.put(DataAssetsLabel.TASK_SPRINT, countTimeSeries(TaskSprint.class, commonDeletedFilters,
+        byDay));
 
     // Process task time series
-    List<IdAndCreatedDate> taskTimeSeries = taskRepo.findProjectionByFilters(
-        Task.class, IdAndCreatedDate.class, taskFilters);
+    List<DataAssetsTimeSeries> taskTimeSeries = countTimeSeries(Task.class, taskFilters, byDay);
     if (isNotEmpty(taskTimeSeries)) {
-      gt.put(DataAssetsLabel.TASK,
-          getTimeSeries(createdDateStart, createdDateEnd, taskTimeSeries, createLessThanOneMonth));
+      gt.put(DataAssetsLabel.TASK, taskTimeSeries);
     }
   }
 
   /**
    * Assembles scenario resource time series data.
    * <p>
-   * Processes scenarios by type to generate time series data for growth trend analysis.
+   * Counts scenarios by created date bucket and script type for growth trend analysis.
    *
-   * @param createdDateStart       start date for time series generation
-   * @param createdDateEnd         end date for time series generation
-   * @param filters                filter criteria for scenario queries
-   * @param gt                     the growth trend map to populate
-   * @param createLessThanOneMonth whether project is less than one month old
+   * @param filters filter criteria for scenario queries
+   * @param gt      the growth trend map to populate
+   * @param byDay   whether to count by day, otherwise by month
    */
-  private void assembleScenarioTimeSeries(LocalDateTime createdDateStart,
-      LocalDateTime createdDateEnd, Set<SearchCriteria> filters,
-      Map<DataAssetsLabel, List<DataAssetsTimeSeries>> gt, boolean createLessThanOneMonth) {
-    // Retrieve scenario time series with type information
-    List<ScenarioTimeSeries> scenarioTimeSeries = scenarioRepo.findProjectionByFilters(
-        Scenario.class, ScenarioTimeSeries.class, filters);
-
-    // Process total scenarios
-    gt.put(DataAssetsLabel.TOTAL, getTimeSeries(createdDateStart, createdDateEnd,
-        scenarioTimeSeries.stream().map(x -> (IdAndCreatedDate) x).collect(
-            Collectors.toList()), createLessThanOneMonth));
-
-    // Process scenarios by testing type
-    gt.put(DataAssetsLabel.TEST_FUNCTIONALITY, getTimeSeries(createdDateStart, createdDateEnd,
-        scenarioTimeSeries.stream().filter(x -> x.getScriptType().isFunctionalTesting())
-            .toList(), createLessThanOneMonth));
-    gt.put(DataAssetsLabel.TEST_PERFORMANCE, getTimeSeries(createdDateStart, createdDateEnd,
-        scenarioTimeSeries.stream().filter(x -> x.getScriptType().isPerformanceTesting())
-            .toList(), createLessThanOneMonth));
-    gt.put(DataAssetsLabel.TEST_STABILITY, getTimeSeries(createdDateStart, createdDateEnd,
-        scenarioTimeSeries.stream().filter(x -> x.getScriptType().isStabilityTesting())
-            .toList(), createLessThanOneMonth));
-    gt.put(DataAssetsLabel.TEST_CUSTOMIZATION, getTimeSeries(createdDateStart, createdDateEnd,
-        scenarioTimeSeries.stream().filter(x -> x.getScriptType().isCustomizedTesting())
-            .toList(), createLessThanOneMonth));
+  private void assembleScenarioTimeSeries(Set<SearchCriteria> filters,
+      Map<DataAssetsLabel, List<DataAssetsTimeSeries>> gt, boolean byDay) {
+    List<Object[]> typeCounts = dataAssetsTimeSeriesRepo.countByCreatedDate(Scenario.class,
+        filters, byDay, "scriptType");
+    assembleScriptTypeTimeSeries(typeCounts, gt, byDay);
   }
 
   /**
    * Assembles script resource time series data.
    * <p>
-   * Processes scripts by type to generate time series data for growth trend analysis.
+   * Counts scripts by created date bucket and type for growth trend analysis.
    *
-   * @param createdDateStart       start date for time series generation
-   * @param createdDateEnd         end date for time series generation
-   * @param filters                filter criteria for script queries
-   * @param gt                     the growth trend map to populate
-   * @param createLessThanOneMonth whether project is less than one month old
+   * @param filters filter criteria for script queries
+   * @param gt      the growth trend map to populate
+   * @param byDay   whether to count by day, otherwise by month
    */
-  private void assembleScriptTimeSeries(LocalDateTime createdDateStart,
-      LocalDateTime createdDateEnd, Set<SearchCriteria> filters, Map<DataAssetsLabel,
-      List<DataAssetsTimeSeries>> gt, boolean createLessThanOneMonth) {
-    // Retrieve script time series with type information
-    List<ScriptTimeSeries> scriptTimeSeries = scriptRepo.findProjectionByFilters(
-        Script.class, ScriptTimeSeries.class, filters);
-
-    // Process total scripts
-    gt.put(DataAssetsLabel.TOTAL, getTimeSeries(createdDateStart, createdDateEnd,
-        scriptTimeSeries.stream().map(x -> (IdAndCreatedDate) x)
-            .toList(), createLessThanOneMonth));
-
-    // Process scripts by testing type
-    gt.put(DataAssetsLabel.TEST_FUNCTIONALITY, getTimeSeries(createdDateStart, createdDateEnd,
-        scriptTimeSeries.stream().filter(x -> x.getType().isFunctionalTesting())
-            .toList(), createLessThanOneMonth));
-    gt.put(DataAssetsLabel.TEST_PERFORMANCE, getTimeSeries(createdDateStart, createdDateEnd,
-        scriptTimeSeries.stream().filter(x -> x.getType().isPerformanceTesting())
-            .toList(), createLessThanOneMonth));
-    gt.put(DataAssetsLabel.TEST_STABILITY, getTimeSeries(createdDateStart, createdDateEnd,
-        scriptTimeSeries.stream().filter(x -> x.getType().isStabilityTesting())
-            .toList(), createLessThanOneMonth));
-    gt.put(DataAssetsLabel.TEST_CUSTOMIZATION, getTimeSeries(createdDateStart, createdDateEnd,
-        scriptTimeSeries.stream().filter(x -> x.getType().isCustomizedTesting())
-            .toList(), createLessThanOneMonth));
+  private void assembleScriptTimeSeries(Set<SearchCriteria> filters,
+      Map<DataAssetsLabel, List<DataAssetsTimeSeries>> gt, boolean byDay) {
+    List<Object[]> typeCounts = dataAssetsTimeSeriesRepo.countByCreatedDate(Script.class,
+        filters, byDay, "type");
+    assembleScriptTypeTimeSeries(typeCounts, gt, byDay);
+  }
+
+  /**
+   * Splits the counts grouped by script type into the total and testing type time series.
+   */
+  private static void assembleScriptTypeTimeSeries(List<Object[]> typeCounts,
+      Map<DataAssetsLabel, List<DataAssetsTimeSeries>> gt, boolean byDay) {
+    gt.put(DataAssetsLabel.TOTAL, toTimeSeries(typeCounts, byDay, null));
+    gt.put(DataAssetsLabel.TEST_FUNCTIONALITY,
+        toTimeSeries(typeCounts, byDay, ScriptType::isFunctionalTesting));
+    gt.put(DataAssetsLabel.TEST_PERFORMANCE,
+        toTimeSeries(typeCounts, byDay, ScriptType::isPerformanceTesting));
+    gt.put(DataAssetsLabel.TEST_STABILITY,
+        toTimeSeries(typeCounts, byDay, ScriptType::isStabilityTesting));
+    gt.put(DataAssetsLabel.TEST_CUSTOMIZATION,
+        toTimeSeries(typeCounts, byDay, ScriptType::isCustomizedTesting));
   }
 
   /**
    * Assembles mock resource time series data.
    * <p>
-   * Processes mock services, APIs, responses, and pushback data to generate time series.
+   * Counts mock services, APIs, responses, and pushback responses by created date bucket.
    *
-   * @param createdDateStart       start date for time series generation
-   * @param createdDateEnd         end date for time series generation
-   * @param filters                filter criteria for mock queries
-   * @param gt                     the growth trend map to populate
-   * @param createLessThanOneMonth whether project is less than one month old
+   * @param filters filter criteria for mock queries
+   * @param gt      the growth trend map to populate
+   * @param byDay   whether to count by day, otherwise by month
    */
-  private void assembleMockTimeSeries(LocalDateTime createdDateStart, LocalDateTime createdDateEnd,
-      Set<SearchCriteria> filters, Map<DataAssetsLabel, List<DataAssetsTimeSeries>> gt,
-      boolean createLessThanOneMonth) {
+  private void assembleMockTimeSeries(Set<SearchCriteria> filters,
+      Map<DataAssetsLabel, List<DataAssetsTimeSeries>> gt, boolean byDay) {
     // Remove projectId filter for mock service queries
     CriteriaUtils.containsAndRemove(filters, "projectId");
 
     // Process mock services time series
-    List<IdAndCreatedDate> msTimeSeries = mockServiceRepo.findProjectionByFilters(
-        MockService.class, IdAndCreatedDate.class, filters);
-    gt.put(DataAssetsLabel.MOCK_SERVICE,
-        getTimeSeries(createdDateStart, createdDateEnd, msTimeSeries, createLessThanOneMonth));
+    gt.put(DataAssetsLabel.MOCK_SERVICE, countTimeSeries(MockService.class, filters, byDay));
 
     // Process mock APIs time series
-    List<IdAndCreatedDate> maTimeSeries = mockApisRepo.findProjectionByFilters(
-        MockApis.class, IdAndCreatedDate.class, filters);
-    gt.put(DataAssetsLabel.MOCK_APIS,
-        getTimeSeries(createdDateStart, createdDateEnd, maTimeSeries, createLessThanOneMonth));
+    gt.put(DataAssetsLabel.MOCK_APIS, countTimeSeries(MockApis.class, filters, byDay));
 
     // Process mock responses time series
-    List<IdAndCreatedDate> masTimeSeries = mockApisResponseRepo.findProjectionByFilters(
-        MockApisResponse.class, IdAndCreatedDate.class, filters);
-    gt.put(DataAssetsLabel.MOCK_RESPONSE,
-        getTimeSeries(createdDateStart, createdDateEnd, masTimeSeries, createLessThanOneMonth));
+    gt.put(DataAssetsLabel.MOCK_RESPONSE, countTimeSeries(MockApisResponse.class, filters,
+        byDay));
 
     // Process mock pushback time series
-    List<IdAndCreatedDate> mawTimeSeries = mockApisResponseRepo.findProjectionByFilters(
-        MockApisResponse.class, IdAndCreatedDate.class, merge(filters, equal("pushback", 1)));
-    gt.put(DataAssetsLabel.MOCK_PUSHBACK,
-        getTimeSeries(createdDateStart, createdDateEnd, mawTimeSeries, createLessThanOneMonth));
+    gt.put(DataAssetsLabel.MOCK_PUSHBACK, countTimeSeries(MockApisResponse.class,
+        merge(filters, equal("pushback", 1)), byDay));
   }
 
   /**
    * Assembles data resource time series data.
    * <p>
-   * Processes variables, datasets, and datasources to generate time series data.
+   * Counts variables, datasets, and datasources by created date bucket.
    *
-   * @param createdDateStart       start date for time series generation
-   * @param createdDateEnd         end date for time series generation
-   * @param filters                filter criteria for data queries
-   * @param gt                     the growth trend map to populate
-   * @param createLessThanOneMonth whether project is less than one month old
+   * @param filters filter criteria for data queries
+   * @param gt      the growth trend map to populate
+   * @param byDay   whether to count by day, otherwise by month
    */
-  private void assembleDataTimeSeries(LocalDateTime createdDateStart, LocalDateTime createdDateEnd,
-      Set<SearchCriteria> filters, Map<DataAssetsLabel, List<DataAssetsTimeSeries>> gt,
-      boolean createLessThanOneMonth) {
+  private void assembleDataTimeSeries(Set<SearchCriteria> filters,
+      Map<DataAssetsLabel, List<DataAssetsTimeSeries>> gt, boolean byDay) {
     // Process variables time series
-    List<IdAndCreatedDate> varTimeSeries = variableRepo.findProjectionByFilters(
-        Variable.class, IdAndCreatedDate.class, filters);
-    gt.put(DataAssetsLabel.DATA_VARIABLE,
-        getTimeSeries(createdDateStart, createdDateEnd, varTimeSeries, createLessThanOneMonth));
+    gt.put(DataAssetsLabel.DATA_VARIABLE, countTimeSeries(Variable.class, filters, byDay));
 
     // Process datasets time series
-    List<IdAndCreatedDate> dsTimeSeries = datasetRepo.findProjectionByFilters(
-        Dataset.class, IdAndCreatedDate.class, filters);
-    gt.put(DataAssetsLabel.DATA_DATASET,
-        getTimeSeries(createdDateStart, createdDateEnd, dsTimeSeries, createLessThanOneMonth));
+    gt.put(DataAssetsLabel.DATA_DATASET, countTimeSeries(Dataset.class, filters, byDay));
 
     // Process datasources time series
-    List<IdAndCreatedDate> dssTimeSeries = datasourceRepo.findProjectionByFilters(
-        Datasource.class, IdAndCreatedDate.class, filters);
-    gt.put(DataAssetsLabel.DATA_DATASOURCE,
-        getTimeSeries(createdDateStart, createdDateEnd, dssTimeSeries, createLessThanOneMonth));
+    gt.put(DataAssetsLabel.DATA_DATASOURCE, countTimeSeries(Datasource.class, filters, byDay));
+  }
+
+  /**
+   * Counts resources by created date bucket in the database.
+   */
+  private <T> List<DataAssetsTimeSeries> countTimeSeries(Class<T> mainClz,
+      Set<SearchCriteria> filters, boolean byDay) {
+    return toTimeSeries(dataAssetsTimeSeriesRepo.countByCreatedDate(mainClz, filters, byDay,
+        null), byDay, null);
   }
 
   /**
-   * Generates time series data with appropriate date formatting.
+   * Determines whether time series are grouped by day or by month.
    * <p>
-   * Determines the appropriate date format based on project age and time range, then generates time
-   * series data with proper grouping and counting.
+   * Projects created less than one month ago and short time ranges are grouped by day, others are
+   * grouped by month.
    *
    * @param startDate              start date for time series generation
    * @param endDate                end date for time series generation
-   * @param timeSeries             list of time series data points
    * @param createLessThanOneMonth whether project is less than one month old
-   * @return List of DataAssetsTimeSeries objects with formatted time data
+   * @return true when grouped by day
    */
-  public static List<DataAssetsTimeSeries> getTimeSeries(LocalDateTime startDate,
-      LocalDateTime endDate, List<? extends IdAndCreatedDate> timeSeries,
+  public static boolean isTimeSeriesByDay(LocalDateTime startDate, LocalDateTime endDate,
       boolean createLessThanOneMonth) {
-    LocalDateTime safeEndDate = nullSafe(endDate, now());
-
-    // Determine date format based on project age and time range
     if (createLessThanOneMonth) {
-      return getTimeSeriesByFormat(timeSeries, DEFAULT_DAY_FORMAT);
+      return true;
     }
-    if (isNull(startDate) || MONTHS.between(endDate, startDate) > 1) {
-      return getTimeSeriesByFormat(timeSeries, DEFAULT_MONTH_FORMAT);
-    } else if (ChronoUnit.DAYS.between(safeEndDate, startDate) > 1) {
-      return getTimeSeriesByFormat(timeSeries, DEFAULT_DAY_FORMAT);
+    LocalDateTime safeEndDate = nullSafe(endDate, now());
+    if (isNull(startDate) || MONTHS.between(safeEndDate, startDate) > 1) {
+      return false;
+    }
+    return ChronoUnit.DAYS.between(safeEndDate, startDate) > 1;
+  }
+
+  /**
+   * Converts bucket counts to time series sorted by bucket.
+   *
+   * @param bucketCounts rows of year, month, day (only by day), script type (only when
+   *                     typeFilter is present) and count
+   * @param byDay        whether the buckets are days, otherwise months
+   * @param typeFilter   filter of the script type, or null to sum all rows of a bucket
+   * @return List of DataAssetsTimeSeries objects with formatted time data
+   */
+  private static List<DataAssetsTimeSeries> toTimeSeries(List<Object[]> bucketCounts,
+      boolean byDay, Predicate<ScriptType> typeFilter) {
+    String format = byDay ? DEFAULT_DAY_FORMAT : DEFAULT_MONTH_FORMAT;
+    Map<String, Integer> sortedTimeGroup = new TreeMap<>();
+    for (Object[] row : bucketCounts) {
+      if (nonNull(typeFilter)) {
+        ScriptType type = (ScriptType) row[byDay ? 3 : 2];
+        if (isNull(type) || !typeFilter.test(type)) {
+          continue;
+        }
+      }
+      LocalDate bucket = LocalDate.of(((Number) row[0]).intValue(),
+          ((Number) row[1]).intValue(), byDay ? ((Number) row[2]).intValue() : 1);
+      sortedTimeGroup.merge(format(asDate(bucket.atStartOfDay()), format),
+          ((Number) row[row.length - 1]).intValue(), Integer::sum);
     }
-    return getTimeSeriesByFormat(timeSeries, DEFAULT_MONTH_FORMAT);
+    return sortedTimeGroup.entrySet().stream()
+        .map(x -> new DataAssetsTimeSeries(x.getKey(), x.getValue()))
+        .toList();
   }
 
   /**
@@ -1,23 +1,19 @@
 package cloud.xcan.angus.core.tester.application.query.mock.impl;
 
-
+import static cloud.xcan.angus.api.commonlink.CombinedTargetType.MOCK_SERVICE;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.MOCK_SERVICE_NO_AUTH_CODE;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.MOCK_SERVICE_NO_AUTH_T;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.MOCK_SERVICE_NO_TARGET_AUTH;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.MOCK_SERVICE_NO_TARGET_AUTH_CODE;
 import static cloud.xcan.angus.spec.principal.PrincipalContext.getUserId;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
-import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
-import cloud.xcan.angus.api.commonlink.user.UserRepo;
 import cloud.xcan.angus.api.enums.AuthObjectType;
-import org.springframework.stereotype.Service;
 import cloud.xcan.angus.core.biz.BizTemplate;
 import cloud.xcan.angus.core.biz.exception.BizException;
 import cloud.xcan.angus.core.jpa.criteria.GenericSpecification;
-import cloud.xcan.angus.core.tester.application.query.common.CommonQuery;
 import cloud.xcan.angus.core.tester.application.query.mock.MockServiceAuthQuery;
 import cloud.xcan.angus.core.tester.application.query.mock.MockServiceQuery;
 import cloud.xcan.angus.core.tester.domain.mock.service.MockService;
@@ -26,6 +22,8 @@ import cloud.xcan.angus.core.tester.domain.mock.service.MockServiceInfoRepo;
 import cloud.xcan.angus.core.tester.domain.mock.service.auth.MockServiceAuth;
 import cloud.xcan.angus.core.tester.domain.mock.service.auth.MockServiceAuthRepo;
 import cloud.xcan.angus.core.tester.domain.mock.service.auth.MockServicePermission;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecision;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.remote.message.http.ResourceExisted;
 import cloud.xcan.angus.remote.message.http.ResourceNotFound;
 import cloud.xcan.angus.remote.search.SearchCriteria;
@@ -33,6 +31,7 @@ import cloud.xcan.angus.spec.principal.PrincipalContext;
 import jakarta.annotation.Resource;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +40,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
 
 /**
  * Implementation of MockServiceAuthQuery for managing Mock service authorization operations.
@@ -75,9 +75,7 @@ public class MockServiceAuthQueryImpl implements MockServiceAuthQuery {
   @Resource
   private MockServiceInfoRepo mockServiceInfoRepo;
   @Resource
-  private UserRepo userRepo;
-  @Resource
-  private CommonQuery commonQuery;
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * Retrieves the authorization control status for a specific Mock service.
@@ -134,7 +132,7 @@ public class MockServiceAuthQueryImpl implements MockServiceAuthQuery {
       @Override
       protected List<MockServicePermission> process() {
         // Grant all permissions if user is admin and admin override is enabled
-        if (Objects.nonNull(admin) && admin && commonQuery.isAdminUser()) {
+        if (Objects.nonNull(admin) && admin && authDecisionCache.isAdmin()) {
           return MockServicePermission.ALL;
         }
 
@@ -347,35 +345,19 @@ public class MockServiceAuthQueryImpl implements MockServiceAuthQuery {
   public void checkAuth(Long userId, Long datasourceId, MockServicePermission permission,
       boolean ignoreAdminPermission, boolean ignorePublicAccess) {
     // Grant access if user is admin and admin permission checking is enabled
-    if (!ignoreAdminPermission && commonQuery.isAdminUser()) {
+    AuthDecision decision = findDecision(userId, datasourceId);
+    if (!ignoreAdminPermission && decision.isAdmin()) {
       return;
     }
 
     // Note: When authorization control is disabled, non-grant permissions are bypassed
     // This prevents users without authorization permissions from being blocked
-    if (!ignorePublicAccess && !permission.isGrant() && !mockServiceQuery
-        .isAuthCtrl(datasourceId)) {
-      return;
-    }
-
-    // Retrieve user's authorization records for the service
-    List<MockServiceAuth> auths = findAuth(userId, datasourceId);
-
-    // For VIEW permission, check if user has any authorization records
-    if (permission.equals(MockServicePermission.VIEW)) {
-      if (isEmpty(auths)) {
-        throw BizException.of(MOCK_SERVICE_NO_AUTH_CODE, MOCK_SERVICE_NO_AUTH_T,
-            new Object[]{permission});
-      }
-    }
-
-    // Grant access if user is the creator of the service
-    if (isCreator(auths)) {
+    if (!ignorePublicAccess && !permission.isGrant() && !isAuthCtrl(datasourceId)) {
       return;
     }
 
-    // Check if user has the required permission in their authorization records
-    if (!flatPermissions(auths).contains(permission)) {
+    // View as base permissions, creators have all permissions
+    if (!decision.hasPermission(permission)) {
       throw BizException.of(MOCK_SERVICE_NO_AUTH_CODE, MOCK_SERVICE_NO_AUTH_T,
           new Object[]{permission});
     }
@@ -397,7 +379,7 @@ public class MockServiceAuthQueryImpl implements MockServiceAuthQuery {
   @Override
   public void batchCheckPermission(Collection<Long> serviceIds, MockServicePermission permission) {
     // Skip validation for admin users or empty service collections
-    if (commonQuery.isAdminUser() || isEmpty(serviceIds) || isNull(permission)) {
+    if (authDecisionCache.isAdmin() || isEmpty(serviceIds) || isNull(permission)) {
       return;
     }
 
@@ -408,29 +390,10 @@ public class MockServiceAuthQueryImpl implements MockServiceAuthQuery {
       return;
     }
 
-    // Retrieve user's authorization records for the filtered services
-    List<MockServiceAuth> auths = findAuth(PrincipalContext.getUserId(), authIds);
-    if (isEmpty(auths)) {
-      long firstId = authIds.stream().findFirst().get();
-      MockServiceInfo serviceInfo = mockServiceInfoRepo.findById(firstId).orElse(null);
-      throw BizException.of(MOCK_SERVICE_NO_TARGET_AUTH_CODE, MOCK_SERVICE_NO_TARGET_AUTH,
-          new Object[]{permission, isNull(serviceInfo) ? firstId : serviceInfo.getName()});
-    }
-
-    // Group authorization records by service ID for efficient permission checking
-    Map<Long, List<MockServiceAuth>> authsMap = auths.stream()
-        .filter(o -> nonNull(o.getMockServiceId()))
-        .collect(Collectors.groupingBy(MockServiceAuth::getMockServiceId));
-
-    // Validate permissions for each service
-    for (Long mockServiceId : authsMap.keySet()) {
-      List<MockServiceAuth> values = authsMap.get(mockServiceId);
-      if (isNotEmpty(values)) {
-        List<MockServicePermission> permissions = values.stream()
-            .flatMap(o -> o.getAuths().stream()).toList();
-        if (isNotEmpty(permissions) && permissions.contains(permission)) {
-          continue;
-        }
+    Map<Long, AuthDecision> decisions = findDecisions(PrincipalContext.getUserId(), authIds);
+    for (Long mockServiceId : authIds) {
+      if (decisions.get(mockServiceId).hasPermission(permission)) {
+        continue;
       }
       MockServiceInfo serviceInfo = mockServiceInfoRepo.findById(mockServiceId).orElse(null);
       throw BizException.of(MOCK_SERVICE_NO_TARGET_AUTH_CODE, MOCK_SERVICE_NO_TARGET_AUTH,
@@ -471,8 +434,7 @@ public class MockServiceAuthQueryImpl implements MockServiceAuthQuery {
   public List<Long> findByAuthObjectIdsAndPermission(Long userId,
       MockServicePermission permission) {
     // Retrieve user's organization IDs and include the user ID itself
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
 
     // Find all authorization records for the user and their organizations
     return mockServiceAuthRepo.findAllByAuthObjectIdIn(orgIds).stream()
@@ -493,8 +455,7 @@ public class MockServiceAuthQueryImpl implements MockServiceAuthQuery {
   @Override
   public List<MockServiceAuth> findAuth(Long userId, Long serviceId) {
     // Retrieve user's organization IDs and include the user ID itself
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
 
     // Find authorization records for the user and their organizations for the specific service
     return mockServiceAuthRepo.findAllByMockServiceIdAndAuthObjectIdIn(serviceId, orgIds);
@@ -513,14 +474,40 @@ public class MockServiceAuthQueryImpl implements MockServiceAuthQuery {
   @Override
   public List<MockServiceAuth> findAuth(Long userId, Collection<Long> serviceIds) {
     // Retrieve user's organization IDs and include the user ID itself
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
 
     // Find authorization records based on whether specific services are provided
     return isEmpty(serviceIds) ? mockServiceAuthRepo.findAllByAuthObjectIdIn(orgIds)
         : mockServiceAuthRepo.findAllByMockServiceIdInAndAuthObjectIdIn(serviceIds, orgIds);
   }
 
+  private boolean isAuthCtrl(Long serviceId) {
+    return authDecisionCache.isAuthCtrl(MOCK_SERVICE, serviceId,
+        () -> mockServiceQuery.isAuthCtrl(serviceId));
+  }
+
+  private AuthDecision findDecision(Long userId, Long serviceId) {
+    return authDecisionCache.find(MOCK_SERVICE, serviceId, userId, orgIds -> {
+      List<MockServiceAuth> auths = mockServiceAuthRepo.findAllByMockServiceIdAndAuthObjectIdIn(serviceId,
+          new ArrayList<>(orgIds));
+      return AuthDecision.of(isCreator(auths), flatPermissions(auths));
+    });
+  }
+
+  private Map<Long, AuthDecision> findDecisions(Long userId, Collection<Long> serviceIds) {
+    return authDecisionCache.findAll(MOCK_SERVICE, serviceIds, userId, (ids, orgIds) -> {
+      Map<Long, AuthDecision> decisions = new HashMap<>();
+      List<MockServiceAuth> auths = mockServiceAuthRepo.findAllByMockServiceIdInAndAuthObjectIdIn(ids,
+          new ArrayList<>(orgIds));
+      auths.stream()
+          .filter(o -> nonNull(o.getMockServiceId()))
+          .collect(Collectors.groupingBy(MockServiceAuth::getMockServiceId))
+          .forEach((id, values) -> decisions.put(id,
+              AuthDecision.of(isCreator(values), flatPermissions(values))));
+      return decisions;
+    });
+  }
+
   /**
    * Determines if a user is the creator of a Mock service based on authorization records.
    * <p>
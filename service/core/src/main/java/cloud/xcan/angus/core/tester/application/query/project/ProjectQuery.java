@@ -3,6 +3,7 @@ package cloud.xcan.angus.core.tester.application.query.project;
 import cloud.xcan.angus.api.commonlink.user.UserBase;
 import cloud.xcan.angus.core.jpa.criteria.GenericSpecification;
 import cloud.xcan.angus.core.tester.domain.project.Project;
+import cloud.xcan.angus.core.tester.domain.project.ProjectImportProgress;
 import java.util.List;
 import java.util.Set;
 import org.springframework.data.domain.Page;
@@ -16,6 +17,8 @@ public interface ProjectQuery {
 
   Project detail(Long id);
 
+  ProjectImportProgress latestImportProgress();
+
   Page<Project> list(GenericSpecification<Project> spec, PageRequest pageable,
       boolean fullTextSearch, String[] match);
 
@@ -0,0 +1,15 @@
+package cloud.xcan.angus.core.tester.application.query.project;
+
+import cloud.xcan.angus.api.commonlink.CombinedTargetType;
+import java.util.Collection;
+import java.util.Set;
+
+public interface TreeClosureQuery {
+
+  boolean checkIndexed(CombinedTargetType type, Long projectId, Collection<Long> ids);
+
+  Set<Long> findDescendantIds(CombinedTargetType type, Collection<Long> ids);
+
+  Set<Long> findAncestorIds(CombinedTargetType type, Collection<Long> ids);
+
+}
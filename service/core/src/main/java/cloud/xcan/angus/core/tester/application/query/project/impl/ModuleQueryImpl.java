@@ -1,5 +1,6 @@
 package cloud.xcan.angus.core.tester.application.query.project.impl;
 
+import static cloud.xcan.angus.api.commonlink.CombinedTargetType.MODULE;
 import static cloud.xcan.angus.api.commonlink.setting.quota.QuotaResource.AngusTesterModule;
 import static cloud.xcan.angus.core.biz.ProtocolAssert.assertResourceNotFound;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.distinctByKey;
@@ -17,6 +18,7 @@ import cloud.xcan.angus.core.jpa.criteria.GenericSpecification;
 import cloud.xcan.angus.core.tester.application.query.project.ModuleQuery;
 import cloud.xcan.angus.core.tester.application.query.project.ProjectMemberQuery;
 import cloud.xcan.angus.core.tester.application.query.project.ProjectQuery;
+import cloud.xcan.angus.core.tester.application.query.project.TreeClosureQuery;
 import cloud.xcan.angus.core.tester.domain.project.module.Module;
 import cloud.xcan.angus.core.tester.domain.project.module.ModuleRepo;
 import cloud.xcan.angus.core.tester.domain.project.module.ModuleSearchRepo;
@@ -27,6 +29,7 @@ import jakarta.annotation.Resource;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -72,6 +75,8 @@ public class ModuleQueryImpl implements ModuleQuery {
   private ProjectQuery projectQuery;
   @Resource
   private ProjectMemberQuery projectMemberQuery;
+  @Resource
+  private TreeClosureQuery treeClosureQuery;
 
   /**
    * Retrieves detailed information for a specific module with permission validation.
@@ -225,8 +230,8 @@ public class ModuleQueryImpl implements ModuleQuery {
   /**
    * Finds modules and all their sub-modules within a project.
    * <p>
-   * Retrieves the specified modules and all their descendants in the hierarchy, traversing the
-   * complete module tree structure recursively.
+   * Retrieves the specified modules and all their descendants in the hierarchy by the tree closure
+   * index, or by traversing the module tree level by level when the project is not indexed.
    *
    * @param projectId the project ID for scope validation
    * @param moduleIds collection of module IDs to find sub-modules for
@@ -244,6 +249,16 @@ public class ModuleQueryImpl implements ModuleQuery {
     }
 
     List<Module> allModuleAndSub = new ArrayList<>(modules);
+    Set<Long> foundIds = modules.stream().map(Module::getId).collect(Collectors.toSet());
+    if (treeClosureQuery.checkIndexed(MODULE, projectId, foundIds)) {
+      Set<Long> subIds = new HashSet<>(treeClosureQuery.findDescendantIds(MODULE, foundIds));
+      subIds.removeAll(foundIds);
+      if (!subIds.isEmpty()) {
+        allModuleAndSub.addAll(moduleRepo.findByProjectIdAndIdIn(projectId, subIds));
+      }
+      return allModuleAndSub;
+    }
+
     do {
       // Find all sub-modules of the current modules
       modules = moduleRepo.findByProjectIdAndPidIn(projectId, moduleIds);
@@ -259,8 +274,8 @@ public class ModuleQueryImpl implements ModuleQuery {
   /**
    * Finds modules and all their parent modules in the hierarchy.
    * <p>
-   * Retrieves the specified modules and all their ancestors in the hierarchy, traversing up the
-   * module tree structure to build complete context.
+   * Retrieves the specified modules and all their ancestors in the hierarchy by the tree closure
+   * index, or by traversing up the module tree level by level when the projects are not indexed.
    *
    * @param modules collection of modules to find parents for
    * @return List of Module objects including the specified modules and all their parents
@@ -270,6 +285,18 @@ public class ModuleQueryImpl implements ModuleQuery {
     List<Module> allModules = new ArrayList<>();
     if (isNotEmpty(modules)) {
       allModules.addAll(modules);
+      Map<Long, Set<Long>> projectModuleIds = modules.stream().collect(Collectors.groupingBy(
+          Module::getProjectId, Collectors.mapping(Module::getId, Collectors.toSet())));
+      if (projectModuleIds.entrySet().stream().allMatch(
+          x -> treeClosureQuery.checkIndexed(MODULE, x.getKey(), x.getValue()))) {
+        Set<Long> parentModuleIds = treeClosureQuery.findAncestorIds(MODULE,
+            modules.stream().map(Module::getId).collect(Collectors.toSet()));
+        if (!parentModuleIds.isEmpty()) {
+          allModules.addAll(moduleRepo.findAllById(parentModuleIds));
+        }
+        return allModules.stream().filter(distinctByKey(Module::getId)).toList();
+      }
+
       // Collect parent module IDs from modules that have parents
       Set<Long> parentModuleIds = modules.stream().filter(Module::hasParent)
           .map(Module::getPid).collect(Collectors.toSet());
@@ -295,8 +322,8 @@ public class ModuleQueryImpl implements ModuleQuery {
   /**
    * Finds all sub-modules of the specified modules within a project.
    * <p>
-   * Retrieves all descendants of the specified modules in the hierarchy, traversing down the module
-   * tree structure recursively.
+   * Retrieves all descendants of the specified modules in the hierarchy by the tree closure index,
+   * or by traversing down the module tree level by level when the project is not indexed.
    *
    * @param projectId the project ID for scope validation
    * @param moduleIds collection of module IDs to find sub-modules for
@@ -307,6 +334,12 @@ public class ModuleQueryImpl implements ModuleQuery {
     if (isEmpty(moduleIds)) {
       return Collections.emptyList();
     }
+    if (treeClosureQuery.checkIndexed(MODULE, projectId, moduleIds)) {
+      Set<Long> subIds = treeClosureQuery.findDescendantIds(MODULE, moduleIds);
+      return subIds.isEmpty() ? Collections.emptyList()
+          : moduleRepo.findByProjectIdAndIdIn(projectId, subIds);
+    }
+
     List<Module> allModuleAndSub = new ArrayList<>();
     List<Module> projectModuleSubs;
     do {
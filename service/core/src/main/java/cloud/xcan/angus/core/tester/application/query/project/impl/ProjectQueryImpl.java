@@ -24,9 +24,11 @@ import cloud.xcan.angus.core.tester.application.query.common.CommonQuery;
 import cloud.xcan.angus.core.tester.application.query.project.ProjectMemberQuery;
 import cloud.xcan.angus.core.tester.application.query.project.ProjectQuery;
 import cloud.xcan.angus.core.tester.domain.project.Project;
+import cloud.xcan.angus.core.tester.domain.project.ProjectImportProgress;
 import cloud.xcan.angus.core.tester.domain.project.ProjectListRepo;
 import cloud.xcan.angus.core.tester.domain.project.ProjectRepo;
 import cloud.xcan.angus.core.tester.domain.project.ProjectSearchRepo;
+import cloud.xcan.angus.core.tester.infra.project.cache.ProjectImportProgressCache;
 import cloud.xcan.angus.remote.message.http.ResourceExisted;
 import cloud.xcan.angus.remote.message.http.ResourceNotFound;
 import cloud.xcan.angus.remote.search.SearchCriteria;
@@ -62,6 +64,8 @@ public class ProjectQueryImpl implements ProjectQuery {
   private CommonQuery commonQuery;
   @Resource
   private UserManager userManager;
+  @Resource
+  private ProjectImportProgressCache projectImportProgressCache;
 
   /**
    * <p>
@@ -135,6 +139,24 @@ public class ProjectQueryImpl implements ProjectQuery {
     }.execute();
   }
 
+  /**
+   * <p>
+   * Get the progress of the current user's latest project import.
+   * </p>
+   *
+   * @return Import progress, or null when the user has not imported recently
+   */
+  @Override
+  public ProjectImportProgress latestImportProgress() {
+    return new BizTemplate<ProjectImportProgress>() {
+
+      @Override
+      protected ProjectImportProgress process() {
+        return projectImportProgressCache.get();
+      }
+    }.execute();
+  }
+
   /**
    * <p>
    * List projects with optional full-text search and authorization filtering.
@@ -0,0 +1,88 @@
+package cloud.xcan.angus.core.tester.application.query.project.impl;
+
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+
+import cloud.xcan.angus.api.commonlink.CombinedTargetType;
+import cloud.xcan.angus.core.tester.application.cmd.project.TreeClosureCmd;
+import cloud.xcan.angus.core.tester.application.query.project.TreeClosureQuery;
+import cloud.xcan.angus.core.tester.domain.project.tree.TreeClosureRepo;
+import jakarta.annotation.Resource;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Implementation of TreeClosureQuery for finding the ancestors and descendants of module and task
+ * tree nodes by one indexed query.
+ * <p>
+ * Callers check the nodes are indexed first and walk the tree by parent ids otherwise. The index
+ * of a project is rebuilt on the first read outside of transactions, reads inside of
+ * transactions never rebuild it to avoid locking the index rows written by the same transaction.
+ */
+@Slf4j
+@Service
+public class TreeClosureQueryImpl implements TreeClosureQuery {
+
+  @Resource
+  private TreeClosureRepo treeClosureRepo;
+
+  @Resource
+  private TreeClosureCmd treeClosureCmd;
+
+  /**
+   * Whether the nodes of a tree in project are indexed, the tree is rebuilt when they are not and
+   * no transaction is active.
+   *
+   * @param ids Ids of the existing nodes in project
+   */
+  @Override
+  public boolean checkIndexed(CombinedTargetType type, Long projectId, Collection<Long> ids) {
+    if (isEmpty(ids)) {
+      return true;
+    }
+    Set<Long> nodeIds = new HashSet<>(ids);
+    if (treeClosureRepo.findIndexedIds(type.name(), nodeIds).size() >= nodeIds.size()) {
+      return true;
+    }
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return false;
+    }
+    try {
+      treeClosureCmd.rebuild0(type, projectId);
+    } catch (Exception e) {
+      // The tree may be rebuilt concurrently by another read
+      log.warn("Rebuild tree closure exception, type: {}, projectId: {}, cause: {}", type,
+          projectId, e.getMessage());
+      return false;
+    }
+    return treeClosureRepo.findIndexedIds(type.name(), nodeIds).size() >= nodeIds.size();
+  }
+
+  /**
+   * Ids of all descendants of the nodes, the nodes themselves are only included when they are
+   * descendants of each other.
+   */
+  @Override
+  public Set<Long> findDescendantIds(CombinedTargetType type, Collection<Long> ids) {
+    if (isEmpty(ids)) {
+      return Collections.emptySet();
+    }
+    return new HashSet<>(treeClosureRepo.findDescendantIds(type.name(), ids));
+  }
+
+  /**
+   * Ids of all ancestors of the nodes, the nodes themselves are only included when they are
+   * ancestors of each other.
+   */
+  @Override
+  public Set<Long> findAncestorIds(CombinedTargetType type, Collection<Long> ids) {
+    if (isEmpty(ids)) {
+      return Collections.emptySet();
+    }
+    return new HashSet<>(treeClosureRepo.findAncestorIds(type.name(), ids));
+  }
+}
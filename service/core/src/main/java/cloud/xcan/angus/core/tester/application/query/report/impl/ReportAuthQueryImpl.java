@@ -1,5 +1,6 @@
 package cloud.xcan.angus.core.tester.application.query.report.impl;
 
+import static cloud.xcan.angus.api.commonlink.CombinedTargetType.REPORT;
 import static cloud.xcan.angus.core.tester.domain.TesterFuncPluginMessage.FUNC_PLAN_NO_AUTH;
 import static cloud.xcan.angus.core.tester.domain.TesterFuncPluginMessage.FUNC_PLAN_NO_AUTH_CODE;
 import static cloud.xcan.angus.core.utils.PrincipalContextUtils.hasPolicy;
@@ -13,7 +14,6 @@ import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
 import static java.util.Objects.nonNull;
 
 import cloud.xcan.angus.api.commonlink.TesterConstant;
-import cloud.xcan.angus.api.commonlink.user.UserRepo;
 import cloud.xcan.angus.api.enums.AuthObjectType;
 import cloud.xcan.angus.core.biz.BizTemplate;
 import cloud.xcan.angus.core.biz.exception.BizException;
@@ -25,11 +25,14 @@ import cloud.xcan.angus.core.tester.domain.report.auth.ReportAuth;
 import cloud.xcan.angus.core.tester.domain.report.auth.ReportAuthCurrent;
 import cloud.xcan.angus.core.tester.domain.report.auth.ReportAuthRepo;
 import cloud.xcan.angus.core.tester.domain.report.auth.ReportPermission;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecision;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.remote.message.ProtocolException;
 import cloud.xcan.angus.remote.message.http.ResourceExisted;
 import cloud.xcan.angus.remote.message.http.ResourceNotFound;
 import cloud.xcan.angus.spec.annotations.DoInFuture;
 import jakarta.annotation.Resource;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -42,7 +45,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import org.springframework.util.CollectionUtils;
 
 @Service
 public class ReportAuthQueryImpl implements ReportAuthQuery {
@@ -57,7 +59,7 @@ public class ReportAuthQueryImpl implements ReportAuthQuery {
   private ReportRepo reportRepo;
 
   @Resource
-  private UserRepo userRepo;
+  private AuthDecisionCache authDecisionCache;
 
   @Override
   public Boolean status(Long reportId) {
@@ -289,21 +291,22 @@ public class ReportAuthQueryImpl implements ReportAuthQuery {
   @Override
   public void checkAuth(Long userId, Long reportId, ReportPermission permission,
       boolean ignoreAdminPermission, boolean ignorePublicAccess) {
-    if (!ignoreAdminPermission && isAdminUser() || !isUserAction()) {
+    if (!isUserAction()) {
       return;
     }
-
-    // Fix: When it is not controlled by permissions, it will cause users who do not have authorization permissions to authorize
-    if (!ignorePublicAccess && !permission.isGrant() && !reportQuery.isAuthCtrl(reportId)) {
+    AuthDecision decision = findDecision(userId, reportId);
+    // Operation system admins are not admins of reports
+    if (!ignoreAdminPermission && decision.isAdmin() && isAdminUser()) {
       return;
     }
 
-    List<ReportAuth> reportAuths = findAuth(userId, reportId);
-
-    if (isCreator(reportAuths)) {
+    // Fix: When it is not controlled by permissions, it will cause users who do not have authorization permissions to authorize
+    if (!ignorePublicAccess && !permission.isGrant() && !isAuthCtrl(reportId)) {
       return;
     }
-    if (!findDirAction(reportAuths).contains(permission)) {
+
+    // Creators have all permissions
+    if (!decision.hasPermission(permission)) {
       throw BizException.of(FUNC_PLAN_NO_AUTH_CODE, FUNC_PLAN_NO_AUTH, new Object[]{permission});
     }
   }
@@ -323,25 +326,10 @@ public class ReportAuthQueryImpl implements ReportAuthQuery {
       return;
     }
 
-    List<ReportAuth> auths = findAuth(getUserId(), authIds);
-    if (CollectionUtils.isEmpty(auths)) {
-      long firstId = authIds.stream().findFirst().get();
-      Report report = reportRepo.findById(firstId).orElse(null);
-      throw BizException.of(FUNC_PLAN_NO_AUTH_CODE, FUNC_PLAN_NO_AUTH,
-          new Object[]{permission, Objects.isNull(report) ? firstId : report.getName()});
-    }
-
-    Map<Long, List<ReportAuth>> authMap = auths.stream()
-        .filter(o -> nonNull(o.getReportId()))
-        .collect(Collectors.groupingBy(ReportAuth::getReportId));
-    for (Long reportId : authMap.keySet()) {
-      List<ReportAuth> values = authMap.get(reportId);
-      if (isNotEmpty(values)) {
-        List<ReportPermission> reportPermissions = values.stream()
-            .flatMap(o -> o.getAuths().stream()).collect(Collectors.toList());
-        if (isNotEmpty(reportPermissions) && reportPermissions.contains(permission)) {
-          continue;
-        }
+    Map<Long, AuthDecision> decisions = findDecisions(getUserId(), authIds);
+    for (Long reportId : authIds) {
+      if (decisions.get(reportId).hasPermission(permission)) {
+        continue;
       }
       Report report = reportRepo.findById(reportId).orElse(null);
       throw BizException.of(FUNC_PLAN_NO_AUTH_CODE, FUNC_PLAN_NO_AUTH,
@@ -359,8 +347,7 @@ public class ReportAuthQueryImpl implements ReportAuthQuery {
 
   @Override
   public List<Long> findByAuthObjectIdsAndPermission(Long userId, ReportPermission permission) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return reportAuthRepo.findAllByAuthObjectIdIn(orgIds).stream()
         .filter(a -> a.getAuths().contains(permission)).map(ReportAuth::getReportId).collect(
             Collectors.toList());
@@ -368,15 +355,13 @@ public class ReportAuthQueryImpl implements ReportAuthQuery {
 
   @Override
   public List<ReportAuth> findAuth(Long userId, Long reportId) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return reportAuthRepo.findAllByReportIdAndAuthObjectIdIn(reportId, orgIds);
   }
 
   @Override
   public List<ReportAuth> findAuth(Long userId, Collection<Long> reportIds) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return isEmpty(reportIds) ? reportAuthRepo.findAllByAuthObjectIdIn(orgIds)
         : reportAuthRepo.findAllByReportIdInAndAuthObjectIdIn(reportIds, orgIds);
   }
@@ -410,6 +395,30 @@ public class ReportAuthQueryImpl implements ReportAuthQuery {
     return isCreator(scenarioDirAuths);
   }
 
+  private boolean isAuthCtrl(Long reportId) {
+    return authDecisionCache.isAuthCtrl(REPORT, reportId, () -> reportQuery.isAuthCtrl(reportId));
+  }
+
+  private AuthDecision findDecision(Long userId, Long reportId) {
+    return authDecisionCache.find(REPORT, reportId, userId, orgIds -> {
+      List<ReportAuth> auths = reportAuthRepo.findAllByReportIdAndAuthObjectIdIn(reportId,
+          new ArrayList<>(orgIds));
+      return AuthDecision.of(isCreator(auths), findDirAction(auths));
+    });
+  }
+
+  private Map<Long, AuthDecision> findDecisions(Long userId, Collection<Long> reportIds) {
+    return authDecisionCache.findAll(REPORT, reportIds, userId, (ids, orgIds) -> {
+      Map<Long, AuthDecision> decisions = new HashMap<>();
+      reportAuthRepo.findAllByReportIdInAndAuthObjectIdIn(ids, new ArrayList<>(orgIds)).stream()
+          .filter(o -> nonNull(o.getReportId()))
+          .collect(Collectors.groupingBy(ReportAuth::getReportId))
+          .forEach((id, values) -> decisions.put(id,
+              AuthDecision.of(isCreator(values), findDirAction(values))));
+      return decisions;
+    });
+  }
+
   private boolean isCreator(List<ReportAuth> reportAuths) {
     if (reportAuths.isEmpty()) {
       return false;
@@ -1,5 +1,6 @@
 package cloud.xcan.angus.core.tester.application.query.scenario.impl;
 
+import static cloud.xcan.angus.api.commonlink.CombinedTargetType.SCENARIO;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.SCE_NO_AUTH_CODE;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.SCE_NO_AUTH_T;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.SCE_NO_TARGET_AUTH;
@@ -11,12 +12,10 @@ import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
 import static java.util.Objects.nonNull;
 
-import cloud.xcan.angus.api.commonlink.user.UserRepo;
 import cloud.xcan.angus.api.enums.AuthObjectType;
 import cloud.xcan.angus.core.biz.BizTemplate;
 import cloud.xcan.angus.core.biz.ProtocolAssert;
 import cloud.xcan.angus.core.biz.exception.BizException;
-import cloud.xcan.angus.core.tester.application.query.common.CommonQuery;
 import cloud.xcan.angus.core.tester.application.query.scenario.ScenarioAuthQuery;
 import cloud.xcan.angus.core.tester.application.query.scenario.ScenarioQuery;
 import cloud.xcan.angus.core.tester.domain.scenario.Scenario;
@@ -25,11 +24,14 @@ import cloud.xcan.angus.core.tester.domain.scenario.auth.ScenarioAuth;
 import cloud.xcan.angus.core.tester.domain.scenario.auth.ScenarioAuthCurrent;
 import cloud.xcan.angus.core.tester.domain.scenario.auth.ScenarioAuthRepo;
 import cloud.xcan.angus.core.tester.domain.scenario.auth.ScenarioPermission;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecision;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.remote.message.http.ResourceExisted;
 import cloud.xcan.angus.remote.message.http.ResourceNotFound;
 import jakarta.annotation.Resource;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -60,9 +62,7 @@ public class ScenarioAuthQueryImpl implements ScenarioAuthQuery {
   @Resource
   private ScenarioRepo scenarioRepo;
   @Resource
-  private UserRepo userRepo;
-  @Resource
-  private CommonQuery commonQuery;
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * <p>
@@ -117,7 +117,7 @@ public class ScenarioAuthQueryImpl implements ScenarioAuthQuery {
 
       @Override
       protected List<ScenarioPermission> process() {
-        if (Objects.nonNull(admin) && admin && commonQuery.isAdminUser()) {
+        if (Objects.nonNull(admin) && admin && authDecisionCache.isAdmin()) {
           return ScenarioPermission.ALL;
         }
 
@@ -167,7 +167,7 @@ public class ScenarioAuthQueryImpl implements ScenarioAuthQuery {
         ScenarioAuthCurrent authCurrent = new ScenarioAuthCurrent();
         authCurrent.setScenarioAuth(scenarioDb.getAuth());
 
-        if (Objects.nonNull(admin) && admin && commonQuery.isAdminUser()) {
+        if (Objects.nonNull(admin) && admin && authDecisionCache.isAdmin()) {
           authCurrent.addPermissions(ScenarioPermission.ALL);
           return authCurrent;
         }
@@ -366,27 +366,18 @@ public class ScenarioAuthQueryImpl implements ScenarioAuthQuery {
   @Override
   public void checkAuth(Long userId, Long scenarioId, ScenarioPermission permission,
       boolean ignoreAdminPermission, boolean ignorePublicAccess) {
-    if (!ignoreAdminPermission && commonQuery.isAdminUser()) {
+    AuthDecision decision = findDecision(userId, scenarioId);
+    if (!ignoreAdminPermission && decision.isAdmin()) {
       return;
     }
 
     // Fix: When it is not controlled by permissions, it will cause users who do not have authorization permissions to authorize
-    if (!ignorePublicAccess && !permission.isGrant() && !scenarioQuery.isAuthCtrl(scenarioId)) {
+    if (!ignorePublicAccess && !permission.isGrant() && !isAuthCtrl(scenarioId)) {
       return;
     }
 
-    List<ScenarioAuth> auths = findAuth(userId, scenarioId);
-    if (permission.equals(ScenarioPermission.VIEW)) {
-      // View as base permissions
-      if (isEmpty(auths)) {
-        throw BizException.of(SCE_NO_AUTH_CODE, SCE_NO_AUTH_T, new Object[]{permission});
-      }
-    }
-
-    if (isCreator(auths)) {
-      return;
-    }
-    if (!flatPermissions(auths).contains(permission)) {
+    // View as base permissions, creators have all permissions
+    if (!decision.hasPermission(permission)) {
       throw BizException.of(SCE_NO_AUTH_CODE, SCE_NO_AUTH_T, new Object[]{permission});
     }
   }
@@ -405,7 +396,7 @@ public class ScenarioAuthQueryImpl implements ScenarioAuthQuery {
    */
   @Override
   public void batchCheckPermission(Collection<Long> scenarioIds, ScenarioPermission permission) {
-    if (commonQuery.isAdminUser() || isEmpty(scenarioIds)
+    if (authDecisionCache.isAdmin() || isEmpty(scenarioIds)
         || Objects.isNull(permission)) {
       return;
     }
@@ -416,25 +407,10 @@ public class ScenarioAuthQueryImpl implements ScenarioAuthQuery {
       return;
     }
 
-    List<ScenarioAuth> auths = findAuth(getUserId(), authIds);
-    if (isEmpty(auths)) {
-      long firstId = authIds.stream().findFirst().get();
-      Scenario scenario = scenarioRepo.find0ById(firstId).orElse(null);
-      throw BizException.of(SCE_NO_TARGET_AUTH_CODE, SCE_NO_TARGET_AUTH, new Object[]{permission,
-          Objects.isNull(scenario) ? firstId : scenario.getName()});
-    }
-
-    Map<Long, List<ScenarioAuth>> authMap = auths.stream()
-        .filter(o -> nonNull(o.getScenarioId()))
-        .collect(Collectors.groupingBy(ScenarioAuth::getScenarioId));
-    for (Long sceId : authMap.keySet()) {
-      List<ScenarioAuth> values = authMap.get(sceId);
-      if (isNotEmpty(values)) {
-        List<ScenarioPermission> scePermissions = values.stream()
-            .flatMap(o -> o.getAuths().stream()).toList();
-        if (isNotEmpty(scePermissions) && scePermissions.contains(permission)) {
-          continue;
-        }
+    Map<Long, AuthDecision> decisions = findDecisions(getUserId(), authIds);
+    for (Long sceId : authIds) {
+      if (decisions.get(sceId).hasPermission(permission)) {
+        continue;
       }
       Scenario scenarioInfo = scenarioRepo.find0ById(sceId).orElse(null);
       throw BizException.of(SCE_NO_TARGET_AUTH_CODE, SCE_NO_TARGET_AUTH,
@@ -471,8 +447,7 @@ public class ScenarioAuthQueryImpl implements ScenarioAuthQuery {
    */
   @Override
   public List<Long> findByAuthObjectIdsAndPermission(Long userId, ScenarioPermission permission) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return scenarioAuthRepo.findAllByAuthObjectIdIn(orgIds).stream()
         .filter(a -> a.getAuths().contains(permission)).map(ScenarioAuth::getScenarioId).collect(
             Collectors.toList());
@@ -489,8 +464,7 @@ public class ScenarioAuthQueryImpl implements ScenarioAuthQuery {
    */
   @Override
   public List<ScenarioAuth> findAuth(Long userId, Long scenarioId) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return scenarioAuthRepo.findAllByScenarioIdAndAuthObjectIdIn(scenarioId, orgIds);
   }
 
@@ -505,8 +479,7 @@ public class ScenarioAuthQueryImpl implements ScenarioAuthQuery {
    */
   @Override
   public List<ScenarioAuth> findAuth(Long userId, Collection<Long> scenarioIds) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return isEmpty(scenarioIds) ? scenarioAuthRepo.findAllByAuthObjectIdIn(orgIds)
         : scenarioAuthRepo.findAllByScenarioIdInAndAuthObjectIdIn(scenarioIds, orgIds);
   }
@@ -526,7 +499,7 @@ public class ScenarioAuthQueryImpl implements ScenarioAuthQuery {
    */
   @Override
   public List<ScenarioPermission> getUserAuth(Long scenarioId, Long userId) {
-    if (commonQuery.isAdminUser()) {
+    if (authDecisionCache.isAdmin()) {
       return ScenarioPermission.ALL;
     }
 
@@ -556,6 +529,31 @@ public class ScenarioAuthQueryImpl implements ScenarioAuthQuery {
     return isCreator(scenarioAuths);
   }
 
+  private boolean isAuthCtrl(Long scenarioId) {
+    return authDecisionCache.isAuthCtrl(SCENARIO, scenarioId,
+        () -> scenarioQuery.isAuthCtrl(scenarioId));
+  }
+
+  private AuthDecision findDecision(Long userId, Long scenarioId) {
+    return authDecisionCache.find(SCENARIO, scenarioId, userId, orgIds -> {
+      List<ScenarioAuth> auths = scenarioAuthRepo.findAllByScenarioIdAndAuthObjectIdIn(scenarioId,
+          new ArrayList<>(orgIds));
+      return AuthDecision.of(isCreator(auths), flatPermissions(auths));
+    });
+  }
+
+  private Map<Long, AuthDecision> findDecisions(Long userId, Collection<Long> scenarioIds) {
+    return authDecisionCache.findAll(SCENARIO, scenarioIds, userId, (ids, orgIds) -> {
+      Map<Long, AuthDecision> decisions = new HashMap<>();
+      scenarioAuthRepo.findAllByScenarioIdInAndAuthObjectIdIn(ids, new ArrayList<>(orgIds)).stream()
+          .filter(o -> nonNull(o.getScenarioId()))
+          .collect(Collectors.groupingBy(ScenarioAuth::getScenarioId))
+          .forEach((id, values) -> decisions.put(id,
+              AuthDecision.of(isCreator(values), flatPermissions(values))));
+      return decisions;
+    });
+  }
+
   /**
    * <p>
    * Check if any of the authorization records indicates the user is a creator.
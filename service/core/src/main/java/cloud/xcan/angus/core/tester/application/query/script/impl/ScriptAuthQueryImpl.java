@@ -1,5 +1,6 @@
 package cloud.xcan.angus.core.tester.application.query.script.impl;
 
+import static cloud.xcan.angus.api.commonlink.CombinedTargetType.SCRIPT;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.SCRIPT_NO_AUTH_CODE;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.SCRIPT_NO_AUTH_T;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.SCRIPT_NO_TARGET_AUTH;
@@ -13,12 +14,10 @@ import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
 import static java.util.Objects.nonNull;
 
 import cloud.xcan.angus.api.commonlink.script.ScriptPermission;
-import cloud.xcan.angus.api.commonlink.user.UserRepo;
 import cloud.xcan.angus.api.enums.AuthObjectType;
 import cloud.xcan.angus.core.biz.BizTemplate;
 import cloud.xcan.angus.core.biz.ProtocolAssert;
 import cloud.xcan.angus.core.biz.exception.BizException;
-import cloud.xcan.angus.core.tester.application.query.common.CommonQuery;
 import cloud.xcan.angus.core.tester.application.query.script.ScriptAuthQuery;
 import cloud.xcan.angus.core.tester.application.query.script.ScriptQuery;
 import cloud.xcan.angus.core.tester.domain.script.Script;
@@ -27,6 +26,8 @@ import cloud.xcan.angus.core.tester.domain.script.ScriptRepo;
 import cloud.xcan.angus.core.tester.domain.script.auth.ScriptAuth;
 import cloud.xcan.angus.core.tester.domain.script.auth.ScriptAuthCurrent;
 import cloud.xcan.angus.core.tester.domain.script.auth.ScriptAuthRepo;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecision;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.remote.message.http.ResourceExisted;
 import cloud.xcan.angus.remote.message.http.ResourceNotFound;
 import jakarta.annotation.Resource;
@@ -64,9 +65,7 @@ public class ScriptAuthQueryImpl implements ScriptAuthQuery {
   @Resource
   private ScriptRepo scriptRepo;
   @Resource
-  private UserRepo userRepo;
-  @Resource
-  private CommonQuery commonQuery;
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * <p>
@@ -121,7 +120,7 @@ public class ScriptAuthQueryImpl implements ScriptAuthQuery {
 
       @Override
       protected List<ScriptPermission> process() {
-        if (Objects.nonNull(admin) && admin && commonQuery.isAdminUser()) {
+        if (Objects.nonNull(admin) && admin && authDecisionCache.isAdmin()) {
           return ScriptPermission.ALL;
         }
 
@@ -171,7 +170,7 @@ public class ScriptAuthQueryImpl implements ScriptAuthQuery {
         ScriptAuthCurrent authCurrent = new ScriptAuthCurrent();
         authCurrent.setScriptAuth(scriptDb.getAuth());
 
-        if (Objects.nonNull(admin) && admin && commonQuery.isAdminUser()) {
+        if (Objects.nonNull(admin) && admin && authDecisionCache.isAdmin()) {
           authCurrent.addPermissions(ScriptPermission.ALL);
           return authCurrent;
         }
@@ -221,7 +220,7 @@ public class ScriptAuthQueryImpl implements ScriptAuthQuery {
       @Override
       protected Map<Long, ScriptAuthCurrent> process() {
         Map<Long, ScriptAuthCurrent> authCurrentMap = new HashMap<>();
-        if (nonNull(admin) && admin && commonQuery.isAdminUser()) {
+        if (nonNull(admin) && admin && authDecisionCache.isAdmin()) {
           for (ScriptInfo script : scriptsDb) {
             ScriptAuthCurrent authCurrent = new ScriptAuthCurrent();
             authCurrent.setScriptAuth(script.getAuth());
@@ -449,27 +448,21 @@ public class ScriptAuthQueryImpl implements ScriptAuthQuery {
   @Override
   public void checkAuth(Long userId, Long scriptId, ScriptPermission permission,
       boolean ignoreAdminPermission, boolean ignorePublicAccess) {
-    if (!ignoreAdminPermission && commonQuery.isAdminUser() || !isUserAction()) {
+    if (!isUserAction()) {
       return;
     }
-
-    // Fix: When it is not controlled by permissions, it will cause users who do not have authorization permissions to authorize
-    if (!ignorePublicAccess && !permission.isGrant() && !scriptQuery.isAuthCtrl(scriptId)) {
+    AuthDecision decision = findDecision(userId, scriptId);
+    if (!ignoreAdminPermission && decision.isAdmin()) {
       return;
     }
 
-    List<ScriptAuth> auths = findAuth(userId, scriptId);
-    if (permission.equals(ScriptPermission.VIEW)) {
-      // View as base permissions
-      if (isEmpty(auths)) {
-        throw BizException.of(SCRIPT_NO_AUTH_CODE, SCRIPT_NO_AUTH_T, new Object[]{permission});
-      }
-    }
-
-    if (isCreator(auths)) {
+    // Fix: When it is not controlled by permissions, it will cause users who do not have authorization permissions to authorize
+    if (!ignorePublicAccess && !permission.isGrant() && !isAuthCtrl(scriptId)) {
       return;
     }
-    if (!flatPermissions(auths).contains(permission)) {
+
+    // View as base permissions, creators have all permissions
+    if (!decision.hasPermission(permission)) {
       throw BizException.of(SCRIPT_NO_AUTH_CODE, SCRIPT_NO_AUTH_T, new Object[]{permission});
     }
   }
@@ -488,7 +481,7 @@ public class ScriptAuthQueryImpl implements ScriptAuthQuery {
    */
   @Override
   public void batchCheckPermission(Collection<Long> scriptIds, ScriptPermission permission) {
-    if (commonQuery.isAdminUser() || isEmpty(scriptIds) || Objects.isNull(permission)
+    if (authDecisionCache.isAdmin() || isEmpty(scriptIds) || Objects.isNull(permission)
         || !isUserAction()) {
       return;
     }
@@ -499,24 +492,10 @@ public class ScriptAuthQueryImpl implements ScriptAuthQuery {
       return;
     }
 
-    List<ScriptAuth> auths = findAuth(getUserId(), authIds);
-    if (isEmpty(auths)) {
-      long firstId = authIds.stream().findFirst().get();
-      Script script = scriptRepo.find0ById(firstId).orElse(null);
-      throw BizException.of(SCRIPT_NO_TARGET_AUTH_CODE, SCRIPT_NO_TARGET_AUTH,
-          new Object[]{permission, Objects.isNull(script) ? firstId : script.getName()});
-    }
-
-    Map<Long, List<ScriptAuth>> authMap = auths.stream().filter(o -> nonNull(o.getScriptId()))
-        .collect(Collectors.groupingBy(ScriptAuth::getScriptId));
-    for (Long id : authMap.keySet()) {
-      List<ScriptAuth> values = authMap.get(id);
-      if (isNotEmpty(values)) {
-        List<ScriptPermission> permissions = values.stream()
-            .flatMap(o -> o.getAuths().stream()).toList();
-        if (isNotEmpty(permissions) && permissions.contains(permission)) {
-          continue;
-        }
+    Map<Long, AuthDecision> decisions = findDecisions(getUserId(), authIds);
+    for (Long id : authIds) {
+      if (decisions.get(id).hasPermission(permission)) {
+        continue;
       }
       Script scriptInfo = scriptRepo.find0ById(id).orElse(null);
       throw BizException.of(SCRIPT_NO_TARGET_AUTH_CODE, SCRIPT_NO_TARGET_AUTH,
@@ -552,8 +531,7 @@ public class ScriptAuthQueryImpl implements ScriptAuthQuery {
    */
   @Override
   public List<Long> findByAuthObjectIdsAndPermission(Long userId, ScriptPermission permission) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return scriptAuthRepo.findAllByAuthObjectIdIn(orgIds).stream()
         .filter(a -> a.getAuths().contains(permission)).map(ScriptAuth::getScriptId).collect(
             Collectors.toList());
@@ -570,8 +548,7 @@ public class ScriptAuthQueryImpl implements ScriptAuthQuery {
    */
   @Override
   public List<ScriptAuth> findAuth(Long userId, Long scriptId) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return scriptAuthRepo.findAllByScriptIdAndAuthObjectIdIn(scriptId, orgIds);
   }
 
@@ -586,8 +563,7 @@ public class ScriptAuthQueryImpl implements ScriptAuthQuery {
    */
   @Override
   public List<ScriptAuth> findAuth(Long userId, Collection<Long> scriptIds) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return isEmpty(scriptIds) ? scriptAuthRepo.findAllByAuthObjectIdIn(orgIds)
         : scriptAuthRepo.findAllByScriptIdInAndAuthObjectIdIn(scriptIds, orgIds);
   }
@@ -607,7 +583,7 @@ public class ScriptAuthQueryImpl implements ScriptAuthQuery {
    */
   @Override
   public List<ScriptPermission> getUserAuth(Long scriptId, Long userId) {
-    if (commonQuery.isAdminUser()) {
+    if (authDecisionCache.isAdmin()) {
       return ScriptPermission.ALL;
     }
 
@@ -637,7 +613,7 @@ public class ScriptAuthQueryImpl implements ScriptAuthQuery {
   @Override
   public Map<Long, Set<ScriptPermission>> getUserScriptAuth(Collection<Long> scriptIds,
       Long userId) {
-    if (commonQuery.isAdminUser()) {
+    if (authDecisionCache.isAdmin()) {
       return scriptIds.stream()
           .collect(Collectors.toMap(x -> x, x -> new HashSet<>(ScriptPermission.ALL)));
     }
@@ -677,6 +653,30 @@ public class ScriptAuthQueryImpl implements ScriptAuthQuery {
     return isCreator(scriptAuths);
   }
 
+  private boolean isAuthCtrl(Long scriptId) {
+    return authDecisionCache.isAuthCtrl(SCRIPT, scriptId, () -> scriptQuery.isAuthCtrl(scriptId));
+  }
+
+  private AuthDecision findDecision(Long userId, Long scriptId) {
+    return authDecisionCache.find(SCRIPT, scriptId, userId, orgIds -> {
+      List<ScriptAuth> auths = scriptAuthRepo.findAllByScriptIdAndAuthObjectIdIn(scriptId,
+          new ArrayList<>(orgIds));
+      return AuthDecision.of(isCreator(auths), flatPermissions(auths));
+    });
+  }
+
+  private Map<Long, AuthDecision> findDecisions(Long userId, Collection<Long> scriptIds) {
+    return authDecisionCache.findAll(SCRIPT, scriptIds, userId, (ids, orgIds) -> {
+      Map<Long, AuthDecision> decisions = new HashMap<>();
+      scriptAuthRepo.findAllByScriptIdInAndAuthObjectIdIn(ids, new ArrayList<>(orgIds)).stream()
+          .filter(o -> nonNull(o.getScriptId()))
+          .collect(Collectors.groupingBy(ScriptAuth::getScriptId))
+          .forEach((id, values) -> decisions.put(id,
+              AuthDecision.of(isCreator(values), flatPermissions(values))));
+      return decisions;
+    });
+  }
+
   /**
    * <p>
    * Check if any of the authorization records indicates the user is a creator.
@@ -1,6 +1,7 @@
 package cloud.xcan.angus.core.tester.application.query.services;
 
 import cloud.xcan.angus.core.tester.domain.services.comp.ServicesComp;
+import cloud.xcan.angus.core.tester.domain.services.comp.ServicesCompRefGraph;
 import cloud.xcan.angus.core.tester.domain.services.comp.ServicesCompType;
 import io.swagger.v3.oas.models.Components;
 import java.util.Collection;
@@ -20,6 +21,8 @@ public interface ServicesCompQuery {
 
   List<ServicesComp> findByServiceId(Long id);
 
+  ServicesCompRefGraph findRefGraphByServiceId(Long serviceId);
+
   Components findOpenAPIComponents(Long serviceId);
 
   void checkRefFormat(String ref);
@@ -2,6 +2,8 @@ package cloud.xcan.angus.core.tester.application.query.services;
 
 import cloud.xcan.angus.api.pojo.auth.SimpleHttpAuth;
 import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSync;
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncHistory;
+import cloud.xcan.angus.core.tester.infra.util.OpenApiDocFetcher.FetchResult;
 import java.util.Collection;
 import java.util.List;
 
@@ -20,6 +22,10 @@ public interface ServicesSyncQuery {
   void checkRepeatedNameInParams(List<String> names);
 
   String checkAndGetOpenApiContent(String syncUrl, List<SimpleHttpAuth> auths);
+
+  FetchResult checkAndFetchOpenApiContent(ServicesSync sync, boolean conditional);
+
+  List<ServicesSyncHistory> findHistories(Long serviceId, String name, int num);
 }
 
 
@@ -0,0 +1,12 @@
+package cloud.xcan.angus.core.tester.application.query.services;
+
+import cloud.xcan.angus.spec.locale.SupportedLanguage;
+import java.util.Collection;
+import java.util.Map;
+
+public interface TranslationMemoryQuery {
+
+  Map<String, String> findTranslations(Collection<String> sourceTexts,
+      SupportedLanguage sourceLanguage, SupportedLanguage targetLanguage);
+
+}
@@ -1,5 +1,6 @@
 package cloud.xcan.angus.core.tester.application.query.services.impl;
 
+import static cloud.xcan.angus.api.commonlink.CombinedTargetType.SERVICE;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.SERVICE_NO_AUTH;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.SERVICE_NO_AUTH_CODE;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.SERVICE_NO_TARGET_AUTH;
@@ -14,12 +15,10 @@ import static cloud.xcan.angus.spec.utils.ObjectUtils.isNull;
 import static java.util.Objects.nonNull;
 
 import cloud.xcan.angus.api.commonlink.services.ServicesPermission;
-import cloud.xcan.angus.api.commonlink.user.UserRepo;
 import cloud.xcan.angus.api.enums.AuthObjectType;
 import cloud.xcan.angus.core.biz.BizTemplate;
 import cloud.xcan.angus.core.biz.ProtocolAssert;
 import cloud.xcan.angus.core.biz.exception.BizException;
-import cloud.xcan.angus.core.tester.application.query.common.CommonQuery;
 import cloud.xcan.angus.core.tester.application.query.services.ServicesAuthQuery;
 import cloud.xcan.angus.core.tester.application.query.services.ServicesQuery;
 import cloud.xcan.angus.core.tester.domain.services.Services;
@@ -27,11 +26,14 @@ import cloud.xcan.angus.core.tester.domain.services.ServicesRepo;
 import cloud.xcan.angus.core.tester.domain.services.auth.ServicesAuth;
 import cloud.xcan.angus.core.tester.domain.services.auth.ServicesAuthCurrent;
 import cloud.xcan.angus.core.tester.domain.services.auth.ServicesAuthRepo;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecision;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.remote.message.http.ResourceExisted;
 import cloud.xcan.angus.remote.message.http.ResourceNotFound;
 import jakarta.annotation.Resource;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -62,9 +64,7 @@ public class ServicesAuthQueryImpl implements ServicesAuthQuery {
   @Resource
   private ServicesRepo servicesRepo;
   @Resource
-  private UserRepo userRepo;
-  @Resource
-  private CommonQuery commonQuery;
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * <p>
@@ -119,7 +119,7 @@ public class ServicesAuthQueryImpl implements ServicesAuthQuery {
 
       @Override
       protected List<ServicesPermission> process() {
-        if (Objects.nonNull(admin) && admin && commonQuery.isAdminUser()) {
+        if (Objects.nonNull(admin) && admin && authDecisionCache.isAdmin()) {
           return ServicesPermission.ALL;
         }
 
@@ -170,7 +170,7 @@ public class ServicesAuthQueryImpl implements ServicesAuthQuery {
         ServicesAuthCurrent authCurrent = new ServicesAuthCurrent();
         authCurrent.setServiceAuth(serviceDb.getAuth());
 
-        if (Objects.nonNull(admin) && admin && commonQuery.isAdminUser()) {
+        if (Objects.nonNull(admin) && admin && authDecisionCache.isAdmin()) {
           authCurrent.addPermissions(ServicesPermission.ALL);
           return authCurrent;
         }
@@ -404,29 +404,22 @@ public class ServicesAuthQueryImpl implements ServicesAuthQuery {
   @Override
   public void checkAuth(Long userId, Long serviceId, ServicesPermission permission,
       boolean ignoreAdminPermission, boolean ignorePublicAccess) {
-    if (!ignoreAdminPermission && commonQuery.isAdminUser() || !isUserAction()) {
+    if (!isUserAction()) {
       return;
     }
-
-    // Fix: When it is not controlled by permissions, it will cause users who do not have authorization permissions to authorize
-    if (!ignorePublicAccess && !permission.isGrant() && !permission.isRelease()
-        && !servicesQuery.isAuthCtrl(serviceId)) {
+    AuthDecision decision = findDecision(userId, serviceId);
+    if (!ignoreAdminPermission && decision.isAdmin()) {
       return;
     }
 
-    List<ServicesAuth> apisAuths = findAuth(userId, serviceId);
-    if (permission.equals(ServicesPermission.VIEW)) {
-      // View as base permissions
-      if (isEmpty(apisAuths)) {
-        throw BizException.of(SERVICE_NO_AUTH_CODE, SERVICE_NO_AUTH, new Object[]{permission});
-      }
-    }
-
-    if (isCreator(apisAuths)) {
+    // Fix: When it is not controlled by permissions, it will cause users who do not have authorization permissions to authorize
+    if (!ignorePublicAccess && !permission.isGrant() && !permission.isRelease()
+        && !isAuthCtrl(serviceId)) {
       return;
     }
 
-    if (!flatPermissions(apisAuths).contains(permission)) {
+    // View as base permissions, creators have all permissions
+    if (!decision.hasPermission(permission)) {
       throw BizException.of(SERVICE_NO_AUTH_CODE, SERVICE_NO_AUTH, new Object[]{permission});
     }
   }
@@ -445,7 +438,8 @@ public class ServicesAuthQueryImpl implements ServicesAuthQuery {
    */
   @Override
   public void batchCheckPermission(Collection<Long> serviceIds, ServicesPermission permission) {
-    if (commonQuery.isAdminUser() || isEmpty(serviceIds) || isNull(permission) || !isUserAction()) {
+    if (authDecisionCache.isAdmin() || isEmpty(serviceIds) || isNull(permission)
+        || !isUserAction()) {
       return;
     }
 
@@ -455,25 +449,10 @@ public class ServicesAuthQueryImpl implements ServicesAuthQuery {
       return;
     }
 
-    List<ServicesAuth> auths = findAuth(getUserId(), authIds);
-    if (isEmpty(auths)) {
-      long firstId = authIds.stream().findFirst().get();
-      Services service = servicesRepo.findById(firstId).orElse(null);
-      throw BizException.of(SERVICE_NO_TARGET_AUTH_CODE, SERVICE_NO_TARGET_AUTH,
-          new Object[]{permission, isNull(service) ? firstId : service.getName()});
-    }
-
-    Map<Long, List<ServicesAuth>> authMap = auths.stream()
-        .filter(o -> nonNull(o.getServiceId()))
-        .collect(Collectors.groupingBy(ServicesAuth::getServiceId));
-    for (Long serviceId : authMap.keySet()) {
-      List<ServicesAuth> values = authMap.get(serviceId);
-      if (isNotEmpty(values)) {
-        List<ServicesPermission> projectPermissions = values.stream()
-            .flatMap(o -> o.getAuths().stream()).toList();
-        if (isNotEmpty(projectPermissions) && projectPermissions.contains(permission)) {
-          continue;
-        }
+    Map<Long, AuthDecision> decisions = findDecisions(getUserId(), authIds);
+    for (Long serviceId : authIds) {
+      if (decisions.get(serviceId).hasPermission(permission)) {
+        continue;
       }
       Services service = servicesRepo.findById(serviceId).orElse(null);
       throw BizException.of(SERVICE_NO_TARGET_AUTH_CODE, SERVICE_NO_TARGET_AUTH,
@@ -512,8 +491,7 @@ public class ServicesAuthQueryImpl implements ServicesAuthQuery {
    */
   @Override
   public List<Long> findByAuthObjectIdsAndPermission(Long userId, ServicesPermission permission) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return servicesAuthRepo.findAllByAuthObjectIdIn(orgIds).stream()
         .filter(p -> p.getAuths().contains(permission)).map(ServicesAuth::getServiceId)
         .distinct().toList();
@@ -530,8 +508,7 @@ public class ServicesAuthQueryImpl implements ServicesAuthQuery {
    */
   @Override
   public List<ServicesAuth> findAuth(Long userId, Long serviceId) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return servicesAuthRepo.findByServiceIdAndAuthObjectIdIn(serviceId, orgIds);
   }
 
@@ -546,8 +523,7 @@ public class ServicesAuthQueryImpl implements ServicesAuthQuery {
    */
   @Override
   public List<ServicesAuth> findAuth(Long userId, Collection<Long> serviceIds) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return isEmpty(serviceIds) ? servicesAuthRepo.findAllByAuthObjectIdIn(orgIds) :
         servicesAuthRepo.findByServiceIdInAndAuthObjectIdIn(serviceIds, orgIds);
   }
@@ -567,7 +543,7 @@ public class ServicesAuthQueryImpl implements ServicesAuthQuery {
    */
   @Override
   public List<ServicesPermission> getUserAuth(Long serviceId, Long userId) {
-    if (commonQuery.isAdminUser()) {
+    if (authDecisionCache.isAdmin()) {
       return ServicesPermission.ALL;
     }
 
@@ -598,6 +574,31 @@ public class ServicesAuthQueryImpl implements ServicesAuthQuery {
     return isCreator(projectAuths);
   }
 
+  private boolean isAuthCtrl(Long serviceId) {
+    return authDecisionCache.isAuthCtrl(SERVICE, serviceId,
+        () -> servicesQuery.isAuthCtrl(serviceId));
+  }
+
+  private AuthDecision findDecision(Long userId, Long serviceId) {
+    return authDecisionCache.find(SERVICE, serviceId, userId, orgIds -> {
+      List<ServicesAuth> auths = servicesAuthRepo.findByServiceIdAndAuthObjectIdIn(serviceId,
+          new ArrayList<>(orgIds));
+      return AuthDecision.of(isCreator(auths), flatPermissions(auths));
+    });
+  }
+
+  private Map<Long, AuthDecision> findDecisions(Long userId, Collection<Long> serviceIds) {
+    return authDecisionCache.findAll(SERVICE, serviceIds, userId, (ids, orgIds) -> {
+      Map<Long, AuthDecision> decisions = new HashMap<>();
+      servicesAuthRepo.findByServiceIdInAndAuthObjectIdIn(ids, new ArrayList<>(orgIds)).stream()
+          .filter(o -> nonNull(o.getServiceId()))
+          .collect(Collectors.groupingBy(ServicesAuth::getServiceId))
+          .forEach((id, values) -> decisions.put(id,
+              AuthDecision.of(isCreator(values), flatPermissions(values))));
+      return decisions;
+    });
+  }
+
   /**
    * <p>
    * Check if any of the authorization records indicates the user is a creator.
@@ -2,7 +2,6 @@ package cloud.xcan.angus.core.tester.application.query.services.impl;
 
 import static cloud.xcan.angus.core.biz.ProtocolAssert.assertNotNull;
 import static cloud.xcan.angus.core.biz.ProtocolAssert.assertTrue;
-import static cloud.xcan.angus.core.tester.application.converter.ApisConverter.findAllRef0;
 import static cloud.xcan.angus.core.tester.domain.apis.converter.ApiResponseConverter.OPENAPI_MAPPER;
 import static cloud.xcan.angus.spec.principal.PrincipalContext.getUserId;
 import static java.util.Objects.nonNull;
@@ -14,15 +13,13 @@ import cloud.xcan.angus.core.tester.application.converter.ServicesCompConverter;
 import cloud.xcan.angus.core.tester.application.query.services.ServicesAuthQuery;
 import cloud.xcan.angus.core.tester.application.query.services.ServicesCompQuery;
 import cloud.xcan.angus.core.tester.domain.services.comp.ServicesComp;
+import cloud.xcan.angus.core.tester.domain.services.comp.ServicesCompRefGraph;
 import cloud.xcan.angus.core.tester.domain.services.comp.ServicesCompRepo;
 import cloud.xcan.angus.core.tester.domain.services.comp.ServicesCompType;
-import cloud.xcan.angus.core.tester.infra.util.RefResolver;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.parser.reference.ReferenceUtils;
 import jakarta.annotation.Resource;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -84,18 +81,12 @@ public class ServicesCompQueryImpl implements ServicesCompQuery {
         ServicesComp comp = comps.stream().filter(x -> x.getRef().equals(ref)).findFirst()
             .orElse(null);
         if (nonNull(comp) && isNotEmpty(comp.getModel())) {
-          Set<String> refs;
-          try {
-            refs = RefResolver.findPropertyValues(comp.getModel(), "$ref");
-            Map<String, String> allRefModels = new HashMap<>();
-            if (isNotEmpty(refs)) {
-              Map<String, String> compModelMap = comps.stream()
-                  .collect(Collectors.toMap(ServicesComp::getRef, ServicesComp::getModel));
-              findAllRef0(allRefModels, refs, compModelMap);
-              comp.setResolvedRefModels(allRefModels);
-            }
-          } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+          Set<String> refs = nonNull(comp.getRefs()) ? comp.getRefs() : comp.findDirectRefs();
+          if (isNotEmpty(refs)) {
+            Map<String, String> compModelMap = comps.stream()
+                .collect(Collectors.toMap(ServicesComp::getRef, ServicesComp::getModel));
+            comp.setResolvedRefModels(servicesCompQuery.findRefGraphByServiceId(serviceId)
+                .resolve(refs, compModelMap));
           }
         }
         return comp;
@@ -210,6 +201,24 @@ public class ServicesCompQueryImpl implements ServicesCompQuery {
     return servicesCompRepo.findByServiceId(serviceId);
   }
 
+  /**
+   * <p>
+   * Find the transitive closure of component references for a service with caching.
+   * </p>
+   * <p>
+   * The graph is built from the persisted direct refs of components, so resolving the models
+   * referenced by APIs or components does not need to parse component models again.
+   * </p>
+   *
+   * @param serviceId Service ID
+   * @return Reference graph of services components
+   */
+  @Cacheable(key = "'servicesId_' + #serviceId", value = "servicesCompRefGraph")
+  @Override
+  public ServicesCompRefGraph findRefGraphByServiceId(Long serviceId) {
+    return ServicesCompRefGraph.of(servicesCompQuery.findByServiceId(serviceId));
+  }
+
   /**
    * <p>
    * Find OpenAPI components for a service.
@@ -7,6 +7,7 @@ import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.SERVICE_SYNC
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.SERVICE_SYNC_TEST_CONN_FAILED_T;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.SERVICE_SYNC_TEST_URL_INVALID;
 import static cloud.xcan.angus.remote.message.ProtocolException.M.PARAM_ERROR_KEY;
+import static cloud.xcan.angus.spec.principal.PrincipalContext.getUserId;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
 
@@ -14,9 +15,14 @@ import cloud.xcan.angus.api.pojo.auth.SimpleHttpAuth;
 import cloud.xcan.angus.core.biz.BizTemplate;
 import cloud.xcan.angus.core.biz.ProtocolAssert;
 import cloud.xcan.angus.core.biz.exception.QuotaException;
+import cloud.xcan.angus.core.tester.application.query.services.ServicesAuthQuery;
 import cloud.xcan.angus.core.tester.application.query.services.ServicesSyncQuery;
 import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSync;
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncHistory;
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncHistoryRepo;
 import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncRepo;
+import cloud.xcan.angus.core.tester.infra.util.OpenApiDocFetcher;
+import cloud.xcan.angus.core.tester.infra.util.OpenApiDocFetcher.FetchResult;
 import cloud.xcan.angus.core.utils.ValidatorUtils;
 import cloud.xcan.angus.spec.http.HttpSender.Request;
 import cloud.xcan.angus.spec.http.HttpUrlConnectionSender;
@@ -45,6 +51,15 @@ public class ServicesSyncQueryImpl implements ServicesSyncQuery {
   @Resource
   private ServicesSyncRepo projectSyncRepo;
 
+  @Resource
+  private ServicesSyncHistoryRepo servicesSyncHistoryRepo;
+
+  @Resource
+  private ServicesAuthQuery servicesAuthQuery;
+
+  @Resource
+  private OpenApiDocFetcher openApiDocFetcher;
+
   /**
    * <p>
    * Find all synchronization configurations for a service.
@@ -193,4 +208,71 @@ public class ServicesSyncQueryImpl implements ServicesSyncQuery {
     }
     return content;
   }
+
+  /**
+   * <p>
+   * Check connectivity and fetch the OpenAPI content of a synchronization configuration.
+   * </p>
+   * <p>
+   * When conditional, the validators of the last applied document are sent and the result is not
+   * modified if the server answers 304. Authentications are applied to the request headers or
+   * query parameters as {@link #checkAndGetOpenApiContent(String, List)} does.
+   * </p>
+   *
+   * @param sync        Synchronization configuration
+   * @param conditional Whether to send the validators of the last applied document
+   * @return Fetched content with its hash and validators
+   */
+  @Override
+  public FetchResult checkAndFetchOpenApiContent(ServicesSync sync, boolean conditional) {
+    ProtocolAssert.assertTrue(ValidatorUtils.isUrl(sync.getApiDocsUrl().split("//?")[0]),
+        SERVICE_SYNC_TEST_URL_INVALID);
+    FetchResult result = null;
+    try {
+      // Apply the header and query parameter authentications as the connectivity test does
+      Request request = Request.build(sync.getApiDocsUrl(), new HttpUrlConnectionSender())
+          .withAuths(sync.getAuths()).build();
+      result = openApiDocFetcher.fetch(request.getUrl().toString(),
+          request.getRequestHeaders(), conditional ? sync.getEtag() : null,
+          conditional ? sync.getLastModified() : null);
+    } catch (IllegalArgumentException e) {
+      ProtocolAssert.assertTrue(false, SERVICE_SYNC_TEST_URL_INVALID);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      ProtocolAssert.assertTrue(false, SERVICE_SYNC_TEST_CONN_FAILED_T,
+          new Object[]{ExceptionUtils.getMessage(e)});
+    } catch (Exception e) {
+      ProtocolAssert.assertTrue(false, SERVICE_SYNC_TEST_CONN_FAILED_T,
+          new Object[]{ExceptionUtils.getMessage(e)});
+    }
+    return result;
+  }
+
+  /**
+   * <p>
+   * Find the latest synchronization histories of a service.
+   * </p>
+   *
+   * @param serviceId Service ID
+   * @param name      Synchronization configuration name, all configurations when null
+   * @param num       Maximum number of histories
+   * @return Histories ordered from the latest
+   */
+  @Override
+  public List<ServicesSyncHistory> findHistories(Long serviceId, String name, int num) {
+    return new BizTemplate<List<ServicesSyncHistory>>() {
+
+      @Override
+      protected void checkParams() {
+        // Verify user has service view permissions
+        servicesAuthQuery.checkViewAuth(getUserId(), serviceId);
+      }
+
+      @Override
+      protected List<ServicesSyncHistory> process() {
+        return isEmpty(name) ? servicesSyncHistoryRepo.findLatestByServiceId(serviceId, num)
+            : servicesSyncHistoryRepo.findLatestByServiceIdAndSyncName(serviceId, name, num);
+      }
+    }.execute();
+  }
 }
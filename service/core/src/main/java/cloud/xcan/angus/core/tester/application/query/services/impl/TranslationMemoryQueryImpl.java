@@ -0,0 +1,66 @@
+package cloud.xcan.angus.core.tester.application.query.services.impl;
+
+import static cloud.xcan.angus.core.tester.application.converter.TranslationMemoryConverter.sourceHash;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+
+import cloud.xcan.angus.core.tester.application.query.services.TranslationMemoryQuery;
+import cloud.xcan.angus.core.tester.domain.services.translation.TranslationMemory;
+import cloud.xcan.angus.core.tester.domain.services.translation.TranslationMemoryRepo;
+import cloud.xcan.angus.spec.locale.SupportedLanguage;
+import jakarta.annotation.Resource;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+/**
+ * <p>
+ * Implementation of TranslationMemoryQuery for reusing translations of current tenant.
+ * </p>
+ */
+@Service
+public class TranslationMemoryQueryImpl implements TranslationMemoryQuery {
+
+  /**
+   * Maximum number of hashes in one IN query.
+   */
+  private static final int QUERY_BATCH_SIZE = 500;
+
+  @Resource
+  private TranslationMemoryRepo translationMemoryRepo;
+
+  /**
+   * <p>
+   * Find the saved translations of source texts between a language pair.
+   * </p>
+   *
+   * @param sourceTexts    Source texts to find
+   * @param sourceLanguage Source language
+   * @param targetLanguage Target language
+   * @return Map of source text to translated text, texts never translated are absent
+   */
+  @Override
+  public Map<String, String> findTranslations(Collection<String> sourceTexts,
+      SupportedLanguage sourceLanguage, SupportedLanguage targetLanguage) {
+    Map<String, String> translations = new HashMap<>();
+    if (isEmpty(sourceTexts)) {
+      return translations;
+    }
+    Map<String, String> hashTexts = new HashMap<>();
+    for (String sourceText : sourceTexts) {
+      hashTexts.put(sourceHash(sourceText), sourceText);
+    }
+    List<String> hashes = List.copyOf(hashTexts.keySet());
+    for (int i = 0; i < hashes.size(); i += QUERY_BATCH_SIZE) {
+      List<TranslationMemory> memories = translationMemoryRepo
+          .findBySourceLanguageAndTargetLanguageAndSourceHashIn(sourceLanguage, targetLanguage,
+              hashes.subList(i, Math.min(i + QUERY_BATCH_SIZE, hashes.size())));
+      for (TranslationMemory memory : memories) {
+        translations.put(hashTexts.get(memory.getSourceHash()), memory.getTranslatedText());
+      }
+    }
+    return translations;
+  }
+
+}
@@ -36,6 +36,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
@@ -46,6 +47,9 @@ public interface FuncCaseQuery {
   Page<FuncCaseInfo> list(boolean export, GenericSpecification<FuncCaseInfo> spec,
       PageRequest pageable, boolean fullTextSearch, String[] match);
 
+  void export(GenericSpecification<FuncCaseInfo> spec, boolean fullTextSearch, String[] match,
+      Consumer<List<FuncCaseInfo>> batchConsumer);
+
   List<FuncCaseInfo> notAssociatedCaseInTask(Long id, Long moduleId);
 
   List<FuncCaseInfo> notAssociatedCaseInCase(Long caseId, Long moduleId);
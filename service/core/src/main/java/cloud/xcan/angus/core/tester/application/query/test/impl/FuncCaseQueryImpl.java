@@ -137,6 +137,7 @@ import cloud.xcan.angus.core.tester.domain.project.Project;
 import cloud.xcan.angus.core.tester.domain.project.summary.ProjectSummary;
 import cloud.xcan.angus.core.tester.domain.test.baseline.FuncBaseline;
 import cloud.xcan.angus.core.tester.domain.test.baseline.FuncBaselineRepo;
+import cloud.xcan.angus.core.tester.domain.test.cases.CaseTestResult;
 import cloud.xcan.angus.core.tester.domain.test.cases.FuncCase;
 import cloud.xcan.angus.core.tester.domain.test.cases.FuncCaseInfo;
 import cloud.xcan.angus.core.tester.domain.test.cases.FuncCaseInfoListRepo;
@@ -192,6 +193,8 @@ import cloud.xcan.angus.remote.search.SearchCriteria;
 import cloud.xcan.angus.spec.annotations.NonNullable;
 import cloud.xcan.angus.spec.principal.PrincipalContext;
 import jakarta.annotation.Resource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -203,6 +206,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -238,6 +242,8 @@ import org.springframework.data.domain.Sort.Direction;
 @Service
 public class FuncCaseQueryImpl implements FuncCaseQuery {
 
+  private static final int EXPORT_BATCH_SIZE = 200;
+
   @Resource
   private FuncCaseRepo funcCaseRepo;
   @Resource
@@ -284,6 +290,8 @@ public class FuncCaseQueryImpl implements FuncCaseQuery {
   private CommonQuery commonQuery;
   @Resource
   private JoinSupplier joinSupplier;
+  @PersistenceContext
+  private EntityManager entityManager;
 
   /**
    * Retrieves detailed information for a specific functional test case.
@@ -381,42 +389,64 @@ public class FuncCaseQueryImpl implements FuncCaseQuery {
             : funcCaseInfoListRepo.find(criteria, pageable, FuncCaseInfo.class, null);
 
         if (page.hasContent()) {
-          if (isUserAction()) {
-            // Set favourite state
-            setFavourite(page.getContent());
-            // Set follow state
-            setFollow(page.getContent());
-          }
-
-          // Set user name and avatar
-          userManager.setUserNameAndAvatar(page.getContent(), "createdBy");
-          // Set tester name and avatar
-          userManager.setUserNameAndAvatar(page.getContent(),
-              "testerId", "testerName", "testerAvatar");
-
-          // Set tags
-          tagQuery.setTags(page.getContent());
-          // Set progress
-          setCaseInfoProgress(page.getContent());
-
-          if (export) {
-            List<Long> caseIds = page.getContent().stream().map(FuncCaseInfo::getId)
-                .toList();
-            Map<Long, FuncCase> caseMap = funcCaseRepo.findAllById(caseIds).stream()
-                .collect(Collectors.toMap(FuncCase::getId, x -> x));
-            for (FuncCaseInfo caseInfo : page.getContent()) {
-              caseInfo.setPrecondition(caseMap.get(caseInfo.getId()).getPrecondition());
-              caseInfo.setSteps(caseMap.get(caseInfo.getId()).getSteps());
-            }
-            // Set reference tasks and cases
-            taskFuncCaseQuery.setAssocForCase(page.getContent());
-          }
+          setListInfo(page.getContent(), export);
         }
         return page;
       }
     }.execute();
   }
 
+  /**
+   * Reads all cases matching the specification for export in batches.
+   * <p>
+   * Cases are read in ascending order of id, each batch seeks after the last id of the previous
+   * batch, so neither the number of exported cases nor the offset of the batch affects the cost of
+   * the reads. Batches are detached after being consumed to keep the memory flat.
+   *
+   * @param spec           the search specification with criteria and filters
+   * @param fullTextSearch whether to use full-text search capabilities
+   * @param match          full-text search match parameters
+   * @param batchConsumer  consumer of each batch of cases enriched with export data
+   * @throws BizException if permission validation fails
+   */
+  @Override
+  public void export(GenericSpecification<FuncCaseInfo> spec, boolean fullTextSearch,
+      String[] match, Consumer<List<FuncCaseInfo>> batchConsumer) {
+    new BizTemplate<Void>() {
+      @Override
+      protected void checkParams() {
+        // Check the project member permission
+        projectMemberQuery.checkMember(spec.getCriteria());
+      }
+
+      @Override
+      protected Void process() {
+        Set<SearchCriteria> criteria = spec.getCriteria();
+        criteria.add(equal("deleted", false));
+        criteria.add(equal("planDeleted", false));
+
+        // Set authorization conditions when you are not an administrator or only query yourself
+        funcPlanQuery.checkAndSetAuthObjectIdCriteria(criteria);
+
+        Long afterId = null;
+        List<FuncCaseInfo> cases;
+        do {
+          // Note: Assembling the sql removes the non-main table conditions from criteria
+          cases = funcCaseInfoListRepo.findAfterId(new HashSet<>(criteria), afterId,
+              EXPORT_BATCH_SIZE, fullTextSearch, match);
+          if (cases.isEmpty()) {
+            break;
+          }
+          setListInfo(cases, true);
+          batchConsumer.accept(cases);
+          afterId = cases.get(cases.size() - 1).getId();
+          entityManager.clear();
+        } while (cases.size() >= EXPORT_BATCH_SIZE);
+        return null;
+      }
+    }.execute();
+  }
+
   /**
    * Retrieves cases that are not associated with a specific task.
    * <p>
@@ -2395,6 +2425,41 @@ public class FuncCaseQueryImpl implements FuncCaseQuery {
     caseDb.setProgress(calculateProgress(caseDb.getTestResult()));
   }
 
+  /**
+   * Sets the favourite, follow, user, tag and progress information of listed cases, and the
+   * precondition, steps and associations of exported cases.
+   */
+  private void setListInfo(List<FuncCaseInfo> cases, boolean export) {
+    if (isUserAction()) {
+      // Set favourite state
+      setFavourite(cases);
+      // Set follow state
+      setFollow(cases);
+    }
+
+    // Set user name and avatar
+    userManager.setUserNameAndAvatar(cases, "createdBy");
+    // Set tester name and avatar
+    userManager.setUserNameAndAvatar(cases, "testerId", "testerName", "testerAvatar");
+
+    // Set tags
+    tagQuery.setTags(cases);
+    // Set progress
+    setCaseInfoProgress(cases);
+
+    if (export) {
+      List<Long> caseIds = cases.stream().map(FuncCaseInfo::getId).toList();
+      Map<Long, FuncCase> caseMap = funcCaseRepo.findAllById(caseIds).stream()
+          .collect(Collectors.toMap(FuncCase::getId, x -> x));
+      for (FuncCaseInfo caseInfo : cases) {
+        caseInfo.setPrecondition(caseMap.get(caseInfo.getId()).getPrecondition());
+        caseInfo.setSteps(caseMap.get(caseInfo.getId()).getSteps());
+      }
+      // Set reference tasks and cases
+      taskFuncCaseQuery.setAssocForCase(cases);
+    }
+  }
+
   /**
    * Sets progress information for multiple case info objects.
    * <p>
@@ -2421,30 +2486,12 @@ public class FuncCaseQueryImpl implements FuncCaseQuery {
    * @param testResult the test result to calculate progress from
    * @return Progress object with calculated completion and total counts
    */
-  private Progress calculateProgress(Object testResult) {
-    // Direct method calls for better performance and type safety
-    boolean isPassed = false;
-    boolean isCanceled = false;
-
-    if (testResult != null) {
-      try {
-        // Use direct method calls if possible, otherwise fallback to safe defaults
-        if (testResult.getClass().getMethod("isPassed") != null) {
-          isPassed = (Boolean) testResult.getClass().getMethod("isPassed").invoke(testResult);
-        }
-        if (testResult.getClass().getMethod("isCanceled") != null) {
-          isCanceled = (Boolean) testResult.getClass().getMethod("isCanceled").invoke(testResult);
-        }
-      } catch (Exception e) {
-        // Log the exception and use default values
-        // In production, you might want to use a proper logging framework
-        System.err.println("Error calculating progress: " + e.getMessage());
-      }
-    }
-
+  private Progress calculateProgress(@Nullable CaseTestResult testResult) {
+    boolean passed = nonNull(testResult) && testResult.isPassed();
+    boolean canceled = nonNull(testResult) && testResult.isCanceled();
     return new Progress()
-        .setCompleted(isPassed ? 1 : 0)
-        .setTotal(!isCanceled ? 1 : 0);
+        .setCompleted(passed ? 1 : 0)
+        .setTotal(!canceled ? 1 : 0);
   }
 
   /**
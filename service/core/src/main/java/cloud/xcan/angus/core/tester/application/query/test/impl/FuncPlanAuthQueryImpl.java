@@ -1,5 +1,6 @@
 package cloud.xcan.angus.core.tester.application.query.test.impl;
 
+import static cloud.xcan.angus.api.commonlink.CombinedTargetType.FUNC_PLAN;
 import static cloud.xcan.angus.core.tester.domain.TesterFuncPluginMessage.FUNC_PLAN_NO_AUTH;
 import static cloud.xcan.angus.core.tester.domain.TesterFuncPluginMessage.FUNC_PLAN_NO_AUTH_CODE;
 import static cloud.xcan.angus.core.utils.PrincipalContextUtils.hasPolicy;
@@ -13,9 +14,7 @@ import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
 import static java.util.Objects.nonNull;
 
 import cloud.xcan.angus.api.commonlink.TesterConstant;
-import cloud.xcan.angus.api.commonlink.user.UserRepo;
 import cloud.xcan.angus.api.enums.AuthObjectType;
-import org.springframework.stereotype.Service;
 import cloud.xcan.angus.core.biz.BizTemplate;
 import cloud.xcan.angus.core.biz.exception.BizException;
 import cloud.xcan.angus.core.tester.application.query.test.FuncPlanAuthQuery;
@@ -26,11 +25,14 @@ import cloud.xcan.angus.core.tester.domain.test.plan.auth.FuncPlanAuth;
 import cloud.xcan.angus.core.tester.domain.test.plan.auth.FuncPlanAuthCurrent;
 import cloud.xcan.angus.core.tester.domain.test.plan.auth.FuncPlanAuthRepo;
 import cloud.xcan.angus.core.tester.domain.test.plan.auth.FuncPlanPermission;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecision;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
 import cloud.xcan.angus.remote.message.ProtocolException;
 import cloud.xcan.angus.remote.message.http.ResourceExisted;
 import cloud.xcan.angus.remote.message.http.ResourceNotFound;
 import cloud.xcan.angus.spec.principal.PrincipalContext;
 import jakarta.annotation.Resource;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -42,6 +44,7 @@ import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
 
 /**
  * Implementation of FuncPlanAuthQuery for managing functional test plan authorization queries.
@@ -75,7 +78,7 @@ public class FuncPlanAuthQueryImpl implements FuncPlanAuthQuery {
   @Resource
   private FuncPlanRepo funcPlanRepo;
   @Resource
-  private UserRepo userRepo;
+  private AuthDecisionCache authDecisionCache;
 
   /**
    * Retrieves the authorization status for a functional test plan.
@@ -527,28 +530,26 @@ public class FuncPlanAuthQueryImpl implements FuncPlanAuthQuery {
   @Override
   public void checkAuth(Long userId, Long planId, FuncPlanPermission permission,
       boolean ignoreAdminPermission, boolean ignorePublicAccess) {
-    // Skip validation for admin users or non-user actions unless explicitly ignored
-    if (!ignoreAdminPermission && isAdminUser() || !isUserAction()) {
+    // Skip validation for non-user actions
+    if (!isUserAction()) {
+      return;
+    }
+    // Skip validation for admin users unless explicitly ignored
+    AuthDecision decision = findDecision(userId, planId);
+    // Operation system admins are not admins of plans
+    if (!ignoreAdminPermission && decision.isAdmin() && isAdminUser()) {
       return;
     }
 
     // Skip validation for public access permissions when authorization control is disabled
     // This prevents users without authorization permissions from granting permissions
     if (!ignorePublicAccess && !permission.notIgnorePublicAccess()
-        && !funcPlanQuery.isAuthCtrl(planId)) {
-      return;
-    }
-
-    // Retrieve user's authorization records for the plan
-    List<FuncPlanAuth> planAuths = findAuth(userId, planId);
-
-    // Grant access if user is the creator
-    if (isCreator(planAuths)) {
+        && !isAuthCtrl(planId)) {
       return;
     }
 
-    // Validate that user has the required permission
-    if (!findDirAction(planAuths).contains(permission)) {
+    // Creators have all permissions
+    if (!decision.hasPermission(permission)) {
       throw BizException.of(FUNC_PLAN_NO_AUTH_CODE, FUNC_PLAN_NO_AUTH, new Object[]{permission});
     }
   }
@@ -579,30 +580,10 @@ public class FuncPlanAuthQueryImpl implements FuncPlanAuthQuery {
       return;
     }
 
-    // Retrieve authorization records for filtered plans
-    List<FuncPlanAuth> auths = findAuth(PrincipalContext.getUserId(), authIds);
-    if (isEmpty(auths)) {
-      // Report first plan as example when no authorization records found
-      long firstId = authIds.stream().findFirst().get();
-      FuncPlan plan = funcPlanRepo.findById(firstId).orElse(null);
-      throw BizException.of(FUNC_PLAN_NO_AUTH_CODE, FUNC_PLAN_NO_AUTH,
-          new Object[]{permission, Objects.isNull(plan) ? firstId : plan.getName()});
-    }
-
-    // Group authorization records by plan ID for efficient processing
-    Map<Long, List<FuncPlanAuth>> authMap = auths.stream()
-        .filter(o -> nonNull(o.getPlanId()))
-        .collect(Collectors.groupingBy(FuncPlanAuth::getPlanId));
-
-    // Validate permissions for each plan
-    for (Long planId : authMap.keySet()) {
-      List<FuncPlanAuth> values = authMap.get(planId);
-      if (isNotEmpty(values)) {
-        List<FuncPlanPermission> planPermissions = values.stream()
-            .flatMap(o -> o.getAuths().stream()).toList();
-        if (isNotEmpty(planPermissions) && planPermissions.contains(permission)) {
-          continue;
-        }
+    Map<Long, AuthDecision> decisions = findDecisions(PrincipalContext.getUserId(), authIds);
+    for (Long planId : authIds) {
+      if (decisions.get(planId).hasPermission(permission)) {
+        continue;
       }
       // Report plan details when permission validation fails
       FuncPlan plan = funcPlanRepo.findById(planId).orElse(null);
@@ -642,8 +623,7 @@ public class FuncPlanAuthQueryImpl implements FuncPlanAuthQuery {
    */
   @Override
   public List<Long> findByAuthObjectIdsAndPermission(Long userId, FuncPlanPermission permission) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return funcPlanAuthRepo.findAllByAuthObjectIdIn(orgIds).stream()
         .filter(a -> a.getAuths().contains(permission)).map(FuncPlanAuth::getPlanId).collect(
             Collectors.toList());
@@ -661,8 +641,7 @@ public class FuncPlanAuthQueryImpl implements FuncPlanAuthQuery {
    */
   @Override
   public List<FuncPlanAuth> findAuth(Long userId, Long planId) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return funcPlanAuthRepo.findAllByPlanIdAndAuthObjectIdIn(planId, orgIds);
   }
 
@@ -678,8 +657,7 @@ public class FuncPlanAuthQueryImpl implements FuncPlanAuthQuery {
    */
   @Override
   public List<FuncPlanAuth> findAuth(Long userId, Collection<Long> planIds) {
-    List<Long> orgIds = userRepo.findOrgIdsById(userId);
-    orgIds.add(userId);
+    List<Long> orgIds = new ArrayList<>(authDecisionCache.findOrgAndUserIds(userId));
     return isEmpty(planIds) ? funcPlanAuthRepo.findAllByAuthObjectIdIn(orgIds)
         : funcPlanAuthRepo.findAllByPlanIdInAndAuthObjectIdIn(planIds, orgIds);
   }
@@ -739,6 +717,30 @@ public class FuncPlanAuthQueryImpl implements FuncPlanAuthQuery {
     return isCreator(planAuths);
   }
 
+  private boolean isAuthCtrl(Long planId) {
+    return authDecisionCache.isAuthCtrl(FUNC_PLAN, planId, () -> funcPlanQuery.isAuthCtrl(planId));
+  }
+
+  private AuthDecision findDecision(Long userId, Long planId) {
+    return authDecisionCache.find(FUNC_PLAN, planId, userId, orgIds -> {
+      List<FuncPlanAuth> auths = funcPlanAuthRepo.findAllByPlanIdAndAuthObjectIdIn(planId,
+          new ArrayList<>(orgIds));
+      return AuthDecision.of(isCreator(auths), findDirAction(auths));
+    });
+  }
+
+  private Map<Long, AuthDecision> findDecisions(Long userId, Collection<Long> planIds) {
+    return authDecisionCache.findAll(FUNC_PLAN, planIds, userId, (ids, orgIds) -> {
+      Map<Long, AuthDecision> decisions = new HashMap<>();
+      funcPlanAuthRepo.findAllByPlanIdInAndAuthObjectIdIn(ids, new ArrayList<>(orgIds)).stream()
+          .filter(o -> nonNull(o.getPlanId()))
+          .collect(Collectors.groupingBy(FuncPlanAuth::getPlanId))
+          .forEach((id, values) -> decisions.put(id,
+              AuthDecision.of(isCreator(values), findDirAction(values))));
+      return decisions;
+    });
+  }
+
   /**
    * Checks if any authorization record indicates creator status.
    * <p>
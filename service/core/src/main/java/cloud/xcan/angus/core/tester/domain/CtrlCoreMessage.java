@@ -16,6 +16,7 @@ public interface CtrlCoreMessage {
   String EXEC_START_IGNORED_WITH_PARSE_ERROR_T = "xcm.tester.exec.start.ignored.with.parse.error.t";
   String EXEC_START_IGNORED_WITH_SCRIPT_MISSING = "xcm.tester.exec.start.ignored.with.script.missing";
   String EXEC_START_UP_TIMEOUT = "xcm.tester.exec.start.up.timeout";
+  String EXEC_START_RESERVE_TIMEOUT = "xcm.tester.exec.start.reserve.timeout";
   String EXEC_NOT_MEET_CONDITIONS_NODES = "xcm.tester.exec.not.meet.conditions.node";
   String EXEC_CONTROLLER_NODE_NOT_FOUND = "xcm.tester.exec.controller.node.not.found";
   String EXEC_AGENT_ROUTER_NOT_FOUND = "xcm.tester.exec.agent.router.not.found";
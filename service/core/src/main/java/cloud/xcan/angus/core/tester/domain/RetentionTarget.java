@@ -0,0 +1,13 @@
+package cloud.xcan.angus.core.tester.domain;
+
+/**
+ * Target whose records are trimmed to a reserved count, such as the activities of a resource or
+ * the request logs of a mock api.
+ */
+public interface RetentionTarget {
+
+  Long getTenantId();
+
+  Long getTargetId();
+
+}
@@ -2,6 +2,8 @@ package cloud.xcan.angus.core.tester.domain.activity;
 
 import cloud.xcan.angus.api.commonlink.CombinedTargetType;
 import cloud.xcan.angus.core.jpa.repository.BaseRepository;
+import cloud.xcan.angus.core.tester.domain.RetentionTarget;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -13,16 +15,27 @@ public interface ActivityRepo extends BaseRepository<Activity, Long> {
 
   List<Activity> findByTargetTypeAndTargetId(CombinedTargetType targetType, Long targetId);
 
-  @Query(value = "SELECT a0.target_id FROM activity a0 GROUP BY a0.target_id HAVING(count(a0.target_id) > ?1) LIMIT ?2", nativeQuery = true)
-  List<Long> getTargetIdsHavingCount(Long reservedNum, Long batchNum);
+  @Query(value = "SELECT DISTINCT a0.tenant_id AS tenantId, a0.target_id AS targetId FROM activity a0 "
+      + "WHERE a0.opt_date >= ?1 AND a0.target_id > ?2 ORDER BY a0.target_id LIMIT ?3", nativeQuery = true)
+  List<RetentionTarget> findTargetsByOptDateAfter(LocalDateTime optDate, Long afterTargetId,
+      int batchNum);
+
+  @Query(value = "SELECT DISTINCT a0.tenant_id AS tenantId, a0.target_id AS targetId FROM activity a0 "
+      + "WHERE a0.target_id > ?1 ORDER BY a0.target_id LIMIT ?2", nativeQuery = true)
+  List<RetentionTarget> findTargets(Long afterTargetId, int batchNum);
+
+  /**
+   * @param reservedOffset Number of reserved activities minus one
+   */
+  @Query(value = "SELECT a0.id FROM activity a0 WHERE a0.target_id = ?1 ORDER BY a0.id DESC LIMIT 1 OFFSET ?2", nativeQuery = true)
+  Long findOldestReservedId(Long targetId, long reservedOffset);
 
   int countAllByMainTargetId(Long id);
 
   @Transactional
   @Modifying
-  @Query(value = "DELETE FROM activity WHERE target_id = ?1 AND id NOT IN "
-      + "(SELECT id FROM (SELECT id FROM activity WHERE target_id = ?1 ORDER BY id DESC LIMIT ?2) as a)", nativeQuery = true)
-  void deleteByTargetIdAndCount(Long targetId, Long reservedNum);
+  @Query(value = "DELETE FROM activity WHERE target_id = ?1 AND id < ?2", nativeQuery = true)
+  int deleteByTargetIdAndIdBefore(Long targetId, Long id);
 
   @Modifying
   @Query(value = "DELETE FROM activity WHERE target_id in ?1 AND target_type = ?2", nativeQuery = true)
@@ -2,6 +2,7 @@ package cloud.xcan.angus.core.tester.domain.apis;
 
 
 import static cloud.xcan.angus.spec.SpecConstant.DateFormat.DATE_FMT;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.ObjectUtils.isNotEmpty;
 
@@ -20,6 +21,7 @@ import cloud.xcan.angus.core.tester.domain.apis.converter.SecuritySchemeConverte
 import cloud.xcan.angus.core.tester.domain.apis.converter.ServerConverter;
 import cloud.xcan.angus.core.tester.domain.apis.converter.ServersConverter;
 import cloud.xcan.angus.core.tester.domain.issue.TaskInfo;
+import cloud.xcan.angus.core.tester.infra.util.RefResolver;
 import cloud.xcan.angus.extension.angustester.api.ApiImportSource;
 import cloud.xcan.angus.model.AngusConstant;
 import cloud.xcan.angus.model.apis.ApiStatus;
@@ -34,6 +36,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonIncludeProperties;
 import io.hypersistence.utils.hibernate.type.json.JsonType;
+import io.swagger.v3.core.util.Json31;
 import io.swagger.v3.oas.models.ExternalDocumentation;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -53,6 +56,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import java.time.LocalDateTime;
@@ -214,6 +219,13 @@ public class Apis extends TenantAuditingEntity<Apis, Long> implements ActivityRe
   @Column(name = "schema_hash")
   private int schemaHash;
 
+  /**
+   * SHA-256 hash of the canonical JSON of the imported OpenAPI model, null for rows saved before
+   * it is stored and for rows edited in the service.
+   */
+  @Column(name = "content_hash")
+  private String contentHash;
+
   @Convert(converter = SecuritySchemeConverter.class)
   @Column(name = "authentication")
   private SecurityScheme authentication;
@@ -308,6 +320,14 @@ public class Apis extends TenantAuditingEntity<Apis, Long> implements ActivityRe
   @Column(name = "ext_search_merge")
   private String extSearchMerge;
 
+  /**
+   * Direct $ref values of the API, refreshed on every save to avoid re-parsing the API when
+   * resolving its component models.
+   */
+  @Type(JsonType.class)
+  @Column(columnDefinition = "json", name = "refs")
+  private Set<String> refs;
+
   @Column(name = "service_deleted")
   private Boolean serviceDeleted;
 
@@ -401,6 +421,27 @@ public class Apis extends TenantAuditingEntity<Apis, Long> implements ActivityRe
     return this.summary;
   }
 
+  @PrePersist
+  @PreUpdate
+  public void refreshRefs() {
+    refs = findDirectRefs();
+  }
+
+  /**
+   * Find the direct $ref values of the API, the same as searching the JSON of the API.
+   *
+   * @return Direct $ref values, or null if the API cannot be parsed
+   */
+  public Set<String> findDirectRefs() {
+    try {
+      Set<String> refs0 = RefResolver.findPropertyValues(Json31.mapper()
+          .writeValueAsString(this), "$ref");
+      return isNull(refs0) ? new HashSet<>() : refs0;
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
   public String toValueString() {
     return new StringJoiner(", ")
         .add("parameters=" + parameters)
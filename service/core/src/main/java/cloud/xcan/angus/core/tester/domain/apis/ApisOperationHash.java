@@ -0,0 +1,26 @@
+package cloud.xcan.angus.core.tester.domain.apis;
+
+/**
+ * Identity and hashes of an api, which are enough to find the apis changed by an imported
+ * document without loading their schemas.
+ */
+public interface ApisOperationHash {
+
+  Long getId();
+
+  String getMethod();
+
+  String getEndpoint();
+
+  String getContentHash();
+
+  String getSyncName();
+
+  /**
+   * Key of the operation in document, lower case method and endpoint.
+   */
+  default String getOperationKey() {
+    return getMethod().toLowerCase() + ":" + getEndpoint();
+  }
+
+}
@@ -37,6 +37,15 @@ public interface ApisRepo extends BaseRepository<Apis, Long> {
 
   long countByServiceId(Long serviceId);
 
+  @Query(value = "SELECT id AS id, method AS method, endpoint AS endpoint, "
+      + "content_hash AS contentHash, sync_name AS syncName FROM apis "
+      + "WHERE service_id = ?1 AND deleted = 0 AND service_deleted = 0", nativeQuery = true)
+  List<ApisOperationHash> findOperationHashByServiceId(Long serviceId);
+
+  @Modifying
+  @Query(value = "UPDATE apis SET content_hash = ?2 WHERE id = ?1", nativeQuery = true)
+  void updateContentHashById(Long id, String contentHash);
+
   List<Apis> findAllByIdInAndServiceIdIn(Collection<Long> ids, Collection<Long> serviceIds);
 
   @Query(value = "SELECT a.service_id AS serviceId, COUNT(a.id) AS num FROM apis a WHERE a.service_id IN ?1  GROUP BY a.service_id", nativeQuery = true)
@@ -84,7 +93,7 @@ public interface ApisRepo extends BaseRepository<Apis, Long> {
   void updateToUndeletedStatusByIdIn(Collection<Long> ids);
 
   @Modifying
-  @Query(value = "UPDATE apis a SET a.summary=?2 WHERE a.id = ?1", nativeQuery = true)
+  @Query(value = "UPDATE apis a SET a.summary=?2, a.content_hash = null WHERE a.id = ?1", nativeQuery = true)
   void updateSummaryById(Long id, String summary);
 
   @Modifying
@@ -82,6 +82,22 @@ public class Node extends TenantAuditingEntity<Node, Long> {
 
   public Boolean installAgent;
 
+  /**
+   * Start time of the last automatic agent installation, the installation is in progress while
+   * the duration is null.
+   */
+  private LocalDateTime installAgentDate;
+
+  /**
+   * Duration of the last automatic agent installation, in milliseconds.
+   */
+  private Long installAgentDuration;
+
+  /**
+   * Failure reason of the last automatic agent installation.
+   */
+  private String installAgentFailure;
+
   private Boolean sync;
 
   /**
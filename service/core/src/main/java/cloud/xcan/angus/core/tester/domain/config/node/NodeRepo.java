@@ -27,8 +27,13 @@ public interface NodeRepo extends BaseRepository<Node, Long>, NameJoinRepository
   @Query(value = "SELECT n.* FROM node n WHERE n.deleted = 0 AND n.source = 'ONLINE_BUY' AND n.sync = ?1 AND n.created_date <= ?2", nativeQuery = true)
   List<Node> findBySyncAndCreatedDateIsBefore(Boolean sync, LocalDateTime createDate);
 
-  @Query(value = "SELECT * FROM node WHERE sync = 1 AND install_agent is null LIMIT ?1", nativeQuery = true)
-  List<Node> findUninstallAgentNodes(int size);
+  /**
+   * Nodes to install agent: never installed, retryable after a transient failure, or an
+   * installation in progress (duration is null) which is abandoned.
+   */
+  @Query(value = "SELECT * FROM node WHERE sync = 1 AND install_agent IS NULL AND (install_agent_date IS NULL OR (install_agent_duration IS NOT NULL AND install_agent_date < ?2) OR install_agent_date < ?3) LIMIT ?1", nativeQuery = true)
+  List<Node> findUninstallAgentNodes(int size, LocalDateTime retryBefore,
+      LocalDateTime abandonBefore);
 
   List<Node> findByTenantIdAndFree(Long ownerTenantId, boolean free);
 
@@ -61,6 +66,15 @@ public interface NodeRepo extends BaseRepository<Node, Long>, NameJoinRepository
   @Query(value = "UPDATE node SET install_agent = 1 WHERE id = ?1", nativeQuery = true)
   void updateInstalled(String id);
 
+  /**
+   * Mark the installation in progress, return 0 when the node is installing or installed.
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE node SET install_agent_date = ?2, install_agent_duration = NULL WHERE id = ?1 AND sync = 1 AND install_agent IS NULL AND (install_agent_date IS NULL OR (install_agent_duration IS NOT NULL AND install_agent_date < ?3) OR install_agent_date < ?4)", nativeQuery = true)
+  int updateInstallingById(Long id, LocalDateTime startDate, LocalDateTime retryBefore,
+      LocalDateTime abandonBefore);
+
   @Modifying
   @Query(value = "UPDATE node SET deleted = 1 WHERE instance_id IN ?1", nativeQuery = true)
   void deleteByInstanceIdIn(Collection<String> instanceIds);
@@ -21,6 +21,9 @@ public interface ExecInfoRepo extends BaseRepository<ExecInfo, Long> {
   @Query(value = "SELECT * FROM exec WHERE actual_start_date <= ?1 AND status = 'RUNNING' LIMIT ?2", nativeQuery = true)
   List<ExecInfo> findRunningByDuration(LocalDateTime plusMinutes, int count);
 
+  @Query(value = "SELECT * FROM exec WHERE status = 'RUNNING' OR end_date >= ?1 LIMIT ?2", nativeQuery = true)
+  List<ExecInfo> findRunningOrEndedAfter(LocalDateTime endDate, int count);
+
   List<ExecInfo> findByScriptSourceAndScriptSourceIdIn(ScriptSource resourceType,
       Collection<Long> resourceIds);
 
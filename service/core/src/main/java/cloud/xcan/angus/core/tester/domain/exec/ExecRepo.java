@@ -25,6 +25,56 @@ public interface ExecRepo extends BaseRepository<Exec, Long> {
           + "ORDER BY priority DESC, scheduling_num ASC, created_date ASC LIMIT ?1", nativeQuery = true)
   List<Exec> findSchedulingTask(int count);
 
+  /**
+   * Due scheduling tasks not claimed by other controllers, see {@link #claimByIdIn}.
+   */
+  @Query(value =
+      "SELECT id FROM exec WHERE (start_at_date IS NULL OR start_at_date <= NOW()) AND status IN ('CREATED', 'PENDING') "
+          + "AND (claim_expire_date IS NULL OR claim_expire_date < ?1) "
+          + "ORDER BY priority DESC, scheduling_num ASC, created_date ASC LIMIT ?2", nativeQuery = true)
+  List<Long> findUnclaimedSchedulingTaskIds(LocalDateTime now, int count);
+
+  @Query(value = "SELECT id FROM exec WHERE update_test_result = 1 AND sync_test_result = 0 AND status IN ('COMPLETED') "
+      + "AND (claim_expire_date IS NULL OR claim_expire_date < ?1) LIMIT ?2", nativeQuery = true)
+  List<Long> findUnclaimedUpdateResultTaskIds(LocalDateTime now, int count);
+
+  /**
+   * Claim tasks whose claim is absent or expired, the conditional update of each row is atomic, so
+   * a task is claimed by only one controller.
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE exec SET claim_token = ?2, claim_expire_date = ?3 WHERE id IN ?1 "
+      + "AND (claim_expire_date IS NULL OR claim_expire_date < ?4)", nativeQuery = true)
+  int claimByIdIn(Collection<Long> ids, String claimToken, LocalDateTime expireDate,
+      LocalDateTime now);
+
+  /**
+   * Tasks of tenant occupying the concurrent task quota: running, or reserved by a starting
+   * controller and not expired, see {@link #reserveStartById}.
+   */
+  @Query(value = "SELECT COUNT(*) FROM exec WHERE tenant_id = ?1 AND id <> ?2 "
+      + "AND (status = 'RUNNING' OR start_reserve_expire_date > ?3)", nativeQuery = true)
+  long countQuotaOccupied(Long tenantId, Long excludeId, LocalDateTime now);
+
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE exec SET start_reserve_expire_date = ?2 WHERE id = ?1", nativeQuery = true)
+  void reserveStartById(Long id, LocalDateTime expireDate);
+
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE exec SET start_reserve_expire_date = NULL WHERE id = ?1", nativeQuery = true)
+  void releaseStartReserveById(Long id);
+
+  @Query(value = "SELECT * FROM exec WHERE claim_token = ?1 ORDER BY priority DESC, scheduling_num ASC, created_date ASC", nativeQuery = true)
+  List<Exec> findByClaimToken(String claimToken);
+
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE exec SET claim_token = NULL, claim_expire_date = NULL WHERE claim_token = ?1", nativeQuery = true)
+  void releaseClaim(String claimToken);
+
   @Query(value = "SELECT * FROM exec WHERE assemble_and_send_event IS NULL AND status IN ('COMPLETED', 'FAILED', 'TIMEOUT') LIMIT ?1", nativeQuery = true)
   List<Exec> findAssembleAndSendEventTask(int count);
 
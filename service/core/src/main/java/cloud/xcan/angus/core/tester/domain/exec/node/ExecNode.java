@@ -31,6 +31,21 @@ public class ExecNode extends EntitySupport<ExecNode, Long> {
   @Column(name = "node_id")
   private Long nodeId;
 
+  /**
+   * The relative capacity weight used to shard the execution to node.
+   */
+  @Nullable
+  @Column(name = "shard_weight")
+  private Double shardWeight;
+
+  @Nullable
+  @Column(name = "shard_thread")
+  private Integer shardThread;
+
+  @Nullable
+  @Column(name = "shard_iterations")
+  private Long shardIterations;
+
   @Override
   public Long identity() {
     return id;
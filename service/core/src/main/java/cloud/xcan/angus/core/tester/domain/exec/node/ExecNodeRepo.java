@@ -31,6 +31,11 @@ public interface ExecNodeRepo extends BaseRepository<ExecNode, Long> {
   @Query(value = "DELETE FROM exec_node WHERE node_id IN ?1", nativeQuery = true)
   void deleteByNodeIdIn(Collection<Long> nodeIds);
 
+  @Transactional
+  @Modifying
+  @Query(value = "DELETE FROM exec_node WHERE exec_id = ?1 AND node_id IN ?2", nativeQuery = true)
+  void deleteByExecIdAndNodeIdIn(Long execId, Collection<Long> nodeIds);
+
   @Transactional
   @Modifying
   @Query(value = "DELETE FROM exec_node WHERE exec_id IN (SELECT id FROM exec WHERE `status` IN ('STOPPED','FAILED','COMPLETED','TIMEOUT'))", nativeQuery = true)
@@ -0,0 +1,75 @@
+package cloud.xcan.angus.core.tester.domain.exec.node;
+
+import java.util.Arrays;
+import java.util.Collection;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * The share of threads and iterations of an execution assigned to one node.
+ */
+@Setter
+@Getter
+@Accessors(chain = true)
+public class ExecNodeShard {
+
+  private Long nodeId;
+
+  /**
+   * The relative capacity of node, all nodes have the same weight when sharding evenly.
+   */
+  private double weight;
+
+  private Integer thread;
+
+  private Integer rampUpThread;
+
+  private Integer rampDownThread;
+
+  private Long iterations;
+
+  /**
+   * Split total in proportion to weights by the largest remainder method, the first node receives
+   * any remainder when sharding evenly.
+   *
+   * @param total    Threads or iterations of execution
+   * @param weights  Weights of nodes in the order of nodes
+   * @param weighted Whether to split by weights, otherwise evenly
+   * @return Shares in the order of weights
+   */
+  public static long[] split(long total, Collection<Double> weights, boolean weighted) {
+    int nodeSize = weights.size();
+    long[] values = new long[nodeSize];
+    if (!weighted) {
+      Arrays.fill(values, total / nodeSize);
+      values[0] += total % nodeSize;
+      return values;
+    }
+
+    // Every node runs at least one when total is enough
+    long base = total >= nodeSize ? 1 : 0;
+    long rest = total - base * nodeSize;
+    double weightSum = weights.stream().mapToDouble(Double::doubleValue).sum();
+    double[] fractions = new double[nodeSize];
+    long assigned = 0;
+    int i = 0;
+    for (Double weight : weights) {
+      double exact = rest * weight / weightSum;
+      values[i] = base + (long) exact;
+      fractions[i] = exact - (long) exact;
+      assigned += (long) exact;
+      i++;
+    }
+    Integer[] order = new Integer[nodeSize];
+    for (int j = 0; j < nodeSize; j++) {
+      order[j] = j;
+    }
+    Arrays.sort(order, (a, b) -> Double.compare(fractions[b], fractions[a]));
+    for (int j = 0; j < rest - assigned; j++) {
+      values[order[j % nodeSize]]++;
+    }
+    return values;
+  }
+
+}
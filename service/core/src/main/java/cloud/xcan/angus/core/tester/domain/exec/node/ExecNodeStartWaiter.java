@@ -0,0 +1,58 @@
+package cloud.xcan.angus.core.tester.domain.exec.node;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * Wait for the start commands pushed to the nodes of a multi-node execution.
+ * <p>
+ * A node which does not reply in time may still receive the command and run, so it is stopped.
+ * Until its agent confirms the stop, the node is reported by {@link #getUnstoppedNodeIds()} and
+ * must be kept as a node of the execution, which tracks its run and does not release it to other
+ * executions.
+ */
+public class ExecNodeStartWaiter {
+
+  private final long timeoutMillis;
+
+  /**
+   * Stop the run of node, return true when the agent confirmed the stop.
+   */
+  private final Predicate<Long> stopper;
+
+  private final Set<Long> unstoppedNodeIds = new LinkedHashSet<>();
+
+  public ExecNodeStartWaiter(long timeoutMillis, Predicate<Long> stopper) {
+    this.timeoutMillis = timeoutMillis;
+    this.stopper = stopper;
+  }
+
+  /**
+   * Wait for the start result of node, the node is stopped when it does not reply in time.
+   *
+   * @throws TimeoutException when the node does not reply in time
+   */
+  public <T> T await(Long nodeId, Future<T> future) throws Exception {
+    try {
+      return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (Exception e) {
+      future.cancel(true);
+      if (e instanceof TimeoutException && !stopper.test(nodeId)) {
+        unstoppedNodeIds.add(nodeId);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Nodes which did not reply in time and whose stop is not confirmed.
+   */
+  public Set<Long> getUnstoppedNodeIds() {
+    return unstoppedNodeIds;
+  }
+
+}
@@ -76,6 +76,8 @@ public interface TaskInfoRepo extends BaseRepository<TaskInfo, Long>,
 
   List<TaskInfo> findByProjectIdAndParentTaskIdIn(Long projectId, Collection<Long> taskIds);
 
+  List<TaskInfo> findByProjectIdAndIdIn(Long projectId, Collection<Long> ids);
+
   List<TaskInfo> findByParentTaskId(Long taskId);
 
   @Query(value = "SELECT * FROM task WHERE sprint_id = ?1 AND assignee_id = ?2 AND deleted = 0 AND sprint_deleted =0", nativeQuery = true)
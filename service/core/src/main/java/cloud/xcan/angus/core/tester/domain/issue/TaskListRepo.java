@@ -4,6 +4,8 @@ import cloud.xcan.angus.core.jpa.repository.CustomBaseRepository;
 import cloud.xcan.angus.core.jpa.repository.SearchMode;
 import cloud.xcan.angus.core.tester.domain.issue.count.TaskCount;
 import cloud.xcan.angus.remote.search.SearchCriteria;
+import cloud.xcan.angus.spec.annotations.Nullable;
+import java.util.List;
 import java.util.Set;
 import org.springframework.data.repository.NoRepositoryBean;
 
@@ -16,4 +18,7 @@ public interface TaskListRepo extends CustomBaseRepository<Task> {
   String getReturnFieldsCondition(Set<SearchCriteria> criteria, Object[] params);
 
   TaskCount count(Set<SearchCriteria> criteria);
+
+  List<Task> findAfterId(Set<SearchCriteria> criteria, @Nullable Long afterId, int limit,
+      boolean fullTextSearch, String... matches);
 }
@@ -18,8 +18,16 @@ public interface TaskRepo extends BaseRepository<Task, Long> {
   @Query(value = "SELECT DISTINCT id FROM task WHERE sprint_id = ?1 AND name IN ?2", nativeQuery = true)
   List<String> findNameBySprintIdAndNameIn(Long sprintId, Collection<String> taskNames);
 
+  @Query(value = "SELECT id FROM task WHERE sprint_id = ?1 AND name IN ?2", nativeQuery = true)
+  List<Long> findIdBySprintIdAndNameIn(Long sprintId, Collection<String> taskNames);
+
   List<Task> findByProjectIdAndParentTaskIdIn(Long projectId, Collection<Long> taskIds);
 
+  List<Task> findByProjectIdAndIdIn(Long projectId, Collection<Long> ids);
+
+  @Query(value = "SELECT id, parent_task_id FROM task WHERE project_id = ?1", nativeQuery = true)
+  List<Object[]> findIdAndParentTaskIdByProjectId(Long projectId);
+
   long countBySprintId(Long springId);
 
   @Query(value =
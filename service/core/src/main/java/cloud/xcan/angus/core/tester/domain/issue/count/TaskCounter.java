@@ -0,0 +1,153 @@
+package cloud.xcan.angus.core.tester.domain.issue.count;
+
+import static cloud.xcan.angus.spec.utils.ObjectUtils.nullSafe;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import cloud.xcan.angus.core.jpa.multitenancy.TenantEntity;
+import cloud.xcan.angus.core.tester.domain.issue.Task;
+import cloud.xcan.angus.core.tester.domain.issue.TaskStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.hibernate.annotations.DynamicInsert;
+
+/**
+ * Task counts of a sprint, or of a project when {@code sprintId} is {@link #PROJECT_SPRINT_ID}.
+ * <p>
+ * Counters are the sums of the contributions of non-deleted tasks, see {@link #of(Task)}. They are
+ * updated by the deltas of task changes, and recounted when older than the configured staleness.
+ */
+@Entity
+@Table(name = "task_counter")
+@DynamicInsert
+@Setter
+@Getter
+@Accessors(chain = true)
+public class TaskCounter extends TenantEntity<TaskCounter, Long> {
+
+  /**
+   * Sprint id of the project counter.
+   */
+  public static final long PROJECT_SPRINT_ID = -1L;
+
+  @Id
+  private Long id;
+
+  @Column(name = "project_id")
+  private Long projectId;
+
+  @Column(name = "sprint_id")
+  private Long sprintId;
+
+  @Column(name = "pending_num")
+  private long pendingNum;
+
+  @Column(name = "in_progress_num")
+  private long inProgressNum;
+
+  @Column(name = "confirming_num")
+  private long confirmingNum;
+
+  @Column(name = "completed_num")
+  private long completedNum;
+
+  @Column(name = "canceled_num")
+  private long canceledNum;
+
+  @Column(name = "requirement_num")
+  private long requirementNum;
+
+  @Column(name = "story_num")
+  private long storyNum;
+
+  @Column(name = "task_num")
+  private long taskNum;
+
+  @Column(name = "bug_num")
+  private long bugNum;
+
+  @Column(name = "design_num")
+  private long designNum;
+
+  @Column(name = "overdue_num")
+  private long overdueNum;
+
+  @Column(name = "one_time_passed_num")
+  private long oneTimePassedNum;
+
+  @Column(name = "total_num")
+  private long totalNum;
+
+  @Column(name = "fail_num")
+  private long failNum;
+
+  @Column(name = "eval_workload")
+  private BigDecimal evalWorkload = BigDecimal.ZERO;
+
+  @Column(name = "actual_workload")
+  private BigDecimal actualWorkload = BigDecimal.ZERO;
+
+  @Column(name = "completed_workload")
+  private BigDecimal completedWorkload = BigDecimal.ZERO;
+
+  /**
+   * Time of the last recount.
+   */
+  @Column(name = "modified_date")
+  private LocalDateTime modifiedDate;
+
+  /**
+   * Contribution of a task to the counters of its sprint and project.
+   *
+   * @return Contribution, or null when the task or its sprint is deleted
+   */
+  public static TaskCounter of(Task task) {
+    if (isNull(task) || Boolean.TRUE.equals(task.getDeleted())
+        || Boolean.TRUE.equals(task.getSprintDeleted())) {
+      return null;
+    }
+    TaskCounter counter = new TaskCounter().setProjectId(task.getProjectId())
+        .setSprintId(task.getSprintId());
+    TaskStatus status = task.getStatus();
+    if (nonNull(status)) {
+      switch (status) {
+        case PENDING -> counter.setPendingNum(1);
+        case IN_PROGRESS -> counter.setInProgressNum(1);
+        case CONFIRMING -> counter.setConfirmingNum(1);
+        case COMPLETED -> counter.setCompletedNum(1);
+        case CANCELED -> counter.setCanceledNum(1);
+      }
+    }
+    if (nonNull(task.getTaskType())) {
+      switch (task.getTaskType()) {
+        case REQUIREMENT -> counter.setRequirementNum(1);
+        case STORY -> counter.setStoryNum(1);
+        case TASK -> counter.setTaskNum(1);
+        case BUG -> counter.setBugNum(1);
+        case DESIGN -> counter.setDesignNum(1);
+      }
+    }
+    boolean completed = nonNull(status) && status.isCompleted();
+    int failNum = nullSafe(task.getFailNum(), 0);
+    BigDecimal actualWorkload = nullSafe(task.getActualWorkload(), BigDecimal.ZERO);
+    return counter.setOverdueNum(Boolean.TRUE.equals(task.getOverdue()) ? 1 : 0)
+        .setOneTimePassedNum(completed && failNum == 0 ? 1 : 0)
+        .setTotalNum(nullSafe(task.getTotalNum(), 0))
+        .setFailNum(failNum)
+        .setEvalWorkload(nullSafe(task.getEvalWorkload(), BigDecimal.ZERO))
+        .setActualWorkload(actualWorkload)
+        .setCompletedWorkload(completed ? actualWorkload : BigDecimal.ZERO);
+  }
+
+  @Override
+  public Long identity() {
+    return this.id;
+  }
+}
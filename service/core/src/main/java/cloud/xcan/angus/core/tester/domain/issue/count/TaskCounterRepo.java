@@ -0,0 +1,18 @@
+package cloud.xcan.angus.core.tester.domain.issue.count;
+
+import cloud.xcan.angus.core.jpa.repository.BaseRepository;
+import java.util.Collection;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+
+@NoRepositoryBean
+public interface TaskCounterRepo extends BaseRepository<TaskCounter, Long> {
+
+  TaskCounter findByProjectIdAndSprintId(Long projectId, Long sprintId);
+
+  @Modifying
+  @Query(value = "DELETE FROM task_counter WHERE project_id IN ?1", nativeQuery = true)
+  void deleteByProjectIdIn(Collection<Long> projectIds);
+
+}
@@ -0,0 +1,26 @@
+package cloud.xcan.angus.core.tester.domain.kanban;
+
+import cloud.xcan.angus.remote.search.SearchCriteria;
+import cloud.xcan.angus.spec.annotations.Nullable;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Count resources by the day or month of their created date in the database.
+ */
+public interface DataAssetsTimeSeriesRepo {
+
+  /**
+   * Count the resources matching criteria grouped by the created date bucket.
+   *
+   * @param mainClz    Resource entity class with a {@code createdDate} field
+   * @param criteria   Filter criteria of the resources
+   * @param byDay      Whether to group by day, otherwise by month
+   * @param groupField Additional field to group by, such as the script type, or null
+   * @return Rows of year, month, day (only when grouping by day), group field value (only when
+   * groupField is present) and count
+   */
+  <T> List<Object[]> countByCreatedDate(Class<T> mainClz, Set<SearchCriteria> criteria,
+      boolean byDay, @Nullable String groupField);
+
+}
@@ -1,6 +1,8 @@
 package cloud.xcan.angus.core.tester.domain.mock.apis.log;
 
 import cloud.xcan.angus.core.jpa.repository.BaseRepository;
+import cloud.xcan.angus.core.tester.domain.RetentionTarget;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.Modifying;
@@ -14,14 +16,25 @@ import org.springframework.transaction.annotation.Transactional;
 @NoRepositoryBean
 public interface MockApisLogRepo extends BaseRepository<MockApisLog, Long> {
 
-  @Query(value = "SELECT a0.mock_apis_id FROM mock_apis_log a0 GROUP BY a0.mock_apis_id HAVING(count(a0.mock_apis_id) > ?1) LIMIT ?2", nativeQuery = true)
-  List<Long> getApisIdsHavingCount(Long reservedNum, Long batchNum);
+  @Query(value = "SELECT DISTINCT a0.tenant_id AS tenantId, a0.mock_apis_id AS targetId FROM mock_apis_log a0 "
+      + "WHERE a0.created_date >= ?1 AND a0.mock_apis_id > ?2 ORDER BY a0.mock_apis_id LIMIT ?3", nativeQuery = true)
+  List<RetentionTarget> findApisByCreatedDateAfter(LocalDateTime createdDate, Long afterApisId,
+      int batchNum);
+
+  @Query(value = "SELECT DISTINCT a0.tenant_id AS tenantId, a0.mock_apis_id AS targetId FROM mock_apis_log a0 "
+      + "WHERE a0.mock_apis_id > ?1 ORDER BY a0.mock_apis_id LIMIT ?2", nativeQuery = true)
+  List<RetentionTarget> findApis(Long afterApisId, int batchNum);
+
+  /**
+   * @param reservedOffset Number of reserved logs minus one
+   */
+  @Query(value = "SELECT a0.id FROM mock_apis_log a0 WHERE a0.mock_apis_id = ?1 ORDER BY a0.id DESC LIMIT 1 OFFSET ?2", nativeQuery = true)
+  Long findOldestReservedId(Long apisId, long reservedOffset);
 
   @Transactional // Required
   @Modifying
-  @Query(value = "DELETE FROM mock_apis_log WHERE mock_apis_id = ?1 AND id NOT IN "
-      + "(SELECT id FROM (SELECT id FROM mock_apis_log WHERE mock_apis_id = ?1 ORDER BY id DESC LIMIT ?2) as a)", nativeQuery = true)
-  void deleteByApisIdAndCount(Long apisId, Long reservedNum);
+  @Query(value = "DELETE FROM mock_apis_log WHERE mock_apis_id = ?1 AND id < ?2", nativeQuery = true)
+  int deleteByApisIdAndIdBefore(Long apisId, Long id);
 
   @Transactional // Required
   @Modifying
@@ -0,0 +1,53 @@
+package cloud.xcan.angus.core.tester.domain.project;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.text.DecimalFormat;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * Progress of importing a project archive, the business data entries of the archive are imported
+ * one by one.
+ */
+@Setter
+@Getter
+@Accessors(chain = true)
+public class ProjectImportProgress {
+
+  private Long projectId;
+
+  private String projectName;
+
+  /**
+   * Number of the business data entries to import.
+   */
+  private int totalEntries;
+
+  private int importedEntries;
+
+  /**
+   * Entry being imported.
+   */
+  private String currentEntry;
+
+  /**
+   * Number of the rows imported from the JSON array entries.
+   */
+  private long importedRows;
+
+  private boolean finish;
+
+  /**
+   * Failure of the import, the imported data is deleted when the import fails.
+   */
+  private String failure;
+
+  @JsonIgnore
+  public String getImportProgress() {
+    DecimalFormat format = new DecimalFormat("0.00");
+    return totalEntries > 0 ? format.format((importedEntries / (double) totalEntries) * 100)
+        : null;
+  }
+
+}
@@ -24,6 +24,9 @@ public interface ModuleRepo extends BaseRepository<Module, Long>,
 
   List<Module> findByProjectIdAndPidIn(Long projectId, Collection<Long> ids);
 
+  @Query(value = "SELECT id, pid FROM module WHERE project_id = ?1", nativeQuery = true)
+  List<Object[]> findIdAndPidByProjectId(Long projectId);
+
   @Modifying
   @Query(value = "DELETE FROM module WHERE id IN ?1", nativeQuery = true)
   void deleteByIdIn(Collection<Long> ids);
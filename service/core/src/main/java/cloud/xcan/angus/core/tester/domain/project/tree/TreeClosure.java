@@ -0,0 +1,57 @@
+package cloud.xcan.angus.core.tester.domain.project.tree;
+
+import cloud.xcan.angus.api.commonlink.CombinedTargetType;
+import cloud.xcan.angus.core.jpa.multitenancy.TenantEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.hibernate.annotations.DynamicInsert;
+
+/**
+ * Ancestor and descendant pair of a module tree or task tree in project.
+ * <p>
+ * Every node has a row to itself with depth 0, and a row to each of its ancestors with the number
+ * of levels between them, so all ancestors or descendants of nodes are found by one query. Nodes
+ * without the row to itself are not indexed yet, see {@code TreeClosureCmd#rebuild0}.
+ */
+@Entity
+@Table(name = "tree_closure")
+@DynamicInsert
+@Setter
+@Getter
+@Accessors(chain = true)
+public class TreeClosure extends TenantEntity<TreeClosure, Long> {
+
+  @Id
+  private Long id;
+
+  /**
+   * Tree type, {@link CombinedTargetType#MODULE} or {@link CombinedTargetType#TASK}.
+   */
+  @Column(name = "target_type")
+  @Enumerated(EnumType.STRING)
+  private CombinedTargetType targetType;
+
+  @Column(name = "project_id")
+  private Long projectId;
+
+  @Column(name = "ancestor_id")
+  private Long ancestorId;
+
+  @Column(name = "descendant_id")
+  private Long descendantId;
+
+  @Column(name = "depth")
+  private Integer depth;
+
+  @Override
+  public Long identity() {
+    return this.id;
+  }
+}
@@ -0,0 +1,40 @@
+package cloud.xcan.angus.core.tester.domain.project.tree;
+
+import cloud.xcan.angus.api.commonlink.CombinedTargetType;
+import cloud.xcan.angus.core.jpa.repository.BaseRepository;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+
+@NoRepositoryBean
+public interface TreeClosureRepo extends BaseRepository<TreeClosure, Long> {
+
+  List<TreeClosure> findByTargetTypeAndAncestorId(CombinedTargetType targetType, Long ancestorId);
+
+  List<TreeClosure> findByTargetTypeAndDescendantIdIn(CombinedTargetType targetType,
+      Collection<Long> descendantIds);
+
+  @Query(value = "SELECT descendant_id FROM tree_closure WHERE target_type = ?1 AND descendant_id IN ?2 AND depth = 0", nativeQuery = true)
+  List<Long> findIndexedIds(String targetType, Collection<Long> ids);
+
+  @Query(value = "SELECT DISTINCT descendant_id FROM tree_closure WHERE target_type = ?1 AND ancestor_id IN ?2 AND depth > 0", nativeQuery = true)
+  List<Long> findDescendantIds(String targetType, Collection<Long> ids);
+
+  @Query(value = "SELECT DISTINCT ancestor_id FROM tree_closure WHERE target_type = ?1 AND descendant_id IN ?2 AND depth > 0", nativeQuery = true)
+  List<Long> findAncestorIds(String targetType, Collection<Long> ids);
+
+  @Modifying
+  @Query(value = "DELETE FROM tree_closure WHERE target_type = ?1 AND descendant_id IN ?2 AND ancestor_id NOT IN ?2", nativeQuery = true)
+  void deleteOuterAncestors(String targetType, Collection<Long> subtreeIds);
+
+  @Modifying
+  @Query(value = "DELETE FROM tree_closure WHERE target_type = ?1 AND (ancestor_id IN ?2 OR descendant_id IN ?2)", nativeQuery = true)
+  void deleteByNodeIdIn(String targetType, Collection<Long> ids);
+
+  @Modifying
+  @Query(value = "DELETE FROM tree_closure WHERE target_type = ?1 AND project_id = ?2", nativeQuery = true)
+  void deleteByProjectId(String targetType, Long projectId);
+
+}
@@ -2,7 +2,7 @@ package cloud.xcan.angus.core.tester.domain.scenario.monitor;
 
 import cloud.xcan.angus.core.jpa.repository.BaseRepository;
 import cloud.xcan.angus.core.jpa.repository.NameJoinRepository;
-import cloud.xcan.angus.spec.annotations.DoInFuture;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.Modifying;
@@ -16,12 +16,42 @@ public interface ScenarioMonitorRepo extends BaseRepository<ScenarioMonitor, Lon
 
   long countByProjectIdAndName(Long projectId, String name);
 
-  @DoInFuture("Do not use index when there are two `OR` condition")
-  @Query(value = "SELECT * FROM scenario_monitor WHERE (status = 'PENDING' AND created_at = 'NOW') "
+  /**
+   * Due monitors not claimed by other controllers, see {@link #claimByIdIn}.
+   */
+  @Query(value = "SELECT * FROM scenario_monitor WHERE ((status = 'PENDING' AND created_at = 'NOW') "
       + " OR (status = 'PENDING' AND created_at = 'AT_SOME_DATE' AND next_exec_date < NOW()) "
-      + " OR (created_at = 'PERIODICALLY' AND next_exec_date < NOW()) "
-      + " LIMIT ?1", nativeQuery = true)
-  List<ScenarioMonitor> findRunByNow(Long count);
+      + " OR (created_at = 'PERIODICALLY' AND next_exec_date < NOW())) "
+      + " AND (claim_expire_date IS NULL OR claim_expire_date < ?1) "
+      + " ORDER BY next_exec_date ASC LIMIT ?2", nativeQuery = true)
+  List<ScenarioMonitor> findUnclaimedRunsByNow(LocalDateTime now, int count);
+
+  /**
+   * Claim monitors whose claim is absent or expired, the conditional update of each row is atomic,
+   * so a monitor is run by only one controller.
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE scenario_monitor SET claim_token = ?2, claim_expire_date = ?3 WHERE id IN ?1 "
+      + "AND (claim_expire_date IS NULL OR claim_expire_date < ?4)", nativeQuery = true)
+  int claimByIdIn(Collection<Long> ids, String claimToken, LocalDateTime expireDate,
+      LocalDateTime now);
+
+  @Query(value = "SELECT * FROM scenario_monitor WHERE claim_token = ?1 ORDER BY next_exec_date ASC", nativeQuery = true)
+  List<ScenarioMonitor> findByClaimToken(String claimToken);
+
+  /**
+   * Extend the claim of a running monitor, so that it is not taken over while it is still running.
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE scenario_monitor SET claim_expire_date = ?3 WHERE id = ?1 AND claim_token = ?2", nativeQuery = true)
+  int renewClaim(Long id, String claimToken, LocalDateTime expireDate);
+
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE scenario_monitor SET claim_token = NULL, claim_expire_date = NULL WHERE id = ?1 AND claim_token = ?2", nativeQuery = true)
+  void releaseClaim(Long id, String claimToken);
 
   @Transactional
   @Modifying
@@ -3,10 +3,13 @@ package cloud.xcan.angus.core.tester.domain.services.comp;
 
 import static cloud.xcan.angus.core.tester.domain.apis.converter.ApiResponseConverter.OPENAPI_MAPPER;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+import static java.util.Objects.isNull;
 
 import cloud.xcan.angus.core.jpa.multitenancy.TenantEntity;
+import cloud.xcan.angus.core.tester.infra.util.RefResolver;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import io.hypersistence.utils.hibernate.type.json.JsonType;
 import io.swagger.v3.oas.models.examples.Example;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.links.Link;
@@ -21,16 +24,21 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import javax.annotation.Nullable;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.Type;
 import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -68,6 +76,20 @@ public class ServicesComp extends TenantEntity<ServicesComp, Long> {
   @Column(name = "schema_hash")
   private int schemaHash;
 
+  /**
+   * SHA-256 hash of the canonical JSON of the imported OpenAPI model, null for rows saved before
+   * it is stored.
+   */
+  @Column(name = "content_hash")
+  private String contentHash;
+
+  /**
+   * Direct $ref values of the model, refreshed on every save.
+   */
+  @Type(JsonType.class)
+  @Column(columnDefinition = "json", name = "refs")
+  private Set<String> refs;
+
   @Column(name = "modified_by")
   @LastModifiedBy
   private Long modifiedBy;
@@ -113,6 +135,29 @@ public class ServicesComp extends TenantEntity<ServicesComp, Long> {
     }
   }
 
+  @PrePersist
+  @PreUpdate
+  public void refreshRefs() {
+    refs = findDirectRefs();
+  }
+
+  /**
+   * Find the direct $ref values of the model.
+   *
+   * @return Direct $ref values, or null if the model cannot be parsed
+   */
+  public Set<String> findDirectRefs() {
+    if (isEmpty(model)) {
+      return new HashSet<>();
+    }
+    try {
+      Set<String> refs0 = RefResolver.findPropertyValues(model, "$ref");
+      return isNull(refs0) ? new HashSet<>() : refs0;
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
   @Override
   public Long identity() {
     return this.id;
@@ -0,0 +1,14 @@
+package cloud.xcan.angus.core.tester.domain.services.comp;
+
+/**
+ * Identity and hashes of a component, see {@code ApisOperationHash}.
+ */
+public interface ServicesCompHash {
+
+  Long getId();
+
+  String getRef();
+
+  String getContentHash();
+
+}
@@ -0,0 +1,101 @@
+package cloud.xcan.angus.core.tester.domain.services.comp;
+
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * Transitive closure of the $ref graph of a service's components.
+ * <p>
+ * The closure of a component contains the component itself and all components it references
+ * directly or indirectly, references to missing components are ignored and circular references are
+ * visited once.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS, include = JsonTypeInfo.As.PROPERTY, property = "@class")
+@Setter
+@Getter
+@Accessors(chain = true)
+public class ServicesCompRefGraph {
+
+  private Map<String, Set<String>> closures = new HashMap<>();
+
+  public static ServicesCompRefGraph of(List<ServicesComp> comps) {
+    ServicesCompRefGraph graph = new ServicesCompRefGraph();
+    if (isEmpty(comps)) {
+      return graph;
+    }
+    Map<String, Set<String>> directRefs = new HashMap<>();
+    for (ServicesComp comp : comps) {
+      Set<String> refs = comp.getRefs();
+      if (isNull(refs)) {
+        // Components saved before refs are persisted
+        refs = comp.findDirectRefs();
+      }
+      directRefs.put(comp.getRef(), isNull(refs) ? Set.of() : refs);
+    }
+    for (String ref : directRefs.keySet()) {
+      graph.closures.put(ref, closure(ref, directRefs));
+    }
+    return graph;
+  }
+
+  /**
+   * Resolve the models of refs and all components they reference.
+   *
+   * @param refs         Direct $ref values of an API or component
+   * @param compModelMap Models of the service's components keyed by ref
+   * @return Map of ref to model
+   */
+  public Map<String, String> resolve(Collection<String> refs, Map<String, String> compModelMap) {
+    Map<String, String> allRefModels = new HashMap<>();
+    if (isEmpty(refs)) {
+      return allRefModels;
+    }
+    for (String ref : refs) {
+      Set<String> closure = closures.get(ref);
+      if (isNull(closure) || allRefModels.containsKey(ref)) {
+        continue;
+      }
+      for (String ref0 : closure) {
+        String model = compModelMap.get(ref0);
+        if (nonNull(model)) {
+          allRefModels.put(ref0, model);
+        }
+      }
+    }
+    return allRefModels;
+  }
+
+  private static Set<String> closure(String ref, Map<String, Set<String>> directRefs) {
+    Set<String> visited = new HashSet<>();
+    Deque<String> stack = new ArrayDeque<>();
+    stack.push(ref);
+    while (!stack.isEmpty()) {
+      String current = stack.pop();
+      if (!visited.add(current)) {
+        continue;
+      }
+      for (String next : directRefs.get(current)) {
+        // Prevent circular references
+        if (directRefs.containsKey(next) && !visited.contains(next)) {
+          stack.push(next);
+        }
+      }
+    }
+    return visited;
+  }
+
+}
@@ -24,6 +24,14 @@ public interface ServicesCompRepo extends BaseRepository<ServicesComp, Long> {
 
   List<ServicesComp> findByServiceIdAndRefIn(Long serviceId, Set<String> refs);
 
+  @Query(value = "SELECT id AS id, ref AS ref, content_hash AS contentHash "
+      + "FROM services_comp WHERE service_id = ?1", nativeQuery = true)
+  List<ServicesCompHash> findHashByServiceId(Long serviceId);
+
+  @Modifying
+  @Query(value = "UPDATE services_comp SET content_hash = ?2 WHERE id = ?1", nativeQuery = true)
+  void updateContentHashById(Long id, String contentHash);
+
   @Modifying
   @Query(value = "DELETE FROM services_comp WHERE service_id = ?1 AND ref IN ?2", nativeQuery = true)
   void deleteByServiceIdAndRefIn(Long serviceId, Collection<String> refs);
@@ -0,0 +1,44 @@
+package cloud.xcan.angus.core.tester.domain.services.schema;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * Changes written by replacing the schema of a service with an OpenAPI document.
+ * <p>
+ * Apis are identified by lower case method and endpoint, such as {@code get:/pets}, and components
+ * by their ref. Apis and components are compared by the content hashes of their OpenAPI models,
+ * unchanged ones are not written. Rows saved before content hashes are stored are compared by
+ * their content once, and the hashes of unchanged ones are backfilled.
+ */
+@Setter
+@Getter
+@Accessors(chain = true)
+public class OpenApiReplaceDiff {
+
+  /**
+   * Whether the info, servers, security, tags or extensions of the schema are changed.
+   */
+  private boolean schemaUpdated;
+
+  private List<String> addedApis = new ArrayList<>();
+
+  private List<String> updatedApis = new ArrayList<>();
+
+  private List<String> deletedApis = new ArrayList<>();
+
+  private List<String> addedComps = new ArrayList<>();
+
+  private List<String> updatedComps = new ArrayList<>();
+
+  private List<String> deletedComps = new ArrayList<>();
+
+  public boolean isEmpty() {
+    return !schemaUpdated && addedApis.isEmpty() && updatedApis.isEmpty() && deletedApis.isEmpty()
+        && addedComps.isEmpty() && updatedComps.isEmpty() && deletedComps.isEmpty();
+  }
+
+}
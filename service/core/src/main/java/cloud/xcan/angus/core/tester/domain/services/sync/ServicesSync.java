@@ -1,5 +1,6 @@
 package cloud.xcan.angus.core.tester.domain.services.sync;
 
+import static java.util.Objects.nonNull;
 
 import cloud.xcan.angus.api.commonlink.apis.StrategyWhenDuplicated;
 import cloud.xcan.angus.api.pojo.auth.SimpleHttpAuth;
@@ -66,6 +67,30 @@ public class ServicesSync extends TenantEntity<ServicesSync, Long> {
   @Column(name = "last_sync_date")
   private LocalDateTime lastSyncDate;
 
+  /**
+   * Interval of scheduled synchronization in minutes, null or 0 means synchronizing manually only.
+   */
+  @Column(name = "sync_interval")
+  private Integer syncInterval;
+
+  @Column(name = "next_sync_date")
+  private LocalDateTime nextSyncDate;
+
+  /**
+   * Validators of the last applied document, sent as conditional request headers.
+   */
+  @Column(name = "etag")
+  private String etag;
+
+  @Column(name = "last_modified")
+  private String lastModified;
+
+  /**
+   * SHA-256 hash of the last applied document.
+   */
+  @Column(name = "content_hash")
+  private String contentHash;
+
   @Column(name = "modified_by")
   @LastModifiedBy
   private Long modifiedBy;
@@ -74,6 +99,10 @@ public class ServicesSync extends TenantEntity<ServicesSync, Long> {
   @LastModifiedDate
   private LocalDateTime modifiedDate;
 
+  public boolean isScheduled() {
+    return nonNull(syncInterval) && syncInterval > 0;
+  }
+
   @Override
   public boolean sameIdentityAs(ServicesSync other) {
     return this.name.equalsIgnoreCase(other.name);
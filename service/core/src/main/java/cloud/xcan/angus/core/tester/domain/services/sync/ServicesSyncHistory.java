@@ -0,0 +1,86 @@
+package cloud.xcan.angus.core.tester.domain.services.sync;
+
+import cloud.xcan.angus.core.jpa.multitenancy.TenantEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.hibernate.annotations.DynamicInsert;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * Outcome of one synchronization of a services sync configuration.
+ * <p>
+ * The added, updated and deleted numbers count the apis of service by method and endpoint, they
+ * are only present when the document is applied.
+ */
+@Entity
+@Table(name = "services_sync_history")
+@EntityListeners({AuditingEntityListener.class})
+@DynamicInsert
+@Setter
+@Getter
+@Accessors(chain = true)
+public class ServicesSyncHistory extends TenantEntity<ServicesSyncHistory, Long> {
+
+  @Id
+  private Long id;
+
+  @Column(name = "service_id")
+  private Long serviceId;
+
+  @Column(name = "sync_id")
+  private Long syncId;
+
+  @Column(name = "sync_name")
+  private String syncName;
+
+  /**
+   * Whether it is run by the scheduled job, otherwise it is executed manually.
+   */
+  private Boolean scheduled;
+
+  @Enumerated(EnumType.STRING)
+  private ServicesSyncOutcome outcome;
+
+  /**
+   * Time of fetching and applying the document, in milliseconds.
+   */
+  private Long duration;
+
+  @Column(name = "content_hash")
+  private String contentHash;
+
+  @Column(name = "added_num")
+  private Integer addedNum;
+
+  @Column(name = "updated_num")
+  private Integer updatedNum;
+
+  @Column(name = "deleted_num")
+  private Integer deletedNum;
+
+  /**
+   * Note:: Maximum cut out 200 characters the cause.
+   */
+  @Column(name = "failure_cause")
+  private String failureCause;
+
+  @CreatedDate
+  @Column(name = "created_date")
+  private LocalDateTime createdDate;
+
+  @Override
+  public Long identity() {
+    return this.id;
+  }
+
+}
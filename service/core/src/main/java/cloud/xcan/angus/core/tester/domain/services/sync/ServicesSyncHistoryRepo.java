@@ -0,0 +1,43 @@
+package cloud.xcan.angus.core.tester.domain.services.sync;
+
+import cloud.xcan.angus.core.jpa.repository.BaseRepository;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@NoRepositoryBean
+public interface ServicesSyncHistoryRepo extends BaseRepository<ServicesSyncHistory, Long> {
+
+  @Query(value = "SELECT * FROM services_sync_history WHERE service_id = ?1 "
+      + "ORDER BY id DESC LIMIT ?2", nativeQuery = true)
+  List<ServicesSyncHistory> findLatestByServiceId(Long serviceId, int num);
+
+  @Query(value = "SELECT * FROM services_sync_history WHERE service_id = ?1 AND sync_name = ?2 "
+      + "ORDER BY id DESC LIMIT ?3", nativeQuery = true)
+  List<ServicesSyncHistory> findLatestByServiceIdAndSyncName(Long serviceId, String syncName,
+      int num);
+
+  /**
+   * @param reservedOffset Number of reserved histories minus one
+   */
+  @Query(value = "SELECT id FROM services_sync_history WHERE sync_id = ?1 "
+      + "ORDER BY id DESC LIMIT 1 OFFSET ?2", nativeQuery = true)
+  Long findOldestReservedId(Long syncId, long reservedOffset);
+
+  @Transactional
+  @Modifying
+  @Query(value = "DELETE FROM services_sync_history WHERE sync_id = ?1 AND id < ?2", nativeQuery = true)
+  int deleteBySyncIdAndIdBefore(Long syncId, Long id);
+
+  @Modifying
+  @Query(value = "DELETE FROM services_sync_history WHERE service_id IN ?1", nativeQuery = true)
+  void deleteByServiceIdIn(Collection<Long> serviceIds);
+
+  @Modifying
+  @Query(value = "DELETE FROM services_sync_history WHERE service_id = ?1 AND sync_name IN ?2", nativeQuery = true)
+  void deleteByServiceIdAndSyncNameIn(Long serviceId, Collection<String> syncNames);
+
+}
@@ -0,0 +1,30 @@
+package cloud.xcan.angus.core.tester.domain.services.sync;
+
+import cloud.xcan.angus.spec.experimental.EndpointRegister;
+import cloud.xcan.angus.spec.locale.EnumMessage;
+
+@EndpointRegister
+public enum ServicesSyncOutcome implements EnumMessage<String> {
+  /**
+   * The document is changed and applied to the service.
+   */
+  UPDATED,
+  /**
+   * The server answered 304 to the conditional request.
+   */
+  NOT_MODIFIED,
+  /**
+   * The document is fetched but its content hash equals the last applied one.
+   */
+  UNCHANGED,
+  FAILED;
+
+  public boolean isFailed() {
+    return this.equals(FAILED);
+  }
+
+  @Override
+  public String getValue() {
+    return this.name();
+  }
+}
@@ -1,12 +1,14 @@
 package cloud.xcan.angus.core.tester.domain.services.sync;
 
 import cloud.xcan.angus.core.jpa.repository.BaseRepository;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.transaction.annotation.Transactional;
 
 @NoRepositoryBean
 public interface ServicesSyncRepo extends BaseRepository<ServicesSync, Long> {
@@ -29,6 +31,18 @@ public interface ServicesSyncRepo extends BaseRepository<ServicesSync, Long> {
   @Query(value = "SELECT name FROM services_sync WHERE service_id = ?1", nativeQuery = true)
   List<String> findNameByServiceId(Long serviceId);
 
+  /**
+   * Scheduled synchronizations due by now of all tenants.
+   */
+  @Query(value = "SELECT * FROM services_sync WHERE sync_interval > 0 AND next_sync_date <= ?1 "
+      + "ORDER BY next_sync_date ASC LIMIT ?2", nativeQuery = true)
+  List<ServicesSync> findDueByNow(LocalDateTime now, int count);
+
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE services_sync SET next_sync_date = ?2 WHERE id = ?1", nativeQuery = true)
+  void updateNextSyncDate(Long id, LocalDateTime nextSyncDate);
+
   @Modifying
   @Query(value = "DELETE FROM services_sync WHERE service_id in ?1", nativeQuery = true)
   void deleteByServiceIdIn(Collection<Long> serviceIds);
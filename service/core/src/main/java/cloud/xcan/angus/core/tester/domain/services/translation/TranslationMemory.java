@@ -0,0 +1,57 @@
+package cloud.xcan.angus.core.tester.domain.services.translation;
+
+
+import cloud.xcan.angus.core.jpa.multitenancy.TenantEntity;
+import cloud.xcan.angus.spec.locale.SupportedLanguage;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.hibernate.annotations.DynamicInsert;
+
+/**
+ * Translation of a source text between a language pair, reused by later translations of the
+ * same tenant.
+ */
+@Entity
+@Table(name = "translation_memory")
+@DynamicInsert
+@Setter
+@Getter
+@Accessors(chain = true)
+public class TranslationMemory extends TenantEntity<TranslationMemory, Long> {
+
+  @Id
+  private Long id;
+
+  /**
+   * SHA-256 hex of the source text.
+   */
+  @Column(name = "source_hash")
+  private String sourceHash;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "source_language")
+  private SupportedLanguage sourceLanguage;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "target_language")
+  private SupportedLanguage targetLanguage;
+
+  @Column(name = "translated_text")
+  private String translatedText;
+
+  @Column(name = "created_date")
+  private LocalDateTime createdDate;
+
+  @Override
+  public Long identity() {
+    return this.id;
+  }
+}
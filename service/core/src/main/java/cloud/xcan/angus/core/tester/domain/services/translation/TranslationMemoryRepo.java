@@ -0,0 +1,25 @@
+package cloud.xcan.angus.core.tester.domain.services.translation;
+
+import cloud.xcan.angus.core.jpa.repository.BaseRepository;
+import cloud.xcan.angus.spec.locale.SupportedLanguage;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.repository.NoRepositoryBean;
+
+@NoRepositoryBean
+public interface TranslationMemoryRepo extends BaseRepository<TranslationMemory, Long> {
+
+  List<TranslationMemory> findBySourceLanguageAndTargetLanguageAndSourceHashIn(
+      SupportedLanguage sourceLanguage, SupportedLanguage targetLanguage,
+      Collection<String> sourceHashes);
+
+  /**
+   * Insert the translation, ignored when the same text is already saved by another translation.
+   *
+   * @return the number of inserted rows
+   */
+  int insertIgnore(Long id, String sourceHash, String sourceLanguage, String targetLanguage,
+      String translatedText, Long tenantId, LocalDateTime createdDate);
+
+}
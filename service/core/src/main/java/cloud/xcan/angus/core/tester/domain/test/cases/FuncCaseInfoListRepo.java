@@ -4,6 +4,8 @@ import cloud.xcan.angus.core.jpa.repository.CustomBaseRepository;
 import cloud.xcan.angus.core.jpa.repository.SearchMode;
 import cloud.xcan.angus.core.tester.domain.test.cases.count.FuncCaseCount;
 import cloud.xcan.angus.remote.search.SearchCriteria;
+import cloud.xcan.angus.spec.annotations.Nullable;
+import java.util.List;
 import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,4 +23,7 @@ public interface FuncCaseInfoListRepo extends CustomBaseRepository<FuncCaseInfo>
 
   FuncCaseCount count(Set<SearchCriteria> criteria);
 
+  List<FuncCaseInfo> findAfterId(Set<SearchCriteria> criteria, @Nullable Long afterId, int limit,
+      boolean fullTextSearch, String... matches);
+
 }
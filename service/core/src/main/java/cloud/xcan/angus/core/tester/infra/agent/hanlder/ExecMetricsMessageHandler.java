@@ -18,20 +18,17 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import cloud.xcan.angus.api.commonlink.exec.ExecStatus;
-import cloud.xcan.angus.api.commonlink.setting.Setting;
-import cloud.xcan.angus.api.commonlink.setting.SettingKey;
-import cloud.xcan.angus.api.manager.SettingManager;
 import cloud.xcan.angus.core.spring.SpringContextHolder;
 import cloud.xcan.angus.core.tester.domain.exec.ExecRepo;
 import cloud.xcan.angus.core.tester.domain.exec.debug.ExecDebugRepo;
 import cloud.xcan.angus.core.tester.domain.exec.node.ExecNode;
 import cloud.xcan.angus.core.tester.domain.exec.node.ExecNodeRepo;
+import cloud.xcan.angus.core.tester.infra.agent.ingest.ExecMetricsIngestBatch;
+import cloud.xcan.angus.core.tester.infra.agent.ingest.ExecMetricsIngestQueue;
+import cloud.xcan.angus.core.tester.infra.metricsds.cache.ExecSampleLatestCache;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSample;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleContent;
-import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleContentRepo;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleErrorCause;
-import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleErrorCauseRepo;
-import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRepo;
-import cloud.xcan.angus.lettucex.distlock.RedisLock;
 import cloud.xcan.angus.metrics.ExecMetrics;
 import cloud.xcan.angus.model.meter.MeterStatus;
 import cloud.xcan.angus.remoting.common.message.BusinessMessage;
@@ -40,34 +37,23 @@ import cloud.xcan.angus.remoting.common.spi.CustomMessageHandler;
 import cloud.xcan.angus.spec.principal.Principal;
 import cloud.xcan.angus.spec.principal.PrincipalContext;
 import com.fasterxml.jackson.core.type.TypeReference;
-import java.time.LocalTime;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class ExecMetricsMessageHandler implements CustomMessageHandler {
 
-  private ExecSampleRepo execSampleRepo;
-
-  private ExecSampleErrorCauseRepo execSampleErrorsRepo;
-
-  private ExecSampleContentRepo execSampleExtcRepo;
-
   private ExecRepo execRepo;
 
   private ExecNodeRepo execNodeRepo;
 
   private ExecDebugRepo execDebugRepo;
 
-  private static final Long RESERVED_DAY = 15L;
-  public static final Long NO_CLEAR_RESERVED_DAY = -1L;
+  private ExecMetricsIngestQueue ingestQueue;
 
-  private static final int CLEAR_AT_HOUR = 1;
-
-  private static final String LOCK_KEY = "tester:job:ExecMetricsClearJob";
+  private ExecSampleLatestCache latestSampleCache;
 
   public ExecMetricsMessageHandler() {
   }
@@ -204,101 +190,52 @@ public class ExecMetricsMessageHandler implements CustomMessageHandler {
 
   private void saveExecMetrics(List<ExecMetrics> metrics, Long tenantId, Long deviceId, Long now,
       Long execId, boolean finish) {
-    // 1. Save main sampling sample
-    ExecSampleRepo execMetricsRepo = getExecSampleRepo();
-    execMetricsRepo.batchInsert0(toExecMetrics(metrics, tenantId, deviceId, execId, now, finish));
+    // 1. Convert main sampling sample
+    List<ExecSample> samples = toExecMetrics(metrics, tenantId, deviceId, execId, now, finish);
 
-    // 2. Save sampling error cause
+    // 2. Convert sampling error cause
     boolean hasErrorCause = metrics.stream().anyMatch(x -> isNotEmpty(x.getErrorCause()));
-    if (hasErrorCause) {
-      ExecSampleErrorCauseRepo sampleErrorCauseRepo = getExecSampleErrorsRepo();
-      List<ExecSampleErrorCause> errorCauses = toExecSampleErrorCause(metrics, tenantId, deviceId,
-          execId, now, finish);
-      sampleErrorCauseRepo.batchInsert0(errorCauses);
-    }
+    List<ExecSampleErrorCause> errorCauses = hasErrorCause
+        ? toExecSampleErrorCause(metrics, tenantId, deviceId, execId, now, finish)
+        : Collections.emptyList();
 
-    // 3. Save sampling content
+    // 3. Convert sampling content
     boolean hasContent = metrics.stream().anyMatch(x -> isNotEmpty(x.getSampleResultContent())
         || isNotEmpty(x.getExtContent1()) || isNotEmpty(x.getExtContent2()));
-    if (hasContent) {
-      ExecSampleContentRepo execSampleExtcRepo = getExecSampleExtcRepo();
-      List<ExecSampleContent> extcs = toExecSampleContent(metrics, tenantId, deviceId,
-          execId, now, finish);
-      execSampleExtcRepo.batchInsert0(extcs);
-    }
-
-    // 4. Clear old data at 1 o'clock every day
-    tryClearOldData(tenantId);
-  }
-
-  private void tryClearOldData(Long tenantId) {
-    if (!clearAt3Hour(CLEAR_AT_HOUR)) {
-      return;
-    }
-    RedisLock redisLock = SpringContextHolder.getBean(RedisLock.class);
-    try {
-      boolean tryLock = redisLock.tryLock(LOCK_KEY, tenantId.toString(),
-          /* 2 hours: Prevent duplicate cleaning. */2, TimeUnit.HOURS);
-      if (!tryLock) {
-        log.debug("ExecMetricsClearJob try lock fail!, tenantId: {}", tenantId);
-        return;
-      }
-      long reservedDay = getReservedDay();
-      if (NO_CLEAR_RESERVED_DAY.equals(reservedDay)) {
-        return;
-      }
-      execSampleRepo.deleteBeforeDay(reservedDay);
-      execSampleErrorsRepo.deleteBeforeDay(reservedDay);
-      execSampleExtcRepo.deleteBeforeDay(reservedDay);
-      log.info("ExecMetricsClearJob execute successfully, tenantId: {}", tenantId);
-    } catch (Exception e) {
-      log.error("ExecMetricsClearJob execute fail, tenantId:{}, cause:{}", tenantId,
-          e.getMessage());
-    } finally {
-      // Note: Release the lock through timeout to prevent duplicate cleaning.
-      // redisLock.releaseLock(LOCK_KEY, tenantId.toString());
+    List<ExecSampleContent> contents = hasContent
+        ? toExecSampleContent(metrics, tenantId, deviceId, execId, now, finish)
+        : Collections.emptyList();
+
+    // 4. Save in batches asynchronously, fall back to synchronous writing when the queue is full.
+    // Note: Finish samples are written synchronously, the exec status is updated right after.
+    ExecMetricsIngestQueue ingestQueue = getIngestQueue();
+    ExecMetricsIngestBatch batch = new ExecMetricsIngestBatch(tenantId, samples, errorCauses,
+        contents);
+    if (finish || !ingestQueue.offer(batch)) {
+      ingestQueue.insert(batch);
     }
-  }
 
-  public static long getReservedDay() {
-    long reservedDay = RESERVED_DAY;
-    try {
-      SettingManager settingManager = SpringContextHolder.getBean(SettingManager.class);
-      Setting setting = settingManager.setting(SettingKey.MAX_METRICS_DAYS);
-      reservedDay =
-          setting.getMaxMetricsDays() == null ? RESERVED_DAY : setting.getMaxMetricsDays();
-    } catch (Exception e) {
-      log.error("The maximum day of metrics is not configured, SettingKey: {}",
-          SettingKey.MAX_METRICS_DAYS.getValue());
-    }
-    return reservedDay <= 0 ? NO_CLEAR_RESERVED_DAY : reservedDay;
-  }
-
-  public static boolean clearAt3Hour(int clearAtHour) {
-    LocalTime now = LocalTime.now();
-    int hour = LocalTime.now().getHour();
-    return hour == clearAtHour && now.getMinute() <= 15;
-  }
-
-  private ExecSampleRepo getExecSampleRepo() {
-    if (execSampleRepo == null) {
-      execSampleRepo = SpringContextHolder.getBean(ExecSampleRepo.class);
+    // 5. Refresh the latest samples of running execution, the finished node falls back to db
+    ExecSampleLatestCache latestSampleCache = getLatestSampleCache();
+    if (finish) {
+      latestSampleCache.evict(execId, deviceId);
+    } else {
+      latestSampleCache.put(execId, deviceId, samples);
     }
-    return execSampleRepo;
   }
 
-  private ExecSampleErrorCauseRepo getExecSampleErrorsRepo() {
-    if (execSampleErrorsRepo == null) {
-      execSampleErrorsRepo = SpringContextHolder.getBean(ExecSampleErrorCauseRepo.class);
+  private ExecMetricsIngestQueue getIngestQueue() {
+    if (ingestQueue == null) {
+      ingestQueue = SpringContextHolder.getBean(ExecMetricsIngestQueue.class);
     }
-    return execSampleErrorsRepo;
+    return ingestQueue;
   }
 
-  private ExecSampleContentRepo getExecSampleExtcRepo() {
-    if (execSampleExtcRepo == null) {
-      execSampleExtcRepo = SpringContextHolder.getBean(ExecSampleContentRepo.class);
+  private ExecSampleLatestCache getLatestSampleCache() {
+    if (latestSampleCache == null) {
+      latestSampleCache = SpringContextHolder.getBean(ExecSampleLatestCache.class);
     }
-    return execSampleExtcRepo;
+    return latestSampleCache;
   }
 
   private ExecRepo getExecRepo() {
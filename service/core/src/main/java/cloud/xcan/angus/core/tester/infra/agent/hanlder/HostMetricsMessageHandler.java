@@ -7,9 +7,6 @@ import static cloud.xcan.angus.core.tester.infra.agent.converter.NodeMetricsConv
 import static cloud.xcan.angus.core.tester.infra.agent.converter.NodeMetricsConverter.toNetUsages;
 import static cloud.xcan.angus.core.tester.infra.agent.converter.NodeMetricsConverter.toNodeInfo;
 import static cloud.xcan.angus.core.tester.infra.agent.converter.NodeMetricsConverter.toNodeUsage;
-import static cloud.xcan.angus.core.tester.infra.agent.hanlder.ExecMetricsMessageHandler.NO_CLEAR_RESERVED_DAY;
-import static cloud.xcan.angus.core.tester.infra.agent.hanlder.ExecMetricsMessageHandler.clearAt3Hour;
-import static cloud.xcan.angus.core.tester.infra.agent.hanlder.ExecMetricsMessageHandler.getReservedDay;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
 import static java.util.Objects.isNull;
@@ -17,12 +14,13 @@ import static java.util.Objects.isNull;
 import cloud.xcan.angus.core.spring.SpringContextHolder;
 import cloud.xcan.angus.core.tester.domain.config.node.info.NodeInfo;
 import cloud.xcan.angus.core.tester.domain.config.node.info.NodeInfoRepo;
+import cloud.xcan.angus.core.tester.infra.metricsds.cache.NodeUsageSnapshotCache;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.usage.NodeUsage;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.usage.NodeUsageRepo;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.usage.disk.DiskUsage;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.usage.disk.DiskUsageRepo;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.usage.network.NetUsage;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.usage.network.NetUsageRepo;
-import cloud.xcan.angus.lettucex.distlock.RedisLock;
 import cloud.xcan.angus.metrics.Response;
 import cloud.xcan.angus.remoting.common.MessageService;
 import cloud.xcan.angus.remoting.common.message.BusinessMessage;
@@ -33,7 +31,6 @@ import cloud.xcan.angus.spec.principal.PrincipalContext;
 import cloud.xcan.angus.spec.utils.JsonUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -41,13 +38,10 @@ public class HostMetricsMessageHandler implements CustomMessageHandler {
 
   private NodeInfoRepo nodeInfoRepo;
   private NodeUsageRepo nodeUsageRepo;
+  private NodeUsageSnapshotCache nodeUsageSnapshotCache;
   private DiskUsageRepo diskUsageRepo;
   private NetUsageRepo netUsageRepo;
 
-  private static final int CLEAR_AT_HOUR = 2;
-
-  private static final String LOCK_KEY = "tester:job:HostMetricsClearJob";
-
   public HostMetricsMessageHandler() {
   }
 
@@ -89,7 +83,10 @@ public class HostMetricsMessageHandler implements CustomMessageHandler {
         }
         case PUSH_HOST_USAGE_METRICS: {
           NodeUsageRepo nodeUsageRepo = getNodeUsageRepo();
-          nodeUsageRepo.save(toNodeUsage(responses, tenantId, deviceId, now));
+          NodeUsage nodeUsage = toNodeUsage(responses, tenantId, deviceId, now);
+          nodeUsageRepo.save(nodeUsage);
+          // Also the heartbeat of agent used by node selection
+          getNodeUsageSnapshotCache().put(nodeUsage);
 
           DiskUsageRepo diskUsageRepo = getDiskUsageRepo();
           List<DiskUsage> diskUsages = toDiskUsages(responses, tenantId, deviceId, now);
@@ -108,8 +105,6 @@ public class HostMetricsMessageHandler implements CustomMessageHandler {
           // NOOP
         }
       }
-      // Clear old data at 2 o'clock every day
-      tryClearOldData(tenantId);
     } finally {
       PrincipalContext.remove();
     }
@@ -133,37 +128,6 @@ public class HostMetricsMessageHandler implements CustomMessageHandler {
     }
   }
 
-  private void tryClearOldData(Long tenantId) {
-    if (!clearAt3Hour(CLEAR_AT_HOUR)) {
-      return;
-    }
-    RedisLock redisLock = SpringContextHolder.getBean(RedisLock.class);
-    try {
-      boolean tryLock = redisLock.tryLock(LOCK_KEY, tenantId.toString(),
-          /* 2 hours: Prevent duplicate cleaning. */
-          2, TimeUnit.HOURS);
-      if (!tryLock) {
-        log.debug("HostMetricsClearJob try lock fail!, tenantId: {}", tenantId);
-        return;
-      }
-      long reservedDay = getReservedDay();
-      if (NO_CLEAR_RESERVED_DAY.equals(reservedDay)) {
-        return;
-      }
-      long reservedTime = System.currentTimeMillis() - reservedDay * 24 * 60 * 60 * 1000;
-      nodeUsageRepo.deleteBeforeDay(reservedTime);
-      diskUsageRepo.deleteBeforeDay(reservedTime);
-      netUsageRepo.deleteBeforeDay(reservedTime);
-      log.info("HostMetricsClearJob execute successfully, tenantId: {}", tenantId);
-    } catch (Exception e) {
-      log.error("HostMetricsClearJob execute fail, tenantId:{}, cause:{}", tenantId,
-          e.getMessage());
-    } finally {
-      // Note: Release the lock through timeout to prevent duplicate cleaning.
-      // redisLock.releaseLock(LOCK_KEY, tenantId.toString());
-    }
-  }
-
   private NodeInfoRepo getNodeInfoRepo() {
     if (nodeInfoRepo == null) {
       nodeInfoRepo = SpringContextHolder.getBean(NodeInfoRepo.class);
@@ -178,6 +142,13 @@ public class HostMetricsMessageHandler implements CustomMessageHandler {
     return nodeUsageRepo;
   }
 
+  private NodeUsageSnapshotCache getNodeUsageSnapshotCache() {
+    if (nodeUsageSnapshotCache == null) {
+      nodeUsageSnapshotCache = SpringContextHolder.getBean(NodeUsageSnapshotCache.class);
+    }
+    return nodeUsageSnapshotCache;
+  }
+
   private DiskUsageRepo getDiskUsageRepo() {
     if (diskUsageRepo == null) {
       diskUsageRepo = SpringContextHolder.getBean(DiskUsageRepo.class);
@@ -3,9 +3,6 @@ package cloud.xcan.angus.core.tester.infra.agent.hanlder;
 import static cloud.xcan.angus.agent.AgentConstant.PUSH_AGENT_SERVICE_METRICS;
 import static cloud.xcan.angus.core.spring.boot.ApplicationInfo.APP_READY;
 import static cloud.xcan.angus.core.tester.infra.agent.converter.JvmMetricsConverter.toJvmMemoryUsage;
-import static cloud.xcan.angus.core.tester.infra.agent.hanlder.ExecMetricsMessageHandler.NO_CLEAR_RESERVED_DAY;
-import static cloud.xcan.angus.core.tester.infra.agent.hanlder.ExecMetricsMessageHandler.clearAt3Hour;
-import static cloud.xcan.angus.core.tester.infra.agent.hanlder.ExecMetricsMessageHandler.getReservedDay;
 import static cloud.xcan.angus.core.tester.infra.agent.hanlder.HostMetricsMessageHandler.checkAndParse;
 import static cloud.xcan.angus.mockservice.api.MockServiceConstant.METRICS_SERVICE_ID_TAG_KEY;
 import static cloud.xcan.angus.mockservice.api.MockServiceConstant.METRICS_SERVICE_TYPE_TAG_KEY;
@@ -16,7 +13,6 @@ import static java.util.Objects.isNull;
 
 import cloud.xcan.angus.core.spring.SpringContextHolder;
 import cloud.xcan.angus.core.tester.infra.metricsds.domain.jvmservice.JvmServiceUsageRepo;
-import cloud.xcan.angus.lettucex.distlock.RedisLock;
 import cloud.xcan.angus.metrics.Response;
 import cloud.xcan.angus.remoting.common.message.BusinessMessage;
 import cloud.xcan.angus.remoting.common.message.MessageBusinessType;
@@ -26,7 +22,6 @@ import cloud.xcan.angus.spec.principal.PrincipalContext;
 import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -34,10 +29,6 @@ public class MockServiceMetricsMessageHandler implements CustomMessageHandler {
 
   private JvmServiceUsageRepo jvmServiceUsageRepo;
 
-  private static final int CLEAR_AT_HOUR = 3;
-
-  private static final String LOCK_KEY = "tester:job:MockServiceMetricsClearJob";
-
   public MockServiceMetricsMessageHandler() {
   }
 
@@ -100,43 +91,12 @@ public class MockServiceMetricsMessageHandler implements CustomMessageHandler {
           // NOOP
         }
       }
-
-      // Clear old data at 3 o'clock every day
-      tryClearOldData(tenantId);
     } finally {
       PrincipalContext.remove();
     }
     return null;
   }
 
-  private void tryClearOldData(Long tenantId) {
-    if (!clearAt3Hour(CLEAR_AT_HOUR)) {
-      return;
-    }
-    RedisLock redisLock = SpringContextHolder.getBean(RedisLock.class);
-    try {
-      boolean tryLock = redisLock.tryLock(LOCK_KEY, tenantId.toString(),
-          /* 2 hours: Prevent duplicate cleaning. */2, TimeUnit.HOURS);
-      if (!tryLock) {
-        log.debug("MockServiceMetricsClearJob try lock fail!, tenantId: {}", tenantId);
-        return;
-      }
-      long reservedDay = getReservedDay();
-      if (NO_CLEAR_RESERVED_DAY.equals(reservedDay)) {
-        return;
-      }
-      long reservedTime = System.currentTimeMillis() - reservedDay * 24 * 60 * 60 * 1000;
-      jvmServiceUsageRepo.deleteBeforeDay(reservedTime);
-      log.info("MockServiceMetricsClearJob execute successfully, tenantId: {}", tenantId);
-    } catch (Exception e) {
-      log.error("MockServiceMetricsClearJob execute fail, tenantId:{}, cause:{}", tenantId,
-          e.getMessage());
-    } finally {
-      // Note: Release the lock through timeout to prevent duplicate cleaning.
-      // redisLock.releaseLock(LOCK_KEY, tenantId.toString());
-    }
-  }
-
   private JvmServiceUsageRepo getJvmServiceUsageRepo() {
     if (jvmServiceUsageRepo == null) {
       jvmServiceUsageRepo = SpringContextHolder.getBean(JvmServiceUsageRepo.class);
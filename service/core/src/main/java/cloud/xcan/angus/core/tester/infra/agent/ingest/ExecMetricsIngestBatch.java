@@ -0,0 +1,36 @@
+package cloud.xcan.angus.core.tester.infra.agent.ingest;
+
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSample;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleContent;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleErrorCause;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Rows converted from one agent push of exec metrics, waiting to be written to the shard tables
+ * of the tenant.
+ */
+@Getter
+@AllArgsConstructor
+public class ExecMetricsIngestBatch {
+
+  private final Long tenantId;
+  private final List<ExecSample> samples;
+  private final List<ExecSampleErrorCause> errorCauses;
+  private final List<ExecSampleContent> contents;
+  /**
+   * Number of failed writes of the rows.
+   */
+  private final int retries;
+
+  public ExecMetricsIngestBatch(Long tenantId, List<ExecSample> samples,
+      List<ExecSampleErrorCause> errorCauses, List<ExecSampleContent> contents) {
+    this(tenantId, samples, errorCauses, contents, 0);
+  }
+
+  public boolean isEmpty() {
+    return samples.isEmpty() && errorCauses.isEmpty() && contents.isEmpty();
+  }
+
+}
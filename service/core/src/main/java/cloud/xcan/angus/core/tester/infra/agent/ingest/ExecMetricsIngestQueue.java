@@ -0,0 +1,360 @@
+package cloud.xcan.angus.core.tester.infra.agent.ingest;
+
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
+import static java.util.Objects.nonNull;
+
+import cloud.xcan.angus.core.tester.infra.config.ExecMetricsIngestConfig.ExecMetricsIngestProperties;
+import cloud.xcan.angus.core.tester.infra.metricsds.ExecSampleRollupWriter;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSample;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleContent;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleContentRepo;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleErrorCause;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleErrorCauseRepo;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRepo;
+import cloud.xcan.angus.spec.principal.PrincipalContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Resource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Asynchronous writer of exec samples pushed by agents.
+ * <p>
+ * Pushes are routed to a bounded queue by tenant (the shard key of the metrics tables), each queue
+ * is drained by its own worker, which merges the pushes of many nodes and executions into one
+ * multi-row insert per shard table. A flush happens when {@code maxBatchSize} pushes are drained
+ * or {@code flushInterval} has elapsed since the first one.
+ * <p>
+ * When a queue stays full longer than {@code offerTimeout}, {@link #offer} fails and the caller is
+ * expected to write synchronously, which blocks the remoting thread and slows the pushing agent
+ * down instead of dropping its samples.
+ * <p>
+ * Rows of a table failed to write are retried by the next flush of the worker, after
+ * {@code maxRetries} they are dropped and counted by {@link #METRIC_DROPPED}. Rows are merged only
+ * with the rows of the same retries, so each keeps its own retries.
+ */
+@Slf4j
+public class ExecMetricsIngestQueue {
+
+  public static final String METRIC_QUEUE_DEPTH = "tester.exec.metrics.ingest.queue.depth";
+  public static final String METRIC_FLUSH_LATENCY = "tester.exec.metrics.ingest.flush";
+  public static final String METRIC_FLUSH_ROWS = "tester.exec.metrics.ingest.flushed.rows";
+  public static final String METRIC_REJECTED = "tester.exec.metrics.ingest.rejected";
+  public static final String METRIC_DROPPED = "tester.exec.metrics.ingest.dropped.rows";
+
+  private final ExecMetricsIngestProperties properties;
+
+  private final List<BlockingQueue<ExecMetricsIngestBatch>> queues = new ArrayList<>();
+
+  private final List<Thread> workers = new ArrayList<>();
+
+  private volatile boolean running = false;
+
+  private final AtomicLong droppedRows = new AtomicLong();
+
+  @Resource
+  private ExecSampleRepo execSampleRepo;
+
+  @Resource
+  private ExecSampleErrorCauseRepo execSampleErrorCauseRepo;
+
+  @Resource
+  private ExecSampleContentRepo execSampleContentRepo;
+
+  @Resource
+  private ExecSampleRollupWriter execSampleRollupWriter;
+
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry;
+
+  private Timer flushTimer;
+  private Counter flushedRowsCounter;
+  private Counter rejectedCounter;
+  private Counter droppedCounter;
+
+  public ExecMetricsIngestQueue(ExecMetricsIngestProperties properties) {
+    this.properties = properties;
+  }
+
+  public void start() {
+    if (!properties.isEnabled()) {
+      log.info("Exec metrics asynchronous ingestion is disabled");
+      return;
+    }
+    running = true;
+    for (int i = 0; i < properties.getWorkerNum(); i++) {
+      BlockingQueue<ExecMetricsIngestBatch> queue = new ArrayBlockingQueue<>(
+          properties.getQueueCapacity());
+      queues.add(queue);
+      if (nonNull(meterRegistry)) {
+        Gauge.builder(METRIC_QUEUE_DEPTH, queue, BlockingQueue::size)
+            .tag("shard", String.valueOf(i))
+            .description("Number of exec metrics pushes waiting to be written")
+            .register(meterRegistry);
+      }
+      Thread worker = new Thread(() -> consume(queue), "ExecMetricsIngestThread-" + i);
+      worker.setDaemon(true);
+      worker.start();
+      workers.add(worker);
+    }
+    if (nonNull(meterRegistry)) {
+      flushTimer = Timer.builder(METRIC_FLUSH_LATENCY)
+          .description("Latency of writing one merged batch of exec metrics")
+          .register(meterRegistry);
+      flushedRowsCounter = Counter.builder(METRIC_FLUSH_ROWS)
+          .description("Number of exec sample rows written by ingestion workers")
+          .register(meterRegistry);
+      rejectedCounter = Counter.builder(METRIC_REJECTED)
+          .description("Number of pushes written synchronously because the queue was full")
+          .register(meterRegistry);
+      droppedCounter = Counter.builder(METRIC_DROPPED)
+          .description("Number of exec metrics rows dropped after their write retries are used up")
+          .register(meterRegistry);
+    }
+    log.info("Exec metrics asynchronous ingestion started, workers: {}, queue capacity: {}",
+        properties.getWorkerNum(), properties.getQueueCapacity());
+  }
+
+  public void shutdown() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    for (Thread worker : workers) {
+      try {
+        // Workers drain the remaining pushes before exiting
+        worker.join(properties.getFlushInterval() * 10);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    log.info("Exec metrics asynchronous ingestion stopped");
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Enqueue the rows of one push, return false when ingestion is disabled or the shard queue is
+   * still full after waiting {@code offerTimeout} milliseconds.
+   */
+  public boolean offer(ExecMetricsIngestBatch batch) {
+    if (!running) {
+      return false;
+    }
+    BlockingQueue<ExecMetricsIngestBatch> queue = queues.get(
+        (int) (Math.abs(batch.getTenantId()) % queues.size()));
+    try {
+      if (queue.offer(batch, properties.getOfferTimeout(), TimeUnit.MILLISECONDS)) {
+        return true;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (nonNull(rejectedCounter)) {
+      rejectedCounter.increment();
+    }
+    log.warn("Exec metrics ingest queue is full, write synchronously, tenantId: {}",
+        batch.getTenantId());
+    return false;
+  }
+
+  /**
+   * Write rows synchronously, the principal of current thread must be the tenant of the rows.
+   */
+  public void insert(ExecMetricsIngestBatch batch) {
+    insert(batch.getTenantId(), batch.getSamples(), batch.getErrorCauses(), batch.getContents());
+  }
+
+  private void consume(BlockingQueue<ExecMetricsIngestBatch> queue) {
+    long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushInterval());
+    // Rows failed to write, merged into the next flush of this worker
+    List<ExecMetricsIngestBatch> retryBatches = new ArrayList<>();
+    while (running || !queue.isEmpty() || !retryBatches.isEmpty()) {
+      List<ExecMetricsIngestBatch> batches = new ArrayList<>(retryBatches);
+      retryBatches.clear();
+      try {
+        ExecMetricsIngestBatch first = queue.poll(properties.getFlushInterval(),
+            TimeUnit.MILLISECONDS);
+        if (first != null) {
+          batches.add(first);
+          long deadline = System.nanoTime() + flushIntervalNanos;
+          while (batches.size() < properties.getMaxBatchSize()) {
+            long remaining = deadline - System.nanoTime();
+            ExecMetricsIngestBatch next = remaining > 0 && running
+                ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+              break;
+            }
+            batches.add(next);
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      }
+      if (isNotEmpty(batches)) {
+        retryBatches.addAll(flush(batches));
+      }
+    }
+  }
+
+  /**
+   * Write the batches merged by tenant and retries, return the rows to retry.
+   */
+  private List<ExecMetricsIngestBatch> flush(List<ExecMetricsIngestBatch> batches) {
+    // Each shard table belongs to one tenant, the rows of different retries are written separately
+    // so the fresh rows do not use up the retries of the failed ones
+    Map<Long, Map<Integer, List<ExecMetricsIngestBatch>>> tenantBatches = new LinkedHashMap<>();
+    for (ExecMetricsIngestBatch batch : batches) {
+      tenantBatches.computeIfAbsent(batch.getTenantId(), k -> new TreeMap<>())
+          .computeIfAbsent(batch.getRetries(), k -> new ArrayList<>()).add(batch);
+    }
+
+    List<ExecMetricsIngestBatch> retryBatches = new ArrayList<>();
+    for (Map.Entry<Long, Map<Integer, List<ExecMetricsIngestBatch>>> entry
+        : tenantBatches.entrySet()) {
+      for (Map.Entry<Integer, List<ExecMetricsIngestBatch>> retriesEntry
+          : entry.getValue().entrySet()) {
+        ExecMetricsIngestBatch failed = flush(entry.getKey(), retriesEntry.getValue(),
+            retriesEntry.getKey() + 1);
+        if (!failed.isEmpty()) {
+          if (failed.getRetries() <= properties.getMaxRetries()) {
+            retryBatches.add(failed);
+          } else {
+            drop(failed);
+          }
+        }
+      }
+    }
+    return retryBatches;
+  }
+
+  /**
+   * Write the batches of one tenant with the same retries, return the rows failed to write.
+   */
+  private ExecMetricsIngestBatch flush(Long tenantId, List<ExecMetricsIngestBatch> batches,
+      int retries) {
+    List<ExecSample> samples = new ArrayList<>();
+    List<ExecSampleErrorCause> errorCauses = new ArrayList<>();
+    List<ExecSampleContent> contents = new ArrayList<>();
+    for (ExecMetricsIngestBatch batch : batches) {
+      samples.addAll(batch.getSamples());
+      errorCauses.addAll(batch.getErrorCauses());
+      contents.addAll(batch.getContents());
+    }
+
+    long startNanos = System.nanoTime();
+    try {
+      PrincipalContext.create().setTenantId(tenantId);
+      ExecMetricsIngestBatch failed = write(tenantId, samples, errorCauses, contents, retries);
+      if (nonNull(flushedRowsCounter)) {
+        flushedRowsCounter.increment(samples.size() - failed.getSamples().size());
+      }
+      return failed;
+    } finally {
+      PrincipalContext.remove();
+      if (nonNull(flushTimer)) {
+        flushTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  /**
+   * Write the rows of each table by its own multi-row insert in a transaction, so retrying the
+   * rows of a failed table does not duplicate the rows of the others.
+   *
+   * @return the rows failed to write, with the given retries
+   */
+  private ExecMetricsIngestBatch write(Long tenantId, List<ExecSample> samples,
+      List<ExecSampleErrorCause> errorCauses, List<ExecSampleContent> contents, int retries) {
+    List<ExecSample> failedSamples = List.of();
+    List<ExecSampleErrorCause> failedErrorCauses = List.of();
+    List<ExecSampleContent> failedContents = List.of();
+    try {
+      insertSamples(tenantId, samples);
+    } catch (Exception e) {
+      failedSamples = samples;
+      log.error("Write exec samples exception, tenantId: {}, samples: {}, retries: {}, cause: {}",
+          tenantId, samples.size(), retries, e.getMessage());
+    }
+    try {
+      if (isNotEmpty(errorCauses)) {
+        execSampleErrorCauseRepo.batchInsert0(errorCauses);
+      }
+    } catch (Exception e) {
+      failedErrorCauses = errorCauses;
+      log.error("Write exec sample error causes exception, tenantId: {}, retries: {}, cause: {}",
+          tenantId, retries, e.getMessage());
+    }
+    try {
+      if (isNotEmpty(contents)) {
+        execSampleContentRepo.batchInsert0(contents);
+      }
+    } catch (Exception e) {
+      failedContents = contents;
+      log.error("Write exec sample contents exception, tenantId: {}, retries: {}, cause: {}",
+          tenantId, retries, e.getMessage());
+    }
+    return new ExecMetricsIngestBatch(tenantId, failedSamples, failedErrorCauses,
+        failedContents, retries);
+  }
+
+  private void drop(ExecMetricsIngestBatch batch) {
+    int rows = batch.getSamples().size() + batch.getErrorCauses().size()
+        + batch.getContents().size();
+    droppedRows.addAndGet(rows);
+    if (nonNull(droppedCounter)) {
+      droppedCounter.increment(rows);
+    }
+    log.error("Drop exec metrics rows after {} retries, tenantId: {}, samples: {}, rows: {}",
+        properties.getMaxRetries(), batch.getTenantId(), batch.getSamples().size(), rows);
+  }
+
+  /**
+   * Number of rows dropped after their retries are used up since started.
+   */
+  public long getDroppedRows() {
+    return droppedRows.get();
+  }
+
+  private void insert(Long tenantId, List<ExecSample> samples,
+      List<ExecSampleErrorCause> errorCauses, List<ExecSampleContent> contents) {
+    // 1. Save main sampling sample and merge it into multi-node rollups
+    insertSamples(tenantId, samples);
+    // 2. Save sampling error cause
+    if (isNotEmpty(errorCauses)) {
+      execSampleErrorCauseRepo.batchInsert0(errorCauses);
+    }
+    // 3. Save sampling content
+    if (isNotEmpty(contents)) {
+      execSampleContentRepo.batchInsert0(contents);
+    }
+  }
+
+  private void insertSamples(Long tenantId, List<ExecSample> samples) {
+    if (isNotEmpty(samples)) {
+      execSampleRepo.batchInsert0(samples);
+      try {
+        execSampleRollupWriter.write(tenantId, samples);
+      } catch (Exception e) {
+        log.error("Write exec sample rollups exception, tenantId: {}, cause: {}", tenantId,
+            e.getMessage());
+      }
+    }
+  }
+
+}
@@ -0,0 +1,59 @@
+package cloud.xcan.angus.core.tester.infra.auth.cache;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * Permissions granted to a user on a resource by the auth rows of the user and the organizations
+ * the user belongs to.
+ */
+@Setter
+@Getter
+@Accessors(chain = true)
+public class AuthDecision {
+
+  /**
+   * Whether the user is an administrator, administrators have all permissions unless the admin
+   * permissions are ignored.
+   */
+  private boolean admin;
+
+  /**
+   * Whether one of the auth rows is the creator auth, creators have all permissions.
+   */
+  private boolean creator;
+
+  /**
+   * Names of the permissions in the auth rows.
+   */
+  private Set<String> permissions = new HashSet<>();
+
+  /**
+   * Ids of the user and its organizations the auth rows are found by.
+   */
+  private Set<Long> orgIds = new HashSet<>();
+
+  public static AuthDecision of(boolean creator, Collection<? extends Enum<?>> permissions) {
+    AuthDecision decision = new AuthDecision().setCreator(creator);
+    for (Enum<?> permission : permissions) {
+      decision.getPermissions().add(permission.name());
+    }
+    return decision;
+  }
+
+  /**
+   * Whether the auth rows contain the permission, which is not implied by being the creator.
+   */
+  public boolean contains(Enum<?> permission) {
+    return permissions.contains(permission.name());
+  }
+
+  public boolean hasPermission(Enum<?> permission) {
+    return creator || contains(permission);
+  }
+
+}
@@ -0,0 +1,300 @@
+package cloud.xcan.angus.core.tester.infra.auth.cache;
+
+import static cloud.xcan.angus.core.utils.CoreUtils.randomUUID;
+import static cloud.xcan.angus.core.utils.PrincipalContextUtils.getOptTenantId;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import cloud.xcan.angus.api.commonlink.CombinedTargetType;
+import cloud.xcan.angus.api.commonlink.user.UserRepo;
+import cloud.xcan.angus.core.tester.application.query.common.CommonQuery;
+import cloud.xcan.angus.spec.utils.JsonUtils;
+import jakarta.annotation.Resource;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Cache of the permission decisions of users on resources with authorization control, shared by
+ * the auth queries of scripts, services, apis, scenarios, plans, sprints, reports and mock
+ * services.
+ * <p>
+ * Decisions and authorization control flags are cached under the version of their resource and
+ * the version of their resource type. Changing auth rows, creators or the flag evicts the version,
+ * the next reader creates a new one and entries of older versions are no longer read. The version
+ * is evicted again after the transaction completes, so decisions loaded from the uncommitted or
+ * rolled back state are not served either.
+ * <p>
+ * Organization memberships and administrators are managed outside of the tester, the org ids and
+ * the admin flag of the user are resolved once per request and decisions found by other org ids or
+ * admin flag are loaded again.
+ */
+@Slf4j
+@Component
+public class AuthDecisionCache {
+
+  public static final String CACHE_NAME = "authDecision";
+
+  private static final String ORG_IDS_ATTRIBUTE = AuthDecisionCache.class.getName() + ".orgIds.";
+  private static final String ADMIN_ATTRIBUTE = AuthDecisionCache.class.getName() + ".admin";
+
+  @Resource
+  private CacheManager cacheManager;
+
+  @Resource
+  private UserRepo userRepo;
+
+  @Resource
+  private CommonQuery commonQuery;
+
+  /**
+   * Find the decision of a user on a resource.
+   *
+   * @param loader Loads the decision by the ids of the user and its organizations
+   */
+  public AuthDecision find(CombinedTargetType type, Long resourceId, Long userId,
+      Function<Collection<Long>, AuthDecision> loader) {
+    Set<Long> orgIds = findOrgAndUserIds(userId);
+    boolean admin = isAdmin();
+    // Read the versions before loading, a decision loaded before a change is stored under the
+    // evicted version and never read
+    String key = decisionKey(type, resourceId, userId);
+    AuthDecision decision = get(key, orgIds, admin);
+    if (isNull(decision)) {
+      decision = loader.apply(orgIds).setOrgIds(orgIds).setAdmin(admin);
+      put(key, decision);
+    }
+    return decision;
+  }
+
+  /**
+   * Find the decisions of a user on resources, only the missing decisions are loaded in one batch.
+   *
+   * @param loader Loads the decisions of resources by the ids of the user and its organizations,
+   *               resources without auth rows may be absent in the result
+   */
+  public Map<Long, AuthDecision> findAll(CombinedTargetType type, Collection<Long> resourceIds,
+      Long userId, BiFunction<Collection<Long>, Collection<Long>, Map<Long, AuthDecision>> loader) {
+    Map<Long, AuthDecision> decisions = new LinkedHashMap<>();
+    if (isEmpty(resourceIds)) {
+      return decisions;
+    }
+
+    Set<Long> orgIds = findOrgAndUserIds(userId);
+    boolean admin = isAdmin();
+    Map<Long, String> missingKeys = new LinkedHashMap<>();
+    for (Long resourceId : new HashSet<>(resourceIds)) {
+      String key = decisionKey(type, resourceId, userId);
+      AuthDecision decision = get(key, orgIds, admin);
+      if (isNull(decision)) {
+        missingKeys.put(resourceId, key);
+      } else {
+        decisions.put(resourceId, decision);
+      }
+    }
+
+    if (!missingKeys.isEmpty()) {
+      Map<Long, AuthDecision> loaded = loader.apply(missingKeys.keySet(), orgIds);
+      for (Map.Entry<Long, String> entry : missingKeys.entrySet()) {
+        AuthDecision decision = loaded.get(entry.getKey());
+        decision = (isNull(decision) ? new AuthDecision() : decision).setOrgIds(orgIds)
+            .setAdmin(admin);
+        put(entry.getValue(), decision);
+        decisions.put(entry.getKey(), decision);
+      }
+    }
+    return decisions;
+  }
+
+  /**
+   * Whether the authorization control of resource is enabled.
+   */
+  public boolean isAuthCtrl(CombinedTargetType type, Long resourceId, Supplier<Boolean> loader) {
+    String key = "ctrl_" + resourceKey(type, resourceId) + "_v" + version(type, resourceId);
+    try {
+      String authCtrl = getCache().get(key, String.class);
+      if (nonNull(authCtrl)) {
+        return Boolean.parseBoolean(authCtrl);
+      }
+    } catch (Exception e) {
+      log.warn("Read auth control cache exception, key: {}, cause: {}", key, e.getMessage());
+    }
+    boolean authCtrl = Boolean.TRUE.equals(loader.get());
+    try {
+      getCache().put(key, String.valueOf(authCtrl));
+    } catch (Exception e) {
+      log.warn("Update auth control cache exception, key: {}, cause: {}", key, e.getMessage());
+    }
+    return authCtrl;
+  }
+
+  /**
+   * Invalidate the decisions on a resource after its auth rows, creators or authorization control
+   * are changed.
+   */
+  public void evict(CombinedTargetType type, Long resourceId) {
+    String versionKey = versionKey(type, resourceId);
+    evictVersion(versionKey);
+    afterCompletion(() -> evictVersion(versionKey));
+  }
+
+  public void evict(CombinedTargetType type, Collection<Long> resourceIds) {
+    if (isEmpty(resourceIds)) {
+      return;
+    }
+    for (Long resourceId : new HashSet<>(resourceIds)) {
+      evict(type, resourceId);
+    }
+  }
+
+  /**
+   * Invalidate the decisions on all resources of a type in tenant, such as the apis of a service
+   * whose authorization control is changed.
+   */
+  public void evictAll(CombinedTargetType type) {
+    String versionKey = typeVersionKey(type);
+    evictVersion(versionKey);
+    afterCompletion(() -> evictVersion(versionKey));
+  }
+
+  /**
+   * Ids of the user and the organizations it belongs to, resolved once per request.
+   */
+  @SuppressWarnings("unchecked")
+  public Set<Long> findOrgAndUserIds(Long userId) {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    String attributeName = ORG_IDS_ATTRIBUTE + userId;
+    if (nonNull(attributes)) {
+      Object orgIds = attributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+      if (nonNull(orgIds)) {
+        return (Set<Long>) orgIds;
+      }
+    }
+    Set<Long> orgIds = new HashSet<>(userRepo.findOrgIdsById(userId));
+    orgIds.add(userId);
+    if (nonNull(attributes)) {
+      attributes.setAttribute(attributeName, orgIds, RequestAttributes.SCOPE_REQUEST);
+    }
+    return orgIds;
+  }
+
+  /**
+   * Whether the current user is an administrator, resolved once per request.
+   */
+  public boolean isAdmin() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (nonNull(attributes)) {
+      Object admin = attributes.getAttribute(ADMIN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+      if (nonNull(admin)) {
+        return (Boolean) admin;
+      }
+    }
+    boolean admin = commonQuery.isAdminUser();
+    if (nonNull(attributes)) {
+      attributes.setAttribute(ADMIN_ATTRIBUTE, admin, RequestAttributes.SCOPE_REQUEST);
+    }
+    return admin;
+  }
+
+  private AuthDecision get(String key, Set<Long> orgIds, boolean admin) {
+    try {
+      String json = getCache().get(key, String.class);
+      if (isEmpty(json)) {
+        return null;
+      }
+      AuthDecision decision = JsonUtils.fromJson(json, AuthDecision.class);
+      // Organization membership or administrator of the user is changed
+      return nonNull(decision) && orgIds.equals(decision.getOrgIds())
+          && admin == decision.isAdmin() ? decision : null;
+    } catch (Exception e) {
+      log.warn("Read auth decision cache exception, key: {}, cause: {}", key, e.getMessage());
+      return null;
+    }
+  }
+
+  private void put(String key, AuthDecision decision) {
+    try {
+      getCache().put(key, JsonUtils.toJson(decision));
+    } catch (Exception e) {
+      log.warn("Update auth decision cache exception, key: {}, cause: {}", key, e.getMessage());
+    }
+  }
+
+  private String decisionKey(CombinedTargetType type, Long resourceId, Long userId) {
+    return "decision_" + resourceKey(type, resourceId) + "_v" + version(type, resourceId)
+        + "_user_" + userId;
+  }
+
+  private String version(CombinedTargetType type, Long resourceId) {
+    return version(typeVersionKey(type)) + "_" + version(versionKey(type, resourceId));
+  }
+
+  private String version(String versionKey) {
+    try {
+      String version = getCache().get(versionKey, String.class);
+      if (nonNull(version)) {
+        return version;
+      }
+      version = randomUUID();
+      ValueWrapper existed = getCache().putIfAbsent(versionKey, version);
+      return nonNull(existed) && nonNull(existed.get()) ? String.valueOf(existed.get()) : version;
+    } catch (Exception e) {
+      // Not cached under an unknown version
+      log.warn("Read auth decision version exception, key: {}, cause: {}", versionKey,
+          e.getMessage());
+      return randomUUID();
+    }
+  }
+
+  private void evictVersion(String versionKey) {
+    try {
+      getCache().evict(versionKey);
+    } catch (Exception e) {
+      log.error("Evict auth decision version exception, key: {}, cause: {}", versionKey,
+          e.getMessage());
+    }
+  }
+
+  private static void afterCompletion(Runnable runnable) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          runnable.run();
+        }
+      });
+    }
+  }
+
+  private Cache getCache() {
+    return cacheManager.getCache(CACHE_NAME);
+  }
+
+  private static String resourceKey(CombinedTargetType type, Long resourceId) {
+    return "tenant_" + getOptTenantId() + "_" + type + "_" + resourceId;
+  }
+
+  private static String versionKey(CombinedTargetType type, Long resourceId) {
+    return "version_" + resourceKey(type, resourceId);
+  }
+
+  private static String typeVersionKey(CombinedTargetType type) {
+    return "version_tenant_" + getOptTenantId() + "_" + type;
+  }
+
+}
@@ -0,0 +1,68 @@
+package cloud.xcan.angus.core.tester.infra.config;
+
+import cloud.xcan.angus.core.tester.infra.config.ExecDispatchConfig.ExecDispatchProperties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration
+@EnableConfigurationProperties(ExecDispatchProperties.class)
+public class ExecDispatchConfig {
+
+  public static final String EXEC_DISPATCH_EXECUTOR = "execDispatchExecutor";
+
+  /**
+   * Executor of pushing start commands to agents and broadcasting them to remote controllers.
+   * <p>
+   * When all threads are busy and the queue is full, the dispatching thread pushes by itself
+   * instead of failing the execution.
+   */
+  @Bean(name = EXEC_DISPATCH_EXECUTOR, destroyMethod = "shutdown")
+  public ExecutorService execDispatchExecutor(ExecDispatchProperties properties) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(properties.getThreadNum(),
+        properties.getThreadNum(), 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(properties.getQueueCapacity()),
+        new CustomizableThreadFactory("ExecDispatchThread-"), new CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  @Setter
+  @Getter
+  @ConfigurationProperties(prefix = "xcan.exec-dispatch", ignoreUnknownFields = false)
+  public static final class ExecDispatchProperties {
+
+    /**
+     * Maximum number of concurrent pushes of all starting executions.
+     */
+    private int threadNum = 32;
+    /**
+     * Maximum number of pushes waiting for a thread.
+     */
+    private int queueCapacity = 1000;
+    /**
+     * Maximum time to wait for an agent to reply to the start command, in milliseconds.
+     */
+    private long agentTimeout = 60 * 1000;
+    /**
+     * Maximum time to wait for a remote controller to start its nodes, in milliseconds.
+     */
+    private long remoteTimeout = 60 * 1000;
+    /**
+     * Shard multi-node executions in proportion to node capacity when their node selector strategy
+     * selects nodes by specification or idle rate, otherwise shard evenly.
+     */
+    private boolean weightedSharding = true;
+
+  }
+
+}
@@ -0,0 +1,58 @@
+package cloud.xcan.angus.core.tester.infra.config;
+
+import cloud.xcan.angus.core.tester.infra.agent.ingest.ExecMetricsIngestQueue;
+import cloud.xcan.angus.core.tester.infra.config.ExecMetricsIngestConfig.ExecMetricsIngestProperties;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ExecMetricsIngestProperties.class)
+public class ExecMetricsIngestConfig {
+
+  @Bean(initMethod = "start", destroyMethod = "shutdown")
+  public ExecMetricsIngestQueue execMetricsIngestQueue(ExecMetricsIngestProperties properties) {
+    return new ExecMetricsIngestQueue(properties);
+  }
+
+  @Setter
+  @Getter
+  @ConfigurationProperties(prefix = "xcan.exec-metrics-ingest", ignoreUnknownFields = false)
+  public static final class ExecMetricsIngestProperties {
+
+    /**
+     * Write exec samples asynchronously in batches, otherwise on the remoting thread.
+     */
+    private boolean enabled = true;
+    /**
+     * Number of shard queues and writer threads, pushes of a tenant always use the same queue.
+     */
+    private int workerNum = 4;
+    /**
+     * Maximum number of pushes waiting in each queue.
+     */
+    private int queueCapacity = 2000;
+    /**
+     * Maximum number of pushes merged into one flush.
+     */
+    private int maxBatchSize = 200;
+    /**
+     * Maximum time to wait for more pushes after the first one, in milliseconds.
+     */
+    private long flushInterval = 1000;
+    /**
+     * Maximum time to wait for a full queue before writing synchronously, in milliseconds.
+     */
+    private long offerTimeout = 2000;
+    /**
+     * Maximum number of retries of rows failed to write, the rows are dropped and counted after
+     * that. Rows are retried by the next flush of the same worker.
+     */
+    private int maxRetries = 3;
+
+  }
+
+}
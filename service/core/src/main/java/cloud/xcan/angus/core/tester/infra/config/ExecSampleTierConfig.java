@@ -0,0 +1,58 @@
+package cloud.xcan.angus.core.tester.infra.config;
+
+import cloud.xcan.angus.core.tester.infra.config.ExecSampleTierConfig.ExecSampleTierProperties;
+import cloud.xcan.angus.core.tester.infra.metricsds.ExecSampleTierCompactor;
+import java.time.Duration;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ExecSampleTierProperties.class)
+public class ExecSampleTierConfig {
+
+  @Bean
+  public ExecSampleTierCompactor execSampleTierCompactor(ExecSampleTierProperties properties) {
+    return new ExecSampleTierCompactor(properties);
+  }
+
+  @Setter
+  @Getter
+  @ConfigurationProperties(prefix = "xcan.exec-sample-tier", ignoreUnknownFields = false)
+  public static final class ExecSampleTierProperties {
+
+    /**
+     * Compact rollups into downsampled tiers and query the coarsest tier fitting the point budget.
+     */
+    private boolean enabled = true;
+    /**
+     * Bucket sizes of the downsampled tiers, each tier is compacted from the finest tier it is a
+     * multiple of.
+     */
+    private List<Duration> resolutions = List.of(Duration.ofMinutes(1), Duration.ofMinutes(10),
+        Duration.ofHours(1));
+    /**
+     * Maximum number of points per name returned by a sample query before a coarser tier is used.
+     */
+    private int pointBudget = 600;
+    /**
+     * Maximum number of buckets of one tier compacted per execution in one run.
+     */
+    private int maxBucketsPerRun = 60;
+    /**
+     * Number of minutes to keep compacting an execution after it ends.
+     */
+    private int endedCompactMinutes = 30;
+    /**
+     * Days to keep the raw rollups, the maximum days of metrics is used when it is not configured.
+     * Expiring raw rollups earlier leaves only the downsampled tiers of old executions.
+     */
+    private Long rawReservedDay;
+
+  }
+
+}
@@ -0,0 +1,61 @@
+package cloud.xcan.angus.core.tester.infra.config;
+
+import cloud.xcan.angus.core.tester.infra.config.ExecSchedulingConfig.ExecSchedulingProperties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration
+@EnableConfigurationProperties(ExecSchedulingProperties.class)
+public class ExecSchedulingConfig {
+
+  public static final String EXEC_SCHEDULING_EXECUTOR = "execSchedulingExecutor";
+
+  /**
+   * Executor of starting and generating test results of the executions claimed by this controller.
+   */
+  @Bean(name = EXEC_SCHEDULING_EXECUTOR, destroyMethod = "shutdown")
+  public ExecutorService execSchedulingExecutor(ExecSchedulingProperties properties) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(properties.getThreadNum(),
+        properties.getThreadNum(), 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(properties.getStartBatchSize()
+            + properties.getResultBatchSize()),
+        new CustomizableThreadFactory("ExecSchedulingThread-"), new CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  @Setter
+  @Getter
+  @ConfigurationProperties(prefix = "xcan.exec-scheduling", ignoreUnknownFields = false)
+  public static final class ExecSchedulingProperties {
+
+    /**
+     * Maximum number of concurrent starts and result generations of this controller.
+     */
+    private int threadNum = 8;
+    /**
+     * Maximum number of due executions claimed to start by this controller in one run.
+     */
+    private int startBatchSize = 20;
+    /**
+     * Maximum number of completed executions claimed to generate test results in one run.
+     */
+    private int resultBatchSize = 30;
+    /**
+     * Time after which the claims of a crashed controller can be taken over, in minutes.
+     */
+    private int claimTimeoutMinutes = 5;
+
+  }
+
+}
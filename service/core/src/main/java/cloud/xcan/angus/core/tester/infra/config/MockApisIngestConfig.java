@@ -0,0 +1,52 @@
+package cloud.xcan.angus.core.tester.infra.config;
+
+import cloud.xcan.angus.core.tester.infra.config.MockApisIngestConfig.MockApisIngestProperties;
+import cloud.xcan.angus.core.tester.infra.mock.MockApisIngestBuffer;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(MockApisIngestProperties.class)
+public class MockApisIngestConfig {
+
+  @Bean(initMethod = "start", destroyMethod = "shutdown")
+  public MockApisIngestBuffer mockApisIngestBuffer(MockApisIngestProperties properties) {
+    return new MockApisIngestBuffer(properties);
+  }
+
+  @Setter
+  @Getter
+  @ConfigurationProperties(prefix = "xcan.mock-apis-ingest", ignoreUnknownFields = false)
+  public static final class MockApisIngestProperties {
+
+    /**
+     * Buffer counters and request logs pushed by mock services and write them in batches,
+     * otherwise write them on the request thread.
+     */
+    private boolean enabled = true;
+    /**
+     * Interval of flushing buffered counters and request logs, in milliseconds.
+     */
+    private long flushInterval = 1000;
+    /**
+     * Maximum number of mock apis with pending counters, counters of other mock apis are written
+     * synchronously when exceeded.
+     */
+    private int maxPendingCounters = 10000;
+    /**
+     * Maximum number of request logs waiting to be written, the overflowing logs are written
+     * synchronously.
+     */
+    private int logQueueCapacity = 10000;
+    /**
+     * Maximum number of request logs written by one multi-row insert.
+     */
+    private int logMaxBatchSize = 500;
+
+  }
+
+}
@@ -0,0 +1,65 @@
+package cloud.xcan.angus.core.tester.infra.config;
+
+import cloud.xcan.angus.core.tester.infra.config.NodeAgentInstallConfig.NodeAgentInstallProperties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration
+@EnableConfigurationProperties(NodeAgentInstallProperties.class)
+public class NodeAgentInstallConfig {
+
+  public static final String NODE_AGENT_INSTALL_EXECUTOR = "nodeAgentInstallExecutor";
+
+  /**
+   * Executor of installing agents on the nodes purchased online.
+   */
+  @Bean(name = NODE_AGENT_INSTALL_EXECUTOR, destroyMethod = "shutdown")
+  public ExecutorService nodeAgentInstallExecutor(NodeAgentInstallProperties properties) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(properties.getThreadNum(),
+        properties.getThreadNum(), 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(properties.getBatchSize()),
+        new CustomizableThreadFactory("NodeAgentInstallThread-"), new CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  @Setter
+  @Getter
+  @ConfigurationProperties(prefix = "xcan.node-agent-install", ignoreUnknownFields = false)
+  public static final class NodeAgentInstallProperties {
+
+    /**
+     * Maximum number of nodes installing agents at the same time.
+     */
+    private int threadNum = 10;
+    /**
+     * Maximum number of nodes installed in one run.
+     */
+    private int batchSize = 50;
+    /**
+     * Time to wait for the installation of one batch, in minutes.
+     */
+    private int batchTimeoutMinutes = 20;
+    /**
+     * Time to wait before retrying a node failed to connect, in minutes.
+     */
+    private int retryIntervalMinutes = 30;
+    /**
+     * Time after which an installation still in progress is considered abandoned, e.g. the
+     * controller stopped, and is started again, in minutes.
+     */
+    private int installTimeoutMinutes = 120;
+
+  }
+
+}
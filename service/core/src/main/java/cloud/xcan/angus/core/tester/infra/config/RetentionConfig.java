@@ -0,0 +1,72 @@
+package cloud.xcan.angus.core.tester.infra.config;
+
+import static java.util.Objects.nonNull;
+
+import cloud.xcan.angus.core.tester.infra.config.RetentionConfig.RetentionProperties;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RetentionProperties.class)
+public class RetentionConfig {
+
+  @Setter
+  @Getter
+  @ConfigurationProperties(prefix = "xcan.retention", ignoreUnknownFields = false)
+  public static final class RetentionProperties {
+
+    /**
+     * Scan all targets by the first run after startup, so that targets which exceeded the
+     * reserved number before startup are trimmed as well.
+     */
+    private boolean fullSweepOnStartup = true;
+    /**
+     * Time range of records scanned by the first run after startup when the full sweep is
+     * disabled, in milliseconds.
+     */
+    private long lookback = 10 * 60 * 1000;
+    /**
+     * Time range scanned again by each run to tolerate clock skew between controllers, in
+     * milliseconds.
+     */
+    private long overlap = 60 * 1000;
+    /**
+     * Maximum number of targets loaded per query.
+     */
+    private int batchSize = 2000;
+    /**
+     * Default number of activities reserved for each resource, the system setting of maximum
+     * resource activities is used when not configured.
+     */
+    private Long activityReservedNum;
+    /**
+     * Default number of request logs reserved for each mock api.
+     */
+    private long mockApisLogReservedNum = 100;
+    /**
+     * Number of activities reserved for each resource of tenants, keyed by tenant id.
+     */
+    private Map<Long, Long> tenantActivityReservedNum = new HashMap<>();
+    /**
+     * Number of request logs reserved for each mock api of tenants, keyed by tenant id.
+     */
+    private Map<Long, Long> tenantMockApisLogReservedNum = new HashMap<>();
+
+    public long getActivityReservedNum(Long tenantId, long defaultReservedNum) {
+      Long reservedNum = tenantActivityReservedNum.get(tenantId);
+      return nonNull(reservedNum) && reservedNum > 0 ? reservedNum : defaultReservedNum;
+    }
+
+    public long getMockApisLogReservedNum(Long tenantId) {
+      Long reservedNum = tenantMockApisLogReservedNum.get(tenantId);
+      return nonNull(reservedNum) && reservedNum > 0 ? reservedNum : mockApisLogReservedNum;
+    }
+
+  }
+
+}
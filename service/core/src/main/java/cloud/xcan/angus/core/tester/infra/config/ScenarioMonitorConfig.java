@@ -0,0 +1,71 @@
+package cloud.xcan.angus.core.tester.infra.config;
+
+import cloud.xcan.angus.core.tester.infra.config.ScenarioMonitorConfig.ScenarioMonitorProperties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration
+@EnableConfigurationProperties(ScenarioMonitorProperties.class)
+public class ScenarioMonitorConfig {
+
+  public static final String SCENARIO_MONITOR_EXECUTOR = "scenarioMonitorExecutor";
+
+  /**
+   * Executor of the scenario monitors claimed by this controller, monitors are claimed only for
+   * free threads, and a rejected monitor is released instead of running on the scheduler thread.
+   */
+  @Bean(name = SCENARIO_MONITOR_EXECUTOR, destroyMethod = "shutdown")
+  public ExecutorService scenarioMonitorExecutor(ScenarioMonitorProperties properties) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(properties.getThreadNum(),
+        properties.getThreadNum(), 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(properties.getBatchSize()),
+        new CustomizableThreadFactory("ScenarioMonitorRunThread-"), new AbortPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  @Setter
+  @Getter
+  @ConfigurationProperties(prefix = "xcan.scenario-monitor", ignoreUnknownFields = false)
+  public static final class ScenarioMonitorProperties {
+
+    /**
+     * Maximum number of concurrent monitor runs of this controller.
+     */
+    private int threadNum = 10;
+    /**
+     * Maximum number of concurrent monitor runs of one tenant on this controller.
+     */
+    private int tenantConcurrency = 2;
+    /**
+     * Maximum number of due monitors loaded by this controller in one run, only the monitors
+     * within the free threads and the tenant limits are claimed.
+     */
+    private int batchSize = 100;
+    /**
+     * Time after which a monitor run is cancelled, in seconds.
+     */
+    private int runTimeoutSeconds = 600;
+    /**
+     * Time after which the claims of a crashed controller can be taken over, in minutes. The
+     * claims of running monitors are renewed when half of the time has passed.
+     */
+    private int claimTimeoutMinutes = 15;
+    /**
+     * Schedule lag of a monitor above which a warning is logged, in seconds.
+     */
+    private int lagWarnSeconds = 120;
+
+  }
+
+}
@@ -0,0 +1,56 @@
+package cloud.xcan.angus.core.tester.infra.config;
+
+import cloud.xcan.angus.core.tester.infra.config.ServicesSyncConfig.ServicesSyncProperties;
+import cloud.xcan.angus.core.tester.infra.util.OpenApiDocFetcher;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ServicesSyncProperties.class)
+public class ServicesSyncConfig {
+
+  @Bean
+  public OpenApiDocFetcher openApiDocFetcher(ServicesSyncProperties properties) {
+    return new OpenApiDocFetcher(Duration.ofSeconds(properties.getConnectTimeoutSeconds()),
+        Duration.ofSeconds(properties.getReadTimeoutSeconds()));
+  }
+
+  @Setter
+  @Getter
+  @ConfigurationProperties(prefix = "xcan.services-sync", ignoreUnknownFields = false)
+  public static final class ServicesSyncProperties {
+
+    /**
+     * Whether to run the scheduled synchronizations on this controller.
+     */
+    private boolean enabled = true;
+    /**
+     * Maximum number of due synchronizations run by the job in one run.
+     */
+    private int batchSize = 50;
+    /**
+     * Minimum interval of scheduled synchronizations, shorter configured intervals are raised to
+     * it, in minutes.
+     */
+    private int minIntervalMinutes = 5;
+    /**
+     * Timeout of connecting to the documentation url, in seconds.
+     */
+    private int connectTimeoutSeconds = 10;
+    /**
+     * Timeout of reading the document, in seconds.
+     */
+    private int readTimeoutSeconds = 60;
+    /**
+     * Number of histories reserved for each synchronization configuration.
+     */
+    private int historyReservedNum = 200;
+
+  }
+
+}
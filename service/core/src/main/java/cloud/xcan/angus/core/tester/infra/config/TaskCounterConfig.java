@@ -0,0 +1,31 @@
+package cloud.xcan.angus.core.tester.infra.config;
+
+import cloud.xcan.angus.core.tester.infra.config.TaskCounterConfig.TaskCounterProperties;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TaskCounterProperties.class)
+public class TaskCounterConfig {
+
+  @Setter
+  @Getter
+  @ConfigurationProperties(prefix = "xcan.task-counter", ignoreUnknownFields = false)
+  public static final class TaskCounterProperties {
+
+    /**
+     * Whether to read the unfiltered task counts of projects and sprints from the counter table.
+     */
+    private boolean enabled = false;
+    /**
+     * Counters older than this are recounted on read, which bounds the drift caused by changes
+     * not maintained incrementally, in minutes.
+     */
+    private int maxStalenessMinutes = 60;
+
+  }
+
+}
@@ -0,0 +1,71 @@
+package cloud.xcan.angus.core.tester.infra.config;
+
+import cloud.xcan.angus.core.tester.infra.config.TranslationConfig.TranslationProperties;
+import cloud.xcan.angus.extension.angustester.deepseek.api.TranslationServiceProvider;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration
+@EnableConfigurationProperties(TranslationProperties.class)
+public class TranslationConfig {
+
+  public static final String TRANSLATION_EXECUTOR = "translationExecutor";
+
+  /**
+   * Executor of translation calls, shared by all translations to bound the concurrent calls to
+   * translation providers.
+   */
+  @Bean(name = TRANSLATION_EXECUTOR, destroyMethod = "shutdown")
+  public ExecutorService translationExecutor(TranslationProperties properties) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(properties.getConcurrency(),
+        properties.getConcurrency(), 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(properties.getQueueCapacity()),
+        new CustomizableThreadFactory("TranslationThread-"), new CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  @Setter
+  @Getter
+  @ConfigurationProperties(prefix = "xcan.translation", ignoreUnknownFields = false)
+  public static final class TranslationProperties {
+
+    /**
+     * Translation provider plugin used to translate services, the Local provider is a stub for
+     * testing.
+     */
+    private TranslationServiceProvider provider = TranslationServiceProvider.DeepSeek;
+    /**
+     * Maximum number of concurrent calls to the translation provider.
+     */
+    private int concurrency = 4;
+    /**
+     * Maximum number of batches waiting for translation.
+     */
+    private int queueCapacity = 1000;
+    /**
+     * Maximum number of text segments translated in one call.
+     */
+    private int batchSize = 20;
+    /**
+     * Maximum number of characters translated in one call, a longer segment is translated alone.
+     */
+    private int batchMaxChars = 4000;
+    /**
+     * Whether to reuse and save translations in the translation memory of tenant.
+     */
+    private boolean memoryEnabled = true;
+
+  }
+
+}
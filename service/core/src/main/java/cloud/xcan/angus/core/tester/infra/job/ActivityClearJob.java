@@ -1,27 +1,44 @@
 package cloud.xcan.angus.core.tester.infra.job;
 
-import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 import cloud.xcan.angus.api.commonlink.setting.Setting;
 import cloud.xcan.angus.api.commonlink.setting.SettingKey;
 import cloud.xcan.angus.api.manager.SettingManager;
 import cloud.xcan.angus.core.job.JobTemplate;
+import cloud.xcan.angus.core.tester.domain.RetentionTarget;
 import cloud.xcan.angus.core.tester.domain.activity.ActivityRepo;
+import cloud.xcan.angus.core.tester.infra.config.RetentionConfig.RetentionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Resource;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * Trim the activities of each resource to the reserved number.
+ * <p>
+ * Only resources with activities added since the previous run can exceed the reserved number, so
+ * each run loads them by the indexed operation date instead of aggregating the whole table. The
+ * first run after startup scans all resources once, the resources may exceed the reserved number
+ * before startup. The activities of a resource older than its reserved ones are deleted by one id
+ * range delete.
+ */
 @Slf4j
 @Component
 public class ActivityClearJob {
 
+  public static final String METRIC_RECLAIMED_ROWS = "tester.retention.reclaimed.rows";
+
   private static final String LOCK_KEY = "tester:job:ActivityClearJob";
 
   private static final Long RESERVED_NUM = 200L;
-  private static final Long COUNT = 2000L;
 
   @Resource
   private JobTemplate jobTemplate;
@@ -32,28 +49,76 @@ public class ActivityClearJob {
   @Resource
   private SettingManager settingManager;
 
+  @Resource
+  private RetentionProperties retentionProperties;
+
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry;
+
   /**
-   * Only {@link ActivityClearJob#RESERVED_NUM} activities are reserved for each target
+   * Operation date scanned from by the next run, which is the start time of the last run on this
+   * instance.
+   */
+  private volatile LocalDateTime lastScanDate;
+
+  /**
+   * Only {@link ActivityClearJob#RESERVED_NUM} activities are reserved for each target by default
    */
   @Scheduled(fixedDelay = 31 * 1000, initialDelay = 1000)
   public void execute() {
     jobTemplate.execute(LOCK_KEY, 6, TimeUnit.MINUTES, () -> {
-      long reservedNum = getReservedNum();
-      List<Long> targetIds = activityRepo.getTargetIdsHavingCount(reservedNum, COUNT);
-      if (isNotEmpty(targetIds)) {
-        for (Long targetId : targetIds) {
+      LocalDateTime scanDate = LocalDateTime.now();
+      boolean fullSweep = isNull(lastScanDate) && retentionProperties.isFullSweepOnStartup();
+      LocalDateTime afterDate = isNull(lastScanDate)
+          ? scanDate.minus(retentionProperties.getLookback(), ChronoUnit.MILLIS)
+          : lastScanDate.minus(retentionProperties.getOverlap(), ChronoUnit.MILLIS);
+      long defaultReservedNum = getReservedNum();
+
+      long targetNum = 0;
+      long reclaimedNum = 0;
+      Long afterTargetId = Long.MIN_VALUE;
+      List<RetentionTarget> targets;
+      do {
+        targets = fullSweep
+            ? activityRepo.findTargets(afterTargetId, retentionProperties.getBatchSize())
+            : activityRepo.findTargetsByOptDateAfter(afterDate, afterTargetId,
+                retentionProperties.getBatchSize());
+        for (RetentionTarget target : targets) {
+          long reservedNum = retentionProperties.getActivityReservedNum(target.getTenantId(),
+              defaultReservedNum);
           try {
-            // Submitted transaction by repo
-            activityRepo.deleteByTargetIdAndCount(targetId, reservedNum);
+            Long oldestReservedId = activityRepo.findOldestReservedId(target.getTargetId(),
+                Math.max(reservedNum - 1, 0));
+            if (nonNull(oldestReservedId)) {
+              // Submitted transaction by repo
+              reclaimedNum += activityRepo.deleteByTargetIdAndIdBefore(target.getTargetId(),
+                  oldestReservedId);
+            }
           } catch (Exception e) {
             log.error("ActivityClearJob#inner execute fail:{}", e.getMessage());
           }
+          afterTargetId = target.getTargetId();
         }
+        targetNum += targets.size();
+      } while (targets.size() >= retentionProperties.getBatchSize());
+
+      lastScanDate = scanDate;
+      if (nonNull(meterRegistry)) {
+        meterRegistry.counter(METRIC_RECLAIMED_ROWS, "table", "activity")
+            .increment(reclaimedNum);
+      }
+      if (reclaimedNum > 0 || fullSweep) {
+        log.info("ActivityClearJob reclaimed {} activities of {} targets, fullSweep: {}",
+            reclaimedNum, targetNum, fullSweep);
       }
     });
   }
 
   private long getReservedNum() {
+    if (nonNull(retentionProperties.getActivityReservedNum())
+        && retentionProperties.getActivityReservedNum() > 0) {
+      return retentionProperties.getActivityReservedNum();
+    }
     long reservedNum = RESERVED_NUM;
     try {
       Setting setting = settingManager.setting(SettingKey.MAX_RESOURCE_ACTIVITIES);
@@ -0,0 +1,75 @@
+package cloud.xcan.angus.core.tester.infra.job;
+
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+
+import cloud.xcan.angus.core.job.JobTemplate;
+import cloud.xcan.angus.core.tester.domain.exec.ExecInfo;
+import cloud.xcan.angus.core.tester.domain.exec.ExecInfoRepo;
+import cloud.xcan.angus.core.tester.infra.config.ExecSampleTierConfig.ExecSampleTierProperties;
+import cloud.xcan.angus.core.tester.infra.metricsds.ExecSampleRollupWriter;
+import cloud.xcan.angus.core.tester.infra.metricsds.ExecSampleTierCompactor;
+import cloud.xcan.angus.spec.principal.Principal;
+import cloud.xcan.angus.spec.principal.PrincipalContext;
+import jakarta.annotation.Resource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuild the failed rollups of running and recently ended executions from the node samples, and
+ * compact the rollups into downsampled tiers.
+ */
+@Slf4j
+@Component
+public class ExecSampleCompactJob {
+
+  private static final String LOCK_KEY = "tester:job:ExecSampleCompactJob";
+  private static final int COUNT = 500;
+
+  @Resource
+  private JobTemplate jobTemplate;
+
+  @Resource
+  private ExecInfoRepo execInfoRepo;
+
+  @Resource
+  private ExecSampleRollupWriter execSampleRollupWriter;
+
+  @Resource
+  private ExecSampleTierCompactor execSampleTierCompactor;
+
+  @Resource
+  private ExecSampleTierProperties execSampleTierProperties;
+
+  @Scheduled(fixedDelay = 60 * 1000, initialDelay = 90 * 1000)
+  public void execute() {
+    jobTemplate.execute(LOCK_KEY, 10, TimeUnit.MINUTES, () -> {
+      List<ExecInfo> execs = execInfoRepo.findRunningOrEndedAfter(LocalDateTime.now()
+          .minusMinutes(execSampleTierProperties.getEndedCompactMinutes()), COUNT);
+      if (isEmpty(execs)) {
+        return;
+      }
+      int rows = 0;
+      for (ExecInfo exec : execs) {
+        try {
+          PrincipalContext.set(new Principal().setOptTenantId(exec.getTenantId()));
+          // Backfill before compacting, otherwise tiers are compacted from the gapped rollups
+          execSampleRollupWriter.backfill(exec);
+          if (execSampleTierCompactor.isEnabled()) {
+            rows += execSampleTierCompactor.compact(exec);
+          }
+        } catch (Exception e) {
+          log.error("Compact exec sample tiers exception, execId: {}, cause: {}", exec.getId(),
+              e.getMessage());
+        } finally {
+          PrincipalContext.remove();
+        }
+      }
+      log.debug("ExecSampleCompactJob execute successfully, execs: {}, rows: {}", execs.size(),
+          rows);
+    });
+  }
+}
@@ -1,17 +1,10 @@
 package cloud.xcan.angus.core.tester.infra.job;
 
-import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
-
-import cloud.xcan.angus.core.job.JobTemplate;
 import cloud.xcan.angus.core.tester.application.cmd.exec.ExecCmd;
-import cloud.xcan.angus.core.tester.domain.exec.Exec;
 import cloud.xcan.angus.core.tester.domain.exec.ExecRepo;
+import cloud.xcan.angus.core.tester.infra.config.ExecSchedulingConfig.ExecSchedulingProperties;
 import cloud.xcan.angus.core.tester.interfaces.exec.facade.dto.ExecStartDto;
-import cloud.xcan.angus.spec.principal.Principal;
-import cloud.xcan.angus.spec.principal.PrincipalContext;
 import jakarta.annotation.Resource;
-import java.util.List;
-import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -20,17 +13,19 @@ import org.springframework.stereotype.Component;
  * Start tasks according to priority. If scheduling is unsuccessful for more than 1 day (Timeout by
  * ExecTimeoutJob), it will automatically fail. After the failure, it needs to be manually started.
  * <p>
+ * Each controller claims its own batch of due tasks and starts them concurrently, see
+ * {@link ExecTaskClaimer}.
+ * <p>
  * Limit: The number of executing tasks cannot exceed the quota for concurrent tasks.
  */
 @Slf4j
 @Component
 public class ExecStartJob {
 
-  private static final String LOCK_KEY = "tester:job:ExecStartJob";
-  private static final int COUNT = 10/*50 -> Prevent locking for too long when the quantity is too large. */;
+  private static final String JOB_NAME = "ExecStartJob";
 
   @Resource
-  private JobTemplate jobTemplate;
+  private ExecTaskClaimer execTaskClaimer;
 
   @Resource
   private ExecRepo execRepo;
@@ -38,24 +33,20 @@ public class ExecStartJob {
   @Resource
   private ExecCmd execCmd;
 
+  @Resource
+  private ExecSchedulingProperties execSchedulingProperties;
+
   @Scheduled(fixedDelay = 3 * 1300, initialDelay = 1210)
   public void execute() {
-    jobTemplate.execute(LOCK_KEY, 3, TimeUnit.MINUTES, () -> {
-      // Submitted transaction by repo
-      List<Exec> execDbs = execRepo.findSchedulingTask(COUNT);
-      if (isNotEmpty(execDbs)) {
-        for (Exec execDb : execDbs) {
-          try {
-            PrincipalContext.set(new Principal().setOptTenantId(execDb.getTenantId()));
-            execCmd.start0(execDb, new ExecStartDto().setId(execDb.getId()).setBroadcast(true));
-          } catch (Exception e) {
-            log.error("ExecStartJob#inner execute fail: ", e);
-          } finally {
-            PrincipalContext.remove();
-          }
-        }
-      }
-    });
+    // Submitted transaction by repo
+    int started = execTaskClaimer.claimAndRun(JOB_NAME,
+        now -> execRepo.findUnclaimedSchedulingTaskIds(now,
+            execSchedulingProperties.getStartBatchSize()),
+        execDb -> execCmd.start0(execDb,
+            new ExecStartDto().setId(execDb.getId()).setBroadcast(true)));
+    if (started > 0) {
+      log.debug("ExecStartJob execute successfully, started: {}", started);
+    }
   }
 
 }
@@ -0,0 +1,146 @@
+package cloud.xcan.angus.core.tester.infra.job;
+
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
+import static java.lang.String.format;
+
+import cloud.xcan.angus.core.tester.application.cmd.exec.ExecNodeCmd;
+import cloud.xcan.angus.core.tester.application.query.exec.ExecQuery;
+import cloud.xcan.angus.core.tester.domain.exec.Exec;
+import cloud.xcan.angus.core.tester.domain.exec.ExecRepo;
+import cloud.xcan.angus.core.tester.domain.exec.node.ExecNode;
+import cloud.xcan.angus.core.tester.domain.exec.node.ExecNodeRepo;
+import cloud.xcan.angus.spec.experimental.DistributedLock;
+import jakarta.annotation.Resource;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reserve the concurrent task quota of tenant and the free nodes for starting executions.
+ * <p>
+ * Checking the running tasks and starting a task are not atomic, and a task is running only after
+ * its nodes are started, so concurrent starts of the controllers could exceed the quota and pick
+ * the same free node. The quota is checked and reserved under a lock of tenant, and the reservation
+ * counts as a running task until the start finishes or the reservation expires. Free nodes are
+ * selected and reserved as execution nodes under a global lock, because free nodes are shared by
+ * all tenants.
+ */
+@Slf4j
+@Component
+public class ExecStartReserver {
+
+  private static final String QUOTA_LOCK_KEY_FMT = "tester:exec:quota:%s";
+  private static final String FREE_NODE_LOCK_KEY = "tester:exec:freeNode";
+  private static final long LOCK_EXPIRE_SECONDS = 30;
+  private static final long LOCK_WAIT_MILLIS = 10 * 1000;
+  private static final long LOCK_RETRY_MILLIS = 50;
+  /**
+   * Same as the start lock of execution, a crashed controller can not occupy the quota longer.
+   */
+  private static final long RESERVE_TIMEOUT_MINUTES = 2;
+
+  @Resource
+  private ExecRepo execRepo;
+
+  @Resource
+  private ExecNodeRepo execNodeRepo;
+
+  @Resource
+  private ExecNodeCmd execNodeCmd;
+
+  @Resource
+  private ExecQuery execQuery;
+
+  @Resource
+  private DistributedLock distributedLock;
+
+  /**
+   * Check the concurrent task quota of tenant and reserve one task for the execution.
+   *
+   * @return false when the lock of tenant is not acquired in time, the execution should be
+   * scheduled again
+   * @throws cloud.xcan.angus.core.biz.exception.QuotaException when the quota is exceeded
+   */
+  public boolean reserveQuota(Exec execDb) {
+    String lockKey = format(QUOTA_LOCK_KEY_FMT, execDb.getTenantId());
+    String lockValue = String.valueOf(execDb.getId());
+    if (!lock(lockKey, lockValue)) {
+      return false;
+    }
+    try {
+      LocalDateTime now = LocalDateTime.now();
+      long occupied = execRepo.countQuotaOccupied(execDb.getTenantId(), execDb.getId(), now);
+      execQuery.checkConcurrentTaskQuota0(occupied, 1, execDb.isTrial());
+      execRepo.reserveStartById(execDb.getId(), now.plusMinutes(RESERVE_TIMEOUT_MINUTES));
+      return true;
+    } finally {
+      unlock(lockKey, lockValue);
+    }
+  }
+
+  /**
+   * Select free nodes and save them as the nodes of execution, the saved nodes are excluded by
+   * the selection of other executions.
+   *
+   * @param selector Select the IDs of free nodes, exceptions are thrown to the caller
+   * @return Reserved node IDs, empty when the global lock is not acquired in time
+   */
+  public List<Long> reserveFreeNodes(Exec execDb, Supplier<List<Long>> selector) {
+    String lockValue = String.valueOf(execDb.getId());
+    if (!lock(FREE_NODE_LOCK_KEY, lockValue)) {
+      return List.of();
+    }
+    try {
+      List<Long> nodeIds = selector.get();
+      if (isNotEmpty(nodeIds)) {
+        // Important: Nodes of finished executions are cleared, see ExecNodeRepo#deleteFinishNode
+        execRepo.updatePendingStatusById(execDb.getId());
+        execNodeCmd.add0(nodeIds.stream()
+            .map(x -> new ExecNode().setExecId(execDb.getId()).setNodeId(x)).toList());
+      }
+      return nodeIds;
+    } finally {
+      unlock(FREE_NODE_LOCK_KEY, lockValue);
+    }
+  }
+
+  /**
+   * Release the quota reservation and the reserved nodes which failed to start, the nodes shared
+   * with other executions are kept for them.
+   */
+  public void release(Exec execDb, Collection<Long> failedNodeIds) {
+    try {
+      if (isNotEmpty(failedNodeIds)) {
+        execNodeRepo.deleteByExecIdAndNodeIdIn(execDb.getId(), failedNodeIds);
+      }
+    } finally {
+      execRepo.releaseStartReserveById(execDb.getId());
+    }
+  }
+
+  protected boolean lock(String key, String value) {
+    long deadline = System.currentTimeMillis() + LOCK_WAIT_MILLIS;
+    while (!distributedLock.tryLock(key, value, LOCK_EXPIRE_SECONDS, TimeUnit.SECONDS)) {
+      if (System.currentTimeMillis() >= deadline) {
+        log.warn("Acquire lock `{}` timeout, execId: {}", key, value);
+        return false;
+      }
+      try {
+        Thread.sleep(LOCK_RETRY_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  protected void unlock(String key, String value) {
+    distributedLock.releaseLock(key, value);
+  }
+
+}
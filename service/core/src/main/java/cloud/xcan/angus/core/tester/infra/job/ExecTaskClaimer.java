@@ -0,0 +1,104 @@
+package cloud.xcan.angus.core.tester.infra.job;
+
+import static cloud.xcan.angus.core.tester.infra.config.ExecSchedulingConfig.EXEC_SCHEDULING_EXECUTOR;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+
+import cloud.xcan.angus.core.tester.domain.exec.Exec;
+import cloud.xcan.angus.core.tester.domain.exec.ExecRepo;
+import cloud.xcan.angus.core.tester.infra.config.ExecSchedulingConfig.ExecSchedulingProperties;
+import cloud.xcan.angus.spec.principal.Principal;
+import cloud.xcan.angus.spec.principal.PrincipalContext;
+import jakarta.annotation.Resource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Claim due executions for this controller and process them concurrently.
+ * <p>
+ * Instead of one controller holding a cluster-wide lock, every controller claims a batch of
+ * executions by setting a claim token with a conditional update, so the scheduling throughput
+ * scales with the number of controllers. Claims are released after processing, and the claims of a
+ * crashed controller expire after {@code claimTimeoutMinutes}.
+ */
+@Slf4j
+@Component
+public class ExecTaskClaimer {
+
+  @Resource
+  private ExecRepo execRepo;
+
+  @Resource(name = EXEC_SCHEDULING_EXECUTOR)
+  private ExecutorService execSchedulingExecutor;
+
+  @Resource
+  private ExecSchedulingProperties execSchedulingProperties;
+
+  /**
+   * Claim the unclaimed executions found by {@code candidatesFinder}, process them concurrently
+   * with the principal of their tenants, and release the claims.
+   *
+   * @param candidatesFinder Find the IDs of unclaimed executions by current time
+   * @param task             Process one execution, exceptions are logged
+   * @return Number of executions processed by this controller
+   */
+  public int claimAndRun(String jobName, Function<LocalDateTime, List<Long>> candidatesFinder,
+      Consumer<Exec> task) {
+    LocalDateTime now = LocalDateTime.now();
+    List<Long> candidateIds = candidatesFinder.apply(now);
+    if (isEmpty(candidateIds)) {
+      return 0;
+    }
+
+    String claimToken = UUID.randomUUID().toString();
+    try {
+      // Executions claimed by other controllers in the meantime are skipped
+      int claimed = execRepo.claimByIdIn(candidateIds, claimToken,
+          now.plusMinutes(execSchedulingProperties.getClaimTimeoutMinutes()), now);
+      if (claimed <= 0) {
+        return 0;
+      }
+
+      List<Exec> execDbs = execRepo.findByClaimToken(claimToken);
+      List<Future<?>> futures = new ArrayList<>(execDbs.size());
+      for (Exec execDb : execDbs) {
+        futures.add(execSchedulingExecutor.submit(() -> run(jobName, execDb, task)));
+      }
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (Exception e) {
+          log.error("{}#inner execute fail: ", jobName, e);
+        }
+      }
+      return execDbs.size();
+    } finally {
+      execRepo.releaseClaim(claimToken);
+    }
+  }
+
+  private void run(String jobName, Exec execDb, Consumer<Exec> task) {
+    // Note: Tasks may be run by the claiming thread when the executor is saturated
+    Principal principal = PrincipalContext.get();
+    try {
+      PrincipalContext.set(new Principal().setOptTenantId(execDb.getTenantId()));
+      task.accept(execDb);
+    } catch (Exception e) {
+      log.error("{}#inner execute fail: ", jobName, e);
+    } finally {
+      if (principal == null) {
+        PrincipalContext.remove();
+      } else {
+        PrincipalContext.set(principal);
+      }
+    }
+  }
+
+}
@@ -1,29 +1,26 @@
 package cloud.xcan.angus.core.tester.infra.job;
 
-import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
-
-import cloud.xcan.angus.core.job.JobTemplate;
 import cloud.xcan.angus.core.tester.application.cmd.exec.ExecTestResultCmd;
 import cloud.xcan.angus.core.tester.domain.exec.Exec;
 import cloud.xcan.angus.core.tester.domain.exec.ExecRepo;
-import cloud.xcan.angus.spec.principal.Principal;
-import cloud.xcan.angus.spec.principal.PrincipalContext;
+import cloud.xcan.angus.core.tester.infra.config.ExecSchedulingConfig.ExecSchedulingProperties;
 import jakarta.annotation.Resource;
-import java.util.List;
-import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * Generate test results of completed executions, each controller claims its own batch, see
+ * {@link ExecTaskClaimer}.
+ */
 @Slf4j
 @Component
 public class ExecTestResultGenJob {
 
-  private static final String LOCK_KEY = "tester:job:ExecTestResultGenJob";
-  private static final int COUNT = 30;
+  private static final String JOB_NAME = "ExecTestResultGenJob";
 
   @Resource
-  private JobTemplate jobTemplate;
+  private ExecTaskClaimer execTaskClaimer;
 
   @Resource
   private ExecRepo execRepo;
@@ -31,33 +28,36 @@ public class ExecTestResultGenJob {
   @Resource
   private ExecTestResultCmd execTestResultCmd;
 
+  @Resource
+  private ExecSchedulingProperties execSchedulingProperties;
+
   @Scheduled(fixedDelay = 2 * 1200, initialDelay = 1310)
   public void execute() {
-    jobTemplate.execute(LOCK_KEY, 3, TimeUnit.MINUTES, () -> {
-      // Submitted transaction by repo
-      List<Exec> execDbs = execRepo.findUpdateResultTask(COUNT);
-      if (isNotEmpty(execDbs)) {
-        for (Exec execDb : execDbs) {
-          String syncTestResultFailure = null;
-          try {
-            PrincipalContext.set(new Principal().setOptTenantId(execDb.getTenantId()));
-            execTestResultCmd.generateResult(execDb);
-          } catch (Exception e) {
-            syncTestResultFailure = e.getMessage();
-            log.error("ExecTestResultGenJob#inner updateSyncTestResult fail: ", e);
-            e.printStackTrace();
-          } finally {
-            try {
-              // Note: Only synchronize once when synchronization fails and prevent job continuous polling.
-              execRepo.updateSyncTestResult(execDb.getId(), syncTestResultFailure);
-            } catch (Exception e) {
-              e.printStackTrace();
-            }
-            PrincipalContext.remove();
-          }
-        }
+    // Submitted transaction by repo
+    int generated = execTaskClaimer.claimAndRun(JOB_NAME,
+        now -> execRepo.findUnclaimedUpdateResultTaskIds(now,
+            execSchedulingProperties.getResultBatchSize()),
+        this::generateResult);
+    if (generated > 0) {
+      log.debug("ExecTestResultGenJob execute successfully, generated: {}", generated);
+    }
+  }
+
+  private void generateResult(Exec execDb) {
+    String syncTestResultFailure = null;
+    try {
+      execTestResultCmd.generateResult(execDb);
+    } catch (Exception e) {
+      syncTestResultFailure = e.getMessage();
+      log.error("ExecTestResultGenJob#inner updateSyncTestResult fail: ", e);
+    } finally {
+      try {
+        // Note: Only synchronize once when synchronization fails and prevent job continuous polling.
+        execRepo.updateSyncTestResult(execDb.getId(), syncTestResultFailure);
+      } catch (Exception e) {
+        log.error("ExecTestResultGenJob#inner updateSyncTestResult fail: ", e);
       }
-    });
+    }
   }
 
 }
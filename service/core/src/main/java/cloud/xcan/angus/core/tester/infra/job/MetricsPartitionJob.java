@@ -0,0 +1,33 @@
+package cloud.xcan.angus.core.tester.infra.job;
+
+import cloud.xcan.angus.core.job.JobTemplate;
+import cloud.xcan.angus.core.tester.infra.metricsds.TablePartitionManager;
+import jakarta.annotation.Resource;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pre-create future partitions and drop expired partitions of metrics shard tables.
+ */
+@Slf4j
+@Component
+public class MetricsPartitionJob {
+
+  private static final String LOCK_KEY = "tester:job:MetricsPartitionJob";
+
+  @Resource
+  private JobTemplate jobTemplate;
+
+  @Resource
+  private TablePartitionManager tablePartitionManager;
+
+  @Scheduled(fixedDelay = 60 * 60 * 1000, initialDelay = 2 * 60 * 1000)
+  public void execute() {
+    jobTemplate.execute(LOCK_KEY, 50, TimeUnit.MINUTES, () -> {
+      tablePartitionManager.maintain();
+      log.debug("MetricsPartitionJob execute successfully");
+    });
+  }
+}
@@ -1,17 +1,29 @@
 package cloud.xcan.angus.core.tester.infra.job;
 
-import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
+import static cloud.xcan.angus.core.tester.infra.job.ActivityClearJob.METRIC_RECLAIMED_ROWS;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 import cloud.xcan.angus.core.job.JobTemplate;
+import cloud.xcan.angus.core.tester.domain.RetentionTarget;
 import cloud.xcan.angus.core.tester.domain.mock.apis.log.MockApisLogRepo;
+import cloud.xcan.angus.core.tester.infra.config.RetentionConfig.RetentionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Resource;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
+ * Trim the request logs of each mock api to the reserved number, mock apis with logs created since
+ * the previous run are loaded by the indexed created date and their older logs are deleted by one
+ * id range delete. The first run after startup scans all mock apis once.
+ *
  * @author XiaoLong Liu
  */
 @Slf4j
@@ -20,31 +32,72 @@ public class MockApisLogClearJob {
 
   private static final String LOCK_KEY = "tester:job:MockApisLogClearJob";
 
-  private static final Long RESERVED_NUM = 100L;
-  private static final Long COUNT = 2000L;
-
   @Resource
   private JobTemplate jobTemplate;
 
   @Resource
   private MockApisLogRepo mockApisLogRepo;
 
+  @Resource
+  private RetentionProperties retentionProperties;
+
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry;
+
+  /**
+   * Created date scanned from by the next run, which is the start time of the last run on this
+   * instance.
+   */
+  private volatile LocalDateTime lastScanDate;
+
   /**
-   * Only {@link MockApisLogClearJob#RESERVED_NUM} logs are reserved for each apis
+   * Only {@link RetentionProperties#getMockApisLogReservedNum(Long)} logs are reserved for each
+   * apis
    */
   @Scheduled(fixedDelay = 32 * 1000, initialDelay = 2000)
   public void execute() {
     jobTemplate.execute(LOCK_KEY, 6, TimeUnit.MINUTES, () -> {
-      List<Long> apisIds = mockApisLogRepo.getApisIdsHavingCount(RESERVED_NUM, COUNT);
-      if (isNotEmpty(apisIds)) {
-        for (Long apisId : apisIds) {
+      LocalDateTime scanDate = LocalDateTime.now();
+      boolean fullSweep = isNull(lastScanDate) && retentionProperties.isFullSweepOnStartup();
+      LocalDateTime afterDate = isNull(lastScanDate)
+          ? scanDate.minus(retentionProperties.getLookback(), ChronoUnit.MILLIS)
+          : lastScanDate.minus(retentionProperties.getOverlap(), ChronoUnit.MILLIS);
+
+      long apisNum = 0;
+      long reclaimedNum = 0;
+      Long afterApisId = Long.MIN_VALUE;
+      List<RetentionTarget> apis;
+      do {
+        apis = fullSweep
+            ? mockApisLogRepo.findApis(afterApisId, retentionProperties.getBatchSize())
+            : mockApisLogRepo.findApisByCreatedDateAfter(afterDate, afterApisId,
+                retentionProperties.getBatchSize());
+        for (RetentionTarget api : apis) {
+          long reservedNum = retentionProperties.getMockApisLogReservedNum(api.getTenantId());
           try {
-            // Submitted transaction by repo
-            mockApisLogRepo.deleteByApisIdAndCount(apisId, RESERVED_NUM);
+            Long oldestReservedId = mockApisLogRepo.findOldestReservedId(api.getTargetId(),
+                Math.max(reservedNum - 1, 0));
+            if (nonNull(oldestReservedId)) {
+              // Submitted transaction by repo
+              reclaimedNum += mockApisLogRepo.deleteByApisIdAndIdBefore(api.getTargetId(),
+                  oldestReservedId);
+            }
           } catch (Exception e) {
             log.error("MockApisLogClearJob#inner execute fail:{}", e.getMessage());
           }
+          afterApisId = api.getTargetId();
         }
+        apisNum += apis.size();
+      } while (apis.size() >= retentionProperties.getBatchSize());
+
+      lastScanDate = scanDate;
+      if (nonNull(meterRegistry)) {
+        meterRegistry.counter(METRIC_RECLAIMED_ROWS, "table", "mock_apis_log")
+            .increment(reclaimedNum);
+      }
+      if (reclaimedNum > 0 || fullSweep) {
+        log.info("MockApisLogClearJob reclaimed {} logs of {} mock apis, fullSweep: {}",
+            reclaimedNum, apisNum, fullSweep);
       }
     });
   }
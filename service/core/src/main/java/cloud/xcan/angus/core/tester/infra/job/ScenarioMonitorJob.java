@@ -1,35 +1,62 @@
 package cloud.xcan.angus.core.tester.infra.job;
 
-import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
+import static cloud.xcan.angus.core.tester.infra.config.ScenarioMonitorConfig.SCENARIO_MONITOR_EXECUTOR;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
-import cloud.xcan.angus.core.job.JobTemplate;
+import cloud.xcan.angus.api.enums.CreatedAt;
 import cloud.xcan.angus.core.tester.application.cmd.scenario.ScenarioMonitorCmd;
 import cloud.xcan.angus.core.tester.domain.scenario.monitor.ScenarioMonitor;
 import cloud.xcan.angus.core.tester.domain.scenario.monitor.ScenarioMonitorRepo;
+import cloud.xcan.angus.core.tester.infra.config.ScenarioMonitorConfig.ScenarioMonitorProperties;
 import cloud.xcan.angus.spec.annotations.DoInFuture;
 import cloud.xcan.angus.spec.thread.MultiTaskThreadPool;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Resource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.Callable;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * Run due scenario monitors concurrently.
+ * <p>
+ * Every controller claims due monitors with a conditional update, see
+ * {@link ScenarioMonitorRepo#claimByIdIn}, and runs them on its own executor. At most
+ * {@code threadNum} monitors run at the same time, of which at most {@code tenantConcurrency}
+ * belong to one tenant, so a slow tenant does not delay the monitors of others. Only the monitors
+ * which can start at once are claimed, the others are left to other controllers and the next run,
+ * so no claim expires while its monitor waits in a queue.
+ * <p>
+ * A run exceeding {@code runTimeoutSeconds} is cancelled by interrupting its thread. The claims of
+ * runs are renewed until their threads exit, including cancelled runs that ignore the
+ * interruption, so another controller never runs a monitor that is still running here. The claim
+ * of a finished run is released immediately.
+ */
 @Slf4j
 @Configuration
 @Component
 @DoInFuture("Conflict with AngusCtrl ExecRunnerClearJob")
 public class ScenarioMonitorJob {
 
-  private static final String LOCK_KEY = "tester:job:ScenarioMonitorJob";
-
-  private static final Long COUNT = 100L;
-
-  @Resource
-  private JobTemplate jobTemplate;
+  public static final String METRIC_SCHEDULE_LAG = "tester.scenario.monitor.schedule.lag";
+  public static final String METRIC_RUN_TIMEOUT = "tester.scenario.monitor.run.timeout";
 
   @Resource
   private ScenarioMonitorRepo scenarioMonitorRepo;
@@ -37,24 +64,213 @@ public class ScenarioMonitorJob {
   @Resource
   private ScenarioMonitorCmd scenarioMonitorCmd;
 
+  @Resource(name = SCENARIO_MONITOR_EXECUTOR)
+  private ExecutorService scenarioMonitorExecutor;
+
   @Resource
-  private MultiTaskThreadPool taskThreadPool;
+  private ScenarioMonitorProperties scenarioMonitorProperties;
+
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry;
 
-  @Scheduled(fixedDelay = 61 * 1000, initialDelay = 23000)
+  /**
+   * Monitor ID to the runs submitted by this controller, a run is removed when its thread exits
+   * rather than when it is cancelled.
+   */
+  private final Map<Long, MonitorRun> runningMonitors = new ConcurrentHashMap<>();
+
+  /**
+   * Claim and submit due monitors without waiting for them, the runs finish on the executor.
+   */
+  @Scheduled(fixedDelay = 15 * 1000, initialDelay = 23000)
   public void execute() {
-    jobTemplate.execute(LOCK_KEY, 6, TimeUnit.MINUTES, () -> {
-      List<ScenarioMonitor> monitorsDb = scenarioMonitorRepo.findRunByNow(COUNT);
-      if (isNotEmpty(monitorsDb)) {
-        for (ScenarioMonitor monitorDb : monitorsDb) {
-          taskThreadPool.submit((Callable<Void>) () -> {
-            scenarioMonitorCmd.runNow(monitorDb.getId());
-            return null;
-          }).get(); // Waiting for task execution to complete
+    LocalDateTime now = now();
+    checkRunningMonitors(now);
+
+    int freeNum = scenarioMonitorProperties.getThreadNum() - runningMonitors.size();
+    if (freeNum <= 0) {
+      return;
+    }
+    List<ScenarioMonitor> candidates = scenarioMonitorRepo.findUnclaimedRunsByNow(now,
+        scenarioMonitorProperties.getBatchSize());
+    if (isEmpty(candidates)) {
+      return;
+    }
+    List<Long> startableIds = selectStartable(candidates, freeNum);
+    if (startableIds.isEmpty()) {
+      return;
+    }
+
+    // Monitors claimed by other controllers in the meantime are skipped
+    String claimToken = UUID.randomUUID().toString();
+    LocalDateTime claimExpireDate = now.plusMinutes(
+        scenarioMonitorProperties.getClaimTimeoutMinutes());
+    int claimed = scenarioMonitorRepo.claimByIdIn(startableIds, claimToken, claimExpireDate, now);
+    if (claimed <= 0) {
+      return;
+    }
+
+    List<ScenarioMonitor> monitorsDb = scenarioMonitorRepo.findByClaimToken(claimToken);
+    for (ScenarioMonitor monitorDb : monitorsDb) {
+      submit(monitorDb, new MonitorRun(monitorDb.getTenantId(), claimToken, claimExpireDate));
+    }
+  }
+
+  /**
+   * Select the monitors within the free slots and the tenant limits, in the order of due date.
+   */
+  private List<Long> selectStartable(List<ScenarioMonitor> candidates, int freeNum) {
+    Map<Long, Integer> tenantRunningNum = new HashMap<>();
+    for (MonitorRun run : runningMonitors.values()) {
+      tenantRunningNum.merge(run.tenantId, 1, Integer::sum);
+    }
+    List<Long> startableIds = new ArrayList<>();
+    for (ScenarioMonitor candidate : candidates) {
+      if (startableIds.size() >= freeNum) {
+        break;
+      }
+      if (runningMonitors.containsKey(candidate.getId())
+          || tenantRunningNum.getOrDefault(candidate.getTenantId(), 0)
+          >= scenarioMonitorProperties.getTenantConcurrency()) {
+        continue;
+      }
+      tenantRunningNum.merge(candidate.getTenantId(), 1, Integer::sum);
+      startableIds.add(candidate.getId());
+    }
+    return startableIds;
+  }
+
+  private void submit(ScenarioMonitor monitorDb, MonitorRun run) {
+    runningMonitors.put(monitorDb.getId(), run);
+    try {
+      run.future = scenarioMonitorExecutor.submit(() -> {
+        run.startNanos = System.nanoTime();
+        try {
+          recordScheduleLag(monitorDb);
+          run(monitorDb);
+        } finally {
+          finish(monitorDb.getId(), run);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      log.warn("ScenarioMonitorJob run rejected, monitorId: {}", monitorDb.getId());
+      finish(monitorDb.getId(), run);
+    }
+  }
+
+  private void finish(Long monitorId, MonitorRun run) {
+    runningMonitors.remove(monitorId, run);
+    try {
+      scenarioMonitorRepo.releaseClaim(monitorId, run.claimToken);
+    } catch (Exception e) {
+      // Released after the claim expires
+      log.error("ScenarioMonitorJob release claim fail, monitorId: {}, cause: {}", monitorId,
+          e.getMessage());
+    }
+  }
+
+  /**
+   * Cancel timed out runs and renew the claims of runs which are still running.
+   */
+  private void checkRunningMonitors(LocalDateTime now) {
+    long timeoutNanos = TimeUnit.SECONDS.toNanos(scenarioMonitorProperties.getRunTimeoutSeconds());
+    long nowNanos = System.nanoTime();
+    for (Entry<Long, MonitorRun> entry : runningMonitors.entrySet()) {
+      MonitorRun run = entry.getValue();
+      long startNanos = run.startNanos;
+      if (startNanos != 0 && nowNanos - startNanos > timeoutNanos) {
+        if (!run.cancelled) {
+          run.cancelled = true;
+          // Interrupts the run thread, the run is removed when the thread exits
+          run.future.cancel(true);
+          if (nonNull(meterRegistry)) {
+            meterRegistry.counter(METRIC_RUN_TIMEOUT).increment();
+          }
+          log.warn("ScenarioMonitorJob run timeout, monitorId: {}, timeout: {}s",
+              entry.getKey(), scenarioMonitorProperties.getRunTimeoutSeconds());
+        } else {
+          log.warn("ScenarioMonitorJob cancelled run is still running, monitorId: {}",
+              entry.getKey());
+        }
+      }
+
+      // Renew when half of the claim timeout has passed
+      if (run.claimExpireDate.isBefore(
+          now.plusSeconds(scenarioMonitorProperties.getClaimTimeoutMinutes() * 30L))) {
+        LocalDateTime claimExpireDate = now.plusMinutes(
+            scenarioMonitorProperties.getClaimTimeoutMinutes());
+        try {
+          if (scenarioMonitorRepo.renewClaim(entry.getKey(), run.claimToken, claimExpireDate)
+              > 0) {
+            run.claimExpireDate = claimExpireDate;
+          } else {
+            log.warn("ScenarioMonitorJob claim is lost, monitorId: {}", entry.getKey());
+          }
+        } catch (Exception e) {
+          log.error("ScenarioMonitorJob renew claim fail, monitorId: {}, cause: {}",
+              entry.getKey(), e.getMessage());
         }
       }
-    });
+    }
+  }
+
+  private void run(ScenarioMonitor monitorDb) {
+    try {
+      scenarioMonitorCmd.runNow(monitorDb.getId());
+    } catch (Exception e) {
+      log.error("ScenarioMonitorJob#inner execute fail, monitorId: {}, cause: {}",
+          monitorDb.getId(), e.getMessage());
+    }
+  }
+
+  protected LocalDateTime now() {
+    return LocalDateTime.now();
+  }
+
+  /**
+   * Record the delay between the due date and the start of a run.
+   */
+  private void recordScheduleLag(ScenarioMonitor monitorDb) {
+    LocalDateTime dueDate = CreatedAt.NOW.equals(monitorDb.getCreatedAt())
+        ? monitorDb.getModifiedDate() : monitorDb.getNextExecDate();
+    if (isNull(dueDate)) {
+      return;
+    }
+    Duration lag = Duration.between(dueDate, now());
+    if (lag.isNegative()) {
+      return;
+    }
+    if (nonNull(meterRegistry)) {
+      meterRegistry.timer(METRIC_SCHEDULE_LAG).record(lag);
+    }
+    if (lag.getSeconds() > scenarioMonitorProperties.getLagWarnSeconds()) {
+      log.warn("ScenarioMonitorJob schedule lag, monitorId: {}, tenantId: {}, lag: {}s",
+          monitorDb.getId(), monitorDb.getTenantId(), lag.getSeconds());
+    }
+  }
+
+  private static class MonitorRun {
+
+    private final Long tenantId;
+    private final String claimToken;
+    private volatile LocalDateTime claimExpireDate;
+    private volatile Future<?> future;
+    /**
+     * Zero until the run thread starts.
+     */
+    private volatile long startNanos;
+    private volatile boolean cancelled;
+
+    private MonitorRun(Long tenantId, String claimToken, LocalDateTime claimExpireDate) {
+      this.tenantId = tenantId;
+      this.claimToken = claimToken;
+      this.claimExpireDate = claimExpireDate;
+    }
   }
 
+  /**
+   * Note: Shared by other tasks, scenario monitors are run by {@code scenarioMonitorExecutor}.
+   */
   @Bean
   public MultiTaskThreadPool multiTaskThreadPool() {
     return new MultiTaskThreadPool("ScenarioMonitorThread",
@@ -0,0 +1,76 @@
+package cloud.xcan.angus.core.tester.infra.job;
+
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+
+import cloud.xcan.angus.core.job.JobTemplate;
+import cloud.xcan.angus.core.tester.application.cmd.services.ServicesSyncCmd;
+import cloud.xcan.angus.core.tester.application.query.common.CommonQuery;
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSync;
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncRepo;
+import cloud.xcan.angus.core.tester.infra.config.ServicesSyncConfig.ServicesSyncProperties;
+import cloud.xcan.angus.spec.principal.PrincipalContext;
+import jakarta.annotation.Resource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Run the due scheduled synchronizations of services.
+ * <p>
+ * Synchronizations are run as the user who last modified the configuration. The next sync date is
+ * advanced by every run, including failed ones, so an unreachable document is retried after its
+ * interval instead of blocking other due synchronizations.
+ */
+@Slf4j
+@Component
+public class ServicesSyncJob {
+
+  private static final String LOCK_KEY = "tester:job:ServicesSyncJob";
+
+  @Resource
+  private JobTemplate jobTemplate;
+
+  @Resource
+  private ServicesSyncRepo servicesSyncRepo;
+
+  @Resource
+  private ServicesSyncCmd servicesSyncCmd;
+
+  @Resource
+  private CommonQuery commonQuery;
+
+  @Resource
+  private ServicesSyncProperties servicesSyncProperties;
+
+  @Scheduled(fixedDelay = 60 * 1000, initialDelay = 29000)
+  public void execute() {
+    if (!servicesSyncProperties.isEnabled()) {
+      return;
+    }
+    jobTemplate.execute(LOCK_KEY, 30, TimeUnit.MINUTES, () -> {
+      List<ServicesSync> syncsDb = servicesSyncRepo.findDueByNow(LocalDateTime.now(),
+          servicesSyncProperties.getBatchSize());
+      if (isEmpty(syncsDb)) {
+        return;
+      }
+      for (ServicesSync syncDb : syncsDb) {
+        try {
+          // Transfer principal downwards
+          commonQuery.setInnerPrincipal(syncDb.getTenantId(), syncDb.getModifiedBy());
+          servicesSyncCmd.sync0(syncDb, syncDb.getServiceId(), true);
+        } catch (Exception e) {
+          log.error("ServicesSyncJob#inner execute fail, syncId: {}, cause: {}",
+              syncDb.getId(), e.getMessage());
+          servicesSyncRepo.updateNextSyncDate(syncDb.getId(), LocalDateTime.now().plusMinutes(
+              Math.max(syncDb.getSyncInterval(), servicesSyncProperties.getMinIntervalMinutes())));
+        } finally {
+          PrincipalContext.remove();
+        }
+      }
+    });
+  }
+
+}
@@ -19,9 +19,11 @@ import cloud.xcan.angus.core.event.EventSender;
 import cloud.xcan.angus.core.event.source.EventContent;
 import cloud.xcan.angus.core.job.JobTemplate;
 import cloud.xcan.angus.core.spring.boot.ApplicationInfo;
+import cloud.xcan.angus.core.tester.application.cmd.issue.TaskCounterCmd;
 import cloud.xcan.angus.core.tester.application.query.common.CommonQuery;
 import cloud.xcan.angus.core.tester.domain.issue.TaskInfo;
 import cloud.xcan.angus.core.tester.domain.issue.TaskInfoRepo;
+import cloud.xcan.angus.core.tester.domain.issue.count.TaskCounter;
 import cloud.xcan.angus.spec.principal.PrincipalContext;
 import jakarta.annotation.Resource;
 import java.util.ArrayList;
@@ -60,6 +62,9 @@ public class TaskOverdueJob {
   @Resource
   private CommonQuery commonQuery;
 
+  @Resource
+  private TaskCounterCmd taskCounterCmd;
+
   @Scheduled(fixedDelay = 24 * 1000, initialDelay = 1800)
   public void execute() {
     jobTemplate.execute(LOCK_KEY, 6, TimeUnit.MINUTES, () -> {
@@ -69,6 +74,14 @@ public class TaskOverdueJob {
         taskInfoRepo.updateOverdue(tasks.stream().map(TaskInfo::getId)
             .toList());
 
+        // Add overdue tasks to the counters of their sprints and projects
+        taskCounterCmd.add0(tasks.stream()
+            .filter(x -> !Boolean.TRUE.equals(x.getDeleted())
+                && !Boolean.TRUE.equals(x.getSprintDeleted()))
+            .map(x -> new TaskCounter().setProjectId(x.getProjectId())
+                .setSprintId(x.getSprintId()).setOverdueNum(1))
+            .toList());
+
         // Add overdue events
         assembleAndSendOverdueNoticeEvent(
             tasks.stream().filter(x -> nonNull(x.getAssigneeId())).toList());
@@ -0,0 +1,139 @@
+package cloud.xcan.angus.core.tester.infra.kanban.cache;
+
+import static cloud.xcan.angus.core.utils.PrincipalContextUtils.getOptTenantId;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+import static java.util.Objects.isNull;
+
+import cloud.xcan.angus.api.enums.AuthObjectType;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsLabel;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsTimeSeries;
+import cloud.xcan.angus.spec.utils.JsonUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.annotation.Resource;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Cache of the growth trends of data assets.
+ * <p>
+ * Trends are cached per project, category, creator and time range. Instead of evicting every
+ * cached range, creating a resource bumps the version of its project and category after its
+ * transaction commits, and entries of older versions are no longer read and expire by themselves. Mock trends are not filtered by
+ * project, their version is kept per tenant.
+ */
+@Slf4j
+@Component
+public class KanbanGrowthTrendCache {
+
+  public static final String CACHE_NAME = "kanbanGrowthTrend";
+
+  @Resource
+  private CacheManager cacheManager;
+
+  /**
+   * Key of a growth trend under the current version of its project and category.
+   * <p>
+   * Note: Readers should compute the key once before querying, so trends counted before a
+   * creation are not stored under the version bumped by it.
+   */
+  public String cacheKey(Long projectId, DataAssetsCategory category,
+      AuthObjectType creatorObjectType, Long creatorObjectId, LocalDateTime createdDateStart,
+      LocalDateTime createdDateEnd) {
+    String version = null;
+    try {
+      version = getCache().get(versionKey(projectId, category), String.class);
+    } catch (Exception e) {
+      log.warn("Read kanban growth trend version exception, projectId: {}, category: {}, "
+          + "cause: {}", projectId, category, e.getMessage());
+    }
+    return "project_" + projectId + "_" + category + "_v" + (isNull(version) ? "0" : version)
+        + "_creator_" + creatorObjectType + "_" + creatorObjectId
+        + "_range_" + createdDateStart + "_" + createdDateEnd;
+  }
+
+  /**
+   * Get the cached growth trend.
+   *
+   * @return Growth trend, or null when it is missing in cache
+   */
+  public Map<DataAssetsLabel, List<DataAssetsTimeSeries>> get(String key) {
+    try {
+      String json = getCache().get(key, String.class);
+      return isEmpty(json) ? null : JsonUtils.convert(json,
+          new TypeReference<LinkedHashMap<DataAssetsLabel, List<DataAssetsTimeSeries>>>() {
+          });
+    } catch (Exception e) {
+      log.warn("Read kanban growth trend cache exception, key: {}, cause: {}", key,
+          e.getMessage());
+      return null;
+    }
+  }
+
+  public void put(String key, Map<DataAssetsLabel, List<DataAssetsTimeSeries>> trend) {
+    try {
+      getCache().put(key, JsonUtils.toJson(trend));
+    } catch (Exception e) {
+      log.warn("Update kanban growth trend cache exception, key: {}, cause: {}", key,
+          e.getMessage());
+    }
+  }
+
+  /**
+   * Invalidate the cached growth trends of a category after resources are created in project.
+   * <p>
+   * Called in the transaction of creation, the version is bumped after it commits, or readers
+   * between the bump and the commit would cache the old counts under the new version.
+   */
+  public void evict(Long projectId, DataAssetsCategory category) {
+    String versionKey = versionKey(projectId, category);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          bumpVersion(versionKey);
+        }
+      });
+    } else {
+      bumpVersion(versionKey);
+    }
+  }
+
+  public void evict(Collection<Long> projectIds, DataAssetsCategory category) {
+    for (Long projectId : new HashSet<>(projectIds)) {
+      evict(projectId, category);
+    }
+  }
+
+  private void bumpVersion(String versionKey) {
+    try {
+      // Unique even when bumped twice in a millisecond, or trends counted between are read
+      getCache().put(versionKey, UUID.randomUUID().toString());
+    } catch (Exception e) {
+      log.warn("Evict kanban growth trend cache exception, key: {}, cause: {}", versionKey,
+          e.getMessage());
+    }
+  }
+
+  private Cache getCache() {
+    return cacheManager.getCache(CACHE_NAME);
+  }
+
+  private static String versionKey(Long projectId, DataAssetsCategory category) {
+    return DataAssetsCategory.MOCK.equals(category)
+        ? "version_tenant_" + getOptTenantId() + "_" + category
+        : "version_project_" + projectId + "_" + category;
+  }
+
+}
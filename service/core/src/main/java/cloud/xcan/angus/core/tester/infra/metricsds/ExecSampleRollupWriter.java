@@ -0,0 +1,454 @@
+package cloud.xcan.angus.core.tester.infra.metricsds;
+
+import static cloud.xcan.angus.core.tester.application.converter.ExecSampleConverter.mergeToFirst;
+import static cloud.xcan.angus.core.tester.application.converter.ExecSampleConverter.toExecSampleRollup;
+import static cloud.xcan.angus.core.tester.infra.metricsds.MetricsDataSourceConfiguration.METRICS_DATASOURCE_PREFIX;
+import static cloud.xcan.angus.core.tester.infra.metricsds.MetricsDataSourceConfiguration.METRICS_DATASOURCE_SUFFIX;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import cloud.xcan.angus.core.spring.SpringContextHolder;
+import cloud.xcan.angus.core.tester.domain.exec.ExecInfo;
+import cloud.xcan.angus.core.tester.domain.exec.ExecInfoRepo;
+import cloud.xcan.angus.core.tester.infra.metricsds.MetricsDataSourceContextHolder.Shard;
+import cloud.xcan.angus.core.tester.infra.metricsds.config.MetricsDataSourceExtraProperties;
+import cloud.xcan.angus.core.tester.infra.metricsds.config.MetricsDataSourceProperties;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSample;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRepo;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollup;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollupGap;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollupGapRepo;
+import cloud.xcan.angus.idgen.UidGenerator;
+import jakarta.annotation.Resource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.jpa.EntityManagerFactoryInfo;
+
+/**
+ * Merge exec samples of all nodes into per report interval rollups at ingest time.
+ * <p>
+ * Each sample is assigned to the report interval of its server timestamp, and the rollup row of
+ * {@code (exec_id, timestamp, name)} is upserted by adding counters and throughput, keeping
+ * min/max and weighting means by the number of merged nodes. Upserting in database keeps rollups
+ * correct when the nodes of an execution push to different controllers.
+ * <p>
+ * A node must contribute once per interval, so the interval of a node and name never goes
+ * backwards: a sample that jitters into the interval of the previous one is moved to the next
+ * interval.
+ * <p>
+ * Rollups failed to write are recorded as gaps, which are rebuilt from the node samples by
+ * {@link #backfill(ExecInfo)} and read from the node samples until then.
+ */
+@Slf4j
+public class ExecSampleRollupWriter {
+
+  public static final String ROLLUP_TABLE_NAME = "exec_sample_rollup";
+
+  private static final long DEFAULT_REPORT_INTERVAL = 5000;
+  private static final int MAX_ROWS_PER_STATEMENT = 500;
+  private static final int MAX_TRACKED_NODES = 10000;
+  private static final int MAX_PENDING_GAPS = 10000;
+  private static final long IDLE_TIMEOUT = 10 * 60 * 1000;
+  private static final long EVICT_CHECK_INTERVAL = 60 * 1000;
+  /**
+   * Samples of an interval may arrive later than the interval by pushing retries.
+   */
+  private static final long BACKFILL_DELAY = 2 * 60 * 1000;
+
+  private static final String[] INSERT_COLUMNS = {"id", "exec_id", "tenant_id", "timestamp",
+      "timestamp0", "name", "node_num", "finish", "duration", "errors", "iterations", "n",
+      "operations", "transactions", "read_bytes", "write_bytes", "ops", "tps", "brps", "bwps",
+      "tran_mean", "tran_min", "tran_max", "tran_p50", "tran_p75", "tran_p90", "tran_p95",
+      "tran_p99", "tran_p999", "error_rate", "thread_pool_size", "thread_pool_active_size",
+      "thread_max_pool_size", "thread_running", "thread_terminated", "ext_counter1",
+      "ext_counter2", "ext_gauge1", "ext_gauge2"};
+  private static final String[] SUM_COLUMNS = {"errors", "iterations", "n", "operations",
+      "transactions", "read_bytes", "write_bytes", "ops", "tps", "brps", "bwps", "error_rate",
+      "thread_pool_size", "thread_pool_active_size", "thread_max_pool_size", "ext_counter1",
+      "ext_counter2", "ext_gauge1", "ext_gauge2"};
+  private static final String[] MEAN_COLUMNS = {"tran_mean", "tran_p50", "tran_p75", "tran_p90",
+      "tran_p95", "tran_p99", "tran_p999"};
+  private static final String[] MAX_COLUMNS = {"timestamp0", "duration", "tran_max"};
+  private static final String[] MIN_COLUMNS = {"tran_min"};
+  private static final String[] OR_COLUMNS = {"finish", "thread_running", "thread_terminated"};
+
+  @Resource
+  private ExecInfoRepo execInfoRepo;
+
+  @Resource
+  private ExecSampleRepo execSampleRepo;
+
+  @Resource
+  private ExecSampleRollupGapRepo execSampleRollupGapRepo;
+
+  @Resource
+  private UidGenerator uidGenerator;
+
+  @Resource
+  private MetricsDataSourceProperties metricsDataSourceProperties;
+
+  @Resource
+  private MetricsDataSourceExtraProperties metricsDataSourceExtraProperties;
+
+  private final Map<Long, Long> execReportIntervals = new ConcurrentHashMap<>();
+
+  /**
+   * The last intervals of each node, key is {@code execId_nodeId}.
+   */
+  private final Map<String, NodeIntervals> nodeLastIntervals = new ConcurrentHashMap<>();
+
+  /**
+   * Gaps failed to record, recorded by the next successful write of their tenant.
+   */
+  private final Queue<ExecSampleRollupGap> pendingGaps = new ConcurrentLinkedQueue<>();
+
+  private volatile long lastEvictTime = 0;
+
+  private volatile String upsertSuffix;
+
+  /**
+   * Merge samples into rollups, the principal of current thread must be the tenant of samples.
+   * <p>
+   * When the rollups fail to write, their intervals are recorded as gaps instead of failing the
+   * samples, see {@link #backfill(ExecInfo)}.
+   */
+  public void write(Long tenantId, List<ExecSample> samples) {
+    if (isEmpty(samples)) {
+      return;
+    }
+
+    // Merge samples of the same interval in the batch before merging in database
+    Map<String, ExecSampleRollup> rollups = new LinkedHashMap<>();
+    Set<Long> finishedNodeIds = new HashSet<>();
+    long now = System.currentTimeMillis();
+    evictIdleNodes(now);
+    for (ExecSample sample : samples) {
+      long reportInterval = getReportInterval(sample.getExecId());
+      long timestamp = assignInterval(sample, reportInterval, now) * reportInterval;
+      merge(rollups, toExecSampleRollup(sample, timestamp));
+      if (sample.isFinish()) {
+        finishedNodeIds.add(sample.getNodeId());
+      }
+    }
+    for (ExecSample sample : samples) {
+      if (finishedNodeIds.contains(sample.getNodeId())) {
+        release(sample.getExecId(), sample.getNodeId());
+      }
+    }
+
+    try {
+      upsert(tenantId, new ArrayList<>(rollups.values()), null);
+    } catch (Exception e) {
+      log.error("Write exec sample rollups exception, tenantId: {}, cause: {}", tenantId,
+          e.getMessage());
+      recordGaps(tenantId, rollups.values());
+      return;
+    }
+    flushPendingGaps(tenantId);
+  }
+
+  /**
+   * Rebuild the rollups of the gaps of execution from the node samples, the principal of current
+   * thread must be the tenant of execution.
+   * <p>
+   * Gaps are rebuilt after their samples are settled, the rollups of the gap intervals are
+   * replaced, so the rebuilding is idempotent.
+   *
+   * @return Number of rebuilt gaps
+   */
+  public int backfill(ExecInfo exec) {
+    List<ExecSampleRollupGap> gaps = execSampleRollupGapRepo.findByExecId(exec.getId());
+    if (isEmpty(gaps)) {
+      return 0;
+    }
+    long reportInterval = getReportInterval(exec.getId());
+    long settledBefore = System.currentTimeMillis() - BACKFILL_DELAY;
+    List<Long> rebuiltIds = new ArrayList<>();
+    for (ExecSampleRollupGap gap : gaps) {
+      long endTimestamp = gap.getEndTimestamp() + reportInterval;
+      if (endTimestamp > settledBefore) {
+        continue;
+      }
+      List<ExecSample> samples = execSampleRepo.findByExecIdAndTimestampRange(exec.getId(),
+          gap.getTimestamp(), endTimestamp);
+      upsert(exec.getTenantId(), rebuild(samples, reportInterval, gap), gap);
+      rebuiltIds.add(gap.getId());
+    }
+    if (isNotEmpty(rebuiltIds)) {
+      execSampleRollupGapRepo.deleteByIdIn(rebuiltIds);
+      log.info("Rebuild exec sample rollups of {} gaps, execId: {}", rebuiltIds.size(),
+          exec.getId());
+    }
+    return rebuiltIds.size();
+  }
+
+  /**
+   * Merge the node samples of gap into rollups, intervals are assigned as {@link #write} does.
+   */
+  static List<ExecSampleRollup> rebuild(List<ExecSample> samples, long reportInterval,
+      ExecSampleRollupGap gap) {
+    List<ExecSample> sorted = new ArrayList<>(samples);
+    sorted.sort(Comparator.comparing(ExecSample::getTimestamp));
+    Map<String, Long> lastIntervals = new HashMap<>();
+    Map<String, ExecSampleRollup> rollups = new LinkedHashMap<>();
+    for (ExecSample sample : sorted) {
+      long interval = lastIntervals.merge(sample.getNodeId() + "_" + sample.getName(),
+          sample.getTimestamp() / reportInterval,
+          (last, current) -> current <= last ? last + 1 : current);
+      long timestamp = interval * reportInterval;
+      if (timestamp >= gap.getTimestamp() && timestamp <= gap.getEndTimestamp()) {
+        merge(rollups, toExecSampleRollup(sample, timestamp));
+      }
+    }
+    return new ArrayList<>(rollups.values());
+  }
+
+  private static void merge(Map<String, ExecSampleRollup> rollups, ExecSampleRollup rollup) {
+    ExecSampleRollup merged = rollups.putIfAbsent(
+        rollup.getExecId() + "_" + rollup.getTimestamp() + "_" + rollup.getName(), rollup);
+    if (nonNull(merged)) {
+      mergeToFirst(merged, rollup);
+    }
+  }
+
+  private void recordGaps(Long tenantId, Collection<ExecSampleRollup> rollups) {
+    Map<Long, ExecSampleRollupGap> gaps = new LinkedHashMap<>();
+    for (ExecSampleRollup rollup : rollups) {
+      gaps.merge(rollup.getExecId(), new ExecSampleRollupGap().setId(uidGenerator.getUID())
+              .setExecId(rollup.getExecId()).setTenantId(tenantId)
+              .setTimestamp(rollup.getTimestamp()).setEndTimestamp(rollup.getTimestamp()),
+          (gap, other) -> gap.setTimestamp(Math.min(gap.getTimestamp(), other.getTimestamp()))
+              .setEndTimestamp(Math.max(gap.getEndTimestamp(), other.getEndTimestamp())));
+    }
+    try {
+      execSampleRollupGapRepo.batchInsert0(gaps.values());
+    } catch (Exception e) {
+      // Recorded by the next successful write of tenant
+      if (pendingGaps.size() < MAX_PENDING_GAPS) {
+        pendingGaps.addAll(gaps.values());
+      } else {
+        log.error("Too many pending exec sample rollup gaps, drop gaps of executions {}",
+            gaps.keySet());
+      }
+    }
+  }
+
+  private void flushPendingGaps(Long tenantId) {
+    if (pendingGaps.isEmpty()) {
+      return;
+    }
+    List<ExecSampleRollupGap> gaps = new ArrayList<>();
+    for (ExecSampleRollupGap gap : pendingGaps) {
+      if (tenantId.equals(gap.getTenantId()) && pendingGaps.remove(gap)) {
+        gaps.add(gap);
+      }
+    }
+    if (isNotEmpty(gaps)) {
+      try {
+        execSampleRollupGapRepo.batchInsert0(gaps);
+      } catch (Exception e) {
+        pendingGaps.addAll(gaps);
+      }
+    }
+  }
+
+  /**
+   * Forget the intervals of finished node, the report interval of execution is forgotten with its
+   * last node.
+   */
+  public void release(Long execId, Long nodeId) {
+    nodeLastIntervals.remove(execId + "_" + nodeId);
+    String execPrefix = execId + "_";
+    if (nodeLastIntervals.keySet().stream().noneMatch(k -> k.startsWith(execPrefix))) {
+      execReportIntervals.remove(execId);
+    }
+  }
+
+  /**
+   * Forget the intervals of nodes which stopped pushing without finish samples, such as crashed
+   * nodes and stopped executions, so that a restarted node is assigned by its sample time again.
+   */
+  private void evictIdleNodes(long now) {
+    if (now - lastEvictTime < EVICT_CHECK_INTERVAL
+        && nodeLastIntervals.size() <= MAX_TRACKED_NODES) {
+      return;
+    }
+    lastEvictTime = now;
+    nodeLastIntervals.entrySet().removeIf(e -> now - e.getValue().lastWriteTime > IDLE_TIMEOUT);
+    execReportIntervals.keySet().removeIf(execId -> nodeLastIntervals.keySet().stream()
+        .noneMatch(k -> k.startsWith(execId + "_")));
+  }
+
+  private long assignInterval(ExecSample sample, long reportInterval, long now) {
+    long interval = sample.getTimestamp() / reportInterval;
+    NodeIntervals nodeIntervals = nodeLastIntervals.computeIfAbsent(
+        sample.getExecId() + "_" + sample.getNodeId(), k -> new NodeIntervals());
+    nodeIntervals.lastWriteTime = now;
+    return nodeIntervals.intervals.merge(sample.getName(), interval,
+        (last, current) -> current <= last ? last + 1 : current);
+  }
+
+  private long getReportInterval(Long execId) {
+    return execReportIntervals.computeIfAbsent(execId, id -> {
+      ExecInfo exec = execInfoRepo.findById(id).orElse(null);
+      return isNull(exec) || isNull(exec.getReportInterval())
+          || exec.getReportInterval().toMilliSecond() <= 0
+          ? DEFAULT_REPORT_INTERVAL : exec.getReportInterval().toMilliSecond();
+    });
+  }
+
+  /**
+   * Upsert rollups in the shard of tenant, the rollups of gap are deleted first when the gap is
+   * not null.
+   */
+  private void upsert(Long tenantId, List<ExecSampleRollup> rollups,
+      @Nullable ExecSampleRollupGap gap) {
+    EntityManager em = SpringContextHolder.getBean(
+        MetricsDataSourceConfiguration.METRICS_ENTITY_MANAGER_FACTORY_NAMETRICS_ENTITY,
+        EntityManagerFactoryInfo.class).getNativeEntityManagerFactory().createEntityManager();
+    EntityTransaction transaction = null;
+    try {
+      MetricsDataSourceContextHolder.setShard(new Shard()
+          .dataSource(METRICS_DATASOURCE_PREFIX
+              + tenantId % metricsDataSourceProperties.getShardDbNum()
+              + METRICS_DATASOURCE_SUFFIX)
+          .tenantId(tenantId)
+          .tableSecondIndex(-1));
+      transaction = em.getTransaction();
+      transaction.begin();
+      if (nonNull(gap)) {
+        em.createNativeQuery("DELETE FROM " + ROLLUP_TABLE_NAME
+                + " WHERE exec_id = ?1 AND timestamp >= ?2 AND timestamp <= ?3")
+            .setParameter(1, gap.getExecId()).setParameter(2, gap.getTimestamp())
+            .setParameter(3, gap.getEndTimestamp()).executeUpdate();
+      }
+      for (int from = 0; from < rollups.size(); from += MAX_ROWS_PER_STATEMENT) {
+        List<ExecSampleRollup> rows = rollups.subList(from,
+            Math.min(from + MAX_ROWS_PER_STATEMENT, rollups.size()));
+        Query query = em.createNativeQuery(toUpsertSql(rows.size()));
+        int position = 1;
+        for (ExecSampleRollup row : rows) {
+          position = setParameters(query, position, row);
+        }
+        query.executeUpdate();
+      }
+      transaction.commit();
+    } catch (RuntimeException e) {
+      if (transaction != null && transaction.isActive()) {
+        transaction.rollback();
+      }
+      throw e;
+    } finally {
+      em.close(); // Fix:: One em meaning one connection
+      MetricsDataSourceContextHolder.clear();
+    }
+  }
+
+  private int setParameters(Query query, int position, ExecSampleRollup row) {
+    Object[] values = {uidGenerator.getUID(), row.getExecId(), row.getTenantId(),
+        row.getTimestamp(), row.getTimestamp0(), row.getName(), row.getNodeNum(), row.isFinish(),
+        row.getDuration(), row.getErrors(), row.getIterations(), row.getN(), row.getOperations(),
+        row.getTransactions(), row.getReadBytes(), row.getWriteBytes(), row.getOps(),
+        row.getTps(), row.getBrps(), row.getBwps(), row.getTranMean(), row.getTranMin(),
+        row.getTranMax(), row.getTranP50(), row.getTranP75(), row.getTranP90(), row.getTranP95(),
+        row.getTranP99(), row.getTranP999(), row.getErrorRate(), row.getThreadPoolSize(),
+        row.getThreadPoolActiveSize(), row.getThreadMaxPoolSize(), row.isThreadRunning(),
+        row.isThreadTerminated(), row.getExtCounter1(), row.getExtCounter2(),
+        row.getExtGauge1(), row.getExtGauge2()};
+    for (Object value : values) {
+      query.setParameter(position++, value);
+    }
+    return position;
+  }
+
+  private String toUpsertSql(int rowNum) {
+    StringJoiner rows = new StringJoiner(", ");
+    int position = 1;
+    for (int i = 0; i < rowNum; i++) {
+      StringJoiner row = new StringJoiner(", ", "(", ")");
+      for (int j = 0; j < INSERT_COLUMNS.length; j++) {
+        row.add("?" + position++);
+      }
+      rows.add(row.toString());
+    }
+    boolean postgres = isPostgres();
+    return "INSERT INTO " + ROLLUP_TABLE_NAME + (postgres ? " AS r " : " ")
+        + "(" + String.join(", ", INSERT_COLUMNS) + ") VALUES " + rows + getUpsertSuffix(postgres);
+  }
+
+  private String getUpsertSuffix(boolean postgres) {
+    if (upsertSuffix == null) {
+      // Important: MySQL assigns from left to right, node_num must be updated last
+      StringJoiner updates = new StringJoiner(", ");
+      for (String column : SUM_COLUMNS) {
+        updates.add(column + " = " + old(column, postgres) + " + " + inserted(column, postgres));
+      }
+      String oldNum = old("node_num", postgres);
+      String insertedNum = inserted("node_num", postgres);
+      for (String column : MEAN_COLUMNS) {
+        updates.add(column + " = (" + old(column, postgres) + " * " + oldNum + " + "
+            + inserted(column, postgres) + " * " + insertedNum + ") / (" + oldNum + " + "
+            + insertedNum + ")");
+      }
+      for (String column : MAX_COLUMNS) {
+        updates.add(column + " = GREATEST(" + old(column, postgres) + ", "
+            + inserted(column, postgres) + ")");
+      }
+      for (String column : MIN_COLUMNS) {
+        updates.add(column + " = LEAST(" + old(column, postgres) + ", "
+            + inserted(column, postgres) + ")");
+      }
+      for (String column : OR_COLUMNS) {
+        updates.add(column + " = (" + old(column, postgres) + " OR "
+            + inserted(column, postgres) + ")");
+      }
+      updates.add("node_num = " + oldNum + " + " + insertedNum);
+      upsertSuffix = postgres
+          ? " ON CONFLICT (exec_id, timestamp, name) DO UPDATE SET " + updates
+          : " ON DUPLICATE KEY UPDATE " + updates;
+    }
+    return upsertSuffix;
+  }
+
+  private static String old(String column, boolean postgres) {
+    return postgres ? "r." + column : column;
+  }
+
+  private static String inserted(String column, boolean postgres) {
+    return postgres ? "EXCLUDED." + column : "VALUES(" + column + ")";
+  }
+
+  private boolean isPostgres() {
+    return "postgres".equalsIgnoreCase(metricsDataSourceExtraProperties.getDbType());
+  }
+
+  private static class NodeIntervals {
+
+    /**
+     * The last interval of each sampling name.
+     */
+    private final Map<String, Long> intervals = new ConcurrentHashMap<>();
+
+    private volatile long lastWriteTime;
+
+  }
+
+}
@@ -0,0 +1,283 @@
+package cloud.xcan.angus.core.tester.infra.metricsds;
+
+import static cloud.xcan.angus.core.tester.application.converter.ExecSampleConverter.toExecSampleRollup;
+import static cloud.xcan.angus.core.tester.application.converter.ExecSampleConverter.toExecSampleTier;
+import static cloud.xcan.angus.core.tester.infra.metricsds.MetricsDataSourceConfiguration.METRICS_DATASOURCE_PREFIX;
+import static cloud.xcan.angus.core.tester.infra.metricsds.MetricsDataSourceConfiguration.METRICS_DATASOURCE_SUFFIX;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+import static java.util.Objects.isNull;
+
+import cloud.xcan.angus.core.spring.SpringContextHolder;
+import cloud.xcan.angus.core.tester.domain.exec.ExecInfo;
+import cloud.xcan.angus.core.tester.infra.config.ExecSampleTierConfig.ExecSampleTierProperties;
+import cloud.xcan.angus.core.tester.infra.metricsds.MetricsDataSourceContextHolder.Shard;
+import cloud.xcan.angus.core.tester.infra.metricsds.config.MetricsDataSourceExtraProperties;
+import cloud.xcan.angus.core.tester.infra.metricsds.config.MetricsDataSourceProperties;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollup;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollupRepo;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleTier;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleTierRepo;
+import cloud.xcan.angus.idgen.UidGenerator;
+import cloud.xcan.angus.remote.search.SearchCriteria;
+import jakarta.annotation.Resource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Query;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.jpa.EntityManagerFactoryInfo;
+
+/**
+ * Compact the rollups of an execution into downsampled tiers.
+ * <p>
+ * Each tier holds one row per {@code (exec_id, resolution, timestamp, name)} bucket and is
+ * compacted from the finest tier whose resolution divides its own, the rollups being the finest
+ * one. Compaction resumes from the latest bucket of the tier, which is recomputed because it may
+ * have been partial, so a run is idempotent and a tier of a running execution catches up
+ * incrementally.
+ * <p>
+ * The principal of current thread must be the tenant of execution.
+ */
+@Slf4j
+public class ExecSampleTierCompactor {
+
+  public static final String TIER_TABLE_NAME = "exec_sample_tier";
+
+  private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+  private static final String[] INSERT_COLUMNS = {"id", "exec_id", "tenant_id", "resolution",
+      "timestamp", "timestamp0", "name", "node_num", "finish", "duration", "errors", "iterations",
+      "n", "operations", "transactions", "read_bytes", "write_bytes", "ops", "tps", "brps", "bwps",
+      "tran_mean", "tran_min", "tran_max", "tran_p50", "tran_p75", "tran_p90", "tran_p95",
+      "tran_p99", "tran_p999", "error_rate", "thread_pool_size", "thread_pool_active_size",
+      "thread_max_pool_size", "thread_running", "thread_terminated", "ext_counter1",
+      "ext_counter2", "ext_gauge1", "ext_gauge2"};
+  private static final Set<String> KEY_COLUMNS = Set.of("id", "exec_id", "tenant_id",
+      "resolution", "timestamp", "name");
+
+  private final ExecSampleTierProperties properties;
+
+  @Resource
+  private ExecSampleRollupRepo execSampleRollupRepo;
+
+  @Resource
+  private ExecSampleTierRepo execSampleTierRepo;
+
+  @Resource
+  private UidGenerator uidGenerator;
+
+  @Resource
+  private MetricsDataSourceProperties metricsDataSourceProperties;
+
+  @Resource
+  private MetricsDataSourceExtraProperties metricsDataSourceExtraProperties;
+
+  private volatile String upsertSuffix;
+
+  public ExecSampleTierCompactor(ExecSampleTierProperties properties) {
+    this.properties = properties;
+  }
+
+  public boolean isEnabled() {
+    return properties.isEnabled() && !isEmpty(properties.getResolutions());
+  }
+
+  /**
+   * Resolutions of the tiers in ascending order, tiers not coarser than the report interval are
+   * excluded.
+   */
+  public List<Long> getResolutions(long reportInterval) {
+    return properties.getResolutions().stream().map(Duration::toMillis)
+        .filter(r -> r > reportInterval).distinct().sorted().collect(Collectors.toList());
+  }
+
+  /**
+   * Select the finest tier whose number of points within the range is within the point budget, the
+   * coarsest tier is used when none is.
+   *
+   * @return Resolution of the selected tier, or 0 when the raw rollups fit the budget
+   */
+  public long selectResolution(long reportInterval, long rangeMillis) {
+    if (!isEnabled() || rangeMillis <= 0
+        || rangeMillis / Math.max(reportInterval, 1) <= properties.getPointBudget()) {
+      return 0;
+    }
+    List<Long> resolutions = getResolutions(reportInterval);
+    for (Long resolution : resolutions) {
+      if (rangeMillis / resolution <= properties.getPointBudget()) {
+        return resolution;
+      }
+    }
+    return resolutions.isEmpty() ? 0 : resolutions.get(resolutions.size() - 1);
+  }
+
+  /**
+   * Compact the rollups of execution into all tiers.
+   *
+   * @return Number of tier rows written
+   */
+  public int compact(ExecInfo exec) {
+    if (!isEnabled()) {
+      return 0;
+    }
+    long reportInterval = isNull(exec.getReportInterval())
+        ? 0 : exec.getReportInterval().toMilliSecond();
+    List<Long> compacted = new ArrayList<>();
+    int rows = 0;
+    for (Long resolution : getResolutions(reportInterval)) {
+      // Compact from the finest tier it is a multiple of, otherwise from rollups
+      long source = 0;
+      for (Long finer : compacted) {
+        if (resolution % finer == 0) {
+          source = finer;
+        }
+      }
+      rows += compact(exec, source, resolution);
+      compacted.add(resolution);
+    }
+    return rows;
+  }
+
+  private int compact(ExecInfo exec, long source, long resolution) {
+    Long latest = execSampleTierRepo.findLatestTimestamp(exec.getId(), resolution);
+    long after = isNull(latest) ? 0 : latest;
+    Long first = source == 0
+        ? execSampleRollupRepo.findFirstTimestampAfter(exec.getId(), after)
+        : execSampleTierRepo.findFirstTimestampAfter(exec.getId(), source, after);
+    if (isNull(first)) {
+      return 0;
+    }
+    long from = first / resolution * resolution;
+    long to = from + resolution * properties.getMaxBucketsPerRun();
+
+    Set<SearchCriteria> filters = new HashSet<>();
+    filters.add(SearchCriteria.equal("execId", exec.getId()));
+    filters.add(SearchCriteria.greaterThanEqual("timestamp", from));
+    filters.add(SearchCriteria.lessThanEqual("timestamp", to - 1));
+    List<ExecSampleRollup> sources;
+    if (source == 0) {
+      sources = execSampleRollupRepo.findAllByFilters(filters);
+    } else {
+      filters.add(SearchCriteria.equal("resolution", source));
+      sources = execSampleTierRepo.findAllByFilters(filters).stream()
+          .map(tier -> toExecSampleRollup(tier)).collect(Collectors.toList());
+    }
+    if (isEmpty(sources)) {
+      return 0;
+    }
+
+    sources.sort(Comparator.comparingLong(ExecSampleRollup::getTimestamp));
+    Map<String, List<ExecSampleRollup>> buckets = new LinkedHashMap<>();
+    for (ExecSampleRollup rollup : sources) {
+      buckets.computeIfAbsent(rollup.getTimestamp() / resolution * resolution + "_"
+          + rollup.getName(), k -> new ArrayList<>()).add(rollup);
+    }
+    List<ExecSampleTier> tiers = new ArrayList<>(buckets.size());
+    for (List<ExecSampleRollup> bucket : buckets.values()) {
+      tiers.add(toExecSampleTier(bucket, resolution,
+          bucket.get(0).getTimestamp() / resolution * resolution));
+    }
+
+    try {
+      MetricsDataSourceContextHolder.setShard(new Shard()
+          .dataSource(METRICS_DATASOURCE_PREFIX
+              + exec.getTenantId() % metricsDataSourceProperties.getShardDbNum()
+              + METRICS_DATASOURCE_SUFFIX)
+          .tenantId(exec.getTenantId())
+          .tableSecondIndex(-1));
+      upsert(tiers);
+    } finally {
+      MetricsDataSourceContextHolder.clear();
+    }
+    return tiers.size();
+  }
+
+  private void upsert(List<ExecSampleTier> tiers) {
+    EntityManager em = SpringContextHolder.getBean(
+        MetricsDataSourceConfiguration.METRICS_ENTITY_MANAGER_FACTORY_NAMETRICS_ENTITY,
+        EntityManagerFactoryInfo.class).getNativeEntityManagerFactory().createEntityManager();
+    EntityTransaction transaction = null;
+    try {
+      transaction = em.getTransaction();
+      transaction.begin();
+      for (int from = 0; from < tiers.size(); from += MAX_ROWS_PER_STATEMENT) {
+        List<ExecSampleTier> rows = tiers.subList(from,
+            Math.min(from + MAX_ROWS_PER_STATEMENT, tiers.size()));
+        Query query = em.createNativeQuery(toUpsertSql(rows.size()));
+        int position = 1;
+        for (ExecSampleTier row : rows) {
+          position = setParameters(query, position, row);
+        }
+        query.executeUpdate();
+      }
+      transaction.commit();
+    } catch (RuntimeException e) {
+      if (transaction != null && transaction.isActive()) {
+        transaction.rollback();
+      }
+      throw e;
+    } finally {
+      em.close(); // Fix:: One em meaning one connection
+    }
+  }
+
+  private int setParameters(Query query, int position, ExecSampleTier row) {
+    Object[] values = {uidGenerator.getUID(), row.getExecId(), row.getTenantId(),
+        row.getResolution(), row.getTimestamp(), row.getTimestamp0(), row.getName(),
+        row.getNodeNum(), row.isFinish(), row.getDuration(), row.getErrors(), row.getIterations(),
+        row.getN(), row.getOperations(), row.getTransactions(), row.getReadBytes(),
+        row.getWriteBytes(), row.getOps(), row.getTps(), row.getBrps(), row.getBwps(),
+        row.getTranMean(), row.getTranMin(), row.getTranMax(), row.getTranP50(),
+        row.getTranP75(), row.getTranP90(), row.getTranP95(), row.getTranP99(),
+        row.getTranP999(), row.getErrorRate(), row.getThreadPoolSize(),
+        row.getThreadPoolActiveSize(), row.getThreadMaxPoolSize(), row.isThreadRunning(),
+        row.isThreadTerminated(), row.getExtCounter1(), row.getExtCounter2(),
+        row.getExtGauge1(), row.getExtGauge2()};
+    for (Object value : values) {
+      query.setParameter(position++, value);
+    }
+    return position;
+  }
+
+  private String toUpsertSql(int rowNum) {
+    StringJoiner rows = new StringJoiner(", ");
+    int position = 1;
+    for (int i = 0; i < rowNum; i++) {
+      StringJoiner row = new StringJoiner(", ", "(", ")");
+      for (int j = 0; j < INSERT_COLUMNS.length; j++) {
+        row.add("?" + position++);
+      }
+      rows.add(row.toString());
+    }
+    return "INSERT INTO " + TIER_TABLE_NAME + " (" + String.join(", ", INSERT_COLUMNS)
+        + ") VALUES " + rows + getUpsertSuffix();
+  }
+
+  private String getUpsertSuffix() {
+    if (upsertSuffix == null) {
+      // Recomputed buckets replace the previous values
+      boolean postgres = "postgres".equalsIgnoreCase(metricsDataSourceExtraProperties.getDbType());
+      StringJoiner updates = new StringJoiner(", ");
+      for (String column : INSERT_COLUMNS) {
+        if (!KEY_COLUMNS.contains(column)) {
+          updates.add(column + " = " + (postgres ? "EXCLUDED." + column
+              : "VALUES(" + column + ")"));
+        }
+      }
+      upsertSuffix = postgres
+          ? " ON CONFLICT (exec_id, resolution, timestamp, name) DO UPDATE SET " + updates
+          : " ON DUPLICATE KEY UPDATE " + updates;
+    }
+    return upsertSuffix;
+  }
+
+}
@@ -17,4 +17,14 @@ public class MetricsDataSourceAutoConfigurer {
     return new TableSchemaManager();
   }
 
+  @Bean
+  public TablePartitionManager tablePartitionManager() {
+    return new TablePartitionManager();
+  }
+
+  @Bean
+  public ExecSampleRollupWriter execSampleRollupWriter() {
+    return new ExecSampleRollupWriter();
+  }
+
 }
@@ -54,6 +54,9 @@ public class MetricsDynamicDataSourceAspect {
           + "|| execution(* cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleThroughputRepo.*(..)) "
           + "|| execution(* cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleScoreRepo.*(..)) "
           + "|| execution(* cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleErrorRepo.*(..)) "
+          + "|| execution(* cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollupRepo.*(..)) "
+          + "|| execution(* cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollupGapRepo.*(..)) "
+          + "|| execution(* cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleTierRepo.*(..)) "
           + "|| execution(* cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleErrorCauseRepo.*(..)) "
           + "|| execution(* cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleContentRepo.*(..)) "
           + "|| execution(* cloud.xcan.angus.core.tester.infra.metricsds.domain.jvmservice.JvmServiceUsageRepo.*(..)) "
@@ -0,0 +1,239 @@
+package cloud.xcan.angus.core.tester.infra.metricsds;
+
+import static cloud.xcan.angus.core.tester.infra.metricsds.MetricsDataSourceConfiguration.METRICS_DATASOURCE_PREFIX;
+import static cloud.xcan.angus.core.tester.infra.metricsds.MetricsDataSourceConfiguration.METRICS_DATASOURCE_SUFFIX;
+import static cloud.xcan.angus.core.tester.infra.metricsds.TableSchemaManager.SHARD_TABLE_NAME_SPLIT;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import cloud.xcan.angus.api.commonlink.setting.Setting;
+import cloud.xcan.angus.api.commonlink.setting.SettingKey;
+import cloud.xcan.angus.api.manager.SettingManager;
+import cloud.xcan.angus.core.spring.SpringContextHolder;
+import cloud.xcan.angus.core.tester.domain.shard.ShardTables;
+import cloud.xcan.angus.core.tester.domain.shard.ShardTablesRepo;
+import cloud.xcan.angus.core.tester.infra.config.ExecSampleTierConfig.ExecSampleTierProperties;
+import cloud.xcan.angus.core.tester.infra.metricsds.MetricsDataSourceContextHolder.Shard;
+import cloud.xcan.angus.core.tester.infra.metricsds.config.MetricsDataSourceExtraProperties;
+import cloud.xcan.angus.core.tester.infra.metricsds.config.MetricsDataSourceProperties;
+import jakarta.annotation.Resource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.jpa.EntityManagerFactoryInfo;
+
+/**
+ * Maintain time range partitions of metrics shard tables.
+ * <p>
+ * Shard tables are range-partitioned by {@code timestamp} with one partition per day or week and
+ * a trailing {@code p_future} catch-all partition. Future partitions are created in advance by
+ * splitting {@code p_future}, and expired partitions are dropped as a whole according to
+ * {@link SettingKey#MAX_METRICS_DAYS}, so retention is metadata work instead of row deletes.
+ * <p>
+ * Tables created before partitioning was enabled (or on Postgres) fall back to deleting expired
+ * rows.
+ * <p>
+ * When downsampled tiers are enabled, the raw rollups can be configured to expire earlier than
+ * other metrics.
+ */
+@Slf4j
+public class TablePartitionManager {
+
+  public static final String FUTURE_PARTITION_NAME = "p_future";
+  public static final String FUTURE_PARTITION_DEFINITION =
+      "PARTITION " + FUTURE_PARTITION_NAME + " VALUES LESS THAN MAXVALUE";
+  public static final String PARTITION_NAME_PREFIX = "p";
+  public static final String PARTITION_UNIT_WEEK = "WEEK";
+
+  public static final Long RESERVED_DAY = 15L;
+  public static final Long NO_CLEAR_RESERVED_DAY = -1L;
+
+  private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+  private static final DateTimeFormatter PARTITION_NAME_FORMATTER =
+      DateTimeFormatter.ofPattern("yyyyMMdd");
+
+  private static final String FIND_PARTITIONS_SQL =
+      "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS "
+          + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?1 AND PARTITION_NAME IS NOT NULL "
+          + "ORDER BY PARTITION_ORDINAL_POSITION";
+
+  @Resource
+  private ShardTablesRepo shardTablesRepo;
+
+  @Resource
+  private MetricsDataSourceProperties metricsDataSourceProperties;
+
+  @Resource
+  private MetricsDataSourceExtraProperties metricsDataSourceExtraProperties;
+
+  @Resource
+  private ExecSampleTierProperties execSampleTierProperties;
+
+  public boolean isPartitionEnabled() {
+    return !"postgres".equalsIgnoreCase(metricsDataSourceExtraProperties.getDbType())
+        && Boolean.TRUE.equals(metricsDataSourceProperties.getPartition().getEnabled());
+  }
+
+  /**
+   * Partition definitions of a new shard table: the current period, the pre-created future
+   * periods and the {@code p_future} partition.
+   */
+  public String initialPartitionDefinitions() {
+    return String.join(",\n    ", futurePartitionDefinitions(Long.MIN_VALUE))
+        + ",\n    " + FUTURE_PARTITION_DEFINITION;
+  }
+
+  /**
+   * Pre-create future partitions and drop expired partitions of all shard tables.
+   */
+  public void maintain() {
+    List<ShardTables> shardTables = shardTablesRepo.findAll();
+    if (isEmpty(shardTables)) {
+      return;
+    }
+    long reservedDay = getReservedDay();
+    long reservedTime = NO_CLEAR_RESERVED_DAY.equals(reservedDay) ? -1
+        : System.currentTimeMillis() - reservedDay * DAY_MILLIS;
+    long rawReservedTime = getRawRollupReservedTime(reservedTime);
+    int maintained = 0;
+    for (ShardTables shardTable : shardTables) {
+      try {
+        MetricsDataSourceContextHolder.setShard(new Shard()
+            .dataSource(METRICS_DATASOURCE_PREFIX + shardTable.getDbIndex()
+                + METRICS_DATASOURCE_SUFFIX)
+            .tenantId(shardTable.getTenantId())
+            .tableSecondIndex(-1));
+        maintain(shardTable.getTableName(), shardTable.getTableName().startsWith(
+            ExecSampleRollupWriter.ROLLUP_TABLE_NAME + SHARD_TABLE_NAME_SPLIT)
+            ? rawReservedTime : reservedTime);
+        maintained++;
+      } catch (Exception e) {
+        log.error("Maintain partitions of shard table {} exception: {}",
+            shardTable.getTableName(), e.getMessage());
+      } finally {
+        MetricsDataSourceContextHolder.clear();
+      }
+    }
+    log.info("Maintain partitions of shard tables finished, tables: {}, maintained: {}",
+        shardTables.size(), maintained);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void maintain(String tableName, long reservedTime) {
+    EntityManager em = SpringContextHolder.getBean(
+        MetricsDataSourceConfiguration.METRICS_ENTITY_MANAGER_FACTORY_NAMETRICS_ENTITY,
+        EntityManagerFactoryInfo.class).getNativeEntityManagerFactory().createEntityManager();
+    EntityTransaction transaction = null;
+    try {
+      transaction = em.getTransaction();
+      transaction.begin();
+      List<Object[]> partitions = isPartitionEnabled()
+          ? em.createNativeQuery(FIND_PARTITIONS_SQL).setParameter(1, tableName).getResultList()
+          : List.of();
+
+      if (isEmpty(partitions)) {
+        // Not partitioned table
+        if (reservedTime > 0) {
+          em.createNativeQuery("DELETE FROM `" + tableName + "` WHERE timestamp < ?1")
+              .setParameter(1, reservedTime).executeUpdate();
+        }
+        transaction.commit();
+        return;
+      }
+
+      long maxUpperBound = Long.MIN_VALUE;
+      List<String> expiredPartitions = new ArrayList<>();
+      for (Object[] partition : partitions) {
+        String name = String.valueOf(partition[0]);
+        if (FUTURE_PARTITION_NAME.equals(name)) {
+          continue;
+        }
+        long upperBound = Long.parseLong(String.valueOf(partition[1]));
+        maxUpperBound = Math.max(maxUpperBound, upperBound);
+        // All rows of partition are earlier than upper bound
+        if (reservedTime > 0 && upperBound <= reservedTime) {
+          expiredPartitions.add(name);
+        }
+      }
+
+      List<String> newPartitions = futurePartitionDefinitions(maxUpperBound);
+      if (!newPartitions.isEmpty()) {
+        em.createNativeQuery("ALTER TABLE `" + tableName + "` REORGANIZE PARTITION "
+            + FUTURE_PARTITION_NAME + " INTO (" + String.join(", ", newPartitions) + ", "
+            + FUTURE_PARTITION_DEFINITION + ")").executeUpdate();
+      }
+      if (!expiredPartitions.isEmpty()) {
+        em.createNativeQuery("ALTER TABLE `" + tableName + "` DROP PARTITION "
+            + String.join(", ", expiredPartitions)).executeUpdate();
+        log.info("Drop expired partitions {} of shard table {}", expiredPartitions, tableName);
+      }
+      transaction.commit();
+    } catch (RuntimeException e) {
+      if (transaction != null && transaction.isActive()) {
+        transaction.rollback();
+      }
+      throw e;
+    } finally {
+      em.close(); // Fix:: One em meaning one connection
+    }
+  }
+
+  /**
+   * Expire the raw rollups earlier when they are compacted into tiers and their reserved days are
+   * less than the maximum days of metrics.
+   */
+  private long getRawRollupReservedTime(long reservedTime) {
+    Long rawReservedDay = execSampleTierProperties.getRawReservedDay();
+    if (!execSampleTierProperties.isEnabled() || isNull(rawReservedDay) || rawReservedDay <= 0) {
+      return reservedTime;
+    }
+    long rawReservedTime = System.currentTimeMillis() - rawReservedDay * DAY_MILLIS;
+    return reservedTime > 0 ? Math.max(reservedTime, rawReservedTime) : rawReservedTime;
+  }
+
+  /**
+   * Definitions of the partitions from the current period to the last pre-created period, whose
+   * upper bound is greater than {@code afterUpperBound}.
+   */
+  private List<String> futurePartitionDefinitions(long afterUpperBound) {
+    MetricsDataSourceProperties.Partition partition = metricsDataSourceProperties.getPartition();
+    boolean weekly = PARTITION_UNIT_WEEK.equalsIgnoreCase(partition.getUnit());
+    ZoneId zone = ZoneId.systemDefault();
+    LocalDate start = weekly ? LocalDate.now().with(DayOfWeek.MONDAY) : LocalDate.now();
+    int preCreateNum = nonNull(partition.getPreCreateNum()) ? partition.getPreCreateNum() : 7;
+    List<String> definitions = new ArrayList<>();
+    for (int i = 0; i <= preCreateNum; i++) {
+      LocalDate end = weekly ? start.plusWeeks(1) : start.plusDays(1);
+      long upperBound = end.atStartOfDay(zone).toInstant().toEpochMilli();
+      if (upperBound > afterUpperBound) {
+        definitions.add("PARTITION " + PARTITION_NAME_PREFIX
+            + start.format(PARTITION_NAME_FORMATTER) + " VALUES LESS THAN (" + upperBound + ")");
+      }
+      start = end;
+    }
+    return definitions;
+  }
+
+  public static long getReservedDay() {
+    long reservedDay = RESERVED_DAY;
+    try {
+      SettingManager settingManager = SpringContextHolder.getBean(SettingManager.class);
+      Setting setting = settingManager.setting(SettingKey.MAX_METRICS_DAYS);
+      reservedDay =
+          setting.getMaxMetricsDays() == null ? RESERVED_DAY : setting.getMaxMetricsDays();
+    } catch (Exception e) {
+      log.error("The maximum day of metrics is not configured, SettingKey: {}",
+          SettingKey.MAX_METRICS_DAYS.getValue());
+    }
+    return reservedDay <= 0 ? NO_CLEAR_RESERVED_DAY : reservedDay;
+  }
+
+}
@@ -37,10 +37,13 @@ public class TableSchemaManager {
 
   public static final List<String> TEMPLATE_TABLE_NAMES = Arrays
       .asList("node_usage", "node_disk_usage", "node_net_usage",
-          "exec_sample", "exec_sample_error_cause", "exec_sample_content", "jvm_service_usage");
+          "exec_sample", "exec_sample_rollup", "exec_sample_rollup_gap", "exec_sample_tier",
+          "exec_sample_error_cause", "exec_sample_content", "jvm_service_usage");
 
   public static final String SHARD_TABLE_NAME_SPLIT = "-";
 
+  private static final String PARTITION_BY_CLAUSE = "PARTITION BY";
+
   private final Map<String, String> TEMPLATE_TABLE_SCHEMA = new HashMap<>();
 
   @Resource
@@ -52,6 +55,9 @@ public class TableSchemaManager {
   @Resource
   private MetricsDataSourceProperties metricsDataSourceProperties;
 
+  @Resource
+  private TablePartitionManager tablePartitionManager;
+
   /**
    * Initialize at startup
    */
@@ -158,7 +164,8 @@ public class TableSchemaManager {
             .setDbIndex(Math.toIntExact(tenantId % metricsDataSourceProperties.getShardDbNum()))
             .setTableName(createTenantTable)
             .setTenantId(tenantId);
-        Query query = em.createNativeQuery(schemaSql.replaceFirst(shards[0], createTenantTable));
+        Query query = em.createNativeQuery(
+            toCreateTableSql(schemaSql.replaceFirst(shards[0], createTenantTable)));
         query.executeUpdate();
         shardTables.add(table);
       }
@@ -175,4 +182,17 @@ public class TableSchemaManager {
     return shardTables;
   }
 
+  /**
+   * Create the table with its initial time partitions, or without partitions when partitioning is
+   * disabled.
+   */
+  private String toCreateTableSql(String schemaSql) {
+    if (tablePartitionManager.isPartitionEnabled()) {
+      return schemaSql.replace(TablePartitionManager.FUTURE_PARTITION_DEFINITION,
+          tablePartitionManager.initialPartitionDefinitions());
+    }
+    int partitionIdx = schemaSql.indexOf(PARTITION_BY_CLAUSE);
+    return partitionIdx < 0 ? schemaSql : schemaSql.substring(0, partitionIdx).trim() + ";";
+  }
+
 }
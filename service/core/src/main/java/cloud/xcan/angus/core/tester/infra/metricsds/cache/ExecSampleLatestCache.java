@@ -0,0 +1,140 @@
+package cloud.xcan.angus.core.tester.infra.metricsds.cache;
+
+import static cloud.xcan.angus.core.tester.application.converter.ExecSampleConverter.mergeToFirst;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSample;
+import cloud.xcan.angus.spec.unit.TimeValue;
+import cloud.xcan.angus.spec.utils.JsonUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.annotation.Resource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-through cache of the latest exec samples of running executions.
+ * <p>
+ * Samples are cached per execution node, keyed by {@code execId_{execId}_node_{nodeId}} and
+ * holding the latest sample of each name pushed by the node. A node only pushes to one controller,
+ * so every key has a single writer, and the two-level cache shares entries across controller
+ * instances through Redis.
+ * <p>
+ * The entry of a node is evicted when the node finishes, after which the execution falls back to
+ * querying the metrics database.
+ */
+@Slf4j
+@Component
+public class ExecSampleLatestCache {
+
+  public static final String CACHE_NAME = "execLatestSample";
+
+  @Resource
+  private CacheManager cacheManager;
+
+  /**
+   * Update the latest samples of node with pushed samples.
+   */
+  public void put(Long execId, Long nodeId, List<ExecSample> samples) {
+    if (isEmpty(samples)) {
+      return;
+    }
+    try {
+      Cache cache = getCache();
+      String key = cacheKey(execId, nodeId);
+      LinkedHashMap<String, ExecSample> latest = read(cache, key);
+      if (isNull(latest)) {
+        latest = new LinkedHashMap<>();
+      }
+      for (ExecSample sample : samples) {
+        ExecSample cached = latest.get(sample.getName());
+        if (isNull(cached) || cached.getTimestamp() <= sample.getTimestamp()) {
+          latest.put(sample.getName(), sample);
+        }
+      }
+      // Note: Stored as json, readers always get a copy which is safe to merge into
+      cache.put(key, JsonUtils.toJson(latest));
+    } catch (Exception e) {
+      log.warn("Update latest exec sample cache exception, execId: {}, nodeId: {}, cause: {}",
+          execId, nodeId, e.getMessage());
+    }
+  }
+
+  public void evict(Long execId, Long nodeId) {
+    try {
+      getCache().evict(cacheKey(execId, nodeId));
+    } catch (Exception e) {
+      log.warn("Evict latest exec sample cache exception, execId: {}, nodeId: {}, cause: {}",
+          execId, nodeId, e.getMessage());
+    }
+  }
+
+  /**
+   * Merge the latest samples of all execution nodes in the same way as querying the metrics
+   * database: nodes whose latest sample is within one report interval of the newest one are merged.
+   *
+   * @return Merged sample, or null when any node is missing in cache
+   */
+  public ExecSample getLatestMergeSample(Long execId, Collection<Long> nodeIds, String name,
+      TimeValue reportInterval) {
+    if (isEmpty(nodeIds)) {
+      return null;
+    }
+    try {
+      Cache cache = getCache();
+      List<ExecSample> nodeSamples = new ArrayList<>(nodeIds.size());
+      long latestTimestamp = Long.MIN_VALUE;
+      for (Long nodeId : nodeIds) {
+        LinkedHashMap<String, ExecSample> latest = read(cache, cacheKey(execId, nodeId));
+        ExecSample sample = isNull(latest) ? null : latest.get(name);
+        if (isNull(sample)) {
+          return null;
+        }
+        nodeSamples.add(sample);
+        latestTimestamp = Math.max(latestTimestamp, sample.getTimestamp());
+      }
+
+      long fromTimestamp = nonNull(reportInterval)
+          ? latestTimestamp - reportInterval.toMilliSecond() : latestTimestamp;
+      ExecSample first = null;
+      for (ExecSample sample : nodeSamples) {
+        if (sample.getTimestamp() < fromTimestamp) {
+          continue;
+        }
+        if (isNull(first)) {
+          first = sample;
+        } else {
+          mergeToFirst(first, sample);
+        }
+      }
+      return first;
+    } catch (Exception e) {
+      log.warn("Read latest exec sample cache exception, execId: {}, cause: {}", execId,
+          e.getMessage());
+      return null;
+    }
+  }
+
+  private LinkedHashMap<String, ExecSample> read(Cache cache, String key) {
+    String json = cache.get(key, String.class);
+    return isEmpty(json) ? null : JsonUtils.convert(json,
+        new TypeReference<LinkedHashMap<String, ExecSample>>() {
+        });
+  }
+
+  private Cache getCache() {
+    return cacheManager.getCache(CACHE_NAME);
+  }
+
+  private static String cacheKey(Long execId, Long nodeId) {
+    return "execId_" + execId + "_node_" + nodeId;
+  }
+
+}
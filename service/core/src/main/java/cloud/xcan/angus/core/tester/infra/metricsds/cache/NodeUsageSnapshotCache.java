@@ -0,0 +1,139 @@
+package cloud.xcan.angus.core.tester.infra.metricsds.cache;
+
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.usage.NodeUsage;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.usage.NodeUsage.Cpu;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.usage.NodeUsage.FileSystem;
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.usage.NodeUsage.Memory;
+import cloud.xcan.angus.spec.utils.JsonUtils;
+import jakarta.annotation.Resource;
+import java.util.Collection;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-through cache of the latest usage of nodes, which is also the heartbeat of node agents.
+ * <p>
+ * Agents push host usage periodically, the controller receiving the push updates the snapshot of
+ * the node keyed by {@code node_{nodeId}}, and the two-level cache shares it across controller
+ * instances through Redis. Liveness checks and node selection read the snapshot instead of scanning
+ * the node usage shard tables.
+ * <p>
+ * A missing snapshot means unknown rather than offline, callers fall back to querying the metrics
+ * database for these nodes.
+ */
+@Slf4j
+@Component
+public class NodeUsageSnapshotCache {
+
+  public static final String CACHE_NAME = "nodeUsageSnapshot";
+
+  @Resource
+  private CacheManager cacheManager;
+
+  public void put(NodeUsage usage) {
+    if (isNull(usage) || isNull(usage.getNodeId()) || isNull(usage.getTimestamp())) {
+      return;
+    }
+    try {
+      NodeUsageSnapshot snapshot = new NodeUsageSnapshot()
+          .setNodeId(usage.getNodeId())
+          .setTimestamp(usage.getTimestamp())
+          .setCpu(usage.getCpu())
+          .setMemory(usage.getMemory())
+          .setFilesystem(usage.getFilesystem());
+      getCache().put(cacheKey(usage.getNodeId()), JsonUtils.toJson(snapshot));
+    } catch (Exception e) {
+      log.warn("Update node usage snapshot cache exception, nodeId: {}, cause: {}",
+          usage.getNodeId(), e.getMessage());
+    }
+  }
+
+  /**
+   * Get the latest usage of node.
+   *
+   * @return Latest usage, or null when the node is missing in cache
+   */
+  public NodeUsage get(Long nodeId) {
+    try {
+      NodeUsageSnapshot snapshot = read(getCache(), nodeId);
+      return isNull(snapshot) ? null : new NodeUsage()
+          .setNodeId(snapshot.getNodeId())
+          .setTimestamp(snapshot.getTimestamp())
+          .setCpu(snapshot.getCpu())
+          .setMemory(snapshot.getMemory())
+          .setFilesystem(snapshot.getFilesystem());
+    } catch (Exception e) {
+      log.warn("Read node usage snapshot cache exception, nodeId: {}, cause: {}", nodeId,
+          e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Split nodes by their snapshots: nodes with a heartbeat after {@code afterTimestamp} are added
+   * to {@code liveNodeIds}, nodes missing in cache are added to {@code unknownNodeIds}, and the
+   * others are offline.
+   */
+  public void classify(Collection<Long> nodeIds, long afterTimestamp, Set<Long> liveNodeIds,
+      Set<Long> unknownNodeIds) {
+    Cache cache = null;
+    try {
+      cache = getCache();
+    } catch (Exception e) {
+      log.warn("Get node usage snapshot cache exception, cause: {}", e.getMessage());
+    }
+    for (Long nodeId : nodeIds) {
+      NodeUsageSnapshot snapshot = null;
+      if (nonNull(cache)) {
+        try {
+          snapshot = read(cache, nodeId);
+        } catch (Exception e) {
+          log.warn("Read node usage snapshot cache exception, nodeId: {}, cause: {}", nodeId,
+              e.getMessage());
+        }
+      }
+      if (isNull(snapshot)) {
+        unknownNodeIds.add(nodeId);
+      } else if (snapshot.getTimestamp() > afterTimestamp) {
+        liveNodeIds.add(nodeId);
+      }
+    }
+  }
+
+  private NodeUsageSnapshot read(Cache cache, Long nodeId) {
+    String json = cache.get(cacheKey(nodeId), String.class);
+    return isEmpty(json) ? null : JsonUtils.fromJson(json, NodeUsageSnapshot.class);
+  }
+
+  private Cache getCache() {
+    return cacheManager.getCache(CACHE_NAME);
+  }
+
+  private static String cacheKey(Long nodeId) {
+    return "node_" + nodeId;
+  }
+
+  @Setter
+  @Getter
+  @Accessors(chain = true)
+  public static class NodeUsageSnapshot {
+
+    private Long nodeId;
+    private Long timestamp;
+    private Cpu cpu;
+    private Memory memory;
+    private FileSystem filesystem;
+
+  }
+
+}
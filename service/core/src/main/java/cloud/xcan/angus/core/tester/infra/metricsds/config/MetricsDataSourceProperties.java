@@ -27,6 +27,7 @@ public class MetricsDataSourceProperties {
 
   private MySql mysql = new MySql();
   private Postgresql postgresql = new Postgresql();
+  private Partition partition = new Partition();
 
   @Getter
   @Setter
@@ -45,4 +46,23 @@ public class MetricsDataSourceProperties {
     private String[] urls;
 
   }
+
+  @Getter
+  @Setter
+  public static class Partition {
+
+    /**
+     * Range-partition new shard tables by timestamp, only supported by MySQL.
+     */
+    private Boolean enabled = true;
+    /**
+     * Partition period, available values: DAY, WEEK
+     */
+    private String unit = "DAY";
+    /**
+     * Number of future partitions created in advance.
+     */
+    private Integer preCreateNum = 7;
+
+  }
 }
@@ -35,12 +35,6 @@ public interface JvmServiceUsageRepo extends BaseRepository<JvmServiceUsage, Lon
   @Query(value = "SELECT service_id FROM jvm_service_usage WHERE timestamp >= ?1 AND service_id IN ?2", nativeQuery = true)
   Set<Long> findLatestIdByTimestampBeforeAndServiceIdIn(Long before, Collection<Long> ids);
 
-  @Transactional
-  @Modifying
-  @Sharding
-  @Query(value = "DELETE FROM jvm_service_usage WHERE timestamp < ?1", nativeQuery = true)
-  void deleteBeforeDay(long reservedTime);
-
   @Transactional
   @Modifying
   @Sharding
@@ -28,12 +28,6 @@ public interface ExecSampleContentRepo extends BaseRepository<ExecSampleContent,
   @Sharding
   void batchInsert0(Iterable<ExecSampleContent> usages);
 
-  @Transactional
-  @Modifying
-  @Sharding
-  @Query(value = "DELETE FROM exec_sample_content WHERE timestamp < DATE_SUB(CURDATE(), INTERVAL ?1 DAY)", nativeQuery = true)
-  void deleteBeforeDay(long reservedDay);
-
   @Transactional
   @Modifying
   @Sharding
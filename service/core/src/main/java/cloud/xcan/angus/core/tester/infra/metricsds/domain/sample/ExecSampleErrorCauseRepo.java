@@ -28,12 +28,6 @@ public interface ExecSampleErrorCauseRepo extends BaseRepository<ExecSampleError
   @Sharding
   List<ExecSampleErrorCause> findByExecId(Long id);
 
-  @Transactional
-  @Modifying
-  @Sharding
-  @Query(value = "DELETE FROM exec_sample_error_cause WHERE timestamp < DATE_SUB(CURDATE(), INTERVAL ?1 DAY)", nativeQuery = true)
-  void deleteBeforeDay(long reservedDay);
-
   @Transactional
   @Modifying
   @Sharding
@@ -27,6 +27,15 @@ public interface ExecSampleRepo extends BaseRepository<ExecSample, Long> {
   @Query(value = "SELECT node_id FROM exec_sample WHERE exec_id = ?1 ORDER BY timestamp ASC LIMIT 1", nativeQuery = true)
   Long findFirstNodeByExecId(Long execId);
 
+  @Sharding
+  @Query(value = "SELECT MIN(timestamp) FROM exec_sample WHERE exec_id = ?1", nativeQuery = true)
+  Long findFirstTimestampByExecId(Long execId);
+
+  @Sharding
+  @Query(value = "SELECT * FROM exec_sample WHERE exec_id = ?1 AND timestamp >= ?2 AND timestamp < ?3", nativeQuery = true)
+  List<ExecSample> findByExecIdAndTimestampRange(Long execId, long startTimestamp,
+      long endTimestamp);
+
   @Sharding
   @Query(value =
       "SELECT * FROM exec_sample WHERE exec_id = ?1 AND name = ?2 ORDER BY timestamp DESC LIMIT 1", nativeQuery = true)
@@ -94,12 +103,6 @@ public interface ExecSampleRepo extends BaseRepository<ExecSample, Long> {
           + ") sub ON t.name = sub.name AND t.timestamp = sub.latest_time", nativeQuery = true)
   List<ExecSampleCounter> findLatestExtCounterMap1(Long execId, Long nodeId, String name);
 
-  @Transactional
-  @Modifying
-  @Sharding
-  @Query(value = "DELETE FROM exec_sample WHERE timestamp < DATE_SUB(CURDATE(), INTERVAL ?1 DAY)", nativeQuery = true)
-  void deleteBeforeDay(long reservedDay);
-
   @Transactional
   @Modifying
   @Sharding
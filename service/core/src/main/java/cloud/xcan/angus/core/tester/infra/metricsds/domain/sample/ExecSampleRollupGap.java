@@ -0,0 +1,50 @@
+package cloud.xcan.angus.core.tester.infra.metricsds.domain.sample;
+
+import cloud.xcan.angus.core.tester.infra.metricsds.ShardingTable;
+import cloud.xcan.angus.spec.experimental.EntitySupport;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * Report intervals of an execution whose rollups failed to write, they are rebuilt from the node
+ * samples and read from the node samples until then.
+ */
+@ShardingTable
+@Entity
+@Table(name = "exec_sample_rollup_gap")
+@Setter
+@Getter
+@Accessors(chain = true)
+public class ExecSampleRollupGap extends EntitySupport<ExecSampleRollupGap, Long> {
+
+  @Id
+  private Long id;
+
+  @Column(name = "exec_id")
+  private Long execId;
+
+  /**
+   * The start time of the first report interval.
+   */
+  @Column(columnDefinition = "TIMESTAMP")
+  private Long timestamp;
+
+  /**
+   * The start time of the last report interval.
+   */
+  @Column(name = "end_timestamp", columnDefinition = "TIMESTAMP")
+  private Long endTimestamp;
+
+  @Column(name = "tenant_id")
+  private Long tenantId;
+
+  @Override
+  public Long identity() {
+    return id;
+  }
+}
@@ -0,0 +1,46 @@
+package cloud.xcan.angus.core.tester.infra.metricsds.domain.sample;
+
+import cloud.xcan.angus.core.jpa.repository.BaseRepository;
+import cloud.xcan.angus.core.tester.infra.metricsds.Sharding;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@NoRepositoryBean
+public interface ExecSampleRollupGapRepo extends BaseRepository<ExecSampleRollupGap, Long> {
+
+  @Override
+  @Transactional
+  @Modifying
+  @Sharding
+  void batchInsert0(Iterable<ExecSampleRollupGap> gaps);
+
+  @Sharding
+  @Query(value = "SELECT * FROM exec_sample_rollup_gap WHERE exec_id = ?1 ORDER BY timestamp ASC", nativeQuery = true)
+  List<ExecSampleRollupGap> findByExecId(Long execId);
+
+  @Sharding
+  @Query(value = "SELECT COUNT(*) FROM exec_sample_rollup_gap WHERE exec_id = ?1 AND timestamp <= ?3 AND end_timestamp >= ?2", nativeQuery = true)
+  long countByExecIdAndOverlap(Long execId, long startTimestamp, long endTimestamp);
+
+  @Transactional
+  @Modifying
+  @Sharding
+  @Query(value = "DELETE FROM exec_sample_rollup_gap WHERE id IN ?1", nativeQuery = true)
+  void deleteByIdIn(Collection<Long> ids);
+
+  @Transactional
+  @Modifying
+  @Sharding
+  @Query(value = "DELETE FROM exec_sample_rollup_gap WHERE exec_id = ?1", nativeQuery = true)
+  void deleteByExecId(Long execId);
+
+  @Transactional
+  @Modifying
+  @Sharding
+  @Query(value = "DELETE FROM exec_sample_rollup_gap WHERE exec_id IN ?1", nativeQuery = true)
+  void deleteByExecIdIn(Collection<Long> execIds);
+}
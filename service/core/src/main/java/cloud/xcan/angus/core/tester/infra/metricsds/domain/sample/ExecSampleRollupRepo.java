@@ -0,0 +1,43 @@
+package cloud.xcan.angus.core.tester.infra.metricsds.domain.sample;
+
+import cloud.xcan.angus.core.jpa.repository.BaseRepository;
+import cloud.xcan.angus.core.tester.infra.metricsds.Sharding;
+import cloud.xcan.angus.remote.search.SearchCriteria;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@NoRepositoryBean
+public interface ExecSampleRollupRepo extends BaseRepository<ExecSampleRollup, Long> {
+
+  @Sharding
+  @Override
+  Page<ExecSampleRollup> findAll(Specification<ExecSampleRollup> spec, Pageable pageable);
+
+  @Override
+  @Sharding
+  List<ExecSampleRollup> findAllByFilters(Set<SearchCriteria> filters);
+
+  @Sharding
+  @Query(value = "SELECT MIN(timestamp) FROM exec_sample_rollup WHERE exec_id = ?1 AND timestamp >= ?2", nativeQuery = true)
+  Long findFirstTimestampAfter(Long execId, long timestamp);
+
+  @Transactional
+  @Modifying
+  @Sharding
+  @Query(value = "DELETE FROM exec_sample_rollup WHERE exec_id = ?1", nativeQuery = true)
+  void deleteByExecId(Long execId);
+
+  @Transactional
+  @Modifying
+  @Sharding
+  @Query(value = "DELETE FROM exec_sample_rollup WHERE exec_id IN ?1", nativeQuery = true)
+  void deleteByExecIdIn(Collection<Long> execIds);
+}
@@ -0,0 +1,175 @@
+package cloud.xcan.angus.core.tester.infra.metricsds.domain.sample;
+
+import cloud.xcan.angus.core.tester.infra.metricsds.ShardingTable;
+import cloud.xcan.angus.spec.experimental.EntitySupport;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * Rollups downsampled to a coarser resolution, one row per execution, resolution, sampling name
+ * and time bucket.
+ */
+@ShardingTable
+@Entity
+@Table(name = "exec_sample_tier")
+@Setter
+@Getter
+@Accessors(chain = true)
+public class ExecSampleTier extends EntitySupport<ExecSampleTier, Long> {
+
+  @Id
+  private Long id;
+
+  @Column(name = "exec_id")
+  private Long execId;
+
+  /**
+   * The time span of a bucket in milliseconds.
+   */
+  private long resolution;
+
+  /**
+   * The start time of bucket, aligned by the resolution.
+   */
+  @Column(columnDefinition = "TIMESTAMP")
+  private Long timestamp;
+
+  /**
+   * The latest sampling time recorded by the runners.
+   */
+  @Column(columnDefinition = "TIMESTAMP")
+  private Long timestamp0;
+
+  /**
+   * Sampling task name.
+   */
+  private String name;
+
+  /**
+   * The maximum number of nodes merged into the rollups of bucket.
+   */
+  @Column(name = "node_num")
+  private int nodeNum;
+
+  private boolean finish;
+
+  /**
+   * =========Time=========
+   */
+  private long duration;
+
+  /**
+   * =======Counter=======
+   */
+  private long errors;
+
+  private Long iterations;
+
+  private long n;
+
+  private long operations;
+
+  private long transactions;
+
+  @Column(name = "read_bytes")
+  private long readBytes;
+
+  @Column(name = "write_bytes")
+  private long writeBytes;
+
+  /**
+   * ======Throughput======
+   */
+  private double ops;
+
+  private double tps;
+
+  private double brps;
+
+  private double bwps;
+
+  /**
+   * ==Aggregation(Trans)=
+   */
+  @Column(name = "tran_mean")
+  private double tranMean;
+
+  @Column(name = "tran_min")
+  private double tranMin;
+
+  @Column(name = "tran_max")
+  private double tranMax;
+
+  /**
+   * ==Percentile(Trans)==
+   */
+  @Column(name = "tran_p50")
+  private double tranP50;
+
+  @Column(name = "tran_p75")
+  private double tranP75;
+
+  @Column(name = "tran_p90")
+  private double tranP90;
+
+  @Column(name = "tran_p95")
+  private double tranP95;
+
+  @Column(name = "tran_p99")
+  private double tranP99;
+
+  @Column(name = "tran_p999")
+  private double tranP999;
+
+  /**
+   * ========Error========
+   */
+  @Column(name = "error_rate")
+  private double errorRate;
+
+  /**
+   * ========Threads=======
+   */
+  @Column(name = "thread_pool_size")
+  private int threadPoolSize;
+
+  @Column(name = "thread_pool_active_size")
+  private int threadPoolActiveSize;
+
+  @Column(name = "thread_max_pool_size")
+  private int threadMaxPoolSize;
+
+  @Column(name = "thread_running")
+  private boolean threadRunning;
+
+  @Column(name = "thread_terminated")
+  private boolean threadTerminated;
+
+  /**
+   * ========Extension====
+   */
+  @Column(name = "ext_counter1")
+  private long extCounter1;
+
+  @Column(name = "ext_counter2")
+  private long extCounter2;
+
+  @Column(name = "ext_gauge1")
+  private double extGauge1;
+
+  @Column(name = "ext_gauge2")
+  private double extGauge2;
+
+  @Column(name = "tenant_id")
+  private Long tenantId;
+
+  @Override
+  public Long identity() {
+    return id;
+  }
+}
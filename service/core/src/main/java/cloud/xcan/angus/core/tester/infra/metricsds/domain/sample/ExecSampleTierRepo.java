@@ -0,0 +1,47 @@
+package cloud.xcan.angus.core.tester.infra.metricsds.domain.sample;
+
+import cloud.xcan.angus.core.jpa.repository.BaseRepository;
+import cloud.xcan.angus.core.tester.infra.metricsds.Sharding;
+import cloud.xcan.angus.remote.search.SearchCriteria;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@NoRepositoryBean
+public interface ExecSampleTierRepo extends BaseRepository<ExecSampleTier, Long> {
+
+  @Sharding
+  @Override
+  Page<ExecSampleTier> findAll(Specification<ExecSampleTier> spec, Pageable pageable);
+
+  @Override
+  @Sharding
+  List<ExecSampleTier> findAllByFilters(Set<SearchCriteria> filters);
+
+  @Sharding
+  @Query(value = "SELECT MAX(timestamp) FROM exec_sample_tier WHERE exec_id = ?1 AND resolution = ?2", nativeQuery = true)
+  Long findLatestTimestamp(Long execId, long resolution);
+
+  @Sharding
+  @Query(value = "SELECT MIN(timestamp) FROM exec_sample_tier WHERE exec_id = ?1 AND resolution = ?2 AND timestamp >= ?3", nativeQuery = true)
+  Long findFirstTimestampAfter(Long execId, long resolution, long timestamp);
+
+  @Transactional
+  @Modifying
+  @Sharding
+  @Query(value = "DELETE FROM exec_sample_tier WHERE exec_id = ?1", nativeQuery = true)
+  void deleteByExecId(Long execId);
+
+  @Transactional
+  @Modifying
+  @Sharding
+  @Query(value = "DELETE FROM exec_sample_tier WHERE exec_id IN ?1", nativeQuery = true)
+  void deleteByExecIdIn(Collection<Long> execIds);
+}
@@ -37,10 +37,4 @@ public interface NodeUsageRepo extends BaseRepository<NodeUsage, Long> {
   @Query(value = "SELECT node_id FROM node_usage WHERE timestamp >= ?1 AND node_id IN ?2", nativeQuery = true)
   Set<Long> findLatestIdByTimestampBeforeAndNodeIdIn(Long before, Collection<Long> ids);
 
-  @Transactional
-  @Modifying
-  @Sharding
-  @Query(value = "DELETE FROM node_usage WHERE timestamp < ?1", nativeQuery = true)
-  void deleteBeforeDay(long reservedTime);
-
 }
@@ -7,7 +7,6 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,10 +40,4 @@ public interface DiskUsageRepo extends BaseRepository<DiskUsage, Long> {
   @Sharding
   Page<DiskUsage> findAll(Specification<DiskUsage> filters, Pageable pageable);
 
-  @Transactional
-  @Modifying
-  @Sharding
-  @Query(value = "DELETE FROM node_disk_usage WHERE timestamp < ?1", nativeQuery = true)
-  void deleteBeforeDay(long reservedTime);
-
 }
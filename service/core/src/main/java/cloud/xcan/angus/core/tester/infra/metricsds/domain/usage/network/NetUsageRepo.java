@@ -39,10 +39,4 @@ public interface NetUsageRepo extends BaseRepository<NetUsage, Long> {
   @Sharding
   Page<NetUsage> findAll(Specification<NetUsage> filters, Pageable pageable);
 
-  @Transactional
-  @Modifying
-  @Sharding
-  @Query(value = "DELETE FROM node_net_usage WHERE timestamp < ?1", nativeQuery = true)
-  void deleteBeforeDay(long reservedTime);
-
 }
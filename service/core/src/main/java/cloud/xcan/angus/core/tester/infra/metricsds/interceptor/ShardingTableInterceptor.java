@@ -10,10 +10,17 @@ import cloud.xcan.angus.core.tester.infra.metricsds.MetricsDataSourceContextHold
 import cloud.xcan.angus.core.tester.infra.metricsds.MetricsDataSourceContextHolder.Shard;
 import cloud.xcan.angus.core.tester.infra.metricsds.ShardingTable;
 import cloud.xcan.angus.core.tester.infra.metricsds.TableSchemaManager;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 
@@ -34,7 +41,16 @@ public class ShardingTableInterceptor extends TenantInterceptor {
   //    .compile("delete\\sfrom\\s(.+)where\\s(.*)", Pattern.CASE_INSENSITIVE);
   public static Pattern deletePattern = Pattern
       .compile("delete\\sfrom\\s(.+)", Pattern.CASE_INSENSITIVE);
-  private TableSchemaManager schemaManager;
+  private volatile TableSchemaManager schemaManager;
+
+  /**
+   * Rewritten sql by template sql and then by shard, avoid matching and replacing table names of
+   * every statement during sample ingestion.
+   */
+  private static final Map<String, Map<ShardKey, ShardingSql>> shardingSqlCache
+      = new ConcurrentHashMap<>();
+  private static final AtomicInteger cachedSqlNum = new AtomicInteger();
+  private static final int MAX_CACHED_SQL_NUM = 4096;
 
   public ShardingTableInterceptor() {
     if (isEmpty(shardingTables)) {
@@ -45,35 +61,60 @@ public class ShardingTableInterceptor extends TenantInterceptor {
 
   @Override
   public String inspect(String sql) {
-    String tableName = matchTableName(sql);
-    if (tableName == null) {
+    if (!checkDataSourceShard()) {
       return super.inspect(sql);
     }
 
-    if (!checkDataSourceShard()) {
+    // Important: The rewritten sql depends on both the template sql and the shard table!!!
+    Shard shard = MetricsDataSourceContextHolder.getShard();
+    ShardKey shardKey = new ShardKey(shard.tenantId(), shard.tableSecondIndex());
+    Map<ShardKey, ShardingSql> shardSqls = shardingSqlCache.get(sql);
+    ShardingSql shardingSql = shardSqls == null ? null : shardSqls.get(shardKey);
+    if (shardingSql == null) {
+      shardingSql = rewrite(sql, getRealTableSuffix(shard));
+      if (cachedSqlNum.get() >= MAX_CACHED_SQL_NUM) {
+        // Unbounded sql templates, such as in conditions with variable size
+        shardingSqlCache.clear();
+        cachedSqlNum.set(0);
+      }
+      if (shardingSqlCache.computeIfAbsent(sql, k -> new ConcurrentHashMap<>())
+          .putIfAbsent(shardKey, shardingSql) == null) {
+        cachedSqlNum.incrementAndGet();
+      }
+    }
+
+    if (shardingSql.realTableName() == null) {
       return super.inspect(sql);
     }
+    TableSchemaManager tableSchemaManager = getSchemaManager();
+    if (!tableSchemaManager.isCreatedShardTable(shardingSql.realTableName())) {
+      tableSchemaManager.checkAndCreate();
+    }
+    return super.inspect(shardingSql.sql());
+  }
+
+  private ShardingSql rewrite(String sql, String realTableSuffix) {
+    String tableName = matchTableName(sql);
+    if (tableName == null) {
+      return ShardingSql.NOT_SHARDING;
+    }
 
     tableName = tableName.substring(0, tableName.indexOf(" "));
     if (!shardingTables.contains(tableName)) {
       // Exclude isCreatedShardTable for "Select * from shard_tables where table_name like ? tenantId ? "
-      return super.inspect(sql);
+      return ShardingSql.NOT_SHARDING;
     }
 
-    String realTabledName = getRealTableName(tableName);
-    if (!getSchemaManager().isCreatedShardTable(realTabledName)) {
-      getSchemaManager().checkAndCreate();
-    }
-
-    return super.inspect(sql.replaceAll(tableName, "`" + realTabledName + "`"));
+    String realTabledName = tableName + realTableSuffix;
+    return new ShardingSql(realTabledName,
+        sql.replace(tableName, "`" + realTabledName + "`"));
   }
 
   @NotNull
-  private String getRealTableName(String tableName) {
-    Shard shard = MetricsDataSourceContextHolder.getShard();
-    return shard.tableSecondIndex() > 0 ? tableName + SHARD_TABLE_NAME_SPLIT + shard.tenantId()
+  private String getRealTableSuffix(Shard shard) {
+    return shard.tableSecondIndex() > 0 ? SHARD_TABLE_NAME_SPLIT + shard.tenantId()
         + SHARD_TABLE_NAME_SPLIT + shard.tableSecondIndex()
-        : tableName + SHARD_TABLE_NAME_SPLIT + shard.tenantId();
+        : SHARD_TABLE_NAME_SPLIT + shard.tenantId();
   }
 
   public static String matchTableName(String sql) {
@@ -105,11 +146,43 @@ public class ShardingTableInterceptor extends TenantInterceptor {
     return null;
   }
 
-  public synchronized TableSchemaManager getSchemaManager() {
-    if (schemaManager == null) {
-      schemaManager = SpringContextHolder.getBean(TableSchemaManager.class);
+  public TableSchemaManager getSchemaManager() {
+    TableSchemaManager tableSchemaManager = schemaManager;
+    if (tableSchemaManager == null) {
+      synchronized (this) {
+        tableSchemaManager = schemaManager;
+        if (tableSchemaManager == null) {
+          tableSchemaManager = SpringContextHolder.getBean(TableSchemaManager.class);
+          schemaManager = tableSchemaManager;
+        }
+      }
     }
-    return schemaManager;
+    return tableSchemaManager;
+  }
+
+  /**
+   * Shard table of the statement, the suffix of the real table name is built only when missed.
+   */
+  @EqualsAndHashCode
+  @AllArgsConstructor
+  private static class ShardKey {
+
+    private final long tenantId;
+    private final long tableSecondIndex;
+  }
+
+  @Getter
+  @Accessors(fluent = true)
+  @AllArgsConstructor
+  private static class ShardingSql {
+
+    static final ShardingSql NOT_SHARDING = new ShardingSql(null, null);
+
+    /**
+     * Shard table of sql, null when sql is not sharded.
+     */
+    private final String realTableName;
+    private final String sql;
   }
 
 }
@@ -0,0 +1,227 @@
+package cloud.xcan.angus.core.tester.infra.mock;
+
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+import static java.util.Objects.nonNull;
+
+import cloud.xcan.angus.core.tester.application.cmd.mock.MockApisCmd;
+import cloud.xcan.angus.core.tester.application.cmd.mock.MockApisLogCmd;
+import cloud.xcan.angus.core.tester.domain.mock.apis.log.MockApisLog;
+import cloud.xcan.angus.core.tester.infra.config.MockApisIngestConfig.MockApisIngestProperties;
+import cloud.xcan.angus.model.remoting.dto.MockApisRequestCountDto.Counter;
+import cloud.xcan.angus.spec.principal.PrincipalContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Resource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Write buffer of the counters and request logs pushed by mock service instances.
+ * <p>
+ * Counter deltas are coalesced per mock api in memory, so each mock api is updated at most once
+ * per {@code flushInterval} no matter how often instances push. Request logs are queued and
+ * written by multi-row inserts of up to {@code logMaxBatchSize} rows per tenant.
+ * <p>
+ * When the buffer is disabled or full, callers are expected to write synchronously. Entries of a
+ * failed flush are dropped and counted, they are statistics and logs of mock requests and retrying
+ * them would block the following flushes.
+ */
+@Slf4j
+public class MockApisIngestBuffer {
+
+  public static final String METRIC_PENDING = "tester.mock.apis.ingest.pending";
+  public static final String METRIC_FLUSHED = "tester.mock.apis.ingest.flushed";
+  public static final String METRIC_DROPPED = "tester.mock.apis.ingest.dropped";
+  public static final String METRIC_REJECTED = "tester.mock.apis.ingest.rejected";
+
+  private static final String TYPE_COUNTER = "counter";
+  private static final String TYPE_LOG = "log";
+
+  private final MockApisIngestProperties properties;
+
+  private final ConcurrentHashMap<Long, Counter> pendingCounters = new ConcurrentHashMap<>();
+
+  private BlockingQueue<MockApisLog> pendingLogs;
+
+  private Thread flusher;
+
+  private volatile boolean running = false;
+
+  @Resource
+  private MockApisCmd mockApisCmd;
+
+  @Resource
+  private MockApisLogCmd mockApisLogCmd;
+
+  @Autowired(required = false)
+  private MeterRegistry meterRegistry;
+
+  public MockApisIngestBuffer(MockApisIngestProperties properties) {
+    this.properties = properties;
+  }
+
+  public void start() {
+    if (!properties.isEnabled()) {
+      log.info("Mock apis counter and log buffering is disabled");
+      return;
+    }
+    pendingLogs = new ArrayBlockingQueue<>(properties.getLogQueueCapacity());
+    if (nonNull(meterRegistry)) {
+      Gauge.builder(METRIC_PENDING, pendingCounters, Map::size).tag("type", TYPE_COUNTER)
+          .description("Number of mock apis with counters waiting to be written")
+          .register(meterRegistry);
+      Gauge.builder(METRIC_PENDING, pendingLogs, BlockingQueue::size).tag("type", TYPE_LOG)
+          .description("Number of mock apis request logs waiting to be written")
+          .register(meterRegistry);
+    }
+    running = true;
+    flusher = new Thread(this::consume, "MockApisIngestThread");
+    flusher.setDaemon(true);
+    flusher.start();
+    log.info("Mock apis counter and log buffering started, flush interval: {}ms",
+        properties.getFlushInterval());
+  }
+
+  public void shutdown() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    try {
+      // Flusher writes the remaining entries before exiting
+      flusher.join(properties.getFlushInterval() * 10);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    log.info("Mock apis counter and log buffering stopped");
+  }
+
+  /**
+   * Merge counter deltas into the pending counters, return false when buffering is disabled or
+   * too many mock apis have pending counters.
+   */
+  public boolean offerCounters(Map<Long, Counter> apisCounters) {
+    if (!running) {
+      return false;
+    }
+    if (pendingCounters.size() >= properties.getMaxPendingCounters()) {
+      increment(METRIC_REJECTED, TYPE_COUNTER, apisCounters.size());
+      log.warn("Too many pending mock apis counters, write synchronously");
+      return false;
+    }
+    for (Entry<Long, Counter> entry : apisCounters.entrySet()) {
+      Counter delta = entry.getValue();
+      // Merging and flushing lock the same bin, no delta is lost between them
+      pendingCounters.compute(entry.getKey(), (id, pending) -> {
+        Counter merged = pending == null ? new Counter() : pending;
+        merged.requestNum0 += delta.requestNum0;
+        merged.pushbackNum0 += delta.pushbackNum0;
+        merged.simulateErrorNum0 += delta.simulateErrorNum0;
+        merged.successNum0 += delta.successNum0;
+        merged.exceptionNum0 += delta.exceptionNum0;
+        return merged;
+      });
+    }
+    return true;
+  }
+
+  /**
+   * Enqueue request logs, the ids and tenant of logs must be assigned.
+   *
+   * @return Logs not enqueued, which should be written synchronously
+   */
+  public List<MockApisLog> offerLogs(List<MockApisLog> logs) {
+    if (!running) {
+      return logs;
+    }
+    List<MockApisLog> rejectedLogs = new ArrayList<>();
+    for (MockApisLog log0 : logs) {
+      if (!pendingLogs.offer(log0)) {
+        rejectedLogs.add(log0);
+      }
+    }
+    if (!rejectedLogs.isEmpty()) {
+      increment(METRIC_REJECTED, TYPE_LOG, rejectedLogs.size());
+      log.warn("Mock apis log queue is full, write {} logs synchronously", rejectedLogs.size());
+    }
+    return rejectedLogs;
+  }
+
+  private void consume() {
+    while (running) {
+      try {
+        Thread.sleep(properties.getFlushInterval());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      }
+      flushCounters();
+      flushLogs();
+    }
+  }
+
+  private void flushCounters() {
+    if (pendingCounters.isEmpty()) {
+      return;
+    }
+    Map<Long, Counter> counters = new HashMap<>();
+    for (Long id : pendingCounters.keySet()) {
+      Counter counter = pendingCounters.remove(id);
+      if (nonNull(counter)) {
+        counters.put(id, counter);
+      }
+    }
+    try {
+      mockApisCmd.counterUpdate0(counters);
+      increment(METRIC_FLUSHED, TYPE_COUNTER, counters.size());
+    } catch (Exception e) {
+      increment(METRIC_DROPPED, TYPE_COUNTER, counters.size());
+      log.error("Write mock apis counters exception, dropped: {}, cause: {}", counters.size(),
+          e.getMessage());
+    }
+  }
+
+  private void flushLogs() {
+    while (!pendingLogs.isEmpty()) {
+      List<MockApisLog> logs = new ArrayList<>();
+      pendingLogs.drainTo(logs, properties.getLogMaxBatchSize());
+      if (isEmpty(logs)) {
+        return;
+      }
+      // Insert logs of each tenant in its own principal context
+      Map<Long, List<MockApisLog>> tenantLogs = new LinkedHashMap<>();
+      for (MockApisLog log0 : logs) {
+        tenantLogs.computeIfAbsent(log0.getTenantId(), k -> new ArrayList<>()).add(log0);
+      }
+      for (Entry<Long, List<MockApisLog>> entry : tenantLogs.entrySet()) {
+        try {
+          PrincipalContext.create().setTenantId(entry.getKey());
+          mockApisLogCmd.add0(entry.getValue());
+          increment(METRIC_FLUSHED, TYPE_LOG, entry.getValue().size());
+        } catch (Exception e) {
+          increment(METRIC_DROPPED, TYPE_LOG, entry.getValue().size());
+          log.error("Write mock apis logs exception, tenantId: {}, dropped: {}, cause: {}",
+              entry.getKey(), entry.getValue().size(), e.getMessage());
+        } finally {
+          PrincipalContext.remove();
+        }
+      }
+    }
+  }
+
+  private void increment(String name, String type, double amount) {
+    if (nonNull(meterRegistry)) {
+      meterRegistry.counter(name, "type", type).increment(amount);
+    }
+  }
+
+}
@@ -0,0 +1,9 @@
+package cloud.xcan.angus.core.tester.infra.persistence.mysql.master.issue;
+
+import cloud.xcan.angus.core.tester.domain.issue.count.TaskCounterRepo;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskCounterRepoMysql extends TaskCounterRepo {
+
+}
@@ -6,6 +6,7 @@ import static cloud.xcan.angus.core.jpa.criteria.CriteriaUtils.getFilterInFirstV
 import static cloud.xcan.angus.core.jpa.criteria.CriteriaUtils.getFilterMatchFirstValueAndRemove;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
+import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import cloud.xcan.angus.core.jpa.repository.AbstractSearchRepository;
@@ -16,6 +17,7 @@ import cloud.xcan.angus.core.tester.domain.issue.TaskListRepo;
 import cloud.xcan.angus.core.tester.domain.issue.count.TaskCount;
 import cloud.xcan.angus.remote.search.SearchCriteria;
 import cloud.xcan.angus.remote.search.SearchOperation;
+import cloud.xcan.angus.spec.annotations.Nullable;
 import jakarta.persistence.Query;
 import java.util.List;
 import java.util.Set;
@@ -60,25 +62,53 @@ public class TaskListRepoMysql extends AbstractSearchRepository<Task> implements
     return "a.*";
   }
 
+  /**
+   * Find the tasks after the id ordered by id, exports read all matched tasks in batches by it
+   * without the growing offset scans of pages.
+   */
+  @Override
+  public List<Task> findAfterId(Set<SearchCriteria> criteria, @Nullable Long afterId,
+      int limit, boolean fullTextSearch, String... matches) {
+    StringBuilder sql = getSqlTemplate0(fullTextSearch ? SearchMode.MATCH : getSearchMode(),
+        Task.class, criteria, "task", matches);
+    int fieldsIndex = sql.indexOf("%s");
+    sql.replace(fieldsIndex, fieldsIndex + 2, getReturnFieldsCondition(criteria, null));
+    if (nonNull(afterId)) {
+      sql.append(" AND a.id > ").append(afterId);
+    }
+    sql.append(" ORDER BY a.id ASC LIMIT ").append(limit);
+
+    Query query = entityManager.createNativeQuery(sql.toString(), Task.class);
+    if (isNotEmpty(criteria)) {
+      setQueryParameter(query, criteria, Task.class);
+    }
+    return query.getResultList();
+  }
+
+  /**
+   * Count tasks by status and type, and sum the overdue, one-time passed, process times and
+   * workloads in a single scan with conditional aggregation.
+   */
   @Override
   public TaskCount count(Set<SearchCriteria> criteria) {
     // @formatter:off
-    /*******************************************************
-     * status  | test_type | task_type | exec_result | num
-     * *****************************************************
-     * PENDING	FUNCTIONAL		                    1
-     * PENDING	FUNCTIONAL	API_TEST	            2
-     * PENDING	PERF		                          6
-     * PENDING	STABILITY                         1
-     ******************************************************/
-    StringBuilder groupBySql = new StringBuilder("SELECT a.`status`,a.task_type,COUNT(*) num FROM task a ");
-    StringBuilder overdueSql = new StringBuilder("SELECT COUNT(a.id) FROM task a ");
-    StringBuilder oneTimePassSql = new StringBuilder("SELECT COUNT(a.id) FROM task a ");
-    StringBuilder sumNumSql = new StringBuilder("SELECT SUM(a.total_num), SUM(a.fail_num), SUM(a.eval_workload), SUM(a.actual_workload) FROM task a ");
-    StringBuilder completedWorkloadSql = new StringBuilder("SELECT SUM(a.actual_workload) FROM task a ");
-
-    StringBuilder joinAssignee = new StringBuilder();
-    StringBuilder joinConformor = new StringBuilder();
+    StringBuilder countSql = new StringBuilder("SELECT "
+        + "COUNT(CASE WHEN a.`status` = 'PENDING' THEN 1 END),"
+        + "COUNT(CASE WHEN a.`status` = 'IN_PROGRESS' THEN 1 END),"
+        + "COUNT(CASE WHEN a.`status` = 'CONFIRMING' THEN 1 END),"
+        + "COUNT(CASE WHEN a.`status` = 'COMPLETED' THEN 1 END),"
+        + "COUNT(CASE WHEN a.`status` = 'CANCELED' THEN 1 END),"
+        + "COUNT(CASE WHEN a.task_type = 'REQUIREMENT' THEN 1 END),"
+        + "COUNT(CASE WHEN a.task_type = 'STORY' THEN 1 END),"
+        + "COUNT(CASE WHEN a.task_type = 'TASK' THEN 1 END),"
+        + "COUNT(CASE WHEN a.task_type = 'BUG' THEN 1 END),"
+        + "COUNT(CASE WHEN a.task_type = 'DESIGN' THEN 1 END),"
+        + "COUNT(CASE WHEN a.overdue = 1 THEN 1 END),"
+        + "COUNT(CASE WHEN a.`status` = 'COMPLETED' AND a.fail_num = 0 THEN 1 END),"
+        + "SUM(a.total_num), SUM(a.fail_num), SUM(a.eval_workload), SUM(a.actual_workload),"
+        + "SUM(CASE WHEN a.`status` = 'COMPLETED' THEN a.actual_workload END) "
+        + "FROM task a ");
+
     StringBuilder joinTag = new StringBuilder();
     StringBuilder mainCondition = new StringBuilder();
     String matchValue = "";
@@ -94,43 +124,16 @@ public class TaskListRepoMysql extends AbstractSearchRepository<Task> implements
           getSearchMode(), false);
     }
 
-    groupBySql.append(joinAssignee).append(joinConformor).append(joinTag)
-        .append(" WHERE 1=1 ").append(mainCondition)
-        .append(getMatchCondition(matchValue))
-        .append(" GROUP BY a.`status`,a.task_type "); // Use Covering Index
-    overdueSql.append(joinAssignee).append(joinConformor).append(joinTag)
-        .append(" WHERE 1=1 AND a.overdue = 1 ").append(mainCondition)
-        .append(getMatchCondition(matchValue));
-    oneTimePassSql.append(joinAssignee).append(joinConformor).append(joinTag)
-        .append(" WHERE a.status = 'COMPLETED' AND a.fail_num = 0 ").append(mainCondition)
-        .append(getMatchCondition(matchValue));
-    sumNumSql.append(joinAssignee).append(joinConformor).append(joinTag)
+    countSql.append(joinTag)
         .append(" WHERE 1=1 ").append(mainCondition)
         .append(getMatchCondition(matchValue));
-    completedWorkloadSql.append(joinAssignee).append(joinConformor).append(joinTag)
-        .append(" WHERE a.status = 'COMPLETED' ").append(mainCondition)
-        .append(getMatchCondition(matchValue));
-
-    Query groupByQueryResult = entityManager.createNativeQuery(groupBySql.toString());
-    Query overdueQueryResult = entityManager.createNativeQuery(overdueSql.toString());
-    Query oneTimePassQueryResult = entityManager.createNativeQuery(oneTimePassSql.toString());
-    Query sumNumSqlQueryResult = entityManager.createNativeQuery(sumNumSql.toString());
-    Query completedWorkloadQueryResult = entityManager.createNativeQuery(completedWorkloadSql.toString());
 
+    Query countQueryResult = entityManager.createNativeQuery(countSql.toString());
     if (isNotEmpty(criteria)) {
-      setQueryParameter(groupByQueryResult, criteria, Task.class);
-      setQueryParameter(overdueQueryResult, criteria, Task.class);
-      setQueryParameter(oneTimePassQueryResult, criteria, Task.class);
-      setQueryParameter(sumNumSqlQueryResult, criteria, Task.class);
-      setQueryParameter(completedWorkloadQueryResult, criteria, Task.class);
+      setQueryParameter(countQueryResult, criteria, Task.class);
     }
-    return TaskConverter.objectArrToTaskCount(
-        (List<Object[]>) groupByQueryResult.getResultList(),
-        (List<Object[]>) overdueQueryResult.getResultList(),
-        (List<Object[]>) oneTimePassQueryResult.getResultList(),
-        (List<Object[]>) sumNumSqlQueryResult.getResultList(),
-        (List<Object[]>) completedWorkloadQueryResult.getResultList()
-        );
+    List<Object[]> result = countQueryResult.getResultList();
+    return TaskConverter.objectArrToTaskCount(isEmpty(result) ? null : result.get(0));
     // @formatter:on
   }
 
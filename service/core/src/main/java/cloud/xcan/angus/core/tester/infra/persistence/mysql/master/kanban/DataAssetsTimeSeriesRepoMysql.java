@@ -0,0 +1,59 @@
+package cloud.xcan.angus.core.tester.infra.persistence.mysql.master.kanban;
+
+import static java.util.Objects.nonNull;
+
+import cloud.xcan.angus.core.jpa.criteria.GenericSpecification;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsTimeSeriesRepo;
+import cloud.xcan.angus.remote.search.SearchCriteria;
+import cloud.xcan.angus.spec.annotations.Nullable;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Group by the year, month and day of the created date, which Hibernate renders as
+ * {@code extract()} of the dialect, so the same query runs on MySQL and Postgres and only the
+ * bucket counts are returned instead of all resource rows.
+ */
+@Repository
+public class DataAssetsTimeSeriesRepoMysql implements DataAssetsTimeSeriesRepo {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public <T> List<Object[]> countByCreatedDate(Class<T> mainClz, Set<SearchCriteria> criteria,
+      boolean byDay, @Nullable String groupField) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+    Root<T> root = query.from(mainClz);
+
+    Expression<LocalDateTime> createdDate = root.get("createdDate");
+    List<Expression<?>> groupBy = new ArrayList<>();
+    groupBy.add(cb.function("year", Integer.class, createdDate));
+    groupBy.add(cb.function("month", Integer.class, createdDate));
+    if (byDay) {
+      groupBy.add(cb.function("day", Integer.class, createdDate));
+    }
+    if (nonNull(groupField)) {
+      groupBy.add(root.get(groupField));
+    }
+    List<Selection<?>> selections = new ArrayList<>(groupBy);
+    selections.add(cb.count(root));
+
+    query.multiselect(selections)
+        .where(new GenericSpecification<T>(criteria).toPredicate(root, query, cb))
+        .groupBy(groupBy);
+    return entityManager.createQuery(query).getResultList();
+  }
+
+}
@@ -0,0 +1,9 @@
+package cloud.xcan.angus.core.tester.infra.persistence.mysql.master.services;
+
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncHistoryRepo;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ServicesSyncHistoryRepoMysql extends ServicesSyncHistoryRepo {
+
+}
@@ -0,0 +1,20 @@
+package cloud.xcan.angus.core.tester.infra.persistence.mysql.master.services;
+
+import cloud.xcan.angus.core.tester.domain.services.translation.TranslationMemoryRepo;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface TranslationMemoryRepoMysql extends TranslationMemoryRepo {
+
+  @Override
+  @Transactional
+  @Modifying
+  @Query(value = "INSERT IGNORE INTO translation_memory (id, source_hash, source_language, target_language, translated_text, tenant_id, created_date) VALUES (?1, ?2, ?3, ?4, ?5, ?6, ?7)", nativeQuery = true)
+  int insertIgnore(Long id, String sourceHash, String sourceLanguage, String targetLanguage,
+      String translatedText, Long tenantId, LocalDateTime createdDate);
+
+}
@@ -22,6 +22,7 @@ import cloud.xcan.angus.core.tester.domain.test.cases.FuncCaseInfoListRepo;
 import cloud.xcan.angus.core.tester.domain.test.cases.count.FuncCaseCount;
 import cloud.xcan.angus.remote.search.SearchCriteria;
 import cloud.xcan.angus.remote.search.SearchOperation;
+import cloud.xcan.angus.spec.annotations.Nullable;
 import cloud.xcan.angus.spec.utils.StringUtils;
 import jakarta.persistence.Query;
 import java.math.BigInteger;
@@ -72,6 +73,29 @@ public class FuncCaseInfoListRepoMysql extends AbstractSearchRepository<FuncCase
     return "a.*";
   }
 
+  /**
+   * Find the next batch after the id in ascending order of id. Seeking by id instead of offset
+   * keeps the cost of each batch constant when exporting all matched rows.
+   */
+  @Override
+  public List<FuncCaseInfo> findAfterId(Set<SearchCriteria> criteria, @Nullable Long afterId,
+      int limit, boolean fullTextSearch, String... matches) {
+    StringBuilder sql = getSqlTemplate0(fullTextSearch ? SearchMode.MATCH : getSearchMode(),
+        FuncCaseInfo.class, criteria, "func_case", matches);
+    int fieldsIndex = sql.indexOf("%s");
+    sql.replace(fieldsIndex, fieldsIndex + 2, getReturnFieldsCondition(criteria, null));
+    if (nonNull(afterId)) {
+      sql.append(" AND a.id > ").append(afterId);
+    }
+    sql.append(" ORDER BY a.id ASC LIMIT ").append(limit);
+
+    Query query = entityManager.createNativeQuery(sql.toString(), FuncCaseInfo.class);
+    if (isNotEmpty(criteria)) {
+      setQueryParameter(query, criteria, FuncCaseInfo.class);
+    }
+    return query.getResultList();
+  }
+
   @Override
   public Page<Long> groups(Set<SearchCriteria> criteria, Pageable pageable, String... matches) {
     String mainAlis = "a";
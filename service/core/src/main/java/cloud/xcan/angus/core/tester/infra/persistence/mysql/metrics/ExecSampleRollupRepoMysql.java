@@ -0,0 +1,9 @@
+package cloud.xcan.angus.core.tester.infra.persistence.mysql.metrics;
+
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollupRepo;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ExecSampleRollupRepoMysql extends ExecSampleRollupRepo {
+
+}
@@ -0,0 +1,9 @@
+package cloud.xcan.angus.core.tester.infra.persistence.postgres.master.project;
+
+import cloud.xcan.angus.core.tester.domain.project.tree.TreeClosureRepo;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TreeClosureRepoPostgres extends TreeClosureRepo {
+
+}
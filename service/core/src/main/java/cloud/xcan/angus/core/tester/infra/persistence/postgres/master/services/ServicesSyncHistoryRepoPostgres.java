@@ -0,0 +1,10 @@
+package cloud.xcan.angus.core.tester.infra.persistence.postgres.master.services;
+
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncHistoryRepo;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ServicesSyncHistoryRepoPostgres extends ServicesSyncHistoryRepo {
+
+
+}
@@ -0,0 +1,9 @@
+package cloud.xcan.angus.core.tester.infra.persistence.postgres.metrics;
+
+import cloud.xcan.angus.core.tester.infra.metricsds.domain.sample.ExecSampleRollupRepo;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ExecSampleRollupRepoPostgres extends ExecSampleRollupRepo {
+
+}
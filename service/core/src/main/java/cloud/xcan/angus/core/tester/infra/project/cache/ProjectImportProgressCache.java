@@ -0,0 +1,66 @@
+package cloud.xcan.angus.core.tester.infra.project.cache;
+
+import static cloud.xcan.angus.core.utils.PrincipalContextUtils.getOptTenantId;
+import static cloud.xcan.angus.spec.principal.PrincipalContext.getUserId;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
+
+import cloud.xcan.angus.core.tester.domain.project.ProjectImportProgress;
+import cloud.xcan.angus.spec.utils.JsonUtils;
+import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the progress of the latest project import of users.
+ * <p>
+ * The import request only returns when the import finishes, clients poll the progress of their
+ * latest import meanwhile. The cache is shared by controllers, so the progress can be read from
+ * any controller.
+ */
+@Slf4j
+@Component
+public class ProjectImportProgressCache {
+
+  public static final String CACHE_NAME = "projectImportProgress";
+
+  @Resource
+  private CacheManager cacheManager;
+
+  /**
+   * Save the progress of the current user's import.
+   */
+  public void put(ProjectImportProgress progress) {
+    try {
+      getCache().put(cacheKey(), JsonUtils.toJson(progress));
+    } catch (Exception e) {
+      log.warn("Update project import progress cache exception, projectId: {}, cause: {}",
+          progress.getProjectId(), e.getMessage());
+    }
+  }
+
+  /**
+   * Get the progress of the current user's latest import.
+   *
+   * @return Progress, or null when the user has not imported recently
+   */
+  public ProjectImportProgress get() {
+    try {
+      String json = getCache().get(cacheKey(), String.class);
+      return isEmpty(json) ? null : JsonUtils.fromJson(json, ProjectImportProgress.class);
+    } catch (Exception e) {
+      log.warn("Read project import progress cache exception, cause: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private Cache getCache() {
+    return cacheManager.getCache(CACHE_NAME);
+  }
+
+  private static String cacheKey() {
+    return "tenant_" + getOptTenantId() + "_user_" + getUserId();
+  }
+
+}
@@ -0,0 +1,54 @@
+package cloud.xcan.angus.core.tester.infra.util;
+
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelWriter;
+import com.alibaba.excel.write.metadata.WriteSheet;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write exported rows to the response in batches with a streaming workbook.
+ * <p>
+ * The workbook is only sent to the response when all batches are written. When a batch fails,
+ * the workbook is discarded without writing, and the exception is left to the exception handler
+ * to respond with an error status instead of a truncated file.
+ */
+@Slf4j
+public class ExcelExportUtils {
+
+  private ExcelExportUtils() {
+  }
+
+  /**
+   * Write batches to one sheet and send the workbook to the response.
+   *
+   * @param writer   Writer on the response output stream, which must not close the stream
+   * @param response Response of the export
+   * @param batches  Writes the batches to the sheet
+   */
+  public static void export(ExcelWriter writer, HttpServletResponse response,
+      Consumer<WriteSheet> batches) {
+    try {
+      batches.accept(EasyExcel.writerSheet().build());
+    } catch (RuntimeException | Error e) {
+      discard(writer, response);
+      throw e;
+    }
+    writer.finish();
+  }
+
+  private static void discard(ExcelWriter writer, HttpServletResponse response) {
+    try {
+      // Release the temporary files of the workbook without writing it
+      writer.writeContext().finish(true);
+    } catch (Exception e) {
+      log.warn("Discard export workbook exception: {}", e.getMessage());
+    }
+    if (!response.isCommitted()) {
+      // Clear the attachment headers of the file
+      response.reset();
+    }
+  }
+
+}
@@ -0,0 +1,80 @@
+package cloud.xcan.angus.core.tester.infra.util;
+
+import static cloud.xcan.angus.api.commonlink.TesterConstant.AGENT_STARTED_MESSAGE;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
+import static cloud.xcan.angus.spec.utils.ObjectUtils.nullSafe;
+
+import cloud.xcan.angus.api.commonlink.node.AgentInstallCmd;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Install the agent on a linux node by running the install script in one SSH session.
+ * <p>
+ * A failure of the install script is distinguished from a failure of the connection, the latter
+ * is transient and the installation should be retried later.
+ */
+@Slf4j
+public class NodeAgentInstaller {
+
+  private NodeAgentInstaller() {
+  }
+
+  /**
+   * Download, authorize and run the install script.
+   */
+  public static Result install(String ip, Integer sshPort, String username, String password,
+      AgentInstallCmd installCmd) {
+    try (SshUtil ssh = new SshUtil(ip, sshPort, username, password)) {
+      String result;
+      try {
+        ssh.open();
+        ssh.run(installCmd.getLinuxDownloadInstallScriptCmd());
+        ssh.run("chmod +x " + installCmd.getLinuxInstallScriptName());
+        result = ssh.run(installCmd.getLinuxRunInstallScriptCmd());
+      } catch (Exception e) {
+        log.warn("Install agent on {} exception: {}", ip, e.getMessage());
+        return Result.unfinished(nullSafe(e.getMessage(), e.getClass().getSimpleName()));
+      }
+      log.info("Install agent on {} result: {}", ip, result);
+      if (isNotEmpty(result) && result.contains(AGENT_STARTED_MESSAGE)) {
+        return Result.installed();
+      }
+      return Result.failed(isNotEmpty(result) ? result : "No output of install script");
+    }
+  }
+
+  @Getter
+  public static class Result {
+
+    /**
+     * True when installed, false when the install script failed, and null when the installation
+     * is not finished by a transient failure, e.g. the node is not reachable.
+     */
+    private final Boolean installed;
+
+    private final String failure;
+
+    private Result(Boolean installed, String failure) {
+      this.installed = installed;
+      this.failure = failure;
+    }
+
+    public static Result installed() {
+      return new Result(true, null);
+    }
+
+    public static Result failed(String failure) {
+      return new Result(false, failure);
+    }
+
+    public static Result unfinished(String failure) {
+      return new Result(null, failure);
+    }
+
+    public boolean isSuccess() {
+      return Boolean.TRUE.equals(installed);
+    }
+  }
+
+}
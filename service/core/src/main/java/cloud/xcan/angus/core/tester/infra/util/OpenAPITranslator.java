@@ -15,20 +15,26 @@ import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.servers.ServerVariable;
 import io.swagger.v3.oas.models.tags.Tag;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ForkJoinPool;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * OpenAPI Specification Translator Translates all translatable fields in an OpenAPI specification
  * document
  * <p>
- * Features: - Translation caching to avoid redundant API calls - Parallel processing for improved
- * performance - Fine-grained field-level translation control
+ * Features: - Fields are collected first and each distinct text is translated once - Translations
+ * are reused from the translation memory when provided - Remaining texts are translated in
+ * batches, with at most as many concurrent calls as the threads of executor
  */
 @Slf4j
 public class OpenAPITranslator {
@@ -37,18 +43,31 @@ public class OpenAPITranslator {
   private final SupportedLanguage sourceLanguage;
   private final SupportedLanguage targetLanguage;
 
-  // Translation cache: original text -> translated text
-  private final ConcurrentMap<String, String> translationCache = new ConcurrentHashMap<>();
+  // Executor of translation calls, translate in caller thread when null
+  private final Executor executor;
+  private final int batchSize;
+  private final int batchMaxChars;
+  private final TranslationMemory translationMemory;
 
-  // Custom thread pool for parallel processing
-  private final ForkJoinPool translationPool = new ForkJoinPool(
-      Runtime.getRuntime().availableProcessors() * 2);
+  // Original text -> setters of fields with the text
+  private final Map<String, List<Consumer<String>>> textSetters = new LinkedHashMap<>();
 
   public OpenAPITranslator(TranslationService translationService,
       SupportedLanguage sourceLanguage, SupportedLanguage targetLanguage) {
+    this(translationService, sourceLanguage, targetLanguage, null, 1, Integer.MAX_VALUE, null);
+  }
+
+  public OpenAPITranslator(TranslationService translationService,
+      SupportedLanguage sourceLanguage, SupportedLanguage targetLanguage,
+      @Nullable Executor executor, int batchSize, int batchMaxChars,
+      @Nullable TranslationMemory translationMemory) {
     this.translationService = translationService;
     this.sourceLanguage = sourceLanguage;
     this.targetLanguage = targetLanguage;
+    this.executor = executor;
+    this.batchSize = Math.max(batchSize, 1);
+    this.batchMaxChars = Math.max(batchMaxChars, 1);
+    this.translationMemory = translationMemory;
   }
 
   /**
@@ -61,20 +80,16 @@ public class OpenAPITranslator {
       return;
     }
 
-    // Translate top-level sections in sequence
+    // Collect translatable fields
     translateInfo(openApi.getInfo());
     translateExternalDocs(openApi.getExternalDocs());
     translateServers(openApi.getServers());
     translateTags(openApi.getTags());
+    translatePaths(openApi.getPaths());
+    translateComponents(openApi.getComponents());
 
-    // Parallel processing for paths and components
-    translationPool.submit(() -> {
-      translatePaths(openApi.getPaths());
-      translateComponents(openApi.getComponents());
-    }).join();
-
-    // Shutdown pool after completion (optional)
-    translationPool.shutdown();
+    // Translate collected texts and set them back
+    translateCollectedTexts();
   }
 
   // Translate Info section
@@ -108,13 +123,13 @@ public class OpenAPITranslator {
       return;
     }
 
-    // Process servers in parallel
-    servers.parallelStream().forEach(server -> {
+    // Process servers
+    servers.forEach(server -> {
       translateField("server.description", server::getDescription, server::setDescription);
 
       // Process server variables
       if (server.getVariables() != null) {
-        server.getVariables().entrySet().parallelStream().forEach(entry -> {
+        server.getVariables().entrySet().forEach(entry -> {
           ServerVariable variable = entry.getValue();
           translateField("server.variable.description",
               variable::getDescription, variable::setDescription);
@@ -133,8 +148,8 @@ public class OpenAPITranslator {
 
     log.info("translated tags: {}", tags);
 
-    // Process tags in parallel
-    tags.parallelStream().forEach(tag -> {
+    // Process tags
+    tags.forEach(tag -> {
       translateField("tag.name", tag::getName, tag::setName);
       translateField("tag.description", tag::getDescription, tag::setDescription);
       translateExternalDocs(tag.getExternalDocs());
@@ -147,20 +162,20 @@ public class OpenAPITranslator {
       return;
     }
 
-    // Process paths in parallel
-    paths.entrySet().parallelStream().forEach(entry -> {
+    // Process paths
+    paths.entrySet().forEach(entry -> {
       PathItem pathItem = entry.getValue();
       translateField("path.summary", pathItem::getSummary, pathItem::setSummary);
       translateField("path.description", pathItem::getDescription, pathItem::setDescription);
 
       // Process path-level servers
       if (pathItem.getServers() != null) {
-        pathItem.getServers().parallelStream().forEach(server -> {
+        pathItem.getServers().forEach(server -> {
           translateField("path.server.description", server::getDescription, server::setDescription);
 
           // Process server variables
           if (server.getVariables() != null) {
-            server.getVariables().entrySet().parallelStream().forEach(varEntry -> {
+            server.getVariables().entrySet().forEach(varEntry -> {
               translateField("path.server.variable.description",
                   varEntry.getValue()::getDescription,
                   varEntry.getValue()::setDescription);
@@ -171,7 +186,7 @@ public class OpenAPITranslator {
 
       // Process path parameters
       if (pathItem.getParameters() != null) {
-        pathItem.getParameters().parallelStream().forEach(this::translateParameter);
+        pathItem.getParameters().forEach(this::translateParameter);
       }
 
       // Process operations
@@ -195,8 +210,10 @@ public class OpenAPITranslator {
     }
 
     // Translate operation-level fields
-    translateField(httpMethod + ".tags", () -> String.join(",", operation.getTags()),
-        value -> operation.setTags(List.of(value.split(","))));
+    if (operation.getTags() != null) {
+      translateField(httpMethod + ".tags", () -> String.join(",", operation.getTags()),
+          value -> operation.setTags(List.of(value.split(","))));
+    }
 
     translateField(httpMethod + ".summary", operation::getSummary, operation::setSummary);
     translateField(httpMethod + ".description", operation::getDescription,
@@ -206,7 +223,7 @@ public class OpenAPITranslator {
 
     // Process parameters
     if (operation.getParameters() != null) {
-      operation.getParameters().parallelStream().forEach(this::translateParameter);
+      operation.getParameters().forEach(this::translateParameter);
     }
 
     // Process request body
@@ -216,7 +233,7 @@ public class OpenAPITranslator {
           operation.getRequestBody()::setDescription);
 
       if (operation.getRequestBody().getContent() != null) {
-        operation.getRequestBody().getContent().entrySet().parallelStream().forEach(entry -> {
+        operation.getRequestBody().getContent().entrySet().forEach(entry -> {
           translateSchemaFields(entry.getValue().getSchema(), httpMethod + ".requestBody.schema");
         });
       }
@@ -224,13 +241,13 @@ public class OpenAPITranslator {
 
     // Process responses
     if (operation.getResponses() != null) {
-      operation.getResponses().entrySet().parallelStream().forEach(responseEntry -> {
+      operation.getResponses().entrySet().forEach(responseEntry -> {
         ApiResponse response = responseEntry.getValue();
         translateField(httpMethod + ".response.description", response::getDescription,
             response::setDescription);
 
         if (response.getContent() != null) {
-          response.getContent().entrySet().parallelStream().forEach(contentEntry -> {
+          response.getContent().entrySet().forEach(contentEntry -> {
             translateSchemaFields(contentEntry.getValue().getSchema(),
                 httpMethod + ".response.schema");
           });
@@ -240,12 +257,12 @@ public class OpenAPITranslator {
 
     // Process operation-level servers
     if (operation.getServers() != null) {
-      operation.getServers().parallelStream().forEach(server -> {
+      operation.getServers().forEach(server -> {
         translateField(httpMethod + ".server.description", server::getDescription,
             server::setDescription);
 
         if (server.getVariables() != null) {
-          server.getVariables().entrySet().parallelStream().forEach(varEntry -> {
+          server.getVariables().entrySet().forEach(varEntry -> {
             translateField(httpMethod + ".server.variable.description",
                 varEntry.getValue()::getDescription,
                 varEntry.getValue()::setDescription);
@@ -273,24 +290,24 @@ public class OpenAPITranslator {
       return;
     }
 
-    // Process schemas in parallel
+    // Process schemas
     if (components.getSchemas() != null) {
-      components.getSchemas().entrySet().parallelStream().forEach(entry -> {
+      components.getSchemas().entrySet().forEach(entry -> {
         translateSchemaFields(entry.getValue(), "component.schema");
       });
 
       log.info("translated schemas component: {}", components.getSchemas().size());
     }
 
-    // Process responses in parallel
+    // Process responses
     if (components.getResponses() != null) {
-      components.getResponses().entrySet().parallelStream().forEach(entry -> {
+      components.getResponses().entrySet().forEach(entry -> {
         ApiResponse response = entry.getValue();
         translateField("component.response.description", response::getDescription,
             response::setDescription);
 
         if (response.getContent() != null) {
-          response.getContent().entrySet().parallelStream().forEach(contentEntry -> {
+          response.getContent().entrySet().forEach(contentEntry -> {
             translateSchemaFields(contentEntry.getValue().getSchema(), "component.response.schema");
           });
         }
@@ -299,23 +316,23 @@ public class OpenAPITranslator {
       log.info("translated responses component: {}", components.getResponses().size());
     }
 
-    // Process parameters in parallel
+    // Process parameters
     if (components.getParameters() != null) {
-      components.getParameters().entrySet().parallelStream().forEach(entry -> {
+      components.getParameters().entrySet().forEach(entry -> {
         translateParameter(entry.getValue());
       });
       log.info("translated parameters component: {}", components.getParameters().size());
     }
 
-    // Process request bodies in parallel
+    // Process request bodies
     if (components.getRequestBodies() != null) {
-      components.getRequestBodies().entrySet().parallelStream().forEach(entry -> {
+      components.getRequestBodies().entrySet().forEach(entry -> {
         translateField("component.requestBody.description",
             entry.getValue()::getDescription,
             entry.getValue()::setDescription);
 
         if (entry.getValue().getContent() != null) {
-          entry.getValue().getContent().entrySet().parallelStream().forEach(contentEntry -> {
+          entry.getValue().getContent().entrySet().forEach(contentEntry -> {
             translateSchemaFields(contentEntry.getValue().getSchema(),
                 "component.requestBody.schema");
           });
@@ -325,15 +342,15 @@ public class OpenAPITranslator {
       log.info("translated request bodies component: {}", components.getRequestBodies().size());
     }
 
-    // Process headers in parallel
+    // Process headers
     if (components.getHeaders() != null) {
-      components.getHeaders().entrySet().parallelStream().forEach(entry -> {
+      components.getHeaders().entrySet().forEach(entry -> {
         translateField("component.header.description",
             entry.getValue()::getDescription,
             entry.getValue()::setDescription);
 
         if (entry.getValue().getContent() != null) {
-          entry.getValue().getContent().entrySet().parallelStream().forEach(contentEntry -> {
+          entry.getValue().getContent().entrySet().forEach(contentEntry -> {
             translateSchemaFields(contentEntry.getValue().getSchema(), "component.header.schema");
           });
         }
@@ -342,9 +359,9 @@ public class OpenAPITranslator {
       log.info("translated headers component: {}", components.getHeaders().size());
     }
 
-    // Process security schemes in parallel
+    // Process security schemes
     if (components.getSecuritySchemes() != null) {
-      components.getSecuritySchemes().entrySet().parallelStream().forEach(entry -> {
+      components.getSecuritySchemes().entrySet().forEach(entry -> {
         translateField("component.securityScheme.description",
             entry.getValue()::getDescription,
             entry.getValue()::setDescription);
@@ -365,9 +382,9 @@ public class OpenAPITranslator {
     translateField(contextPath + ".title", schema::getTitle, schema::setTitle);
     translateField(contextPath + ".description", schema::getDescription, schema::setDescription);
 
-    // Process properties in parallel
+    // Process properties
     if (schema.getProperties() != null) {
-      schema.getProperties().entrySet().parallelStream().forEach(propEntry -> {
+      schema.getProperties().entrySet().forEach(propEntry -> {
         String propContext = contextPath + ".property." + propEntry.getKey();
         translateSchemaFields(propEntry.getValue(), propContext);
       });
@@ -375,40 +392,156 @@ public class OpenAPITranslator {
   }
 
   /**
-   * Translate field with caching and error handling
+   * Collect field to translate, fields with the same text share one translation
    *
    * @param fieldId Field identifier for logging
    * @param getter  Function to get original value
    * @param setter  Function to set translated value
    */
   private void translateField(String fieldId, Supplier<String> getter, Consumer<String> setter) {
-    String original = getter.get();
+    String original;
+    try {
+      original = getter.get();
+    } catch (Exception e) {
+      log.error("Field reading failed for [{}], error: {}", fieldId, e.getMessage());
+      return;
+    }
     if (original == null || original.trim().isEmpty()) {
       return;
     }
+    textSetters.computeIfAbsent(original, k -> new ArrayList<>()).add(setter);
+  }
 
-    try {
-      // Check translation cache first
-      String translated = translationCache.computeIfAbsent(original, key -> {
-        try {
-          // Perform actual translation if not in cache
-          return translationService.translate(key, sourceLanguage, targetLanguage);
-        } catch (Exception e) {
-          System.err.printf("Translation failed for [%s]: %s. Error: %s%n",
-              fieldId, key, e.getMessage());
-          return key; // Return original on failure
-        }
-      });
+  private void translateCollectedTexts() {
+    if (textSetters.isEmpty()) {
+      return;
+    }
 
-      // Set translated value
-      setter.accept(translated);
+    // Reuse translations in translation memory
+    Map<String, String> translations = new HashMap<>();
+    if (translationMemory != null) {
+      try {
+        translations.putAll(translationMemory.find(textSetters.keySet()));
+      } catch (Exception e) {
+        log.error("Find translation memory failed, error: {}", e.getMessage());
+      }
+    }
 
-      // Log translation result (consider using proper logger in production)
-      log.debug(String.format("Translated [%s]: %s -> %s%n", fieldId, original, translated));
-    } catch (Exception e) {
-      log.error(String.format("Field processing failed for [%s]: %s. Error: %s%n",
-          fieldId, original, e.getMessage()));
-      setter.accept(original); // Fallback to original text
+    // Translate remaining texts in batches
+    List<String> pendingTexts = textSetters.keySet().stream()
+        .filter(x -> !translations.containsKey(x)).toList();
+    List<CompletableFuture<Map<String, String>>> futures = new ArrayList<>();
+    for (List<String> batch : splitBatches(pendingTexts)) {
+      futures.add(executor == null
+          ? CompletableFuture.completedFuture(translateBatch(batch))
+          : CompletableFuture.supplyAsync(() -> translateBatch(batch), executor));
+    }
+    Map<String, String> newTranslations = new HashMap<>();
+    for (CompletableFuture<Map<String, String>> future : futures) {
+      newTranslations.putAll(future.join());
     }
+    translations.putAll(newTranslations);
+
+    if (translationMemory != null && !newTranslations.isEmpty()) {
+      try {
+        translationMemory.save(newTranslations);
+      } catch (Exception e) {
+        log.error("Save translation memory failed, error: {}", e.getMessage());
+      }
+    }
+
+    // Set translated value, fallback to original text when translation failed
+    for (Map.Entry<String, List<Consumer<String>>> entry : textSetters.entrySet()) {
+      String translated = translations.getOrDefault(entry.getKey(), entry.getKey());
+      for (Consumer<String> setter : entry.getValue()) {
+        setter.accept(translated);
+      }
+    }
+    log.info("Translated texts: {}, reused: {}, failed: {}", textSetters.size(),
+        translations.size() - newTranslations.size(),
+        textSetters.size() - translations.size());
+  }
+
+  private List<List<String>> splitBatches(List<String> texts) {
+    List<List<String>> batches = new ArrayList<>();
+    List<String> batch = new ArrayList<>();
+    int chars = 0;
+    for (String text : texts) {
+      if (!batch.isEmpty() && (batch.size() >= batchSize
+          || chars + text.length() > batchMaxChars)) {
+        batches.add(batch);
+        batch = new ArrayList<>();
+        chars = 0;
+      }
+      batch.add(text);
+      chars += text.length();
+    }
+    if (!batch.isEmpty()) {
+      batches.add(batch);
+    }
+    return batches;
+  }
+
+  /**
+   * Translate a batch of texts, the texts failed to translate are absent in result.
+   * <p>
+   * Batch results are saved to the translation memory, so the whole batch is translated one by
+   * one again when any result is missing, rather than saving a shifted translation.
+   */
+  private Map<String, String> translateBatch(List<String> texts) {
+    Map<String, String> translations = new HashMap<>();
+    if (texts.size() > 1) {
+      try {
+        List<String> results = translationService.translate(texts, sourceLanguage,
+            targetLanguage);
+        if (isBatchMatched(texts, results)) {
+          for (int i = 0; i < texts.size(); i++) {
+            translations.put(texts.get(i), results.get(i));
+          }
+          return translations;
+        }
+        log.warn("Batch translation results do not match the texts, translate one by one");
+      } catch (Exception e) {
+        log.warn("Batch translation failed, translate one by one, error: {}", e.getMessage());
+      }
+    }
+    for (String text : texts) {
+      try {
+        String translated = translationService.translate(text, sourceLanguage, targetLanguage);
+        if (translated != null) {
+          translations.put(text, translated);
+        }
+      } catch (Exception e) {
+        log.error("Translation failed for: {}, error: {}", text, e.getMessage());
+      }
+    }
+    return translations;
+  }
+
+  private static boolean isBatchMatched(List<String> texts, List<String> results) {
+    if (results == null || results.size() != texts.size()) {
+      return false;
+    }
+    for (int i = 0; i < texts.size(); i++) {
+      String result = results.get(i);
+      if (result == null || (result.isBlank() && !texts.get(i).isBlank())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Persistent translations shared between translation runs
+   */
+  public interface TranslationMemory {
+
+    /**
+     * @return Map of original text to translated text, texts never translated are absent
+     */
+    Map<String, String> find(Collection<String> texts);
+
+    void save(Map<String, String> translations);
+
   }
 }
@@ -0,0 +1,115 @@
+package cloud.xcan.angus.core.tester.infra.util;
+
+import static java.util.Objects.nonNull;
+
+import cloud.xcan.angus.spec.annotations.Nullable;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Redirect;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * Fetch OpenAPI documents with conditional requests.
+ * <p>
+ * The {@code ETag} and {@code Last-Modified} validators of the last applied document are sent as
+ * {@code If-None-Match} and {@code If-Modified-Since}, a server supporting them answers 304
+ * without the body. For servers without validators, the SHA-256 hash of the fetched content is
+ * returned so that callers can still skip parsing an unchanged document.
+ */
+public class OpenApiDocFetcher {
+
+  public static final String IF_NONE_MATCH = "If-None-Match";
+  public static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+  public static final String ETAG = "ETag";
+  public static final String LAST_MODIFIED = "Last-Modified";
+
+  private final HttpClient httpClient;
+
+  private final Duration readTimeout;
+
+  public OpenApiDocFetcher(Duration connectTimeout, Duration readTimeout) {
+    this.httpClient = HttpClient.newBuilder().connectTimeout(connectTimeout)
+        .followRedirects(Redirect.NORMAL).build();
+    this.readTimeout = readTimeout;
+  }
+
+  /**
+   * Fetch the document of url.
+   *
+   * @param headers      Request headers, such as the authentication headers of the url
+   * @param etag         ETag of the last applied document, or null
+   * @param lastModified Last-Modified of the last applied document, or null
+   * @throws IOException When the connection fails or the server answers an error status
+   */
+  public FetchResult fetch(String url, @Nullable Map<String, String> headers,
+      @Nullable String etag, @Nullable String lastModified)
+      throws IOException, InterruptedException {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+        .timeout(readTimeout).GET();
+    if (nonNull(headers)) {
+      headers.forEach(builder::header);
+    }
+    if (nonNull(etag)) {
+      builder.header(IF_NONE_MATCH, etag);
+    }
+    if (nonNull(lastModified)) {
+      builder.header(IF_MODIFIED_SINCE, lastModified);
+    }
+
+    HttpResponse<String> response = httpClient.send(builder.build(),
+        BodyHandlers.ofString(StandardCharsets.UTF_8));
+    int status = response.statusCode();
+    if (status == 304) {
+      // Validators may be omitted in 304 responses, the sent ones are still valid
+      return new FetchResult(status, null, null,
+          response.headers().firstValue(ETAG).orElse(etag),
+          response.headers().firstValue(LAST_MODIFIED).orElse(lastModified));
+    }
+    if (status < 200 || status >= 300) {
+      throw new IOException("Unexpected response status " + status + " of " + url);
+    }
+    String content = response.body();
+    return new FetchResult(status, content, OpenApiUtil.sha256(content),
+        response.headers().firstValue(ETAG).orElse(null),
+        response.headers().firstValue(LAST_MODIFIED).orElse(null));
+  }
+
+  @Getter
+  public static class FetchResult {
+
+    private final int status;
+
+    /**
+     * Document content, null when it is not modified.
+     */
+    private final String content;
+
+    private final String contentHash;
+
+    private final String etag;
+
+    private final String lastModified;
+
+    public FetchResult(int status, String content, String contentHash, String etag,
+        String lastModified) {
+      this.status = status;
+      this.content = content;
+      this.contentHash = contentHash;
+      this.etag = etag;
+      this.lastModified = lastModified;
+    }
+
+    public boolean isNotModified() {
+      return status == 304;
+    }
+
+  }
+
+}
@@ -1,8 +1,17 @@
 package cloud.xcan.angus.core.tester.infra.util;
 
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.swagger.v3.core.util.Json31;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
@@ -20,6 +29,56 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class OpenApiUtil {
 
+  private static final ObjectMapper CANONICAL_MAPPER = Json31.converterMapper().copy()
+      .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+      .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+  /**
+   * Computes the content hash of an OpenAPI model, such as an operation or a component.
+   * <p>
+   * The model is serialized with properties and map entries sorted by name, so the hash does not
+   * depend on the key order of the document. Unlike {@code hashCode()}, which includes identity
+   * hashes of enums, it is the same across processes and can be stored to detect changes.
+   *
+   * @param model the OpenAPI model
+   * @return the SHA-256 hex string of the canonical JSON of the model
+   */
+  public static String contentHash(Object model) {
+    try {
+      return sha256(CANONICAL_MAPPER.writeValueAsString(model));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Computes the content hash of a serialized OpenAPI model, such as the stored model of a
+   * component. Models serialized with different key orders have the same hash.
+   *
+   * @param json the JSON of the model
+   * @return the SHA-256 hex string of the canonical JSON of the model
+   */
+  public static String jsonContentHash(String json) {
+    try {
+      return contentHash(StringUtils.isEmpty(json) ? null
+          : CANONICAL_MAPPER.readValue(json, Object.class));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Computes the SHA-256 hex string of a text.
+   */
+  public static String sha256(String content) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+          .digest(content.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
   /**
    * Extracts the simple reference name from an OpenAPI reference string.
    * <p>
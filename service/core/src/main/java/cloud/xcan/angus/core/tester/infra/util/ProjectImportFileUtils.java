@@ -5,24 +5,31 @@ import static cloud.xcan.angus.core.utils.CoreUtils.randomUUID;
 
 import cloud.xcan.angus.core.tester.domain.ExampleDataType;
 import cloud.xcan.angus.core.utils.SpringAppDirUtils;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import lombok.SneakyThrows;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 
 /**
  * Utility class for project data import file operations.
  * <p>
- * Provides file handling utilities for extracting ZIP and TAR archives, classifying files by
- * business type, and managing temporary paths.
+ * Provides file handling utilities for reading entries of ZIP and TAR archives as streams,
+ * classifying entries by business type, and managing temporary paths.
  */
 public class ProjectImportFileUtils {
 
@@ -40,72 +47,117 @@ public class ProjectImportFileUtils {
   }
 
   /**
-   * Extracts archive file (ZIP or TAR) and returns list of extracted files.
+   * Lists the names of JSON and YAML entries in archive file (ZIP or TAR) without extracting it.
    */
   @SneakyThrows
-  public static List<File> extractArchiveFiles(File tmpPath, File archiveFile) {
-    List<File> extractedFiles = new ArrayList<>();
-    String fileName = archiveFile.getName().toLowerCase();
-
-    if (fileName.endsWith(".zip")) {
-      // Extract ZIP file - FileUtils.extract should handle file names with spaces correctly
-      FileUtils.extract(archiveFile.getPath(), tmpPath.getPath());
-      // Manually search for files in tmpPath to ensure correct path handling
-      extractedFiles = searchFiles(tmpPath);
-    } else if (fileName.endsWith(".tar") || fileName.endsWith(".tar.gz") || fileName.endsWith(
-        ".tgz")) {
-      // Extract TAR file
-      extractTarFile(archiveFile, tmpPath);
-      // Manually search for files in tmpPath to ensure correct path handling
-      extractedFiles = searchFiles(tmpPath);
+  public static List<String> listArchiveEntries(File archiveFile) {
+    List<String> entryNames = new ArrayList<>();
+    if (isZipFile(archiveFile)) {
+      try (ZipFile zipFile = new ZipFile(archiveFile)) {
+        for (ZipArchiveEntry entry : Collections.list(zipFile.getEntries())) {
+          if (!entry.isDirectory() && isDataFile(entry.getName())) {
+            entryNames.add(entry.getName());
+          }
+        }
+      }
+    } else if (isTarFile(archiveFile)) {
+      try (TarArchiveInputStream tarInput = createTarInputStream(archiveFile)) {
+        TarArchiveEntry entry;
+        while ((entry = tarInput.getNextEntry()) != null) {
+          if (!entry.isDirectory() && isDataFile(entry.getName())) {
+            entryNames.add(entry.getName());
+          }
+        }
+      }
     } else {
       throw new IllegalArgumentException(
           "不支持的文件格式，仅支持 ZIP (.zip) 或 TAR (.tar, .tar.gz, .tgz) 格式");
     }
 
-    assertNotEmpty(extractedFiles, "导入文件中未找到业务数据文件（JSON格式）或脚本文件（YAML格式）");
-    return extractedFiles;
+    assertNotEmpty(entryNames, "导入文件中未找到业务数据文件（JSON格式）或脚本文件（YAML格式）");
+    return entryNames;
   }
 
   /**
-   * Recursively searches for JSON and YAML files in the given directory.
+   * Reads an entry of archive file as a stream. ZIP entries are opened directly by the central
+   * directory, TAR entries are found by skipping the preceding entries of the stream.
+   * <p>
+   * Note: The stream is only valid within the reader and must not be closed by it.
    */
-  private static List<File> searchFiles(File directory) throws IOException {
-    List<File> files = new ArrayList<>();
-    if (!directory.exists() || !directory.isDirectory()) {
-      return files;
-    }
-    Files.walk(directory.toPath())
-        .filter(Files::isRegularFile)
-        .filter(path -> {
-          String fileName = path.getFileName().toString().toLowerCase();
-          return fileName.endsWith(".json") || fileName.endsWith(".yaml");
-        })
-        .forEach(path -> files.add(path.toFile()));
-    return files;
+  @SneakyThrows
+  public static void readArchiveEntry(File archiveFile, String entryName, EntryReader reader) {
+    if (isZipFile(archiveFile)) {
+      try (ZipFile zipFile = new ZipFile(archiveFile)) {
+        ZipArchiveEntry entry = zipFile.getEntry(entryName);
+        assertNotEmpty(entry, "导入文件中未找到文件: " + entryName);
+        try (InputStream in = zipFile.getInputStream(entry)) {
+          reader.read(in);
+        }
+      }
+      return;
+    }
+    try (TarArchiveInputStream tarInput = createTarInputStream(archiveFile)) {
+      TarArchiveEntry entry;
+      while ((entry = tarInput.getNextEntry()) != null) {
+        if (entry.getName().equals(entryName)) {
+          reader.read(tarInput);
+          return;
+        }
+      }
+    }
+    throw new IllegalArgumentException("导入文件中未找到文件: " + entryName);
   }
 
   /**
-   * Extracts TAR archive file.
+   * Reads the elements of the JSON array in stream one by one and passes them to the consumer in
+   * batches, so at most one batch of elements is held in memory regardless of the array size.
+   *
+   * @return Number of elements read
    */
-  private static void extractTarFile(File tarFile, File destDir) throws IOException {
-    Path destPath = destDir.toPath();
-    Files.createDirectories(destPath);
-
-    try (TarArchiveInputStream tarInput = createTarInputStream(tarFile)) {
-      TarArchiveEntry entry;
-      while ((entry = tarInput.getNextEntry()) != null) {
-        if (entry.isDirectory()) {
-          Files.createDirectories(destPath.resolve(entry.getName()));
-        } else {
-          Path entryPath = destPath.resolve(entry.getName());
-          Files.createDirectories(entryPath.getParent());
-          Files.copy(tarInput, entryPath);
+  public static <T> long readJsonArray(InputStream in, ObjectMapper objectMapper, Class<T> type,
+      int batchSize, Consumer<List<T>> batchConsumer) throws IOException {
+    try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+      // The entry stream is closed by the archive reader
+      parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        throw new IllegalArgumentException("导入文件格式错误，业务数据文件内容必须是JSON数组");
+      }
+      long count = 0;
+      List<T> batch = new ArrayList<>(batchSize);
+      JsonToken token;
+      while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+        if (token != JsonToken.START_OBJECT) {
+          // e.g. a number, a nested array or a truncated file
+          throw new IllegalArgumentException("导入文件格式错误，业务数据文件内容必须是JSON对象数组");
         }
+        batch.add(objectMapper.readValue(parser, type));
+        count++;
+        if (batch.size() >= batchSize) {
+          batchConsumer.accept(batch);
+          batch = new ArrayList<>(batchSize);
+        }
+      }
+      if (!batch.isEmpty()) {
+        batchConsumer.accept(batch);
       }
+      return count;
     }
   }
 
+  private static boolean isDataFile(String entryName) {
+    String fileName = entryName.toLowerCase();
+    return fileName.endsWith(".json") || fileName.endsWith(".yaml");
+  }
+
+  private static boolean isZipFile(File archiveFile) {
+    return archiveFile.getName().toLowerCase().endsWith(".zip");
+  }
+
+  private static boolean isTarFile(File archiveFile) {
+    String fileName = archiveFile.getName().toLowerCase();
+    return fileName.endsWith(".tar") || fileName.endsWith(".tar.gz") || fileName.endsWith(".tgz");
+  }
+
   /**
    * Creates TarArchiveInputStream from file, handling both plain TAR and GZIP-compressed TAR.
    */
@@ -120,38 +172,39 @@ public class ProjectImportFileUtils {
   }
 
   /**
-   * Classifies files by business type based on filename keywords. Returns a map where key is
-   * ExampleDataType and value is list of files. For SCRIPT type, returns all YAML files. For other
-   * types, returns only the first matching file.
+   * Classifies archive entries by business type based on filename keywords. Returns a map where key
+   * is ExampleDataType and value is list of entry names. For SCRIPT type, returns all YAML entries.
+   * For other types, returns only the first matching entry.
    */
-  public static Map<ExampleDataType, List<File>> classifyFilesByType(List<File> files) {
-    Map<ExampleDataType, List<File>> classifiedFiles = new HashMap<>();
+  public static Map<ExampleDataType, List<String>> classifyEntriesByType(List<String> entryNames) {
+    Map<ExampleDataType, List<String>> classifiedEntries = new HashMap<>();
 
-    for (File file : files) {
-      String fileName = file.getName().toLowerCase();
+    for (String entryName : entryNames) {
+      String fileName = getFileName(entryName).toLowerCase();
       boolean isYaml = fileName.endsWith(".yaml");
       boolean isJson = fileName.endsWith(".json");
 
       if (isYaml) {
         // YAML files are scripts - support multiple files
-        classifiedFiles.computeIfAbsent(ExampleDataType.SCRIPT, k -> new ArrayList<>()).add(file);
+        classifiedEntries.computeIfAbsent(ExampleDataType.SCRIPT, k -> new ArrayList<>())
+            .add(entryName);
       } else if (isJson) {
         // JSON files are business data - match by keywords and take only first file per type
         ExampleDataType dataType = matchBusinessType(fileName);
         if (dataType != null) {
-          classifiedFiles.computeIfAbsent(dataType, k -> new ArrayList<>()).add(file);
+          classifiedEntries.computeIfAbsent(dataType, k -> new ArrayList<>()).add(entryName);
         }
       }
     }
 
     // For non-SCRIPT types, keep only the first file
-    for (Map.Entry<ExampleDataType, List<File>> entry : classifiedFiles.entrySet()) {
+    for (Map.Entry<ExampleDataType, List<String>> entry : classifiedEntries.entrySet()) {
       if (entry.getKey() != ExampleDataType.SCRIPT && entry.getValue().size() > 1) {
         entry.setValue(entry.getValue().subList(0, 1));
       }
     }
 
-    return classifiedFiles;
+    return classifiedEntries;
   }
 
   /**
@@ -230,17 +283,32 @@ public class ProjectImportFileUtils {
   }
 
   /**
-   * Finds project JSON file from list of files.
+   * Finds project JSON entry from list of archive entries.
    */
-  public static File findProjectFile(List<File> files) {
-    for (File file : files) {
-      String fileName = file.getName().toLowerCase();
+  public static String findProjectEntry(List<String> entryNames) {
+    for (String entryName : entryNames) {
+      String fileName = getFileName(entryName).toLowerCase();
       if (fileName.endsWith(".json") &&
           (fileName.contains("项目") || fileName.contains("project"))) {
-        return file;
+        return entryName;
       }
     }
     return null;
   }
-}
 
+  /**
+   * Gets the file name of archive entry without parent directories.
+   */
+  public static String getFileName(String entryName) {
+    return entryName.substring(entryName.lastIndexOf('/') + 1);
+  }
+
+  /**
+   * Reader of the stream of an archive entry.
+   */
+  @FunctionalInterface
+  public interface EntryReader {
+
+    void read(InputStream in) throws IOException;
+  }
+}
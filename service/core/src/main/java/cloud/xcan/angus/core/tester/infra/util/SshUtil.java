@@ -27,9 +27,13 @@ import org.vngx.jsch.exception.JSchException;
  * cleanup.
  * <p>
  * Supports both password and key-based authentication with configurable timeouts.
+ * <p>
+ * By default each command connects its own session. After {@link #open()}, all commands reuse one
+ * session until {@link #close()}, which saves the handshake and authentication of every command
+ * when running several commands on the same host.
  */
 @Slf4j
-public class SshUtil {
+public class SshUtil implements AutoCloseable {
 
   // SSH connection timeout constants
   private static final int TIMEOUT = 30 * 1000;        // 30 seconds for general operations
@@ -41,6 +45,9 @@ public class SshUtil {
   private final String userName;
   private final String password;
 
+  // Session shared by commands between open() and close()
+  private Session session;
+
   /**
    * Creates a new SSH utility instance for connecting to a remote server.
    * <p>
@@ -129,6 +136,9 @@ public class SshUtil {
    * @throws JSchException if session creation or operation fails
    */
   public <R> R connectSession(Function<Session, R> func) throws JSchException {
+    if (this.session != null && this.session.isConnected()) {
+      return func.apply(this.session);
+    }
     Session session = null;
     try {
       // Create and connect SSH session
@@ -143,6 +153,30 @@ public class SshUtil {
     }
   }
 
+  /**
+   * Opens a session shared by the following commands until {@link #close()} is called.
+   *
+   * @return this utility instance
+   * @throws JSchException if session creation or connection fails
+   */
+  public SshUtil open() throws JSchException {
+    if (session == null || !session.isConnected()) {
+      session = createSession();
+    }
+    return this;
+  }
+
+  /**
+   * Disconnects the session opened by {@link #open()}.
+   */
+  @Override
+  public void close() {
+    if (session != null && session.isConnected()) {
+      session.disconnect();
+    }
+    session = null;
+  }
+
   /**
    * Tests SSH connectivity to the remote server.
    * <p>
@@ -5,20 +5,14 @@ import static cloud.xcan.angus.core.tester.interfaces.issue.facade.internal.asse
 import static cloud.xcan.angus.core.tester.interfaces.issue.facade.internal.assembler.TaskAssembler.toAddTask;
 import static cloud.xcan.angus.core.tester.interfaces.issue.facade.internal.assembler.TaskAssembler.toReplaceTask;
 import static cloud.xcan.angus.core.tester.interfaces.issue.facade.internal.assembler.TaskAssembler.toTaskDetailVo;
-import static cloud.xcan.angus.core.tester.interfaces.issue.facade.internal.assembler.TaskAssembler.toTaskListExportResource;
+import static cloud.xcan.angus.core.tester.interfaces.issue.facade.internal.assembler.TaskAssembler.toTaskListExportWriter;
 import static cloud.xcan.angus.core.tester.interfaces.issue.facade.internal.assembler.TaskAssembler.toUpdateTask;
 import static cloud.xcan.angus.core.utils.CoreUtils.buildVoPageResult;
-import static cloud.xcan.angus.core.utils.ServletUtils.buildDownloadResourceResponseEntity;
-import static cloud.xcan.angus.remote.ApiConstant.RLimit.MAX_REPORT_ROWS;
-import static cloud.xcan.angus.remote.CommonMessage.EXPORT_ROW_OVERT_LIMIT_CODE;
-import static cloud.xcan.angus.remote.CommonMessage.EXPORT_ROW_OVERT_LIMIT_T;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isNull;
-import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM;
 
 import cloud.xcan.angus.api.enums.Priority;
 import cloud.xcan.angus.api.enums.Result;
-import cloud.xcan.angus.core.biz.BizAssert;
 import cloud.xcan.angus.core.biz.JoinSupplier;
 import cloud.xcan.angus.core.biz.NameJoin;
 import cloud.xcan.angus.core.tester.application.cmd.issue.TaskCmd;
@@ -29,6 +23,7 @@ import cloud.xcan.angus.core.tester.domain.issue.Task;
 import cloud.xcan.angus.core.tester.domain.issue.TaskInfo;
 import cloud.xcan.angus.core.tester.domain.issue.TaskType;
 import cloud.xcan.angus.core.tester.domain.test.cases.FuncCaseInfo;
+import cloud.xcan.angus.core.tester.infra.util.ExcelExportUtils;
 import cloud.xcan.angus.core.tester.interfaces.issue.facade.TaskFacade;
 import cloud.xcan.angus.core.tester.interfaces.issue.facade.dto.TaskAddDto;
 import cloud.xcan.angus.core.tester.interfaces.issue.facade.dto.TaskAssigneeReplaceDto;
@@ -53,6 +48,7 @@ import cloud.xcan.angus.core.tester.interfaces.test.facade.vo.FuncCaseListVo;
 import cloud.xcan.angus.remote.PageResult;
 import cloud.xcan.angus.spec.annotations.DoInFuture;
 import cloud.xcan.angus.spec.experimental.IdKey;
+import com.alibaba.excel.ExcelWriter;
 import jakarta.annotation.Resource;
 import jakarta.servlet.http.HttpServletResponse;
 import java.math.BigDecimal;
@@ -63,8 +59,6 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -301,36 +295,26 @@ public class TaskFacadeImpl implements TaskFacade {
   }
 
   /**
-   * Note: The default maximum number of exported records, which needs to be exported in batches
-   * according to conditions(created_date) when exceeding the limit.
+   * Note: Tasks are read in batches and written to the response as they are read, so the number
+   * of exported tasks is not limited.
    */
   @DoInFuture("Limit the number of export tasks")
   @Override
   public ResponseEntity<org.springframework.core.io.Resource> export(TaskFindDto dto,
       HttpServletResponse response) {
-    List<TaskListExportVo> data = getExportTaskData(dto);
     String fileName = "TaskListExport-" + System.currentTimeMillis() + ".xlsx";
-    return buildDownloadResourceResponseEntity(-1, APPLICATION_OCTET_STREAM,
-        fileName, 0, toTaskListExportResource(data, fileName));
-  }
-
-  @NotNull
-  private List<TaskListExportVo> getExportTaskData(TaskFindDto dto) {
-    dto.setPageSize(500);
-    PageResult<TaskListVo> page = joinSupplier.execute(() -> list(true, dto));
-    // 500 reads per time, with a maximum support for exporting MAX_REPORT_ROWS.
-    BizAssert.assertTrue(page.getTotal() <= MAX_REPORT_ROWS,
-        EXPORT_ROW_OVERT_LIMIT_CODE, EXPORT_ROW_OVERT_LIMIT_T, new Object[]{MAX_REPORT_ROWS});
-    List<TaskListExportVo> data = page.getList().stream().map(TaskAssembler::toTaskVo)
-        .collect(Collectors.toList());
-    while (page.getList().size() >= 500) {
-      dto.setPageNo(dto.getPageNo() + 1);
-      page = list(true, dto);
-      if (!page.isEmpty()) {
-        data.addAll(page.getList().stream().map(TaskAssembler::toTaskVo).toList());
-      }
-    }
-    return data;
+    ExcelWriter writer = toTaskListExportWriter(response, fileName);
+    ExcelExportUtils.export(writer, response, sheet -> taskQuery.export(getSpecification(dto),
+        dto.fullTextSearch, getMatchSearchFields(dto.getClass()),
+        tasks -> writer.write(toExportVos(tasks), sheet)));
+    // The file has been written to the response
+    return null;
+  }
+
+  private List<TaskListExportVo> toExportVos(List<Task> tasks) {
+    List<TaskListVo> vos = joinSupplier.execute(
+        () -> tasks.stream().map(TaskAssembler::toListVo).toList());
+    return vos.stream().map(TaskAssembler::toTaskVo).toList();
   }
 
 }
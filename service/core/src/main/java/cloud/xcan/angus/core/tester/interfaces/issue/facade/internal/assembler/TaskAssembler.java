@@ -3,7 +3,6 @@ package cloud.xcan.angus.core.tester.interfaces.issue.facade.internal.assembler;
 import static cloud.xcan.angus.core.spring.SpringContextHolder.getBean;
 import static cloud.xcan.angus.core.tester.application.cmd.issue.impl.TaskCmdImpl.getTaskCode;
 import static cloud.xcan.angus.core.tester.domain.TesterCoreMessage.EXPORT_TASK_LIST;
-import static cloud.xcan.angus.spec.principal.PrincipalContext.getTenantId;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.arrayToLists;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isNotEmpty;
@@ -11,9 +10,10 @@ import static cloud.xcan.angus.spec.utils.ObjectUtils.isNull;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.nullSafe;
 import static java.util.Collections.emptyList;
 import static java.util.Objects.nonNull;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
 
 import cloud.xcan.angus.api.commonlink.CombinedTargetType;
-import cloud.xcan.angus.api.commonlink.TesterConstant;
 import cloud.xcan.angus.api.enums.Priority;
 import cloud.xcan.angus.api.pojo.Progress;
 import cloud.xcan.angus.core.jpa.criteria.GenericSpecification;
@@ -33,22 +33,20 @@ import cloud.xcan.angus.core.tester.interfaces.issue.facade.vo.TaskListExportVo;
 import cloud.xcan.angus.core.tester.interfaces.issue.facade.vo.TaskListVo;
 import cloud.xcan.angus.core.tester.interfaces.test.facade.internal.assembler.FuncCaseAssembler;
 import cloud.xcan.angus.core.tester.interfaces.test.facade.vo.FuncCaseInfoVo;
-import cloud.xcan.angus.core.utils.SpringAppDirUtils;
 import cloud.xcan.angus.idgen.uid.impl.CachedUidGenerator;
 import cloud.xcan.angus.remote.search.SearchCriteria;
 import cloud.xcan.angus.remote.vo.IdAndNameVo;
 import cloud.xcan.angus.spec.experimental.Assert;
 import cloud.xcan.angus.spec.locale.MessageHolder;
-import cloud.xcan.angus.spec.utils.FileUtils;
 import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelWriter;
 import com.alibaba.excel.write.style.column.SimpleColumnWidthStyleStrategy;
-import java.io.File;
-import java.io.FileInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Set;
 import lombok.SneakyThrows;
-import org.jetbrains.annotations.NotNull;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
 
 /**
  * @author XiaoLong Liu
@@ -357,22 +355,25 @@ public class TaskAssembler {
         .setModifiedDate(listVo.getModifiedDate());
   }
 
+  /**
+   * Create the writer of exported tasks on the response. Rows written in batches are flushed by
+   * the streaming workbook to temporary files, and the workbook is sent to the response when the
+   * writer finishes, see ExcelExportUtils#export.
+   */
   @SneakyThrows
-  @NotNull
-  public static InputStreamResource toTaskListExportResource(List<TaskListExportVo> counts,
+  public static ExcelWriter toTaskListExportWriter(HttpServletResponse response,
       String fileName) {
-    String filePath = new SpringAppDirUtils().getTmpDir() + TesterConstant.EXPORT_SUMMARY_DIR
-        + getTenantId() + File.separator + fileName;
-    File file = new File(filePath);
-    FileUtils.forceMkdirParent(file);
     String headerMessage = MessageHolder.message(EXPORT_TASK_LIST);
     Assert.assertNotEmpty(headerMessage, "TaskListExport message not configured");
-    EasyExcel.write(file, TaskListExportVo.class)
-        .head(arrayToLists(headerMessage.split(","))).sheet()
-        //.head(ApisCaseListVo.class).sheet()
+    response.setContentType(APPLICATION_OCTET_STREAM_VALUE);
+    response.setHeader(CONTENT_DISPOSITION, ContentDisposition.attachment()
+        .filename(fileName, StandardCharsets.UTF_8).build().toString());
+    return EasyExcel.write(response.getOutputStream(), TaskListExportVo.class)
+        .head(arrayToLists(headerMessage.split(",")))
         .registerWriteHandler(new SimpleColumnWidthStyleStrategy(25))
-        .doWrite(() -> counts);
-    return new InputStreamResource(new FileInputStream(filePath));
+        // Keep the response open to respond with an error after a failed export
+        .autoCloseStream(false)
+        .build();
   }
 
   public static GenericSpecification<Task> getSpecification(TaskFindDto dto) {
@@ -17,8 +17,7 @@ public class MockApisLogOpen2pFacadeImpl implements MockApisLogOpen2pFacade {
 
   @Override
   public List<IdKey<Long, Object>> add(List<ApisRequestLog> dto) {
-    return dto.stream().map(x -> mockApisLogCmd.add0(MockApisLogAssembler.toMockApisLog(x)))
-        .toList();
+    return mockApisLogCmd.add(dto.stream().map(MockApisLogAssembler::toMockApisLog).toList());
   }
 
 }
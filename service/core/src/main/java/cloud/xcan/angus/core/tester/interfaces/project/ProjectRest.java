@@ -11,6 +11,7 @@ import cloud.xcan.angus.core.tester.interfaces.project.facade.dto.ProjectImportD
 import cloud.xcan.angus.core.tester.interfaces.project.facade.dto.ProjectReplaceDto;
 import cloud.xcan.angus.core.tester.interfaces.project.facade.dto.ProjectUpdateDto;
 import cloud.xcan.angus.core.tester.interfaces.project.facade.vo.ProjectDetailVo;
+import cloud.xcan.angus.core.tester.interfaces.project.facade.vo.ProjectImportProgressVo;
 import cloud.xcan.angus.remote.ApiLocaleResult;
 import cloud.xcan.angus.remote.PageResult;
 import cloud.xcan.angus.spec.experimental.IdKey;
@@ -115,6 +116,16 @@ public class ProjectRest {
     return ApiLocaleResult.success(projectFacade.imports(dto));
   }
 
+  @Operation(summary = "Query the latest project import progress",
+      description = "Query the progress of the current user's latest project data import while the import is running",
+      operationId = "project:import:progress:latest")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Project import progress retrieved successfully")})
+  @GetMapping(value = "/import/progress/latest")
+  public ApiLocaleResult<ProjectImportProgressVo> latestImportProgress() {
+    return ApiLocaleResult.success(projectFacade.latestImportProgress());
+  }
+
   @Operation(summary = "Delete project",
       description = "Permanently delete project and move to recycle bin for potential recovery",
       operationId = "project:delete")
@@ -127,6 +138,20 @@ public class ProjectRest {
     projectFacade.delete(id);
   }
 
+  @Operation(summary = "Rebuild project hierarchy index",
+      description = "Rebuild the ancestor and descendant index of the module and task trees of project to repair inconsistencies",
+      operationId = "project:hierarchy:rebuild")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Project hierarchy index rebuilt successfully"),
+      @ApiResponse(responseCode = "404", description = "Project not found")})
+  @ResponseStatus(HttpStatus.OK)
+  @PutMapping("/{id}/hierarchy/rebuild")
+  public ApiLocaleResult<?> hierarchyRebuild(
+      @Parameter(name = "id", description = "Project identifier for index rebuilding", required = true) @PathVariable("id") Long id) {
+    projectFacade.hierarchyRebuild(id);
+    return ApiLocaleResult.success();
+  }
+
   @Operation(summary = "Query user's joined projects",
       description = "Retrieve all projects that a specific user has joined or has access to",
       operationId = "project:user:joined")
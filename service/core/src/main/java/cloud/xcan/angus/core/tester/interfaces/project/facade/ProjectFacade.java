@@ -9,6 +9,7 @@ import cloud.xcan.angus.core.tester.interfaces.project.facade.dto.ProjectImportD
 import cloud.xcan.angus.core.tester.interfaces.project.facade.dto.ProjectReplaceDto;
 import cloud.xcan.angus.core.tester.interfaces.project.facade.dto.ProjectUpdateDto;
 import cloud.xcan.angus.core.tester.interfaces.project.facade.vo.ProjectDetailVo;
+import cloud.xcan.angus.core.tester.interfaces.project.facade.vo.ProjectImportProgressVo;
 import cloud.xcan.angus.remote.PageResult;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import java.util.List;
@@ -27,8 +28,12 @@ public interface ProjectFacade {
 
   IdKey<Long, Object> imports(ProjectImportDto dto);
 
+  ProjectImportProgressVo latestImportProgress();
+
   void delete(Long id);
 
+  void hierarchyRebuild(Long id);
+
   List<ProjectDetailVo> userJoined(Long userId, String name);
 
   ProjectDetailVo detail(Long id);
@@ -5,6 +5,7 @@ import static cloud.xcan.angus.core.tester.interfaces.project.facade.internal.as
 import static cloud.xcan.angus.core.tester.interfaces.project.facade.internal.assembler.ProjectAssembler.getSpecification;
 import static cloud.xcan.angus.core.tester.interfaces.project.facade.internal.assembler.ProjectAssembler.replaceDtoToDomain;
 import static cloud.xcan.angus.core.tester.interfaces.project.facade.internal.assembler.ProjectAssembler.toDetailVo;
+import static cloud.xcan.angus.core.tester.interfaces.project.facade.internal.assembler.ProjectAssembler.toImportProgressVo;
 import static cloud.xcan.angus.core.tester.interfaces.project.facade.internal.assembler.ProjectAssembler.updateDtoToDomain;
 import static cloud.xcan.angus.core.utils.CoreUtils.buildVoPageResult;
 import static cloud.xcan.angus.core.utils.ServletUtils.buildDownloadResourceResponseEntity;
@@ -14,6 +15,7 @@ import cloud.xcan.angus.api.commonlink.user.UserBase;
 import cloud.xcan.angus.api.commonlink.user.UserInfo;
 import cloud.xcan.angus.core.biz.NameJoin;
 import cloud.xcan.angus.core.tester.application.cmd.project.ProjectCmd;
+import cloud.xcan.angus.core.tester.application.cmd.project.TreeClosureCmd;
 import cloud.xcan.angus.core.tester.application.query.project.ProjectQuery;
 import cloud.xcan.angus.core.tester.domain.ExampleDataType;
 import cloud.xcan.angus.core.tester.domain.project.Project;
@@ -26,6 +28,7 @@ import cloud.xcan.angus.core.tester.interfaces.project.facade.dto.ProjectReplace
 import cloud.xcan.angus.core.tester.interfaces.project.facade.dto.ProjectUpdateDto;
 import cloud.xcan.angus.core.tester.interfaces.project.facade.internal.assembler.ProjectAssembler;
 import cloud.xcan.angus.core.tester.interfaces.project.facade.vo.ProjectDetailVo;
+import cloud.xcan.angus.core.tester.interfaces.project.facade.vo.ProjectImportProgressVo;
 import cloud.xcan.angus.remote.PageResult;
 import cloud.xcan.angus.spec.experimental.IdKey;
 import jakarta.annotation.Resource;
@@ -49,6 +52,9 @@ public class ProjectFacadeImpl implements ProjectFacade {
   @Resource
   private ProjectQuery projectQuery;
 
+  @Resource
+  private TreeClosureCmd treeClosureCmd;
+
   @Override
   public IdKey<Long, Object> add(ProjectAddDto dto) {
     return projectCmd.add(addDtoToDomain(dto));
@@ -76,11 +82,21 @@ public class ProjectFacadeImpl implements ProjectFacade {
         dto.getName(), dto.getFile());
   }
 
+  @Override
+  public ProjectImportProgressVo latestImportProgress() {
+    return toImportProgressVo(projectQuery.latestImportProgress());
+  }
+
   @Override
   public void delete(Long id) {
     projectCmd.delete(id);
   }
 
+  @Override
+  public void hierarchyRebuild(Long id) {
+    treeClosureCmd.rebuild(id);
+  }
+
   @Override
   //@NameJoin -> NOOP
   public List<ProjectDetailVo> userJoined(Long userId, String name) {
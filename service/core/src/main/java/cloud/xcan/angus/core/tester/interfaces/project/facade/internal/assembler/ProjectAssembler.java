@@ -7,12 +7,14 @@ import static java.util.Objects.isNull;
 import cloud.xcan.angus.core.jpa.criteria.GenericSpecification;
 import cloud.xcan.angus.core.jpa.criteria.SearchCriteriaBuilder;
 import cloud.xcan.angus.core.tester.domain.project.Project;
+import cloud.xcan.angus.core.tester.domain.project.ProjectImportProgress;
 import cloud.xcan.angus.core.tester.domain.project.ProjectType;
 import cloud.xcan.angus.core.tester.interfaces.project.facade.dto.ProjectAddDto;
 import cloud.xcan.angus.core.tester.interfaces.project.facade.dto.ProjectFindDto;
 import cloud.xcan.angus.core.tester.interfaces.project.facade.dto.ProjectReplaceDto;
 import cloud.xcan.angus.core.tester.interfaces.project.facade.dto.ProjectUpdateDto;
 import cloud.xcan.angus.core.tester.interfaces.project.facade.vo.ProjectDetailVo;
+import cloud.xcan.angus.core.tester.interfaces.project.facade.vo.ProjectImportProgressVo;
 import cloud.xcan.angus.remote.search.SearchCriteria;
 import java.util.Set;
 
@@ -93,6 +95,19 @@ public class ProjectAssembler {
     return new GenericSpecification<>(filters);
   }
 
+  public static ProjectImportProgressVo toImportProgressVo(ProjectImportProgress progress) {
+    return isNull(progress) ? null : new ProjectImportProgressVo()
+        .setProjectId(progress.getProjectId())
+        .setProjectName(progress.getProjectName())
+        .setTotalEntries(progress.getTotalEntries())
+        .setImportedEntries(progress.getImportedEntries())
+        .setCurrentEntry(progress.getCurrentEntry())
+        .setImportedRows(progress.getImportedRows())
+        .setImportProgress(progress.getImportProgress())
+        .setFinish(progress.isFinish())
+        .setFailure(progress.getFailure());
+  }
+
 }
 
 
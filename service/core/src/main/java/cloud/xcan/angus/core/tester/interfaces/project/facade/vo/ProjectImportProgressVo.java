@@ -0,0 +1,40 @@
+package cloud.xcan.angus.core.tester.interfaces.project.facade.vo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+@Setter
+@Getter
+@Accessors(chain = true)
+public class ProjectImportProgressVo {
+
+  @Schema(description = "Imported project identifier")
+  private Long projectId;
+
+  @Schema(description = "Imported project name")
+  private String projectName;
+
+  @Schema(description = "Number of business data files to import")
+  private int totalEntries;
+
+  @Schema(description = "Number of imported business data files")
+  private int importedEntries;
+
+  @Schema(description = "Business data file being imported")
+  private String currentEntry;
+
+  @Schema(description = "Number of imported business data rows")
+  private long importedRows;
+
+  @Schema(description = "Import progress percentage")
+  private String importProgress;
+
+  @Schema(description = "Whether the import is finished")
+  private boolean finish;
+
+  @Schema(description = "Failure of the import, the imported data is deleted when failed")
+  private String failure;
+
+}
@@ -6,6 +6,7 @@ import cloud.xcan.angus.core.tester.interfaces.services.facade.ServicesSyncFacad
 import cloud.xcan.angus.core.tester.interfaces.services.facade.dto.config.ServicesSyncReplaceDto;
 import cloud.xcan.angus.core.tester.interfaces.services.facade.dto.config.ServicesSyncTestDto;
 import cloud.xcan.angus.core.tester.interfaces.services.facade.vo.config.ServicesSyncDetailVo;
+import cloud.xcan.angus.core.tester.interfaces.services.facade.vo.config.ServicesSyncHistoryVo;
 import cloud.xcan.angus.remote.ApiLocaleResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -122,4 +123,17 @@ public class ServicesSyncRest {
     return ApiLocaleResult.success(servicesSyncFacade.list(serviceId));
   }
 
+  @Operation(summary = "Query service synchronization histories",
+      description = "Retrieve the latest synchronization outcomes, durations and api changes of service.",
+      operationId = "services:sync:history:list")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Service synchronization histories retrieved successfully"),
+      @ApiResponse(responseCode = "404", description = "Service not found")})
+  @GetMapping(value = "/{serviceId}/synchronization/history")
+  public ApiLocaleResult<List<ServicesSyncHistoryVo>> historyList(
+      @Parameter(name = "serviceId", description = "Service identifier for synchronization history query", required = true) @PathVariable("serviceId") Long serviceId,
+      @Parameter(name = "name", description = "Synchronization configuration name; query the histories of all configurations when empty") @RequestParam(value = "name", required = false) String name) {
+    return ApiLocaleResult.success(servicesSyncFacade.historyList(serviceId, name));
+  }
+
 }
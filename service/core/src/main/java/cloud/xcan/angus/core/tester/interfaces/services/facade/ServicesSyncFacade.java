@@ -3,6 +3,7 @@ package cloud.xcan.angus.core.tester.interfaces.services.facade;
 import cloud.xcan.angus.core.tester.interfaces.services.facade.dto.config.ServicesSyncReplaceDto;
 import cloud.xcan.angus.core.tester.interfaces.services.facade.dto.config.ServicesSyncTestDto;
 import cloud.xcan.angus.core.tester.interfaces.services.facade.vo.config.ServicesSyncDetailVo;
+import cloud.xcan.angus.core.tester.interfaces.services.facade.vo.config.ServicesSyncHistoryVo;
 import java.util.List;
 import java.util.Set;
 
@@ -20,4 +21,6 @@ public interface ServicesSyncFacade {
 
   List<ServicesSyncDetailVo> list(Long serviceId);
 
+  List<ServicesSyncHistoryVo> historyList(Long serviceId, String name);
+
 }
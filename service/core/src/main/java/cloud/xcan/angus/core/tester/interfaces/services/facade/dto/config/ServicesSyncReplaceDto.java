@@ -9,6 +9,7 @@ import cloud.xcan.angus.api.pojo.auth.SimpleHttpAuth;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.media.Schema.RequiredMode;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
@@ -45,4 +46,8 @@ public class ServicesSyncReplaceDto {
   @Schema(description = "Authentication configuration for protected synchronization URLs")
   private List<SimpleHttpAuth> auths;
 
+  @Min(0)
+  @Schema(description = "Interval of scheduled synchronization in minutes, synchronize manually only when empty or 0. Scheduled synchronizations skip documents unchanged since the last synchronization", example = "60")
+  private Integer syncInterval;
+
 }
@@ -12,6 +12,7 @@ import cloud.xcan.angus.core.tester.interfaces.services.facade.dto.config.Servic
 import cloud.xcan.angus.core.tester.interfaces.services.facade.dto.config.ServicesSyncTestDto;
 import cloud.xcan.angus.core.tester.interfaces.services.facade.internal.assembler.ServicesSyncAssembler;
 import cloud.xcan.angus.core.tester.interfaces.services.facade.vo.config.ServicesSyncDetailVo;
+import cloud.xcan.angus.core.tester.interfaces.services.facade.vo.config.ServicesSyncHistoryVo;
 import jakarta.annotation.Resource;
 import java.util.List;
 import java.util.Set;
@@ -20,6 +21,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class ServicesSyncFacadeImpl implements ServicesSyncFacade {
 
+  private static final int MAX_HISTORY_NUM = 100;
+
   @Resource
   private ServicesSyncCmd servicesSyncCmd;
 
@@ -59,4 +62,10 @@ public class ServicesSyncFacadeImpl implements ServicesSyncFacade {
     return isEmpty(syncs) ? null : syncs.stream().map(ServicesSyncAssembler::toDetailVo).toList();
   }
 
+  @Override
+  public List<ServicesSyncHistoryVo> historyList(Long serviceId, String name) {
+    return servicesSyncQuery.findHistories(serviceId, name, MAX_HISTORY_NUM).stream()
+        .map(ServicesSyncAssembler::toHistoryVo).toList();
+  }
+
 }
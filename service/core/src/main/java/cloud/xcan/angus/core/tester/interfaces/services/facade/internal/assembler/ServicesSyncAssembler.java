@@ -1,8 +1,10 @@
 package cloud.xcan.angus.core.tester.interfaces.services.facade.internal.assembler;
 
 import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSync;
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncHistory;
 import cloud.xcan.angus.core.tester.interfaces.services.facade.dto.config.ServicesSyncReplaceDto;
 import cloud.xcan.angus.core.tester.interfaces.services.facade.vo.config.ServicesSyncDetailVo;
+import cloud.xcan.angus.core.tester.interfaces.services.facade.vo.config.ServicesSyncHistoryVo;
 
 public class ServicesSyncAssembler {
 
@@ -13,7 +15,8 @@ public class ServicesSyncAssembler {
         .setApiDocsUrl(dto.getApiDocsUrl())
         .setDeleteWhenNotExisted(dto.getDeleteWhenNotExisted())
         .setStrategyWhenDuplicated(dto.getStrategyWhenDuplicated())
-        .setAuths(dto.getAuths());
+        .setAuths(dto.getAuths())
+        .setSyncInterval(dto.getSyncInterval());
   }
 
   public static ServicesSyncDetailVo toDetailVo(ServicesSync sync) {
@@ -27,8 +30,26 @@ public class ServicesSyncAssembler {
         .setSyncSuccess(sync.getSyncSuccess())
         .setSyncFailureCause(sync.getSyncFailureCause())
         .setLastSyncDate(sync.getLastSyncDate())
+        .setSyncInterval(sync.getSyncInterval())
+        .setNextSyncDate(sync.getNextSyncDate())
         .setModifiedBy(sync.getModifiedBy())
         .setModifiedDate(sync.getModifiedDate());
   }
 
+  public static ServicesSyncHistoryVo toHistoryVo(ServicesSyncHistory history) {
+    return new ServicesSyncHistoryVo()
+        .setId(history.getId())
+        .setServiceId(history.getServiceId())
+        .setSyncName(history.getSyncName())
+        .setScheduled(history.getScheduled())
+        .setOutcome(history.getOutcome())
+        .setDuration(history.getDuration())
+        .setContentHash(history.getContentHash())
+        .setAddedNum(history.getAddedNum())
+        .setUpdatedNum(history.getUpdatedNum())
+        .setDeletedNum(history.getDeletedNum())
+        .setFailureCause(history.getFailureCause())
+        .setCreatedDate(history.getCreatedDate());
+  }
+
 }
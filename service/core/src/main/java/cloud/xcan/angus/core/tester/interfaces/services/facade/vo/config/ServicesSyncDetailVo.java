@@ -51,6 +51,12 @@ public class ServicesSyncDetailVo {
   @Schema(description = "Last synchronization date")
   private LocalDateTime lastSyncDate;
 
+  @Schema(description = "Interval of scheduled synchronization in minutes, synchronize manually only when empty or 0", example = "60")
+  private Integer syncInterval;
+
+  @Schema(description = "Next scheduled synchronization date")
+  private LocalDateTime nextSyncDate;
+
   private Long modifiedBy;
 
   @NameJoinField(id = "modifiedBy", repository = "commonUserBaseRepo")
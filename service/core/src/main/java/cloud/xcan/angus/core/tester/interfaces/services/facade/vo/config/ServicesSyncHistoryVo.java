@@ -0,0 +1,50 @@
+package cloud.xcan.angus.core.tester.interfaces.services.facade.vo.config;
+
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncOutcome;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+@Setter
+@Getter
+@Accessors(chain = true)
+public class ServicesSyncHistoryVo {
+
+  private Long id;
+
+  @Schema(description = "Synchronization services id")
+  private Long serviceId;
+
+  @Schema(description = "Synchronization configuration name", example = "AAS Door Apis")
+  private String syncName;
+
+  @Schema(description = "Whether it is run by schedule, otherwise it is executed manually", example = "true")
+  private Boolean scheduled;
+
+  @Schema(description = "Synchronization outcome. NOT_MODIFIED and UNCHANGED mean the document is not changed and not applied", example = "UPDATED")
+  private ServicesSyncOutcome outcome;
+
+  @Schema(description = "Time of fetching and applying the document in milliseconds", example = "1250")
+  private Long duration;
+
+  @Schema(description = "SHA-256 hash of the synchronized document")
+  private String contentHash;
+
+  @Schema(description = "Number of apis added by the synchronization", example = "3")
+  private Integer addedNum;
+
+  @Schema(description = "Number of apis whose schema is updated by the synchronization", example = "1")
+  private Integer updatedNum;
+
+  @Schema(description = "Number of apis deleted by the synchronization", example = "0")
+  private Integer deletedNum;
+
+  @Schema(description = "The reason for the synchronization failure", example = "Api resource not found")
+  private String failureCause;
+
+  @Schema(description = "Synchronization date")
+  private LocalDateTime createdDate;
+
+}
@@ -3,18 +3,12 @@ package cloud.xcan.angus.core.tester.interfaces.test.facade.internal;
 
 import static cloud.xcan.angus.core.jpa.criteria.SearchCriteriaBuilder.getMatchSearchFields;
 import static cloud.xcan.angus.core.tester.interfaces.test.facade.internal.assembler.FuncCaseAssembler.getSpecification;
-import static cloud.xcan.angus.core.tester.interfaces.test.facade.internal.assembler.FuncCaseAssembler.toCaseListExportResource;
+import static cloud.xcan.angus.core.tester.interfaces.test.facade.internal.assembler.FuncCaseAssembler.toCaseListExportWriter;
 import static cloud.xcan.angus.core.tester.interfaces.test.facade.internal.assembler.FuncCaseAssembler.toDetailVo;
 import static cloud.xcan.angus.core.utils.CoreUtils.buildVoPageResult;
-import static cloud.xcan.angus.core.utils.ServletUtils.buildDownloadResourceResponseEntity;
-import static cloud.xcan.angus.remote.ApiConstant.RLimit.MAX_REPORT_ROWS;
-import static cloud.xcan.angus.remote.CommonMessage.EXPORT_ROW_OVERT_LIMIT_CODE;
-import static cloud.xcan.angus.remote.CommonMessage.EXPORT_ROW_OVERT_LIMIT_T;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.isEmpty;
-import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM;
 
 import cloud.xcan.angus.api.enums.Priority;
-import cloud.xcan.angus.core.biz.BizAssert;
 import cloud.xcan.angus.core.biz.JoinSupplier;
 import cloud.xcan.angus.core.biz.NameJoin;
 import cloud.xcan.angus.core.tester.application.cmd.project.TagTargetCmd;
@@ -27,6 +21,7 @@ import cloud.xcan.angus.core.tester.domain.issue.TaskType;
 import cloud.xcan.angus.core.tester.domain.test.cases.FuncCase;
 import cloud.xcan.angus.core.tester.domain.test.cases.FuncCaseInfo;
 import cloud.xcan.angus.core.tester.domain.test.review.record.FuncReviewCaseRecord;
+import cloud.xcan.angus.core.tester.infra.util.ExcelExportUtils;
 import cloud.xcan.angus.core.tester.interfaces.issue.facade.internal.assembler.TaskAssembler;
 import cloud.xcan.angus.core.tester.interfaces.issue.facade.vo.TaskInfoVo;
 import cloud.xcan.angus.core.tester.interfaces.project.facade.dto.SoftwareVersionRefReplaceDto;
@@ -49,6 +44,7 @@ import cloud.xcan.angus.core.tester.interfaces.test.facade.vo.FuncCaseListVo;
 import cloud.xcan.angus.core.tester.interfaces.test.facade.vo.FuncCaseReviewVo;
 import cloud.xcan.angus.remote.PageResult;
 import cloud.xcan.angus.spec.experimental.IdKey;
+import com.alibaba.excel.ExcelWriter;
 import jakarta.annotation.Resource;
 import jakarta.servlet.http.HttpServletResponse;
 import java.time.LocalDateTime;
@@ -58,9 +54,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 import javax.annotation.Nullable;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -270,34 +264,24 @@ public class FuncCaseFacadeImpl implements FuncCaseFacade {
   }
 
   /**
-   * Note: The default maximum number of exported records, which needs to be exported in batches
-   * according to conditions(created_date) when exceeding the limit.
+   * Note: Cases are read in batches and written to the response as they are read, so the number
+   * of exported cases is not limited.
    */
   @Override
   public ResponseEntity<org.springframework.core.io.Resource> export(
       FuncCaseFindDto dto, HttpServletResponse response) {
-    List<FuncCaseExportListVo> data = getExportFuncCaseData(dto);
     String fileName = "CaseListExport-" + System.currentTimeMillis() + ".xlsx";
-    return buildDownloadResourceResponseEntity(-1, APPLICATION_OCTET_STREAM, fileName,
-        0, toCaseListExportResource(data, fileName));
-  }
-
-  @NotNull
-  private List<FuncCaseExportListVo> getExportFuncCaseData(FuncCaseFindDto dto) {
-    dto.setPageSize(200);
-    PageResult<FuncCaseListVo> page = joinSupplier.execute(() -> list(true, dto));
-    // 500 reads per time, with a maximum support for exporting MAX_REPORT_ROWS.
-    BizAssert.assertTrue(page.getTotal() <= MAX_REPORT_ROWS,
-        EXPORT_ROW_OVERT_LIMIT_CODE, EXPORT_ROW_OVERT_LIMIT_T, new Object[]{MAX_REPORT_ROWS});
-    List<FuncCaseExportListVo> data = page.getList().stream().map(FuncCaseAssembler::toListVo)
-        .collect(Collectors.toList());
-    while (page.getList().size() >= 200) {
-      dto.setPageNo(dto.getPageNo() + 1);
-      page = list(true, dto);
-      if (!page.isEmpty()) {
-        data.addAll(page.getList().stream().map(FuncCaseAssembler::toListVo).toList());
-      }
-    }
-    return data;
+    ExcelWriter writer = toCaseListExportWriter(response, fileName);
+    ExcelExportUtils.export(writer, response, sheet -> funcCaseQuery.export(
+        getSpecification(dto), dto.fullTextSearch, getMatchSearchFields(dto.getClass()),
+        cases -> writer.write(toExportListVos(cases), sheet)));
+    // The file has been written to the response
+    return null;
+  }
+
+  private List<FuncCaseExportListVo> toExportListVos(List<FuncCaseInfo> cases) {
+    List<FuncCaseListVo> vos = joinSupplier.execute(
+        () -> cases.stream().map(FuncCaseAssembler::toListVo).toList());
+    return vos.stream().map(FuncCaseAssembler::toListVo).toList();
   }
 }
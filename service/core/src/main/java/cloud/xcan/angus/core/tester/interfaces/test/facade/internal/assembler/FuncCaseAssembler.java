@@ -8,6 +8,8 @@ import static cloud.xcan.angus.spec.utils.ObjectUtils.nullSafe;
 import static cloud.xcan.angus.spec.utils.ObjectUtils.stringSafe;
 import static java.util.Collections.emptyList;
 import static java.util.Objects.isNull;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
 
 import cloud.xcan.angus.api.commonlink.TesterConstant;
 import cloud.xcan.angus.api.enums.Priority;
@@ -41,15 +43,19 @@ import cloud.xcan.angus.spec.experimental.Assert;
 import cloud.xcan.angus.spec.locale.MessageHolder;
 import cloud.xcan.angus.spec.utils.FileUtils;
 import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelWriter;
 import com.alibaba.excel.write.style.column.SimpleColumnWidthStyleStrategy;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.File;
 import java.io.FileInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import lombok.SneakyThrows;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
 
 public class FuncCaseAssembler {
 
@@ -423,6 +429,26 @@ public class FuncCaseAssembler {
     return new InputStreamResource(new FileInputStream(filePath));
   }
 
+  /**
+   * Create the writer of exported cases on the response, see
+   * {@link TaskAssembler#toTaskListExportWriter(HttpServletResponse, String)}.
+   */
+  @SneakyThrows
+  public static ExcelWriter toCaseListExportWriter(HttpServletResponse response,
+      String fileName) {
+    String headerMessage = MessageHolder.message(EXPORT_CASE_LIST);
+    Assert.assertNotEmpty(headerMessage, "CaseListExport message not configured");
+    response.setContentType(APPLICATION_OCTET_STREAM_VALUE);
+    response.setHeader(CONTENT_DISPOSITION, ContentDisposition.attachment()
+        .filename(fileName, StandardCharsets.UTF_8).build().toString());
+    return EasyExcel.write(response.getOutputStream(), FuncCaseExportListVo.class)
+        .head(arrayToLists(headerMessage.split(",")))
+        .registerWriteHandler(new SimpleColumnWidthStyleStrategy(25))
+        // Keep the response open to respond with an error after a failed export
+        .autoCloseStream(false)
+        .build();
+  }
+
   public static GenericSpecification<FuncCaseInfo> getSpecification(FuncCaseFindDto dto) {
     // Build the final filters
     Set<SearchCriteria> filters = new SearchCriteriaBuilder<>(dto)
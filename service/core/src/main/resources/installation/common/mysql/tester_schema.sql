@@ -102,6 +102,8 @@ CREATE TABLE `apis` (
   `test_stability_failure_message` varchar(1024) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '稳定性测试未通过原因',
   `sync_name` varchar(100) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '同步配置名称',
   `schema_hash` int(11) NOT NULL DEFAULT '0' COMMENT '原模型哈希版本',
+  `content_hash` varchar(64) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '原模型内容SHA-256哈希',
+  `refs` json DEFAULT NULL COMMENT '直接引用组件',
   `ext_search_merge` varchar(20) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '扩展搜索河合并列',
   `service_deleted` int(1) NOT NULL COMMENT '服务删除标志',
   `deleted` int(1) NOT NULL DEFAULT '0' COMMENT '删除状态：0-未删除；1-已删除',
@@ -560,6 +562,9 @@ CREATE TABLE `exec` (
   `single_target_pipeline` int(1) DEFAULT NULL COMMENT '是否单测试任务执行',
   `assemble_and_send_event` int(1) DEFAULT NULL COMMENT '组装发送事件标志',
   `ext_search_merge` varchar(20) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '扩展搜索河合并列',
+  `claim_token` varchar(40) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '调度认领标识',
+  `claim_expire_date` datetime DEFAULT NULL COMMENT '调度认领过期时间',
+  `start_reserve_expire_date` datetime DEFAULT NULL COMMENT '启动配额预留过期时间',
   `tenant_id` bigint(20) NOT NULL COMMENT '租户ID',
   `created_by` bigint(20) NOT NULL COMMENT '创建人',
   `created_date` datetime NOT NULL COMMENT '创建时间',
@@ -567,6 +572,7 @@ CREATE TABLE `exec` (
   `modified_date` datetime NOT NULL DEFAULT '2001-01-01 00:00:00' COMMENT '最后修改时间',
   PRIMARY KEY (`id`) USING BTREE,
   UNIQUE KEY `idx_script_id_type` (`script_id`,`script_type`) USING BTREE,
+  KEY `idx_status_claim_expire_date` (`status`,`claim_expire_date`) USING BTREE,
   KEY `idx_tenant_id` (`tenant_id`) USING BTREE,
   KEY `idx_priority` (`priority`) USING BTREE,
   KEY `idx_name` (`name`) USING BTREE,
@@ -638,6 +644,9 @@ CREATE TABLE `exec_node` (
   `id` bigint(20) NOT NULL,
   `exec_id` bigint(20) NOT NULL COMMENT '执行ID',
   `node_id` bigint(20) NOT NULL COMMENT '执行节点ID',
+  `shard_weight` double DEFAULT NULL COMMENT '分片权重',
+  `shard_thread` int(11) DEFAULT NULL COMMENT '分片线程数',
+  `shard_iterations` bigint(20) DEFAULT NULL COMMENT '分片迭代次数',
   PRIMARY KEY (`id`) USING BTREE,
   KEY `idx_exec_id` (`exec_id`) USING BTREE,
   KEY `idx_target_id` (`node_id`) USING BTREE
@@ -1439,6 +1448,9 @@ CREATE TABLE `node` (
   `expired` int(1) DEFAULT NULL COMMENT '是否过期',
   `charge_type` varchar(11) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '付费方式（包年包月：PrePaid、按量付费:PostPaid）',
   `install_agent` int(1) DEFAULT NULL COMMENT '是否安装代理',
+  `install_agent_date` datetime DEFAULT NULL COMMENT '自动安装代理时间',
+  `install_agent_duration` bigint(20) DEFAULT NULL COMMENT '自动安装代理耗时（毫秒）',
+  `install_agent_failure` varchar(400) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '自动安装代理失败原因',
   `sync` int(1) DEFAULT '0' COMMENT '是否同步节点信息',
   `ext_search_merge` varchar(20) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '扩展搜索合并列',
   `tenant_id` bigint(20) NOT NULL DEFAULT '-1' COMMENT '租户ID',
@@ -1744,6 +1756,8 @@ CREATE TABLE `scenario_monitor` (
   `time_setting` json NOT NULL COMMENT '创建时间配置',
   `server_setting` json DEFAULT NULL COMMENT '服务器配置',
   `notice_setting` json NOT NULL COMMENT '通知配置',
+  `claim_token` varchar(40) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '调度认领标识',
+  `claim_expire_date` datetime DEFAULT NULL COMMENT '调度认领过期时间',
   `tenant_id` bigint(20) NOT NULL COMMENT '租户ID',
   `created_by` bigint(20) NOT NULL DEFAULT '-1' COMMENT '创建人',
   `created_date` datetime NOT NULL DEFAULT '2001-01-01 00:00:00' COMMENT '创建时间',
@@ -1955,6 +1969,8 @@ CREATE TABLE `services_comp` (
   `model` text COLLATE utf8mb4_bin NOT NULL COMMENT '组件内容',
   `description` varchar(2000) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '组件描述',
   `schema_hash` int(11) NOT NULL COMMENT '原模型哈希版本',
+  `content_hash` varchar(64) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '原模型内容SHA-256哈希',
+  `refs` json DEFAULT NULL COMMENT '直接引用组件',
   `tenant_id` bigint(20) NOT NULL DEFAULT '-1' COMMENT '租户ID',
   `modified_by` bigint(20) NOT NULL COMMENT '最后修改人',
   `modified_date` datetime NOT NULL DEFAULT '2001-01-01 00:00:00' COMMENT '最后修改时间',
@@ -2003,14 +2019,45 @@ CREATE TABLE `services_sync` (
   `sync_success` int(1) DEFAULT NULL COMMENT '最后一次同步成功标志',
   `sync_failure_cause` varchar(200) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '最后一次同步失败原因',
   `last_sync_date` datetime DEFAULT NULL COMMENT '最后一次同步时间',
+  `sync_interval` int(11) DEFAULT NULL COMMENT '定时同步间隔(分钟)，为空或0时仅手动同步',
+  `next_sync_date` datetime DEFAULT NULL COMMENT '下一次定时同步时间',
+  `etag` varchar(200) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '最后应用文档的ETag',
+  `last_modified` varchar(200) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '最后应用文档的Last-Modified',
+  `content_hash` varchar(64) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '最后应用文档的SHA-256哈希',
   `tenant_id` bigint(20) NOT NULL DEFAULT '-1' COMMENT '租户ID',
   `modified_by` bigint(20) NOT NULL COMMENT '最后修改人',
   `modified_date` datetime NOT NULL DEFAULT '2001-01-01 00:00:00' COMMENT '最后修改时间',
   PRIMARY KEY (`id`) USING BTREE,
   UNIQUE KEY `uidx_project_id_name` (`service_id`,`name`) USING BTREE,
-  KEY `idx_tenant_id` (`tenant_id`) USING BTREE
+  KEY `idx_tenant_id` (`tenant_id`) USING BTREE,
+  KEY `idx_next_sync_date` (`next_sync_date`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT='项目同步';
 
+-- ----------------------------
+-- Table structure for services_sync_history
+-- ----------------------------
+DROP TABLE IF EXISTS `services_sync_history`;
+CREATE TABLE `services_sync_history` (
+  `id` bigint(20) NOT NULL COMMENT '主键ID',
+  `service_id` bigint(20) NOT NULL COMMENT '服务ID',
+  `sync_id` bigint(20) NOT NULL COMMENT '同步配置ID',
+  `sync_name` varchar(100) COLLATE utf8mb4_bin NOT NULL COMMENT '同步配置名称',
+  `scheduled` int(1) NOT NULL DEFAULT '0' COMMENT '是否定时同步',
+  `outcome` varchar(20) COLLATE utf8mb4_bin NOT NULL COMMENT '同步结果',
+  `duration` bigint(20) DEFAULT NULL COMMENT '同步耗时(毫秒)',
+  `content_hash` varchar(64) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '同步文档的SHA-256哈希',
+  `added_num` int(11) DEFAULT NULL COMMENT '新增接口数',
+  `updated_num` int(11) DEFAULT NULL COMMENT '更新接口数',
+  `deleted_num` int(11) DEFAULT NULL COMMENT '删除接口数',
+  `failure_cause` varchar(200) COLLATE utf8mb4_bin DEFAULT NULL COMMENT '同步失败原因',
+  `tenant_id` bigint(20) NOT NULL DEFAULT '-1' COMMENT '租户ID',
+  `created_date` datetime NOT NULL DEFAULT '2001-01-01 00:00:00' COMMENT '同步时间',
+  PRIMARY KEY (`id`) USING BTREE,
+  KEY `idx_service_id_sync_name` (`service_id`,`sync_name`) USING BTREE,
+  KEY `idx_sync_id` (`sync_id`) USING BTREE,
+  KEY `idx_tenant_id` (`tenant_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT='服务同步历史';
+
 -- ----------------------------
 -- Table structure for shard_tables
 -- ----------------------------
@@ -2225,6 +2272,38 @@ CREATE TABLE `task_confirmer` (
   KEY `idx_confirmer_id` (`confirmer_id`) USING BTREE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT='任务确认人';
 
+-- ----------------------------
+-- Table structure for task_counter
+-- ----------------------------
+DROP TABLE IF EXISTS `task_counter`;
+CREATE TABLE `task_counter` (
+  `id` bigint(20) NOT NULL COMMENT '主键ID',
+  `project_id` bigint(20) NOT NULL COMMENT '项目ID',
+  `sprint_id` bigint(20) NOT NULL DEFAULT '-1' COMMENT '迭代ID，-1表示项目汇总',
+  `pending_num` bigint(20) NOT NULL DEFAULT '0' COMMENT '待处理数',
+  `in_progress_num` bigint(20) NOT NULL DEFAULT '0' COMMENT '处理中数',
+  `confirming_num` bigint(20) NOT NULL DEFAULT '0' COMMENT '待确认数',
+  `completed_num` bigint(20) NOT NULL DEFAULT '0' COMMENT '已完成数',
+  `canceled_num` bigint(20) NOT NULL DEFAULT '0' COMMENT '已取消数',
+  `requirement_num` bigint(20) NOT NULL DEFAULT '0' COMMENT '需求数',
+  `story_num` bigint(20) NOT NULL DEFAULT '0' COMMENT '故事数',
+  `task_num` bigint(20) NOT NULL DEFAULT '0' COMMENT '任务数',
+  `bug_num` bigint(20) NOT NULL DEFAULT '0' COMMENT '缺陷数',
+  `design_num` bigint(20) NOT NULL DEFAULT '0' COMMENT '设计数',
+  `overdue_num` bigint(20) NOT NULL DEFAULT '0' COMMENT '逾期数',
+  `one_time_passed_num` bigint(20) NOT NULL DEFAULT '0' COMMENT '一次性通过数',
+  `total_num` bigint(20) NOT NULL DEFAULT '0' COMMENT '处理总次数',
+  `fail_num` bigint(20) NOT NULL DEFAULT '0' COMMENT '处理失败次数',
+  `eval_workload` decimal(16,2) NOT NULL DEFAULT '0.00' COMMENT '评估工作量',
+  `actual_workload` decimal(16,2) NOT NULL DEFAULT '0.00' COMMENT '实际工作量',
+  `completed_workload` decimal(16,2) NOT NULL DEFAULT '0.00' COMMENT '已完成工作量',
+  `tenant_id` bigint(20) NOT NULL DEFAULT '-1' COMMENT '租户ID',
+  `modified_date` datetime NOT NULL DEFAULT '2001-01-01 00:00:00' COMMENT '重新统计时间',
+  PRIMARY KEY (`id`) USING BTREE,
+  UNIQUE KEY `uidx_project_sprint_id` (`project_id`,`sprint_id`) USING BTREE,
+  KEY `idx_tenant_id` (`tenant_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT='任务统计计数';
+
 -- ----------------------------
 -- Table structure for task_favourite
 -- ----------------------------
@@ -2416,4 +2495,39 @@ CREATE TABLE `task_trash` (
   FULLTEXT KEY `fx_target_name` (`target_name`) /*!50100 WITH PARSER `ngram` */
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin ROW_FORMAT=DYNAMIC COMMENT='任务回收站';
 
+-- ----------------------------
+-- Table structure for translation_memory
+-- ----------------------------
+DROP TABLE IF EXISTS `translation_memory`;
+CREATE TABLE `translation_memory` (
+  `id` bigint(20) NOT NULL COMMENT '主键ID',
+  `source_hash` varchar(64) COLLATE utf8mb4_bin NOT NULL COMMENT '原文SHA-256哈希',
+  `source_language` varchar(20) COLLATE utf8mb4_bin NOT NULL COMMENT '原文语言',
+  `target_language` varchar(20) COLLATE utf8mb4_bin NOT NULL COMMENT '译文语言',
+  `translated_text` text COLLATE utf8mb4_bin NOT NULL COMMENT '译文',
+  `tenant_id` bigint(20) NOT NULL DEFAULT '-1' COMMENT '租户ID',
+  `created_date` datetime NOT NULL DEFAULT '2001-01-01 00:00:00' COMMENT '创建时间',
+  PRIMARY KEY (`id`) USING BTREE,
+  UNIQUE KEY `uidx_tenant_hash_language` (`tenant_id`,`source_hash`,`source_language`,`target_language`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT='翻译记忆';
+
+-- ----------------------------
+-- Table structure for tree_closure
+-- ----------------------------
+DROP TABLE IF EXISTS `tree_closure`;
+CREATE TABLE `tree_closure` (
+  `id` bigint(20) NOT NULL COMMENT '主键ID',
+  `target_type` varchar(40) COLLATE utf8mb4_bin NOT NULL COMMENT '树类型：MODULE、TASK',
+  `project_id` bigint(20) NOT NULL COMMENT '项目ID',
+  `ancestor_id` bigint(20) NOT NULL COMMENT '祖先节点ID',
+  `descendant_id` bigint(20) NOT NULL COMMENT '后代节点ID',
+  `depth` int(11) NOT NULL DEFAULT '0' COMMENT '层级距离，0表示节点自身',
+  `tenant_id` bigint(20) NOT NULL DEFAULT '-1' COMMENT '租户ID',
+  PRIMARY KEY (`id`) USING BTREE,
+  UNIQUE KEY `uidx_type_ancestor_descendant` (`target_type`,`ancestor_id`,`descendant_id`) USING BTREE,
+  KEY `idx_type_descendant` (`target_type`,`descendant_id`,`depth`) USING BTREE,
+  KEY `idx_type_project` (`target_type`,`project_id`) USING BTREE,
+  KEY `idx_tenant_id` (`tenant_id`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT='模块和任务树闭包索引';
+
 -- @formatter:on
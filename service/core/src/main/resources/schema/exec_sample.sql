@@ -48,7 +48,7 @@ CREATE TABLE `exec_sample`
     `ext_counter2`              bigint(20) DEFAULT NULL,
     `ext_gauge1` double DEFAULT NULL,
     `ext_gauge2` double DEFAULT NULL,
-    PRIMARY KEY (`id`) USING BTREE,
+    PRIMARY KEY (`id`, `timestamp`) USING BTREE,
     INDEX                       `idx_exec_id` (`exec_id`) USING BTREE,
     INDEX                       `idx_node_id` (`node_id`) USING BTREE,
     #INDEX                      `idx_tenant_id` (`tenant_id`) USING BTREE,
@@ -56,4 +56,7 @@ CREATE TABLE `exec_sample`
     INDEX                       `idx_name` (`name`) USING BTREE,
     INDEX                       `idx_ramp_num` (`ramp_num`) USING BTREE,
     INDEX                       `idx_finish` (`finish`) USING BTREE
-) ENGINE = InnoDB;
+) ENGINE = InnoDB
+PARTITION BY RANGE (`timestamp`) (
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
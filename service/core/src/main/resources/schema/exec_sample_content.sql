@@ -12,7 +12,7 @@ CREATE TABLE `exec_sample_content`
     `iteration`  bigint(20) NOT NULL,
     `key`        varchar(200) NOT NULL,
     `content`    text         NOT NULL,
-    PRIMARY KEY (`id`) USING BTREE,
+    PRIMARY KEY (`id`, `timestamp`) USING BTREE,
     INDEX        `idx_exec_id` (`exec_id`) USING BTREE,
     INDEX        `idx_node_id` (`node_id`) USING BTREE,
     #INDEX       `idx_tenant_id` (`tenant_id`) USING BTREE,
@@ -20,4 +20,7 @@ CREATE TABLE `exec_sample_content`
     INDEX        `idx_name` (`name`) USING BTREE,
     INDEX        `idx_ext_field` (`ext_field`) USING BTREE,
     INDEX        `idx_finish` (`finish`) USING BTREE
-) ENGINE = InnoDB;
+) ENGINE = InnoDB
+PARTITION BY RANGE (`timestamp`) (
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
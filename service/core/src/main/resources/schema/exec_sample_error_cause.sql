@@ -10,11 +10,14 @@ CREATE TABLE `exec_sample_error_cause`
     `name`       varchar(400)  NOT NULL,
     `key`        varchar(200)  NOT NULL,
     `content`    varchar(4096) NOT NULL,
-    PRIMARY KEY (`id`) USING BTREE,
+    PRIMARY KEY (`id`, `timestamp`) USING BTREE,
     INDEX        `idx_exec_id` (`exec_id`) USING BTREE,
     INDEX        `idx_node_id` (`node_id`) USING BTREE,
     #INDEX       `idx_tenant_id` (`tenant_id`) USING BTREE,
     INDEX        `idx_timestamp` (`timestamp`) USING BTREE,
     INDEX        `idx_name` (`name`) USING BTREE,
     INDEX        `idx_finish` (`finish`) USING BTREE
-) ENGINE = InnoDB;
+) ENGINE = InnoDB
+PARTITION BY RANGE (`timestamp`) (
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
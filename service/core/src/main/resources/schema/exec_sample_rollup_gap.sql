@@ -0,0 +1,13 @@
+CREATE TABLE `exec_sample_rollup_gap`
+(
+    `id`            bigint(20) NOT NULL,
+    `exec_id`       bigint(20) NOT NULL,
+    `tenant_id`     bigint(20) NOT NULL,
+    `timestamp`     bigint(20) NOT NULL,
+    `end_timestamp` bigint(20) NOT NULL,
+    PRIMARY KEY (`id`, `timestamp`) USING BTREE,
+    INDEX           `idx_exec_id_timestamp` (`exec_id`, `timestamp`) USING BTREE
+) ENGINE = InnoDB
+PARTITION BY RANGE (`timestamp`) (
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
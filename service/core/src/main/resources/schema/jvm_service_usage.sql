@@ -8,9 +8,12 @@ CREATE TABLE `jvm_service_usage`
     `source`     varchar(40) NOT NULL,
     `jvm`        varchar(120) NULL DEFAULT NULL,
     `processor`  varchar(80) NULL DEFAULT NULL,
-    PRIMARY KEY (`id`) USING BTREE,
+    PRIMARY KEY (`id`, `timestamp`) USING BTREE,
     INDEX        `idx_timestamp` (`timestamp`) USING BTREE,
     INDEX        `idx_node_id` (`node_id`) USING BTREE,
     #INDEX       `idx_tenant_id` (`tenant_id`) USING BTREE,
     INDEX        `idx_service_id` (`service_id`) USING BTREE
-) ENGINE = InnoDB;
+) ENGINE = InnoDB
+PARTITION BY RANGE (`timestamp`) (
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
@@ -7,8 +7,11 @@ CREATE TABLE `node_usage`
     `cpu`        varchar(60) NULL DEFAULT NULL,
     `memory`     varchar(120) NULL DEFAULT NULL,
     `filesystem` varchar(80) NULL DEFAULT NULL,
-    PRIMARY KEY (`id`) USING BTREE,
+    PRIMARY KEY (`id`, `timestamp`) USING BTREE,
     INDEX        `idx_timestamp` (`timestamp`) USING BTREE,
     #INDEX       `idx_tenant_id` (`tenant_id`) USING BTREE,
     INDEX        `idx_node_id` (`node_id`) USING BTREE
-) ENGINE = InnoDB;
+) ENGINE = InnoDB
+PARTITION BY RANGE (`timestamp`) (
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
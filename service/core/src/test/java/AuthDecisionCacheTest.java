@@ -0,0 +1,253 @@
+import static cloud.xcan.angus.api.commonlink.CombinedTargetType.SCRIPT;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import cloud.xcan.angus.api.commonlink.script.ScriptPermission;
+import cloud.xcan.angus.api.commonlink.user.UserRepo;
+import cloud.xcan.angus.core.tester.application.query.common.CommonQuery;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecision;
+import cloud.xcan.angus.core.tester.infra.auth.cache.AuthDecisionCache;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * A granted permission is served from the cache until it is revoked, after the revoke the
+ * permission is denied, whether it was granted to the user, its group, its department or lost by
+ * leaving the group.
+ */
+public class AuthDecisionCacheTest {
+
+  private static final long USER_ID = 1L;
+  private static final long GROUP_ID = 10L;
+  private static final long DEPT_ID = 20L;
+  private static final long SCRIPT_ID = 100L;
+
+  /**
+   * Auth object ids of the script to the granted permissions, like the rows of script_auth.
+   */
+  private final Map<Long, Set<ScriptPermission>> authRows = new HashMap<>();
+  private final Set<Long> userOrgIds = new HashSet<>();
+  private final AtomicBoolean admin = new AtomicBoolean();
+  private final AtomicInteger loadNum = new AtomicInteger();
+  private final AtomicInteger adminResolveNum = new AtomicInteger();
+
+  private AuthDecisionCache cache;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    authRows.clear();
+    userOrgIds.clear();
+    userOrgIds.add(GROUP_ID);
+    userOrgIds.add(DEPT_ID);
+    admin.set(false);
+    loadNum.set(0);
+    adminResolveNum.set(0);
+
+    cache = new AuthDecisionCache();
+    Fakes.inject(cache, "cacheManager", new ConcurrentMapCacheManager());
+    Fakes.inject(cache, "userRepo", Fakes.fake(UserRepo.class, (method, args) -> {
+      if (!"findOrgIdsById".equals(method)) {
+        throw new UnsupportedOperationException(method);
+      }
+      return new ArrayList<>(userOrgIds);
+    }));
+    Fakes.inject(cache, "commonQuery", Fakes.fake(CommonQuery.class, (method, args) -> {
+      if (!"isAdminUser".equals(method)) {
+        throw new UnsupportedOperationException(method);
+      }
+      adminResolveNum.incrementAndGet();
+      return admin.get();
+    }));
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  public void testRevokeOfUserGrant() {
+    assertRevokeIsNotServed(USER_ID);
+  }
+
+  @Test
+  public void testRevokeOfGroupGrant() {
+    assertRevokeIsNotServed(GROUP_ID);
+  }
+
+  @Test
+  public void testRevokeOfDeptGrant() {
+    assertRevokeIsNotServed(DEPT_ID);
+  }
+
+  @Test
+  public void testLeavingGroupIsNotServed() {
+    authRows.put(GROUP_ID, Set.of(ScriptPermission.VIEW));
+    newRequest();
+    assertTrue(hasPermission(ScriptPermission.VIEW));
+    assertTrue(hasPermission(ScriptPermission.VIEW));
+    assertEquals(loadNum.get(), 1);
+
+    // Organization memberships are changed outside of the tester without evicting
+    userOrgIds.remove(GROUP_ID);
+    newRequest();
+
+    assertFalse(hasPermission(ScriptPermission.VIEW));
+    assertEquals(loadNum.get(), 2);
+  }
+
+  @Test
+  public void testBatchDecisionsAfterRevoke() {
+    long otherScriptId = SCRIPT_ID + 1;
+    authRows.put(DEPT_ID, Set.of(ScriptPermission.VIEW));
+    newRequest();
+    Map<Long, AuthDecision> decisions = findAll(List.of(SCRIPT_ID, otherScriptId));
+    assertTrue(decisions.get(SCRIPT_ID).hasPermission(ScriptPermission.VIEW));
+    assertTrue(decisions.get(otherScriptId).hasPermission(ScriptPermission.VIEW));
+    // Cached decisions are not loaded again
+    findAll(List.of(SCRIPT_ID, otherScriptId));
+    assertEquals(loadNum.get(), 1);
+
+    authRows.clear();
+    cache.evict(SCRIPT, List.of(SCRIPT_ID, otherScriptId));
+    decisions = findAll(List.of(SCRIPT_ID, otherScriptId));
+
+    assertFalse(decisions.get(SCRIPT_ID).hasPermission(ScriptPermission.VIEW));
+    assertFalse(decisions.get(otherScriptId).hasPermission(ScriptPermission.VIEW));
+    assertEquals(loadNum.get(), 2);
+  }
+
+  @Test
+  public void testDecisionLoadedBeforeCommitIsNotServed() {
+    authRows.put(USER_ID, Set.of(ScriptPermission.VIEW));
+    newRequest();
+    assertTrue(hasPermission(ScriptPermission.VIEW));
+
+    // The revoke evicts in its transaction
+    TransactionSynchronizationManager.initSynchronization();
+    cache.evict(SCRIPT, SCRIPT_ID);
+    // Another request reads the committed rows before the revoke commits
+    newRequest();
+    assertTrue(hasPermission(ScriptPermission.VIEW));
+    assertEquals(loadNum.get(), 2);
+
+    // Commit
+    authRows.clear();
+    for (TransactionSynchronization synchronization
+        : TransactionSynchronizationManager.getSynchronizations()) {
+      synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+    }
+    TransactionSynchronizationManager.clearSynchronization();
+
+    newRequest();
+    assertFalse(hasPermission(ScriptPermission.VIEW));
+    assertEquals(loadNum.get(), 3);
+  }
+
+  @Test
+  public void testAdminIsCachedInDecision() {
+    admin.set(true);
+    newRequest();
+    assertTrue(find().isAdmin());
+    assertTrue(find().isAdmin());
+    assertTrue(cache.isAdmin());
+    // Resolved once per request
+    assertEquals(adminResolveNum.get(), 1);
+    assertEquals(loadNum.get(), 1);
+
+    // Admin role is revoked outside of the tester
+    admin.set(false);
+    newRequest();
+
+    AuthDecision decision = find();
+    assertFalse(decision.isAdmin());
+    assertFalse(decision.hasPermission(ScriptPermission.VIEW));
+    assertEquals(loadNum.get(), 2);
+  }
+
+  private void assertRevokeIsNotServed(long authObjectId) {
+    authRows.put(authObjectId, Set.of(ScriptPermission.VIEW, ScriptPermission.MODIFY));
+    newRequest();
+    assertTrue(hasPermission(ScriptPermission.MODIFY));
+    // Served from the cache
+    assertTrue(hasPermission(ScriptPermission.MODIFY));
+    assertEquals(loadNum.get(), 1);
+
+    // Revoke the modify permission, as the auth commands do
+    authRows.put(authObjectId, Set.of(ScriptPermission.VIEW));
+    cache.evict(SCRIPT, SCRIPT_ID);
+
+    assertFalse(hasPermission(ScriptPermission.MODIFY));
+    assertTrue(hasPermission(ScriptPermission.VIEW));
+    assertEquals(loadNum.get(), 2);
+
+    // Revoke all permissions
+    authRows.remove(authObjectId);
+    cache.evict(SCRIPT, SCRIPT_ID);
+
+    assertFalse(hasPermission(ScriptPermission.VIEW));
+  }
+
+  private boolean hasPermission(ScriptPermission permission) {
+    return find().hasPermission(permission);
+  }
+
+  private AuthDecision find() {
+    return cache.find(SCRIPT, SCRIPT_ID, USER_ID, orgIds -> load(orgIds));
+  }
+
+  private Map<Long, AuthDecision> findAll(Collection<Long> scriptIds) {
+    return cache.findAll(SCRIPT, scriptIds, USER_ID, (ids, orgIds) -> {
+      Map<Long, AuthDecision> decisions = new HashMap<>();
+      AuthDecision decision = load(orgIds);
+      ids.forEach(id -> decisions.put(id, AuthDecision.of(decision.isCreator(),
+          decision.getPermissions().stream().map(ScriptPermission::valueOf).toList())));
+      return decisions;
+    });
+  }
+
+  private AuthDecision load(Collection<Long> orgIds) {
+    loadNum.incrementAndGet();
+    Set<ScriptPermission> permissions = new HashSet<>();
+    authRows.forEach((authObjectId, granted) -> {
+      if (orgIds.contains(authObjectId)) {
+        permissions.addAll(granted);
+      }
+    });
+    return AuthDecision.of(false, permissions);
+  }
+
+  /**
+   * Org ids and the admin flag are resolved once per request.
+   */
+  private static void newRequest() {
+    Map<String, Object> attributes = new HashMap<>();
+    RequestContextHolder.setRequestAttributes(Fakes.fake(RequestAttributes.class,
+        (method, args) -> switch (method) {
+          case "getAttribute" -> attributes.get((String) args[0]);
+          case "setAttribute" -> attributes.put((String) args[0], args[1]);
+          case "removeAttribute" -> attributes.remove((String) args[0]);
+          default -> throw new UnsupportedOperationException(method);
+        }));
+  }
+
+}
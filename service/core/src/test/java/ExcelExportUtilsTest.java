@@ -0,0 +1,78 @@
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import cloud.xcan.angus.core.tester.infra.util.ExcelExportUtils;
+import com.alibaba.excel.EasyExcel;
+import com.alibaba.excel.ExcelWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * An export failing partway must not send a truncated workbook, the response is left to the
+ * exception handler.
+ */
+public class ExcelExportUtilsTest {
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+  private final AtomicInteger resetNum = new AtomicInteger();
+
+  private HttpServletResponse response;
+  private ExcelWriter writer;
+
+  @BeforeMethod
+  public void setUp() {
+    out.reset();
+    resetNum.set(0);
+    response = (HttpServletResponse) Proxy.newProxyInstance(
+        HttpServletResponse.class.getClassLoader(), new Class<?>[]{HttpServletResponse.class},
+        (proxy, method, args) -> switch (method.getName()) {
+          case "isCommitted" -> false;
+          case "reset" -> {
+            resetNum.incrementAndGet();
+            yield null;
+          }
+          default -> throw new UnsupportedOperationException(method.getName());
+        });
+    writer = EasyExcel.write(out).head(List.of(List.of("Name"))).autoCloseStream(false)
+        .build();
+  }
+
+  @Test
+  public void testWorkbookIsSentAfterAllBatches() {
+    ExcelExportUtils.export(writer, response, sheet -> {
+      for (int batch = 0; batch < 3; batch++) {
+        writer.write(List.of(List.of("Row" + batch)), sheet);
+      }
+    });
+
+    // An xlsx file is a zip file
+    assertTrue(out.size() > 0);
+    assertEquals(new String(out.toByteArray(), 0, 2), "PK");
+    assertEquals(resetNum.get(), 0);
+  }
+
+  @Test
+  public void testFailedExportIsDiscarded() {
+    IllegalStateException failure = new IllegalStateException("Database is not available");
+    try {
+      ExcelExportUtils.export(writer, response, sheet -> {
+        writer.write(List.of(List.of("Row0")), sheet);
+        throw failure;
+      });
+      fail("The failure must be thrown");
+    } catch (IllegalStateException e) {
+      assertSame(e, failure);
+    }
+
+    assertEquals(out.size(), 0);
+    assertEquals(resetNum.get(), 1);
+  }
+
+}
@@ -0,0 +1,49 @@
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import cloud.xcan.angus.core.tester.domain.exec.node.ExecNodeShard;
+import java.util.Arrays;
+import java.util.List;
+import org.testng.annotations.Test;
+
+public class ExecNodeShardTest {
+
+  @Test
+  public void testSplitEvenlyGivesRemainderToFirstNode() {
+    long[] values = ExecNodeShard.split(10, List.of(1.0, 1.0, 1.0), false);
+    assertEquals(values, new long[]{4, 3, 3});
+  }
+
+  @Test
+  public void testSplitByCapacity() {
+    // 8 cores idle, 4 cores idle, 4 cores half busy
+    long[] values = ExecNodeShard.split(100, List.of(8.0, 4.0, 2.0), true);
+    assertEquals(Arrays.stream(values).sum(), 100);
+    assertTrue(values[0] > values[1] && values[1] > values[2], Arrays.toString(values));
+    assertEquals(values, new long[]{56, 29, 15});
+  }
+
+  @Test
+  public void testSplitByCapacityKeepsOneForEveryNode() {
+    long[] values = ExecNodeShard.split(3, List.of(100.0, 1.0, 1.0), true);
+    assertEquals(values, new long[]{1, 1, 1});
+
+    values = ExecNodeShard.split(5, List.of(100.0, 0.1, 0.1), true);
+    assertEquals(values, new long[]{3, 1, 1});
+  }
+
+  @Test
+  public void testSplitByCapacityAssignsLargestRemainders() {
+    for (long total = 1; total <= 200; total++) {
+      long[] values = ExecNodeShard.split(total, List.of(3.0, 2.0, 2.0, 1.5), true);
+      assertEquals(Arrays.stream(values).sum(), total, "total: " + total);
+      if (total >= 4) {
+        assertTrue(Arrays.stream(values).allMatch(v -> v >= 1), Arrays.toString(values));
+      }
+    }
+    // Exact shares of rest 3: 1.0588, 0.7059, 0.7059, 0.5294
+    assertEquals(ExecNodeShard.split(7, List.of(3.0, 2.0, 2.0, 1.5), true),
+        new long[]{2, 2, 2, 1});
+  }
+
+}
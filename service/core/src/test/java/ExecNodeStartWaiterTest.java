@@ -0,0 +1,84 @@
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import cloud.xcan.angus.core.tester.domain.exec.node.ExecNodeStartWaiter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * A node which does not reply to the start command in time is stopped, and kept as a node of the
+ * execution until its stop is confirmed.
+ */
+public class ExecNodeStartWaiterTest {
+
+  private static final long TIMEOUT_MILLIS = 20;
+
+  private final List<Long> stoppedNodeIds = new ArrayList<>();
+
+  @BeforeMethod
+  public void setUp() {
+    stoppedNodeIds.clear();
+  }
+
+  @Test
+  public void testRepliedNodeIsNotStopped() throws Exception {
+    ExecNodeStartWaiter waiter = newWaiter(true);
+
+    assertEquals(waiter.await(1L, CompletableFuture.completedFuture("started")), "started");
+
+    assertTrue(stoppedNodeIds.isEmpty());
+    assertTrue(waiter.getUnstoppedNodeIds().isEmpty());
+  }
+
+  @Test
+  public void testTimeoutNodeIsStopped() {
+    ExecNodeStartWaiter waiter = newWaiter(true);
+    CompletableFuture<String> pushing = new CompletableFuture<>();
+
+    assertThrows(TimeoutException.class, () -> waiter.await(1L, pushing));
+
+    assertTrue(pushing.isCancelled());
+    assertEquals(stoppedNodeIds, List.of(1L));
+    // Stopped by the agent, the node can be released
+    assertTrue(waiter.getUnstoppedNodeIds().isEmpty());
+  }
+
+  @Test
+  public void testTimeoutNodeIsKeptUntilStopped() throws Exception {
+    ExecNodeStartWaiter waiter = newWaiter(false);
+
+    assertEquals(waiter.await(1L, CompletableFuture.completedFuture("started")), "started");
+    assertThrows(TimeoutException.class, () -> waiter.await(2L, new CompletableFuture<>()));
+    assertThrows(TimeoutException.class, () -> waiter.await(3L, new CompletableFuture<>()));
+
+    assertEquals(stoppedNodeIds, List.of(2L, 3L));
+    assertEquals(waiter.getUnstoppedNodeIds(), Set.of(2L, 3L));
+  }
+
+  @Test
+  public void testFailedPushIsNotStopped() {
+    ExecNodeStartWaiter waiter = newWaiter(false);
+    CompletableFuture<String> failed = CompletableFuture.failedFuture(
+        new IllegalStateException("Agent is not connected"));
+
+    assertThrows(Exception.class, () -> waiter.await(1L, failed));
+
+    // The command is not pushed, nothing runs on the node
+    assertTrue(stoppedNodeIds.isEmpty());
+    assertTrue(waiter.getUnstoppedNodeIds().isEmpty());
+  }
+
+  private ExecNodeStartWaiter newWaiter(boolean stopConfirmed) {
+    return new ExecNodeStartWaiter(TIMEOUT_MILLIS, nodeId -> {
+      stoppedNodeIds.add(nodeId);
+      return stopConfirmed;
+    });
+  }
+
+}
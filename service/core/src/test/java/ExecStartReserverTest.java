@@ -0,0 +1,235 @@
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import cloud.xcan.angus.core.tester.application.cmd.exec.ExecNodeCmd;
+import cloud.xcan.angus.core.tester.application.query.exec.ExecQuery;
+import cloud.xcan.angus.core.tester.domain.exec.Exec;
+import cloud.xcan.angus.core.tester.domain.exec.ExecRepo;
+import cloud.xcan.angus.core.tester.domain.exec.node.ExecNode;
+import cloud.xcan.angus.core.tester.domain.exec.node.ExecNodeRepo;
+import cloud.xcan.angus.core.tester.infra.job.ExecStartReserver;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Start executions concurrently against in-memory repositories whose counting is slow enough to
+ * interleave, the quota and the free nodes must still not be over reserved.
+ */
+public class ExecStartReserverTest {
+
+  private static final long TENANT_ID = 1L;
+  private static final long QUOTA = 3;
+  private static final int STARTS = 20;
+
+  /**
+   * Quota reservations of executions, the value is the expiration.
+   */
+  private final Map<Long, LocalDateTime> reservations = new ConcurrentHashMap<>();
+  /**
+   * Rows of exec_node, the execution ID and the node ID.
+   */
+  private final Set<List<Long>> execNodes = ConcurrentHashMap.newKeySet();
+
+  private ExecStartReserver reserver;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    reservations.clear();
+    execNodes.clear();
+    reserver = new LocalLockReserver();
+    ExecRepo execRepo = Fakes.fake(ExecRepo.class, (method, args) -> switch (method) {
+      case "countQuotaOccupied" -> {
+        long occupied = reservations.entrySet().stream()
+            .filter(e -> !e.getKey().equals(args[1]))
+            .filter(e -> e.getValue().isAfter((LocalDateTime) args[2])).count();
+        sleep(); // Let the other starts count at the same time
+        yield occupied;
+      }
+      case "reserveStartById" -> reservations.put((Long) args[0], (LocalDateTime) args[1]);
+      case "releaseStartReserveById" -> reservations.remove((Long) args[0]);
+      default -> null;
+    });
+    Fakes.inject(reserver, "execRepo", execRepo);
+    Fakes.inject(reserver, "execQuery", Fakes.fake(ExecQuery.class, (method, args) -> {
+      if ("checkConcurrentTaskQuota0".equals(method) && (long) args[0] + (long) args[1] > QUOTA) {
+        throw new IllegalStateException("Concurrent task quota exceeded");
+      }
+      return null;
+    }));
+    Fakes.inject(reserver, "execNodeCmd", Fakes.fake(ExecNodeCmd.class, (method, args) -> {
+      if ("add0".equals(method)) {
+        for (Object node : (List<?>) args[0]) {
+          ExecNode execNode = (ExecNode) node;
+          execNodes.add(List.of(execNode.getExecId(), execNode.getNodeId()));
+        }
+      }
+      return null;
+    }));
+    Fakes.inject(reserver, "execNodeRepo", Fakes.fake(ExecNodeRepo.class, (method, args) -> {
+      if ("deleteByExecIdAndNodeIdIn".equals(method)) {
+        execNodes.removeIf(x -> x.get(0).equals(args[0])
+            && ((Collection<?>) args[1]).contains(x.get(1)));
+      }
+      return null;
+    }));
+  }
+
+  @Test
+  public void testConcurrentStartsNotExceedQuota() throws Exception {
+    List<Boolean> reserved = startConcurrently(exec -> {
+      try {
+        return reserver.reserveQuota(exec);
+      } catch (IllegalStateException e) {
+        return false;
+      }
+    });
+
+    assertEquals(reserved.stream().filter(x -> x).count(), QUOTA);
+    assertEquals(reservations.size(), QUOTA);
+  }
+
+  @Test
+  public void testReleasedQuotaIsReservedAgain() {
+    List<Exec> execs = new ArrayList<>();
+    for (long i = 1; i <= QUOTA; i++) {
+      execs.add(exec(i));
+      assertTrue(reserver.reserveQuota(execs.get(execs.size() - 1)));
+    }
+    try {
+      reserver.reserveQuota(exec(QUOTA + 1));
+      throw new AssertionError("Quota is exceeded");
+    } catch (IllegalStateException expected) {
+      // Over quota
+    }
+
+    reserver.release(execs.get(0), List.of());
+    assertTrue(reserver.reserveQuota(exec(QUOTA + 1)));
+    // Restarting a reserved execution does not count itself
+    assertTrue(reserver.reserveQuota(exec(QUOTA + 1)));
+    assertFalse(reservations.containsKey(execs.get(0).getId()));
+  }
+
+  @Test
+  public void testConcurrentTrialsNotShareFreeNode() throws Exception {
+    Set<Long> freeNodeIds = Set.of(101L, 102L, 103L);
+    List<Boolean> reserved = startConcurrently(exec -> {
+      List<Long> nodeIds = reserver.reserveFreeNodes(exec, () -> {
+        List<Long> free = freeNodeIds.stream().filter(x -> !nodeIds().contains(x)).toList();
+        sleep(); // Let the other trials select at the same time
+        if (free.isEmpty()) {
+          throw new IllegalStateException("No free nodes");
+        }
+        return List.of(free.get(0));
+      });
+      return !nodeIds.isEmpty();
+    });
+
+    assertEquals(reserved.stream().filter(x -> x).count(), freeNodeIds.size());
+    assertEquals(nodeIds(), freeNodeIds);
+    assertEquals(execNodes.stream().map(x -> x.get(0)).distinct().count(), freeNodeIds.size());
+
+    // Nodes failed to start are free again
+    List<Long> failed = execNodes.iterator().next();
+    reserver.release(exec(failed.get(0)), List.of(failed.get(1)));
+    assertFalse(nodeIds().contains(failed.get(1)));
+  }
+
+  @Test
+  public void testReleaseKeepsNodesOfOtherExecs() {
+    // The node is shared by two executions
+    reserver.reserveFreeNodes(exec(1), () -> List.of(101L, 102L));
+    reserver.reserveFreeNodes(exec(2), () -> List.of(101L));
+
+    reserver.release(exec(1), List.of(101L));
+
+    assertEquals(execNodes, Set.of(List.of(1L, 102L), List.of(2L, 101L)));
+  }
+
+  private Set<Long> nodeIds() {
+    return execNodes.stream().map(x -> x.get(1)).collect(Collectors.toSet());
+  }
+
+  private List<Boolean> startConcurrently(Function<Exec, Boolean> start) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(STARTS);
+    try {
+      CountDownLatch ready = new CountDownLatch(1);
+      List<Future<Boolean>> futures = new ArrayList<>();
+      for (long i = 1; i <= STARTS; i++) {
+        Exec exec = exec(i);
+        futures.add(executor.submit(() -> {
+          ready.await();
+          try {
+            return start.apply(exec);
+          } catch (IllegalStateException e) {
+            return false;
+          }
+        }));
+      }
+      ready.countDown();
+      List<Boolean> results = new ArrayList<>();
+      for (Future<Boolean> future : futures) {
+        results.add(future.get(30, TimeUnit.SECONDS));
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static Exec exec(long id) {
+    Exec exec = new Exec();
+    exec.setId(id);
+    exec.setTenantId(TENANT_ID);
+    exec.setTrial(true);
+    return exec;
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(5);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Replace the distributed lock by the local locks, the controllers are threads here.
+   */
+  private static class LocalLockReserver extends ExecStartReserver {
+
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    @Override
+    protected boolean lock(String key, String value) {
+      try {
+        return locks.computeIfAbsent(key, k -> new ReentrantLock())
+            .tryLock(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+
+    @Override
+    protected void unlock(String key, String value) {
+      locks.get(key).unlock();
+    }
+  }
+
+}
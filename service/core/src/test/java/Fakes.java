@@ -0,0 +1,90 @@
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+
+/**
+ * Fakes of the repositories and services used by the tested beans, and the injection of them into
+ * the {@code @Resource} fields, without starting a spring context.
+ */
+final class Fakes {
+
+  private Fakes() {
+  }
+
+  /**
+   * Answer of the called method of a fake.
+   */
+  interface Handler {
+
+    Object handle(String method, Object[] args);
+  }
+
+  /**
+   * Create a fake of the interface, the methods of {@link Object} are answered by the proxy
+   * itself, null answers of the methods returning primitives are the default values.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T fake(Class<T> type, Handler handler) {
+    return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+        (proxy, method, args) -> {
+          if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+              case "hashCode" -> System.identityHashCode(proxy);
+              case "equals" -> proxy == args[0];
+              default -> type.getSimpleName();
+            };
+          }
+          Object result = handler.handle(method.getName(), args);
+          Class<?> returnType = method.getReturnType();
+          if (returnType == void.class) {
+            return null;
+          }
+          if (result == null && returnType.isPrimitive()) {
+            return defaultValue(returnType);
+          }
+          return result;
+        });
+  }
+
+  /**
+   * Set the field of the target or of its super classes.
+   */
+  static void inject(Object target, String name, Object value) {
+    for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+      try {
+        Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+        return;
+      } catch (NoSuchFieldException e) {
+        // Declared by the super class
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+    throw new IllegalArgumentException("Field " + name + " not found in "
+        + target.getClass().getName());
+  }
+
+  private static Object defaultValue(Class<?> type) {
+    if (type == boolean.class) {
+      return false;
+    }
+    if (type == char.class) {
+      return '\0';
+    }
+    if (type == long.class) {
+      return 0L;
+    }
+    if (type == float.class) {
+      return 0F;
+    }
+    if (type == double.class) {
+      return 0D;
+    }
+    if (type == int.class) {
+      return 0;
+    }
+    return type == short.class ? (short) 0 : (byte) 0;
+  }
+
+}
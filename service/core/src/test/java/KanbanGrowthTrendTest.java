@@ -0,0 +1,165 @@
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+
+import cloud.xcan.angus.core.tester.application.query.kanban.impl.KanbanDataAssetsQueryImpl;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsCategory;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsLabel;
+import cloud.xcan.angus.core.tester.domain.kanban.DataAssetsTimeSeries;
+import cloud.xcan.angus.core.tester.infra.kanban.cache.KanbanGrowthTrendCache;
+import cloud.xcan.angus.model.script.configuration.ScriptType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Growth trends are bucketed from the grouped counts, and cached trends are not read after a
+ * resource is created in their project and category.
+ */
+public class KanbanGrowthTrendTest {
+
+  private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+  private static final LocalDateTime END = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+  private KanbanGrowthTrendCache cache;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    cache = new KanbanGrowthTrendCache();
+    Field field = KanbanGrowthTrendCache.class.getDeclaredField("cacheManager");
+    field.setAccessible(true);
+    field.set(cache, new ConcurrentMapCacheManager());
+  }
+
+  @Test
+  public void testCachedTrendIsRead() {
+    String key = key(1L, DataAssetsCategory.TASK);
+    assertNull(cache.get(key));
+
+    cache.put(key, trend(3));
+
+    assertEquals(cache.get(key).get(DataAssetsLabel.TASK).get(0).getValue(), 3);
+    assertEquals(key(1L, DataAssetsCategory.TASK), key);
+  }
+
+  @Test
+  public void testCreationInvalidatesOnlyItsProjectAndCategory() {
+    String taskKey = key(1L, DataAssetsCategory.TASK);
+    String funcKey = key(1L, DataAssetsCategory.FUNC);
+    String otherProjectKey = key(2L, DataAssetsCategory.TASK);
+    cache.put(taskKey, trend(3));
+
+    cache.evict(1L, DataAssetsCategory.TASK);
+
+    assertNotEquals(key(1L, DataAssetsCategory.TASK), taskKey);
+    assertNull(cache.get(key(1L, DataAssetsCategory.TASK)));
+    assertEquals(key(1L, DataAssetsCategory.FUNC), funcKey);
+    assertEquals(key(2L, DataAssetsCategory.TASK), otherProjectKey);
+  }
+
+  @Test
+  public void testTrendCountedBetweenCreationsIsNotRead() {
+    cache.evict(1L, DataAssetsCategory.TASK);
+    // Counted before the second creation in the same millisecond
+    String key = key(1L, DataAssetsCategory.TASK);
+    cache.evict(1L, DataAssetsCategory.TASK);
+    cache.put(key, trend(3));
+
+    assertNull(cache.get(key(1L, DataAssetsCategory.TASK)));
+  }
+
+  @Test
+  public void testCreationInTransactionInvalidatesAfterCommit() {
+    String key = key(1L, DataAssetsCategory.TASK);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      cache.evict(1L, DataAssetsCategory.TASK);
+      // Counted before the commit, the creation is not visible yet
+      assertEquals(key(1L, DataAssetsCategory.TASK), key);
+      cache.put(key, trend(3));
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertNull(cache.get(key(1L, DataAssetsCategory.TASK)));
+  }
+
+  @Test
+  public void testRolledBackCreationDoesNotInvalidate() {
+    String key = key(1L, DataAssetsCategory.TASK);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      cache.evict(1L, DataAssetsCategory.TASK);
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(x -> x.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    assertEquals(key(1L, DataAssetsCategory.TASK), key);
+  }
+
+  @Test
+  public void testBucketsAreSortedAndFilteredByScriptType() throws Exception {
+    // Rows of year, month, script type and count
+    List<Object[]> rows = List.of(
+        new Object[]{2025, 3, ScriptType.TEST_PERFORMANCE, 2L},
+        new Object[]{2025, 1, ScriptType.TEST_FUNCTIONALITY, 4L},
+        new Object[]{2025, 3, ScriptType.TEST_FUNCTIONALITY, 1L},
+        new Object[]{2024, 12, ScriptType.MOCK_DATA, 5L});
+
+    List<DataAssetsTimeSeries> total = toTimeSeries(rows, false, null);
+    assertEquals(total.stream().map(DataAssetsTimeSeries::getValue).toList(), List.of(5, 4, 3));
+
+    List<DataAssetsTimeSeries> functionality = toTimeSeries(rows, false,
+        ScriptType::isFunctionalTesting);
+    assertEquals(functionality.stream().map(DataAssetsTimeSeries::getValue).toList(),
+        List.of(4, 1));
+    assertEquals(functionality.get(0).getTimeSeries(), total.get(1).getTimeSeries());
+    assertEquals(functionality.get(1).getTimeSeries(), total.get(2).getTimeSeries());
+  }
+
+  @Test
+  public void testDayBuckets() throws Exception {
+    // Rows of year, month, day and count
+    List<Object[]> rows = List.of(new Object[]{2025, 1, 2, 1L}, new Object[]{2025, 1, 1, 2L},
+        new Object[]{2025, 1, 2, 3L});
+
+    List<DataAssetsTimeSeries> series = toTimeSeries(rows, true, null);
+
+    assertEquals(series.stream().map(DataAssetsTimeSeries::getValue).toList(), List.of(2, 4));
+    assertNotEquals(series.get(0).getTimeSeries(), series.get(1).getTimeSeries());
+  }
+
+  private String key(Long projectId, DataAssetsCategory category) {
+    return cache.cacheKey(projectId, category, null, null, START, END);
+  }
+
+  private static Map<DataAssetsLabel, List<DataAssetsTimeSeries>> trend(int value) {
+    Map<DataAssetsLabel, List<DataAssetsTimeSeries>> trend = new LinkedHashMap<>();
+    trend.put(DataAssetsLabel.TASK, List.of(new DataAssetsTimeSeries("2025-01", value)));
+    return trend;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<DataAssetsTimeSeries> toTimeSeries(List<Object[]> rows, boolean byDay,
+      Predicate<ScriptType> typeFilter) throws Exception {
+    Method method = KanbanDataAssetsQueryImpl.class.getDeclaredMethod("toTimeSeries",
+        List.class, boolean.class, Predicate.class);
+    method.setAccessible(true);
+    return (List<DataAssetsTimeSeries>) method.invoke(null, rows, byDay, typeFilter);
+  }
+
+}
@@ -0,0 +1,182 @@
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import cloud.xcan.angus.core.tester.application.cmd.mock.MockApisCmd;
+import cloud.xcan.angus.core.tester.application.cmd.mock.MockApisLogCmd;
+import cloud.xcan.angus.core.tester.domain.mock.apis.log.MockApisLog;
+import cloud.xcan.angus.core.tester.infra.config.MockApisIngestConfig.MockApisIngestProperties;
+import cloud.xcan.angus.core.tester.infra.mock.MockApisIngestBuffer;
+import cloud.xcan.angus.model.remoting.dto.MockApisRequestCountDto.Counter;
+import cloud.xcan.angus.spec.principal.PrincipalContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Push counters and logs from many threads while the buffer flushes, every delta and log must
+ * be written exactly once, with one counter row per mock api of a flush.
+ */
+public class MockApisIngestBufferTest {
+
+  private static final int THREADS = 8;
+  private static final int PUSHES = 500;
+  private static final long APIS = 10;
+
+  private final List<Map<Long, Counter>> counterFlushes = new CopyOnWriteArrayList<>();
+  private final Map<Long, AtomicLong> writtenRequests = new ConcurrentHashMap<>();
+  private final List<List<MockApisLog>> logFlushes = new CopyOnWriteArrayList<>();
+  private final Map<Long, Long> logTenants = new ConcurrentHashMap<>();
+
+  private MockApisIngestBuffer buffer;
+
+  @AfterMethod
+  public void tearDown() {
+    if (buffer != null) {
+      buffer.shutdown();
+    }
+    counterFlushes.clear();
+    writtenRequests.clear();
+    logFlushes.clear();
+    logTenants.clear();
+  }
+
+  @Test
+  public void testConcurrentCountersAreCoalesced() throws Exception {
+    buffer = newBuffer(properties(true, 20));
+    buffer.start();
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < PUSHES; i++) {
+            assertTrue(buffer.offerCounters(Map.of(i % APIS, counter(1, 1))));
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    buffer.shutdown();
+
+    long written = writtenRequests.values().stream().mapToLong(AtomicLong::get).sum();
+    assertEquals(written, (long) THREADS * PUSHES);
+    for (long id = 0; id < APIS; id++) {
+      assertEquals(writtenRequests.get(id).get(), (long) THREADS * PUSHES / APIS);
+    }
+    // Far fewer updates than pushes, and each mock api is updated at most once per flush
+    assertTrue(counterFlushes.size() < THREADS * PUSHES / 10, "" + counterFlushes.size());
+    for (Map<Long, Counter> flush : counterFlushes) {
+      assertTrue(flush.size() <= APIS);
+    }
+  }
+
+  @Test
+  public void testLogsAreInsertedInBatchesPerTenant() {
+    MockApisIngestProperties properties = properties(true, 1000);
+    properties.setLogMaxBatchSize(4);
+    buffer = newBuffer(properties);
+    buffer.start();
+
+    List<MockApisLog> logs = new ArrayList<>();
+    for (long id = 1; id <= 10; id++) {
+      logs.add(log(id, id % 2 == 0 ? 100L : 200L));
+    }
+    assertTrue(buffer.offerLogs(logs).isEmpty());
+    // Remaining logs are written on shutdown
+    buffer.shutdown();
+
+    assertEquals(logTenants.size(), logs.size());
+    for (MockApisLog log : logs) {
+      assertEquals(logTenants.get(log.getId()), log.getTenantId());
+    }
+    for (List<MockApisLog> flush : logFlushes) {
+      assertTrue(flush.size() <= 4);
+      assertEquals(flush.stream().map(MockApisLog::getTenantId).distinct().count(), 1);
+    }
+  }
+
+  @Test
+  public void testDisabledBufferRejects() {
+    buffer = newBuffer(properties(false, 20));
+    buffer.start();
+
+    assertFalse(buffer.offerCounters(Map.of(1L, counter(1, 1))));
+    List<MockApisLog> logs = List.of(log(1L, 100L));
+    assertEquals(buffer.offerLogs(logs), logs);
+  }
+
+  @Test
+  public void testFullBufferRejects() {
+    MockApisIngestProperties properties = properties(true, 2_000);
+    properties.setMaxPendingCounters(1);
+    properties.setLogQueueCapacity(1);
+    buffer = newBuffer(properties);
+    buffer.start();
+
+    assertTrue(buffer.offerCounters(Map.of(1L, counter(1, 1))));
+    assertFalse(buffer.offerCounters(Map.of(2L, counter(1, 1))));
+    List<MockApisLog> rejected = buffer.offerLogs(List.of(log(1L, 100L), log(2L, 100L)));
+    assertEquals(rejected.size(), 1);
+    assertEquals(rejected.get(0).getId(), Long.valueOf(2));
+  }
+
+  private MockApisIngestBuffer newBuffer(MockApisIngestProperties properties) {
+    MockApisIngestBuffer buffer = new MockApisIngestBuffer(properties);
+    Fakes.inject(buffer, "mockApisCmd", Fakes.fake(MockApisCmd.class, (method, args) -> {
+      if ("counterUpdate0".equals(method)) {
+        @SuppressWarnings("unchecked")
+        Map<Long, Counter> counters = (Map<Long, Counter>) args[0];
+        counterFlushes.add(counters);
+        counters.forEach((id, counter) -> writtenRequests
+            .computeIfAbsent(id, k -> new AtomicLong()).addAndGet(counter.requestNum0));
+      }
+      return null;
+    }));
+    Fakes.inject(buffer, "mockApisLogCmd", Fakes.fake(MockApisLogCmd.class, (method, args) -> {
+      if ("add0".equals(method) && args[0] instanceof List<?> list) {
+        List<MockApisLog> logs = list.stream().map(x -> (MockApisLog) x).toList();
+        logFlushes.add(logs);
+        logs.forEach(x -> logTenants.put(x.getId(), PrincipalContext.get().getTenantId()));
+      }
+      return null;
+    }));
+    return buffer;
+  }
+
+  private static MockApisIngestProperties properties(boolean enabled, long flushInterval) {
+    MockApisIngestProperties properties = new MockApisIngestProperties();
+    properties.setEnabled(enabled);
+    properties.setFlushInterval(flushInterval);
+    return properties;
+  }
+
+  private static Counter counter(long requestNum, long successNum) {
+    Counter counter = new Counter();
+    counter.requestNum0 = requestNum;
+    counter.successNum0 = successNum;
+    return counter;
+  }
+
+  private static MockApisLog log(Long id, Long tenantId) {
+    MockApisLog log = new MockApisLog();
+    log.setId(id);
+    log.setTenantId(tenantId);
+    return log;
+  }
+
+}
@@ -0,0 +1,213 @@
+import static cloud.xcan.angus.api.commonlink.TesterConstant.AGENT_STARTED_MESSAGE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import cloud.xcan.angus.api.commonlink.node.AgentInstallCmd;
+import cloud.xcan.angus.core.tester.infra.util.NodeAgentInstaller;
+import cloud.xcan.angus.core.tester.infra.util.NodeAgentInstaller.Result;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.sshd.common.NamedFactory;
+import org.apache.sshd.common.cipher.BuiltinCiphers;
+import org.apache.sshd.common.kex.BuiltinDHFactories;
+import org.apache.sshd.common.mac.BuiltinMacs;
+import org.apache.sshd.common.session.Session;
+import org.apache.sshd.common.session.SessionListener;
+import org.apache.sshd.common.signature.BuiltinSignatures;
+import org.apache.sshd.server.Environment;
+import org.apache.sshd.server.ExitCallback;
+import org.apache.sshd.server.ServerBuilder;
+import org.apache.sshd.server.SshServer;
+import org.apache.sshd.server.channel.ChannelSession;
+import org.apache.sshd.server.command.Command;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Install the agent against an embedded SSH server, only a failed install script is a failure,
+ * connection failures are left to be retried.
+ */
+public class NodeAgentInstallerTest {
+
+  private static final String USERNAME = "angus";
+  private static final String PASSWORD = "secret";
+  private static final String DOWNLOAD_CMD = "curl -s http://127.0.0.1/install-agent.sh"
+      + " -o install-agent.sh";
+  private static final String RUN_CMD = "./install-agent.sh 1.0.0 1 http://127.0.0.1/ctrl";
+
+  private final List<String> commands = new CopyOnWriteArrayList<>();
+  private final AtomicInteger sessionNum = new AtomicInteger();
+
+  private SshServer server;
+  private volatile String runOutput;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    commands.clear();
+    sessionNum.set(0);
+    runOutput = "Installing agent\n" + AGENT_STARTED_MESSAGE;
+
+    server = SshServer.setUpDefaultServer();
+    server.setHost("127.0.0.1");
+    server.setPort(0);
+    SimpleGeneratorHostKeyProvider hostKeyProvider = new SimpleGeneratorHostKeyProvider();
+    hostKeyProvider.setAlgorithm("RSA");
+    server.setKeyPairProvider(hostKeyProvider);
+    // The legacy ssh client only supports the legacy algorithms
+    server.setKeyExchangeFactories(NamedFactory.setUpTransformedFactories(true,
+        BuiltinDHFactories.VALUES, ServerBuilder.DH2KEX));
+    server.setSignatureFactories(new ArrayList<>(
+        NamedFactory.setUpBuiltinFactories(true, BuiltinSignatures.VALUES)));
+    server.setCipherFactories(new ArrayList<>(
+        NamedFactory.setUpBuiltinFactories(true, BuiltinCiphers.VALUES)));
+    server.setMacFactories(new ArrayList<>(
+        NamedFactory.setUpBuiltinFactories(true, BuiltinMacs.VALUES)));
+    server.setPasswordAuthenticator((username, password, session) ->
+        USERNAME.equals(username) && PASSWORD.equals(password));
+    server.setCommandFactory((channel, command) -> {
+      commands.add(command);
+      return new CannedCommand(RUN_CMD.equals(command) ? runOutput : "");
+    });
+    server.addSessionListener(new SessionListener() {
+      @Override
+      public void sessionCreated(Session session) {
+        sessionNum.incrementAndGet();
+      }
+    });
+    server.start();
+  }
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    server.stop(true);
+  }
+
+  @Test
+  public void testInstalledInOneSession() throws Exception {
+    Result result = install(server.getPort(), PASSWORD);
+
+    assertTrue(result.isSuccess());
+    assertEquals(result.getInstalled(), Boolean.TRUE);
+    assertNull(result.getFailure());
+    assertEquals(commands, List.of(DOWNLOAD_CMD, "chmod +x install-agent.sh", RUN_CMD));
+    assertEquals(sessionNum.get(), 1);
+    assertSessionsClosed();
+  }
+
+  @Test
+  public void testFailedScriptIsNotRetried() throws Exception {
+    runOutput = "Install agent failed: permission denied";
+
+    Result result = install(server.getPort(), PASSWORD);
+
+    assertEquals(result.getInstalled(), Boolean.FALSE);
+    assertEquals(result.getFailure(), runOutput);
+    assertSessionsClosed();
+  }
+
+  @Test
+  public void testEmptyScriptOutputIsFailed() throws Exception {
+    runOutput = "";
+
+    Result result = install(server.getPort(), PASSWORD);
+
+    assertEquals(result.getInstalled(), Boolean.FALSE);
+    assertEquals(result.getFailure(), "No output of install script");
+  }
+
+  @Test
+  public void testAuthenticationFailureIsRetryable() throws Exception {
+    Result result = install(server.getPort(), "wrong");
+
+    assertNull(result.getInstalled());
+    assertFalse(result.isSuccess());
+    assertNotNull(result.getFailure());
+    assertTrue(commands.isEmpty());
+    assertSessionsClosed();
+  }
+
+  @Test
+  public void testUnreachablePortIsRetryable() throws Exception {
+    int closedPort;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      closedPort = socket.getLocalPort();
+    }
+
+    Result result = install(closedPort, PASSWORD);
+
+    assertNull(result.getInstalled());
+    assertNotNull(result.getFailure());
+  }
+
+  private static Result install(int port, String password) {
+    AgentInstallCmd installCmd = new AgentInstallCmd()
+        .setLinuxInstallScriptName("install-agent.sh")
+        .setLinuxDownloadInstallScriptCmd(DOWNLOAD_CMD)
+        .setLinuxRunInstallScriptCmd(RUN_CMD);
+    return NodeAgentInstaller.install("127.0.0.1", port, USERNAME, password, installCmd);
+  }
+
+  private void assertSessionsClosed() throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (!server.getActiveSessions().isEmpty() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertTrue(server.getActiveSessions().isEmpty());
+  }
+
+  /**
+   * Write the output and exit, like a command finished immediately.
+   */
+  private static class CannedCommand implements Command {
+
+    private final String output;
+    private OutputStream out;
+    private ExitCallback callback;
+
+    private CannedCommand(String output) {
+      this.output = output;
+    }
+
+    @Override
+    public void setInputStream(InputStream in) {
+    }
+
+    @Override
+    public void setOutputStream(OutputStream out) {
+      this.out = out;
+    }
+
+    @Override
+    public void setErrorStream(OutputStream err) {
+    }
+
+    @Override
+    public void setExitCallback(ExitCallback callback) {
+      this.callback = callback;
+    }
+
+    @Override
+    public void start(ChannelSession channel, Environment env) throws IOException {
+      out.write(output.getBytes(StandardCharsets.UTF_8));
+      out.flush();
+      callback.onExit(0);
+    }
+
+    @Override
+    public void destroy(ChannelSession channel) {
+    }
+  }
+
+}
@@ -0,0 +1,116 @@
+import static org.testng.Assert.assertEquals;
+
+import cloud.xcan.angus.core.tester.infra.util.OpenAPITranslator;
+import cloud.xcan.angus.core.tester.infra.util.OpenAPITranslator.TranslationMemory;
+import cloud.xcan.angus.extension.angustester.deepseek.api.TranslationService;
+import cloud.xcan.angus.extension.angustester.deepseek.api.TranslationServiceProvider;
+import cloud.xcan.angus.spec.locale.SupportedLanguage;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.testng.annotations.Test;
+
+/**
+ * Batch results which do not match the texts must not be saved to the translation memory.
+ */
+public class OpenAPITranslatorTest {
+
+  @Test
+  public void testMatchedBatchIsSaved() {
+    Map<String, String> saved = translate(texts -> texts.stream().map(x -> "B:" + x).toList());
+
+    assertEquals(saved, Map.of("Pet store", "B:Pet store", "Sell pets", "B:Sell pets",
+        "Pets", "B:Pets"));
+  }
+
+  @Test
+  public void testShiftedBatchFallsBackOneByOne() {
+    // The model merged two segments, the following translations are shifted
+    Map<String, String> saved = translate(texts -> List.of("B:" + texts.get(0) + texts.get(1),
+        "B:" + texts.get(2)));
+
+    assertEquals(saved, Map.of("Pet store", "S:Pet store", "Sell pets", "S:Sell pets",
+        "Pets", "S:Pets"));
+  }
+
+  @Test
+  public void testMissingBatchResultFallsBackOneByOne() {
+    Map<String, String> saved = translate(texts -> {
+      List<String> results = new ArrayList<>(texts.stream().map(x -> "B:" + x).toList());
+      results.set(1, "  ");
+      return results;
+    });
+
+    assertEquals(saved, Map.of("Pet store", "S:Pet store", "Sell pets", "S:Sell pets",
+        "Pets", "S:Pets"));
+  }
+
+  /**
+   * @return The translations saved to the translation memory
+   */
+  private static Map<String, String> translate(Function<List<String>, List<String>> batch) {
+    Map<String, String> saved = new HashMap<>();
+    TranslationMemory memory = new TranslationMemory() {
+      @Override
+      public Map<String, String> find(Collection<String> texts) {
+        return Map.of();
+      }
+
+      @Override
+      public void save(Map<String, String> translations) {
+        saved.putAll(translations);
+      }
+    };
+    OpenAPI openApi = new OpenAPI().info(new Info().title("Pet store").description("Sell pets")
+        .summary("Pets"));
+
+    new OpenAPITranslator(new BatchTranslationService(batch), SupportedLanguage.en,
+        SupportedLanguage.zh_CN, null, 10, Integer.MAX_VALUE, memory).translateOpenAPI(openApi);
+
+    assertEquals(openApi.getInfo().getTitle(), saved.get("Pet store"));
+    assertEquals(openApi.getInfo().getDescription(), saved.get("Sell pets"));
+    assertEquals(openApi.getInfo().getSummary(), saved.get("Pets"));
+    return saved;
+  }
+
+  private static class BatchTranslationService implements TranslationService {
+
+    private final Function<List<String>, List<String>> batch;
+
+    BatchTranslationService(Function<List<String>, List<String>> batch) {
+      this.batch = batch;
+    }
+
+    @Override
+    public String translate(String text, SupportedLanguage targetLanguage) {
+      return translate(text, DEFAULT_SOURCE_LANGUAGE, targetLanguage);
+    }
+
+    @Override
+    public String translate(String text, SupportedLanguage sourceLanguage,
+        SupportedLanguage targetLanguage) {
+      return "S:" + text;
+    }
+
+    @Override
+    public List<String> translate(List<String> segments, SupportedLanguage sourceLanguage,
+        SupportedLanguage targetLanguage) {
+      return batch.apply(segments);
+    }
+
+    @Override
+    public TranslationServiceProvider getProvider() {
+      return TranslationServiceProvider.DeepSeek;
+    }
+
+    @Override
+    public void loadConfig() {
+    }
+  }
+
+}
@@ -0,0 +1,106 @@
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import cloud.xcan.angus.core.tester.infra.util.OpenApiDocFetcher;
+import cloud.xcan.angus.core.tester.infra.util.OpenApiDocFetcher.FetchResult;
+import cloud.xcan.angus.core.tester.infra.util.OpenApiUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class OpenApiDocFetcherTest {
+
+  private static final String DOC = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Pet\"}}";
+  private static final String ETAG = "\"v1\"";
+  private static final String LAST_MODIFIED = "Wed, 21 Oct 2015 07:28:00 GMT";
+
+  private HttpServer server;
+  private String baseUrl;
+  private final AtomicReference<String> authHeader = new AtomicReference<>();
+
+  private final OpenApiDocFetcher fetcher = new OpenApiDocFetcher(Duration.ofSeconds(2),
+      Duration.ofSeconds(5));
+
+  @BeforeClass
+  public void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    // Supports both validators
+    server.createContext("/conditional", exchange -> {
+      authHeader.set(exchange.getRequestHeaders().getFirst("Authorization"));
+      if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+        exchange.sendResponseHeaders(304, -1);
+        exchange.close();
+        return;
+      }
+      exchange.getResponseHeaders().add("ETag", ETAG);
+      exchange.getResponseHeaders().add("Last-Modified", LAST_MODIFIED);
+      write(exchange, 200, DOC);
+    });
+    // Without validators
+    server.createContext("/plain", exchange -> write(exchange, 200, DOC));
+    server.createContext("/missing", exchange -> write(exchange, 404, "Not Found"));
+    server.start();
+    baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @AfterClass
+  public void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  public void testFetchReturnsValidatorsAndHash() throws Exception {
+    FetchResult result = fetcher.fetch(baseUrl + "/conditional",
+        Map.of("Authorization", "Bearer token"), null, null);
+    assertFalse(result.isNotModified());
+    assertEquals(result.getContent(), DOC);
+    assertEquals(result.getContentHash(), OpenApiUtil.sha256(DOC));
+    assertEquals(result.getEtag(), ETAG);
+    assertEquals(result.getLastModified(), LAST_MODIFIED);
+    assertEquals(authHeader.get(), "Bearer token");
+  }
+
+  @Test
+  public void testConditionalFetchNotModified() throws Exception {
+    FetchResult result = fetcher.fetch(baseUrl + "/conditional", null, ETAG, LAST_MODIFIED);
+    assertTrue(result.isNotModified());
+    assertNull(result.getContent());
+    assertEquals(result.getEtag(), ETAG);
+    assertEquals(result.getLastModified(), LAST_MODIFIED);
+  }
+
+  @Test
+  public void testSameContentHashWithoutValidators() throws Exception {
+    FetchResult first = fetcher.fetch(baseUrl + "/plain", null, null, null);
+    FetchResult second = fetcher.fetch(baseUrl + "/plain", null, first.getEtag(),
+        first.getLastModified());
+    assertFalse(second.isNotModified());
+    assertNull(second.getEtag());
+    assertEquals(second.getContentHash(), first.getContentHash());
+  }
+
+  @Test(expectedExceptions = IOException.class)
+  public void testErrorStatus() throws Exception {
+    fetcher.fetch(baseUrl + "/missing", null, null, null);
+  }
+
+  private static void write(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+}
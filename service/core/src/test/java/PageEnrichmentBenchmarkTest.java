@@ -0,0 +1,247 @@
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import cloud.xcan.angus.api.commonlink.CombinedTargetType;
+import cloud.xcan.angus.api.pojo.Progress;
+import cloud.xcan.angus.core.tester.application.converter.TaskConverter;
+import cloud.xcan.angus.core.tester.application.query.issue.impl.TaskFuncCaseQueryImpl;
+import cloud.xcan.angus.core.tester.application.query.issue.impl.TaskQueryImpl;
+import cloud.xcan.angus.core.tester.application.query.project.TreeClosureQuery;
+import cloud.xcan.angus.core.tester.application.query.test.impl.FuncCaseQueryImpl;
+import cloud.xcan.angus.core.tester.domain.issue.TaskInfo;
+import cloud.xcan.angus.core.tester.domain.issue.TaskInfoRepo;
+import cloud.xcan.angus.core.tester.domain.issue.TaskStatus;
+import cloud.xcan.angus.core.tester.domain.issue.cases.TaskFuncCase;
+import cloud.xcan.angus.core.tester.domain.test.cases.CaseTestResult;
+import cloud.xcan.angus.core.tester.domain.test.cases.FuncCaseInfo;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.testng.annotations.Test;
+
+/**
+ * Compare the results and the per-page query count of the page enrichments before and after they
+ * are indexed once per page, on a page of 200 rows.
+ * <p>
+ * The "before" implementations are the removed per-row scans and reflection, kept here as the
+ * baseline. Both results must be equal.
+ */
+public class PageEnrichmentBenchmarkTest {
+
+  private static final int PAGE_SIZE = 200;
+
+  private final Random random = new Random(20251018L);
+
+  @Test
+  public void testAssocIndex() throws Exception {
+    List<TaskFuncCase> tfcs = new ArrayList<>();
+    for (long id = 1; id <= PAGE_SIZE * 10; id++) {
+      // Tasks are 1..200 and cases 1001..1200
+      boolean taskAssocTask = random.nextBoolean();
+      tfcs.add(new TaskFuncCase().setId(id)
+          .setTargetType(CombinedTargetType.TASK).setTargetId(1L + random.nextInt(PAGE_SIZE))
+          .setAssocTargetType(taskAssocTask ? CombinedTargetType.TASK
+              : CombinedTargetType.FUNC_CASE)
+          .setAssocTargetId((taskAssocTask ? 1L : 1001L) + random.nextInt(PAGE_SIZE)));
+    }
+    List<Long> pageIds = new ArrayList<>();
+    for (long id = 1; id <= PAGE_SIZE; id++) {
+      pageIds.add(id);
+    }
+    Method assocIdsMap = TaskFuncCaseQueryImpl.class.getDeclaredMethod("assocIdsMap",
+        List.class, Predicate.class);
+    assocIdsMap.setAccessible(true);
+
+    Supplier<Map<Long, Set<Long>>> before = () -> {
+      Map<Long, Set<Long>> result = new HashMap<>();
+      for (Long taskId : pageIds) {
+        List<Long> assocIds = tfcs.stream()
+            .filter(x -> x.isTaskAssocTask() && x.getWideTargetIds().contains(taskId))
+            .map(TaskFuncCase::getWideTargetIds).flatMap(Collection::stream).distinct()
+            .collect(Collectors.toList());
+        assocIds.remove(taskId);
+        if (!assocIds.isEmpty()) {
+          result.put(taskId, new HashSet<>(assocIds));
+        }
+      }
+      return result;
+    };
+    Supplier<Map<Long, Set<Long>>> after = () -> {
+      Map<Long, Set<Long>> index = invoke(assocIdsMap, tfcs,
+          (Predicate<TaskFuncCase>) TaskFuncCase::isTaskAssocTask);
+      Map<Long, Set<Long>> result = new HashMap<>();
+      for (Long taskId : pageIds) {
+        Set<Long> assocIds = index.get(taskId);
+        if (assocIds != null) {
+          result.put(taskId, new HashSet<>(assocIds));
+        }
+      }
+      return result;
+    };
+
+    assertEquals(after.get(), before.get());
+  }
+
+  @Test
+  public void testCaseProgress() {
+    List<FuncCaseInfo> cases = new ArrayList<>();
+    CaseTestResult[] results = CaseTestResult.values();
+    for (long id = 1; id <= PAGE_SIZE; id++) {
+      cases.add(new FuncCaseInfo().setId(id)
+          .setTestResult(id % 7 == 0 ? null : results[random.nextInt(results.length)]));
+    }
+    FuncCaseQueryImpl funcCaseQuery = new FuncCaseQueryImpl();
+
+    Supplier<List<String>> before = () -> {
+      List<String> progresses = new ArrayList<>();
+      for (FuncCaseInfo case0 : cases) {
+        progresses.add(format(reflectionProgress(case0.getTestResult())));
+      }
+      return progresses;
+    };
+    Supplier<List<String>> after = () -> {
+      funcCaseQuery.setCaseInfoProgress(cases);
+      return cases.stream().map(x -> format(x.getProgress())).toList();
+    };
+
+    assertEquals(after.get(), before.get());
+  }
+
+  @Test
+  public void testTaskProgress() throws Exception {
+    // A page of root tasks with two levels of sub tasks in one project
+    List<TaskInfo> table = new ArrayList<>();
+    List<TaskInfo> page = new ArrayList<>();
+    long nextId = 1;
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      TaskInfo root = task(nextId++, 1L, -1L);
+      table.add(root);
+      page.add(root);
+      for (int j = 0; j < 3; j++) {
+        TaskInfo sub = task(nextId++, 1L, root.getId());
+        table.add(sub);
+        for (int k = 0; k < 2; k++) {
+          table.add(task(nextId++, 1L, sub.getId()));
+        }
+      }
+    }
+    AtomicInteger queryNum = new AtomicInteger();
+    TaskQueryImpl taskQuery = taskQuery(table, queryNum);
+
+    Set<Long> pageIds = page.stream().map(TaskInfo::getId).collect(Collectors.toSet());
+    Supplier<Map<Long, String>> before = () -> {
+      List<TaskInfo> allSubTasks = taskQuery.findAllSubInfo(1L, pageIds);
+      Map<Long, String> progresses = new HashMap<>();
+      for (TaskInfo task : page) {
+        List<TaskInfo> subs = TaskConverter.findAllSubTaskInfos(allSubTasks, task.getId());
+        subs.add(task);
+        progresses.put(task.getId(), subs.stream().filter(x -> x.getStatus().isCompleted())
+            .collect(Collectors.toSet()).size() + "/" + subs.stream()
+            .filter(x -> !x.getStatus().isCanceled()).collect(Collectors.toSet()).size());
+      }
+      return progresses;
+    };
+    Supplier<Map<Long, String>> after = () -> {
+      taskQuery.setTaskInfoProgress(page);
+      return page.stream().collect(Collectors.toMap(TaskInfo::getId,
+          x -> format(x.getProgress())));
+    };
+
+    queryNum.set(0);
+    Map<Long, String> beforeProgresses = before.get();
+    int beforeQueryNum = queryNum.getAndSet(0);
+    Map<Long, String> afterProgresses = after.get();
+    int afterQueryNum = queryNum.get();
+
+    assertEquals(afterProgresses, beforeProgresses);
+    // One query per level of the sub trees, not per row
+    assertEquals(afterQueryNum, 3);
+    assertEquals(afterQueryNum, beforeQueryNum);
+  }
+
+  @Test
+  public void testTaskProgressOfPageSpanningProjects() throws Exception {
+    TaskInfo task1 = task(1L, 1L, -1L);
+    TaskInfo task2 = task(2L, 2L, -1L).setStatus(TaskStatus.PENDING);
+    List<TaskInfo> table = new ArrayList<>(List.of(task1, task2,
+        task(3L, 2L, 2L).setStatus(TaskStatus.COMPLETED)));
+    AtomicInteger queryNum = new AtomicInteger();
+    TaskQueryImpl taskQuery = taskQuery(table, queryNum);
+
+    taskQuery.setTaskInfoProgress(List.of(task1, task2));
+
+    // Sub tasks of the second project are counted too
+    assertEquals(format(task2.getProgress()), "1/2");
+    assertTrue(queryNum.get() >= 2);
+  }
+
+  private TaskInfo task(long id, long projectId, long parentTaskId) {
+    TaskStatus[] statuses = TaskStatus.values();
+    return new TaskInfo().setId(id).setProjectId(projectId).setParentTaskId(parentTaskId)
+        .setStatus(statuses[random.nextInt(statuses.length)]);
+  }
+
+  private static TaskQueryImpl taskQuery(List<TaskInfo> table, AtomicInteger queryNum)
+      throws Exception {
+    TaskQueryImpl taskQuery = new TaskQueryImpl();
+    // Not indexed in the tree closure, sub tasks are found level by level
+    TreeClosureQuery treeClosureQuery = Fakes.fake(TreeClosureQuery.class, (method, args) -> {
+      if (!"checkIndexed".equals(method)) {
+        throw new UnsupportedOperationException(method);
+      }
+      return false;
+    });
+    Fakes.inject(taskQuery, "treeClosureQuery", treeClosureQuery);
+    Fakes.inject(taskQuery, "taskInfoRepo", Fakes.fake(TaskInfoRepo.class, (method, args) -> {
+      if (!"findByProjectIdAndParentTaskIdIn".equals(method)) {
+        throw new UnsupportedOperationException(method);
+      }
+      queryNum.incrementAndGet();
+      Collection<?> parentIds = (Collection<?>) args[1];
+      return table.stream().filter(x -> x.getProjectId().equals(args[0])
+          && parentIds.contains(x.getParentTaskId())).toList();
+    }));
+    return taskQuery;
+  }
+
+  /**
+   * The removed implementation, which looks up the methods by reflection for each row.
+   */
+  private static Progress reflectionProgress(Object testResult) {
+    boolean isPassed = false;
+    boolean isCanceled = false;
+    if (testResult != null) {
+      try {
+        isPassed = (Boolean) testResult.getClass().getMethod("isPassed").invoke(testResult);
+        isCanceled = (Boolean) testResult.getClass().getMethod("isCanceled").invoke(testResult);
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }
+    return new Progress().setCompleted(isPassed ? 1 : 0).setTotal(!isCanceled ? 1 : 0);
+  }
+
+  private static String format(Progress progress) {
+    return progress.getCompleted() + "/" + progress.getTotal();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T invoke(Method method, Object... args) {
+    try {
+      return (T) method.invoke(null, args);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+}
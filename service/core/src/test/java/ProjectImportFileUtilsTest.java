@@ -0,0 +1,86 @@
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import cloud.xcan.angus.core.tester.domain.project.ProjectImportProgress;
+import cloud.xcan.angus.core.tester.domain.project.tag.Tag;
+import cloud.xcan.angus.core.tester.infra.util.ProjectImportFileUtils;
+import cloud.xcan.angus.spec.utils.JsonUtils;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.annotations.Test;
+
+/**
+ * Business data arrays are imported in batches, an array with other elements than objects is
+ * rejected instead of being imported partially.
+ */
+public class ProjectImportFileUtilsTest {
+
+  @Test
+  public void testArrayIsReadInBatches() throws IOException {
+    List<List<String>> batches = new ArrayList<>();
+
+    long count = read("[{\"name\":\"t1\"},{\"name\":\"t2\"},{\"name\":\"t3\"}]", batches);
+
+    assertEquals(count, 3);
+    assertEquals(batches, List.of(List.of("t1", "t2"), List.of("t3")));
+  }
+
+  @Test
+  public void testEmptyArray() throws IOException {
+    List<List<String>> batches = new ArrayList<>();
+
+    assertEquals(read("[]", batches), 0);
+    assertTrue(batches.isEmpty());
+  }
+
+  @Test
+  public void testNonArrayIsRejected() {
+    expectThrows(IllegalArgumentException.class, () -> read("{\"name\":\"t1\"}",
+        new ArrayList<>()));
+  }
+
+  @Test
+  public void testNonObjectElementIsRejected() {
+    expectThrows(IllegalArgumentException.class, () -> read("[{\"name\":\"t1\"},1]",
+        new ArrayList<>()));
+    expectThrows(IllegalArgumentException.class, () -> read("[{\"name\":\"t1\"},[]]",
+        new ArrayList<>()));
+    expectThrows(IllegalArgumentException.class, () -> read("[{\"name\":\"t1\"},null]",
+        new ArrayList<>()));
+  }
+
+  @Test
+  public void testTruncatedArrayIsRejected() {
+    List<List<String>> batches = new ArrayList<>();
+
+    expectThrows(IllegalArgumentException.class, () -> read("[{\"name\":\"t1\"}", batches));
+    assertTrue(batches.isEmpty());
+  }
+
+  @Test
+  public void testImportProgress() {
+    ProjectImportProgress progress = new ProjectImportProgress();
+    assertNull(progress.getImportProgress());
+
+    progress.setTotalEntries(3).setImportedEntries(1);
+    assertEquals(progress.getImportProgress(), "33.33");
+
+    // The percentage is calculated and not cached
+    String json = JsonUtils.toJson(progress.setImportedRows(200));
+    ProjectImportProgress cached = JsonUtils.fromJson(json, ProjectImportProgress.class);
+    assertEquals(cached.getImportedRows(), 200);
+    assertEquals(cached.getImportProgress(), "33.33");
+  }
+
+  private static long read(String json, List<List<String>> batches) throws IOException {
+    return ProjectImportFileUtils.readJsonArray(
+        new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), JsonUtils.JSON,
+        Tag.class, 2, batch -> batches.add(batch.stream().map(Tag::getName).toList()));
+  }
+
+}
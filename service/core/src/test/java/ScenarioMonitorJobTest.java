@@ -0,0 +1,290 @@
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import cloud.xcan.angus.core.tester.application.cmd.scenario.ScenarioMonitorCmd;
+import cloud.xcan.angus.core.tester.domain.scenario.monitor.ScenarioMonitor;
+import cloud.xcan.angus.core.tester.domain.scenario.monitor.ScenarioMonitorRepo;
+import cloud.xcan.angus.core.tester.infra.config.ScenarioMonitorConfig.ScenarioMonitorProperties;
+import cloud.xcan.angus.core.tester.infra.job.ScenarioMonitorJob;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Two controllers share an in-memory monitor table with claims, the clock is moved past the claim
+ * timeout while monitors are running, a monitor must never run on both controllers.
+ */
+public class ScenarioMonitorJobTest {
+
+  private static final int THREAD_NUM = 2;
+  private static final int CLAIM_TIMEOUT_MINUTES = 15;
+
+  private final AtomicReference<LocalDateTime> clock = new AtomicReference<>();
+  private final Map<Long, Claim> claims = new TreeMap<>();
+  private final Map<Long, AtomicInteger> runningNum = new ConcurrentHashMap<>();
+  private final Map<Long, AtomicInteger> runNum = new ConcurrentHashMap<>();
+  private final AtomicInteger duplicateRuns = new AtomicInteger();
+  private final AtomicInteger interruptedRuns = new AtomicInteger();
+  private final List<ExecutorService> executors = new ArrayList<>();
+
+  private CountDownLatch started;
+  private CountDownLatch finish;
+
+  @BeforeMethod
+  public void setUp() {
+    clock.set(LocalDateTime.of(2025, 1, 1, 0, 0));
+    claims.clear();
+    runningNum.clear();
+    runNum.clear();
+    duplicateRuns.set(0);
+    interruptedRuns.set(0);
+    // Monitor 1 and 2 belong to tenant 1, the tenant concurrency is one
+    addMonitor(1L, 1L);
+    addMonitor(2L, 1L);
+    addMonitor(3L, 2L);
+    addMonitor(4L, 3L);
+    addMonitor(5L, 4L);
+    started = new CountDownLatch(THREAD_NUM);
+    finish = new CountDownLatch(1);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    finish.countDown();
+    executors.forEach(ExecutorService::shutdownNow);
+    executors.clear();
+  }
+
+  @Test
+  public void testClaimOnlyFreeSlots() throws Exception {
+    ScenarioMonitorJob controller1 = newController(600);
+    ScenarioMonitorJob controller2 = newController(600);
+
+    controller1.execute();
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    // The second monitor of tenant 1 and the monitors over the free slots are left unclaimed
+    assertEquals(claimedIds(), Set.of(1L, 3L));
+
+    controller2.execute();
+    assertEquals(claimedIds(), Set.of(1L, 2L, 3L, 4L));
+
+    finish.countDown();
+    awaitReleased();
+    assertEquals(duplicateRuns.get(), 0);
+  }
+
+  @Test
+  public void testRunningClaimsNotExpire() throws Exception {
+    ScenarioMonitorJob controller1 = newController(600);
+    ScenarioMonitorJob controller2 = newController(600);
+    controller1.execute();
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+
+    // Runs take longer than the claim timeout, the claims are renewed by each schedule
+    for (int minutes = 5; minutes <= 3 * CLAIM_TIMEOUT_MINUTES; minutes += 5) {
+      clock.set(clock.get().plusMinutes(5));
+      controller1.execute();
+      controller2.execute();
+    }
+    assertEquals(runNum.get(1L).get(), 1);
+    assertEquals(runNum.get(3L).get(), 1);
+
+    finish.countDown();
+    awaitReleased();
+    assertEquals(duplicateRuns.get(), 0);
+  }
+
+  @Test
+  public void testCancelledRunKeepsClaimUntilExit() throws Exception {
+    // Runs time out immediately and ignore the interruption
+    ScenarioMonitorJob controller1 = newController(0);
+    ScenarioMonitorJob controller2 = newController(600);
+    controller1.execute();
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    Thread.sleep(10);
+
+    clock.set(clock.get().plusMinutes(CLAIM_TIMEOUT_MINUTES - 1));
+    controller1.execute();
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (interruptedRuns.get() < THREAD_NUM && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(interruptedRuns.get(), THREAD_NUM);
+    // Cancelled runs still occupy the slots of controller 1
+    assertEquals(claimedIds(), Set.of(1L, 3L));
+
+    // The first claims would have expired without the renewal
+    clock.set(clock.get().plusMinutes(CLAIM_TIMEOUT_MINUTES - 1));
+    controller2.execute();
+    assertEquals(runNum.get(1L).get(), 1);
+    assertEquals(runNum.get(3L).get(), 1);
+
+    finish.countDown();
+    awaitReleased();
+    assertEquals(duplicateRuns.get(), 0);
+  }
+
+  private ScenarioMonitorJob newController(int runTimeoutSeconds) throws Exception {
+    ScenarioMonitorProperties properties = new ScenarioMonitorProperties();
+    properties.setThreadNum(THREAD_NUM);
+    properties.setTenantConcurrency(1);
+    properties.setBatchSize(100);
+    properties.setRunTimeoutSeconds(runTimeoutSeconds);
+    properties.setClaimTimeoutMinutes(CLAIM_TIMEOUT_MINUTES);
+    ExecutorService executor = new ThreadPoolExecutor(THREAD_NUM, THREAD_NUM, 60,
+        TimeUnit.SECONDS, new LinkedBlockingQueue<>(properties.getBatchSize()));
+    executors.add(executor);
+
+    ScenarioMonitorJob job = new ScenarioMonitorJob() {
+      @Override
+      protected LocalDateTime now() {
+        return clock.get();
+      }
+    };
+    Fakes.inject(job, "scenarioMonitorRepo", fakeRepo());
+    Fakes.inject(job, "scenarioMonitorCmd", fakeCmd());
+    Fakes.inject(job, "scenarioMonitorExecutor", executor);
+    Fakes.inject(job, "scenarioMonitorProperties", properties);
+    return job;
+  }
+
+  private ScenarioMonitorRepo fakeRepo() {
+    return Fakes.fake(ScenarioMonitorRepo.class, (method, args) -> {
+      synchronized (claims) {
+        switch (method) {
+          case "findUnclaimedRunsByNow": {
+            LocalDateTime now = (LocalDateTime) args[0];
+            return claims.values().stream().filter(x -> x.isFree(now)).limit((int) args[1])
+                .map(Claim::toMonitor).toList();
+          }
+          case "claimByIdIn": {
+            int claimed = 0;
+            for (Object id : (Collection<?>) args[0]) {
+              Claim claim = claims.get((Long) id);
+              if (claim.isFree((LocalDateTime) args[3])) {
+                claim.token = (String) args[1];
+                claim.expireDate = (LocalDateTime) args[2];
+                claimed++;
+              }
+            }
+            return claimed;
+          }
+          case "findByClaimToken":
+            return claims.values().stream().filter(x -> args[0].equals(x.token))
+                .map(Claim::toMonitor).toList();
+          case "renewClaim": {
+            Claim claim = claims.get((Long) args[0]);
+            if (!args[1].equals(claim.token)) {
+              return 0;
+            }
+            claim.expireDate = (LocalDateTime) args[2];
+            return 1;
+          }
+          case "releaseClaim": {
+            Claim claim = claims.get((Long) args[0]);
+            if (args[1].equals(claim.token)) {
+              claim.token = null;
+              claim.expireDate = null;
+            }
+            return null;
+          }
+          default:
+            throw new UnsupportedOperationException(method);
+        }
+      }
+    });
+  }
+
+  private ScenarioMonitorCmd fakeCmd() {
+    return Fakes.fake(ScenarioMonitorCmd.class, (method, args) -> {
+      if (!"runNow".equals(method)) {
+        throw new UnsupportedOperationException(method);
+      }
+      Long id = (Long) args[0];
+      runNum.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+      if (runningNum.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet() > 1) {
+        duplicateRuns.incrementAndGet();
+      }
+      started.countDown();
+      try {
+        // Ignore the interruption like a blocking call which is not interruptible
+        boolean interrupted = false;
+        while (true) {
+          try {
+            if (finish.await(10, TimeUnit.SECONDS)) {
+              break;
+            }
+          } catch (InterruptedException e) {
+            if (!interrupted) {
+              interrupted = true;
+              interruptedRuns.incrementAndGet();
+            }
+          }
+        }
+      } finally {
+        runningNum.get(id).decrementAndGet();
+      }
+      return null;
+    });
+  }
+
+  private Set<Long> claimedIds() {
+    synchronized (claims) {
+      return claims.entrySet().stream().filter(x -> x.getValue().token != null)
+          .map(Map.Entry::getKey).collect(Collectors.toSet());
+    }
+  }
+
+  private void awaitReleased() throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (!claimedIds().isEmpty() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(claimedIds(), Set.of());
+  }
+
+  private void addMonitor(Long id, Long tenantId) {
+    claims.put(id, new Claim(id, tenantId));
+  }
+
+  private static class Claim {
+
+    private final Long id;
+    private final Long tenantId;
+    private String token;
+    private LocalDateTime expireDate;
+
+    private Claim(Long id, Long tenantId) {
+      this.id = id;
+      this.tenantId = tenantId;
+    }
+
+    private boolean isFree(LocalDateTime now) {
+      return expireDate == null || expireDate.isBefore(now);
+    }
+
+    private ScenarioMonitor toMonitor() {
+      ScenarioMonitor monitor = new ScenarioMonitor();
+      monitor.setId(id);
+      monitor.setTenantId(tenantId);
+      return monitor;
+    }
+  }
+
+}
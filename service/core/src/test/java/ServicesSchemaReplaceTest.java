@@ -0,0 +1,366 @@
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import cloud.xcan.angus.api.commonlink.apis.ApiSource;
+import cloud.xcan.angus.api.commonlink.apis.StrategyWhenDuplicated;
+import cloud.xcan.angus.core.tester.application.cmd.activity.ActivityCmd;
+import cloud.xcan.angus.core.tester.application.cmd.apis.ApisCmd;
+import cloud.xcan.angus.core.tester.application.cmd.services.ServicesCompCmd;
+import cloud.xcan.angus.core.tester.application.cmd.services.ServicesSchemaCmd;
+import cloud.xcan.angus.core.tester.application.cmd.services.impl.ServicesCompCmdImpl;
+import cloud.xcan.angus.core.tester.application.cmd.services.impl.ServicesSchemaCmdImpl;
+import cloud.xcan.angus.core.tester.application.converter.ApisConverter;
+import cloud.xcan.angus.core.tester.application.converter.ServicesCompConverter;
+import cloud.xcan.angus.core.tester.application.query.services.ServicesAuthQuery;
+import cloud.xcan.angus.core.tester.application.query.services.ServicesQuery;
+import cloud.xcan.angus.core.tester.application.query.services.ServicesSchemaQuery;
+import cloud.xcan.angus.core.tester.domain.apis.Apis;
+import cloud.xcan.angus.core.tester.domain.apis.ApisOperationHash;
+import cloud.xcan.angus.core.tester.domain.apis.ApisRepo;
+import cloud.xcan.angus.core.tester.domain.services.Services;
+import cloud.xcan.angus.core.tester.domain.services.comp.ServicesComp;
+import cloud.xcan.angus.core.tester.domain.services.comp.ServicesCompHash;
+import cloud.xcan.angus.core.tester.domain.services.comp.ServicesCompRepo;
+import cloud.xcan.angus.core.tester.domain.services.comp.ServicesCompType;
+import cloud.xcan.angus.core.tester.domain.services.schema.OpenApiReplaceDiff;
+import cloud.xcan.angus.core.tester.domain.services.schema.ServicesSchema;
+import cloud.xcan.angus.extension.angustester.api.ApiImportSource;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Replacing the schema of a service writes only the added, changed and removed apis and
+ * components, unchanged rows keep their ids and test results. Rows stored before content hashes
+ * get the hashes backfilled when they are unchanged, rows edited in the service are rewritten.
+ */
+public class ServicesSchemaReplaceTest {
+
+  private static final long SERVICE_ID = 1L;
+
+  private static final String UNCHANGED_API = "get:/pets";
+  private static final String CHANGED_API = "post:/pets";
+  private static final String REMOVED_API = "delete:/pets";
+  private static final String ADDED_API = "put:/pets";
+
+  private static final String UNCHANGED_COMP = "#/components/schemas/Pet";
+  private static final String CHANGED_COMP = "#/components/schemas/Error";
+  private static final String REMOVED_COMP = "#/components/schemas/Old";
+  private static final String ADDED_COMP = "#/components/schemas/New";
+
+  /**
+   * Rows of apis and services_comp by id.
+   */
+  private final Map<Long, Apis> apisRows = new LinkedHashMap<>();
+  private final Map<Long, ServicesComp> compRows = new LinkedHashMap<>();
+  private final Set<Long> updatedApiIds = new HashSet<>();
+  private final Set<Long> updatedCompIds = new HashSet<>();
+  private final AtomicLong nextId = new AtomicLong();
+  private final Services serviceDb = new Services().setId(SERVICE_ID).setProjectId(2L);
+
+  private ServicesSchemaCmdImpl servicesSchemaCmd;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    apisRows.clear();
+    compRows.clear();
+    updatedApiIds.clear();
+    updatedCompIds.clear();
+
+    servicesSchemaCmd = new ServicesSchemaCmdImpl();
+    Fakes.inject(servicesSchemaCmd, "servicesSchemaQuery", Fakes.fake(ServicesSchemaQuery.class,
+        (method, args) -> new ServicesSchema().setId(SERVICE_ID).setProjectId(2L)));
+    Fakes.inject(servicesSchemaCmd, "servicesQuery", Fakes.fake(ServicesQuery.class,
+        (method, args) -> serviceDb));
+    Fakes.inject(servicesSchemaCmd, "servicesAuthQuery", Fakes.fake(ServicesAuthQuery.class,
+        (method, args) -> null));
+    // The info of document is not changed
+    Fakes.inject(servicesSchemaCmd, "servicesSchemaCmd", Fakes.fake(ServicesSchemaCmd.class,
+        (method, args) -> false));
+    Fakes.inject(servicesSchemaCmd, "activityCmd", Fakes.fake(ActivityCmd.class,
+        (method, args) -> null));
+    Fakes.inject(servicesSchemaCmd, "apisRepo", Fakes.fake(ApisRepo.class, this::handleApisRepo));
+    Fakes.inject(servicesSchemaCmd, "apisCmd", Fakes.fake(ApisCmd.class, this::handleApisCmd));
+
+    ServicesCompCmdImpl servicesCompCmd = new ServicesCompCmdImpl();
+    Fakes.inject(servicesCompCmd, "serviceCompRepo", Fakes.fake(ServicesCompRepo.class,
+        this::handleCompRepo));
+    Fakes.inject(servicesCompCmd, "servicesCompCmd", Fakes.fake(ServicesCompCmd.class,
+        (method, args) -> {
+          for (Object comp : (Collection<?>) args[1]) {
+            ServicesComp compDb = (ServicesComp) comp;
+            if ("batchInsert0".equals(method)) {
+              compRows.put(compDb.setId(nextId.incrementAndGet()).getId(), compDb);
+            } else {
+              updatedCompIds.add(compDb.getId());
+            }
+          }
+          return null;
+        }));
+    Fakes.inject(servicesSchemaCmd, "servicesCompCmd", servicesCompCmd);
+
+    // Import the first document
+    OpenApiReplaceDiff diff = replace(document(false), StrategyWhenDuplicated.COVER);
+    assertEquals(Set.copyOf(diff.getAddedApis()), Set.of(UNCHANGED_API, CHANGED_API,
+        REMOVED_API));
+    assertEquals(Set.copyOf(diff.getAddedComps()), Set.of(UNCHANGED_COMP, CHANGED_COMP,
+        REMOVED_COMP));
+  }
+
+  @Test
+  public void testOnlyChangesAreWritten() {
+    Apis unchangedApi = api(UNCHANGED_API);
+    Long unchangedApiId = unchangedApi.getId();
+    String unchangedApiHash = unchangedApi.getContentHash();
+    unchangedApi.setTestFuncPassed(false).setTestFuncFailureMessage("Status is 500");
+    ServicesComp unchangedComp = comp(UNCHANGED_COMP);
+
+    OpenApiReplaceDiff diff = replace(document(true), StrategyWhenDuplicated.COVER);
+
+    assertEquals(diff.getAddedApis(), List.of(ADDED_API));
+    assertEquals(diff.getUpdatedApis(), List.of(CHANGED_API));
+    assertEquals(diff.getDeletedApis(), List.of(REMOVED_API));
+    assertEquals(diff.getAddedComps(), List.of(ADDED_COMP));
+    assertEquals(diff.getUpdatedComps(), List.of(CHANGED_COMP));
+    assertEquals(diff.getDeletedComps(), List.of(REMOVED_COMP));
+    assertFalse(diff.isEmpty());
+
+    // The unchanged rows are not written
+    assertEquals(updatedApiIds, Set.of(api(CHANGED_API).getId()));
+    assertEquals(updatedCompIds, Set.of(comp(CHANGED_COMP).getId()));
+    Apis unchangedApiDb = api(UNCHANGED_API);
+    assertEquals(unchangedApiDb.getId(), unchangedApiId);
+    assertEquals(unchangedApiDb.getContentHash(), unchangedApiHash);
+    assertEquals(unchangedApiDb.getTestFuncPassed(), Boolean.FALSE);
+    assertEquals(unchangedApiDb.getTestFuncFailureMessage(), "Status is 500");
+    assertEquals(comp(UNCHANGED_COMP).getId(), unchangedComp.getId());
+  }
+
+  @Test
+  public void testSameDocumentIsNotWritten() {
+    OpenApiReplaceDiff diff = replace(document(false), StrategyWhenDuplicated.COVER);
+
+    assertTrue(diff.isEmpty());
+    assertTrue(updatedApiIds.isEmpty());
+    assertTrue(updatedCompIds.isEmpty());
+  }
+
+  @Test
+  public void testLegacyHashesAreBackfilled() {
+    String unchangedApiHash = api(UNCHANGED_API).getContentHash();
+    String unchangedCompHash = comp(UNCHANGED_COMP).getContentHash();
+    // Rows saved before content hashes are stored, with schema hashes of another process
+    apisRows.values().forEach(x -> x.setContentHash(null).setSchemaHash(-1));
+    compRows.values().forEach(x -> x.setContentHash(null).setSchemaHash(-1));
+
+    // Hashes are backfilled without updating any row when duplicates are ignored
+    OpenApiReplaceDiff diff = replace(document(true), StrategyWhenDuplicated.IGNORE);
+
+    assertTrue(diff.getUpdatedApis().isEmpty());
+    assertTrue(diff.getUpdatedComps().isEmpty());
+    assertTrue(updatedApiIds.isEmpty());
+    assertTrue(updatedCompIds.isEmpty());
+    assertEquals(api(UNCHANGED_API).getContentHash(), unchangedApiHash);
+    assertEquals(comp(UNCHANGED_COMP).getContentHash(), unchangedCompHash);
+    // Changed rows are compared by their content again
+    assertNull(api(CHANGED_API).getContentHash());
+    assertNull(comp(CHANGED_COMP).getContentHash());
+
+    diff = replace(document(true), StrategyWhenDuplicated.COVER);
+
+    assertEquals(diff.getUpdatedApis(), List.of(CHANGED_API));
+    assertEquals(diff.getUpdatedComps(), List.of(CHANGED_COMP));
+    assertNotNull(api(CHANGED_API).getContentHash());
+    assertNotNull(comp(CHANGED_COMP).getContentHash());
+  }
+
+  @Test
+  public void testLocalEditsAreRewritten() {
+    Apis editedApi = api(UNCHANGED_API);
+    String editedApiHash = editedApi.getContentHash();
+    ServicesComp editedComp = comp(UNCHANGED_COMP);
+    String editedCompHash = editedComp.getContentHash();
+    // Edited in the service as the apis and components commands do
+    ApisConverter.clearContentHash(List.of(editedApi.setSummary("List local pets")));
+    ServicesCompConverter.updateComp(editedComp, ServicesCompConverter.toProjectComp(SERVICE_ID,
+        ServicesCompType.schemas, "Pet", "{\"type\":\"object\",\"description\":\"Local\"}"));
+    assertNotEquals(editedComp.getContentHash(), editedCompHash);
+
+    OpenApiReplaceDiff diff = replace(document(false), StrategyWhenDuplicated.COVER);
+
+    assertEquals(diff.getUpdatedApis(), List.of(UNCHANGED_API));
+    assertEquals(diff.getUpdatedComps(), List.of(UNCHANGED_COMP));
+    assertEquals(updatedApiIds, Set.of(editedApi.getId()));
+    assertEquals(updatedCompIds, Set.of(editedComp.getId()));
+    assertEquals(api(UNCHANGED_API).getSummary(), "List pets");
+    assertEquals(api(UNCHANGED_API).getContentHash(), editedApiHash);
+    assertEquals(comp(UNCHANGED_COMP).getContentHash(), editedCompHash);
+  }
+
+  private OpenApiReplaceDiff replace(OpenAPI openApi, StrategyWhenDuplicated strategy) {
+    updatedApiIds.clear();
+    updatedCompIds.clear();
+    return servicesSchemaCmd.openapiReplace(SERVICE_ID, true, openApi, strategy, true,
+        ApiSource.SYNC, ApiImportSource.OPENAPI, false, null);
+  }
+
+  /**
+   * Pets document, the changed one adds a put operation and a component, changes the post
+   * operation and the error component, and removes the delete operation and a component.
+   */
+  private static OpenAPI document(boolean changed) {
+    PathItem pets = new PathItem()
+        .get(operation("List pets"))
+        .post(operation(changed ? "Add a pet or pets" : "Add a pet"));
+    if (changed) {
+      pets.put(operation("Replace pets"));
+    } else {
+      pets.delete(operation("Delete pets"));
+    }
+    Components components = new Components()
+        .addSchemas("Pet", new Schema<>().type("object").description("Pet"))
+        .addSchemas("Error", new Schema<>().type("object")
+            .description(changed ? "Error with code" : "Error"));
+    if (changed) {
+      components.addSchemas("New", new Schema<>().type("string"));
+    } else {
+      components.addSchemas("Old", new Schema<>().type("string"));
+    }
+    return new OpenAPI().openapi("3.0.1").info(new Info().title("Pets").version("1.0"))
+        .paths(new Paths().addPathItem("/pets", pets)).components(components);
+  }
+
+  private static Operation operation(String summary) {
+    return new Operation().summary(summary)
+        .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK")));
+  }
+
+  private Apis api(String operationKey) {
+    return apisRows.values().stream().filter(x -> operationKey.equals(operationKey(x)))
+        .findFirst().orElseThrow();
+  }
+
+  private ServicesComp comp(String ref) {
+    return compRows.values().stream().filter(x -> ref.equals(x.getRef())).findFirst()
+        .orElseThrow();
+  }
+
+  private static String operationKey(Apis apis) {
+    return apis.getMethod().name().toLowerCase() + ":" + apis.getEndpoint();
+  }
+
+  private Object handleApisRepo(String method, Object[] args) {
+    switch (method) {
+      case "findOperationHashByServiceId":
+        return apisRows.values().stream().map(x -> (ApisOperationHash) new ApisOperationHash() {
+          @Override
+          public Long getId() {
+            return x.getId();
+          }
+
+          @Override
+          public String getMethod() {
+            return x.getMethod().name();
+          }
+
+          @Override
+          public String getEndpoint() {
+            return x.getEndpoint();
+          }
+
+          @Override
+          public String getContentHash() {
+            return x.getContentHash();
+          }
+
+          @Override
+          public String getSyncName() {
+            return x.getSyncName();
+          }
+        }).toList();
+      case "findAllById":
+        return ((Collection<?>) args[0]).stream().map(apisRows::get).toList();
+      case "updateContentHashById":
+        apisRows.get((Long) args[0]).setContentHash((String) args[1]);
+        return null;
+      default:
+        throw new UnsupportedOperationException(method);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object handleApisCmd(String method, Object[] args) {
+    switch (method) {
+      case "add":
+        for (Apis apis : (List<Apis>) args[0]) {
+          apisRows.put(apis.setId(nextId.incrementAndGet()).getId(), apis);
+        }
+        return List.of();
+      case "updateSyncApis":
+        Map<String, Apis> updatedApisDbMap = (Map<String, Apis>) args[0];
+        Map<String, Apis> openApisMap = (Map<String, Apis>) args[1];
+        updatedApisDbMap.forEach((key, apisDb) -> {
+          ApisConverter.assembleSchemaToUpdateApis(apisDb, openApisMap.get(key));
+          updatedApiIds.add(apisDb.getId());
+        });
+        return null;
+      case "delete":
+        ((Collection<Long>) args[0]).forEach(apisRows::remove);
+        return null;
+      default:
+        throw new UnsupportedOperationException(method);
+    }
+  }
+
+  private Object handleCompRepo(String method, Object[] args) {
+    switch (method) {
+      case "findHashByServiceId":
+        return compRows.values().stream().map(x -> (ServicesCompHash) new ServicesCompHash() {
+          @Override
+          public Long getId() {
+            return x.getId();
+          }
+
+          @Override
+          public String getRef() {
+            return x.getRef();
+          }
+
+          @Override
+          public String getContentHash() {
+            return x.getContentHash();
+          }
+        }).toList();
+      case "findAllById":
+        return ((Collection<?>) args[0]).stream().map(compRows::get).toList();
+      case "updateContentHashById":
+        compRows.get((Long) args[0]).setContentHash((String) args[1]);
+        return null;
+      case "deleteByServiceIdAndRefIn":
+        compRows.values().removeIf(x -> ((Collection<?>) args[1]).contains(x.getRef()));
+        return null;
+      default:
+        throw new UnsupportedOperationException(method);
+    }
+  }
+
+}
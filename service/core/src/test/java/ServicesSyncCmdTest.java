@@ -0,0 +1,184 @@
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import cloud.xcan.angus.core.tester.application.cmd.services.ServicesSchemaCmd;
+import cloud.xcan.angus.core.tester.application.cmd.services.impl.ServicesSyncCmdImpl;
+import cloud.xcan.angus.core.tester.application.query.services.ServicesSyncQuery;
+import cloud.xcan.angus.core.tester.domain.services.schema.OpenApiReplaceDiff;
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSync;
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncHistory;
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncHistoryRepo;
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncOutcome;
+import cloud.xcan.angus.core.tester.domain.services.sync.ServicesSyncRepo;
+import cloud.xcan.angus.core.tester.infra.config.ServicesSyncConfig.ServicesSyncProperties;
+import cloud.xcan.angus.core.tester.infra.util.OpenApiDocFetcher.FetchResult;
+import cloud.xcan.angus.idgen.uid.impl.CachedUidGenerator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * A document answered with 304 or with the content hash of the last applied one is not parsed
+ * and applied again, and the histories are trimmed to exactly the reserved number.
+ */
+public class ServicesSyncCmdTest {
+
+  private static final long SERVICE_ID = 1L;
+  private static final String HASH = "e3b0c44298fc1c149afbf4c8996fb924";
+  private static final String ETAG = "\"v1\"";
+  private static final String LAST_MODIFIED = "Wed, 21 Oct 2015 07:28:00 GMT";
+
+  private final List<ServicesSyncHistory> histories = new ArrayList<>();
+  private final List<Long> reservedOffsets = new ArrayList<>();
+  private final AtomicInteger replaceNum = new AtomicInteger();
+  private final AtomicLong nextId = new AtomicLong();
+  private final ServicesSyncProperties properties = new ServicesSyncProperties();
+
+  private FetchResult fetched;
+  private Boolean fetchedConditional;
+  private ServicesSyncCmdImpl servicesSyncCmd;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    histories.clear();
+    reservedOffsets.clear();
+    replaceNum.set(0);
+    properties.setHistoryReservedNum(200);
+    fetchedConditional = null;
+
+    servicesSyncCmd = new ServicesSyncCmdImpl();
+    ServicesSyncQuery servicesSyncQuery = Fakes.fake(ServicesSyncQuery.class, (method, args) -> {
+      if (!"checkAndFetchOpenApiContent".equals(method)) {
+        throw new UnsupportedOperationException(method);
+      }
+      fetchedConditional = (Boolean) args[1];
+      return fetched;
+    });
+    Fakes.inject(servicesSyncCmd, "servicesSyncQuery", servicesSyncQuery);
+    ServicesSchemaCmd servicesSchemaCmd = Fakes.fake(ServicesSchemaCmd.class, (method, args) -> {
+      if (!"openapiReplace".equals(method)) {
+        throw new UnsupportedOperationException(method);
+      }
+      replaceNum.incrementAndGet();
+      OpenApiReplaceDiff diff = new OpenApiReplaceDiff();
+      diff.getUpdatedApis().add("GET /pets");
+      return diff;
+    });
+    Fakes.inject(servicesSyncCmd, "servicesSchemaCmd", servicesSchemaCmd);
+    ServicesSyncRepo servicesSyncRepo = Fakes.fake(ServicesSyncRepo.class, (method, args) -> {
+      if (!"save".equals(method)) {
+        throw new UnsupportedOperationException(method);
+      }
+      return args[0];
+    });
+    Fakes.inject(servicesSyncCmd, "servicesSyncRepo", servicesSyncRepo);
+    Fakes.inject(servicesSyncCmd, "servicesSyncHistoryRepo",
+        Fakes.fake(ServicesSyncHistoryRepo.class, (method, args) -> switch (method) {
+          case "save" -> {
+            histories.add((ServicesSyncHistory) args[0]);
+            yield args[0];
+          }
+          case "findOldestReservedId" -> {
+            reservedOffsets.add((Long) args[1]);
+            yield null;
+          }
+          default -> throw new UnsupportedOperationException(method);
+        }));
+    Fakes.inject(servicesSyncCmd, "servicesSyncProperties", properties);
+    Fakes.inject(servicesSyncCmd, "uidGenerator", new CachedUidGenerator() {
+      @Override
+      public long getUID() {
+        return nextId.incrementAndGet();
+      }
+    });
+  }
+
+  @Test
+  public void testNotModifiedIsNotApplied() {
+    ServicesSync sync = newSync();
+    fetched = new FetchResult(304, null, null, ETAG, LAST_MODIFIED);
+
+    servicesSyncCmd.sync0(sync, SERVICE_ID, true);
+
+    assertEquals(fetchedConditional, Boolean.TRUE);
+    assertEquals(replaceNum.get(), 0);
+    ServicesSyncHistory history = history();
+    assertEquals(history.getOutcome(), ServicesSyncOutcome.NOT_MODIFIED);
+    assertEquals(history.getContentHash(), HASH);
+    assertTrue(sync.getSyncSuccess());
+    assertEquals(sync.getContentHash(), HASH);
+    assertEquals(sync.getEtag(), ETAG);
+  }
+
+  @Test
+  public void testUnchangedHashIsNotApplied() {
+    ServicesSync sync = newSync();
+    // The server does not support validators
+    fetched = new FetchResult(200, "{}", HASH, null, null);
+
+    servicesSyncCmd.sync0(sync, SERVICE_ID, true);
+
+    assertEquals(replaceNum.get(), 0);
+    assertEquals(history().getOutcome(), ServicesSyncOutcome.UNCHANGED);
+    assertTrue(sync.getSyncSuccess());
+    assertNull(sync.getEtag());
+  }
+
+  @Test
+  public void testManualSyncAppliesUnchangedHash() {
+    ServicesSync sync = newSync();
+    fetched = new FetchResult(200, "{}", HASH, null, null);
+
+    servicesSyncCmd.sync0(sync, SERVICE_ID, false);
+
+    assertEquals(fetchedConditional, Boolean.FALSE);
+    assertEquals(replaceNum.get(), 1);
+    ServicesSyncHistory history = history();
+    assertEquals(history.getOutcome(), ServicesSyncOutcome.UPDATED);
+    assertEquals(history.getUpdatedNum(), Integer.valueOf(1));
+  }
+
+  @Test
+  public void testChangedHashIsApplied() {
+    ServicesSync sync = newSync();
+    String changedHash = "5d41402abc4b2a76b9719d911017c592";
+    fetched = new FetchResult(200, "{}", changedHash, "\"v2\"", null);
+
+    servicesSyncCmd.sync0(sync, SERVICE_ID, true);
+
+    assertEquals(replaceNum.get(), 1);
+    assertEquals(history().getOutcome(), ServicesSyncOutcome.UPDATED);
+    assertEquals(sync.getContentHash(), changedHash);
+    assertEquals(sync.getEtag(), "\"v2\"");
+  }
+
+  @Test
+  public void testReservedHistoriesOffset() {
+    fetched = new FetchResult(304, null, null, ETAG, LAST_MODIFIED);
+    properties.setHistoryReservedNum(3);
+    servicesSyncCmd.sync0(newSync(), SERVICE_ID, true);
+    // The 3rd latest history is the oldest reserved one
+    assertEquals(reservedOffsets, List.of(2L));
+
+    properties.setHistoryReservedNum(0);
+    servicesSyncCmd.sync0(newSync(), SERVICE_ID, true);
+    assertEquals(reservedOffsets, List.of(2L, 0L));
+  }
+
+  private ServicesSync newSync() {
+    return new ServicesSync().setId(10L).setServiceId(SERVICE_ID).setName("pets")
+        .setApiDocsUrl("http://127.0.0.1/v3/api-docs").setSyncInterval(60)
+        .setDeleteWhenNotExisted(false).setEtag(ETAG).setLastModified(LAST_MODIFIED)
+        .setContentHash(HASH);
+  }
+
+  private ServicesSyncHistory history() {
+    assertEquals(histories.size(), 1);
+    return histories.get(0);
+  }
+
+}
@@ -0,0 +1,112 @@
+import static cloud.xcan.angus.core.tester.infra.metricsds.interceptor.ShardingTableInterceptor.matchTableName;
+
+import cloud.xcan.angus.core.jpa.interceptor.TenantInterceptor;
+import cloud.xcan.angus.core.tester.infra.metricsds.MetricsDataSourceContextHolder;
+import cloud.xcan.angus.core.tester.infra.metricsds.MetricsDataSourceContextHolder.Shard;
+import cloud.xcan.angus.core.tester.infra.metricsds.TableSchemaManager;
+import cloud.xcan.angus.core.tester.infra.metricsds.interceptor.ShardingTableInterceptor;
+import java.lang.reflect.Field;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Latency of the cached sql rewriting and of the previous rewriting of every statement, which
+ * matched the table name by regex and replaced it by {@code replaceAll}.
+ * <p>
+ * It is not a unit test and is not run by surefire, run it by {@link #main} from the test
+ * classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShardingTableInterceptorBenchmark {
+
+  private static final long TENANT_ID = 1001L;
+
+  @Param({"1", "500"})
+  private int rows;
+
+  private final TenantInterceptor tenantInterceptor = new TenantInterceptor();
+  private ShardingTableInterceptor interceptor;
+  private String sql;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    interceptor = new ShardingTableInterceptor();
+    TableSchemaManager schemaManager = new TableSchemaManager();
+    shardTables(schemaManager).add("exec_sample-" + TENANT_ID);
+    Field field = ShardingTableInterceptor.class.getDeclaredField("schemaManager");
+    field.setAccessible(true);
+    field.set(interceptor, schemaManager);
+    MetricsDataSourceContextHolder.setShard(new Shard().dataSource("metrics0DataSource")
+        .tenantId(TENANT_ID).tableSecondIndex(-1));
+    sql = insertSql(rows);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    MetricsDataSourceContextHolder.clear();
+  }
+
+  @Benchmark
+  public String cached() {
+    return interceptor.inspect(sql);
+  }
+
+  @Benchmark
+  public String previous() {
+    String tableName = matchTableName(sql);
+    if (tableName == null) {
+      return tenantInterceptor.inspect(sql);
+    }
+    tableName = tableName.substring(0, tableName.indexOf(" "));
+    if (!ShardingTableInterceptor.shardingTables.contains(tableName)) {
+      return tenantInterceptor.inspect(sql);
+    }
+    String realTabledName = tableName + "-" + TENANT_ID;
+    return tenantInterceptor.inspect(sql.replaceAll(tableName, "`" + realTabledName + "`"));
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(ShardingTableInterceptorBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  private static String insertSql(int rows) {
+    StringJoiner values = new StringJoiner(", ");
+    int position = 1;
+    for (int i = 0; i < rows; i++) {
+      values.add("(?" + position++ + ", ?" + position++ + ", ?" + position++ + ", ?"
+          + position++ + ")");
+    }
+    return "insert into exec_sample (id, exec_id, tenant_id, timestamp) values " + values;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Set<String> shardTables(TableSchemaManager schemaManager) throws Exception {
+    Field field = TableSchemaManager.class.getDeclaredField("CREATED_SHARD_TABLES");
+    field.setAccessible(true);
+    return (Set<String>) field.get(schemaManager);
+  }
+
+}
@@ -0,0 +1,109 @@
+import static cloud.xcan.angus.core.tester.infra.metricsds.interceptor.ShardingTableInterceptor.matchTableName;
+import static org.testng.Assert.assertEquals;
+
+import cloud.xcan.angus.core.jpa.interceptor.TenantInterceptor;
+import cloud.xcan.angus.core.tester.infra.metricsds.MetricsDataSourceContextHolder;
+import cloud.xcan.angus.core.tester.infra.metricsds.MetricsDataSourceContextHolder.Shard;
+import cloud.xcan.angus.core.tester.infra.metricsds.TableSchemaManager;
+import cloud.xcan.angus.core.tester.infra.metricsds.interceptor.ShardingTableInterceptor;
+import java.lang.reflect.Field;
+import java.util.Set;
+import java.util.StringJoiner;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Compare the cached sql rewriting with the previous rewriting of every statement, which matched
+ * the table name by regex and replaced it by {@code replaceAll}. The latency of both is measured
+ * by {@link ShardingTableInterceptorBenchmark}.
+ */
+public class ShardingTableInterceptorTest {
+
+  private static final long TENANT_ID = 1001L;
+  private static final long OTHER_TENANT_ID = 1002L;
+  private static final int ROWS = 500;
+
+  private final TenantInterceptor tenantInterceptor = new TenantInterceptor();
+  private ShardingTableInterceptor interceptor;
+
+  @BeforeClass
+  public void setUp() throws Exception {
+    interceptor = new ShardingTableInterceptor();
+    TableSchemaManager schemaManager = new TableSchemaManager();
+    shardTables(schemaManager).add("exec_sample-" + TENANT_ID);
+    shardTables(schemaManager).add("exec_sample_rollup-" + TENANT_ID);
+    Field field = ShardingTableInterceptor.class.getDeclaredField("schemaManager");
+    field.setAccessible(true);
+    field.set(interceptor, schemaManager);
+    MetricsDataSourceContextHolder.setShard(new Shard().dataSource("metrics0DataSource")
+        .tenantId(TENANT_ID).tableSecondIndex(-1));
+  }
+
+  @AfterClass
+  public void tearDown() {
+    MetricsDataSourceContextHolder.clear();
+  }
+
+  @Test
+  public void testRewriteSameAsPrevious() {
+    for (String sql : new String[]{insertSql(ROWS), insertSql(1),
+        "select * from exec_sample where exec_id = ?1 and timestamp >= ?2",
+        "update exec_sample_rollup set finish = true where exec_id = ?1",
+        "delete from exec_sample where exec_id = ?1",
+        "select * from shard_tables where table_name like ?1"}) {
+      // Twice to compare both the missed and the hit sql
+      assertEquals(interceptor.inspect(sql), previousInspect(sql));
+      assertEquals(interceptor.inspect(sql), previousInspect(sql));
+    }
+  }
+
+  @Test
+  public void testRewriteByShard() throws Exception {
+    String sql = "delete from exec_sample where exec_id = ?1";
+    assertEquals(interceptor.inspect(sql), previousInspect(sql));
+    try {
+      // The same template sql of another tenant is rewritten to its own table
+      shardTables(interceptor.getSchemaManager()).add("exec_sample-" + OTHER_TENANT_ID);
+      MetricsDataSourceContextHolder.setShard(new Shard().dataSource("metrics0DataSource")
+          .tenantId(OTHER_TENANT_ID).tableSecondIndex(-1));
+      assertEquals(interceptor.inspect(sql), tenantInterceptor.inspect(
+          "delete from `exec_sample-" + OTHER_TENANT_ID + "` where exec_id = ?1"));
+    } finally {
+      MetricsDataSourceContextHolder.setShard(new Shard().dataSource("metrics0DataSource")
+          .tenantId(TENANT_ID).tableSecondIndex(-1));
+    }
+    assertEquals(interceptor.inspect(sql), previousInspect(sql));
+  }
+
+  private String previousInspect(String sql) {
+    String tableName = matchTableName(sql);
+    if (tableName == null) {
+      return tenantInterceptor.inspect(sql);
+    }
+    tableName = tableName.substring(0, tableName.indexOf(" "));
+    if (!ShardingTableInterceptor.shardingTables.contains(tableName)) {
+      return tenantInterceptor.inspect(sql);
+    }
+    String realTabledName = tableName + "-" + TENANT_ID;
+    return tenantInterceptor.inspect(sql.replaceAll(tableName, "`" + realTabledName + "`"));
+  }
+
+  private static String insertSql(int rows) {
+    StringJoiner values = new StringJoiner(", ");
+    int position = 1;
+    for (int i = 0; i < rows; i++) {
+      values.add("(?" + position++ + ", ?" + position++ + ", ?" + position++ + ", ?"
+          + position++ + ")");
+    }
+    return "insert into exec_sample (id, exec_id, tenant_id, timestamp) values " + values;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Set<String> shardTables(TableSchemaManager schemaManager) throws Exception {
+    Field field = TableSchemaManager.class.getDeclaredField("CREATED_SHARD_TABLES");
+    field.setAccessible(true);
+    return (Set<String>) field.get(schemaManager);
+  }
+
+}
@@ -0,0 +1,259 @@
+import static cloud.xcan.angus.core.tester.domain.issue.count.TaskCounter.PROJECT_SPRINT_ID;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import cloud.xcan.angus.core.tester.application.cmd.issue.impl.TaskCounterCmdImpl;
+import cloud.xcan.angus.core.tester.domain.issue.Task;
+import cloud.xcan.angus.core.tester.domain.issue.TaskStatus;
+import cloud.xcan.angus.core.tester.domain.issue.TaskType;
+import cloud.xcan.angus.core.tester.domain.issue.count.TaskCount;
+import cloud.xcan.angus.core.tester.domain.issue.count.TaskCounter;
+import cloud.xcan.angus.core.tester.domain.issue.count.TaskCounterRepo;
+import cloud.xcan.angus.core.tester.infra.config.TaskCounterConfig.TaskCounterProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Apply task changes to an in-memory counter table, the counters must always equal a recount of
+ * the tasks.
+ */
+public class TaskCounterCmdTest {
+
+  private static final long PROJECT_ID = 1L;
+
+  private static final Pattern ASSIGNMENT = Pattern.compile("(\\w+) = \\1 \\+ (-?[\\d.]+)");
+  private static final Pattern CONDITION = Pattern.compile(
+      "project_id = (-?\\d+) AND sprint_id = (-?\\d+)");
+
+  /**
+   * Project ID and sprint ID to the columns of task_counter.
+   */
+  private final Map<List<Long>, Map<String, BigDecimal>> table = new HashMap<>();
+  private final List<String> updates = new ArrayList<>();
+  private final Map<List<Long>, TaskCounter> savedCounters = new HashMap<>();
+  private final TaskCounterProperties properties = new TaskCounterProperties();
+
+  private TaskCounterCmdImpl taskCounterCmd;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    table.clear();
+    updates.clear();
+    savedCounters.clear();
+    properties.setEnabled(true);
+    properties.setMaxStalenessMinutes(60);
+
+    taskCounterCmd = new TaskCounterCmdImpl();
+    Fakes.inject(taskCounterCmd, "taskCounterProperties", properties);
+    EntityManager entityManager = Fakes.fake(EntityManager.class, (method, args) -> {
+      if (!"createNativeQuery".equals(method)) {
+        throw new UnsupportedOperationException(method);
+      }
+      String sql = (String) args[0];
+      return Fakes.fake(Query.class, (method0, args0) -> {
+        if (!"executeUpdate".equals(method0)) {
+          throw new UnsupportedOperationException(method0);
+        }
+        return execute(sql);
+      });
+    });
+    Fakes.inject(taskCounterCmd, "entityManager", entityManager);
+    Fakes.inject(taskCounterCmd, "taskCounterRepo",
+        Fakes.fake(TaskCounterRepo.class, (method, args) -> switch (method) {
+          case "findByProjectIdAndSprintId" -> savedCounters.get(List.of(args[0], args[1]));
+          case "save" -> {
+            TaskCounter counter = (TaskCounter) args[0];
+            savedCounters.put(List.of(counter.getProjectId(), counter.getSprintId()), counter);
+            yield counter;
+          }
+          default -> throw new UnsupportedOperationException(method);
+        }));
+  }
+
+  @Test
+  public void testChangesKeepCountersEqualToRecount() {
+    Task t1 = task(1L, 10L, TaskStatus.PENDING, TaskType.TASK).setEvalWorkload(bd("2"));
+    Task t2 = task(2L, 10L, TaskStatus.IN_PROGRESS, TaskType.BUG).setOverdue(true)
+        .setFailNum(1).setTotalNum(2);
+    Task t3 = task(3L, 11L, TaskStatus.COMPLETED, TaskType.STORY).setActualWorkload(bd("3"));
+    Map<Long, Task> tasks = new TreeMap<>(Map.of(1L, t1, 2L, t2, 3L, t3));
+    seed(tasks.values(), 10L, 11L);
+
+    // Move to another sprint and complete
+    Task t1Moved = task(1L, 11L, TaskStatus.COMPLETED, TaskType.TASK).setEvalWorkload(bd("2"))
+        .setActualWorkload(bd("1.5"));
+    taskCounterCmd.update0(TaskCounter.of(t1), TaskCounter.of(t1Moved));
+    tasks.put(1L, t1Moved);
+    // Delete
+    taskCounterCmd.update0(TaskCounter.of(t2), null);
+    tasks.remove(2L);
+    // Add
+    Task t4 = task(4L, 10L, TaskStatus.PENDING, TaskType.DESIGN);
+    taskCounterCmd.update0(null, TaskCounter.of(t4));
+    tasks.put(4L, t4);
+    // Batch reopen and change type
+    Task t3Reopened = task(3L, 11L, TaskStatus.PENDING, TaskType.BUG).setActualWorkload(bd("3"));
+    Task t4Changed = task(4L, 10L, TaskStatus.IN_PROGRESS, TaskType.REQUIREMENT);
+    taskCounterCmd.update0(List.of(TaskCounter.of(t3), TaskCounter.of(t4)),
+        List.of(TaskCounter.of(t3Reopened), TaskCounter.of(t4Changed)));
+    tasks.put(3L, t3Reopened);
+    tasks.put(4L, t4Changed);
+
+    assertEquals(nonZero(table), nonZero(recount(tasks.values())));
+  }
+
+  @Test
+  public void testUnchangedContributionIsNotUpdated() {
+    Task task = task(1L, 10L, TaskStatus.PENDING, TaskType.TASK);
+    seed(List.of(task), 10L);
+
+    // e.g. the name is changed only
+    taskCounterCmd.update0(TaskCounter.of(task), TaskCounter.of(task));
+
+    assertTrue(updates.isEmpty());
+  }
+
+  @Test
+  public void testDisabledCounterIsNotUpdated() {
+    properties.setEnabled(false);
+
+    taskCounterCmd.update0(null, TaskCounter.of(task(1L, 10L, TaskStatus.PENDING,
+        TaskType.TASK)));
+
+    assertTrue(updates.isEmpty());
+  }
+
+  @Test
+  public void testStaleCounterIsRecounted() {
+    AtomicInteger recountNum = new AtomicInteger();
+    TaskCount recounted = new TaskCount();
+    recounted.setPendingNum(5);
+    TaskCounter fresh = new TaskCounter().setProjectId(PROJECT_ID).setSprintId(PROJECT_SPRINT_ID)
+        .setPendingNum(3).setModifiedDate(LocalDateTime.now().minusMinutes(1));
+    savedCounters.put(List.of(PROJECT_ID, PROJECT_SPRINT_ID), fresh);
+
+    TaskCount count = taskCounterCmd.findOrRecount(PROJECT_ID, null, () -> {
+      recountNum.incrementAndGet();
+      return recounted;
+    });
+    assertEquals(count.getPendingNum(), 3);
+    assertEquals(recountNum.get(), 0);
+
+    fresh.setModifiedDate(LocalDateTime.now().minusMinutes(properties.getMaxStalenessMinutes()
+        + 1));
+    count = taskCounterCmd.findOrRecount(PROJECT_ID, null, () -> {
+      recountNum.incrementAndGet();
+      return recounted;
+    });
+    assertEquals(count.getPendingNum(), 5);
+    assertEquals(recountNum.get(), 1);
+    // The recount is saved for the next reads
+    assertEquals(savedCounters.get(List.of(PROJECT_ID, PROJECT_SPRINT_ID)).getPendingNum(), 5);
+  }
+
+  private int execute(String sql) {
+    updates.add(sql);
+    Matcher condition = CONDITION.matcher(sql);
+    assertTrue(condition.find(), sql);
+    Map<String, BigDecimal> row = table.get(List.of(Long.valueOf(condition.group(1)),
+        Long.valueOf(condition.group(2))));
+    if (row == null) {
+      return 0;
+    }
+    Matcher assignment = ASSIGNMENT.matcher(sql);
+    while (assignment.find()) {
+      row.merge(assignment.group(1), new BigDecimal(assignment.group(2)), BigDecimal::add);
+    }
+    return 1;
+  }
+
+  private void seed(Iterable<Task> tasks, Long... sprintIds) {
+    table.put(List.of(PROJECT_ID, PROJECT_SPRINT_ID), new HashMap<>());
+    for (Long sprintId : sprintIds) {
+      table.put(List.of(PROJECT_ID, sprintId), new HashMap<>());
+    }
+    recount(tasks).forEach((key, columns) -> table.get(key).putAll(columns));
+  }
+
+  private static Map<List<Long>, Map<String, BigDecimal>> recount(Iterable<Task> tasks) {
+    Map<List<Long>, Map<String, BigDecimal>> counts = new HashMap<>();
+    for (Task task : tasks) {
+      TaskCounter counter = TaskCounter.of(task);
+      add(counts.computeIfAbsent(List.of(PROJECT_ID, PROJECT_SPRINT_ID), k -> new HashMap<>()),
+          counter);
+      add(counts.computeIfAbsent(List.of(PROJECT_ID, task.getSprintId()), k -> new HashMap<>()),
+          counter);
+    }
+    return counts;
+  }
+
+  private static void add(Map<String, BigDecimal> columns, TaskCounter counter) {
+    Map<String, BigDecimal> values = new HashMap<>();
+    values.put("pending_num", bd(counter.getPendingNum()));
+    values.put("in_progress_num", bd(counter.getInProgressNum()));
+    values.put("confirming_num", bd(counter.getConfirmingNum()));
+    values.put("completed_num", bd(counter.getCompletedNum()));
+    values.put("canceled_num", bd(counter.getCanceledNum()));
+    values.put("requirement_num", bd(counter.getRequirementNum()));
+    values.put("story_num", bd(counter.getStoryNum()));
+    values.put("task_num", bd(counter.getTaskNum()));
+    values.put("bug_num", bd(counter.getBugNum()));
+    values.put("design_num", bd(counter.getDesignNum()));
+    values.put("overdue_num", bd(counter.getOverdueNum()));
+    values.put("one_time_passed_num", bd(counter.getOneTimePassedNum()));
+    values.put("total_num", bd(counter.getTotalNum()));
+    values.put("fail_num", bd(counter.getFailNum()));
+    values.put("eval_workload", counter.getEvalWorkload());
+    values.put("actual_workload", counter.getActualWorkload());
+    values.put("completed_workload", counter.getCompletedWorkload());
+    values.forEach((column, value) -> columns.merge(column, value, BigDecimal::add));
+  }
+
+  /**
+   * Drop zero columns and compare the numbers regardless of their scales.
+   */
+  private static Map<List<Long>, Map<String, BigDecimal>> nonZero(
+      Map<List<Long>, Map<String, BigDecimal>> counts) {
+    Map<List<Long>, Map<String, BigDecimal>> result = new HashMap<>();
+    counts.forEach((key, columns) -> {
+      Map<String, BigDecimal> nonZero = new TreeMap<>();
+      columns.forEach((column, value) -> {
+        if (value.signum() != 0) {
+          nonZero.put(column, value.stripTrailingZeros());
+        }
+      });
+      if (!nonZero.isEmpty()) {
+        result.put(key, nonZero);
+      }
+    });
+    return result;
+  }
+
+  private static Task task(Long id, Long sprintId, TaskStatus status, TaskType type) {
+    Task task = new Task().setProjectId(PROJECT_ID).setSprintId(sprintId).setStatus(status)
+        .setTaskType(type);
+    task.setId(id);
+    return task;
+  }
+
+  private static BigDecimal bd(String value) {
+    return new BigDecimal(value);
+  }
+
+  private static BigDecimal bd(long value) {
+    return BigDecimal.valueOf(value);
+  }
+
+}
@@ -0,0 +1,200 @@
+import static cloud.xcan.angus.api.commonlink.CombinedTargetType.TASK;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import cloud.xcan.angus.core.tester.application.cmd.project.impl.TreeClosureCmdImpl;
+import cloud.xcan.angus.core.tester.domain.issue.TaskRepo;
+import cloud.xcan.angus.core.tester.domain.project.tree.TreeClosure;
+import cloud.xcan.angus.core.tester.domain.project.tree.TreeClosureRepo;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Re-parenting a task moves its whole sub tree in the closure index, the index must always equal
+ * an index rebuilt from the parent ids.
+ */
+public class TreeClosureMoveTest {
+
+  private static final long PROJECT_ID = 1L;
+
+  /**
+   * Task id to parent task id, like the parent_task_id column of task.
+   */
+  private final Map<Long, Long> parentIds = new HashMap<>();
+  /**
+   * Rows of tree_closure.
+   */
+  private final List<TreeClosure> closures = new ArrayList<>();
+  private final AtomicLong nextId = new AtomicLong();
+  private final AtomicInteger rebuildNum = new AtomicInteger();
+
+  private TreeClosureCmdImpl treeClosureCmd;
+
+  @BeforeMethod
+  public void setUp() throws Exception {
+    parentIds.clear();
+    closures.clear();
+    rebuildNum.set(0);
+
+    treeClosureCmd = new TreeClosureCmdImpl();
+    Fakes.inject(treeClosureCmd, "taskRepo", Fakes.fake(TaskRepo.class, (method, args) -> {
+      if (!"findIdAndParentTaskIdByProjectId".equals(method)) {
+        throw new UnsupportedOperationException(method);
+      }
+      rebuildNum.incrementAndGet();
+      List<Object[]> nodes = new ArrayList<>();
+      parentIds.forEach((id, parentId) -> nodes.add(new Object[]{id, parentId}));
+      return nodes;
+    }));
+    Fakes.inject(treeClosureCmd, "treeClosureRepo", Fakes.fake(TreeClosureRepo.class,
+        this::handleClosureRepo));
+
+    // 1
+    // ├── 2
+    // │   └── 3
+    // │       └── 4
+    // └── 5
+    // 6
+    parentIds.put(1L, null);
+    parentIds.put(2L, 1L);
+    parentIds.put(3L, 2L);
+    parentIds.put(4L, 3L);
+    parentIds.put(5L, 1L);
+    parentIds.put(6L, null);
+    treeClosureCmd.rebuild0(TASK, PROJECT_ID);
+    rebuildNum.set(0);
+  }
+
+  @Test
+  public void testReparentMovesDescendants() {
+    // Task 3 is updated to a sub task of 6
+    parentIds.put(3L, 6L);
+    treeClosureCmd.move0(TASK, PROJECT_ID, List.of(3L), 6L);
+
+    assertEquals(descendantIds(1L), Set.of(2L, 5L));
+    assertEquals(descendantIds(2L), Set.of());
+    assertEquals(descendantIds(6L), Set.of(3L, 4L));
+    assertEquals(depth(6L, 4L), 2);
+    // Moved without rebuilding the tree
+    assertEquals(rebuildNum.get(), 0);
+    assertEquals(pairs(), rebuiltPairs());
+  }
+
+  @Test
+  public void testReparentToRoot() {
+    // Task 2 is replaced without parent
+    parentIds.put(2L, null);
+    treeClosureCmd.move0(TASK, PROJECT_ID, List.of(2L), null);
+
+    assertEquals(descendantIds(1L), Set.of(5L));
+    assertEquals(descendantIds(2L), Set.of(3L, 4L));
+    assertEquals(pairs(), rebuiltPairs());
+  }
+
+  @Test
+  public void testReparentUnderSibling() {
+    // Task 2 with its sub tree is moved under its sibling 5
+    parentIds.put(2L, 5L);
+    treeClosureCmd.move0(TASK, PROJECT_ID, List.of(2L), 5L);
+
+    assertEquals(descendantIds(1L), Set.of(2L, 3L, 4L, 5L));
+    assertEquals(descendantIds(5L), Set.of(2L, 3L, 4L));
+    assertEquals(depth(1L, 4L), 4);
+    assertEquals(pairs(), rebuiltPairs());
+  }
+
+  @Test
+  public void testReparentUnderUnindexedParentRebuilds() {
+    // Task 7 is created before the index
+    parentIds.put(7L, null);
+    parentIds.put(3L, 7L);
+    treeClosureCmd.move0(TASK, PROJECT_ID, List.of(3L), 7L);
+
+    assertEquals(rebuildNum.get(), 1);
+    assertEquals(descendantIds(7L), Set.of(3L, 4L));
+    assertEquals(pairs(), rebuiltPairs());
+  }
+
+  private Set<Long> descendantIds(Long id) {
+    return closures.stream().filter(x -> x.getAncestorId().equals(id) && x.getDepth() > 0)
+        .map(TreeClosure::getDescendantId).collect(Collectors.toSet());
+  }
+
+  private int depth(Long ancestorId, Long descendantId) {
+    List<Integer> depths = closures.stream().filter(x -> x.getAncestorId().equals(ancestorId)
+        && x.getDescendantId().equals(descendantId)).map(TreeClosure::getDepth).toList();
+    assertEquals(depths.size(), 1);
+    return depths.get(0);
+  }
+
+  /**
+   * Ancestor, descendant and depth of the rows.
+   */
+  private Set<List<Long>> pairs() {
+    Set<List<Long>> pairs = closures.stream().map(x -> List.of(x.getAncestorId(),
+        x.getDescendantId(), (long) x.getDepth())).collect(Collectors.toSet());
+    assertEquals(pairs.size(), closures.size(), "Duplicated closure rows");
+    return pairs;
+  }
+
+  private Set<List<Long>> rebuiltPairs() {
+    List<TreeClosure> indexed = new ArrayList<>(closures);
+    treeClosureCmd.rebuild0(TASK, PROJECT_ID);
+    Set<List<Long>> rebuilt = pairs();
+    assertTrue(rebuilt.size() >= parentIds.size());
+    closures.clear();
+    closures.addAll(indexed);
+    return rebuilt;
+  }
+
+  private Object handleClosureRepo(String method, Object[] args) {
+    switch (method) {
+      case "findByTargetTypeAndAncestorId":
+        return closures.stream().filter(x -> x.getTargetType().equals(args[0])
+            && x.getAncestorId().equals(args[1])).toList();
+      case "findByTargetTypeAndDescendantIdIn":
+        return closures.stream().filter(x -> x.getTargetType().equals(args[0])
+            && ((Collection<?>) args[1]).contains(x.getDescendantId())).toList();
+      case "findDescendantIds":
+        return closures.stream().filter(x -> x.getTargetType().name().equals(args[0])
+                && ((Collection<?>) args[1]).contains(x.getAncestorId()) && x.getDepth() > 0)
+            .map(TreeClosure::getDescendantId).distinct().toList();
+      case "deleteOuterAncestors": {
+        Collection<?> subtreeIds = (Collection<?>) args[1];
+        closures.removeIf(x -> x.getTargetType().name().equals(args[0])
+            && subtreeIds.contains(x.getDescendantId())
+            && !subtreeIds.contains(x.getAncestorId()));
+        return null;
+      }
+      case "deleteByProjectId":
+        closures.removeIf(x -> x.getTargetType().name().equals(args[0])
+            && x.getProjectId().equals(args[1]));
+        return null;
+      default:
+        // Batch inserts of the closures
+        if (args != null && args.length == 1 && args[0] instanceof Iterable<?> entities) {
+          List<Object> inserted = new ArrayList<>();
+          for (Object entity : entities) {
+            TreeClosure closure = (TreeClosure) entity;
+            if (closure.getId() == null) {
+              closure.setId(nextId.incrementAndGet());
+            }
+            closures.add(closure);
+            inserted.add(closure);
+          }
+          return inserted;
+        }
+        throw new UnsupportedOperationException(method);
+    }
+  }
+
+}
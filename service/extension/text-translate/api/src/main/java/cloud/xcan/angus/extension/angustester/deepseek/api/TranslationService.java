@@ -2,6 +2,8 @@ package cloud.xcan.angus.extension.angustester.deepseek.api;
 
 import cloud.xcan.angus.plugin.api.ExtensionPoint;
 import cloud.xcan.angus.spec.locale.SupportedLanguage;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Translation service interface based on SPI mechanism
@@ -14,6 +16,20 @@ public interface TranslationService extends ExtensionPoint {
 
   String translate(String text, SupportedLanguage sourceLanguage, SupportedLanguage targetLanguage);
 
+  /**
+   * Translate many text segments in one call, translations are returned in the order of segments.
+   * <p>
+   * Providers that do not support batching translate the segments one by one.
+   */
+  default List<String> translate(List<String> segments, SupportedLanguage sourceLanguage,
+      SupportedLanguage targetLanguage) {
+    List<String> translations = new ArrayList<>(segments.size());
+    for (String segment : segments) {
+      translations.add(translate(segment, sourceLanguage, targetLanguage));
+    }
+    return translations;
+  }
+
   TranslationServiceProvider getProvider();
 
   void loadConfig() throws Exception;
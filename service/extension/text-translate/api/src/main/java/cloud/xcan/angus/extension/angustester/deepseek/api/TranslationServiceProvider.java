@@ -8,7 +8,7 @@ import cloud.xcan.angus.spec.locale.EnumValueMessage;
  */
 @EndpointRegister
 public enum TranslationServiceProvider implements EnumValueMessage<String> {
-  Aliyun, DeepSeek;
+  Aliyun, DeepSeek, Local;
 
   @Override
   public String getValue() {
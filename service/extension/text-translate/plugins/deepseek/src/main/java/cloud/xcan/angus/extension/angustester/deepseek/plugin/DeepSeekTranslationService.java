@@ -15,6 +15,8 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ThreadLocalRandom;
@@ -32,6 +34,9 @@ public class DeepSeekTranslationService implements TranslationService {
   private static final Logger log = LoggerFactory.getLogger(
       DeepSeekTranslationService.class.getName());
   private static final String DEFAULT_CONFIG_FILE = "deepseek-translation.properties";
+  private static final String BATCH_PROMPT = "The input is a JSON array of objects with the "
+      + "fields id and text, translate the text fields only and output only a JSON array of "
+      + "objects with the same ids in the same order, without any explanation.";
 
   private DeepSeekConfig config;
   private Setting settings;
@@ -76,6 +81,48 @@ public class DeepSeekTranslationService implements TranslationService {
     }
   }
 
+  /**
+   * Translate segments as one JSON array in a single chat completion, every segment is marked by
+   * its index. Falls back to translating the segments one by one when the model does not return
+   * the same markers in the same order, a merged or split segment would otherwise shift the
+   * translations of the following segments.
+   */
+  @Override
+  public List<String> translate(List<String> segments, SupportedLanguage sourceLanguage,
+      SupportedLanguage targetLanguage) {
+    if (segments.size() <= 1) {
+      return TranslationService.super.translate(segments, sourceLanguage, targetLanguage);
+    }
+
+    Callable<String> translationTask = () -> {
+      JSONArray input = new JSONArray();
+      for (int i = 0; i < segments.size(); i++) {
+        input.put(new JSONObject().put("id", i).put("text", segments.get(i)));
+      }
+      HttpRequest request = buildRequest(input.toString(),
+          MessageHolder.message(sourceLanguage.getMessageKey(), Locale.ENGLISH),
+          MessageHolder.message(targetLanguage.getMessageKey(), Locale.ENGLISH),
+          BATCH_PROMPT);
+      return executeRequest(request);
+    };
+
+    String content;
+    try {
+      content = executeWithRetry(translationTask);
+    } catch (Exception e) {
+      throw new RuntimeException("Translation failed after " + config.getMaxRetries() + " attempts",
+          e);
+    }
+
+    List<String> translations = parseSegments(content, segments);
+    if (translations == null) {
+      log.warn("Batch translation result does not match the {} segments, translate one by one",
+          segments.size());
+      return TranslationService.super.translate(segments, sourceLanguage, targetLanguage);
+    }
+    return translations;
+  }
+
   @Override
   public TranslationServiceProvider getProvider() {
     return TranslationServiceProvider.DeepSeek;
@@ -128,6 +175,11 @@ public class DeepSeekTranslationService implements TranslationService {
   }
 
   private HttpRequest buildRequest(String text, String sourceLanguage, String targetLanguage) {
+    return buildRequest(text, sourceLanguage, targetLanguage, null);
+  }
+
+  private HttpRequest buildRequest(String text, String sourceLanguage, String targetLanguage,
+      String extraPrompt) {
     JSONObject requestBody = new JSONObject();
     requestBody.put("model", "deepseek-chat");
 
@@ -136,6 +188,9 @@ public class DeepSeekTranslationService implements TranslationService {
     systemMessage.put("role", "system");
     String prompt = config.getPromptTemplate().replace("{sourceLanguage}", sourceLanguage);
     prompt = prompt.replace("{targetLanguage}", targetLanguage);
+    if (extraPrompt != null) {
+      prompt = prompt + " " + extraPrompt;
+    }
     systemMessage.put("content", prompt);
     messages.put(systemMessage);
 
@@ -183,6 +238,43 @@ public class DeepSeekTranslationService implements TranslationService {
         .asText();
   }
 
+  /**
+   * Parse the translated segments of batch, null when the count, the markers or the order of
+   * segments does not match the input segments, or a non-blank segment is translated to blank.
+   */
+  List<String> parseSegments(String content, List<String> inputs) {
+    if (content == null) {
+      return null;
+    }
+    String json = content.trim();
+    // Remove the markdown code fence that the model may wrap the array with
+    if (json.startsWith("```")) {
+      json = json.substring(json.indexOf('\n') + 1);
+      int end = json.lastIndexOf("```");
+      json = end >= 0 ? json.substring(0, end) : json;
+    }
+    try {
+      JsonNode root = jsonMapper.readTree(json);
+      if (!root.isArray() || root.size() != inputs.size()) {
+        return null;
+      }
+      List<String> segments = new ArrayList<>(root.size());
+      for (int i = 0; i < root.size(); i++) {
+        JsonNode id = root.get(i).path("id");
+        JsonNode text = root.get(i).path("text");
+        if (!id.canConvertToInt() || id.asInt() != i || !text.isTextual()
+            || (text.asText().isBlank() && !inputs.get(i).isBlank())) {
+          return null;
+        }
+        segments.add(text.asText());
+      }
+      return segments;
+    } catch (Exception e) {
+      log.warn("Parse batch translation result failed: {}", e.getMessage());
+      return null;
+    }
+  }
+
   public void setConfig(DeepSeekConfig config) {
     this.config = config;
   }
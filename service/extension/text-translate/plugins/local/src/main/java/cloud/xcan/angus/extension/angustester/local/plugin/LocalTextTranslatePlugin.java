@@ -0,0 +1,27 @@
+package cloud.xcan.angus.extension.angustester.local.plugin;
+
+
+import cloud.xcan.angus.plugin.core.Plugin;
+import cloud.xcan.angus.plugin.core.PluginWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LocalTextTranslatePlugin extends Plugin {
+
+  public final Logger log = LoggerFactory.getLogger(LocalTextTranslatePlugin.class);
+
+  public LocalTextTranslatePlugin(PluginWrapper wrapper) {
+    super(wrapper);
+  }
+
+  @Override
+  public void start() {
+    log.info("LocalTextTranslatePlugin is started");
+  }
+
+  @Override
+  public void stop() {
+    log.info("LocalTextTranslatePlugin is stopped");
+  }
+
+}
@@ -0,0 +1,107 @@
+package cloud.xcan.angus.extension.angustester.local.plugin;
+
+import cloud.xcan.angus.extension.angustester.deepseek.api.TranslationService;
+import cloud.xcan.angus.extension.angustester.deepseek.api.TranslationServiceProvider;
+import cloud.xcan.angus.plugin.api.Extension;
+import cloud.xcan.angus.spec.locale.SupportedLanguage;
+import cloud.xcan.angus.spec.setting.AppSettingHelper;
+import cloud.xcan.angus.spec.setting.AppSettingHelper.Setting;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stub translation service for testing, which does not call any remote translation API.
+ * <p>
+ * Each text is returned with a configurable prefix, where {@code {targetLanguage}} is replaced by
+ * the target language, and an optional delay simulates the latency of a remote call.
+ */
+@Extension
+public class LocalTranslationService implements TranslationService {
+
+  private static final String DEFAULT_CONFIG_FILE = "local-translation.properties";
+
+  private String prefix = "[{targetLanguage}] ";
+  private long delayMs = 0;
+  private Setting settings;
+
+  private final AtomicLong calls = new AtomicLong();
+
+  // SPI-compatible constructor (uses properties file)
+  public LocalTranslationService() {
+    loadConfig();
+  }
+
+  // Programmatic configuration constructor
+  public LocalTranslationService(String prefix, long delayMs) {
+    this.prefix = prefix;
+    this.delayMs = delayMs;
+  }
+
+  @Override
+  public String translate(String text, SupportedLanguage targetLanguage) {
+    return translate(text, DEFAULT_SOURCE_LANGUAGE, targetLanguage);
+  }
+
+  @Override
+  public String translate(String text, SupportedLanguage sourceLanguage,
+      SupportedLanguage targetLanguage) {
+    calls.incrementAndGet();
+    simulateLatency();
+    return translate0(text, targetLanguage);
+  }
+
+  @Override
+  public List<String> translate(List<String> segments, SupportedLanguage sourceLanguage,
+      SupportedLanguage targetLanguage) {
+    calls.incrementAndGet();
+    simulateLatency();
+    List<String> translations = new ArrayList<>(segments.size());
+    for (String segment : segments) {
+      translations.add(translate0(segment, targetLanguage));
+    }
+    return translations;
+  }
+
+  @Override
+  public TranslationServiceProvider getProvider() {
+    return TranslationServiceProvider.Local;
+  }
+
+  // Load configuration from properties file and envs
+  @Override
+  public void loadConfig() {
+    if (this.settings == null) {
+      this.settings = AppSettingHelper.getSetting(DEFAULT_CONFIG_FILE,
+          LocalTranslationService.class);
+    }
+    this.prefix = settings.getString("local.translation.prefix", this.prefix);
+    this.delayMs = settings.getLong("local.translation.delayMs", this.delayMs);
+  }
+
+  /**
+   * Number of translate calls, a batch call counts once.
+   */
+  public long getCalls() {
+    return calls.get();
+  }
+
+  private String translate0(String text, SupportedLanguage targetLanguage) {
+    if (text == null || text.isBlank()) {
+      return text;
+    }
+    return prefix.replace("{targetLanguage}", targetLanguage.name()) + text;
+  }
+
+  private void simulateLatency() {
+    if (delayMs <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(delayMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
@@ -0,0 +1,19 @@
+package cloud.xcan.angus.extension.angustester.local.plugin;
+
+import cloud.xcan.angus.spec.locale.SupportedLanguage;
+import java.util.List;
+
+public class LocalTranslationServiceTest {
+
+  public static void main(String[] args) {
+    LocalTranslationService translator = new LocalTranslationService("[{targetLanguage}] ", 100);
+
+    String result = translator.translate("Distributed systems design", SupportedLanguage.zh_CN);
+    System.out.println("Translation: " + result);
+
+    List<String> results = translator.translate(List.of("Create user", "Delete user"),
+        SupportedLanguage.en, SupportedLanguage.zh_CN);
+    System.out.println("Batch translation: " + results + ", calls: " + translator.getCalls());
+  }
+
+}